@@ -0,0 +1,75 @@
+package fr.ttelab.orgaservice_back.security;
+
+import fr.ttelab.orgaservice_back.config.ShardRouter;
+import fr.ttelab.orgaservice_back.entity.User;
+import fr.ttelab.orgaservice_back.entity.UserStatus;
+import fr.ttelab.orgaservice_back.repository.UserRepository;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Débit de {@link JwtRequestFilter} sur une requête authentifiée, avec et sans cache des tokens vérifiés.
+ * Le cache des principaux est actif dans les deux cas pour isoler le coût de la vérification du JWT.
+ * <p>
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=JwtRequestFilterBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtRequestFilterBenchmark {
+
+  private static final String SECRET = "c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0c2VjcmV0";
+
+  @Param({"true", "false"})
+  private boolean verifiedCache;
+
+  private JwtRequestFilter filter;
+  private String authorization;
+
+  @Setup
+  public void setUp() {
+    User user = new User();
+    user.setId(UUID.randomUUID());
+    user.setUsername("bench@orga.local");
+    user.setEmail("bench@orga.local");
+    user.setStatus(UserStatus.ACTIVE);
+    UserRepository userRepository = Mockito.mock(UserRepository.class);
+    Mockito.when(userRepository.findByUsername(user.getUsername())).thenReturn(Optional.of(user));
+
+    CustomUserDetailsService userDetailsService = new CustomUserDetailsService();
+    ReflectionTestUtils.setField(userDetailsService, "userRepository", userRepository);
+    ReflectionTestUtils.setField(userDetailsService, "shardRouter", new ShardRouter());
+    ReflectionTestUtils.setField(userDetailsService, "principalCache", new PrincipalCache(1000, 60_000));
+
+    TokenVersionRegistry tokenVersions = new TokenVersionRegistry(300_000, 1000);
+    JwtUtil jwtUtil = new JwtUtil(SECRET, verifiedCache ? 10_000 : 0, tokenVersions);
+    filter = new JwtRequestFilter(jwtUtil, userDetailsService, tokenVersions);
+    authorization = "Bearer " + jwtUtil.generateToken(user);
+  }
+
+  @Benchmark
+  public int authenticatedRequest() throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/clients");
+    request.addHeader("Authorization", authorization);
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    try {
+      filter.doFilter(request, response, new MockFilterChain());
+      return response.getStatus();
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+}
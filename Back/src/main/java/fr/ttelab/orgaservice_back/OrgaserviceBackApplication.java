@@ -2,10 +2,12 @@ package fr.ttelab.orgaservice_back;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 
 @SpringBootApplication
 @EnableMethodSecurity
+@EnableScheduling
 public class OrgaserviceBackApplication {
 
 	public static void main(String[] args) {
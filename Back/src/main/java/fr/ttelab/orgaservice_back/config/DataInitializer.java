@@ -33,6 +33,9 @@ public class DataInitializer implements CommandLineRunner {
   @Autowired
   private ProjectServcie projectServcie;
 
+  @Autowired
+  private ShardRouter shardRouter;
+
   @Override
   public void run(String... args){
     User user = new User();
@@ -46,6 +49,8 @@ public class DataInitializer implements CommandLineRunner {
     user.setStatus(status);
     user.setWorkEndTime(LocalTime.of(15,00));
     user.setEndLicenseDate(LocalDateTime.now().plusDays(-1).toLocalDate());
+    // Toutes les données de démo vont sur le shard de cet utilisateur
+    shardRouter.bindFor(user.getUsername());
     userRepository.save(user);
 
     Client client1 = new Client();
@@ -359,12 +364,7 @@ public class DataInitializer implements CommandLineRunner {
     clientRepository.save(client4);
     clientRepository.save(client5);
 
-
-
-
-
-
-
+    ShardContext.clear();
   }
 
 
@@ -0,0 +1,80 @@
+package fr.ttelab.orgaservice_back.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Active le routage lecture/écriture dès que {@code app.datasource.replica.url} est renseignée.
+ * Sans cette propriété, la DataSource auto-configurée par Spring Boot reste utilisée telle quelle.
+ * Ignoré quand le sharding est actif ({@link ShardingDataSourceConfig}).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("'${app.datasource.replica.url:}' != '' and !${app.sharding.enabled:false}")
+public class ReadReplicaDataSourceConfig {
+
+  @Value("${app.datasource.replica.url}")
+  private String replicaUrl;
+
+  @Value("${app.datasource.replica.username:${spring.datasource.username:}}")
+  private String replicaUsername;
+
+  @Value("${app.datasource.replica.password:${spring.datasource.password:}}")
+  private String replicaPassword;
+
+  @Value("${app.datasource.replica.maximum-pool-size:10}")
+  private int replicaMaximumPoolSize;
+
+  @Bean
+  @Primary
+  public DataSource dataSource(DataSourceProperties properties) {
+    HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    primary.setPoolName("primary");
+
+    HikariDataSource replica = DataSourceBuilder.create()
+        .type(HikariDataSource.class)
+        .driverClassName(properties.determineDriverClassName())
+        .url(replicaUrl)
+        .username(replicaUsername)
+        .password(replicaPassword)
+        .build();
+    replica.setPoolName("replica");
+    replica.setReadOnly(true);
+    replica.setMaximumPoolSize(replicaMaximumPoolSize);
+
+    ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+    routing.setTargetDataSources(Map.of(
+        ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+        ReadWriteRoutingDataSource.Route.REPLICA, replica));
+    routing.setDefaultTargetDataSource(primary);
+    routing.afterPropertiesSet();
+
+    log.info("Read/write routing enabled, read-only transactions go to {}", replicaUrl);
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+
+  /**
+   * Par défaut Spring garde la connexion JDBC jusqu'à la fermeture de l'EntityManager (toute la requête
+   * avec open-in-view) : une écriture suivant une lecture partirait alors sur la réplica.
+   * On libère la connexion à la fin de chaque transaction pour que chacune soit routée séparément.
+   */
+  @Bean
+  public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+    return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+        PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+  }
+}
@@ -0,0 +1,22 @@
+package fr.ttelab.orgaservice_back.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * DataSource qui envoie les transactions {@code @Transactional(readOnly = true)} vers le pool réplica
+ * et tout le reste (écritures, requêtes hors transaction) vers le primaire.
+ * Doit être enveloppée dans un LazyConnectionDataSourceProxy pour que la connexion ne soit
+ * obtenue qu'une fois le flag read-only de la transaction positionné.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+  public enum Route {
+    PRIMARY, REPLICA
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Route.REPLICA : Route.PRIMARY;
+  }
+}
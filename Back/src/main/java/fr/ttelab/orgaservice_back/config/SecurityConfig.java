@@ -1,9 +1,16 @@
 package fr.ttelab.orgaservice_back.config;
 
+import fr.ttelab.orgaservice_back.security.BoundedPasswordEncoder;
 import fr.ttelab.orgaservice_back.security.CustomOidcUserService;
 import fr.ttelab.orgaservice_back.security.CustomUserDetailsService;
 import fr.ttelab.orgaservice_back.security.JwtRequestFilter;
+import fr.ttelab.orgaservice_back.repository.UserRepository;
 import fr.ttelab.orgaservice_back.security.JwtUtil;
+import fr.ttelab.orgaservice_back.security.TenantRateLimitFilter;
+import fr.ttelab.orgaservice_back.security.TenantRateLimiter;
+import fr.ttelab.orgaservice_back.security.TokenVersionRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,7 +28,6 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.security.web.SecurityFilterChain;
@@ -52,11 +58,21 @@ public class SecurityConfig {
   @Autowired
   private JwtUtil jwtUtil;
 
+  @Autowired
+  private TokenVersionRegistry tokenVersions;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private TenantRateLimiter tenantRateLimiter;
+
   @Bean
   public AuthenticationProvider authenticationProvider(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
     DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
     provider.setUserDetailsService(userDetailsService);
     provider.setPasswordEncoder(passwordEncoder);
+    provider.setUserDetailsPasswordService(customUserDetailsService);
     return provider;
   }
 
@@ -72,11 +88,17 @@ public class SecurityConfig {
         .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
         .authorizeHttpRequests(
             auth -> auth
+                // Redispatch des réponses asynchrones (exports en flux) : déjà autorisées lors de la requête initiale
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers("/", "/login", "/h2-console/**","/login/oauth2/code/**","/api/oauth2/authorization/google").permitAll()
                 .requestMatchers("/index.html","/assets/**").permitAll()
                 .requestMatchers("/api/auth/login", "/api/auth/logout").permitAll()
-                .requestMatchers("/admin","/dashboard","/clients","/clients/*","/projects","/calendar","/profile").permitAll()
+                // Images des remarques : URL signée (balises <img> sans JWT) ou JWT, vérifiés par ImagesController
+                .requestMatchers(HttpMethod.GET, "/api/images/*").permitAll()
+                .requestMatchers("/admin","/dashboard","/clients","/clients/*","/projects","/projects/*","/calendar","/profile","/subscription").permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                // Métriques internes (appels Stripe, pools, requêtes par route) : réservées aux administrateurs
+                .requestMatchers("/actuator/metrics/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
         )
         .authenticationProvider(authenticationProvider)
@@ -85,7 +107,10 @@ public class SecurityConfig {
                 .userInfoEndpoint(userInfo -> userInfo.oidcUserService(customOidcUserService))
                 .successHandler((request, response, authentication) -> {
                   OidcUser user = (OidcUser) authentication.getPrincipal();
-                  String token = jwtUtil.generateToken(user.getEmail());
+                  // Shard déjà associé par CustomOidcUserService
+                  String token = userRepository.findByEmail(user.getEmail())
+                      .map(jwtUtil::generateToken)
+                      .orElseGet(() -> jwtUtil.generateToken(user.getEmail()));
                   String redirectUrl = (frontendUrl+ "/login?token=" + token);
                   log.info("OAuth2 {}  success redirect -> {}", user.getEmail(), redirectUrl);
                   response.sendRedirect(redirectUrl);
@@ -96,7 +121,9 @@ public class SecurityConfig {
 
     http.headers(headers -> headers.frameOptions(HeadersConfigurer.FrameOptionsConfig::sameOrigin));
 
-    http.addFilterBefore(new JwtRequestFilter(jwtUtil, customUserDetailsService), UsernamePasswordAuthenticationFilter.class);
+    http.addFilterBefore(new JwtRequestFilter(jwtUtil, customUserDetailsService, tokenVersions), UsernamePasswordAuthenticationFilter.class);
+    // Budget par tenant, une fois l'utilisateur authentifié par le JWT
+    http.addFilterAfter(new TenantRateLimitFilter(tenantRateLimiter), JwtRequestFilter.class);
 
     http.exceptionHandling(exceptions -> exceptions.authenticationEntryPoint((request, response, authException) -> {
           // Ajouter les headers CORS
@@ -122,7 +149,7 @@ public class SecurityConfig {
     configuration.setAllowedOrigins(List.of("*"));
     configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
     configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With"));
-    configuration.setExposedHeaders(List.of("Authorization"));
+    configuration.setExposedHeaders(List.of("Authorization", "X-Total-Count"));
     configuration.setMaxAge(3600L);
 
     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -130,9 +157,18 @@ public class SecurityConfig {
     return source;
   }
 
-  @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  /**
+   * BCrypt sur pool borné. Changer {@code security.bcryptStrength} réencode chaque mot de passe
+   * à la connexion suivante de son utilisateur.
+   */
+  @Bean(destroyMethod = "shutdown")
+  public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                         @Value("${security.bcryptStrength:10}") int strength,
+                                         @Value("${security.passwordThreads:0}") int threads,
+                                         @Value("${security.passwordMaxQueued:64}") int maxQueued,
+                                         @Value("${security.passwordTimeoutMs:5000}") long timeoutMs) {
+    int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    return new BoundedPasswordEncoder(strength, poolSize, maxQueued, timeoutMs, meterRegistry);
   }
 
 }
@@ -0,0 +1,29 @@
+package fr.ttelab.orgaservice_back.config;
+
+/**
+ * Shard courant du thread, lu par {@link ShardRoutingDataSource} à chaque obtention de connexion.
+ * Positionné dès que le tenant de la requête est connu, nettoyé par {@link ShardContextFilter}.
+ */
+public final class ShardContext {
+
+  private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+  private ShardContext() {
+  }
+
+  public static Integer current() {
+    return CURRENT.get();
+  }
+
+  public static void bind(Integer shard) {
+    if (shard == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(shard);
+    }
+  }
+
+  public static void clear() {
+    CURRENT.remove();
+  }
+}
@@ -0,0 +1,31 @@
+package fr.ttelab.orgaservice_back.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Nettoie le shard associé au thread en fin de requête, y compris quand la chaîne de sécurité
+ * interrompt la requête après l'avoir positionné.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ShardContextFilter extends OncePerRequestFilter {
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ShardContext.clear();
+    }
+  }
+}
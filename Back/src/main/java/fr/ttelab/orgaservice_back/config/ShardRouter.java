@@ -0,0 +1,45 @@
+package fr.ttelab.orgaservice_back.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Calcule le shard d'un tenant à partir de son username.
+ * Le username est la clé immuable portée par le JWT : le shard est connu avant même de charger l'utilisateur.
+ * Le nombre de shards ne doit pas changer sans migration des données.
+ */
+@Component
+public class ShardRouter {
+
+  @Value("${app.sharding.enabled:false}")
+  private boolean enabled;
+
+  @Value("${app.sharding.urls:}")
+  private List<String> urls;
+
+  public boolean isEnabled() {
+    return enabled && urls.size() > 1;
+  }
+
+  public int getShardCount() {
+    return isEnabled() ? urls.size() : 1;
+  }
+
+  public int shardFor(String ownerKey) {
+    if (!isEnabled() || ownerKey == null) {
+      return 0;
+    }
+    return Math.floorMod(ownerKey.toLowerCase().hashCode(), urls.size());
+  }
+
+  /**
+   * Associe le thread courant au shard du tenant pour le reste de la requête.
+   */
+  public void bindFor(String ownerKey) {
+    if (isEnabled()) {
+      ShardContext.bind(shardFor(ownerKey));
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package fr.ttelab.orgaservice_back.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * DataSource qui choisit le shard d'après {@link ShardContext}.
+ * Sans shard positionné (démarrage, webhooks avant identification du tenant), le shard 0 est utilisé.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    return ShardContext.current();
+  }
+}
@@ -0,0 +1,124 @@
+package fr.ttelab.orgaservice_back.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Répartit les données des tenants sur plusieurs bases ({@code app.sharding.urls}).
+ * Chaque tenant (utilisateur et toutes ses données) vit entièrement sur un shard, choisi par {@link ShardRouter}.
+ * Les requêtes transverses (admin, webhooks) passent par ShardedQueryService.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.sharding.enabled", havingValue = "true")
+public class ShardingDataSourceConfig {
+
+  @Value("${app.sharding.urls}")
+  private List<String> urls;
+
+  @Value("${app.sharding.maximum-pool-size:10}")
+  private int maximumPoolSize;
+
+  private final MetadataCapture metadataCapture = new MetadataCapture();
+
+  @Bean
+  @Primary
+  public DataSource dataSource(DataSourceProperties properties) {
+    Map<Object, Object> shards = new HashMap<>();
+    for (int i = 0; i < urls.size(); i++) {
+      HikariDataSource shard = DataSourceBuilder.create()
+          .type(HikariDataSource.class)
+          .driverClassName(properties.determineDriverClassName())
+          .url(urls.get(i))
+          .username(properties.determineUsername())
+          .password(properties.determinePassword())
+          .build();
+      shard.setPoolName("shard-" + i);
+      shard.setMaximumPoolSize(maximumPoolSize);
+      shards.put(i, shard);
+    }
+
+    ShardRoutingDataSource routing = new ShardRoutingDataSource();
+    routing.setTargetDataSources(shards);
+    routing.setDefaultTargetDataSource(shards.get(0));
+    routing.afterPropertiesSet();
+
+    log.info("Sharding enabled over {} databases", urls.size());
+    return new LazyConnectionDataSourceProxy(routing);
+  }
+
+  /**
+   * Libère la connexion à la fin de chaque transaction (voir ReadReplicaDataSourceConfig) et
+   * capture le modèle Hibernate pour pouvoir créer le schéma sur chaque shard.
+   */
+  @Bean
+  public HibernatePropertiesCustomizer shardingHibernateProperties() {
+    return properties -> {
+      properties.put(AvailableSettings.CONNECTION_HANDLING,
+          PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+      properties.put("hibernate.integrator_provider", (IntegratorProvider) () -> List.of(metadataCapture));
+    };
+  }
+
+  /**
+   * Hibernate n'applique {@code ddl-auto} que sur le shard par défaut : on rejoue la même action sur les autres.
+   */
+  @Bean
+  public InitializingBean shardSchemaInitializer(EntityManagerFactory entityManagerFactory) {
+    return () -> {
+      if (metadataCapture.metadata == null) {
+        return;
+      }
+      Map<String, Object> settings = new HashMap<>(metadataCapture.sessionFactory.getProperties());
+      for (int i = 1; i < urls.size(); i++) {
+        ShardContext.bind(i);
+        try {
+          SchemaManagementToolCoordinator.process(metadataCapture.metadata,
+              metadataCapture.sessionFactory.getServiceRegistry(), settings, action -> { });
+        } finally {
+          ShardContext.clear();
+        }
+      }
+    };
+  }
+
+  private static class MetadataCapture implements Integrator {
+    private Metadata metadata;
+    private SessionFactoryImplementor sessionFactory;
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+      this.metadata = metadata;
+      this.sessionFactory = sessionFactory;
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package fr.ttelab.orgaservice_back.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.PathResourceResolver;
+
+import java.time.Duration;
+
+/**
+ * Fichiers du bundle du front ({@code /assets}, copiés depuis {@code Front/build} au packaging).
+ * <p>
+ * Vite met l'empreinte du contenu dans leur nom : un fichier modifié change d'URL, ils sont donc cachés un an
+ * ({@code immutable}) et le navigateur ne les redemande plus. L'ETag est le nom du fichier (et l'encodage).
+ * Les variantes {@code .br} et {@code .gz} produites au build sont servies selon {@code Accept-Encoding}, sans
+ * compression à la volée. index.html, qui référence ces noms, est revalidé à chaque visite (voir ForwardController).
+ */
+@Configuration
+public class StaticResourcesConfig implements WebMvcConfigurer {
+
+  @Override
+  public void addResourceHandlers(ResourceHandlerRegistry registry) {
+    registry.addResourceHandler("/assets/**")
+        .addResourceLocations("classpath:/static/assets/")
+        .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+        .setEtagGenerator(StaticResourcesConfig::etag)
+        .resourceChain(true)
+        .addResolver(new EncodedResourceResolver())
+        .addResolver(new PathResourceResolver());
+  }
+
+  // Une variante compressée est une autre représentation : son ETag doit différer de celui du fichier brut
+  private static String etag(Resource resource) {
+    String encoding = resource instanceof HttpResource http
+        ? http.getResponseHeaders().getFirst(HttpHeaders.CONTENT_ENCODING) : null;
+    return "\"" + resource.getFilename() + (encoding != null ? "-" + encoding : "") + "\"";
+  }
+}
@@ -1,5 +1,6 @@
 package fr.ttelab.orgaservice_back.config;
 
+import com.stripe.Stripe;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
@@ -11,8 +12,24 @@ public class StripeConfig {
 @Value("${stripe.secretKey}")
 private String stripeSecretKey;
 
+// Timeouts HTTP du client Stripe (les valeurs par défaut du SDK sont de 30s / 80s)
+@Value("${stripe.connectTimeoutMs:2000}")
+private int connectTimeoutMs;
+
+@Value("${stripe.readTimeoutMs:5000}")
+private int readTimeoutMs;
+
+// Permet de pointer vers stripe-mock en local (ex: http://localhost:12111)
+@Value("${stripe.apiBase:}")
+private String apiBase;
+
 @PostConstruct
 public void init() {
-  com.stripe.Stripe.apiKey = stripeSecretKey;
+  Stripe.apiKey = stripeSecretKey;
+  Stripe.setConnectTimeout(connectTimeoutMs);
+  Stripe.setReadTimeout(readTimeoutMs);
+  if (!apiBase.isBlank()) {
+    Stripe.overrideApiBase(apiBase);
+  }
 }
 }
@@ -0,0 +1,277 @@
+package fr.ttelab.orgaservice_back.config;
+
+import fr.ttelab.orgaservice_back.entity.*;
+import fr.ttelab.orgaservice_back.util.SearchText;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Jeu de données volumineux pour les benchmarks et les tirs de charge :
+ * N utilisateurs × M clients × K projets × E interventions réparties sur une période.
+ * <p>
+ * Les lignes sont insérées directement en JDBC par lots (pas d'entités ni de contexte de persistance),
+ * un utilisateur et toutes ses données par transaction, sur le shard de l'utilisateur si le sharding est actif.
+ * Activé par {@code app.seed.enabled=true} ; les comptes créés suivent {@code app.seed.userPattern}
+ * et partagent le mot de passe {@code app.seed.password}, comme attendu par le module LoadTest.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.seed.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SyntheticDataSeeder implements CommandLineRunner {
+
+  private static final String[] FIRST_NAMES = {
+      "Jean", "Marie", "Pierre", "Sophie", "Luc", "Camille", "Hélène", "Nicolas", "Julie", "Antoine",
+      "Émilie", "Thomas", "Chloé", "François", "Léa", "Mathieu", "Céline", "Olivier", "Inès", "Rémi"};
+  private static final String[] LAST_NAMES = {
+      "Martin", "Bernard", "Dubois", "Thomas", "Robert", "Richard", "Petit", "Durand", "Leroy", "Moreau",
+      "Simon", "Laurent", "Lefèvre", "Michel", "Garcia", "David", "Bertrand", "Roux", "Vincent", "Fournier"};
+  private static final String[] STREETS = {
+      "rue de la République", "avenue des Champs", "chemin des Vignes", "boulevard Victor Hugo",
+      "place du Marché", "rue du Faubourg", "allée des Tilleuls", "route de Bayonne"};
+  private static final String[][] CITIES = {
+      {"Pau", "64000"}, {"Paris", "75011"}, {"Lyon", "69003"}, {"Marseille", "13008"}, {"Bordeaux", "33000"},
+      {"Toulouse", "31000"}, {"Nantes", "44000"}, {"Lille", "59000"}, {"Bayonne", "64100"}, {"Tarbes", "65000"}};
+  private static final String[] PROJECT_TITLES = {
+      "Entretien jardin", "Nettoyage bureaux", "Rénovation salon", "Taille des haies", "Maintenance chaudière",
+      "Ménage hebdomadaire", "Peinture façade", "Dépannage plomberie", "Tonte pelouse", "Vitrerie"};
+  private static final int[] DURATIONS = {60, 90, 120, 180, 240};
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+  private final PasswordEncoder passwordEncoder;
+  private final ShardRouter shardRouter;
+
+  @Value("${app.seed.users:10}")
+  private int users;
+
+  @Value("${app.seed.clientsPerUser:50}")
+  private int clientsPerUser;
+
+  @Value("${app.seed.projectsPerClient:3}")
+  private int projectsPerClient;
+
+  @Value("${app.seed.eventsPerProject:10}")
+  private int eventsPerProject;
+
+  @Value("${app.seed.from:}")
+  private String from;
+
+  @Value("${app.seed.to:}")
+  private String to;
+
+  @Value("${app.seed.userPattern:loadtest%d@orga.local}")
+  private String userPattern;
+
+  @Value("${app.seed.password:loadtest}")
+  private String password;
+
+  @Value("${app.seed.batchSize:1000}")
+  private int batchSize;
+
+  @Value("${app.seed.randomSeed:42}")
+  private long randomSeed;
+
+  private final List<TableBatch> tables = new ArrayList<>();
+  private TableBatch userRows;
+  private TableBatch workDayRows;
+  private TableBatch clientRows;
+  private TableBatch adressRows;
+  private TableBatch projectRows;
+  private TableBatch planRows;
+  private TableBatch chantierRows;
+  private TableBatch eventRows;
+
+  @Override
+  public void run(String... args) {
+    // Ordre de déclaration = ordre d'insertion, compatible avec les clés étrangères
+    userRows = table("insert into app_user (id, username, email, password, first_name, last_name, company, status, "
+        + "end_license_date, work_start_time, work_end_time, created_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+    workDayRows = table("insert into user_work_days (user_id, work_day) values (?, ?)");
+    clientRows = table("insert into client (id, name, sort_name, email, phone, type, status, owner_id, created_at) "
+        + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+    adressRows = table("insert into adress (id, client_id, \"order\", street, city, postal_code, acces, has_key) "
+        + "values (?, ?, ?, ?, ?, ?, ?, ?)");
+    projectRows = table("insert into project (id, client_id, owner_id, title, description, type, duree_mois, "
+        + "premier_mois, duree_en_minutes, status, created_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+    planRows = table("insert into plan_travaux (project_id, mois, occurence) values (?, ?, ?)");
+    chantierRows = table("insert into chantier (id, project_id, client_id, owner_id, month_target, duree_en_minutes, "
+        + "created_at) values (?, ?, ?, ?, ?, ?, ?)");
+    eventRows = table("insert into calendar_event (id, event_type, client_id, chantier_id, project_id, owner_id, "
+        + "day_index, date_time, duration, title, description, status, is_recurring, created_at) "
+        + "values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+    LocalDate start = from.isBlank() ? LocalDate.now().minusMonths(6) : LocalDate.parse(from);
+    LocalDate end = to.isBlank() ? LocalDate.now().plusMonths(6) : LocalDate.parse(to);
+    if (end.isBefore(start)) {
+      throw new IllegalArgumentException("app.seed.to doit être postérieur à app.seed.from");
+    }
+
+    log.info("Seed : {} utilisateurs × {} clients × {} projets × {} interventions du {} au {}",
+        users, clientsPerUser, projectsPerClient, eventsPerProject, start, end);
+    long begin = System.nanoTime();
+    // Un seul hash BCrypt partagé : le coût d'encodage ne doit pas dominer le seed
+    String encodedPassword = passwordEncoder.encode(password);
+    Random random = new Random(randomSeed);
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+    try {
+      for (int u = 0; u < users; u++) {
+        String username = String.format(userPattern, u);
+        shardRouter.bindFor(username);
+        transaction.executeWithoutResult(status -> {
+          seedUser(username, encodedPassword, start, end, random);
+          flushAll();
+        });
+        ShardContext.clear();
+      }
+    } finally {
+      ShardContext.clear();
+    }
+
+    long total = tables.stream().mapToLong(t -> t.inserted).sum();
+    log.info("Seed terminé en {} ms : {} utilisateurs, {} clients, {} projets, {} interventions ({} lignes)",
+        (System.nanoTime() - begin) / 1_000_000, userRows.inserted, clientRows.inserted, projectRows.inserted,
+        eventRows.inserted, total);
+  }
+
+  private void seedUser(String username, String encodedPassword, LocalDate start, LocalDate end, Random random) {
+    LocalDateTime now = LocalDateTime.now();
+    UUID userId = UUID.randomUUID();
+    add(userRows, userId, username, username, encodedPassword, pick(FIRST_NAMES, random), pick(LAST_NAMES, random),
+        "Société " + pick(LAST_NAMES, random), UserStatus.ACTIVE.name(), LocalDate.now().plusYears(1),
+        LocalTime.of(7, 0), LocalTime.of(20, 0), now);
+    for (DayOfWeek day : List.of(DayOfWeek.MONDAY, DayOfWeek.TUESDAY, DayOfWeek.WEDNESDAY, DayOfWeek.THURSDAY,
+        DayOfWeek.FRIDAY)) {
+      add(workDayRows, userId, day.name());
+    }
+
+    for (int c = 0; c < clientsPerUser; c++) {
+      UUID clientId = UUID.randomUUID();
+      ClientType type = random.nextInt(4) == 0 ? ClientType.professionnel : ClientType.particulier;
+      String name = pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random);
+      add(clientRows, clientId, name, SearchText.normalize(name), "client" + c + "." + userId.toString().substring(0, 8) + "@example.com",
+          String.format("06%08d", random.nextInt(100_000_000)), type.name(), ClientStatus.actif.name(), userId, now);
+      int addresses = random.nextInt(5) == 0 ? 2 : 1;
+      for (int a = 0; a < addresses; a++) {
+        String[] city = pick(CITIES, random);
+        add(adressRows, UUID.randomUUID(), clientId, a, (1 + random.nextInt(120)) + " " + pick(STREETS, random),
+            city[0], city[1], random.nextBoolean() ? "Code " + random.nextInt(10_000) : null, random.nextBoolean());
+      }
+
+      for (int p = 0; p < projectsPerClient; p++) {
+        seedProject(userId, clientId, start, end, random, now);
+      }
+    }
+  }
+
+  private void seedProject(UUID userId, UUID clientId, LocalDate start, LocalDate end, Random random,
+                           LocalDateTime now) {
+    UUID projectId = UUID.randomUUID();
+    String title = pick(PROJECT_TITLES, random);
+    int duration = DURATIONS[random.nextInt(DURATIONS.length)];
+    boolean recurrent = eventsPerProject > 1;
+
+    // Interventions tirées sur des jours ouvrés de la période, regroupées par mois pour le plan de travaux
+    long days = ChronoUnit.DAYS.between(start, end) + 1;
+    TreeMap<YearMonth, List<LocalDateTime>> byMonth = new TreeMap<>();
+    for (int e = 0; e < eventsPerProject; e++) {
+      LocalDate date = start.plusDays(random.nextInt((int) Math.min(days, Integer.MAX_VALUE)));
+      if (date.getDayOfWeek() == DayOfWeek.SATURDAY) {
+        date = date.minusDays(1);
+      } else if (date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+        date = date.plusDays(1);
+      }
+      LocalDateTime dateTime = date.atTime(7 + random.nextInt(10), random.nextBoolean() ? 0 : 30);
+      byMonth.computeIfAbsent(YearMonth.from(dateTime), m -> new ArrayList<>()).add(dateTime);
+    }
+
+    String premierMois = byMonth.isEmpty() ? null : byMonth.firstKey().toString();
+    Integer dureeMois = recurrent && !byMonth.isEmpty()
+        ? (int) ChronoUnit.MONTHS.between(byMonth.firstKey(), byMonth.lastKey()) + 1 : null;
+    ProjectStatus projectStatus = byMonth.isEmpty() || byMonth.lastKey().isBefore(YearMonth.now())
+        ? ProjectStatus.termine : ProjectStatus.en_cours;
+    add(projectRows, projectId, clientId, userId, title, title + " (données de test)",
+        (recurrent ? ProjectType.recurrent : ProjectType.ponctuel).name(), dureeMois, premierMois, duration,
+        projectStatus.name(), now);
+
+    for (Map.Entry<YearMonth, List<LocalDateTime>> month : byMonth.entrySet()) {
+      String mois = month.getKey().toString();
+      if (recurrent) {
+        add(planRows, projectId, mois, month.getValue().size());
+      }
+      for (LocalDateTime dateTime : month.getValue()) {
+        UUID chantierId = UUID.randomUUID();
+        add(chantierRows, chantierId, projectId, clientId, userId, mois, duration, now);
+        EventStatus status = dateTime.isBefore(now) ? EventStatus.completed
+            : random.nextBoolean() ? EventStatus.confirmed : EventStatus.proposed;
+        add(eventRows, UUID.randomUUID(), EventType.chantier.name(), clientId, chantierId, projectId, userId,
+            dateTime.getDayOfWeek().getValue() - 1, dateTime, duration, title, null, status.name(), recurrent, now);
+      }
+    }
+  }
+
+  private TableBatch table(String sql) {
+    TableBatch table = new TableBatch(sql);
+    tables.add(table);
+    return table;
+  }
+
+  private void add(TableBatch table, Object... row) {
+    table.rows.add(row);
+    if (table.rows.size() >= batchSize) {
+      // Les tables parentes sont vidées d'abord pour respecter les clés étrangères
+      flushAll();
+    }
+  }
+
+  private void flushAll() {
+    for (TableBatch table : tables) {
+      if (!table.rows.isEmpty()) {
+        // setObject direct : évite la résolution du type SQL des valeurs nulles à chaque ligne
+        jdbcTemplate.batchUpdate(table.sql, table.rows, table.rows.size(), (ps, row) -> {
+          for (int i = 0; i < row.length; i++) {
+            ps.setObject(i + 1, row[i]);
+          }
+        });
+        table.inserted += table.rows.size();
+        table.rows.clear();
+      }
+    }
+  }
+
+  private static <T> T pick(T[] values, Random random) {
+    return values[random.nextInt(values.length)];
+  }
+
+  private static class TableBatch {
+    private final String sql;
+    private final List<Object[]> rows = new ArrayList<>();
+    private long inserted;
+
+    TableBatch(String sql) {
+      this.sql = sql;
+    }
+  }
+}
@@ -4,14 +4,19 @@ import fr.ttelab.orgaservice_back.dto.AdminUserDTO;
 import fr.ttelab.orgaservice_back.entity.User;
 import fr.ttelab.orgaservice_back.entity.UserStatus;
 import fr.ttelab.orgaservice_back.repository.UserRepository;
+import fr.ttelab.orgaservice_back.security.PrincipalCache;
+import fr.ttelab.orgaservice_back.security.TokenVersionRegistry;
+import fr.ttelab.orgaservice_back.service.ShardedQueryService;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -26,13 +31,17 @@ import java.util.stream.Collectors;
 public class AdminController {
 
   private final UserRepository userRepository;
+  private final ShardedQueryService shardedQueryService;
+  private final PrincipalCache principalCache;
+  private final TokenVersionRegistry tokenVersions;
 
   /**
    * Liste tous les utilisateurs avec leurs informations de licence
    */
   @GetMapping("/users")
+  @Transactional(readOnly = true)
   public List<AdminUserDTO> listUsers() {
-    return userRepository.findAll().stream()
+    return shardedQueryService.scatter(userRepository::findAll).stream()
         .map(this::toAdminUserDTO)
         .collect(Collectors.toList());
   }
@@ -41,8 +50,9 @@ public class AdminController {
    * Récupère un utilisateur par son ID
    */
   @GetMapping("/users/{id}")
+  @Transactional(readOnly = true)
   public ResponseEntity<?> getUser(@PathVariable UUID id) {
-    return userRepository.findById(id)
+    return shardedQueryService.locate(() -> userRepository.findById(id))
         .map(user -> ResponseEntity.ok(toAdminUserDTO(user)))
         .orElse(ResponseEntity.notFound().build());
   }
@@ -61,7 +71,7 @@ public class AdminController {
    */
   @PutMapping("/users/{id}")
   public ResponseEntity<?> updateUser(@PathVariable UUID id, @RequestBody UpdateUserRequest request) {
-    return userRepository.findById(id)
+    return shardedQueryService.locate(() -> userRepository.findById(id))
         .map(user -> {
           if (request.getStatus() != null) {
             user.setStatus(request.getStatus());
@@ -79,6 +89,8 @@ public class AdminController {
             user.setCompany(request.getCompany());
           }
           userRepository.save(user);
+          principalCache.invalidate(user.getUsername());
+          tokenVersions.revoke(user.getUsername());
           log.info("Admin updated user {}: status={}, endLicenseDate={}", id, user.getStatus(), user.getEndLicenseDate());
           return ResponseEntity.ok(toAdminUserDTO(user));
         })
@@ -90,7 +102,7 @@ public class AdminController {
    */
   @PostMapping("/users/{id}/activate")
   public ResponseEntity<?> activateUser(@PathVariable UUID id, @RequestBody(required = false) ActivateRequest request) {
-    return userRepository.findById(id)
+    return shardedQueryService.locate(() -> userRepository.findById(id))
         .map(user -> {
           user.setStatus(UserStatus.ACTIVE);
           // Par défaut, licence d'un an si non spécifié
@@ -100,6 +112,8 @@ public class AdminController {
             user.setEndLicenseDate(LocalDate.now().plusYears(1));
           }
           userRepository.save(user);
+          principalCache.invalidate(user.getUsername());
+          tokenVersions.revoke(user.getUsername());
           log.info("Admin activated user {} until {}", id, user.getEndLicenseDate());
           return ResponseEntity.ok(toAdminUserDTO(user));
         })
@@ -116,10 +130,12 @@ public class AdminController {
    */
   @PostMapping("/users/{id}/deactivate")
   public ResponseEntity<?> deactivateUser(@PathVariable UUID id) {
-    return userRepository.findById(id)
+    return shardedQueryService.locate(() -> userRepository.findById(id))
         .map(user -> {
           user.setStatus(UserStatus.INACTIVE);
           userRepository.save(user);
+          principalCache.invalidate(user.getUsername());
+          tokenVersions.revoke(user.getUsername());
           log.info("Admin deactivated user {}", id);
           return ResponseEntity.ok(toAdminUserDTO(user));
         })
@@ -131,13 +147,15 @@ public class AdminController {
    */
   @DeleteMapping("/users/{id}")
   public ResponseEntity<?> deleteUser(@PathVariable UUID id) {
-    return userRepository.findById(id)
+    return shardedQueryService.locate(() -> userRepository.findById(id))
         .map(user -> {
           // Ne pas permettre la suppression d'un admin
           if (user.getStatus() == UserStatus.ADMIN) {
             return ResponseEntity.badRequest().body(Map.of("error", "Cannot delete an admin user"));
           }
           userRepository.delete(user);
+          principalCache.invalidate(user.getUsername());
+          tokenVersions.revoke(user.getUsername());
           log.info("Admin deleted user {}", id);
           return ResponseEntity.ok(Map.of("message", "User deleted successfully"));
         })
@@ -148,34 +166,28 @@ public class AdminController {
    * Statistiques globales pour le dashboard admin
    */
   @GetMapping("/stats")
+  @Transactional(readOnly = true)
   public Map<String, Object> getStats() {
-    List<User> allUsers = userRepository.findAll();
-
-    long totalUsers = allUsers.size();
-    long activeUsers = allUsers.stream().filter(u -> u.getStatus() == UserStatus.ACTIVE).count();
-    long pendingUsers = allUsers.stream().filter(u -> u.getStatus() == UserStatus.PENDING).count();
-    long inactiveUsers = allUsers.stream().filter(u -> u.getStatus() == UserStatus.INACTIVE).count();
-    long suspendedUsers = allUsers.stream().filter(u -> u.getStatus() == UserStatus.SUSPENDED).count();
-    long adminUsers = allUsers.stream().filter(u -> u.getStatus() == UserStatus.ADMIN).count();
-    long usersWithSubscription = allUsers.stream()
-        .filter(u -> u.getStripeSubscriptionId() != null && !u.getStripeSubscriptionId().isEmpty())
-        .count();
-    long expiringThisMonth = allUsers.stream()
-        .filter(u -> u.getEndLicenseDate() != null &&
-            u.getEndLicenseDate().isAfter(LocalDate.now()) &&
-            u.getEndLicenseDate().isBefore(LocalDate.now().plusMonths(1)))
-        .count();
-
-    return Map.of(
-        "totalUsers", totalUsers,
-        "activeUsers", activeUsers,
-        "pendingUsers", pendingUsers,
-        "inactiveUsers", inactiveUsers,
-        "suspendedUsers", suspendedUsers,
-        "adminUsers", adminUsers,
-        "usersWithSubscription", usersWithSubscription,
-        "expiringThisMonth", expiringThisMonth
-    );
+    // Comptage sur chaque shard puis somme
+    Map<String, Object> stats = new LinkedHashMap<>();
+    for (Map<String, Long> shardStats : shardedQueryService.gather(this::countUsers)) {
+      shardStats.forEach((key, count) -> stats.merge(key, count, (a, b) -> (Long) a + (Long) b));
+    }
+    return stats;
+  }
+
+  private Map<String, Long> countUsers() {
+    LocalDate today = LocalDate.now();
+    Map<String, Long> counts = new LinkedHashMap<>();
+    counts.put("totalUsers", userRepository.count());
+    counts.put("activeUsers", userRepository.countByStatus(UserStatus.ACTIVE));
+    counts.put("pendingUsers", userRepository.countByStatus(UserStatus.PENDING));
+    counts.put("inactiveUsers", userRepository.countByStatus(UserStatus.INACTIVE));
+    counts.put("suspendedUsers", userRepository.countByStatus(UserStatus.SUSPENDED));
+    counts.put("adminUsers", userRepository.countByStatus(UserStatus.ADMIN));
+    counts.put("usersWithSubscription", userRepository.countWithSubscription());
+    counts.put("expiringThisMonth", userRepository.countLicensesEndingBetween(today, today.plusMonths(1)));
+    return counts;
   }
 
   // ==================== Mapping ====================
@@ -2,10 +2,15 @@ package fr.ttelab.orgaservice_back.controller;
 
 import fr.ttelab.orgaservice_back.dto.UserDTO;
 import fr.ttelab.orgaservice_back.entity.User;
-import fr.ttelab.orgaservice_back.entity.UserStatus;
 import fr.ttelab.orgaservice_back.repository.UserRepository;
+import fr.ttelab.orgaservice_back.security.BoundedPasswordEncoder;
+import fr.ttelab.orgaservice_back.security.CustomUserDetails;
 import fr.ttelab.orgaservice_back.security.JwtUtil;
+import fr.ttelab.orgaservice_back.security.LoginRateLimiter;
+import fr.ttelab.orgaservice_back.security.PrincipalCache;
 import fr.ttelab.orgaservice_back.util.MappingUtil;
+import fr.ttelab.orgaservice_back.util.SecurityUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -34,9 +39,20 @@ public class AuthController {
   private final UserRepository userRepository;
   private final JwtUtil jwtUtil;
   private final PasswordEncoder passwordEncoder;
+  private final PrincipalCache principalCache;
+  private final SecurityUtil securityUtil;
+  private final LoginRateLimiter loginRateLimiter;
 
   @PostMapping("/login")
-  public ResponseEntity<?> login(@RequestBody LoginRequest request) {
+  public ResponseEntity<?> login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+    // Limité par IP et par compte avant tout calcul BCrypt (IP du client derrière un proxy de confiance,
+    // voir server.forward-headers-strategy)
+    long retryAfter = loginRateLimiter.tryAcquire(httpRequest.getRemoteAddr(), request.email);
+    if (retryAfter > 0) {
+      return ResponseEntity.status(429)
+          .header("Retry-After", String.valueOf(retryAfter))
+          .body(Map.of("error", "Trop de tentatives de connexion, veuillez réessayer plus tard"));
+    }
 
     Authentication authentication = authenticationManager.authenticate(
         new UsernamePasswordAuthenticationToken(request.email, request.password)
@@ -44,15 +60,12 @@ public class AuthController {
     User user= null;
     if (authentication.isAuthenticated()) {
 
-        user = userRepository.findByUsername(request.email).orElse(null);
+        // Utilisateur déjà chargé par l'authentification ; l'expiration des licences est faite par LicenseExpiryJob
+        user = ((CustomUserDetails) authentication.getPrincipal()).getUser();
 
 
       if (user != null ) {
-        String token = jwtUtil.generateToken(user.getEmail());
-        if (user.getStatus().equals(UserStatus.ACTIVE) && user.getEndLicenseDate().isBefore(java.time.LocalDate.now())) {
-          user.setStatus(UserStatus.INACTIVE);
-          userRepository.save(user);
-        }
+        String token = jwtUtil.generateToken(user);
 
 
         UserDTO userDTO = new UserDTO();
@@ -85,13 +98,9 @@ public class AuthController {
       Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
       if (authentication != null && authentication.isAuthenticated()
           && !"anonymousUser".equals(authentication.getPrincipal())){
-        String name = authentication.getName();
-        User user = userRepository.findByEmail(name).orElse(null);
+        // Lecture seule : utilisateur du principal, sans requête tant qu'il est en cache
+        User user = securityUtil.getCurrentUser();
         if (user != null) {
-          if (user.getStatus().equals(UserStatus.ACTIVE) && user.getEndLicenseDate().isBefore(java.time.LocalDate.now())) {
-            user.setStatus(UserStatus.INACTIVE);
-            userRepository.save(user);
-          }
           return ResponseEntity.ok(MappingUtil.toUserDTO(user));
         }
       }
@@ -109,6 +118,7 @@ public class AuthController {
         if (user != null) {
           user.setPassword(passwordEncoder.encode(newPassword));
           userRepository.save(user);
+          principalCache.invalidate(user.getUsername());
           return ResponseEntity.ok(Map.of("message", "Mot de passe mis à jour avec succès"));
         }
       }
@@ -135,9 +145,17 @@ public class AuthController {
           if (workStartTime != null) user.setWorkStartTime(java.time.LocalTime.parse(workStartTime));
           if (workEndTime != null) user.setWorkEndTime(java.time.LocalTime.parse(workEndTime));
           userRepository.save(user);
+          principalCache.invalidate(user.getUsername());
           return ResponseEntity.ok(MappingUtil.toUserDTO(user));
         }
       }
         return ResponseEntity.status(401).body("Unauthorized");
     }
+
+    @ExceptionHandler(BoundedPasswordEncoder.PasswordVerificationUnavailableException.class)
+    public ResponseEntity<?> handlePasswordVerificationUnavailable(BoundedPasswordEncoder.PasswordVerificationUnavailableException e) {
+      return ResponseEntity.status(503)
+          .header("Retry-After", "5")
+          .body(Map.of("error", "Service de connexion saturé, veuillez réessayer"));
+    }
   }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.stripe.model.checkout.Session;
 import com.stripe.param.checkout.SessionCreateParams;
 import fr.ttelab.orgaservice_back.entity.User;
 import fr.ttelab.orgaservice_back.repository.UserRepository;
+import fr.ttelab.orgaservice_back.service.StripeGateway;
 import lombok.Data;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
@@ -23,9 +24,11 @@ public class BillingController {
   private static final String PRICE_YEARLY_ONE_TIME = "price_1SziNpAh24kSM5FuJ1ok6nrt"; // 100€ one-shot
 
   private UserRepository userRepository;
+  private StripeGateway stripeGateway;
 
-  BillingController(UserRepository userRepository) {
+  BillingController(UserRepository userRepository, StripeGateway stripeGateway) {
     this.userRepository = userRepository;
+    this.stripeGateway = stripeGateway;
   }
 
   @Value("${app.frontendUrl}")
@@ -86,7 +89,8 @@ public class BillingController {
       paramsBuilder.setCustomerEmail(user.getEmail());
     }
 
-    Session session = Session.create(paramsBuilder.build());
+    SessionCreateParams params = paramsBuilder.build();
+    Session session = stripeGateway.execute("checkout.session.create", () -> Session.create(params));
     return ResponseEntity.ok(new BillingResponse(session.getUrl()));
   }
 
@@ -125,12 +129,19 @@ public class BillingController {
             .setReturnUrl(frontendUrl + "/profile")
             .build();
 
-    com.stripe.model.billingportal.Session portalSession =
-        com.stripe.model.billingportal.Session.create(params);
+    com.stripe.model.billingportal.Session portalSession = stripeGateway.execute("billing_portal.session.create",
+        () -> com.stripe.model.billingportal.Session.create(params));
 
     return ResponseEntity.ok(new BillingResponse(portalSession.getUrl()));
   }
 
+  @ExceptionHandler(StripeGateway.StripeUnavailableException.class)
+  public ResponseEntity<?> handleStripeUnavailable(StripeGateway.StripeUnavailableException e) {
+    return ResponseEntity.status(503)
+        .header("Retry-After", "30")
+        .body(Map.of("error", "Le service de paiement est momentanément indisponible, veuillez réessayer"));
+  }
+
   public record BillingResponse(String url) {}
 }
 
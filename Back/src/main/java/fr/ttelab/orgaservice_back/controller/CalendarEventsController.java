@@ -6,12 +6,12 @@ import fr.ttelab.orgaservice_back.repository.CalendarEventRepository;
 import fr.ttelab.orgaservice_back.repository.ClientRepository;
 import fr.ttelab.orgaservice_back.util.MappingUtil;
 import fr.ttelab.orgaservice_back.util.SecurityUtil;
-import jakarta.transaction.Transactional;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -30,6 +30,7 @@ public class CalendarEventsController {
   private final SecurityUtil securityUtil;
 
   @GetMapping
+  @Transactional(readOnly = true)
   public List<CalendarEventDTO> list(@RequestParam(required = false) Integer weekOffset,
                                      @RequestParam(required = false) LocalDate startDate,
                                      @RequestParam(required = false) LocalDate endDate,
@@ -51,6 +52,7 @@ public class CalendarEventsController {
   }
 
   @GetMapping("listUnscheduledEvents")
+  @Transactional(readOnly = true)
   public List<CalendarEventDTO> listUnscheduledEvents(){
     var owner = securityUtil.getCurrentUser();
     return eventRepository.findByOwnerUnscheduled(owner).stream()
@@ -8,6 +8,7 @@ import fr.ttelab.orgaservice_back.util.SecurityUtil;
 import lombok.AllArgsConstructor;
 
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -25,6 +26,7 @@ public class ChantiersController {
     private ChantierRepository chantierRepository;
 
     @GetMapping
+    @Transactional(readOnly = true)
     public List<ChantierDTO> list(@RequestParam(required = false) String clientId,@RequestParam(required = false) String projectId) {
         var owaner = securityUtil.getCurrentUser();
         if (projectId != null) {
@@ -36,6 +38,7 @@ public class ChantiersController {
     }
 
     @GetMapping("/{id}")
+    @Transactional(readOnly = true)
     public ChantierDTO getById(@PathVariable UUID id) {
         return chantierRepository.findById(id).map(MappingUtil::toChantierDTO).orElse(null);
     }
@@ -1,25 +1,50 @@
 package fr.ttelab.orgaservice_back.controller;
 
 import fr.ttelab.orgaservice_back.dto.ClientDTO;
+import fr.ttelab.orgaservice_back.dto.ClientSuggestionDTO;
+import fr.ttelab.orgaservice_back.dto.NearbyClientDTO;
 import fr.ttelab.orgaservice_back.entity.Adress;
 import fr.ttelab.orgaservice_back.entity.Client;
 import fr.ttelab.orgaservice_back.entity.ClientStatus;
 import fr.ttelab.orgaservice_back.entity.ClientType;
+import fr.ttelab.orgaservice_back.entity.User;
 import fr.ttelab.orgaservice_back.repository.ClientRepository;
+import fr.ttelab.orgaservice_back.service.ClientCsvImporter;
+import fr.ttelab.orgaservice_back.service.ClientGeoSearch;
+import fr.ttelab.orgaservice_back.service.ClientSearchIndex;
+import fr.ttelab.orgaservice_back.service.DeletionService;
+import fr.ttelab.orgaservice_back.service.Geocoder;
 import fr.ttelab.orgaservice_back.util.MappingUtil;
 import fr.ttelab.orgaservice_back.util.SecurityUtil;
-import jakarta.transaction.Transactional;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.apache.logging.log4j.util.Strings;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.JpaSort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/clients")
@@ -30,26 +55,155 @@ public class ClientsController {
 
   private final ClientRepository clientRepository;
   private final SecurityUtil securityUtil;
+  private final ClientSearchIndex clientSearchIndex;
+  private final ClientCsvImporter clientCsvImporter;
+  private final DeletionService deletionService;
+  private final Geocoder geocoder;
+  private final ClientGeoSearch clientGeoSearch;
 
+  static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+  private static final int MAX_PAGE_SIZE = 200;
+
+  private static final double MAX_RADIUS_KM = 200;
+
+  /**
+   * Clients du propriétaire, triés et paginés en base. {@code sort} : name (défaut), createdAt ou city
+   * (ville de la première adresse) ; {@code size=0} renvoie tout. Le total est dans l'en-tête X-Total-Count.
+   * Avec {@code search}, l'ordre est celui de la pertinence et {@code sort} est ignoré.
+   */
   @GetMapping
-  public List<ClientDTO> list(@RequestParam(required = false) String search){
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> list(@RequestParam(required = false) String search,
+                                @RequestParam(defaultValue = "name") String sort,
+                                @RequestParam(defaultValue = "asc") String direction,
+                                @RequestParam(defaultValue = "0") int page,
+                                @RequestParam(defaultValue = "0") int size){
+    if (page < 0 || size < 0 || size > MAX_PAGE_SIZE) {
+      return ResponseEntity.badRequest().body(error("page must be >= 0 and size between 0 and " + MAX_PAGE_SIZE));
+    }
+    Sort.Direction dir = "desc".equalsIgnoreCase(direction) ? Sort.Direction.DESC : Sort.Direction.ASC;
+    Sort order = switch (sort) {
+      case "name" -> Sort.by(dir, "sortName");
+      case "createdAt" -> Sort.by(dir, "createdAt");
+      case "city" -> JpaSort.unsafe(dir, "(select min(lower(a.city)) from Adress a where a.client = c)");
+      default -> null;
+    };
+    if (order == null) {
+      return ResponseEntity.badRequest().body(error("sort must be one of name, createdAt, city"));
+    }
     var owner = securityUtil.getCurrentUser();
-    return clientRepository.findByOwnerAndSearch(owner, search).stream()
+
+    if (!Strings.isBlank(search)) {
+      // Recherche indexée : les clients reviennent dans l'ordre de pertinence, seule la page est chargée
+      List<UUID> ids = clientSearchIndex.search(owner, search, 0);
+      int from = size == 0 ? 0 : (int) Math.min((long) page * size, ids.size());
+      int to = size == 0 ? ids.size() : Math.min(from + size, ids.size());
+      List<UUID> pageIds = ids.subList(from, to);
+      Map<UUID, Client> byId = pageIds.isEmpty() ? Map.of() : clientRepository.findWithAddressesByIdIn(pageIds).stream()
+          .collect(Collectors.toMap(Client::getId, Function.identity()));
+      List<ClientDTO> body = pageIds.stream()
+          .map(byId::get)
+          .filter(c -> c != null)
+          .map(MappingUtil::toClientDTO)
+          .toList();
+      return ResponseEntity.ok().header(TOTAL_COUNT_HEADER, String.valueOf(ids.size())).body(body);
+    }
+
+    // Id en dernier critère : un ordre total garde les pages stables entre deux appels
+    order = order.and(Sort.by(dir, "id"));
+    Pageable pageable = size == 0 ? Pageable.unpaged(order) : PageRequest.of(page, size, order);
+    Page<Client> result = clientRepository.findPageByOwner(owner, pageable);
+    // Les adresses de la page sont chargées par lots (@BatchSize sur Client.addresses)
+    List<ClientDTO> body = result.getContent().stream()
         .map(MappingUtil::toClientDTO)
-        .sorted((a, b) -> a.getName().compareToIgnoreCase(b.getName()))
+        .toList();
+    return ResponseEntity.ok().header(TOTAL_COUNT_HEADER, String.valueOf(result.getTotalElements())).body(body);
+  }
+
+  /**
+   * Autocomplétion des sélecteurs de client : les {@code limit} premiers clients dont le nom
+   * ou une ville commence par {@code prefix}, sans charger la liste complète.
+   */
+  @GetMapping("/suggest")
+  @Transactional(readOnly = true)
+  public List<ClientSuggestionDTO> suggest(@RequestParam String prefix,
+                                           @RequestParam(defaultValue = "10") int limit){
+    var owner = securityUtil.getCurrentUser();
+    return clientSearchIndex.suggest(owner, prefix, Math.max(1, Math.min(limit, 50))).stream()
+        .map(MappingUtil::toClientSuggestionDTO)
+        .toList();
+  }
+
+  /**
+   * Clients à moins de {@code radiusKm} km du point, du plus proche au plus éloigné (adresses géocodées
+   * au centroïde de leur commune, voir {@link Geocoder}).
+   */
+  @GetMapping("/near")
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> near(@RequestParam double lat, @RequestParam double lon,
+                                @RequestParam(defaultValue = "10") double radiusKm,
+                                @RequestParam(defaultValue = "50") int limit){
+    if (lat < -90 || lat > 90 || lon < -180 || lon > 180) {
+      return ResponseEntity.badRequest().body(error("lat must be within [-90, 90] and lon within [-180, 180]"));
+    }
+    if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+      return ResponseEntity.badRequest().body(error("radiusKm must be between 0 and " + MAX_RADIUS_KM));
+    }
+    var owner = securityUtil.getCurrentUser();
+    return ResponseEntity.ok(nearby(owner, lat, lon, radiusKm, limit, null));
+  }
+
+  /**
+   * Clients à moins de {@code radiusKm} km de la première adresse du client {@code id} géocodée à la commune
+   * ou au code postal (lui exclu).
+   */
+  @GetMapping("/{id}/near")
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> nearClient(@PathVariable String id,
+                                      @RequestParam(defaultValue = "10") double radiusKm,
+                                      @RequestParam(defaultValue = "50") int limit){
+    if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+      return ResponseEntity.badRequest().body(error("radiusKm must be between 0 and " + MAX_RADIUS_KM));
+    }
+    var owner = securityUtil.getCurrentUser();
+    Optional<Client> clientOpt = clientRepository.findById(UUID.fromString(id)).filter(c -> c.getOwner().getId().equals(owner.getId()));
+    if (clientOpt.isEmpty()) {
+      return ResponseEntity.status(404).body(error("Client not found"));
+    }
+    Optional<Adress> origin = clientOpt.get().getAddresses().stream().filter(a -> a.getLatitude() != null && ClientGeoSearch.SEARCHABLE.contains(a.getGeoPrecision())).findFirst();
+    if (origin.isEmpty()) {
+      return ResponseEntity.badRequest().body(error("Client has no geocoded address"));
+    }
+    return ResponseEntity.ok(nearby(owner, origin.get().getLatitude(), origin.get().getLongitude(), radiusKm, limit,
+        clientOpt.get().getId()));
+  }
+
+  private List<NearbyClientDTO> nearby(User owner, double lat, double lon, double radiusKm, int limit,
+                                       UUID excludeClientId) {
+    List<ClientGeoSearch.Nearby> found = clientGeoSearch.near(owner, lat, lon, radiusKm,
+        Math.max(1, Math.min(limit, MAX_PAGE_SIZE)), excludeClientId);
+    Map<UUID, Client> clients = clientRepository.findWithAddressesByIdIn(
+            found.stream().map(ClientGeoSearch.Nearby::clientId).toList()).stream()
+        .collect(Collectors.toMap(Client::getId, Function.identity()));
+    return found.stream()
+        .filter(n -> clients.containsKey(n.clientId()))
+        .map(n -> MappingUtil.toNearbyClientDTO(clients.get(n.clientId()), n))
         .toList();
   }
 
   @GetMapping("/{id}")
+  @Transactional(readOnly = true)
   public ResponseEntity<?> get(@PathVariable String id){
     var owner = securityUtil.getCurrentUser();
-    Optional<Client> client = clientRepository.findById(UUID.fromString(id)).filter(c -> c.getOwner().equals(owner));
+    Optional<Client> client = clientRepository.findById(UUID.fromString(id)).filter(c -> c.getOwner().getId().equals(owner.getId()));
     return client.<ResponseEntity<?>>map(value -> ResponseEntity.ok(MappingUtil.toClientDTO(value)))
         .orElseGet(() -> ResponseEntity.status(404).body(error("Client not found")));
   }
 
   @Data
   public static class AddressRequest {
+    private String id; // adresse existante à modifier ; absent pour une nouvelle adresse
     private String street;
     private String city;
     private String postalCode;
@@ -85,20 +239,15 @@ public class ClientsController {
     // Ajouter les adresses
     if (req.getAddresses() != null) {
       for (int i = 0; i < req.getAddresses().size(); i++) {
-        AddressRequest addrReq = req.getAddresses().get(i);
         Adress adress = new Adress();
-        adress.setStreet(addrReq.getStreet());
-        adress.setCity(addrReq.getCity());
-        adress.setPostalCode(addrReq.getPostalCode());
-        adress.setAcces(addrReq.getAcces());
-        adress.setOrder(addrReq.getOrder() != null ? addrReq.getOrder() : i);
-        adress.setHasKey(Boolean.TRUE.equals(addrReq.getHasKey()));
+        applyAddress(adress, req.getAddresses().get(i), i);
         adress.setClient(c);
         c.getAddresses().add(adress);
       }
     }
 
     clientRepository.save(c);
+    clientSearchIndex.indexAfterCommit(c);
     return ResponseEntity.created(URI.create("/api/clients/"+c.getId())).body(MappingUtil.toClientDTO(c));
   }
 
@@ -116,7 +265,7 @@ public class ClientsController {
   @Transactional
   public ResponseEntity<?> update(@PathVariable String id, @RequestBody ClientUpdateRequest req){
     var owner = securityUtil.getCurrentUser();
-    Optional<Client> clientOpt = clientRepository.findById(UUID.fromString(id)).filter(c -> c.getOwner().equals(owner));
+    Optional<Client> clientOpt = clientRepository.findById(UUID.fromString(id)).filter(c -> c.getOwner().getId().equals(owner.getId()));
     if(clientOpt.isEmpty()){
       return ResponseEntity.status(404).body(error("Client not found"));
     }
@@ -129,39 +278,127 @@ public class ClientsController {
 
     // Mettre à jour les adresses si fournies
     if (req.getAddresses() != null) {
-      // Supprimer les anciennes adresses
-      c.getAddresses().clear();
-      // Ajouter les nouvelles adresses
-      for (int i = 0; i < req.getAddresses().size(); i++) {
-        AddressRequest addrReq = req.getAddresses().get(i);
-        Adress adress = new Adress();
-        adress.setStreet(addrReq.getStreet());
-        adress.setCity(addrReq.getCity());
-        adress.setPostalCode(addrReq.getPostalCode());
-        adress.setAcces(addrReq.getAcces());
-        adress.setOrder(addrReq.getOrder() != null ? addrReq.getOrder() : i);
-        adress.setHasKey(Boolean.TRUE.equals(addrReq.getHasKey()));
+      syncAddresses(c, req.getAddresses());
+    }
+    clientRepository.save(c);
+    clientSearchIndex.indexAfterCommit(c);
+
+    return ResponseEntity.ok(MappingUtil.toClientDTO(c));
+  }
+
+  /**
+   * Applique la liste d'adresses reçue en ne touchant que ce qui a changé. Une adresse reçue avec l'id
+   * d'une adresse du client la met à jour (Hibernate n'émet l'UPDATE que si un champ diffère), les adresses
+   * absentes de la liste sont supprimées (orphanRemoval) et les autres insérées ; chaque type de requête
+   * part en lots JDBC (hibernate.jdbc.batch_size). Une adresse sans id connu ne reprend qu'une adresse restante
+   * identique : l'id d'une adresse retirée n'est jamais réattribué à une autre adresse.
+   */
+  private void syncAddresses(Client c, List<AddressRequest> requests) {
+    Map<UUID, Adress> unmatched = new LinkedHashMap<>();
+    c.getAddresses().forEach(a -> unmatched.put(a.getId(), a));
+
+    Adress[] targets = new Adress[requests.size()];
+    for (int i = 0; i < requests.size(); i++) {
+      UUID addressId = parseId(requests.get(i).getId());
+      if (addressId != null) {
+        targets[i] = unmatched.remove(addressId);
+      }
+    }
+    for (int i = 0; i < requests.size(); i++) {
+      if (targets[i] == null) {
+        AddressRequest addrReq = requests.get(i);
+        for (Adress candidate : unmatched.values()) {
+          if (sameAddress(candidate, addrReq)) {
+            targets[i] = candidate;
+            break;
+          }
+        }
+        if (targets[i] != null) {
+          unmatched.remove(targets[i].getId());
+        }
+      }
+    }
+    c.getAddresses().removeAll(unmatched.values());
+    for (int i = 0; i < requests.size(); i++) {
+      Adress adress = targets[i];
+      if (adress == null) {
+        adress = new Adress();
         adress.setClient(c);
         c.getAddresses().add(adress);
       }
+      applyAddress(adress, requests.get(i), i);
     }
-    clientRepository.save(c);
+    c.getAddresses().sort(Comparator.comparing(Adress::getOrder, Comparator.nullsLast(Comparator.naturalOrder())));
+  }
 
-    return ResponseEntity.ok(MappingUtil.toClientDTO(c));
+  private void applyAddress(Adress adress, AddressRequest addrReq, int index) {
+    boolean relocated = adress.getGeoPrecision() == null
+        || !Objects.equals(adress.getPostalCode(), addrReq.getPostalCode())
+        || !Objects.equals(adress.getCity(), addrReq.getCity());
+    adress.setStreet(addrReq.getStreet());
+    adress.setCity(addrReq.getCity());
+    adress.setPostalCode(addrReq.getPostalCode());
+    adress.setAcces(addrReq.getAcces());
+    adress.setOrder(addrReq.getOrder() != null ? addrReq.getOrder() : index);
+    adress.setHasKey(Boolean.TRUE.equals(addrReq.getHasKey()));
+    if (relocated) {
+      geocoder.apply(adress);
+    }
+  }
+
+  private static boolean sameAddress(Adress adress, AddressRequest addrReq) {
+    return Objects.equals(adress.getStreet(), addrReq.getStreet())
+        && Objects.equals(adress.getCity(), addrReq.getCity())
+        && Objects.equals(adress.getPostalCode(), addrReq.getPostalCode())
+        && Objects.equals(adress.getAcces(), addrReq.getAcces())
+        && adress.isHasKey() == Boolean.TRUE.equals(addrReq.getHasKey());
+  }
+
+  private static UUID parseId(String id) {
+    if (Strings.isBlank(id)) {
+      return null;
+    }
+    try {
+      return UUID.fromString(id);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
   }
 
   @DeleteMapping("/{id}")
   @Transactional
   public ResponseEntity<?> delete(@PathVariable String id){
     var owner = securityUtil.getCurrentUser();
-    Optional<Client> clientOpt = clientRepository.findById(UUID.fromString(id)).filter(c -> c.getOwner().equals(owner));
+    Optional<Client> clientOpt = clientRepository.findById(UUID.fromString(id)).filter(c -> c.getOwner().getId().equals(owner.getId()));
     if(clientOpt.isEmpty()){
       return ResponseEntity.status(404).build();
     }
-    clientRepository.delete(clientOpt.get());
+    // Suppression logique immédiate, données effacées en arrière-plan
+    deletionService.deleteClient(clientOpt.get());
     return ResponseEntity.noContent().build();
   }
 
+  /**
+   * Import CSV de clients (voir {@link ClientCsvImporter} pour les colonnes). Le fichier est lu en flux
+   * et inséré par tranches : les lignes valides sont importées même si d'autres sont rejetées.
+   */
+  @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  public ResponseEntity<?> importCsv(@RequestParam("file") MultipartFile file,
+                                     @RequestParam(defaultValue = "UTF-8") String charset) throws IOException {
+    if (file.isEmpty()) {
+      return ResponseEntity.badRequest().body(error("Empty file"));
+    }
+    if (!Charset.isSupported(charset)) {
+      return ResponseEntity.badRequest().body(error("Unsupported charset: " + charset));
+    }
+    var owner = securityUtil.getCurrentUser();
+    try (Reader reader = new InputStreamReader(file.getInputStream(), Charset.forName(charset))) {
+      return ResponseEntity.ok(clientCsvImporter.importCsv(owner, reader));
+    } catch (ClientCsvImporter.InvalidCsvException e) {
+      return ResponseEntity.badRequest().body(error(e.getMessage()));
+    }
+  }
+
   private static record ErrorResponse(String error, String details) {}
   private ErrorResponse error(String details){
     return new ErrorResponse("Invalid request", details);
@@ -9,6 +9,7 @@ import fr.ttelab.orgaservice_back.repository.ProjectRepository;
 import fr.ttelab.orgaservice_back.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -30,6 +31,7 @@ public class DashboardController {
   private final SecurityUtil securityUtil;
 
   @GetMapping("/stats")
+  @Transactional(readOnly = true)
   public DashboardStatsDTO stats(){
     var owner = securityUtil.getCurrentUser();
     DashboardStatsDTO dto = new DashboardStatsDTO();
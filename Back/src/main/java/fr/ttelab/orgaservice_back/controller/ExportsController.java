@@ -0,0 +1,102 @@
+package fr.ttelab.orgaservice_back.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.ttelab.orgaservice_back.config.ShardContext;
+import fr.ttelab.orgaservice_back.service.ExportService;
+import fr.ttelab.orgaservice_back.util.SecurityUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Téléchargement des exports : /api/exports/{clients|projects|events}?format=csv|ndjson&gzip=true&from=&to=
+ * (dates ISO incluses ; création pour clients et projets, date d'intervention pour les événements).
+ * La réponse est écrite en flux pendant la lecture de la base.
+ */
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+@CrossOrigin("*")
+@PreAuthorize("hasRole('ACTIVE')")
+public class ExportsController {
+
+  private final ExportService exportService;
+  private final SecurityUtil securityUtil;
+  private final ObjectMapper objectMapper;
+
+  @GetMapping("/{kind}")
+  public ResponseEntity<StreamingResponseBody> export(@PathVariable String kind,
+                                  @RequestParam(defaultValue = "csv") String format,
+                                  @RequestParam(defaultValue = "false") boolean gzip,
+                                  @RequestParam(required = false) String from,
+                                  @RequestParam(required = false) String to) {
+    ExportService.Kind exportKind;
+    ExportService.Format exportFormat;
+    LocalDate fromDate;
+    LocalDate toDate;
+    try {
+      exportKind = ExportService.Kind.valueOf(kind);
+      exportFormat = ExportService.Format.valueOf(format);
+    } catch (IllegalArgumentException e) {
+      return badRequest(error("Unknown export " + kind + " or format " + format));
+    }
+    try {
+      fromDate = from == null || from.isBlank() ? null : LocalDate.parse(from);
+      toDate = to == null || to.isBlank() ? null : LocalDate.parse(to);
+    } catch (DateTimeParseException e) {
+      return badRequest(error("Dates must be ISO formatted (yyyy-MM-dd)"));
+    }
+    if (fromDate != null && toDate != null && toDate.isBefore(fromDate)) {
+      return badRequest(error("'to' must not be before 'from'"));
+    }
+
+    var owner = securityUtil.getCurrentUser();
+    // Le corps est écrit sur un thread asynchrone : le shard de la requête doit y être reporté
+    Integer shard = ShardContext.current();
+    StreamingResponseBody body = out -> {
+      ShardContext.bind(shard);
+      try {
+        if (gzip) {
+          GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+          exportService.export(exportKind, exportFormat, owner, fromDate, toDate, compressed);
+          compressed.finish();
+        } else {
+          exportService.export(exportKind, exportFormat, owner, fromDate, toDate, out);
+        }
+      } finally {
+        ShardContext.clear();
+      }
+    };
+
+    String filename = exportKind.name() + "-" + LocalDate.now() + "." + exportFormat.name() + (gzip ? ".gz" : "");
+    return ResponseEntity.ok()
+        .contentType(gzip
+            ? MediaType.parseMediaType("application/gzip")
+            : MediaType.parseMediaType(exportFormat.contentType + ";charset=UTF-8"))
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+        .body(body);
+  }
+
+  /**
+   * Le type de retour doit rester StreamingResponseBody pour que Spring écrive le flux : l'erreur est sérialisée ici.
+   */
+  private ResponseEntity<StreamingResponseBody> badRequest(ErrorResponse error) {
+    return ResponseEntity.badRequest()
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(out -> objectMapper.writeValue(out, error));
+  }
+
+  private static record ErrorResponse(String error, String details) {}
+  private ErrorResponse error(String details){
+    return new ErrorResponse("Invalid request", details);
+  }
+}
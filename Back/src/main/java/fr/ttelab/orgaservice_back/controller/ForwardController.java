@@ -1,13 +1,58 @@
 package fr.ttelab.orgaservice_back.controller;
 
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
-import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.bind.annotation.GetMapping;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * index.html du front pour les routes de l'application (/, /clients, /clients/{id}...), que le routeur du front
+ * résout ensuite.
+ * <p>
+ * Le fichier est lu une fois. Il est renvoyé avec un ETag et {@code no-cache} : le navigateur le garde mais le
+ * revalide à chaque visite, et reçoit un 304 sans contenu tant que le front n'a pas été redéployé. Les fichiers
+ * qu'il référence sont cachés sans revalidation (voir StaticResourcesConfig).
+ */
 @Controller
 public class ForwardController {
-  @RequestMapping(value = "/{path:[^\\.]*}")
-  public String forward() {
-    return "forward:/index.html";
+
+  private final byte[] index;
+  private final String etag;
+  private final long lastModified;
+
+  public ForwardController() {
+    ClassPathResource resource = new ClassPathResource("static/index.html");
+    try {
+      if (resource.exists()) {
+        this.index = resource.getContentAsByteArray();
+        this.lastModified = resource.lastModified();
+      } else {
+        // Front non construit (développement avec le serveur Vite)
+        this.index = null;
+        this.lastModified = -1;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    this.etag = index == null ? null : "\"" + DigestUtils.md5DigestAsHex(index) + "\"";
   }
-}
 
+  @GetMapping(value = {"/", "/{path:[^\\.]*}", "/{section:clients|projects}/{id:[^\\.]*}"})
+  public ResponseEntity<byte[]> forward() {
+    if (index == null) {
+      return ResponseEntity.notFound().build();
+    }
+    return ResponseEntity.ok()
+        .contentType(MediaType.TEXT_HTML)
+        .cacheControl(CacheControl.noCache())
+        .eTag(etag)
+        .lastModified(lastModified)
+        .body(index);
+  }
+}
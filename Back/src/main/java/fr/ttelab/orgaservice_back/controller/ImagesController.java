@@ -0,0 +1,181 @@
+package fr.ttelab.orgaservice_back.controller;
+
+import fr.ttelab.orgaservice_back.entity.User;
+import fr.ttelab.orgaservice_back.service.BlobStore;
+import fr.ttelab.orgaservice_back.service.ImageReferences;
+import fr.ttelab.orgaservice_back.service.ImageRenditions;
+import fr.ttelab.orgaservice_back.service.ImageUrlSigner;
+import fr.ttelab.orgaservice_back.util.ImageType;
+import fr.ttelab.orgaservice_back.util.SecurityUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Contenu des images stockées : /api/images/{empreinte SHA-256}?size=thumb|medium. Sans {@code size}, ou tant
+ * que la version réduite n'est pas prête, l'original est servi.
+ * <p>
+ * L'accès demande soit une URL signée pour le propriétaire et non expirée ({@code owner}, {@code exp},
+ * {@code sig} : voir ImageUrlSigner), pour les balises {@code <img>} sans JWT ; soit un JWT dont l'utilisateur
+ * référence l'image. L'empreinte seule ne suffit pas : qui possède le fichier peut la calculer.
+ * <p>
+ * Le fichier est envoyé sans passer par la JVM quand Tomcat le permet (sendfile), sinon par
+ * {@link FileChannel#transferTo} vers le flux de la réponse.
+ * <p>
+ * Le contenu d'une URL ne change jamais, mais les photos sont privées : la réponse n'est cachée que par le
+ * navigateur ({@code private}, jamais par un proxy ou un CDN). Une URL signée est gardée jusqu'à son expiration
+ * ({@code immutable}) ; avec un JWT, la réponse est revalidée à chaque affichage ({@code no-cache}), pour que la
+ * suppression de la remarque retire l'accès. L'ETag, tiré de l'empreinte, permet les 304. L'original servi à la
+ * place d'une version réduite encore en calcul n'est pas caché. Une plage d'octets ({@code Range}) est servie en 206, pour reprendre ou
+ * lire par morceaux les fichiers volumineux.
+ */
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+@CrossOrigin("*")
+public class ImagesController {
+
+  private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+  private final BlobStore blobStore;
+  private final ImageRenditions imageRenditions;
+  private final ImageReferences imageReferences;
+  private final ImageUrlSigner imageUrlSigner;
+  private final SecurityUtil securityUtil;
+
+  @GetMapping("/{hash}")
+  public void get(@PathVariable String hash,
+                  @RequestParam(required = false) String size,
+                  @RequestParam(required = false) String owner,
+                  @RequestParam(required = false) String exp,
+                  @RequestParam(required = false) String sig,
+                  HttpServletRequest request, HttpServletResponse response) throws IOException {
+    ImageRenditions.Size rendition;
+    try {
+      rendition = size == null || size.isBlank() ? null : ImageRenditions.Size.valueOf(size);
+    } catch (IllegalArgumentException e) {
+      response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+      return;
+    }
+    if (!BlobStore.isHash(hash)) {
+      response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+    CacheControl cacheControl;
+    if (sig != null) {
+      Instant expires = imageUrlSigner.verify(hash, owner, exp, sig);
+      if (expires == null) {
+        // Signature invalide ou expirée : le front recharge la liste pour obtenir de nouvelles URL
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        return;
+      }
+      cacheControl = CacheControl.maxAge(Duration.between(Instant.now(), expires)).cachePrivate().immutable();
+    } else {
+      User user = securityUtil.getCurrentUser();
+      if (user == null) {
+        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        return;
+      }
+      if (!imageReferences.holds(user.getId(), hash)) {
+        response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+        return;
+      }
+      cacheControl = CacheControl.noCache().cachePrivate();
+    }
+    Path path = blobStore.path(hash);
+    if (path == null || !Files.isRegularFile(path)) {
+      response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+      return;
+    }
+    Path renditionPath = rendition == null ? null : imageRenditions.find(hash, rendition);
+    if (renditionPath != null) {
+      send(renditionPath, "image/jpeg", "\"" + hash + "-" + rendition + "\"", cacheControl, request, response);
+      return;
+    }
+    if (rendition != null && !imageRenditions.settled(hash, rendition)) {
+      // Version réduite en calcul : l'original n'est servi qu'en attendant
+      cacheControl = CacheControl.noStore();
+    }
+    String contentType = ImageType.detect(path);
+    send(path, contentType != null ? contentType : "application/octet-stream", "\"" + hash + "\"", cacheControl,
+        request, response);
+  }
+
+  private void send(Path path, String contentType, String etag, CacheControl cacheControl,
+                    HttpServletRequest request, HttpServletResponse response) throws IOException {
+    long size = Files.size(path);
+    response.setHeader("X-Content-Type-Options", "nosniff");
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+    if (!"no-store".equals(cacheControl.getHeaderValue())) {
+      long lastModified = Files.getLastModifiedTime(path).toMillis();
+      if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+        return;
+      }
+    }
+    response.setContentType(contentType);
+
+    long start = 0;
+    long end = size;
+    String range = request.getHeader(HttpHeaders.RANGE);
+    // If-Range : la plage n'est servie que si le client a la même version (ETag ou date), sinon tout le fichier
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (range != null && (ifRange == null || ifRange.equals(etag)
+        || ifRange.equals(response.getHeader(HttpHeaders.LAST_MODIFIED)))) {
+      List<HttpRange> ranges;
+      try {
+        ranges = HttpRange.parseRanges(range);
+      } catch (IllegalArgumentException e) {
+        ranges = List.of();
+      }
+      // Plusieurs plages (multipart/byteranges) : le fichier entier est renvoyé, ce que permet la norme
+      if (ranges.size() == 1) {
+        HttpRange requested = ranges.get(0);
+        start = requested.getRangeStart(size);
+        end = requested.getRangeEnd(size) + 1;
+        if (start >= size || start >= end) {
+          response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+          response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+          return;
+        }
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + size);
+      }
+    }
+    response.setContentLengthLong(end - start);
+
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+      // Tomcat (connecteur NIO) copie le fichier vers la socket après la servlet
+      request.setAttribute(SENDFILE_FILENAME, path.toString());
+      request.setAttribute(SENDFILE_START, start);
+      request.setAttribute(SENDFILE_END, end);
+      return;
+    }
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+      long position = start;
+      while (position < end) {
+        position += channel.transferTo(position, end - position, out);
+      }
+    }
+  }
+}
@@ -6,14 +6,15 @@ import fr.ttelab.orgaservice_back.dto.ProjectDTO;
 import fr.ttelab.orgaservice_back.entity.*;
 import fr.ttelab.orgaservice_back.repository.ClientRepository;
 import fr.ttelab.orgaservice_back.repository.ProjectRepository;
+import fr.ttelab.orgaservice_back.service.DeletionService;
 import fr.ttelab.orgaservice_back.service.ProjectServcie;
 import fr.ttelab.orgaservice_back.util.MappingUtil;
 import fr.ttelab.orgaservice_back.util.SecurityUtil;
-import jakarta.transaction.Transactional;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
@@ -32,6 +33,7 @@ public class ProjectsController {
   private final ClientRepository clientRepository;
   private final SecurityUtil securityUtil;
   private final ProjectServcie projectServcie;
+  private final DeletionService deletionService;
 
   @Data
   public static class ProjectCreateRequest {
@@ -48,6 +50,7 @@ public class ProjectsController {
 
 
   @GetMapping
+  @Transactional(readOnly = true)
   public List<ProjectDTO> list(@RequestParam(required = false) String clientId,
                                @RequestParam(required = false) ProjectStatus status){
     var owner = securityUtil.getCurrentUser();
@@ -65,9 +68,10 @@ public class ProjectsController {
   }
 
   @GetMapping("/{id}")
+  @Transactional(readOnly = true)
   public ResponseEntity<?> get(@PathVariable String id){
     var owner = securityUtil.getCurrentUser();
-    Optional<Project> opt = projectRepository.findById(UUID.fromString(id)).filter(p -> p.getOwner().equals(owner));
+    Optional<Project> opt = projectRepository.findById(UUID.fromString(id)).filter(p -> p.getOwner().getId().equals(owner.getId()));
     return opt.<ResponseEntity<?>>map(value -> ResponseEntity.ok(MappingUtil.toProjectDTO(value)))
         .orElseGet(() -> ResponseEntity.status(404).body(error("Project not found")));
   }
@@ -81,7 +85,7 @@ public class ProjectsController {
       return ResponseEntity.badRequest().body(error("Invalid request"));
     }
     var owner = securityUtil.getCurrentUser();
-    Client client = clientRepository.findById(req.getClientId()).filter(c -> c.getOwner().equals(owner)).orElse(null);
+    Client client = clientRepository.findById(req.getClientId()).filter(c -> c.getOwner().getId().equals(owner.getId())).orElse(null);
     if(client==null) return ResponseEntity.status(404).body(error("Client not found"));
     Project p = new Project();
     p.setClient(client);
@@ -124,7 +128,7 @@ public class ProjectsController {
   @Transactional
   public ResponseEntity<?> update(@PathVariable String id, @RequestBody ProjectUpdateRequest req){
     var owner = securityUtil.getCurrentUser();
-    Optional<Project> opt = projectRepository.findById(UUID.fromString(id)).filter(p -> p.getOwner().equals(owner));
+    Optional<Project> opt = projectRepository.findById(UUID.fromString(id)).filter(p -> p.getOwner().getId().equals(owner.getId()));
     if(opt.isEmpty()) return ResponseEntity.status(404).body(error("Project not found"));
     Project p = opt.get();
     p.setTitle(req.getTitle());
@@ -138,9 +142,10 @@ public class ProjectsController {
   @Transactional
   public ResponseEntity<?> delete(@PathVariable String id){
     var owner = securityUtil.getCurrentUser();
-    Optional<Project> opt = projectRepository.findById(UUID.fromString(id)).filter(p -> p.getOwner().equals(owner));
+    Optional<Project> opt = projectRepository.findById(UUID.fromString(id)).filter(p -> p.getOwner().getId().equals(owner.getId()));
     if(opt.isEmpty()) return ResponseEntity.status(404).build();
-    projectRepository.delete(opt.get());
+    // Suppression logique immédiate, données effacées en arrière-plan
+    deletionService.deleteProject(opt.get());
     return ResponseEntity.noContent().build();
   }
 
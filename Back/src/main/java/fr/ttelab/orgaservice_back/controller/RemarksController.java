@@ -5,18 +5,27 @@ import fr.ttelab.orgaservice_back.entity.Client;
 import fr.ttelab.orgaservice_back.entity.Remark;
 import fr.ttelab.orgaservice_back.repository.ClientRepository;
 import fr.ttelab.orgaservice_back.repository.RemarkRepository;
+import fr.ttelab.orgaservice_back.service.ImageReferences;
+import fr.ttelab.orgaservice_back.service.ImageUploads;
+import fr.ttelab.orgaservice_back.service.RemarkImageStore;
 import fr.ttelab.orgaservice_back.util.MappingUtil;
 import fr.ttelab.orgaservice_back.util.SecurityUtil;
-import jakarta.transaction.Transactional;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.net.URI;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -30,14 +39,35 @@ public class RemarksController {
   private final RemarkRepository remarkRepository;
   private final ClientRepository clientRepository;
   private final SecurityUtil securityUtil;
+  private final RemarkImageStore remarkImageStore;
+  private final ImageUploads imageUploads;
+  private final ImageReferences imageReferences;
 
+  private static final int MAX_PAGE_SIZE = 100;
+
+  /**
+   * Remarques du client, des plus récentes aux plus anciennes, paginées en base ({@code size=0} renvoie tout).
+   * Le total est dans l'en-tête X-Total-Count. Les images ne sont que des URL, leurs listes sont chargées pour
+   * toute la page en une requête (@BatchSize sur Remark.images) ; le contenu est servi par /api/images.
+   */
   @GetMapping("/clients/{clientId}/remarks")
-  public ResponseEntity<?> list(@PathVariable String clientId){
+  @Transactional(readOnly = true)
+  public ResponseEntity<?> list(@PathVariable String clientId,
+                                @RequestParam(defaultValue = "0") int page,
+                                @RequestParam(defaultValue = "0") int size){
+    if (page < 0 || size < 0 || size > MAX_PAGE_SIZE) {
+      return ResponseEntity.badRequest().body(error("page must be >= 0 and size between 0 and " + MAX_PAGE_SIZE));
+    }
     var owner = securityUtil.getCurrentUser();
-    Client client = clientRepository.findById(UUID.fromString(clientId)).filter(c -> c.getOwner().equals(owner)).orElse(null);
+    Client client = clientRepository.findById(UUID.fromString(clientId)).filter(c -> c.getOwner().getId().equals(owner.getId())).orElse(null);
     if(client==null) return ResponseEntity.status(404).body(error("Client not found"));
-    List<RemarkDTO> remarks = remarkRepository.findByClient_IdAndOwner_Id(UUID.fromString(clientId), owner.getId()).stream().map(MappingUtil::toRemarkDTO).toList();
-    return ResponseEntity.ok(remarks);
+    Sort order = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+    Pageable pageable = size == 0 ? Pageable.unpaged(order) : PageRequest.of(page, size, order);
+    Page<Remark> result = remarkRepository.findPageByClient(client.getId(), owner.getId(), pageable);
+    List<RemarkDTO> remarks = result.getContent().stream().map(this::toDTO).toList();
+    return ResponseEntity.ok()
+        .header(ClientsController.TOTAL_COUNT_HEADER, String.valueOf(result.getTotalElements()))
+        .body(remarks);
   }
 
   @Data
@@ -48,20 +78,25 @@ public class RemarksController {
 
   @PostMapping("/clients/{clientId}/remarks")
   @Transactional
-  public ResponseEntity<?> create(@PathVariable String clientId, @RequestBody RemarkCreateRequest req){
+  public ResponseEntity<?> create(@PathVariable String clientId, @RequestBody RemarkCreateRequest req) throws IOException {
     if((req.getContent()==null || req.getContent().isBlank()) && (req.getImages()==null || req.getImages().isEmpty())){
       return ResponseEntity.badRequest().body(error("Content or images required"));
     }
     var owner = securityUtil.getCurrentUser();
-    Client client = clientRepository.findById(UUID.fromString(clientId)).filter(c -> c.getOwner().equals(owner)).orElse(null);
+    Client client = clientRepository.findById(UUID.fromString(clientId)).filter(c -> c.getOwner().getId().equals(owner.getId())).orElse(null);
     if(client==null) return ResponseEntity.status(404).body(error("Client not found"));
     Remark r = new Remark();
     r.setClient(client);
     r.setOwner(owner);
     r.setContent(req.getContent());
-    r.setImages(req.getImages());
+    try {
+      r.setImages(remarkImageStore.toRefs(owner.getId(), req.getImages()));
+    } catch (RemarkImageStore.InvalidImageException e) {
+      return ResponseEntity.badRequest().body(error(e.getMessage()));
+    }
     remarkRepository.save(r);
-    return ResponseEntity.created(URI.create("/api/clients/"+clientId+"/remarks/"+r.getId())).body(MappingUtil.toRemarkDTO(r));
+    imageReferences.retain(owner.getId(), r.getImages());
+    return ResponseEntity.created(URI.create("/api/clients/"+clientId+"/remarks/"+r.getId())).body(toDTO(r));
   }
 
   @Data
@@ -72,31 +107,119 @@ public class RemarksController {
 
   @PutMapping("/remarks/{id}")
   @Transactional
-  public ResponseEntity<?> update(@PathVariable String id, @RequestBody RemarkUpdateRequest req){
+  public ResponseEntity<?> update(@PathVariable String id, @RequestBody RemarkUpdateRequest req) throws IOException {
     var owner = securityUtil.getCurrentUser();
-    Optional<Remark> opt = remarkRepository.findById(UUID.fromString(id)).filter(r -> r.getOwner().equals(owner));
+    Optional<Remark> opt = remarkRepository.findById(UUID.fromString(id)).filter(r -> r.getOwner().getId().equals(owner.getId()));
     if(opt.isEmpty()) return ResponseEntity.status(404).body(error("Remark not found"));
     Remark r = opt.get();
+    List<String> previous = r.getImages() == null ? List.of() : List.copyOf(r.getImages());
     r.setContent(req.getContent());
-    r.setImages(req.getImages());
-    return ResponseEntity.ok(MappingUtil.toRemarkDTO(r));
+    try {
+      r.setImages(remarkImageStore.toRefs(owner.getId(), req.getImages()));
+    } catch (RemarkImageStore.InvalidImageException e) {
+      return ResponseEntity.badRequest().body(error(e.getMessage()));
+    }
+    imageReferences.replace(owner.getId(), previous, r.getImages());
+    return ResponseEntity.ok(toDTO(r));
   }
 
   @DeleteMapping("/remarks/{id}")
   @Transactional
   public ResponseEntity<?> delete(@PathVariable String id){
     var owner = securityUtil.getCurrentUser();
-    Optional<Remark> opt = remarkRepository.findById(UUID.fromString(id)).filter(r -> r.getOwner().equals(owner));
+    Optional<Remark> opt = remarkRepository.findById(UUID.fromString(id)).filter(r -> r.getOwner().getId().equals(owner.getId()));
     if(opt.isEmpty()) return ResponseEntity.status(404).build();
+    imageReferences.release(owner.getId(), opt.get().getImages());
     remarkRepository.delete(opt.get());
     return ResponseEntity.noContent().build();
   }
 
   @PostMapping("/remarks/upload-image")
   public ResponseEntity<?> uploadImage(@RequestParam("image") MultipartFile file) throws IOException {
-    // Stub: in real implementation store file and return URL
-    String fakeUrl = "data:"+file.getContentType()+";base64,"+java.util.Base64.getEncoder().encodeToString(file.getBytes());
-    return ResponseEntity.status(201).body(new ImageUploadResponse(fakeUrl));
+    var owner = securityUtil.getCurrentUser();
+    String ref;
+    try (InputStream in = file.getInputStream()) {
+      ref = remarkImageStore.store(in);
+    } catch (RemarkImageStore.InvalidImageException e) {
+      return ResponseEntity.badRequest().body(error(e.getMessage()));
+    }
+    return ResponseEntity.status(201).body(new ImageUploadResponse(remarkImageStore.toUrl(owner.getId(), ref)));
+  }
+
+  /**
+   * Envoi d'image par morceaux, reprenable (voir ImageUploads) : POST /remarks/uploads?length=,
+   * PATCH /remarks/uploads/{id}?offset= avec les octets bruts, GET pour connaître l'offset reçu après une coupure,
+   * POST /remarks/uploads/{id}/complete pour obtenir l'URL de l'image. Un offset inattendu renvoie 409 avec l'état,
+   * trop d'envois ouverts 429.
+   */
+  @PostMapping("/remarks/uploads")
+  public ResponseEntity<?> startUpload(@RequestParam(required = false) Long length) throws IOException {
+    var owner = securityUtil.getCurrentUser();
+    try {
+      ImageUploads.Status status = imageUploads.start(owner.getId(), length);
+      return ResponseEntity.created(URI.create("/api/remarks/uploads/" + status.uploadId())).body(status);
+    } catch (ImageUploads.UploadTooLargeException e) {
+      return ResponseEntity.status(413).body(error(e.getMessage()));
+    } catch (ImageUploads.UploadLimitException e) {
+      return ResponseEntity.status(429).body(error(e.getMessage()));
+    }
+  }
+
+  @GetMapping("/remarks/uploads/{uploadId}")
+  public ResponseEntity<?> uploadStatus(@PathVariable String uploadId) {
+    var owner = securityUtil.getCurrentUser();
+    try {
+      return ResponseEntity.ok(imageUploads.status(owner.getId(), uploadId));
+    } catch (ImageUploads.UnknownUploadException e) {
+      return ResponseEntity.status(404).body(error(e.getMessage()));
+    }
+  }
+
+  @PatchMapping("/remarks/uploads/{uploadId}")
+  public ResponseEntity<?> appendUpload(@PathVariable String uploadId, @RequestParam long offset,
+                                        HttpServletRequest request) throws IOException {
+    var owner = securityUtil.getCurrentUser();
+    try (InputStream body = request.getInputStream()) {
+      return ResponseEntity.ok(imageUploads.append(owner.getId(), uploadId, offset, body));
+    } catch (ImageUploads.UnknownUploadException e) {
+      return ResponseEntity.status(404).body(error(e.getMessage()));
+    } catch (ImageUploads.UploadConflictException e) {
+      return ResponseEntity.status(409).body(e.getStatus());
+    } catch (ImageUploads.UploadTooLargeException e) {
+      return ResponseEntity.status(413).body(error(e.getMessage()));
+    }
+  }
+
+  @PostMapping("/remarks/uploads/{uploadId}/complete")
+  public ResponseEntity<?> completeUpload(@PathVariable String uploadId) throws IOException {
+    var owner = securityUtil.getCurrentUser();
+    try {
+      String ref = imageUploads.complete(owner.getId(), uploadId);
+      return ResponseEntity.status(201).body(new ImageUploadResponse(remarkImageStore.toUrl(owner.getId(), ref)));
+    } catch (ImageUploads.UnknownUploadException e) {
+      return ResponseEntity.status(404).body(error(e.getMessage()));
+    } catch (ImageUploads.UploadConflictException e) {
+      return ResponseEntity.status(409).body(e.getStatus());
+    } catch (RemarkImageStore.InvalidImageException e) {
+      return ResponseEntity.badRequest().body(error(e.getMessage()));
+    }
+  }
+
+  @DeleteMapping("/remarks/uploads/{uploadId}")
+  public ResponseEntity<?> cancelUpload(@PathVariable String uploadId) throws IOException {
+    var owner = securityUtil.getCurrentUser();
+    try {
+      imageUploads.cancel(owner.getId(), uploadId);
+      return ResponseEntity.noContent().build();
+    } catch (ImageUploads.UnknownUploadException e) {
+      return ResponseEntity.status(404).body(error(e.getMessage()));
+    }
+  }
+
+  private RemarkDTO toDTO(Remark r) {
+    RemarkDTO dto = MappingUtil.toRemarkDTO(r);
+    dto.setImages(remarkImageStore.toUrls(r.getOwner().getId(), r.getImages()));
+    return dto;
   }
 
   private record ImageUploadResponse(String imageUrl) {}
@@ -6,6 +6,10 @@ import com.stripe.net.Webhook;
 import fr.ttelab.orgaservice_back.entity.User;
 import fr.ttelab.orgaservice_back.entity.UserStatus;
 import fr.ttelab.orgaservice_back.repository.UserRepository;
+import fr.ttelab.orgaservice_back.security.PrincipalCache;
+import fr.ttelab.orgaservice_back.security.TokenVersionRegistry;
+import fr.ttelab.orgaservice_back.service.ShardedQueryService;
+import fr.ttelab.orgaservice_back.service.StripeGateway;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -28,12 +32,22 @@ import java.util.stream.Collectors;
 public class StripeWebhookController {
 
   private final UserRepository userRepository;
+  private final ShardedQueryService shardedQueryService;
+  private final StripeGateway stripeGateway;
+  private final PrincipalCache principalCache;
+  private final TokenVersionRegistry tokenVersions;
 
   @Value("${stripe.webhookSecret}")
   private String webhookSecret;
 
-  StripeWebhookController(UserRepository userRepository) {
+  StripeWebhookController(UserRepository userRepository, ShardedQueryService shardedQueryService,
+                          StripeGateway stripeGateway, PrincipalCache principalCache,
+                          TokenVersionRegistry tokenVersions) {
     this.userRepository = userRepository;
+    this.shardedQueryService = shardedQueryService;
+    this.stripeGateway = stripeGateway;
+    this.principalCache = principalCache;
+    this.tokenVersions = tokenVersions;
   }
 
   @PostMapping("/webhook")
@@ -52,13 +66,19 @@ public class StripeWebhookController {
 
     log.info("Received Stripe event: {}", event.getType());
 
-    switch (event.getType()) {
-      case "checkout.session.completed" -> handleCheckoutCompleted(event);
-      case "invoice.payment_succeeded" -> handleInvoicePaymentSucceeded(event);
-      case "invoice.payment_failed" -> handleInvoicePaymentFailed(event);
-      case "customer.subscription.deleted" -> handleSubscriptionDeleted(event);
-      case "customer.subscription.updated" -> handleSubscriptionUpdated(event);
-      default -> log.info("Unhandled event type: {}", event.getType());
+    try {
+      switch (event.getType()) {
+        case "checkout.session.completed" -> handleCheckoutCompleted(event);
+        case "invoice.payment_succeeded" -> handleInvoicePaymentSucceeded(event);
+        case "invoice.payment_failed" -> handleInvoicePaymentFailed(event);
+        case "customer.subscription.deleted" -> handleSubscriptionDeleted(event);
+        case "customer.subscription.updated" -> handleSubscriptionUpdated(event);
+        default -> log.info("Unhandled event type: {}", event.getType());
+      }
+    } catch (StripeGateway.StripeUnavailableException e) {
+      // Stripe renverra l'événement plus tard plutôt que de perdre l'activation
+      log.warn("Stripe unavailable while handling {}: {}", event.getType(), e.getMessage());
+      return ResponseEntity.status(503).body("Stripe unavailable, retry later");
     }
 
     return ResponseEntity.ok("ok");
@@ -73,8 +93,10 @@ public class StripeWebhookController {
     Map<String, String> metadata = session.getMetadata();
     if (metadata == null || !metadata.containsKey("userId")) {
       try {
-        Session fullSession = Session.retrieve(session.getId());
+        Session fullSession = stripeGateway.execute("checkout.session.retrieve", () -> Session.retrieve(session.getId()));
         metadata = fullSession.getMetadata();
+      } catch (StripeGateway.StripeUnavailableException e) {
+        throw e;
       } catch (Exception e) {
         log.error("Erreur récupération session Stripe", e);
         return;
@@ -89,7 +111,7 @@ public class StripeWebhookController {
     UUID userId = UUID.fromString(metadata.get("userId"));
     String priceType = metadata.getOrDefault("priceType", "one_time");
 
-    Optional<User> userOpt = userRepository.findById(userId);
+    Optional<User> userOpt = shardedQueryService.locate(() -> userRepository.findById(userId));
     if (userOpt.isEmpty()) {
       log.error("User not found: {}", userId);
       return;
@@ -120,6 +142,8 @@ public class StripeWebhookController {
     }
 
     userRepository.save(user);
+    principalCache.invalidate(user.getUsername());
+    tokenVersions.revoke(user.getUsername());
     log.info("User {} activated with {} plan until {}", userId, priceType, user.getEndLicenseDate());
   }
 
@@ -134,12 +158,12 @@ public class StripeWebhookController {
     }
 
     String subscriptionId = invoice.getSubscription();
-    Optional<User> userOpt = userRepository.findByStripeSubscriptionId(subscriptionId);
+    Optional<User> userOpt = shardedQueryService.locate(() -> userRepository.findByStripeSubscriptionId(subscriptionId));
 
     if (userOpt.isEmpty()) {
       // Essayer de trouver par customer ID
       if (invoice.getCustomer() != null) {
-        userOpt = userRepository.findByStripeCustomerId(invoice.getCustomer());
+        userOpt = shardedQueryService.locate(() -> userRepository.findByStripeCustomerId(invoice.getCustomer()));
       }
     }
 
@@ -152,6 +176,8 @@ public class StripeWebhookController {
     user.setStatus(UserStatus.ACTIVE);
     user.setEndLicenseDate(LocalDate.now().plusMonths(1));
     userRepository.save(user);
+    principalCache.invalidate(user.getUsername());
+    tokenVersions.revoke(user.getUsername());
     log.info("Subscription renewed for user {}", user.getId());
   }
 
@@ -166,10 +192,10 @@ public class StripeWebhookController {
     }
 
     String subscriptionId = invoice.getSubscription();
-    Optional<User> userOpt = userRepository.findByStripeSubscriptionId(subscriptionId);
+    Optional<User> userOpt = shardedQueryService.locate(() -> userRepository.findByStripeSubscriptionId(subscriptionId));
 
     if (userOpt.isEmpty() && invoice.getCustomer() != null) {
-      userOpt = userRepository.findByStripeCustomerId(invoice.getCustomer());
+      userOpt = shardedQueryService.locate(() -> userRepository.findByStripeCustomerId(invoice.getCustomer()));
     }
 
     if (userOpt.isEmpty()) {
@@ -182,6 +208,8 @@ public class StripeWebhookController {
     // Ici on met en SUSPENDED pour laisser une chance de régularisation
     user.setStatus(UserStatus.SUSPENDED);
     userRepository.save(user);
+    principalCache.invalidate(user.getUsername());
+    tokenVersions.revoke(user.getUsername());
     log.warn("Payment failed for user {}, status set to SUSPENDED", user.getId());
   }
 
@@ -196,10 +224,10 @@ public class StripeWebhookController {
     }
 
     String subscriptionId = subscription.getId();
-    Optional<User> userOpt = userRepository.findByStripeSubscriptionId(subscriptionId);
+    Optional<User> userOpt = shardedQueryService.locate(() -> userRepository.findByStripeSubscriptionId(subscriptionId));
 
     if (userOpt.isEmpty() && subscription.getCustomer() != null) {
-      userOpt = userRepository.findByStripeCustomerId(subscription.getCustomer());
+      userOpt = shardedQueryService.locate(() -> userRepository.findByStripeCustomerId(subscription.getCustomer()));
     }
 
     if (userOpt.isEmpty()) {
@@ -211,6 +239,8 @@ public class StripeWebhookController {
     user.setStatus(UserStatus.INACTIVE);
     user.setStripeSubscriptionId(null); // Supprimer la référence à l'abonnement
     userRepository.save(user);
+    principalCache.invalidate(user.getUsername());
+    tokenVersions.revoke(user.getUsername());
     log.info("Subscription cancelled for user {}, status set to INACTIVE", user.getId());
   }
 
@@ -225,7 +255,7 @@ public class StripeWebhookController {
     }
 
     String subscriptionId = subscription.getId();
-    Optional<User> userOpt = userRepository.findByStripeSubscriptionId(subscriptionId);
+    Optional<User> userOpt = shardedQueryService.locate(() -> userRepository.findByStripeSubscriptionId(subscriptionId));
 
     if (userOpt.isEmpty()) {
       return;
@@ -250,6 +280,8 @@ public class StripeWebhookController {
     }
 
     userRepository.save(user);
+    principalCache.invalidate(user.getUsername());
+    tokenVersions.revoke(user.getUsername());
     log.info("Subscription updated for user {}, stripe status: {}", user.getId(), status);
   }
 
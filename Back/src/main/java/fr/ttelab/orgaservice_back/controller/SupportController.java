@@ -6,12 +6,13 @@ import fr.ttelab.orgaservice_back.entity.User;
 import fr.ttelab.orgaservice_back.entity.UserStatus;
 import fr.ttelab.orgaservice_back.repository.SupportMessageRepository;
 import fr.ttelab.orgaservice_back.repository.UserRepository;
+import fr.ttelab.orgaservice_back.service.ShardedQueryService;
 import fr.ttelab.orgaservice_back.util.SecurityUtil;
-import jakarta.transaction.Transactional;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -29,6 +30,7 @@ public class SupportController {
   private final SupportMessageRepository messageRepository;
   private final UserRepository userRepository;
   private final SecurityUtil securityUtil;
+  private final ShardedQueryService shardedQueryService;
 
   // ==================== Endpoints pour les utilisateurs ====================
 
@@ -36,6 +38,7 @@ public class SupportController {
    * Récupérer tous les messages de la conversation de l'utilisateur connecté
    */
   @GetMapping("/messages")
+  @Transactional(readOnly = true)
   public List<SupportMessageDTO> getMyMessages() {
     User user = securityUtil.getCurrentUser();
     return messageRepository.findByUserOrderByCreatedAtAsc(user).stream()
@@ -83,6 +86,7 @@ public class SupportController {
    * Compter les messages non lus de l'admin
    */
   @GetMapping("/unread-count")
+  @Transactional(readOnly = true)
   public Map<String, Long> getUnreadCount() {
     User user = securityUtil.getCurrentUser();
     long count = messageRepository.countByUserAndFromAdminTrueAndReadByUserFalse(user);
@@ -101,7 +105,8 @@ public class SupportController {
       return ResponseEntity.status(403).body(Map.of("error", "Accès refusé"));
     }
 
-    User targetUser = userRepository.findById(userId).orElse(null);
+    // Les messages vivent sur le shard de l'utilisateur ciblé
+    User targetUser = shardedQueryService.locate(() -> userRepository.findById(userId)).orElse(null);
     if (targetUser == null) {
       return ResponseEntity.notFound().build();
     }
@@ -117,14 +122,14 @@ public class SupportController {
    * Envoyer un message à un utilisateur (admin uniquement)
    */
   @PostMapping("/admin/messages/{userId}")
-  @Transactional
   public ResponseEntity<?> sendAdminMessage(@PathVariable UUID userId, @RequestBody SendMessageRequest request) {
     User currentUser = securityUtil.getCurrentUser();
     if (currentUser.getStatus() != UserStatus.ADMIN) {
       return ResponseEntity.status(403).body(Map.of("error", "Accès refusé"));
     }
 
-    User targetUser = userRepository.findById(userId).orElse(null);
+    // Les messages vivent sur le shard de l'utilisateur ciblé
+    User targetUser = shardedQueryService.locate(() -> userRepository.findById(userId)).orElse(null);
     if (targetUser == null) {
       return ResponseEntity.notFound().build();
     }
@@ -150,14 +155,14 @@ public class SupportController {
    * Marquer les messages d'un utilisateur comme lus par l'admin
    */
   @PostMapping("/admin/messages/{userId}/mark-read")
-  @Transactional
   public ResponseEntity<?> markUserMessagesAsRead(@PathVariable UUID userId) {
     User currentUser = securityUtil.getCurrentUser();
     if (currentUser.getStatus() != UserStatus.ADMIN) {
       return ResponseEntity.status(403).body(Map.of("error", "Accès refusé"));
     }
 
-    User targetUser = userRepository.findById(userId).orElse(null);
+    // Les messages vivent sur le shard de l'utilisateur ciblé
+    User targetUser = shardedQueryService.locate(() -> userRepository.findById(userId)).orElse(null);
     if (targetUser == null) {
       return ResponseEntity.notFound().build();
     }
@@ -176,7 +181,7 @@ public class SupportController {
       return ResponseEntity.status(403).body(Map.of("error", "Accès refusé"));
     }
 
-    List<String> userIds = messageRepository.findUserIdsWithUnreadMessages().stream()
+    List<String> userIds = shardedQueryService.scatter(messageRepository::findUserIdsWithUnreadMessages).stream()
         .map(UUID::toString)
         .collect(Collectors.toList());
 
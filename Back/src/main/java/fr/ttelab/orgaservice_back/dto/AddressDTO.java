@@ -1,5 +1,6 @@
 package fr.ttelab.orgaservice_back.dto;
 
+import fr.ttelab.orgaservice_back.entity.GeoPrecision;
 import lombok.Data;
 
 @Data
@@ -11,5 +12,8 @@ public class AddressDTO {
   private String acces;
   private Integer order;
   private boolean hasKey;
+  private Double latitude;
+  private Double longitude;
+  private GeoPrecision geoPrecision;
 }
 
@@ -0,0 +1,13 @@
+package fr.ttelab.orgaservice_back.dto;
+
+import lombok.Data;
+
+@Data
+public class ClientSuggestionDTO {
+  private String id;
+  private String name;
+  private String street;
+  private String postalCode;
+  private String city;
+  private String matchedOn; // name | city
+}
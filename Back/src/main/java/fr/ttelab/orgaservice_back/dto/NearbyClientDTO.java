@@ -0,0 +1,12 @@
+package fr.ttelab.orgaservice_back.dto;
+
+import fr.ttelab.orgaservice_back.entity.GeoPrecision;
+import lombok.Data;
+
+@Data
+public class NearbyClientDTO {
+  private ClientDTO client;
+  private String addressId; // adresse du client la plus proche du point
+  private double distanceKm;
+  private GeoPrecision geoPrecision; // précision des coordonnées de cette adresse
+}
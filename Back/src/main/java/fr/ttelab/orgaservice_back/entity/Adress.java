@@ -9,7 +9,7 @@ import lombok.ToString;
 import java.util.UUID;
 
 @Entity
-@Table(name = "adress")
+@Table(name = "adress", indexes = @Index(name = "idx_adress_geohash", columnList = "geohash"))
 @Data
 public class Adress {
 
@@ -36,5 +36,16 @@ public class Adress {
 
     private boolean hasKey = false;
 
+    // Géocodage hors ligne (centroïde de la commune, voir Geocoder) ; le geohash sert d'index de proximité
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(length = 12)
+    private String geohash;
+
+    @Enumerated(EnumType.STRING)
+    private GeoPrecision geoPrecision;
+
 
 }
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 import fr.ttelab.orgaservice_back.entity.EventType;
 import fr.ttelab.orgaservice_back.entity.EventStatus;
 
@@ -13,6 +15,7 @@ import java.time.LocalTime;
 import java.util.UUID;
 
 @Entity
+@SQLRestriction("deleted = false")
 @Table(name = "calendar_event")
 @Data
 public class CalendarEvent {
@@ -69,6 +72,11 @@ public class CalendarEvent {
   @Column(length = 2000)
   private String notes;
 
+  // Suppression logique, avec le projet ou le client (voir DeletionService)
+  @ColumnDefault("false")
+  @Column(nullable = false)
+  private boolean deleted = false;
+
   private LocalDateTime createdAt;
 
   @PrePersist
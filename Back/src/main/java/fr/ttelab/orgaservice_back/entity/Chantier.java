@@ -4,11 +4,14 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@SQLRestriction("deleted = false")
 @Table(name = "chantier")
 @Data
 public class Chantier {
@@ -45,6 +48,11 @@ public class Chantier {
   @EqualsAndHashCode.Exclude
   private CalendarEvent calendarEvent;
 
+  // Suppression logique, avec le projet ou le client (voir DeletionService)
+  @ColumnDefault("false")
+  @Column(nullable = false)
+  private boolean deleted = false;
+
   private LocalDateTime createdAt;
 
   @PrePersist
@@ -6,12 +6,21 @@ import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import fr.ttelab.orgaservice_back.entity.ClientType;
 import fr.ttelab.orgaservice_back.entity.ClientStatus;
+import fr.ttelab.orgaservice_back.util.SearchText;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
-@Table(name = "client")
+@SQLRestriction("deleted = false")
+@Table(name = "client", indexes = {
+    @Index(name = "idx_client_owner_sort_name", columnList = "owner_id, sort_name"),
+    @Index(name = "idx_client_owner_created_at", columnList = "owner_id, created_at"),
+    @Index(name = "idx_client_deleted", columnList = "deleted")
+})
 @Data
 public class Client {
 
@@ -22,6 +31,10 @@ public class Client {
   @Column(nullable = false)
   private String name;
 
+  // Nom normalisé (minuscules, sans accents) : clé de tri indexée de la liste paginée
+  @Column(name = "sort_name")
+  private String sortName;
+
   private String email;
   private String phone;
 
@@ -30,6 +43,7 @@ public class Client {
   @ToString.Exclude
   @EqualsAndHashCode.Exclude
   @OrderBy("order ASC")
+  @BatchSize(size = 100)
   private List<Adress> addresses = new ArrayList<>();
 
 
@@ -47,11 +61,23 @@ public class Client {
   @EqualsAndHashCode.Exclude
   private User owner; // multi-tenant isolation
 
+  // Suppression logique : le client est masqué de toutes les requêtes dès la suppression,
+  // puis ses données sont effacées en lots par DeletionService.purge
+  @ColumnDefault("false")
+  @Column(nullable = false)
+  private boolean deleted = false;
+
   private LocalDateTime createdAt;
 
   @PrePersist
   protected void onCreate() {
     createdAt = LocalDateTime.now();
+    sortName = SearchText.normalize(name);
+  }
+
+  @PreUpdate
+  protected void onUpdate() {
+    sortName = SearchText.normalize(name);
   }
 
   @OneToMany(mappedBy = "client", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -0,0 +1,9 @@
+package fr.ttelab.orgaservice_back.entity;
+
+/**
+ * Niveau de géocodage d'une adresse (voir Geocoder) : centroïde de la commune, du code postal
+ * ou du département, ou adresse non trouvée.
+ */
+public enum GeoPrecision {
+  commune, code_postal, departement, inconnue
+}
@@ -0,0 +1,46 @@
+package fr.ttelab.orgaservice_back.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Nombre de références d'un propriétaire vers une image du magasin (voir ImageReferences). Une image jointe
+ * à plusieurs remarques n'est stockée qu'une fois ; elle est effacée quand plus aucun propriétaire ne la
+ * référence.
+ */
+@Entity
+@Table(name = "image_reference",
+    uniqueConstraints = @UniqueConstraint(name = "uk_image_reference_owner_hash", columnNames = {"owner_id", "hash"}),
+    indexes = {
+        @Index(name = "idx_image_reference_hash", columnList = "hash"),
+        @Index(name = "idx_image_reference_unreferenced", columnList = "unreferenced_since")
+    })
+@Data
+public class ImageReference {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  private UUID id;
+
+  @ManyToOne(optional = false, fetch = FetchType.LAZY)
+  @JoinColumn(name = "owner_id")
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private User owner;
+
+  // Empreinte SHA-256 du fichier (BlobStore)
+  @Column(nullable = false, length = 64)
+  private String hash;
+
+  @Column(nullable = false)
+  private int refCount;
+
+  // Renseigné quand refCount tombe à 0 : la ligne et, s'il n'est plus référencé, le fichier sont
+  // supprimés après le délai de grâce (voir ImageBlobSweeper)
+  private LocalDateTime unreferencedSince;
+}
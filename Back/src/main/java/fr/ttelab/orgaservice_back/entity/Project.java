@@ -4,11 +4,14 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.util.UUID;
 
 @Entity
-@Table(name = "project")
+@SQLRestriction("deleted = false")
+@Table(name = "project", indexes = @Index(name = "idx_project_deleted", columnList = "deleted"))
 @Data
 public class Project {
 
@@ -61,6 +64,11 @@ public class Project {
   @Column(nullable = false)
   private ProjectStatus status = ProjectStatus.en_attente;
 
+  // Suppression logique (voir DeletionService)
+  @ColumnDefault("false")
+  @Column(nullable = false)
+  private boolean deleted = false;
+
   private java.time.LocalDateTime createdAt;
 
   @PrePersist
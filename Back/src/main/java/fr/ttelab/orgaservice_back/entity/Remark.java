@@ -4,13 +4,17 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "remark")
+@SQLRestriction("deleted = false")
+@Table(name = "remark", indexes = @Index(name = "idx_remark_client_created_at", columnList = "client_id, created_at"))
 @Data
 public class Remark {
 
@@ -36,7 +40,13 @@ public class Remark {
   @ElementCollection
   @CollectionTable(name = "remark_images", joinColumns = @JoinColumn(name = "remark_id"))
   @Column(name = "image_ref", length = 10024000)
-  private List<String> images; // base64 ou URL
+  @BatchSize(size = 100)
+  private List<String> images; // références sha256:<empreinte> (BlobStore) ou URL externes
+
+  // Suppression logique, avec le client (voir DeletionService)
+  @ColumnDefault("false")
+  @Column(nullable = false)
+  private boolean deleted = false;
 
   private LocalDateTime createdAt;
   private LocalDateTime updatedAt;
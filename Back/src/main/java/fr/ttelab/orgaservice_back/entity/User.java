@@ -12,7 +12,9 @@ import java.util.UUID;
 
 
 @Entity
-@Table(name = "app_user")
+@Table(name = "app_user",
+    // Expiration des licences : balayage des comptes ACTIVE par date de fin
+    indexes = @Index(name = "idx_app_user_status_license", columnList = "status, end_license_date"))
 @Data
 public class User {
 
@@ -2,6 +2,7 @@ package fr.ttelab.orgaservice_back.repository;
 
 import fr.ttelab.orgaservice_back.entity.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -42,4 +43,13 @@ public interface CalendarEventRepository extends JpaRepository<CalendarEvent, UU
   // Trouver un événement par son ID et owner (pour sécurité)
   @Query("select e from CalendarEvent e where e.id = :id and e.owner = :owner")
   CalendarEvent findByIdAndOwner(@Param("id") UUID id, @Param("owner") User owner);
+
+  // Suppression logique (voir DeletionService)
+  @Modifying
+  @Query("update CalendarEvent e set e.deleted = true where e.project.id = :projectId")
+  int markDeletedByProjectId(@Param("projectId") UUID projectId);
+
+  @Modifying
+  @Query("update CalendarEvent e set e.deleted = true where e.client.id = :clientId")
+  int markDeletedByClientId(@Param("clientId") UUID clientId);
 }
@@ -2,6 +2,7 @@ package fr.ttelab.orgaservice_back.repository;
 
 import fr.ttelab.orgaservice_back.entity.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -30,5 +31,12 @@ public interface ChantierRepository extends JpaRepository<Chantier, UUID> {
       @Param("startDate") LocalDateTime startDate,
       @Param("endDate") LocalDateTime endDate);
 
-}
+  // Suppression logique (voir DeletionService)
+  @Modifying
+  @Query("update Chantier c set c.deleted = true where c.project.id = :projectId")
+  int markDeletedByProjectId(@Param("projectId") UUID projectId);
 
+  @Modifying
+  @Query("update Chantier c set c.deleted = true where c.client.id = :clientId")
+  int markDeletedByClientId(@Param("clientId") UUID clientId);
+}
@@ -4,10 +4,14 @@ import fr.ttelab.orgaservice_back.entity.Client;
 import fr.ttelab.orgaservice_back.entity.ClientStatus;
 import fr.ttelab.orgaservice_back.entity.ClientType;
 import fr.ttelab.orgaservice_back.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,6 +20,24 @@ public interface ClientRepository extends JpaRepository<Client, UUID> {
   @Query("select c from Client c where c.owner = :owner and (:search is null or lower(c.name) like lower(concat('%', :search, '%')))")
   List<Client> findByOwnerAndSearch(@Param("owner") User owner, @Param("search") String search);
 
+  /**
+   * Page de clients d'un propriétaire ; le tri vient du {@link Pageable} (voir {@code ClientsController.list}).
+   */
+  @Query(value = "select c from Client c where c.owner = :owner",
+      countQuery = "select count(c) from Client c where c.owner = :owner")
+  Page<Client> findPageByOwner(@Param("owner") User owner, Pageable pageable);
+
+  @Query("select distinct c from Client c left join fetch c.addresses where c.owner = :owner")
+  List<Client> findWithAddressesByOwner(@Param("owner") User owner);
+
+  @Query("select distinct c from Client c left join fetch c.addresses where c.id in :ids")
+  List<Client> findWithAddressesByIdIn(@Param("ids") Collection<UUID> ids);
+
   List<Client> findByOwnerAndStatus(User owner, ClientStatus status);
   List<Client> findByOwnerAndType(User owner, ClientType type);
+
+  // Suppression logique (voir DeletionService)
+  @Modifying
+  @Query("update Client c set c.deleted = true where c.id = :id")
+  int markDeleted(@Param("id") UUID id);
 }
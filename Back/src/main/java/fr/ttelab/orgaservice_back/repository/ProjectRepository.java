@@ -4,6 +4,9 @@ import fr.ttelab.orgaservice_back.entity.Project;
 import fr.ttelab.orgaservice_back.entity.ProjectStatus;
 import fr.ttelab.orgaservice_back.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +18,13 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
   List<Project> findByOwnerAndStatus(User owner, ProjectStatus status);
   List<Project> findByOwnerAndClient_Id(User owner, UUID clientId);
   List<Project> findByOwnerAndClient_IdAndStatus(User owner, UUID clientId, ProjectStatus status);
+
+  // Suppression logique (voir DeletionService)
+  @Modifying
+  @Query("update Project p set p.deleted = true where p.id = :id")
+  int markDeleted(@Param("id") UUID id);
+
+  @Modifying
+  @Query("update Project p set p.deleted = true where p.client.id = :clientId")
+  int markDeletedByClientId(@Param("clientId") UUID clientId);
 }
@@ -1,14 +1,27 @@
 package fr.ttelab.orgaservice_back.repository;
 
 import fr.ttelab.orgaservice_back.entity.Remark;
-import fr.ttelab.orgaservice_back.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface RemarkRepository extends JpaRepository<Remark, UUID> {
-  List<Remark> findByClient_IdAndOwner_Id(UUID clientId, UUID owner);
+  /**
+   * Page de remarques d'un client ; le tri vient du {@link Pageable} (voir {@code RemarksController.list}).
+   */
+  @Query(value = "select r from Remark r where r.client.id = :clientId and r.owner.id = :ownerId",
+      countQuery = "select count(r) from Remark r where r.client.id = :clientId and r.owner.id = :ownerId")
+  Page<Remark> findPageByClient(@Param("clientId") UUID clientId, @Param("ownerId") UUID ownerId, Pageable pageable);
+
+  // Suppression logique (voir DeletionService)
+  @Modifying
+  @Query("update Remark r set r.deleted = true where r.client.id = :clientId")
+  int markDeletedByClientId(@Param("clientId") UUID clientId);
 }
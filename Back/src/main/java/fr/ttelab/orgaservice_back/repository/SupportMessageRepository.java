@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,10 +22,12 @@ public interface SupportMessageRepository extends JpaRepository<SupportMessage,
   long countByUserAndFromAdminFalseAndReadByAdminFalse(User user);
 
   @Modifying
+  @Transactional
   @Query("UPDATE SupportMessage m SET m.readByUser = true WHERE m.user = :user AND m.fromAdmin = true")
   void markAllAdminMessagesAsReadByUser(@Param("user") User user);
 
   @Modifying
+  @Transactional
   @Query("UPDATE SupportMessage m SET m.readByAdmin = true WHERE m.user = :user AND m.fromAdmin = false")
   void markAllUserMessagesAsReadByAdmin(@Param("user") User user);
 
@@ -1,9 +1,15 @@
 package fr.ttelab.orgaservice_back.repository;
 
 import fr.ttelab.orgaservice_back.entity.User;
+import fr.ttelab.orgaservice_back.entity.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,4 +29,23 @@ public interface UserRepository  extends JpaRepository<User, UUID> {
 
   Optional<User> findByStripeSubscriptionId(String stripeSubscriptionId);
 
+  // Statistiques admin (agrégées shard par shard)
+  long countByStatus(UserStatus status);
+
+  @Query("select count(u) from User u where u.stripeSubscriptionId is not null and u.stripeSubscriptionId <> ''")
+  long countWithSubscription();
+
+  @Query("select count(u) from User u where u.endLicenseDate > :from and u.endLicenseDate < :to")
+  long countLicensesEndingBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  // Expiration des licences (index status, end_license_date)
+  @Query("select u.username from User u where u.status = :status and u.endLicenseDate < :today")
+  List<String> findUsernamesByStatusAndLicenseEndedBefore(@Param("status") UserStatus status,
+                                                          @Param("today") LocalDate today);
+
+  @Modifying
+  @Query("update User u set u.status = :newStatus where u.status = :status and u.endLicenseDate < :today")
+  int updateStatusWhereLicenseEndedBefore(@Param("status") UserStatus status, @Param("newStatus") UserStatus newStatus,
+                                          @Param("today") LocalDate today);
+
 }
@@ -0,0 +1,122 @@
+package fr.ttelab.orgaservice_back.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Encodeur BCrypt dont les calculs s'exécutent sur un pool borné : une rafale de connexions
+ * ne peut pas occuper plus de {@code threads} cœurs, les autres requêtes gardent du CPU.
+ * <p>
+ * {@link #upgradeEncoding(String)} signale tout hash dont le coût diffère du coût configuré,
+ * pour que le mot de passe soit réencodé à la connexion suivante.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  /**
+   * Le pool de vérification est saturé ou la vérification a dépassé le délai.
+   */
+  public static class PasswordVerificationUnavailableException extends RuntimeException {
+    public PasswordVerificationUnavailableException(String message) {
+      super(message);
+    }
+  }
+
+  private final BCryptPasswordEncoder delegate;
+  private final int strength;
+  private final ThreadPoolExecutor executor;
+  private final long timeoutMs;
+  private final Timer matchTimer;
+  private final Timer mismatchTimer;
+  private final Timer encodeTimer;
+
+  public BoundedPasswordEncoder(int strength, int threads, int maxQueued, long timeoutMs,
+                                MeterRegistry meterRegistry) {
+    this.delegate = new BCryptPasswordEncoder(strength);
+    this.strength = strength;
+    this.timeoutMs = timeoutMs;
+
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(maxQueued),
+        runnable -> {
+          Thread thread = new Thread(runnable, "bcrypt-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+
+    this.matchTimer = Timer.builder("auth.password.verify").tag("outcome", "match").register(meterRegistry);
+    this.mismatchTimer = Timer.builder("auth.password.verify").tag("outcome", "mismatch").register(meterRegistry);
+    this.encodeTimer = Timer.builder("auth.password.encode").register(meterRegistry);
+    Gauge.builder("auth.password.pool.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    Gauge.builder("auth.password.pool.queued", executor, e -> e.getQueue().size()).register(meterRegistry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return run(() -> {
+      long start = System.nanoTime();
+      String encoded = delegate.encode(rawPassword);
+      encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return encoded;
+    });
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return run(() -> {
+      long start = System.nanoTime();
+      boolean matches = delegate.matches(rawPassword, encodedPassword);
+      (matches ? matchTimer : mismatchTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      return matches;
+    });
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    // Format BCrypt : $2a$10$... ; le coût est sur les deux chiffres après le second '$'
+    if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+      return false;
+    }
+    try {
+      return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
+  private <T> T run(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (RejectedExecutionException e) {
+      throw new PasswordVerificationUnavailableException("Too many concurrent password checks");
+    }
+    try {
+      return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      throw new PasswordVerificationUnavailableException("Password check timed out");
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new PasswordVerificationUnavailableException("Interrupted during password check");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
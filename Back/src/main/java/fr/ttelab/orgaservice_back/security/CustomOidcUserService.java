@@ -1,5 +1,6 @@
 package fr.ttelab.orgaservice_back.security;
 
+import fr.ttelab.orgaservice_back.config.ShardRouter;
 import fr.ttelab.orgaservice_back.entity.User;
 import fr.ttelab.orgaservice_back.entity.UserStatus;
 import fr.ttelab.orgaservice_back.repository.UserRepository;
@@ -17,11 +18,14 @@ public class CustomOidcUserService extends OidcUserService {
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private ShardRouter shardRouter;
+
   @Override
   public OidcUser loadUser(OidcUserRequest userRequest)  {
     OidcUser  oauth2User = super.loadUser(userRequest);
     String email = oauth2User.getAttribute("email");
-
+    shardRouter.bindFor(email);
 
     User user = userRepository.findByEmail(email).orElse(null);
     if (user==null ) {
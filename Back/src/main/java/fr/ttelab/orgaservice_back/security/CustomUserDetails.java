@@ -9,30 +9,66 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Implémentation personnalisée de UserDetails pour encapsuler l'entité User.
+ * Construit depuis les claims d'un JWT, il ne porte que username, id et statut : l'utilisateur n'est chargé
+ * qu'au premier appel de {@link #getUser()}.
  */
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private User user;
+    private final String username;
+    private final UUID userId;
+    private final UserStatus status;
+    private final Supplier<User> userLoader;
 
     public CustomUserDetails(User user) {
         this.user = user;
+        this.username = user.getUsername();
+        this.userId = user.getId();
+        this.status = user.getStatus();
+        this.userLoader = null;
+    }
+
+    public CustomUserDetails(String username, UUID userId, UserStatus status, Supplier<User> userLoader) {
+        this.username = username;
+        this.userId = userId;
+        this.status = status;
+        this.userLoader = userLoader;
     }
 
     public User getUser() {
+        if (user == null && userLoader != null) {
+            user = userLoader.get();
+        }
         return user;
     }
 
+    /**
+     * Id du propriétaire (tenant), connu sans charger l'utilisateur.
+     */
+    public UUID getUserId() {
+        return userId;
+    }
+
+    /**
+     * Statut d'autorisation, connu sans charger l'utilisateur.
+     */
+    public UserStatus getStatus() {
+        return status;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         List<GrantedAuthority> authorities = new ArrayList<>();
         // Ajouter le rôle correspondant au statut
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getStatus().name()));
+        authorities.add(new SimpleGrantedAuthority("ROLE_" + status.name()));
 
         // Les admins ont aussi le rôle ACTIVE pour accéder à toutes les fonctionnalités
-        if (user.getStatus() == UserStatus.ADMIN) {
+        if (status == UserStatus.ADMIN) {
             authorities.add(new SimpleGrantedAuthority("ROLE_ACTIVE"));
         }
 
@@ -41,12 +77,12 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return getUser().getPassword();
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
     }
 
     @Override
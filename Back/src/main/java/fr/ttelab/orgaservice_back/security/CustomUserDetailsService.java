@@ -1,10 +1,12 @@
 package fr.ttelab.orgaservice_back.security;
 
 
+import fr.ttelab.orgaservice_back.config.ShardRouter;
 import fr.ttelab.orgaservice_back.entity.User;
 import fr.ttelab.orgaservice_back.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -13,18 +15,55 @@ import org.springframework.stereotype.Service;
  * Service chargé de charger un utilisateur depuis la base pour Spring Security.
  */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private PrincipalCache principalCache;
+
+    /**
+     * Point d'entrée de toute requête authentifiée (login et JWT) : la requête est associée
+     * ici au shard du tenant, avant la première lecture.
+     * L'utilisateur est servi par le {@link PrincipalCache} tant que son entrée est fraîche.
+     */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                                  .orElseThrow(() -> new UsernameNotFoundException("Utilisateur non trouvé: " + username));
+        shardRouter.bindFor(username);
+        return principalCache.get(username, key -> {
+            User user = userRepository.findByUsername(key)
+                                      .orElseThrow(() -> new UsernameNotFoundException("Utilisateur non trouvé: " + key));
+            return new CustomUserDetails(user);
+        });
+    }
+
+    /**
+     * Réencodage à la connexion quand le coût BCrypt configuré a changé (appelé par DaoAuthenticationProvider).
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                                  .orElseThrow(() -> new UsernameNotFoundException("Utilisateur non trouvé: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        principalCache.invalidate(user.getUsername());
         return new CustomUserDetails(user);
     }
 
+    /**
+     * Principal construit à partir des claims d'un token dont la version d'autorisation est courante :
+     * aucune lecture en base, l'utilisateur n'est chargé que si le contrôleur en a besoin.
+     */
+    public UserDetails loadFromClaims(VerifiedJwt jwt) {
+        shardRouter.bindFor(jwt.username());
+        return new CustomUserDetails(jwt.username(), jwt.userId(), jwt.status(),
+            () -> ((CustomUserDetails) loadUserByUsername(jwt.username())).getUser());
+    }
+
 
 
 }
@@ -24,11 +24,14 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
   private CustomUserDetailsService customUserDetailsService;
 
+  private TokenVersionRegistry tokenVersions;
 
 
-  public JwtRequestFilter(JwtUtil jwtUtil, CustomUserDetailsService customUserDetailsService) {
+  public JwtRequestFilter(JwtUtil jwtUtil, CustomUserDetailsService customUserDetailsService,
+                          TokenVersionRegistry tokenVersions) {
     this.jwtUtil = jwtUtil;
     this.customUserDetailsService = customUserDetailsService;
+    this.tokenVersions = tokenVersions;
   }
 
   @Override
@@ -38,24 +41,31 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         // Récupérer le token JWT depuis l'en-tête Authorization
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        VerifiedJwt verified = null;
 
         try {
 
           if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            username = jwtUtil.extractUsername(jwt);
+            // Signature et expiration vérifiées une seule fois ici
+            verified = jwtUtil.verify(authorizationHeader.substring(7));
           }
-          if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-            if (jwtUtil.validateToken(jwt, userDetails.getUsername())) {
-              UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
-                  userDetails, null, userDetails.getAuthorities());
-              usernamePasswordAuthenticationToken
-                  .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-              SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+          if (verified != null && verified.username() != null
+              && SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Version courante et claims récents ou confirmés : autorisation depuis les claims seuls ;
+            // sinon statut relu en base, qui reconfirme les claims s'il est inchangé
+            UserDetails userDetails;
+            if (tokenVersions.isCurrent(verified)) {
+              userDetails = customUserDetailsService.loadFromClaims(verified);
+            } else {
+              CustomUserDetails loaded = (CustomUserDetails) customUserDetailsService.loadUserByUsername(verified.username());
+              tokenVersions.confirm(verified, loaded.getStatus());
+              userDetails = loaded;
             }
+            UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(
+                userDetails, null, userDetails.getAuthorities());
+            usernamePasswordAuthenticationToken
+                .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
           }
         } catch (ExpiredJwtException e) {
           log.warn("JWT token expiré: {}", e.getMessage());
@@ -1,43 +1,82 @@
 package fr.ttelab.orgaservice_back.security;
 
+import fr.ttelab.orgaservice_back.entity.User;
+import fr.ttelab.orgaservice_back.entity.UserStatus;
+import fr.ttelab.orgaservice_back.util.ExpiringLruCache;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
 
 @Component
 public class JwtUtil {
 
+  static final String STATUS_CLAIM = "status";
+  static final String TOKEN_VERSION_CLAIM = "tv";
+  static final String USER_ID_CLAIM = "uid";
 
+  private final String secret;
+  private final JwtParser parser;
+  private final TokenVersionRegistry tokenVersions;
 
-  @Value("${jwt.secret}")
-  private String secret ;
+  // Tokens déjà vérifiés, indexés par empreinte SHA-256 et gardés jusqu'à leur expiration
+  private final ExpiringLruCache<String, VerifiedJwt> verifiedTokens;
 
-  public String extractUsername(String token) {
-    return extractClaim(token, Claims::getSubject);
+  public JwtUtil(@Value("${jwt.secret}") String secret,
+                 @Value("${jwt.verifiedCacheMaxSize:10000}") int verifiedCacheMaxSize,
+                 TokenVersionRegistry tokenVersions) {
+    this.secret = secret;
+    this.tokenVersions = tokenVersions;
+    this.parser = Jwts.parserBuilder().setSigningKey(secret).build();
+    this.verifiedTokens = verifiedCacheMaxSize > 0 ? new ExpiringLruCache<>(verifiedCacheMaxSize) : null;
   }
 
-  public Date extractExpiration(String token) {
-    return extractClaim(token, Claims::getExpiration);
+  /**
+   * Vérifie signature et expiration du token (une seule fois tant qu'il est en cache) et retourne ses claims.
+   *
+   * @throws io.jsonwebtoken.ExpiredJwtException si le token a expiré
+   * @throws io.jsonwebtoken.JwtException si le token est invalide
+   */
+  public VerifiedJwt verify(String token) {
+    if (verifiedTokens == null) {
+      return parse(token);
+    }
+    String key = fingerprint(token);
+    VerifiedJwt verified = verifiedTokens.get(key);
+    if (verified == null) {
+      verified = parse(token);
+      verifiedTokens.put(key, verified, verified.expiration().getTime());
+    }
+    return verified;
   }
 
-  public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-    final Claims claims = extractAllClaims(token);
-    return claimsResolver.apply(claims);
+  private VerifiedJwt parse(String token) {
+    Claims claims = parser.parseClaimsJws(token).getBody();
+    String status = claims.get(STATUS_CLAIM, String.class);
+    String userId = claims.get(USER_ID_CLAIM, String.class);
+    return new VerifiedJwt(claims.getSubject(), userId != null ? UUID.fromString(userId) : null,
+        status != null ? UserStatus.valueOf(status) : null,
+        claims.get(TOKEN_VERSION_CLAIM, String.class), claims.getIssuedAt(), claims.getExpiration(), claims);
   }
 
-  private Claims extractAllClaims(String token) {
-    return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
-  }
-
-  private Boolean isTokenExpired(String token) {
-    return extractExpiration(token).before(new Date());
+  private static String fingerprint(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
   }
 
   public String generateToken(String username) {
@@ -45,6 +84,18 @@ public class JwtUtil {
     return createToken(claims, username);
   }
 
+  /**
+   * Token portant l'id et le statut de l'utilisateur et sa version d'autorisation courante :
+   * les requêtes suivantes sont autorisées sans relire l'utilisateur tant que cette version n'est pas révoquée.
+   */
+  public String generateToken(User user) {
+    Map<String, Object> claims = new HashMap<>();
+    claims.put(USER_ID_CLAIM, user.getId().toString());
+    claims.put(STATUS_CLAIM, user.getStatus().name());
+    claims.put(TOKEN_VERSION_CLAIM, tokenVersions.currentVersion(user.getUsername()));
+    return createToken(claims, user.getUsername());
+  }
+
   private String createToken(Map<String, Object> claims, String subject) {
     return Jwts.builder()
                .setClaims(claims)
@@ -53,9 +104,4 @@ public class JwtUtil {
                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
                .signWith(SignatureAlgorithm.HS256, secret).compact();
   }
-
-  public Boolean validateToken(String token, String username) {
-    final String extractedUsername = extractUsername(token);
-    return (extractedUsername.equals(username) && !isTokenExpired(token));
-  }
-}
\ No newline at end of file
+}
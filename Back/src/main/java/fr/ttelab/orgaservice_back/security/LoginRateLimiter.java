@@ -0,0 +1,74 @@
+package fr.ttelab.orgaservice_back.security;
+
+import fr.ttelab.orgaservice_back.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limite les tentatives de connexion par adresse IP et par compte, avant toute vérification BCrypt.
+ * Les seaux pleins (inactifs) sont purgés quand le nombre de clés suivies dépasse {@code maxTrackedKeys}.
+ */
+@Component
+public class LoginRateLimiter {
+
+  private final ConcurrentHashMap<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+  private final int ipBurst;
+  private final double ipPerMinute;
+  private final int accountBurst;
+  private final double accountPerMinute;
+  private final int maxTrackedKeys;
+  private final Counter ipThrottled;
+  private final Counter accountThrottled;
+
+  public LoginRateLimiter(MeterRegistry meterRegistry,
+                          @Value("${security.login.ipBurst:30}") int ipBurst,
+                          @Value("${security.login.ipPerMinute:120}") double ipPerMinute,
+                          @Value("${security.login.accountBurst:5}") int accountBurst,
+                          @Value("${security.login.accountPerMinute:6}") double accountPerMinute,
+                          @Value("${security.login.maxTrackedKeys:100000}") int maxTrackedKeys) {
+    this.ipBurst = ipBurst;
+    this.ipPerMinute = ipPerMinute;
+    this.accountBurst = accountBurst;
+    this.accountPerMinute = accountPerMinute;
+    this.maxTrackedKeys = maxTrackedKeys;
+    this.ipThrottled = Counter.builder("auth.login.throttled").tag("scope", "ip").register(meterRegistry);
+    this.accountThrottled = Counter.builder("auth.login.throttled").tag("scope", "account").register(meterRegistry);
+  }
+
+  /**
+   * @return 0 si la tentative est autorisée, sinon le nombre de secondes à attendre (Retry-After)
+   */
+  public long tryAcquire(String ip, String account) {
+    long wait = bucket(ipBuckets, ip, ipBurst, ipPerMinute).tryConsume();
+    if (wait > 0) {
+      ipThrottled.increment();
+      return toSeconds(wait);
+    }
+    if (account != null) {
+      wait = bucket(accountBuckets, account.toLowerCase(), accountBurst, accountPerMinute).tryConsume();
+      if (wait > 0) {
+        accountThrottled.increment();
+        return toSeconds(wait);
+      }
+    }
+    return 0;
+  }
+
+  private TokenBucket bucket(ConcurrentHashMap<String, TokenBucket> buckets, String key, int burst,
+                             double perMinute) {
+    if (buckets.size() > maxTrackedKeys) {
+      buckets.values().removeIf(TokenBucket::isIdle);
+    }
+    return buckets.computeIfAbsent(key, k -> new TokenBucket(burst, perMinute));
+  }
+
+  private static long toSeconds(long nanos) {
+    return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(nanos + TimeUnit.SECONDS.toNanos(1) - 1));
+  }
+}
@@ -0,0 +1,45 @@
+package fr.ttelab.orgaservice_back.security;
+
+import fr.ttelab.orgaservice_back.util.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Cache court des utilisateurs authentifiés, indexé par username : une requête JWT ne relit pas
+ * l'utilisateur en base tant que l'entrée est fraîche.
+ * <p>
+ * Toute modification du profil, du statut ou de la licence d'un utilisateur doit appeler {@link #invalidate(String)}.
+ * Les {@link CustomUserDetails} mis en cache sont partagés entre requêtes : l'utilisateur qu'ils portent
+ * ne doit pas être modifié, il faut le relire depuis le repository pour une mise à jour.
+ */
+@Component
+public class PrincipalCache {
+
+  private final ExpiringLruCache<String, CustomUserDetails> cache;
+  private final long ttlMs;
+
+  public PrincipalCache(@Value("${security.principalCacheMaxSize:10000}") int maxSize,
+                        @Value("${security.principalCacheTtlMs:30000}") long ttlMs) {
+    this.cache = new ExpiringLruCache<>(maxSize);
+    this.ttlMs = ttlMs;
+  }
+
+  public CustomUserDetails get(String username, Function<String, CustomUserDetails> loader) {
+    if (ttlMs <= 0) {
+      return loader.apply(username);
+    }
+    return cache.get(username.toLowerCase(), key -> loader.apply(username), System.currentTimeMillis() + ttlMs);
+  }
+
+  public void invalidate(String username) {
+    if (username != null) {
+      cache.invalidate(username.toLowerCase());
+    }
+  }
+
+  public void invalidateAll() {
+    cache.clear();
+  }
+}
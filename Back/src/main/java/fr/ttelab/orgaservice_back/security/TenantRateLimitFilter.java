@@ -0,0 +1,60 @@
+package fr.ttelab.orgaservice_back.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Applique le budget du tenant authentifié, juste après {@link JwtRequestFilter}.
+ * Les requêtes anonymes passent : le login a son propre limiteur.
+ */
+public class TenantRateLimitFilter extends OncePerRequestFilter {
+
+  private final TenantRateLimiter rateLimiter;
+
+  public TenantRateLimitFilter(TenantRateLimiter rateLimiter) {
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    if (authentication != null && authentication.isAuthenticated()
+        && authentication.getPrincipal() instanceof CustomUserDetails principal) {
+      TenantRateLimiter.Budget budget = rateLimiter.budgetFor(request.getMethod(), request.getRequestURI());
+      long retryAfter = rateLimiter.tryAcquire(principal.getUserId(), budget);
+      if (retryAfter > 0) {
+        sendTooManyRequests(response, retryAfter);
+        return;
+      }
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !request.getRequestURI().startsWith("/api/");
+  }
+
+  private void sendTooManyRequests(HttpServletResponse response, long retryAfter) throws IOException {
+    // Headers CORS pour que le frontend puisse lire la réponse
+    response.setHeader("Access-Control-Allow-Origin", "*");
+    response.setHeader("Access-Control-Expose-Headers", "Retry-After");
+    response.setHeader("Retry-After", String.valueOf(retryAfter));
+    response.setStatus(429);
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setCharacterEncoding("UTF-8");
+    response.getWriter().write(String.format(
+        "{\"error\": \"RATE_LIMITED\", \"message\": \"Trop de requêtes, réessayez dans %d s\", \"status\": 429}",
+        retryAfter));
+    response.getWriter().flush();
+  }
+}
@@ -0,0 +1,155 @@
+package fr.ttelab.orgaservice_back.security;
+
+import fr.ttelab.orgaservice_back.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Budget de requêtes par tenant (id du propriétaire), séparé entre opérations lourdes (création de projet,
+ * exports, imports) et requêtes légères.
+ * <p>
+ * Chaque tenant actif a ses propres seaux, dans une map bornée à {@code maxTrackedTenants} : au-delà, les seaux
+ * pleins (tenants inactifs) sont purgés, comme dans {@link LoginRateLimiter}. Si la map reste pleine de tenants
+ * actifs, les nouveaux venus sont répartis sur un tableau fixe de seaux partagés ({@code overflowStripes}) :
+ * deux tenants sur le même seau y partagent leur budget, et l'un peut limiter l'autre. Ce débordement est
+ * compté ({@code api.ratelimit.overflow}) : s'il n'est pas nul, relever {@code maxTrackedTenants}.
+ */
+@Component
+public class TenantRateLimiter {
+
+  public enum Budget {
+    LIGHT, HEAVY
+  }
+
+  private record HeavyRoute(String method, String pathPrefix) {
+  }
+
+  private record Buckets(TokenBucket light, TokenBucket heavy) {
+    boolean isIdle() {
+      return light.isIdle() && heavy.isIdle();
+    }
+  }
+
+  private static final long PURGE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final ConcurrentHashMap<UUID, Buckets> tenants = new ConcurrentHashMap<>();
+  private final Buckets[] overflow;
+  private final int mask;
+  private final int maxTrackedTenants;
+  private final int lightBurst;
+  private final double lightPerMinute;
+  private final int heavyBurst;
+  private final double heavyPerMinute;
+  private final List<HeavyRoute> heavyRoutes;
+  private final Counter lightRejected;
+  private final Counter heavyRejected;
+  private final Counter overflowed;
+  private volatile long lastPurge = System.nanoTime() - PURGE_INTERVAL_NANOS;
+
+  public TenantRateLimiter(MeterRegistry meterRegistry,
+                           @Value("${security.rateLimit.maxTrackedTenants:100000}") int maxTrackedTenants,
+                           @Value("${security.rateLimit.overflowStripes:1024}") int overflowStripes,
+                           @Value("${security.rateLimit.lightBurst:100}") int lightBurst,
+                           @Value("${security.rateLimit.lightPerMinute:600}") double lightPerMinute,
+                           @Value("${security.rateLimit.heavyBurst:10}") int heavyBurst,
+                           @Value("${security.rateLimit.heavyPerMinute:60}") double heavyPerMinute,
+                           @Value("${security.rateLimit.heavyRoutes:POST /api/projects,* /api/exports,POST /api/clients/import,"
+                               + "POST /api/remarks/upload,PATCH /api/remarks/uploads}")
+                           List<String> heavyRoutes) {
+    this.maxTrackedTenants = maxTrackedTenants;
+    this.lightBurst = lightBurst;
+    this.lightPerMinute = lightPerMinute;
+    this.heavyBurst = heavyBurst;
+    this.heavyPerMinute = heavyPerMinute;
+    int size = overflowStripes <= 1 ? 1 : Integer.highestOneBit(overflowStripes - 1) << 1;
+    this.mask = size - 1;
+    this.overflow = new Buckets[size];
+    for (int i = 0; i < size; i++) {
+      overflow[i] = newBuckets();
+    }
+    this.heavyRoutes = heavyRoutes.stream()
+        .map(String::trim)
+        .map(route -> route.split("\\s+", 2))
+        .map(parts -> new HeavyRoute(parts[0], parts[1]))
+        .toList();
+    this.lightRejected = Counter.builder("api.ratelimit.rejected").tag("budget", "light").register(meterRegistry);
+    this.heavyRejected = Counter.builder("api.ratelimit.rejected").tag("budget", "heavy").register(meterRegistry);
+    this.overflowed = Counter.builder("api.ratelimit.overflow").register(meterRegistry);
+  }
+
+  public Budget budgetFor(String method, String path) {
+    for (HeavyRoute route : heavyRoutes) {
+      if ((route.method().equals("*") || route.method().equalsIgnoreCase(method))
+          && path.startsWith(route.pathPrefix())) {
+        return Budget.HEAVY;
+      }
+    }
+    return Budget.LIGHT;
+  }
+
+  /**
+   * @return 0 si la requête est acceptée, sinon le nombre de secondes à attendre (Retry-After)
+   */
+  public long tryAcquire(UUID ownerId, Budget budget) {
+    Buckets buckets = bucketsFor(ownerId);
+    long wait = (budget == Budget.HEAVY ? buckets.heavy() : buckets.light()).tryConsume();
+    if (wait == 0) {
+      return 0;
+    }
+    (budget == Budget.HEAVY ? heavyRejected : lightRejected).increment();
+    return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+  }
+
+  /**
+   * Nombre de tenants ayant leurs propres seaux.
+   */
+  public int trackedTenants() {
+    return tenants.size();
+  }
+
+  private Buckets bucketsFor(UUID ownerId) {
+    Buckets buckets = tenants.get(ownerId);
+    if (buckets != null) {
+      return buckets;
+    }
+    if (tenants.size() >= maxTrackedTenants) {
+      purgeIdle();
+      if (tenants.size() >= maxTrackedTenants) {
+        overflowed.increment();
+        return overflow[spread(ownerId.hashCode()) & mask];
+      }
+    }
+    return tenants.computeIfAbsent(ownerId, id -> newBuckets());
+  }
+
+  // Au plus une purge par seconde : une map pleine de tenants actifs ne déclenche pas un parcours par requête
+  private void purgeIdle() {
+    long now = System.nanoTime();
+    long last = lastPurge;
+    if (now - last < PURGE_INTERVAL_NANOS) {
+      return;
+    }
+    synchronized (this) {
+      if (lastPurge != last) {
+        return;
+      }
+      tenants.values().removeIf(Buckets::isIdle);
+      lastPurge = System.nanoTime();
+    }
+  }
+
+  private Buckets newBuckets() {
+    return new Buckets(new TokenBucket(lightBurst, lightPerMinute), new TokenBucket(heavyBurst, heavyPerMinute));
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,89 @@
+package fr.ttelab.orgaservice_back.security;
+
+import fr.ttelab.orgaservice_back.entity.UserStatus;
+import fr.ttelab.orgaservice_back.util.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Version d'autorisation de chaque utilisateur, portée par ses JWT (claim {@code tv}).
+ * <p>
+ * Un token dont la version est courante est autorisé à partir de ses seuls claims (statut), sans lecture en base.
+ * Tout changement de statut ou de licence appelle {@link #revoke(String)} : les tokens déjà émis deviennent
+ * périmés et la requête retombe sur le chargement de l'utilisateur (statut réel en base).
+ * <p>
+ * La version est préfixée par une époque tirée au démarrage : après un redémarrage, ou sur une autre instance,
+ * les tokens émis ailleurs passent toujours par la base.
+ * <p>
+ * Hypothèse d'instance unique : les versions sont en mémoire et {@link #revoke(String)} n'est pas propagé. Si
+ * plusieurs instances tournent, un changement de statut traité par l'une n'est pas vu par celle qui a émis le
+ * token. La confiance dans les claims est donc bornée à {@code security.claimsTrustMs} : au-delà, le statut du
+ * token doit avoir été confirmé en base depuis moins de cette durée ({@link #confirm(VerifiedJwt, UserStatus)}).
+ * Un changement de statut fait sur une autre instance est ainsi appliqué au plus tard après
+ * {@code security.claimsTrustMs + security.principalCacheTtlMs}.
+ */
+@Component
+public class TokenVersionRegistry {
+
+  private final String epoch = HexFormat.of().formatHex(new SecureRandom().generateSeed(6));
+  private final ConcurrentHashMap<String, Integer> versions = new ConcurrentHashMap<>();
+  private final ExpiringLruCache<String, UserStatus> confirmed;
+  private final long claimsTrustMs;
+
+  public TokenVersionRegistry(@Value("${security.claimsTrustMs:300000}") long claimsTrustMs,
+                              @Value("${security.claimsTrustMaxSize:10000}") int maxSize) {
+    this.claimsTrustMs = claimsTrustMs;
+    this.confirmed = new ExpiringLruCache<>(maxSize);
+  }
+
+  public String currentVersion(String username) {
+    return epoch + "." + versions.getOrDefault(key(username), 0);
+  }
+
+  /**
+   * Vrai si le token peut être autorisé depuis ses seuls claims : version courante, et token récent ou statut
+   * confirmé en base depuis moins de {@code security.claimsTrustMs}.
+   */
+  public boolean isCurrent(VerifiedJwt jwt) {
+    if (!hasCurrentVersion(jwt)) {
+      return false;
+    }
+    if (jwt.issuedAt() != null && System.currentTimeMillis() - jwt.issuedAt().getTime() < claimsTrustMs) {
+      return true;
+    }
+    return jwt.status() == confirmed.get(key(jwt.username()));
+  }
+
+  /**
+   * Enregistre le statut lu en base pour l'utilisateur du token : s'il correspond aux claims d'un token de
+   * version courante, ceux-ci sont de nouveau crus pendant {@code security.claimsTrustMs}.
+   */
+  public void confirm(VerifiedJwt jwt, UserStatus status) {
+    if (claimsTrustMs > 0 && status != null && status == jwt.status() && hasCurrentVersion(jwt)) {
+      confirmed.put(key(jwt.username()), status, System.currentTimeMillis() + claimsTrustMs);
+    }
+  }
+
+  /**
+   * Périme les tokens émis jusqu'ici pour cet utilisateur.
+   */
+  public void revoke(String username) {
+    if (username != null) {
+      versions.merge(key(username), 1, Integer::sum);
+      confirmed.invalidate(key(username));
+    }
+  }
+
+  private boolean hasCurrentVersion(VerifiedJwt jwt) {
+    return jwt.tokenVersion() != null && jwt.status() != null && jwt.userId() != null
+        && jwt.tokenVersion().equals(currentVersion(jwt.username()));
+  }
+
+  private static String key(String username) {
+    return username.toLowerCase();
+  }
+}
@@ -0,0 +1,19 @@
+package fr.ttelab.orgaservice_back.security;
+
+import fr.ttelab.orgaservice_back.entity.UserStatus;
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.UUID;
+
+/**
+ * Claims d'un JWT dont la signature et l'expiration ont été vérifiées une fois par {@link JwtUtil#verify(String)}.
+ * {@code userId}, {@code status} et {@code tokenVersion} sont nuls pour les tokens émis sans claims d'autorisation.
+ */
+public record VerifiedJwt(String username, UUID userId, UserStatus status, String tokenVersion,
+                          Date issuedAt, Date expiration, Claims claims) {
+
+  public boolean isExpired() {
+    return expiration.before(new Date());
+  }
+}
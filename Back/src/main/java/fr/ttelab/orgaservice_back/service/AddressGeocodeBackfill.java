@@ -0,0 +1,114 @@
+package fr.ttelab.orgaservice_back.service;
+
+import fr.ttelab.orgaservice_back.entity.GeoPrecision;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Géocode les adresses qui ne l'ont jamais été (créées avant l'ajout des coordonnées ou insérées en SQL
+ * par le seeder). Une adresse introuvable est marquée {@code inconnue}.
+ * <p>
+ * Les adresses situées seulement au département ou introuvables sont retentées à chaque démarrage : elles
+ * gagnent en précision dès qu'un jeu de données plus complet est déployé (voir Geocoder). Le nombre d'adresses
+ * restées au département, exclues des recherches de proximité, est ensuite journalisé.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AddressGeocodeBackfill {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ShardedQueryService shardedQueryService;
+  private final PlatformTransactionManager transactionManager;
+  private final Geocoder geocoder;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    // Une transaction par tranche : les tranches déjà traitées sont validées même si la suite échoue
+    TransactionTemplate batchTransaction = new TransactionTemplate(transactionManager);
+    batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    int total = 0;
+    for (Integer updated : shardedQueryService.gather(() -> {
+      int count = 0;
+      // Parcours par clé : les adresses qui restent au département ne sont relues qu'une fois
+      UUID after = null;
+      Batch batch;
+      do {
+        UUID from = after;
+        batch = batchTransaction.execute(status -> geocodeBatch(from));
+        count += batch.updated();
+        after = batch.last();
+      } while (batch.size() == BATCH_SIZE);
+      return count;
+    })) {
+      total += updated;
+    }
+    if (total > 0) {
+      log.info("Coordonnées renseignées ou précisées pour {} adresse(s) existante(s)", total);
+    }
+    logPrecisions();
+  }
+
+  private record Batch(int size, int updated, UUID last) {
+  }
+
+  private Batch geocodeBatch(UUID after) {
+    List<Object[]> rows = new ArrayList<>();
+    UUID[] last = new UUID[1];
+    int[] size = new int[1];
+    jdbcTemplate.query("select id, postal_code, city, geo_precision from adress "
+            + "where (geo_precision is null or geo_precision in ('departement', 'inconnue'))"
+            + (after == null ? "" : " and id > ?") + " order by id limit " + BATCH_SIZE,
+        rs -> {
+          size[0]++;
+          last[0] = rs.getObject("id", UUID.class);
+          Geocoder.Location location = geocoder.geocode(rs.getString("postal_code"), rs.getString("city"));
+          GeoPrecision precision = location == null ? GeoPrecision.inconnue : location.precision();
+          if (precision.name().equals(rs.getString("geo_precision"))) {
+            return;
+          }
+          rows.add(location == null
+              ? new Object[]{null, null, null, GeoPrecision.inconnue.name(), last[0]}
+              : new Object[]{location.latitude(), location.longitude(), location.geohash(),
+                  location.precision().name(), last[0]});
+        }, after == null ? new Object[0] : new Object[]{after});
+    if (!rows.isEmpty()) {
+      jdbcTemplate.batchUpdate("update adress set latitude = ?, longitude = ?, geohash = ?, geo_precision = ? "
+          + "where id = ?", rows);
+    }
+    return new Batch(size[0], rows.size(), last[0]);
+  }
+
+  private void logPrecisions() {
+    Map<String, Long> counts = new TreeMap<>();
+    for (List<Map<String, Object>> shardCounts : shardedQueryService.gather(() -> jdbcTemplate.queryForList(
+        "select geo_precision, count(*) as total from adress group by geo_precision"))) {
+      for (Map<String, Object> row : shardCounts) {
+        counts.merge(String.valueOf(row.get("geo_precision")), ((Number) row.get("total")).longValue(), Long::sum);
+      }
+    }
+    long coarse = counts.getOrDefault(GeoPrecision.departement.name(), 0L);
+    long total = counts.values().stream().mapToLong(Long::longValue).sum();
+    if (coarse > 0) {
+      log.warn("{} adresse(s) sur {} situées seulement au département, absentes des recherches de proximité "
+          + "(précisions : {})", coarse, total, counts);
+    } else {
+      log.info("Précision du géocodage des adresses : {}", counts);
+    }
+  }
+}
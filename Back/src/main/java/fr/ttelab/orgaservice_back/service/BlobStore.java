@@ -0,0 +1,185 @@
+package fr.ttelab.orgaservice_back.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Stockage de fichiers sur disque adressé par contenu : un fichier est rangé sous son empreinte SHA-256
+ * ({@code ab/cd/abcd...}, deux niveaux de répertoires pour ne pas en accumuler des milliers dans un seul).
+ * <p>
+ * L'écriture passe par un fichier temporaire haché à la volée puis renommé atomiquement : un fichier présent
+ * sous son empreinte est toujours complet, et un contenu déjà stocké ne l'est pas une seconde fois.
+ */
+@Slf4j
+@Service
+public class BlobStore {
+
+  private static final int HASH_LENGTH = 64;
+
+  private final Path root;
+  private final Path tmp;
+
+  public BlobStore(@Value("${blobs.dir:data/blobs}") String dir) {
+    this.root = Path.of(dir).toAbsolutePath().normalize();
+    this.tmp = root.resolve("tmp");
+    try {
+      Files.createDirectories(tmp);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Répertoire des fichiers inaccessible : " + root, e);
+    }
+    log.info("Fichiers stockés sous {}", root);
+  }
+
+  /**
+   * Résultat d'un stockage : l'empreinte, la taille, et si le contenu était inconnu jusque-là.
+   */
+  public record Stored(String hash, long size, boolean created) {
+  }
+
+  /**
+   * Copie le flux dans le magasin et renvoie son empreinte. Le flux n'est pas fermé.
+   */
+  public Stored put(InputStream in) throws IOException {
+    Path temp = tmp.resolve(UUID.randomUUID().toString());
+    MessageDigest digest = sha256();
+    long size;
+    try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+      size = in.transferTo(out);
+    } catch (IOException e) {
+      Files.deleteIfExists(temp);
+      throw e;
+    }
+    String hash = HexFormat.of().formatHex(digest.digest());
+    return new Stored(hash, size, commit(temp, hash));
+  }
+
+  /**
+   * Range sous son empreinte un fichier temporaire déjà haché, ou le supprime si le contenu est déjà stocké.
+   * Renvoie true si le contenu a été ajouté.
+   */
+  boolean commit(Path temp, String hash) throws IOException {
+    Path target = path(hash);
+    if (Files.exists(target)) {
+      Files.delete(temp);
+      touch(hash);
+      return false;
+    }
+    Files.createDirectories(target.getParent());
+    try {
+      Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (FileAlreadyExistsException e) {
+      // Même contenu écrit en parallèle
+      Files.deleteIfExists(temp);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Chemin du fichier d'empreinte donnée (qu'il existe ou non), ou null si ce n'est pas une empreinte valide.
+   */
+  public Path path(String hash) {
+    if (!isHash(hash)) {
+      return null;
+    }
+    return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+  }
+
+  public boolean exists(String hash) {
+    Path path = path(hash);
+    return path != null && Files.isRegularFile(path);
+  }
+
+  /**
+   * Date de modification remise à maintenant : un fichier renvoyé ou rattaché à nouveau n'est pas effacé
+   * par le ramasse-miettes pendant le délai de grâce, même si son dernier compteur vient de tomber à zéro.
+   */
+  public void touch(String hash) throws IOException {
+    Path path = path(hash);
+    if (path != null && Files.isRegularFile(path)) {
+      Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+    }
+  }
+
+  /**
+   * Empreintes des fichiers stockés, avec leur date de modification. Le flux doit être fermé.
+   */
+  public Stream<Blob> list() throws IOException {
+    return Files.walk(root, 3)
+        .filter(path -> !path.startsWith(tmp) && isHash(path.getFileName().toString()))
+        .map(path -> {
+          try {
+            return new Blob(path.getFileName().toString(), Files.getLastModifiedTime(path).toInstant());
+          } catch (IOException e) {
+            // Effacé entre-temps
+            return null;
+          }
+        })
+        .filter(Objects::nonNull);
+  }
+
+  public record Blob(String hash, Instant modified) {
+  }
+
+  /**
+   * Efface le fichier s'il n'a pas été modifié (ni touché) depuis {@code threshold}. Renvoie true s'il l'a été.
+   */
+  public boolean deleteIfOlderThan(String hash, Instant threshold) throws IOException {
+    Path path = path(hash);
+    if (path == null || !Files.isRegularFile(path)
+        || !Files.getLastModifiedTime(path).toInstant().isBefore(threshold)) {
+      return false;
+    }
+    return Files.deleteIfExists(path);
+  }
+
+  /**
+   * Empreinte SHA-256 en hexadécimal minuscule.
+   */
+  public static boolean isHash(String value) {
+    if (value == null || value.length() != HASH_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < HASH_LENGTH; i++) {
+      char c = value.charAt(i);
+      if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Répertoire des fichiers en cours d'écriture, sur le même disque que le magasin (renommage atomique).
+   */
+  Path tmpDir() {
+    return tmp;
+  }
+
+  static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,352 @@
+package fr.ttelab.orgaservice_back.service;
+
+import fr.ttelab.orgaservice_back.entity.ClientStatus;
+import fr.ttelab.orgaservice_back.entity.ClientType;
+import fr.ttelab.orgaservice_back.entity.GeoPrecision;
+import fr.ttelab.orgaservice_back.entity.User;
+import fr.ttelab.orgaservice_back.util.CsvReader;
+import fr.ttelab.orgaservice_back.util.SearchText;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Import de clients depuis un CSV lu en flux : chaque ligne est validée puis insérée (client + adresse)
+ * par lots JDBC de {@code clients.import.batchSize} lignes, validés par transactions de
+ * {@code clients.import.rowsPerTransaction} lignes. Seuls le lot courant et les erreurs (bornées) restent
+ * en mémoire, quelle que soit la taille du fichier.
+ * <p>
+ * Une ligne par client avec au plus une adresse. Colonnes reconnues (ordre libre, accents et casse ignorés) :
+ * nom, email, telephone, type, statut, adresse, code postal, ville, acces, cle. Seul le nom est obligatoire.
+ */
+@Slf4j
+@Service
+public class ClientCsvImporter {
+
+  private static final String INSERT_CLIENT = "insert into client (id, name, sort_name, email, phone, type, status, "
+      + "owner_id, created_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final String INSERT_ADRESS = "insert into adress (id, client_id, \"order\", street, city, postal_code, "
+      + "acces, has_key, latitude, longitude, geohash, geo_precision) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+  private static final int MAX_LENGTH = 255;
+
+  enum Column {
+    NAME("nom", "name", "client", "nom client", "raison sociale"),
+    EMAIL("email", "e mail", "mail", "courriel"),
+    PHONE("telephone", "tel", "phone", "portable", "mobile"),
+    TYPE("type"),
+    STATUS("statut", "status"),
+    STREET("adresse", "rue", "street", "address", "voie"),
+    POSTAL_CODE("code postal", "cp", "postal code", "postalcode", "postal"),
+    CITY("ville", "city", "commune"),
+    ACCES("acces", "access", "code acces"),
+    HAS_KEY("cle", "cles", "has key", "haskey");
+
+    final String label;
+    final Set<String> aliases;
+
+    Column(String... aliases) {
+      this.label = aliases[0];
+      this.aliases = Set.of(aliases);
+    }
+
+    static Column forHeader(String header) {
+      String key = SearchText.normalize(header);
+      for (Column column : values()) {
+        if (column.aliases.contains(key)) {
+          return column;
+        }
+      }
+      return null;
+    }
+  }
+
+  public record RowError(long row, long line, String field, String message) {
+  }
+
+  /**
+   * @param rows            lignes de données lues (hors en-tête et lignes vides)
+   * @param errorsTruncated vrai si des erreurs au-delà de {@code clients.import.maxReportedErrors} ont été omises
+   */
+  public record ImportReport(long rows, long imported, long rejected, List<RowError> errors, boolean errorsTruncated) {
+  }
+
+  /**
+   * En-tête inutilisable (vide ou sans colonne nom) : rien n'est importé.
+   */
+  public static class InvalidCsvException extends RuntimeException {
+    public InvalidCsvException(String message) {
+      super(message);
+    }
+  }
+
+  private final JdbcTemplate jdbcTemplate;
+  private final PlatformTransactionManager transactionManager;
+  private final ClientSearchIndex clientSearchIndex;
+  private final Geocoder geocoder;
+  private final int batchSize;
+  private final int rowsPerTransaction;
+  private final int maxReportedErrors;
+  private final int maxRecordLength;
+  private final Counter importedRows;
+  private final Counter rejectedRows;
+
+  public ClientCsvImporter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           ClientSearchIndex clientSearchIndex,
+                           Geocoder geocoder,
+                           MeterRegistry meterRegistry,
+                           @Value("${clients.import.batchSize:500}") int batchSize,
+                           @Value("${clients.import.rowsPerTransaction:5000}") int rowsPerTransaction,
+                           @Value("${clients.import.maxReportedErrors:1000}") int maxReportedErrors,
+                           @Value("${clients.import.maxRecordLength:8192}") int maxRecordLength) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionManager = transactionManager;
+    this.clientSearchIndex = clientSearchIndex;
+    this.geocoder = geocoder;
+    this.batchSize = Math.max(1, batchSize);
+    this.rowsPerTransaction = Math.max(this.batchSize, rowsPerTransaction);
+    this.maxReportedErrors = maxReportedErrors;
+    this.maxRecordLength = maxRecordLength;
+    this.importedRows = Counter.builder("clients.import.rows").tag("outcome", "imported").register(meterRegistry);
+    this.rejectedRows = Counter.builder("clients.import.rows").tag("outcome", "rejected").register(meterRegistry);
+  }
+
+  /**
+   * Importe les clients de {@code source} pour {@code owner}, sur le shard lié au thread courant.
+   * Ne doit pas être appelé dans une transaction : l'import gère ses propres transactions par tranche.
+   */
+  public ImportReport importCsv(User owner, Reader source) throws IOException {
+    Run run = new Run(owner);
+    try (CsvReader csv = new CsvReader(source, maxRecordLength)) {
+      List<String> header = csv.next();
+      if (header == null) {
+        throw new InvalidCsvException("Fichier vide");
+      }
+      Column[] columns = new Column[header.size()];
+      boolean hasName = false;
+      for (int i = 0; i < columns.length; i++) {
+        columns[i] = Column.forHeader(header.get(i));
+        hasName |= columns[i] == Column.NAME;
+      }
+      if (!hasName) {
+        throw new InvalidCsvException("Colonne 'nom' absente de l'en-tête");
+      }
+
+      try {
+        List<String> record;
+        while ((record = csv.next()) != null) {
+          run.accept(columns, record, csv.recordLine());
+        }
+      } catch (CsvReader.MalformedCsvException e) {
+        // Suite du fichier illisible : les lignes valides déjà lues sont importées
+        run.malformed(e);
+      }
+      run.commit();
+    } finally {
+      run.rollbackIfOpen();
+      if (run.imported > 0) {
+        clientSearchIndex.invalidate(owner.getId());
+      }
+    }
+    importedRows.increment(run.imported);
+    rejectedRows.increment(run.rejected);
+    log.info("Import CSV pour {} : {} ligne(s), {} importée(s), {} rejetée(s)",
+        owner.getUsername(), run.rows, run.imported, run.rejected);
+    return new ImportReport(run.rows, run.imported, run.rejected, run.errors, run.errorsTruncated);
+  }
+
+  /**
+   * État d'un import : lot JDBC en attente et transaction de la tranche en cours.
+   */
+  private final class Run {
+
+    private final User owner;
+    private final LocalDateTime now = LocalDateTime.now();
+    private final List<Object[]> clientBatch = new ArrayList<>();
+    private final List<Object[]> adressBatch = new ArrayList<>();
+    private final List<RowError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+    private TransactionStatus transaction;
+    private long trancheFirstRow;
+    private long trancheRows;
+    private long rows;
+    private long imported;
+    private long rejected;
+
+    Run(User owner) {
+      this.owner = owner;
+    }
+
+    void accept(Column[] columns, List<String> record, long line) {
+      rows++;
+      Map<Column, String> values = new EnumMap<>(Column.class);
+      for (int i = 0; i < columns.length && i < record.size(); i++) {
+        if (columns[i] != null) {
+          values.put(columns[i], record.get(i).trim());
+        }
+      }
+
+      boolean invalid = false;
+      String name = values.getOrDefault(Column.NAME, "");
+      if (name.isEmpty()) {
+        invalid = error(line, "nom", "Nom obligatoire");
+      }
+      for (Map.Entry<Column, String> e : values.entrySet()) {
+        if (e.getValue().length() > MAX_LENGTH) {
+          invalid = error(line, e.getKey().label, "Plus de " + MAX_LENGTH + " caractères");
+        }
+      }
+      String email = values.getOrDefault(Column.EMAIL, "");
+      if (!email.isEmpty() && !EMAIL.matcher(email).matches()) {
+        invalid = error(line, "email", "Email invalide : " + email);
+      }
+      ClientType type = parseType(values.getOrDefault(Column.TYPE, ""));
+      if (type == null) {
+        invalid = error(line, "type", "Type attendu : particulier ou professionnel");
+      }
+      ClientStatus status = parseStatus(values.getOrDefault(Column.STATUS, ""));
+      if (status == null) {
+        invalid = error(line, "statut", "Statut attendu : actif ou inactif");
+      }
+      Boolean hasKey = parseBoolean(values.getOrDefault(Column.HAS_KEY, ""));
+      if (hasKey == null) {
+        invalid = error(line, "cle", "Valeur attendue : oui ou non");
+      }
+      if (invalid) {
+        rejected++;
+        return;
+      }
+
+      if (transaction == null) {
+        transaction = transactionManager.getTransaction(new DefaultTransactionDefinition());
+        trancheFirstRow = rows;
+        trancheRows = 0;
+      }
+      UUID clientId = UUID.randomUUID();
+      clientBatch.add(new Object[]{clientId, name, SearchText.normalize(name), emptyToNull(email),
+          values.getOrDefault(Column.PHONE, ""), type.name(), status.name(), owner.getId(), now});
+      String street = values.getOrDefault(Column.STREET, "");
+      String postalCode = values.getOrDefault(Column.POSTAL_CODE, "");
+      String city = values.getOrDefault(Column.CITY, "");
+      if (!street.isEmpty() || !postalCode.isEmpty() || !city.isEmpty()) {
+        Geocoder.Location location = geocoder.geocode(postalCode, city);
+        adressBatch.add(new Object[]{UUID.randomUUID(), clientId, 0, street, city, postalCode,
+            emptyToNull(values.getOrDefault(Column.ACCES, "")), hasKey,
+            location == null ? null : location.latitude(), location == null ? null : location.longitude(),
+            location == null ? null : location.geohash(),
+            (location == null ? GeoPrecision.inconnue : location.precision()).name()});
+      }
+      trancheRows++;
+      if (clientBatch.size() >= batchSize) {
+        flush();
+      }
+      if (trancheRows >= rowsPerTransaction) {
+        commit();
+      }
+    }
+
+    /**
+     * Enregistrement illisible : rejeté, la lecture s'arrête là.
+     */
+    void malformed(CsvReader.MalformedCsvException e) {
+      rows++;
+      rejected++;
+      error(e.line(), null, e.getMessage() + ", lecture du fichier interrompue");
+    }
+
+    private void flush() {
+      if (clientBatch.isEmpty() || transaction == null) {
+        return;
+      }
+      try {
+        jdbcTemplate.batchUpdate(INSERT_CLIENT, clientBatch);
+        if (!adressBatch.isEmpty()) {
+          jdbcTemplate.batchUpdate(INSERT_ADRESS, adressBatch);
+        }
+      } catch (DataAccessException e) {
+        // La tranche entière est annulée : ses lignes sont rapportées ensemble
+        log.warn("Import CSV : tranche à partir de la ligne de données {} annulée", trancheFirstRow, e);
+        transactionManager.rollback(transaction);
+        transaction = null;
+        rejected += trancheRows;
+        error(0, null, "Lignes de données " + trancheFirstRow + " à " + (trancheFirstRow + trancheRows - 1)
+            + " rejetées par la base : " + e.getMostSpecificCause().getMessage());
+        trancheRows = 0;
+      } finally {
+        clientBatch.clear();
+        adressBatch.clear();
+      }
+    }
+
+    void commit() {
+      flush();
+      if (transaction != null) {
+        transactionManager.commit(transaction);
+        transaction = null;
+        imported += trancheRows;
+        trancheRows = 0;
+      }
+    }
+
+    void rollbackIfOpen() {
+      if (transaction != null) {
+        transactionManager.rollback(transaction);
+        transaction = null;
+      }
+    }
+
+    /**
+     * Ajoute une erreur au rapport (dans la limite configurée) et renvoie toujours vrai.
+     */
+    private boolean error(long line, String field, String message) {
+      if (errors.size() < maxReportedErrors) {
+        errors.add(new RowError(rows, line, field, message));
+      } else {
+        errorsTruncated = true;
+      }
+      return true;
+    }
+  }
+
+  private static String emptyToNull(String value) {
+    return value == null || value.isEmpty() ? null : value;
+  }
+
+  private static ClientType parseType(String value) {
+    return switch (SearchText.normalize(value)) {
+      case "", "particulier", "part" -> ClientType.particulier;
+      case "professionnel", "pro", "entreprise" -> ClientType.professionnel;
+      default -> null;
+    };
+  }
+
+  private static ClientStatus parseStatus(String value) {
+    return switch (SearchText.normalize(value)) {
+      case "", "actif" -> ClientStatus.actif;
+      case "inactif" -> ClientStatus.inactif;
+      default -> null;
+    };
+  }
+
+  private static Boolean parseBoolean(String value) {
+    return switch (SearchText.normalize(value)) {
+      case "", "non", "no", "false", "0", "n" -> false;
+      case "oui", "yes", "true", "1", "o", "x" -> true;
+      default -> null;
+    };
+  }
+}
@@ -0,0 +1,91 @@
+package fr.ttelab.orgaservice_back.service;
+
+import fr.ttelab.orgaservice_back.entity.GeoPrecision;
+import fr.ttelab.orgaservice_back.entity.User;
+import fr.ttelab.orgaservice_back.util.GeoHash;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Clients d'un propriétaire proches d'un point, d'après les coordonnées géocodées de leurs adresses.
+ * <p>
+ * L'index spatial est la colonne {@code adress.geohash} (indexée) : le rayon détermine une longueur de préfixe
+ * dont les cellules couvrent le cercle avec leurs 8 voisines, et seules les adresses de ces 9 cellules sont lues
+ * (recherches par préfixe sur l'index) avant le calcul exact des distances.
+ * <p>
+ * Seules les adresses situées à la commune ou au code postal sont retenues : le centroïde d'un département
+ * est à des dizaines de kilomètres de l'adresse réelle et fausserait les distances.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClientGeoSearch {
+
+  private final NamedParameterJdbcTemplate jdbc;
+
+  /**
+   * Précisions de géocodage assez fines pour une recherche de proximité.
+   */
+  public static final List<GeoPrecision> SEARCHABLE = List.of(GeoPrecision.commune, GeoPrecision.code_postal);
+
+  /**
+   * Client trouvé, avec son adresse la plus proche du point et la précision de ses coordonnées.
+   */
+  public record Nearby(UUID clientId, UUID addressId, double distanceKm, GeoPrecision precision) {
+  }
+
+  /**
+   * Clients à moins de {@code radiusKm} du point, du plus proche au plus éloigné, hors {@code excludeClientId}.
+   */
+  public List<Nearby> near(User owner, double latitude, double longitude, double radiusKm, int limit,
+                           UUID excludeClientId) {
+    StringBuilder sql = new StringBuilder("select a.id, a.client_id, a.latitude, a.longitude, a.geo_precision "
+        + "from adress a join client c on c.id = a.client_id where c.owner_id = :owner and c.deleted = false "
+        + "and a.latitude is not null and a.geo_precision in (:precisions)");
+    MapSqlParameterSource params = new MapSqlParameterSource("owner", owner.getId())
+        .addValue("precisions", SEARCHABLE.stream().map(GeoPrecision::name).toList());
+    int precision = GeoHash.precisionForRadius(radiusKm, latitude);
+    if (precision > 0) {
+      sql.append(" and (");
+      int i = 0;
+      for (String cell : GeoHash.cellAndNeighbours(latitude, longitude, precision)) {
+        if (i > 0) {
+          sql.append(" or ");
+        }
+        sql.append("a.geohash like :cell").append(i);
+        params.addValue("cell" + i, cell + "%");
+        i++;
+      }
+      sql.append(")");
+    }
+
+    Map<UUID, Nearby> closest = new HashMap<>();
+    jdbc.query(sql.toString(), params, rs -> {
+      UUID clientId = rs.getObject("client_id", UUID.class);
+      if (clientId.equals(excludeClientId)) {
+        return;
+      }
+      double distance = GeoHash.distanceKm(latitude, longitude, rs.getDouble("latitude"), rs.getDouble("longitude"));
+      if (distance > radiusKm) {
+        return;
+      }
+      Nearby current = closest.get(clientId);
+      if (current == null || distance < current.distanceKm()) {
+        closest.put(clientId, new Nearby(clientId, rs.getObject("id", UUID.class), distance,
+            GeoPrecision.valueOf(rs.getString("geo_precision"))));
+      }
+    });
+
+    List<Nearby> result = new ArrayList<>(closest.values());
+    result.sort(Comparator.comparingDouble(Nearby::distanceKm));
+    return result.size() > limit ? result.subList(0, limit) : result;
+  }
+}
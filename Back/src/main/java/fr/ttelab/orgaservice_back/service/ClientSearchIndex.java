@@ -0,0 +1,478 @@
+package fr.ttelab.orgaservice_back.service;
+
+import fr.ttelab.orgaservice_back.entity.Adress;
+import fr.ttelab.orgaservice_back.entity.Client;
+import fr.ttelab.orgaservice_back.entity.User;
+import fr.ttelab.orgaservice_back.repository.ClientRepository;
+import fr.ttelab.orgaservice_back.util.ExpiringLruCache;
+import fr.ttelab.orgaservice_back.util.SearchText;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Index de recherche des clients, en mémoire et par propriétaire : trigrammes sur le nom, l'email,
+ * le téléphone et les adresses normalisés (minuscules, sans accents), résultats classés par pertinence.
+ * <p>
+ * L'index d'un propriétaire est construit à sa première recherche puis maintenu par
+ * {@link #indexAfterCommit(Client)} et {@link #removeAfterCommit(Client)} à chaque écriture de client.
+ * Une écriture qui ne passe pas par ces méthodes (import, purge...) doit appeler {@link #invalidate(UUID)}.
+ * Le TTL borne l'écart entre instances quand plusieurs backends partagent la base.
+ * <p>
+ * Le même index sert l'autocomplétion ({@link #suggest(User, String, int)}) : tableaux triés des noms
+ * et des villes normalisés, parcourus par recherche dichotomique et reconstruits après chaque écriture.
+ */
+@Slf4j
+@Service
+public class ClientSearchIndex {
+
+  /**
+   * Champs indexés et leur poids dans le classement.
+   */
+  enum Field {
+    NAME(10), CITY(5), POSTAL_CODE(5), EMAIL(3), PHONE(3), STREET(2);
+
+    final int weight;
+
+    Field(int weight) {
+      this.weight = weight;
+    }
+  }
+
+  private static final Field[] FIELDS = Field.values();
+
+  /**
+   * Client tel qu'indexé : chaînes normalisées pour la recherche, libellés d'origine pour les suggestions,
+   * jamais l'entité.
+   */
+  record Doc(UUID clientId, String sortName, String[] fields, String[] cityKeys, Suggestion label) {
+  }
+
+  /**
+   * Client proposé par l'autocomplétion, avec sa première adresse.
+   *
+   * @param matchedOn "name" ou "city"
+   */
+  public record Suggestion(UUID clientId, String name, String street, String postalCode, String city,
+                           String matchedOn) {
+    Suggestion matchedOn(String field) {
+      return new Suggestion(clientId, name, street, postalCode, city, field);
+    }
+  }
+
+  private record Hit(Doc doc, int score) {
+  }
+
+  private final ClientRepository clientRepository;
+  private final ExpiringLruCache<UUID, OwnerIndex> indexes;
+  private final Map<UUID, Long> generations = new ConcurrentHashMap<>();
+  private final long ttlMs;
+  private final Timer buildTimer;
+
+  public ClientSearchIndex(ClientRepository clientRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${search.clientIndexMaxOwners:2000}") int maxOwners,
+                           @Value("${search.clientIndexTtlMs:600000}") long ttlMs) {
+    this.clientRepository = clientRepository;
+    this.indexes = new ExpiringLruCache<>(maxOwners);
+    this.ttlMs = ttlMs;
+    this.buildTimer = Timer.builder("clients.search.index.build").register(meterRegistry);
+    Gauge.builder("clients.search.index.owners", indexes, ExpiringLruCache::size).register(meterRegistry);
+  }
+
+  /**
+   * Identifiants des clients de {@code owner} qui contiennent tous les termes de {@code query},
+   * du plus pertinent au moins pertinent. Doit être appelé dans une transaction sur le shard du propriétaire.
+   *
+   * @param limit nombre maximum de résultats, 0 pour tous
+   */
+  public List<UUID> search(User owner, String query, int limit) {
+    List<String> terms = SearchText.terms(query);
+    if (terms.isEmpty()) {
+      return List.of();
+    }
+    return indexFor(owner).search(terms, SearchText.normalize(query), limit);
+  }
+
+  /**
+   * Au plus {@code limit} clients de {@code owner} dont le nom, un mot du nom ou une ville commence par
+   * {@code prefix} (normalisé) : d'abord les correspondances sur le nom, puis sur la ville.
+   * Doit être appelé dans une transaction sur le shard du propriétaire.
+   */
+  public List<Suggestion> suggest(User owner, String prefix, int limit) {
+    String normalized = SearchText.normalize(prefix);
+    if (normalized.isEmpty() || limit <= 0) {
+      return List.of();
+    }
+    return indexFor(owner).suggest(normalized, limit);
+  }
+
+  /**
+   * Met l'index du propriétaire à jour avec l'état courant de {@code client}, une fois la transaction validée.
+   */
+  public void indexAfterCommit(Client client) {
+    UUID ownerId = client.getOwner().getId();
+    Doc doc = toDoc(client);
+    afterCommit(ownerId, index -> index.put(doc));
+  }
+
+  public void removeAfterCommit(Client client) {
+    UUID ownerId = client.getOwner().getId();
+    UUID clientId = client.getId();
+    afterCommit(ownerId, index -> index.remove(clientId));
+  }
+
+  /**
+   * Oublie l'index d'un propriétaire : il sera reconstruit depuis la base à la prochaine recherche.
+   */
+  public void invalidate(UUID ownerId) {
+    generations.merge(ownerId, 1L, Long::sum);
+    indexes.invalidate(ownerId);
+  }
+
+  private void afterCommit(UUID ownerId, Consumer<OwnerIndex> change) {
+    Runnable apply = () -> {
+      // Une construction concurrente qui aurait lu la base avant ce commit ne sera pas mise en cache
+      generations.merge(ownerId, 1L, Long::sum);
+      OwnerIndex index = indexes.get(ownerId);
+      if (index != null) {
+        change.accept(index);
+      }
+    };
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          apply.run();
+        }
+      });
+    } else {
+      apply.run();
+    }
+  }
+
+  private OwnerIndex indexFor(User owner) {
+    UUID ownerId = owner.getId();
+    OwnerIndex index = indexes.get(ownerId);
+    if (index != null) {
+      return index;
+    }
+    long generation = generations.getOrDefault(ownerId, 0L);
+    OwnerIndex built = buildTimer.record(() -> {
+      OwnerIndex fresh = new OwnerIndex();
+      for (Client client : clientRepository.findWithAddressesByOwner(owner)) {
+        fresh.put(toDoc(client));
+      }
+      return fresh;
+    });
+    if (generations.getOrDefault(ownerId, 0L) == generation) {
+      indexes.put(ownerId, built, System.currentTimeMillis() + ttlMs);
+    }
+    log.debug("Client search index built for owner {} ({} clients)", ownerId, built.size());
+    return built;
+  }
+
+  static Doc toDoc(Client client) {
+    String[] fields = new String[FIELDS.length];
+    fields[Field.NAME.ordinal()] = SearchText.normalize(client.getName());
+    fields[Field.EMAIL.ordinal()] = SearchText.normalize(client.getEmail());
+    fields[Field.PHONE.ordinal()] = SearchText.digits(client.getPhone());
+    List<Adress> addresses = client.getAddresses() != null ? client.getAddresses() : List.of();
+    fields[Field.STREET.ordinal()] = joinNormalized(addresses, Adress::getStreet);
+    fields[Field.CITY.ordinal()] = joinNormalized(addresses, Adress::getCity);
+    fields[Field.POSTAL_CODE.ordinal()] = joinNormalized(addresses, Adress::getPostalCode);
+    String[] cityKeys = addresses.stream()
+        .map(a -> SearchText.normalize(a.getCity()))
+        .filter(c -> !c.isEmpty())
+        .distinct()
+        .toArray(String[]::new);
+    Adress first = addresses.isEmpty() ? null : addresses.get(0);
+    Suggestion label = new Suggestion(client.getId(), client.getName(),
+        first != null ? first.getStreet() : null,
+        first != null ? first.getPostalCode() : null,
+        first != null ? first.getCity() : null,
+        "name");
+    return new Doc(client.getId(), fields[Field.NAME.ordinal()], fields, cityKeys, label);
+  }
+
+  private static String joinNormalized(List<Adress> addresses, Function<Adress, String> getter) {
+    return addresses.stream()
+        .map(a -> SearchText.normalize(getter.apply(a)))
+        .filter(s -> !s.isEmpty())
+        .distinct()
+        .collect(Collectors.joining(" "));
+  }
+
+  /**
+   * Trigramme de trois caractères encodé dans un long ; les fenêtres contenant un espace ne sont pas indexées
+   * puisqu'un terme recherché n'en contient jamais.
+   */
+  private static long trigram(String s, int i) {
+    return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+  }
+
+  private static boolean isIndexable(String s, int i) {
+    return s.charAt(i) != ' ' && s.charAt(i + 1) != ' ' && s.charAt(i + 2) != ' ';
+  }
+
+  /**
+   * Clés normalisées triées et client correspondant à chaque clé, pour les recherches par préfixe.
+   */
+  private record PrefixTable(String[] keys, Doc[] docs) {
+
+    static PrefixTable build(List<Map.Entry<String, Doc>> entries) {
+      entries.sort(Map.Entry.<String, Doc>comparingByKey()
+          .thenComparing(e -> e.getValue().sortName())
+          .thenComparing(e -> e.getValue().clientId()));
+      String[] keys = new String[entries.size()];
+      Doc[] docs = new Doc[entries.size()];
+      for (int i = 0; i < keys.length; i++) {
+        keys[i] = entries.get(i).getKey();
+        docs[i] = entries.get(i).getValue();
+      }
+      return new PrefixTable(keys, docs);
+    }
+
+    /**
+     * Ajoute à {@code out} les clients dont une clé commence par {@code prefix}, jusqu'à {@code limit} clients.
+     */
+    void collect(String prefix, int limit, Map<UUID, Suggestion> out, String matchedOn) {
+      int i = Arrays.binarySearch(keys, prefix);
+      if (i < 0) {
+        i = -i - 1;
+      }
+      for (; i < keys.length && out.size() < limit && keys[i].startsWith(prefix); i++) {
+        Doc doc = docs[i];
+        out.putIfAbsent(doc.clientId(), doc.label().matchedOn(matchedOn));
+      }
+    }
+  }
+
+  /**
+   * Index d'un propriétaire : un emplacement entier par client et, pour chaque trigramme,
+   * l'ensemble des emplacements qui le contiennent. Les recherches intersectent ces ensembles
+   * puis vérifient et notent les seuls candidats.
+   * Les tables de préfixes sont immuables, remises à null par chaque écriture et reconstruites à la demande.
+   */
+  private static final class OwnerIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Doc> slots = new ArrayList<>();
+    private final Map<UUID, Integer> slotByClient = new HashMap<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+    private final Map<Long, BitSet> postings = new HashMap<>();
+    private volatile PrefixTable names;
+    private volatile PrefixTable cities;
+
+    int size() {
+      lock.readLock().lock();
+      try {
+        return slotByClient.size();
+      } finally {
+        lock.readLock().unlock();
+      }
+    }
+
+    void put(Doc doc) {
+      lock.writeLock().lock();
+      try {
+        removeLocked(doc.clientId());
+        names = null;
+        cities = null;
+        Integer free = freeSlots.poll();
+        int slot = free != null ? free : slots.size();
+        if (free == null) {
+          slots.add(doc);
+        } else {
+          slots.set(slot, doc);
+        }
+        slotByClient.put(doc.clientId(), slot);
+        live.set(slot);
+        for (String field : doc.fields()) {
+          for (int i = 0; i + 3 <= field.length(); i++) {
+            if (isIndexable(field, i)) {
+              postings.computeIfAbsent(trigram(field, i), k -> new BitSet()).set(slot);
+            }
+          }
+        }
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    void remove(UUID clientId) {
+      lock.writeLock().lock();
+      try {
+        removeLocked(clientId);
+        names = null;
+        cities = null;
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+
+    private void removeLocked(UUID clientId) {
+      Integer slot = slotByClient.remove(clientId);
+      if (slot == null) {
+        return;
+      }
+      Doc doc = slots.get(slot);
+      for (String field : doc.fields()) {
+        for (int i = 0; i + 3 <= field.length(); i++) {
+          if (isIndexable(field, i)) {
+            long key = trigram(field, i);
+            BitSet bits = postings.get(key);
+            if (bits != null) {
+              bits.clear(slot);
+              if (bits.isEmpty()) {
+                postings.remove(key);
+              }
+            }
+          }
+        }
+      }
+      slots.set(slot, null);
+      live.clear(slot);
+      freeSlots.push(slot);
+    }
+
+    List<Suggestion> suggest(String prefix, int limit) {
+      PrefixTable nameTable = names;
+      PrefixTable cityTable = cities;
+      if (nameTable == null || cityTable == null) {
+        lock.writeLock().lock();
+        try {
+          if (names == null || cities == null) {
+            buildPrefixTablesLocked();
+          }
+          nameTable = names;
+          cityTable = cities;
+        } finally {
+          lock.writeLock().unlock();
+        }
+      }
+      Map<UUID, Suggestion> out = new LinkedHashMap<>();
+      nameTable.collect(prefix, limit, out, "name");
+      cityTable.collect(prefix, limit, out, "city");
+      return new ArrayList<>(out.values());
+    }
+
+    /**
+     * Le nom complet et chaque fin de nom à partir d'un mot ("jean dupont", "dupont"), pour que
+     * la saisie d'un nom de famille retrouve le client ; chaque ville d'adresse dans une seconde table.
+     */
+    private void buildPrefixTablesLocked() {
+      List<Map.Entry<String, Doc>> nameEntries = new ArrayList<>();
+      List<Map.Entry<String, Doc>> cityEntries = new ArrayList<>();
+      for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+        Doc doc = slots.get(slot);
+        String name = doc.sortName();
+        if (!name.isEmpty()) {
+          nameEntries.add(Map.entry(name, doc));
+          for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+            nameEntries.add(Map.entry(name.substring(i + 1), doc));
+          }
+        }
+        for (String city : doc.cityKeys()) {
+          cityEntries.add(Map.entry(city, doc));
+        }
+      }
+      names = PrefixTable.build(nameEntries);
+      cities = PrefixTable.build(cityEntries);
+    }
+
+    List<UUID> search(List<String> terms, String normalizedQuery, int limit) {
+      List<Hit> hits = new ArrayList<>();
+      lock.readLock().lock();
+      try {
+        BitSet candidates = (BitSet) live.clone();
+        for (String term : terms) {
+          for (int i = 0; i + 3 <= term.length() && !candidates.isEmpty(); i++) {
+            BitSet bits = postings.get(trigram(term, i));
+            if (bits == null) {
+              return List.of();
+            }
+            candidates.and(bits);
+          }
+        }
+        for (int slot = candidates.nextSetBit(0); slot >= 0; slot = candidates.nextSetBit(slot + 1)) {
+          Doc doc = slots.get(slot);
+          int score = score(doc, terms, normalizedQuery);
+          if (score > 0) {
+            hits.add(new Hit(doc, score));
+          }
+        }
+      } finally {
+        lock.readLock().unlock();
+      }
+      hits.sort(Comparator.comparingInt(Hit::score).reversed()
+          .thenComparing(h -> h.doc().sortName())
+          .thenComparing(h -> h.doc().clientId()));
+      int end = limit > 0 ? Math.min(limit, hits.size()) : hits.size();
+      List<UUID> ids = new ArrayList<>(end);
+      for (int i = 0; i < end; i++) {
+        ids.add(hits.get(i).doc().clientId());
+      }
+      return ids;
+    }
+
+    /**
+     * Somme, sur chaque terme, du meilleur champ qui le contient : poids du champ, doublé en début de mot,
+     * triplé sur un mot entier. 0 si un terme n'est trouvé nulle part (faux positif des trigrammes).
+     */
+    private static int score(Doc doc, List<String> terms, String normalizedQuery) {
+      String[] fields = doc.fields();
+      int total = 0;
+      for (String term : terms) {
+        int best = 0;
+        for (Field field : FIELDS) {
+          int s = termScore(fields[field.ordinal()], term) * field.weight;
+          if (s > best) {
+            best = s;
+          }
+        }
+        if (best == 0) {
+          return 0;
+        }
+        total += best;
+      }
+      String name = fields[Field.NAME.ordinal()];
+      if (name.equals(normalizedQuery)) {
+        total += 50;
+      } else if (name.startsWith(normalizedQuery)) {
+        total += 20;
+      }
+      return total;
+    }
+
+    private static int termScore(String field, String term) {
+      int best = 0;
+      for (int i = field.indexOf(term); i >= 0; i = field.indexOf(term, i + 1)) {
+        boolean wordStart = i == 0 || field.charAt(i - 1) == ' ';
+        int end = i + term.length();
+        boolean wordEnd = end == field.length() || field.charAt(end) == ' ';
+        int s = wordStart ? (wordEnd ? 3 : 2) : 1;
+        if (s > best) {
+          best = s;
+          if (best == 3) {
+            break;
+          }
+        }
+      }
+      return best;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package fr.ttelab.orgaservice_back.service;
+
+import fr.ttelab.orgaservice_back.util.SearchText;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Renseigne client.sort_name pour les lignes créées avant l'ajout de la colonne
+ * (ddl-auto=update l'ajoute vide), sinon ces clients se retrouveraient en tête de la liste triée par nom.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClientSortKeyBackfill {
+
+  private static final int BATCH_SIZE = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ShardedQueryService shardedQueryService;
+  private final PlatformTransactionManager transactionManager;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    int total = 0;
+    for (Integer updated : shardedQueryService.gather(() -> transaction.execute(status -> {
+      int count = 0;
+      List<Object[]> rows;
+      do {
+        rows = jdbcTemplate.query("select id, name from client where sort_name is null limit " + BATCH_SIZE,
+            (rs, i) -> new Object[]{SearchText.normalize(rs.getString("name")), rs.getObject("id")});
+        if (!rows.isEmpty()) {
+          jdbcTemplate.batchUpdate("update client set sort_name = ? where id = ?", rows);
+          count += rows.size();
+        }
+      } while (rows.size() == BATCH_SIZE);
+      return count;
+    }))) {
+      total += updated;
+    }
+    if (total > 0) {
+      log.info("Clé de tri renseignée pour {} client(s) existant(s)", total);
+    }
+  }
+}
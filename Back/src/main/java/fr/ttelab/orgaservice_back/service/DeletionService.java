@@ -0,0 +1,186 @@
+package fr.ttelab.orgaservice_back.service;
+
+import fr.ttelab.orgaservice_back.entity.Client;
+import fr.ttelab.orgaservice_back.entity.Project;
+import fr.ttelab.orgaservice_back.repository.CalendarEventRepository;
+import fr.ttelab.orgaservice_back.repository.ChantierRepository;
+import fr.ttelab.orgaservice_back.repository.ClientRepository;
+import fr.ttelab.orgaservice_back.repository.ProjectRepository;
+import fr.ttelab.orgaservice_back.repository.RemarkRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Suppression des clients et des projets en deux temps.
+ * <p>
+ * La suppression demandée par l'utilisateur est logique : quelques UPDATE ensemblistes posent le drapeau
+ * {@code deleted} sur la ligne et sur ce qui en dépend (projets, chantiers, événements, remarques), que
+ * {@code @SQLRestriction} masque ensuite de toutes les requêtes. Rien n'est chargé en mémoire.
+ * <p>
+ * {@link #purge()} efface ensuite les lignes marquées, shard par shard, par DELETE ensemblistes sur des
+ * tranches de {@code deletion.purgeBatchSize} clients ou projets, une transaction par tranche.
+ */
+@Slf4j
+@Service
+public class DeletionService {
+
+  private final ClientRepository clientRepository;
+  private final ProjectRepository projectRepository;
+  private final ChantierRepository chantierRepository;
+  private final CalendarEventRepository calendarEventRepository;
+  private final RemarkRepository remarkRepository;
+  private final ClientSearchIndex clientSearchIndex;
+  private final ImageReferences imageReferences;
+  private final ShardedQueryService shardedQueryService;
+  private final NamedParameterJdbcTemplate jdbc;
+  private final TransactionTemplate chunkTransaction;
+  private final MeterRegistry meterRegistry;
+  private final int purgeBatchSize;
+
+  public DeletionService(ClientRepository clientRepository,
+                         ProjectRepository projectRepository,
+                         ChantierRepository chantierRepository,
+                         CalendarEventRepository calendarEventRepository,
+                         RemarkRepository remarkRepository,
+                         ClientSearchIndex clientSearchIndex,
+                         ImageReferences imageReferences,
+                         ShardedQueryService shardedQueryService,
+                         NamedParameterJdbcTemplate jdbc,
+                         PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${deletion.purgeBatchSize:100}") int purgeBatchSize) {
+    this.clientRepository = clientRepository;
+    this.projectRepository = projectRepository;
+    this.chantierRepository = chantierRepository;
+    this.calendarEventRepository = calendarEventRepository;
+    this.remarkRepository = remarkRepository;
+    this.clientSearchIndex = clientSearchIndex;
+    this.imageReferences = imageReferences;
+    this.shardedQueryService = shardedQueryService;
+    this.jdbc = jdbc;
+    // Nouvelle transaction par tranche, y compris dans celle ouverte par ShardedQueryService pour le shard
+    this.chunkTransaction = new TransactionTemplate(transactionManager);
+    this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.meterRegistry = meterRegistry;
+    this.purgeBatchSize = purgeBatchSize;
+  }
+
+  /**
+   * Masque le client et tout ce qui lui est rattaché ; les données sont effacées par la purge.
+   */
+  @Transactional
+  public void deleteClient(Client client) {
+    UUID clientId = client.getId();
+    remarkRepository.markDeletedByClientId(clientId);
+    calendarEventRepository.markDeletedByClientId(clientId);
+    chantierRepository.markDeletedByClientId(clientId);
+    projectRepository.markDeletedByClientId(clientId);
+    clientRepository.markDeleted(clientId);
+    clientSearchIndex.removeAfterCommit(client);
+  }
+
+  /**
+   * Masque le projet, ses chantiers et ses événements ; les données sont effacées par la purge.
+   */
+  @Transactional
+  public void deleteProject(Project project) {
+    UUID projectId = project.getId();
+    calendarEventRepository.markDeletedByProjectId(projectId);
+    chantierRepository.markDeletedByProjectId(projectId);
+    projectRepository.markDeleted(projectId);
+  }
+
+  @Scheduled(cron = "${deletion.purgeCron:0 */5 * * * *}")
+  public void purge() {
+    long clients = 0;
+    long projects = 0;
+    for (long[] purged : shardedQueryService.gather(this::purgeShard)) {
+      clients += purged[0];
+      projects += purged[1];
+    }
+    if (clients > 0 || projects > 0) {
+      meterRegistry.counter("deletion.purged", "kind", "client").increment(clients);
+      meterRegistry.counter("deletion.purged", "kind", "project").increment(projects);
+      log.info("Purge : {} client(s) et {} projet(s) supprimé(s) définitivement", clients, projects);
+    }
+  }
+
+  private long[] purgeShard() {
+    long clients = 0;
+    long projects = 0;
+    List<UUID> chunk;
+    while (!(chunk = nextChunk("client")).isEmpty()) {
+      List<UUID> clientIds = chunk;
+      chunkTransaction.executeWithoutResult(status -> purgeClients(clientIds));
+      clients += chunk.size();
+    }
+    // Projets supprimés seuls (ceux des clients supprimés sont partis avec eux)
+    while (!(chunk = nextChunk("project")).isEmpty()) {
+      List<UUID> projectIds = chunk;
+      chunkTransaction.executeWithoutResult(status -> purgeProjects(projectIds));
+      projects += chunk.size();
+    }
+    return new long[]{clients, projects};
+  }
+
+  private List<UUID> nextChunk(String table) {
+    return jdbc.getJdbcTemplate().queryForList(
+        "select id from " + table + " where deleted = true limit " + purgeBatchSize, UUID.class);
+  }
+
+  /**
+   * Efface des clients marqués et tout ce qui en dépend, enfants d'abord (clés étrangères).
+   */
+  private void purgeClients(List<UUID> clientIds) {
+    MapSqlParameterSource params = new MapSqlParameterSource("clients", clientIds);
+    List<UUID> projectIds = jdbc.queryForList("select id from project where client_id in (:clients)", params, UUID.class);
+    params.addValue("projects", projectIds);
+
+    // Images des remarques effacées décomptées, par propriétaire (voir ImageBlobSweeper)
+    jdbc.query("select r.owner_id, i.image_ref, count(*) as refs from remark_images i "
+            + "join remark r on r.id = i.remark_id where r.client_id in (:clients) "
+            + "and i.image_ref like '" + RemarkImageStore.REF_PREFIX + "%' group by r.owner_id, i.image_ref",
+        params, rs -> {
+          imageReferences.adjust(rs.getObject("owner_id", UUID.class), RemarkImageStore.hashOf(rs.getString("image_ref")),
+              -rs.getInt("refs"));
+        });
+    jdbc.update("delete from remark_images where remark_id in (select id from remark where client_id in (:clients))",
+        params);
+    jdbc.update("delete from remark where client_id in (:clients)", params);
+    jdbc.update("delete from calendar_event where client_id in (:clients)", params);
+    if (!projectIds.isEmpty()) {
+      jdbc.update("delete from calendar_event where project_id in (:projects)", params);
+    }
+    jdbc.update("delete from chantier where client_id in (:clients)", params);
+    if (!projectIds.isEmpty()) {
+      jdbc.update("delete from plan_travaux where project_id in (:projects)", params);
+      jdbc.update("delete from project where id in (:projects)", params);
+    }
+    jdbc.update("delete from adress where client_id in (:clients)", params);
+    jdbc.update("delete from client where id in (:clients)", params);
+  }
+
+  /**
+   * Efface des projets marqués avec leurs chantiers, événements et plan de travaux.
+   */
+  private void purgeProjects(List<UUID> projectIds) {
+    MapSqlParameterSource params = new MapSqlParameterSource("projects", projectIds);
+    jdbc.update("delete from calendar_event where project_id in (:projects) "
+        + "or chantier_id in (select id from chantier where project_id in (:projects))", params);
+    jdbc.update("delete from chantier where project_id in (:projects)", params);
+    jdbc.update("delete from plan_travaux where project_id in (:projects)", params);
+    jdbc.update("delete from project where id in (:projects)", params);
+  }
+}
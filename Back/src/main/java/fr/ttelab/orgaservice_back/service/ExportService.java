@@ -0,0 +1,324 @@
+package fr.ttelab.orgaservice_back.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import fr.ttelab.orgaservice_back.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Exports en flux des données d'un propriétaire (CSV ou NDJSON) : un curseur JDBC en avant seule,
+ * lu par paquets de {@code exports.fetchSize} lignes et écrit au fil de l'eau. La mémoire utilisée
+ * ne dépend pas du volume exporté.
+ * <p>
+ * Chaque export est une requête dont les premières colonnes décrivent l'objet principal et les suivantes
+ * un éventuel enfant (adresse d'un client, chantier d'un projet), triée par objet principal. Les lignes supprimées
+ * logiquement (colonne {@code deleted}, voir {@link DeletionService}) sont exclues explicitement : en SQL direct,
+ * {@code @SQLRestriction} ne s'applique pas.
+ * En CSV une ligne par enfant ; en NDJSON un objet par ligne avec ses enfants en tableau.
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+  public enum Format {
+    csv("text/csv"), ndjson("application/x-ndjson");
+
+    public final String contentType;
+
+    Format(String contentType) {
+      this.contentType = contentType;
+    }
+  }
+
+  /**
+   * Requête de chaque export, colonne filtrée par la période demandée et tri
+   * (les lignes d'un même objet principal doivent être consécutives).
+   */
+  public enum Kind {
+    clients(
+        "select c.id, c.name, c.email, c.phone, c.type, c.status, c.created_at, "
+            + "a.street, a.postal_code, a.city, a.acces, a.has_key "
+            + "from client c left join adress a on a.client_id = c.id where c.owner_id = ? and c.deleted = false",
+        "c.created_at", "c.sort_name, c.id, a.\"order\"",
+        List.of("id", "name", "email", "phone", "type", "status", "createdAt"),
+        "addresses", List.of("street", "postalCode", "city", "acces", "hasKey")),
+    projects(
+        "select p.id, p.title, p.description, p.type, p.status, p.client_id, c.name, p.duree_mois, p.premier_mois, "
+            + "p.duree_en_minutes, p.created_at, "
+            + "ch.id, ch.month_target, ch.duree_en_minutes, ch.created_at, e.date_time, e.status "
+            + "from project p join client c on c.id = p.client_id "
+            + "left join chantier ch on ch.project_id = p.id and ch.deleted = false "
+            + "left join calendar_event e on e.chantier_id = ch.id and e.deleted = false "
+            + "where p.owner_id = ? and p.deleted = false",
+        "p.created_at", "p.created_at, p.id, ch.created_at, ch.id",
+        List.of("id", "title", "description", "type", "status", "clientId", "clientName", "dureeMois", "premierMois",
+            "dureeEnMinutes", "createdAt"),
+        "chantiers", List.of("id", "monthTarget", "dureeEnMinutes", "createdAt", "dateTime", "eventStatus")),
+    events(
+        "select e.id, e.event_type, e.title, e.description, e.location, e.date_time, e.duration, e.status, "
+            + "e.is_recurring, e.client_id, c.name, e.project_id, e.notes, e.created_at "
+            + "from calendar_event e left join client c on c.id = e.client_id where e.owner_id = ? and e.deleted = false",
+        "e.date_time", "e.date_time, e.id",
+        List.of("id", "eventType", "title", "description", "location", "dateTime", "duration", "status",
+            "isRecurring", "clientId", "clientName", "projectId", "notes", "createdAt"),
+        null, List.of());
+
+    final String select;
+    final String dateColumn;
+    final String orderBy;
+    final List<String> columns;
+    final String children;
+    final List<String> childColumns;
+
+    Kind(String select, String dateColumn, String orderBy, List<String> columns, String children,
+         List<String> childColumns) {
+      this.select = select;
+      this.dateColumn = dateColumn;
+      this.orderBy = orderBy;
+      this.columns = columns;
+      this.children = children;
+      this.childColumns = childColumns;
+    }
+  }
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate readOnlyTransaction;
+  private final JsonFactory jsonFactory = new JsonFactory();
+  private final MeterRegistry meterRegistry;
+
+  public ExportService(JdbcTemplate sharedJdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${exports.fetchSize:500}") int fetchSize) {
+    // JdbcTemplate dédié : le fetch size ne doit pas s'appliquer aux autres requêtes
+    this.jdbcTemplate = new JdbcTemplate(Objects.requireNonNull(sharedJdbcTemplate.getDataSource()));
+    this.jdbcTemplate.setFetchSize(fetchSize);
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Écrit l'export dans {@code out} sans le fermer. Doit s'exécuter avec le shard du propriétaire lié au thread.
+   *
+   * @param from premier jour inclus, ou null
+   * @param to   dernier jour inclus, ou null
+   * @return nombre de lignes lues
+   */
+  public long export(Kind kind, Format format, User owner, LocalDate from, LocalDate to, OutputStream out) {
+    StringBuilder sql = new StringBuilder(kind.select);
+    List<Object> args = new ArrayList<>();
+    args.add(owner.getId());
+    if (from != null) {
+      sql.append(" and ").append(kind.dateColumn).append(" >= ?");
+      args.add(Timestamp.valueOf(from.atStartOfDay()));
+    }
+    if (to != null) {
+      sql.append(" and ").append(kind.dateColumn).append(" < ?");
+      args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+    }
+    sql.append(" order by ").append(kind.orderBy);
+
+    Timer.Sample sample = Timer.start(meterRegistry);
+    long rows;
+    try {
+      RowSink sink = format == Format.csv ? new CsvSink(kind, out) : new NdjsonSink(kind, out, jsonFactory);
+      rows = Objects.requireNonNull(readOnlyTransaction.execute(status -> {
+        long[] count = {0};
+        jdbcTemplate.query(con -> {
+          PreparedStatement ps = con.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY,
+              ResultSet.CONCUR_READ_ONLY);
+          for (int i = 0; i < args.size(); i++) {
+            ps.setObject(i + 1, args.get(i));
+          }
+          return ps;
+        }, rs -> {
+          try {
+            sink.row(rs);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          count[0]++;
+        });
+        return count[0];
+      }));
+      sink.finish();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      sample.stop(Timer.builder("exports.duration")
+          .tag("kind", kind.name())
+          .tag("format", format.name())
+          .register(meterRegistry));
+    }
+    log.info("Export {} ({}) pour {} : {} ligne(s)", kind, format, owner.getUsername(), rows);
+    return rows;
+  }
+
+  /**
+   * Valeur JDBC en type simple (chaîne, nombre, booléen ou null), dates au format ISO.
+   */
+  private static Object value(ResultSet rs, int index) throws SQLException {
+    Object value = rs.getObject(index);
+    if (value instanceof Timestamp ts) {
+      return ts.toLocalDateTime().toString();
+    }
+    if (value instanceof Date date) {
+      return date.toLocalDate().toString();
+    }
+    if (value instanceof Clob clob) {
+      return clob.getSubString(1, (int) clob.length());
+    }
+    if (value instanceof UUID) {
+      return value.toString();
+    }
+    return value;
+  }
+
+  private interface RowSink {
+    void row(ResultSet rs) throws SQLException, IOException;
+
+    void finish() throws IOException;
+  }
+
+  /**
+   * CSV séparé par ';' avec BOM UTF-8, pour une ouverture directe dans Excel en français.
+   * Une ligne par enfant, colonnes de l'enfant préfixées par le nom de la collection.
+   */
+  private static final class CsvSink implements RowSink {
+
+    private final Kind kind;
+    private final Writer writer;
+    private final int width;
+
+    CsvSink(Kind kind, OutputStream out) throws IOException {
+      this.kind = kind;
+      this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+      this.width = kind.columns.size() + kind.childColumns.size();
+      writer.write('\uFEFF');
+      List<String> header = new ArrayList<>(kind.columns);
+      kind.childColumns.forEach(c -> header.add(kind.children + "." + c));
+      for (int i = 0; i < header.size(); i++) {
+        if (i > 0) {
+          writer.write(';');
+        }
+        writer.write(header.get(i));
+      }
+      writer.write("\r\n");
+    }
+
+    @Override
+    public void row(ResultSet rs) throws SQLException, IOException {
+      for (int i = 1; i <= width; i++) {
+        if (i > 1) {
+          writer.write(';');
+        }
+        Object value = value(rs, i);
+        if (value != null) {
+          writeEscaped(value.toString());
+        }
+      }
+      writer.write("\r\n");
+    }
+
+    private void writeEscaped(String s) throws IOException {
+      boolean quote = s.indexOf(';') >= 0 || s.indexOf('"') >= 0 || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0;
+      if (!quote) {
+        writer.write(s);
+        return;
+      }
+      writer.write('"');
+      writer.write(s.replace("\"", "\"\""));
+      writer.write('"');
+    }
+
+    @Override
+    public void finish() throws IOException {
+      writer.flush();
+    }
+  }
+
+  /**
+   * Un objet JSON par ligne ; les lignes consécutives d'un même objet principal regroupent leurs enfants.
+   */
+  private static final class NdjsonSink implements RowSink {
+
+    private final Kind kind;
+    private final JsonGenerator json;
+    private Object currentId;
+
+    NdjsonSink(Kind kind, OutputStream out, JsonFactory factory) throws IOException {
+      this.kind = kind;
+      this.json = factory.createGenerator(out, JsonEncoding.UTF8);
+      this.json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+      this.json.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void row(ResultSet rs) throws SQLException, IOException {
+      Object id = value(rs, 1);
+      if (!id.equals(currentId)) {
+        endObject();
+        currentId = id;
+        json.writeStartObject();
+        for (int i = 0; i < kind.columns.size(); i++) {
+          json.writeFieldName(kind.columns.get(i));
+          json.writeObject(value(rs, i + 1));
+        }
+        if (kind.children != null) {
+          json.writeArrayFieldStart(kind.children);
+        }
+      }
+      if (kind.children == null) {
+        return;
+      }
+      int offset = kind.columns.size();
+      boolean present = false;
+      for (int i = 1; i <= kind.childColumns.size() && !present; i++) {
+        present = rs.getObject(offset + i) != null;
+      }
+      if (present) {
+        json.writeStartObject();
+        for (int i = 0; i < kind.childColumns.size(); i++) {
+          json.writeFieldName(kind.childColumns.get(i));
+          json.writeObject(value(rs, offset + i + 1));
+        }
+        json.writeEndObject();
+      }
+    }
+
+    private void endObject() throws IOException {
+      if (currentId == null) {
+        return;
+      }
+      if (kind.children != null) {
+        json.writeEndArray();
+      }
+      json.writeEndObject();
+      json.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+      endObject();
+      json.flush();
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package fr.ttelab.orgaservice_back.service;
+
+import fr.ttelab.orgaservice_back.entity.Adress;
+import fr.ttelab.orgaservice_back.entity.GeoPrecision;
+import fr.ttelab.orgaservice_back.util.CsvReader;
+import fr.ttelab.orgaservice_back.util.GeoHash;
+import fr.ttelab.orgaservice_back.util.SearchText;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Géocodage hors ligne des adresses au centroïde de leur commune, sans appel réseau.
+ * <p>
+ * Le jeu de données est un CSV (code postal, commune, latitude, longitude) chargé en mémoire au démarrage,
+ * colonnes reconnues par leur nom, coordonnées séparées ou en un seul champ "lat, lon". {@code geo.communesFile}
+ * liste des emplacements par ordre de préférence, le premier existant est chargé : la base officielle des codes
+ * postaux ({@code geo/codes-postaux.csv}, environ 39 000 lignes, ajoutée au packaging), sinon l'échantillon
+ * {@code geo/communes-fr.csv} (préfectures et principales villes), avec lequel la plupart des adresses ne sont
+ * situées qu'au département.
+ * <p>
+ * Recherche, du plus précis au plus grossier : code postal + commune, code postal seul (moyenne des
+ * communes qui le partagent), nom de commune s'il n'est pas ambigu, puis département.
+ */
+@Slf4j
+@Service
+public class Geocoder {
+
+  /**
+   * Longueur des geohash stockés (cellules d'environ 5 m).
+   */
+  public static final int GEOHASH_PRECISION = 9;
+
+  public record Location(double latitude, double longitude, GeoPrecision precision) {
+    public String geohash() {
+      return GeoHash.encode(latitude, longitude, GEOHASH_PRECISION);
+    }
+  }
+
+  private final Map<String, Location> communes = new HashMap<>();
+  private final Map<String, Location> postalCodes = new HashMap<>();
+  private final Map<String, Location> cities = new HashMap<>();
+  private final Map<String, Location> departments = new HashMap<>();
+
+  public Geocoder(ResourceLoader resourceLoader,
+                  @Value("${geo.communesFile:classpath:geo/codes-postaux.csv,classpath:geo/communes-fr.csv}")
+                  List<String> communesFiles) {
+    String communesFile = communesFiles.stream()
+        .map(String::trim)
+        .filter(location -> resourceLoader.getResource(location).exists())
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("Aucun jeu de données de géocodage trouvé : " + communesFiles));
+    Resource resource = resourceLoader.getResource(communesFile);
+    try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+      load(reader);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Jeu de données de géocodage illisible : " + communesFile, e);
+    }
+    log.info("Géocodage hors ligne : {} commune(s), {} code(s) postal(aux) chargés depuis {}",
+        communes.size(), postalCodes.size(), communesFile);
+    if (!communesFile.equals(communesFiles.get(0).trim())) {
+      log.warn("Base des codes postaux absente ({}) : géocodage sur l'échantillon {}, la plupart des adresses ne "
+          + "seront situées qu'au département", communesFiles.get(0).trim(), communesFile);
+    }
+  }
+
+  /**
+   * Coordonnées de l'adresse, ou null si ni le code postal ni la commune ne sont connus.
+   */
+  public Location geocode(String postalCode, String city) {
+    String code = postalCode(postalCode);
+    String name = cityKey(city);
+    Location location = null;
+    if (code.length() == 5) {
+      location = communes.get(code + "|" + name);
+      if (location == null) {
+        location = postalCodes.get(code);
+      }
+    }
+    if (location == null && !name.isEmpty()) {
+      location = cities.get(name);
+    }
+    if (location == null && code.length() == 5) {
+      location = departments.get(department(code));
+    }
+    return location;
+  }
+
+  /**
+   * Renseigne les coordonnées de l'adresse d'après son code postal et sa commune.
+   */
+  public void apply(Adress adress) {
+    Location location = geocode(adress.getPostalCode(), adress.getCity());
+    adress.setLatitude(location == null ? null : location.latitude());
+    adress.setLongitude(location == null ? null : location.longitude());
+    adress.setGeohash(location == null ? null : location.geohash());
+    adress.setGeoPrecision(location == null ? GeoPrecision.inconnue : location.precision());
+  }
+
+  private void load(Reader reader) throws IOException {
+    try (CsvReader csv = new CsvReader(reader)) {
+      List<String> header = csv.next();
+      if (header == null) {
+        return;
+      }
+      int postalColumn = -1;
+      int cityColumn = -1;
+      int latColumn = -1;
+      int lonColumn = -1;
+      int pointColumn = -1;
+      for (int i = 0; i < header.size(); i++) {
+        switch (SearchText.normalize(header.get(i))) {
+          case "code postal", "codepostal", "cp", "postal code" -> postalColumn = i;
+          case "commune", "nom de la commune", "nom commune postal", "nom commune", "ville", "city" ->
+              cityColumn = cityColumn < 0 ? i : cityColumn;
+          case "latitude", "lat" -> latColumn = i;
+          case "longitude", "lon", "lng" -> lonColumn = i;
+          case "coordonnees gps", "coordonnees", "geopoint" -> pointColumn = i;
+          default -> {
+          }
+        }
+      }
+      if (postalColumn < 0 || cityColumn < 0 || (pointColumn < 0 && (latColumn < 0 || lonColumn < 0))) {
+        throw new IOException("Colonnes attendues : code postal, commune, latitude et longitude (ou coordonnées)");
+      }
+
+      Map<String, double[]> communeSums = new HashMap<>();
+      Map<String, double[]> postalSums = new HashMap<>();
+      Map<String, double[]> citySums = new HashMap<>();
+      Map<String, double[]> departmentSums = new HashMap<>();
+      Map<String, Set<String>> cityDepartments = new HashMap<>();
+      List<String> row;
+      while ((row = csv.next()) != null) {
+        double[] point = point(row, latColumn, lonColumn, pointColumn);
+        String code = postalCode(field(row, postalColumn));
+        String name = cityKey(field(row, cityColumn));
+        if (point == null || code.length() != 5 || name.isEmpty()) {
+          continue;
+        }
+        accumulate(communeSums, code + "|" + name, point);
+        accumulate(postalSums, code, point);
+        accumulate(citySums, name, point);
+        accumulate(departmentSums, department(code), point);
+        cityDepartments.computeIfAbsent(name, k -> new HashSet<>()).add(department(code));
+      }
+      communeSums.forEach((key, sum) -> communes.put(key, average(sum, GeoPrecision.commune)));
+      postalSums.forEach((key, sum) -> postalCodes.put(key, average(sum, GeoPrecision.code_postal)));
+      // Un nom présent dans plusieurs départements (Saint-Denis...) ne suffit pas à situer l'adresse
+      citySums.forEach((key, sum) -> {
+        if (cityDepartments.get(key).size() == 1) {
+          cities.put(key, average(sum, GeoPrecision.commune));
+        }
+      });
+      departmentSums.forEach((key, sum) -> departments.put(key, average(sum, GeoPrecision.departement)));
+    }
+  }
+
+  private static double[] point(List<String> row, int latColumn, int lonColumn, int pointColumn) {
+    try {
+      if (pointColumn >= 0) {
+        String[] parts = field(row, pointColumn).split(",");
+        if (parts.length != 2) {
+          return null;
+        }
+        return new double[]{Double.parseDouble(parts[0].trim()), Double.parseDouble(parts[1].trim())};
+      }
+      return new double[]{Double.parseDouble(field(row, latColumn).trim().replace(',', '.')),
+          Double.parseDouble(field(row, lonColumn).trim().replace(',', '.'))};
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static String field(List<String> row, int index) {
+    return index < row.size() ? row.get(index) : "";
+  }
+
+  private static void accumulate(Map<String, double[]> sums, String key, double[] point) {
+    double[] sum = sums.computeIfAbsent(key, k -> new double[3]);
+    sum[0] += point[0];
+    sum[1] += point[1];
+    sum[2]++;
+  }
+
+  private static Location average(double[] sum, GeoPrecision precision) {
+    return new Location(sum[0] / sum[2], sum[1] / sum[2], precision);
+  }
+
+  /**
+   * Code postal sur 5 chiffres ; le zéro initial perdu par un tableur ("4000") est rétabli.
+   */
+  private static String postalCode(String postalCode) {
+    String digits = SearchText.digits(postalCode);
+    return digits.length() == 4 ? "0" + digits : digits;
+  }
+
+  /**
+   * Département d'un code postal : 3 chiffres outre-mer (971, 974...), 2 sinon.
+   */
+  private static String department(String postalCode) {
+    return postalCode.startsWith("97") ? postalCode.substring(0, 3) : postalCode.substring(0, 2);
+  }
+
+  /**
+   * Nom de commune normalisé : sans accents ni casse, "St"/"Ste" développés, sans "Cedex" ni arrondissement
+   * ("Paris 11e", "Lyon 3ème").
+   */
+  private static String cityKey(String city) {
+    StringBuilder key = new StringBuilder();
+    for (String word : SearchText.normalize(city).split(" ")) {
+      if (word.isEmpty() || word.equals("cedex") || word.matches("\\d+(e|er|eme)?")) {
+        continue;
+      }
+      if (!key.isEmpty()) {
+        key.append(' ');
+      }
+      key.append(switch (word) {
+        case "st" -> "saint";
+        case "ste" -> "sainte";
+        default -> word;
+      });
+    }
+    return key.toString();
+  }
+}
@@ -0,0 +1,122 @@
+package fr.ttelab.orgaservice_back.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Efface du magasin les images que plus aucune remarque ne référence.
+ * <p>
+ * Les compteurs à zéro depuis plus de {@code images.sweepGraceMs} sont supprimés, puis les fichiers plus
+ * anciens que ce délai sont vérifiés par tranches auprès de tous les shards : ceux sans compteur (images
+ * retirées, ou envoyées mais jamais jointes à une remarque) sont effacés avec leurs versions réduites.
+ * Un fichier renvoyé ou rattaché pendant le délai a sa date de modification rafraîchie ({@link BlobStore#touch})
+ * et n'est donc pas effacé.
+ */
+@Slf4j
+@Service
+public class ImageBlobSweeper {
+
+  private static final int BATCH_SIZE = 500;
+
+  private final BlobStore blobStore;
+  private final ImageRenditions imageRenditions;
+  private final ShardedQueryService shardedQueryService;
+  private final NamedParameterJdbcTemplate jdbc;
+  private final MeterRegistry meterRegistry;
+  private final Duration grace;
+
+  public ImageBlobSweeper(BlobStore blobStore,
+                          ImageRenditions imageRenditions,
+                          ShardedQueryService shardedQueryService,
+                          NamedParameterJdbcTemplate jdbc,
+                          MeterRegistry meterRegistry,
+                          @Value("${images.sweepGraceMs:86400000}") long graceMs) {
+    this.blobStore = blobStore;
+    this.imageRenditions = imageRenditions;
+    this.shardedQueryService = shardedQueryService;
+    this.jdbc = jdbc;
+    this.meterRegistry = meterRegistry;
+    this.grace = Duration.ofMillis(graceMs);
+  }
+
+  @Scheduled(cron = "${images.sweepCron:0 17 * * * *}")
+  public void sweep() {
+    Instant threshold = Instant.now().minus(grace);
+    MapSqlParameterSource params = new MapSqlParameterSource("threshold", Timestamp.from(threshold));
+    int released = 0;
+    for (Integer deleted : shardedQueryService.gather(() -> jdbc.update(
+        "delete from image_reference where ref_count <= 0 and unreferenced_since < :threshold", params))) {
+      released += deleted;
+    }
+
+    int swept = 0;
+    try (Stream<BlobStore.Blob> blobs = blobStore.list()) {
+      Iterator<BlobStore.Blob> candidates = blobs.filter(blob -> blob.modified().isBefore(threshold)).iterator();
+      List<String> batch = new ArrayList<>(BATCH_SIZE);
+      while (candidates.hasNext()) {
+        batch.add(candidates.next().hash());
+        if (batch.size() == BATCH_SIZE || !candidates.hasNext()) {
+          swept += sweep(batch, threshold);
+          batch.clear();
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Nettoyage du magasin d'images impossible : {}", e.toString());
+    }
+
+    if (swept > 0) {
+      meterRegistry.counter("images.swept").increment(swept);
+    }
+    if (released > 0 || swept > 0) {
+      log.info("Magasin d'images : {} compteur(s) à zéro supprimé(s), {} fichier(s) effacé(s)", released, swept);
+    }
+  }
+
+  private int sweep(List<String> hashes, Instant threshold) {
+    Set<String> unreferenced = new HashSet<>(hashes);
+    MapSqlParameterSource params = new MapSqlParameterSource("hashes", hashes);
+    unreferenced.removeAll(shardedQueryService.scatter(() -> jdbc.queryForList(
+        "select distinct hash from image_reference where hash in (:hashes)", params, String.class)));
+    if (unreferenced.isEmpty()) {
+      return 0;
+    }
+    // Garde-fou : une remarque qui référence encore l'image sans compteur (compteurs faussés) la conserve
+    List<String> refs = unreferenced.stream().map(hash -> RemarkImageStore.REF_PREFIX + hash).toList();
+    List<String> stillUsed = shardedQueryService.scatter(() -> jdbc.queryForList(
+        "select distinct image_ref from remark_images where image_ref in (:refs)",
+        new MapSqlParameterSource("refs", refs), String.class));
+    for (String ref : stillUsed) {
+      log.warn("Image {} référencée sans compteur : conservée", ref);
+      unreferenced.remove(ref.substring(RemarkImageStore.REF_PREFIX.length()));
+    }
+
+    int deleted = 0;
+    for (String hash : unreferenced) {
+      try {
+        if (blobStore.deleteIfOlderThan(hash, threshold)) {
+          imageRenditions.delete(hash);
+          deleted++;
+        }
+      } catch (IOException e) {
+        log.warn("Suppression de l'image {} impossible : {}", hash, e.toString());
+      }
+    }
+    return deleted;
+  }
+}
@@ -0,0 +1,135 @@
+package fr.ttelab.orgaservice_back.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Comptage des références aux images du magasin, par propriétaire ({@code image_reference}).
+ * <p>
+ * Le magasin est adressé par contenu : une même photo jointe à plusieurs remarques n'y est qu'une fois, et
+ * chaque propriétaire qui la joint en tient un compteur. Les compteurs suivent la création, la modification,
+ * la suppression et la purge des remarques ; {@link ImageBlobSweeper} efface ensuite les fichiers que plus
+ * personne ne référence.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageReferences {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ShardedQueryService shardedQueryService;
+  private final PlatformTransactionManager transactionManager;
+
+  /**
+   * Compte les références ajoutées (images d'une nouvelle remarque).
+   */
+  public void retain(UUID ownerId, Collection<String> refs) {
+    replace(ownerId, List.of(), refs);
+  }
+
+  /**
+   * Décompte les références retirées (remarque supprimée).
+   */
+  public void release(UUID ownerId, Collection<String> refs) {
+    replace(ownerId, refs, List.of());
+  }
+
+  /**
+   * Remplace les références d'une remarque : seules les différences sont appliquées.
+   */
+  public void replace(UUID ownerId, Collection<String> before, Collection<String> after) {
+    Map<String, Integer> deltas = new HashMap<>();
+    count(before, -1, deltas);
+    count(after, 1, deltas);
+    deltas.forEach((hash, delta) -> adjust(ownerId, hash, delta));
+  }
+
+  /**
+   * Vrai si l'utilisateur référence l'image (jointe à au moins une de ses remarques).
+   */
+  public boolean holds(UUID ownerId, String hash) {
+    Integer held = jdbcTemplate.queryForObject("select count(*) from image_reference "
+        + "where owner_id = ? and hash = ? and ref_count > 0", Integer.class, ownerId, hash);
+    return held != null && held > 0;
+  }
+
+  /**
+   * Applique un écart de compteur calculé en SQL (purge de remarques en masse).
+   */
+  public void adjust(UUID ownerId, String hash, int delta) {
+    if (delta > 0) {
+      // Une seule requête (MERGE standard, H2 comme PostgreSQL 15+) : pas d'INSERT en échec qui annulerait la
+      // transaction de l'appelant sous PostgreSQL
+      jdbcTemplate.update("merge into image_reference r "
+              + "using (select cast(? as uuid) as owner_id, cast(? as varchar(64)) as hash) s "
+              + "on r.owner_id = s.owner_id and r.hash = s.hash "
+              + "when matched then update set ref_count = r.ref_count + ?, unreferenced_since = null "
+              + "when not matched then insert (id, owner_id, hash, ref_count, unreferenced_since) "
+              + "values (?, s.owner_id, s.hash, ?, null)",
+          ownerId, hash, delta, UUID.randomUUID(), delta);
+    } else if (delta < 0) {
+      jdbcTemplate.update("update image_reference set ref_count = greatest(ref_count - ?, 0), "
+              + "unreferenced_since = case when ref_count - ? <= 0 then ? else unreferenced_since end "
+              + "where owner_id = ? and hash = ?",
+          -delta, -delta, LocalDateTime.now(), ownerId, hash);
+    }
+  }
+
+  /**
+   * Compteurs initiaux, au premier démarrage avec le comptage : images déjà référencées par les remarques
+   * (y compris celles supprimées mais pas encore purgées, que la purge décomptera). Avant la migration des
+   * images en base64, qui compte elle-même les images qu'elle déplace.
+   */
+  @Order(0)
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfill() {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    int total = 0;
+    for (Integer inserted : shardedQueryService.gather(() -> transaction.execute(status -> {
+      Integer existing = jdbcTemplate.queryForObject("select count(*) from image_reference", Integer.class);
+      if (existing != null && existing > 0) {
+        return 0;
+      }
+      List<Object[]> rows = jdbcTemplate.query("select r.owner_id, i.image_ref, count(*) as refs "
+              + "from remark_images i join remark r on r.id = i.remark_id "
+              + "where i.image_ref like '" + RemarkImageStore.REF_PREFIX + "%' group by r.owner_id, i.image_ref",
+          (rs, i) -> new Object[]{UUID.randomUUID(), rs.getObject("owner_id"),
+              rs.getString("image_ref").substring(RemarkImageStore.REF_PREFIX.length()), rs.getInt("refs")});
+      if (!rows.isEmpty()) {
+        jdbcTemplate.batchUpdate("insert into image_reference (id, owner_id, hash, ref_count, unreferenced_since) "
+            + "values (?, ?, ?, ?, null)", rows);
+      }
+      return rows.size();
+    }))) {
+      total += inserted;
+    }
+    if (total > 0) {
+      log.info("Références d'images initialisées : {} image(s) par propriétaire", total);
+    }
+  }
+
+  private static void count(Collection<String> refs, int sign, Map<String, Integer> deltas) {
+    if (refs == null) {
+      return;
+    }
+    for (String ref : refs) {
+      if (ref != null && ref.startsWith(RemarkImageStore.REF_PREFIX)) {
+        deltas.merge(ref.substring(RemarkImageStore.REF_PREFIX.length()), sign, Integer::sum);
+      }
+    }
+  }
+}
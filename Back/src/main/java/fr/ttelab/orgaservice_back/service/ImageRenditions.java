@@ -0,0 +1,306 @@
+package fr.ttelab.orgaservice_back.service;
+
+import fr.ttelab.orgaservice_back.util.ExifOrientation;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Versions réduites (miniature, taille moyenne) des images du {@link BlobStore}, en JPEG.
+ * <p>
+ * Elles sont calculées en arrière-plan sur un pool borné ({@code images.renditions.threads}), après l'envoi de
+ * l'image ou à la première demande d'une image plus ancienne, et gardées sur disque sous l'empreinte de
+ * l'original. Tant qu'une version n'existe pas, l'original est servi. Un fichier vide indique que l'original
+ * convient (déjà assez petit, ou format qu'ImageIO ne sait pas lire comme HEIC/WebP) : il n'est pas recalculé.
+ */
+@Slf4j
+@Service
+public class ImageRenditions {
+
+  /**
+   * Tailles proposées, par plus grand côté en pixels, de la plus grande à la plus petite.
+   */
+  public enum Size {
+    medium(1280),
+    thumb(320);
+
+    private final int maxSide;
+
+    Size(int maxSide) {
+      this.maxSide = maxSide;
+    }
+  }
+
+  private final BlobStore blobStore;
+  private final Path root;
+  private final Path tmp;
+  private final float jpegQuality;
+  private final ThreadPoolExecutor executor;
+  private final Set<String> pending = ConcurrentHashMap.newKeySet();
+  private final MeterRegistry meterRegistry;
+  private final Timer renderTimer;
+
+  public ImageRenditions(BlobStore blobStore,
+                         MeterRegistry meterRegistry,
+                         @Value("${images.renditions.dir:data/renditions}") String dir,
+                         @Value("${images.renditions.threads:2}") int threads,
+                         @Value("${images.renditions.maxQueued:200}") int maxQueued,
+                         @Value("${images.renditions.jpegQuality:0.82}") float jpegQuality) {
+    this.blobStore = blobStore;
+    this.meterRegistry = meterRegistry;
+    this.root = Path.of(dir).toAbsolutePath().normalize();
+    this.tmp = root.resolve("tmp");
+    this.jpegQuality = jpegQuality;
+    try {
+      Files.createDirectories(tmp);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Répertoire des miniatures inaccessible : " + root, e);
+    }
+
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(maxQueued),
+        runnable -> {
+          Thread thread = new Thread(runnable, "renditions-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          thread.setPriority(Thread.MIN_PRIORITY);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+
+    this.renderTimer = Timer.builder("images.renditions.render").register(meterRegistry);
+    Gauge.builder("images.renditions.pool.queued", executor, e -> e.getQueue().size()).register(meterRegistry);
+  }
+
+  /**
+   * Version réduite à servir, ou null si l'original doit l'être (version pas encore calculée : elle est
+   * alors demandée au pool).
+   */
+  public Path find(String hash, Size size) throws IOException {
+    Path path = path(hash, size);
+    if (Files.exists(path)) {
+      return Files.size(path) > 0 ? path : null;
+    }
+    schedule(hash);
+    return null;
+  }
+
+  /**
+   * Vrai si la version est définitive : calculée, ou original marqué comme suffisant. Sinon l'original servi à
+   * sa place n'est que provisoire.
+   */
+  public boolean settled(String hash, Size size) {
+    return Files.exists(path(hash, size));
+  }
+
+  /**
+   * Demande le calcul des versions manquantes de l'image. Sans effet si le calcul est déjà en cours ou si le
+   * pool est saturé (il sera redemandé au prochain affichage).
+   */
+  public void schedule(String hash) {
+    if (!BlobStore.isHash(hash) || !pending.add(hash)) {
+      return;
+    }
+    try {
+      executor.execute(() -> {
+        try {
+          render(hash);
+        } finally {
+          pending.remove(hash);
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      pending.remove(hash);
+      meterRegistry.counter("images.renditions", "result", "rejected").increment();
+    }
+  }
+
+  /**
+   * Efface les versions réduites d'une image supprimée du magasin.
+   */
+  public void delete(String hash) throws IOException {
+    if (!BlobStore.isHash(hash)) {
+      return;
+    }
+    for (Size size : Size.values()) {
+      Files.deleteIfExists(path(hash, size));
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private void render(String hash) {
+    Path source = blobStore.path(hash);
+    if (source == null || !Files.isRegularFile(source) || allExist(hash)) {
+      return;
+    }
+    long start = System.nanoTime();
+    try {
+      Decoded decoded = decode(source, Size.medium.maxSide);
+      int orientation = decoded == null ? 1 : ExifOrientation.read(source);
+      BufferedImage current = decoded == null ? null : decoded.image();
+      for (Size size : Size.values()) {
+        Path target = path(hash, size);
+        if (Files.exists(target)) {
+          continue;
+        }
+        int longest = decoded == null ? 0 : Math.max(decoded.width(), decoded.height());
+        if (longest <= size.maxSide) {
+          markOriginal(target);
+          continue;
+        }
+        // Chaque taille est réduite depuis la précédente (miniature depuis la taille moyenne)
+        double ratio = (double) size.maxSide / longest;
+        current = scale(current, Math.max(1, (int) Math.round(decoded.width() * ratio)),
+            Math.max(1, (int) Math.round(decoded.height() * ratio)));
+        write(ExifOrientation.apply(current, orientation), target, Files.size(source));
+      }
+      meterRegistry.counter("images.renditions", "result", decoded == null ? "unsupported" : "rendered").increment();
+    } catch (IOException | RuntimeException e) {
+      // Image corrompue ou non décodable : l'original sera servi
+      log.warn("Miniatures impossibles pour l'image {} : {}", hash, e.toString());
+      meterRegistry.counter("images.renditions", "result", "failed").increment();
+      try {
+        for (Size size : Size.values()) {
+          if (!Files.exists(path(hash, size))) {
+            markOriginal(path(hash, size));
+          }
+        }
+      } catch (IOException ignored) {
+        // Sera retenté à la prochaine demande
+      }
+    } finally {
+      renderTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private record Decoded(BufferedImage image, int width, int height) {
+  }
+
+  /**
+   * Décode l'image en sautant des pixels dès la lecture (sous-échantillonnage) quand elle fait plus du double
+   * de {@code maxSide} : une photo de 12 Mpx n'est jamais décodée en pleine résolution.
+   * Null si ImageIO ne connaît pas le format.
+   */
+  private Decoded decode(Path source, int maxSide) throws IOException {
+    try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+      Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+      if (readers == null || !readers.hasNext()) {
+        return null;
+      }
+      ImageReader reader = readers.next();
+      try {
+        reader.setInput(in, true, true);
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        ImageReadParam param = reader.getDefaultReadParam();
+        int step = Math.max(1, Math.max(width, height) / (maxSide * 2));
+        param.setSourceSubsampling(step, step, 0, 0);
+        return new Decoded(reader.read(0, param), width, height);
+      } finally {
+        reader.dispose();
+      }
+    }
+  }
+
+  /**
+   * Réduction par divisions successives par deux (bilinéaire) : plus net qu'une réduction en une passe, bien
+   * moins coûteux qu'un filtre bicubique sur l'image entière. Fond blanc pour les images transparentes (JPEG).
+   */
+  private static BufferedImage scale(BufferedImage image, int width, int height) {
+    BufferedImage current = image;
+    int w = current.getWidth();
+    int h = current.getHeight();
+    do {
+      w = Math.max(width, w / 2);
+      h = Math.max(height, h / 2);
+      BufferedImage next = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
+      Graphics2D g = next.createGraphics();
+      g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      g.setColor(Color.WHITE);
+      g.fillRect(0, 0, w, h);
+      g.drawImage(current, 0, 0, w, h, null);
+      g.dispose();
+      current = next;
+    } while (w != width || h != height);
+    return current;
+  }
+
+  /**
+   * Écrit la version en JPEG, ou marque l'original comme suffisant si elle n'est pas plus légère que lui.
+   */
+  private void write(BufferedImage image, Path target, long originalSize) throws IOException {
+    Path temp = tmp.resolve(UUID.randomUUID() + ".jpg");
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(jpegQuality);
+      writer.setOutput(out);
+      writer.write(null, new IIOImage(image, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    if (Files.size(temp) >= originalSize) {
+      Files.delete(temp);
+      markOriginal(target);
+      return;
+    }
+    Files.createDirectories(target.getParent());
+    Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private static void markOriginal(Path target) throws IOException {
+    Files.createDirectories(target.getParent());
+    Files.write(target, new byte[0]);
+  }
+
+  private boolean allExist(String hash) {
+    for (Size size : Size.values()) {
+      if (!Files.exists(path(hash, size))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Path path(String hash, Size size) {
+    return root.resolve(size.name()).resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4))
+        .resolve(hash + ".jpg");
+  }
+}
@@ -0,0 +1,299 @@
+package fr.ttelab.orgaservice_back.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Envois d'images par morceaux, reprenables : le client ouvre un envoi, pousse des morceaux bruts à la position
+ * déjà reçue (une connexion coupée garde tout ce qui est arrivé), puis le termine.
+ * <p>
+ * Chaque morceau est écrit du flux de la requête vers un fichier temporaire par NIO, tampon par tampon, et
+ * l'empreinte SHA-256 est calculée au fil de l'eau : rien n'est gardé en mémoire et le fichier n'est pas relu
+ * à la fin. Les envois en cours sont en mémoire : un redémarrage les perd (le client recommence) ; ceux
+ * inactifs depuis {@code images.upload.expiryMs} sont supprimés avec leur fichier.
+ * <p>
+ * Pour qu'un utilisateur ne puisse pas remplir le disque, chacun a au plus {@code images.upload.maxSessionsPerOwner}
+ * envois ouverts, et l'ensemble des envois réserve au plus {@code images.upload.maxPendingBytes} octets (la taille
+ * annoncée, ou la taille maximale si elle ne l'est pas).
+ */
+@Slf4j
+@Service
+public class ImageUploads {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Envoi inconnu, expiré ou d'un autre utilisateur.
+   */
+  public static class UnknownUploadException extends RuntimeException {
+    public UnknownUploadException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * Morceau refusé : position différente de celle déjà reçue, envoi incomplet ou morceau en cours d'écriture.
+   */
+  public static class UploadConflictException extends RuntimeException {
+    private final Status status;
+
+    public UploadConflictException(String message, Status status) {
+      super(message);
+      this.status = status;
+    }
+
+    public Status getStatus() {
+      return status;
+    }
+  }
+
+  /**
+   * Taille annoncée ou reçue au-delà de {@code images.upload.maxBytes}.
+   */
+  public static class UploadTooLargeException extends RuntimeException {
+    public UploadTooLargeException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * Trop d'envois ouverts pour l'utilisateur, ou plus assez de place réservable pour les envois en cours.
+   */
+  public static class UploadLimitException extends RuntimeException {
+    public UploadLimitException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * État d'un envoi : octets reçus ({@code offset}) et taille annoncée (null si inconnue).
+   */
+  public record Status(String uploadId, long offset, Long length) {
+  }
+
+  private static final class Session {
+    private final String id;
+    private final UUID ownerId;
+    private final Path file;
+    private final Long length;
+    private final MessageDigest digest = BlobStore.sha256();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long offset;
+    private volatile long lastActivity = System.currentTimeMillis();
+
+    private Session(String id, UUID ownerId, Path file, Long length) {
+      this.id = id;
+      this.ownerId = ownerId;
+      this.file = file;
+      this.length = length;
+    }
+
+    private Status status() {
+      return new Status(id, offset, length);
+    }
+
+    private long reserved(long maxBytes) {
+      return length != null ? length : maxBytes;
+    }
+  }
+
+  private final BlobStore blobStore;
+  private final RemarkImageStore remarkImageStore;
+  private final long maxBytes;
+  private final long expiryMs;
+  private final int maxSessionsPerOwner;
+  private final long maxPendingBytes;
+  private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+  private final Object startLock = new Object();
+
+  public ImageUploads(BlobStore blobStore,
+                      RemarkImageStore remarkImageStore,
+                      @Value("${images.upload.maxBytes:52428800}") long maxBytes,
+                      @Value("${images.upload.expiryMs:86400000}") long expiryMs,
+                      @Value("${images.upload.maxSessionsPerOwner:5}") int maxSessionsPerOwner,
+                      @Value("${images.upload.maxPendingBytes:2147483648}") long maxPendingBytes) {
+    this.blobStore = blobStore;
+    this.remarkImageStore = remarkImageStore;
+    this.maxBytes = maxBytes;
+    this.expiryMs = expiryMs;
+    this.maxSessionsPerOwner = maxSessionsPerOwner;
+    this.maxPendingBytes = maxPendingBytes;
+  }
+
+  public Status start(UUID ownerId, Long length) throws IOException {
+    if (length != null && (length <= 0 || length > maxBytes)) {
+      throw new UploadTooLargeException("length must be between 1 and " + maxBytes);
+    }
+    String id = UUID.randomUUID().toString();
+    Path file = blobStore.tmpDir().resolve("upload-" + id);
+    Session session = new Session(id, ownerId, file, length);
+    // Vérification et enregistrement ensemble : deux ouvertures simultanées ne dépassent pas les limites
+    synchronized (startLock) {
+      int owned = 0;
+      long pending = session.reserved(maxBytes);
+      for (Session other : sessions.values()) {
+        if (other.ownerId.equals(ownerId)) {
+          owned++;
+        }
+        pending += other.reserved(maxBytes);
+      }
+      if (owned >= maxSessionsPerOwner) {
+        throw new UploadLimitException("At most " + maxSessionsPerOwner + " uploads in progress");
+      }
+      if (pending > maxPendingBytes) {
+        throw new UploadLimitException("Too many uploads in progress, retry later");
+      }
+      sessions.put(id, session);
+    }
+    try {
+      Files.createFile(file);
+    } catch (IOException e) {
+      sessions.remove(id);
+      throw e;
+    }
+    return session.status();
+  }
+
+  public Status status(UUID ownerId, String uploadId) {
+    return session(ownerId, uploadId).status();
+  }
+
+  /**
+   * Ajoute le corps de la requête à la position {@code offset}, qui doit être celle déjà reçue. Si le flux
+   * est interrompu, les octets arrivés jusque-là restent acquis.
+   */
+  public Status append(UUID ownerId, String uploadId, long offset, InputStream body) throws IOException {
+    Session session = session(ownerId, uploadId);
+    if (!session.lock.tryLock()) {
+      throw new UploadConflictException("Another chunk is being written", session.status());
+    }
+    try {
+      if (offset != session.offset) {
+        throw new UploadConflictException("Expected offset " + session.offset, session.status());
+      }
+      long limit = session.length != null ? session.length : maxBytes;
+      ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+      try (FileChannel channel = FileChannel.open(session.file, StandardOpenOption.WRITE)) {
+        ReadableByteChannel in = Channels.newChannel(body);
+        channel.position(session.offset);
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+          if (read == 0) {
+            continue;
+          }
+          if (session.offset + buffer.position() > limit) {
+            throw new UploadTooLargeException("Upload exceeds " + limit + " bytes");
+          }
+          buffer.flip();
+          session.digest.update(buffer.array(), 0, buffer.limit());
+          while (buffer.hasRemaining()) {
+            channel.write(buffer);
+          }
+          session.offset += buffer.limit();
+          session.lastActivity = System.currentTimeMillis();
+          buffer.clear();
+        }
+      }
+      return session.status();
+    } finally {
+      session.lock.unlock();
+    }
+  }
+
+  /**
+   * Termine l'envoi : l'image rejoint le magasin et sa référence est renvoyée.
+   *
+   * @throws RemarkImageStore.InvalidImageException si le contenu n'est pas une image
+   */
+  public String complete(UUID ownerId, String uploadId) throws IOException {
+    Session session = session(ownerId, uploadId);
+    if (!session.lock.tryLock()) {
+      throw new UploadConflictException("A chunk is being written", session.status());
+    }
+    try {
+      if (session.offset == 0 || (session.length != null && session.offset != session.length)) {
+        throw new UploadConflictException("Upload incomplete", session.status());
+      }
+      sessions.remove(session.id);
+      // Octets d'une écriture interrompue au-delà de la position acquise
+      try (FileChannel channel = FileChannel.open(session.file, StandardOpenOption.WRITE)) {
+        channel.truncate(session.offset);
+      }
+      String hash = HexFormat.of().formatHex(session.digest.digest());
+      return remarkImageStore.storeFile(session.file, hash);
+    } finally {
+      session.lock.unlock();
+    }
+  }
+
+  public void cancel(UUID ownerId, String uploadId) throws IOException {
+    Session session = session(ownerId, uploadId);
+    sessions.remove(session.id);
+    Files.deleteIfExists(session.file);
+  }
+
+  /**
+   * Supprime les envois abandonnés et les fichiers temporaires orphelins (écritures interrompues par un arrêt).
+   */
+  @Scheduled(fixedDelayString = "${images.upload.sweepMs:600000}")
+  public void expire() {
+    long threshold = System.currentTimeMillis() - expiryMs;
+    int expired = 0;
+    for (Session session : sessions.values()) {
+      if (session.lastActivity < threshold && !session.lock.isLocked() && sessions.remove(session.id, session)) {
+        deleteQuietly(session.file);
+        expired++;
+      }
+    }
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(blobStore.tmpDir())) {
+      for (Path file : files) {
+        String name = file.getFileName().toString();
+        boolean active = name.startsWith("upload-") && sessions.containsKey(name.substring("upload-".length()));
+        if (!active && Files.getLastModifiedTime(file).toMillis() < threshold) {
+          deleteQuietly(file);
+          expired++;
+        }
+      }
+    } catch (IOException e) {
+      log.warn("Nettoyage des envois temporaires impossible : {}", e.toString());
+    }
+    if (expired > 0) {
+      log.info("{} envoi(s) d'image abandonné(s) supprimé(s)", expired);
+    }
+  }
+
+  private Session session(UUID ownerId, String uploadId) {
+    Session session = uploadId == null ? null : sessions.get(uploadId);
+    if (session == null || !session.ownerId.equals(ownerId)) {
+      throw new UnknownUploadException("Upload not found");
+    }
+    return session;
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Suppression de {} impossible : {}", file, e.toString());
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package fr.ttelab.orgaservice_back.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * URL signées des images : {@code /api/images/<empreinte>?owner=<id>&exp=<epoch s>&sig=<HMAC>}, utilisables
+ * dans une balise {@code <img>} sans en-tête Authorization.
+ * <p>
+ * La signature (HMAC-SHA256 de l'empreinte, du propriétaire et de l'expiration) n'est délivrée qu'à un
+ * utilisateur qui référence l'image ou vient de l'envoyer, et ne vaut que jusqu'à l'expiration : une URL
+ * copiée ou journalisée cesse de fonctionner. L'expiration est arrondie à la fenêtre de {@code images.urlTtlMs}
+ * pour que l'URL d'une image reste la même (et en cache) d'une réponse à l'autre pendant cette fenêtre ; elle
+ * est valable entre une et deux fenêtres.
+ */
+@Service
+public class ImageUrlSigner {
+
+  private static final String ALGORITHM = "HmacSHA256";
+
+  private final SecretKeySpec key;
+  private final long ttlSeconds;
+
+  public ImageUrlSigner(@Value("${images.urlSecret:${jwt.secret}}") String secret,
+                        @Value("${images.urlTtlMs:3600000}") long ttlMs) {
+    // Clé dérivée, distincte de celle des JWT même si le secret est partagé
+    this.key = new SecretKeySpec(hmac(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM),
+        "images"), ALGORITHM);
+    this.ttlSeconds = Math.max(1, ttlMs / 1000);
+  }
+
+  /**
+   * Paramètres de requête signés pour l'image et le propriétaire.
+   */
+  public String query(String hash, UUID ownerId) {
+    long exp = (Instant.now().getEpochSecond() / ttlSeconds + 2) * ttlSeconds;
+    return "owner=" + ownerId + "&exp=" + exp + "&sig=" + signature(hash, ownerId.toString(), exp);
+  }
+
+  /**
+   * Expiration de la signature si elle est valide pour l'image et pas encore expirée, sinon null.
+   */
+  public Instant verify(String hash, String owner, String exp, String sig) {
+    if (hash == null || owner == null || exp == null || sig == null) {
+      return null;
+    }
+    long expires;
+    try {
+      expires = Long.parseLong(exp);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+    if (expires <= Instant.now().getEpochSecond()) {
+      return null;
+    }
+    byte[] expected = signature(hash, owner, expires).getBytes(StandardCharsets.US_ASCII);
+    return MessageDigest.isEqual(expected, sig.getBytes(StandardCharsets.US_ASCII))
+        ? Instant.ofEpochSecond(expires) : null;
+  }
+
+  /**
+   * Vrai si l'URL porte une signature valide de l'image pour ce propriétaire.
+   */
+  public boolean verifiesUrl(String url, String hash, UUID ownerId) {
+    MultiValueMap<String, String> params;
+    try {
+      params = UriComponentsBuilder.fromUriString(url).build().getQueryParams();
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+    return ownerId.toString().equals(params.getFirst("owner"))
+        && verify(hash, params.getFirst("owner"), params.getFirst("exp"), params.getFirst("sig")) != null;
+  }
+
+  private String signature(String hash, String owner, long exp) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(hmac(key, hash + ":" + owner + ":" + exp));
+  }
+
+  private static byte[] hmac(SecretKeySpec key, String data) {
+    try {
+      Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(key);
+      return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
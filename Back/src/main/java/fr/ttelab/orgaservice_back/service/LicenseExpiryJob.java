@@ -0,0 +1,63 @@
+package fr.ttelab.orgaservice_back.service;
+
+import fr.ttelab.orgaservice_back.entity.UserStatus;
+import fr.ttelab.orgaservice_back.repository.UserRepository;
+import fr.ttelab.orgaservice_back.security.PrincipalCache;
+import fr.ttelab.orgaservice_back.security.TokenVersionRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Passe en INACTIVE les comptes ACTIVE dont la licence est terminée, par un UPDATE ensembliste par shard.
+ * Les comptes modifiés sont retirés du cache des principaux et leurs tokens revérifiés en base.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LicenseExpiryJob {
+
+  private final UserRepository userRepository;
+  private final ShardedQueryService shardedQueryService;
+  private final PlatformTransactionManager transactionManager;
+  private final PrincipalCache principalCache;
+  private final TokenVersionRegistry tokenVersions;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void expireOnStartup() {
+    expireLicenses();
+  }
+
+  @Scheduled(cron = "${license.expiryCron:0 */15 * * * *}")
+  public void expireLicenses() {
+    LocalDate today = LocalDate.now();
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    List<String> expired = new ArrayList<>();
+    for (List<String> usernames : shardedQueryService.gather(() -> transaction.execute(status -> {
+      List<String> due = userRepository.findUsernamesByStatusAndLicenseEndedBefore(UserStatus.ACTIVE, today);
+      if (!due.isEmpty()) {
+        userRepository.updateStatusWhereLicenseEndedBefore(UserStatus.ACTIVE, UserStatus.INACTIVE, today);
+      }
+      return due;
+    }))) {
+      expired.addAll(usernames);
+    }
+
+    for (String username : expired) {
+      principalCache.invalidate(username);
+      tokenVersions.revoke(username);
+    }
+    if (!expired.isEmpty()) {
+      log.info("Licences expirées : {} compte(s) passé(s) en INACTIVE", expired.size());
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package fr.ttelab.orgaservice_back.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Déplace dans le {@link BlobStore} les images encore enregistrées en base64 dans {@code remark_images}
+ * (remarques créées avant le magasin de fichiers). Les lignes sont traitées par petits lots : chacune peut
+ * peser plusieurs Mo. Une data URL illisible est laissée en place et ignorée aux lots suivants. Les images
+ * déplacées sont comptées dans {@link ImageReferences}, après l'initialisation des compteurs.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RemarkImageMigration {
+
+  private static final int BATCH_SIZE = 10;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ShardedQueryService shardedQueryService;
+  private final PlatformTransactionManager transactionManager;
+  private final RemarkImageStore remarkImageStore;
+  private final ImageReferences imageReferences;
+
+  private record Row(UUID remarkId, UUID ownerId, String image) {
+  }
+
+  @Order(1)
+  @EventListener(ApplicationReadyEvent.class)
+  public void migrate() {
+    TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+    int total = 0;
+    for (Integer migrated : shardedQueryService.gather(() -> {
+      // Pagination par clé (remark_id, image_ref) : les images illisibles restent en base sans être relues
+      String select = "select i.remark_id, r.owner_id, i.image_ref from remark_images i "
+          + "join remark r on r.id = i.remark_id where i.image_ref like 'data:%' ";
+      String page = "order by i.remark_id, i.image_ref limit " + BATCH_SIZE;
+      RowMapper<Row> mapper = (rs, i) -> new Row(rs.getObject("remark_id", UUID.class),
+          rs.getObject("owner_id", UUID.class), rs.getString("image_ref"));
+      int count = 0;
+      Row last = null;
+      List<Row> rows;
+      do {
+        rows = last == null
+            ? jdbcTemplate.query(select + page, mapper)
+            : jdbcTemplate.query(select + "and (i.remark_id, i.image_ref) > (?, ?) " + page, mapper,
+                last.remarkId(), last.image());
+        if (!rows.isEmpty()) {
+          last = rows.get(rows.size() - 1);
+        }
+        for (Row row : rows) {
+          String ref;
+          try {
+            ref = remarkImageStore.storeDataUrl(row.image());
+          } catch (RemarkImageStore.InvalidImageException e) {
+            log.warn("Image illisible laissée en base pour la remarque {} : {}", row.remarkId(), e.getMessage());
+            continue;
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          count += transaction.execute(status -> {
+            int updated = jdbcTemplate.update(
+                "update remark_images set image_ref = ? where remark_id = ? and image_ref = ?",
+                ref, row.remarkId(), row.image());
+            imageReferences.adjust(row.ownerId(), RemarkImageStore.hashOf(ref), updated);
+            return updated;
+          });
+        }
+      } while (rows.size() == BATCH_SIZE);
+      return count;
+    })) {
+      total += migrated;
+    }
+    if (total > 0) {
+      log.info("{} image(s) de remarques déplacée(s) de la base vers le magasin de fichiers", total);
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package fr.ttelab.orgaservice_back.service;
+
+import fr.ttelab.orgaservice_back.util.ImageType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Images des remarques, rangées dans le {@link BlobStore}.
+ * <p>
+ * {@code remark_images.image_ref} ne contient plus que des références {@code sha256:<empreinte>} ; l'API
+ * les expose sous forme d'URL {@code /api/images/<empreinte>} signées pour le propriétaire et limitées dans le
+ * temps ({@link ImageUrlSigner}), utilisables directement dans une balise {@code <img>}. L'empreinte seule
+ * n'autorise rien : une image n'est jointe à une remarque que si l'utilisateur la référence déjà ou présente
+ * une URL signée pour lui (image qu'il vient d'envoyer).
+ */
+@Service
+@RequiredArgsConstructor
+public class RemarkImageStore {
+
+  public static final String REF_PREFIX = "sha256:";
+  public static final String URL_PATH = "/api/images/";
+
+  private static final Pattern IMAGE_URL = Pattern.compile(Pattern.quote(URL_PATH) + "([0-9a-f]{64})(?:[?#].*)?$");
+
+  private final BlobStore blobStore;
+  private final ImageRenditions imageRenditions;
+  private final ImageReferences imageReferences;
+  private final ImageUrlSigner imageUrlSigner;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Contenu refusé : pas une image reconnue, ou data URL illisible.
+   */
+  public static class InvalidImageException extends RuntimeException {
+    public InvalidImageException(String message) {
+      super(message);
+    }
+  }
+
+  /**
+   * Stocke l'image lue dans le flux et renvoie sa référence.
+   */
+  public String store(InputStream in) throws IOException {
+    BufferedInputStream buffered = new BufferedInputStream(in);
+    buffered.mark(ImageType.HEADER_LENGTH);
+    byte[] header = buffered.readNBytes(ImageType.HEADER_LENGTH);
+    buffered.reset();
+    if (ImageType.detect(header, header.length) == null) {
+      throw new InvalidImageException("Unsupported image format");
+    }
+    BlobStore.Stored stored = blobStore.put(buffered);
+    return stored(stored.hash(), stored.created());
+  }
+
+  /**
+   * Range dans le magasin un fichier temporaire complet dont l'empreinte a été calculée à l'écriture
+   * (envoi par morceaux, voir ImageUploads) et renvoie sa référence. Le fichier est déplacé ou supprimé.
+   */
+  public String storeFile(Path temp, String hash) throws IOException {
+    if (ImageType.detect(temp) == null) {
+      Files.delete(temp);
+      throw new InvalidImageException("Unsupported image format");
+    }
+    return stored(hash, blobStore.commit(temp, hash));
+  }
+
+  private String stored(String hash, boolean created) {
+    meterRegistry.counter("images.stored", "result", created ? "new" : "existing").increment();
+    imageRenditions.schedule(hash);
+    return REF_PREFIX + hash;
+  }
+
+  /**
+   * Références à enregistrer pour les images reçues d'un client : les URL et références de ce serveur sont
+   * ramenées à leur référence, les data URL (base64) sont décodées dans le magasin, les autres URL sont gardées
+   * telles quelles. Une image du magasin n'est acceptée que si l'utilisateur la référence déjà ou présente une
+   * URL signée pour lui.
+   */
+  public List<String> toRefs(UUID ownerId, List<String> images) throws IOException {
+    List<String> refs = new ArrayList<>();
+    if (images == null) {
+      return refs;
+    }
+    for (String image : images) {
+      if (image == null || image.isBlank()) {
+        continue;
+      }
+      if (image.startsWith("data:")) {
+        refs.add(storeDataUrl(image));
+        continue;
+      }
+      String hash = hashOf(image);
+      if (hash == null) {
+        refs.add(image);
+      } else if (blobStore.exists(hash)
+          && (imageUrlSigner.verifiesUrl(image, hash, ownerId) || imageReferences.holds(ownerId, hash))) {
+        // Rattachée à nouveau : pas d'effacement par ImageBlobSweeper pendant le délai de grâce
+        blobStore.touch(hash);
+        refs.add(REF_PREFIX + hash);
+      } else {
+        throw new InvalidImageException("Unknown image " + hash);
+      }
+    }
+    return refs;
+  }
+
+  /**
+   * URL des images à renvoyer au client, dans l'ordre des références.
+   */
+  public List<String> toUrls(UUID ownerId, List<String> refs) {
+    if (refs == null) {
+      return null;
+    }
+    List<String> urls = new ArrayList<>(refs.size());
+    for (String ref : refs) {
+      // Data URL restée en base (illisible lors de la migration) : jamais renvoyée dans les listes
+      if (ref != null && !ref.startsWith("data:")) {
+        urls.add(toUrl(ownerId, ref));
+      }
+    }
+    return urls;
+  }
+
+  /**
+   * URL signée pour le propriétaire d'une référence du magasin ; les autres références sont renvoyées telles quelles.
+   */
+  public String toUrl(UUID ownerId, String ref) {
+    if (ref == null || !ref.startsWith(REF_PREFIX)) {
+      return ref;
+    }
+    String hash = ref.substring(REF_PREFIX.length());
+    String path = URL_PATH + hash;
+    String query = imageUrlSigner.query(hash, ownerId);
+    // URL absolue quand on répond à une requête : le front peut être servi depuis une autre origine
+    return RequestContextHolder.getRequestAttributes() == null
+        ? path + "?" + query
+        : ServletUriComponentsBuilder.fromCurrentContextPath().path(path).query(query).toUriString();
+  }
+
+  /**
+   * Empreinte désignée par une référence ou une URL d'image de ce serveur, sinon null.
+   */
+  public static String hashOf(String image) {
+    if (image.startsWith(REF_PREFIX)) {
+      String hash = image.substring(REF_PREFIX.length());
+      return BlobStore.isHash(hash) ? hash : null;
+    }
+    Matcher matcher = IMAGE_URL.matcher(image);
+    return matcher.find() ? matcher.group(1) : null;
+  }
+
+  /**
+   * Décode une data URL {@code data:image/...;base64,...} en flux vers le magasin, sans tableau décodé en mémoire.
+   */
+  String storeDataUrl(String dataUrl) throws IOException {
+    int comma = dataUrl.indexOf(',');
+    if (comma < 0 || !dataUrl.substring(0, comma).endsWith(";base64")) {
+      throw new InvalidImageException("Only base64 data URLs are supported");
+    }
+    InputStream encoded = new ByteArrayInputStream(dataUrl.getBytes(StandardCharsets.US_ASCII), comma + 1,
+        dataUrl.length() - comma - 1);
+    try (InputStream decoded = Base64.getMimeDecoder().wrap(encoded)) {
+      return store(decoded);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidImageException("Malformed base64 data URL");
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package fr.ttelab.orgaservice_back.service;
+
+import fr.ttelab.orgaservice_back.config.ShardContext;
+import fr.ttelab.orgaservice_back.config.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Exécution des requêtes qui ne sont pas rattachées à un seul tenant (admin, webhooks, jobs).
+ * Sans sharding, chaque méthode exécute simplement la requête sur l'unique base.
+ */
+@Service
+@RequiredArgsConstructor
+public class ShardedQueryService {
+
+  private final ShardRouter shardRouter;
+  private final PlatformTransactionManager transactionManager;
+
+  /**
+   * Exécute la requête sur un shard donné, dans sa propre transaction.
+   */
+  public <T> T onShard(int shard, Supplier<T> work) {
+    if (!shardRouter.isEnabled()) {
+      return work.get();
+    }
+    Integer previous = ShardContext.current();
+    ShardContext.bind(shard);
+    try {
+      TransactionTemplate template = new TransactionTemplate(transactionManager);
+      template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+      return template.execute(status -> work.get());
+    } finally {
+      ShardContext.bind(previous);
+    }
+  }
+
+  /**
+   * Exécute la requête sur chaque shard et renvoie un résultat par shard (pour agrégation).
+   */
+  public <T> List<T> gather(Supplier<T> query) {
+    List<T> results = new ArrayList<>();
+    for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+      results.add(onShard(shard, query));
+    }
+    return results;
+  }
+
+  /**
+   * Exécute la requête sur chaque shard et concatène les résultats.
+   */
+  public <T> List<T> scatter(Supplier<? extends Collection<T>> query) {
+    List<T> results = new ArrayList<>();
+    gather(query).forEach(results::addAll);
+    return results;
+  }
+
+  /**
+   * Cherche une entité shard par shard et, si trouvée, associe la requête courante à son shard :
+   * les lectures/écritures qui suivent portent alors sur les données de ce tenant.
+   */
+  public <T> Optional<T> locate(Supplier<Optional<T>> lookup) {
+    for (int shard = 0; shard < shardRouter.getShardCount(); shard++) {
+      Optional<T> found = onShard(shard, lookup);
+      if (found.isPresent()) {
+        if (shardRouter.isEnabled()) {
+          ShardContext.bind(shard);
+        }
+        return found;
+      }
+    }
+    return Optional.empty();
+  }
+}
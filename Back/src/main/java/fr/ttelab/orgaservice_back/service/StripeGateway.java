@@ -0,0 +1,197 @@
+package fr.ttelab.orgaservice_back.service;
+
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.StripeException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Point de passage unique des appels à l'API Stripe.
+ * Les appels s'exécutent sur un pool borné (bulkhead) avec un timeout strict, derrière un circuit breaker :
+ * une API Stripe lente ou indisponible ne bloque plus les threads Tomcat.
+ */
+@Slf4j
+@Service
+public class StripeGateway {
+
+  @FunctionalInterface
+  public interface StripeCall<T> {
+    T call() throws StripeException;
+  }
+
+  /**
+   * Stripe n'a pas pu être appelé (pool saturé, circuit ouvert ou timeout).
+   */
+  public static class StripeUnavailableException extends RuntimeException {
+    public StripeUnavailableException(String message) {
+      super(message);
+    }
+
+    public StripeUnavailableException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+
+  private final ThreadPoolExecutor executor;
+  private final MeterRegistry meterRegistry;
+  private final long callTimeoutMs;
+  private final int breakerFailureThreshold;
+  private final long breakerOpenMs;
+
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private final AtomicBoolean halfOpenTrial = new AtomicBoolean();
+  private volatile long openUntil = 0;
+
+  public StripeGateway(MeterRegistry meterRegistry,
+                       @Value("${stripe.maxConcurrentCalls:8}") int maxConcurrentCalls,
+                       @Value("${stripe.maxQueuedCalls:16}") int maxQueuedCalls,
+                       @Value("${stripe.callTimeoutMs:8000}") long callTimeoutMs,
+                       @Value("${stripe.breakerFailureThreshold:5}") int breakerFailureThreshold,
+                       @Value("${stripe.breakerOpenMs:30000}") long breakerOpenMs) {
+    this.meterRegistry = meterRegistry;
+    this.callTimeoutMs = callTimeoutMs;
+    this.breakerFailureThreshold = breakerFailureThreshold;
+    this.breakerOpenMs = breakerOpenMs;
+
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(maxConcurrentCalls, maxConcurrentCalls, 60, TimeUnit.SECONDS,
+        new ArrayBlockingQueue<>(maxQueuedCalls),
+        runnable -> {
+          Thread thread = new Thread(runnable, "stripe-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        },
+        new ThreadPoolExecutor.AbortPolicy());
+    this.executor.allowCoreThreadTimeOut(true);
+
+    Gauge.builder("stripe.bulkhead.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    Gauge.builder("stripe.bulkhead.queued", executor, e -> e.getQueue().size()).register(meterRegistry);
+    Gauge.builder("stripe.circuit.open", this, g -> g.isOpen() ? 1 : 0).register(meterRegistry);
+  }
+
+  /**
+   * Exécute l'appel Stripe et propage les erreurs métier Stripe (carte refusée, paramètre invalide...).
+   *
+   * @throws StripeUnavailableException si Stripe est injoignable, en erreur 5xx/429 ou trop lent
+   */
+  public <T> T execute(String operation, StripeCall<T> call) throws StripeException {
+    Permission permission = tryAcquirePermission();
+    if (permission == Permission.DENIED) {
+      record(operation, "short_circuited", 0);
+      throw new StripeUnavailableException("Stripe circuit open");
+    }
+    boolean trial = permission == Permission.TRIAL;
+    try {
+      return call(operation, call, trial);
+    } finally {
+      // L'appel d'essai est terminé quelle que soit l'issue (y compris rejet ou interruption) : sans succès ni
+      // échec enregistré, le circuit reste demi-ouvert et l'appel suivant peut retenter
+      if (trial) {
+        halfOpenTrial.set(false);
+      }
+    }
+  }
+
+  private <T> T call(String operation, StripeCall<T> call, boolean trial) throws StripeException {
+    long start = System.nanoTime();
+    Future<T> future;
+    try {
+      future = executor.submit(call::call);
+    } catch (RejectedExecutionException e) {
+      record(operation, "rejected", 0);
+      throw new StripeUnavailableException("Too many concurrent Stripe calls");
+    }
+
+    try {
+      T result = future.get(callTimeoutMs, TimeUnit.MILLISECONDS);
+      onSuccess();
+      record(operation, "success", System.nanoTime() - start);
+      return result;
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      onFailure(operation, trial);
+      record(operation, "timeout", System.nanoTime() - start);
+      throw new StripeUnavailableException("Stripe call timed out: " + operation);
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      record(operation, "interrupted", System.nanoTime() - start);
+      throw new StripeUnavailableException("Interrupted while calling Stripe: " + operation);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof StripeException stripeException && !isInfrastructureFailure(stripeException)) {
+        // Stripe a répondu : le service est joignable
+        onSuccess();
+        record(operation, "client_error", System.nanoTime() - start);
+        throw stripeException;
+      }
+      onFailure(operation, trial);
+      record(operation, "failure", System.nanoTime() - start);
+      throw new StripeUnavailableException("Stripe call failed: " + operation, cause);
+    }
+  }
+
+  public boolean isOpen() {
+    return openUntil != 0 && System.currentTimeMillis() < openUntil;
+  }
+
+  private boolean isInfrastructureFailure(StripeException e) {
+    return e instanceof ApiConnectionException
+        || e.getStatusCode() == null
+        || e.getStatusCode() >= 500
+        || e.getStatusCode() == 429;
+  }
+
+  private enum Permission {
+    DENIED, CLOSED, TRIAL
+  }
+
+  /**
+   * Fermé : tout passe. Ouvert : tout est refusé. Demi-ouvert (délai écoulé) : un seul appel d'essai à la fois.
+   */
+  private Permission tryAcquirePermission() {
+    long until = openUntil;
+    if (until == 0) {
+      return Permission.CLOSED;
+    }
+    if (System.currentTimeMillis() < until) {
+      return Permission.DENIED;
+    }
+    return halfOpenTrial.compareAndSet(false, true) ? Permission.TRIAL : Permission.DENIED;
+  }
+
+  private void onSuccess() {
+    consecutiveFailures.set(0);
+    openUntil = 0;
+  }
+
+  private void onFailure(String operation, boolean trial) {
+    int failures = consecutiveFailures.incrementAndGet();
+    if (failures >= breakerFailureThreshold || trial) {
+      openUntil = System.currentTimeMillis() + breakerOpenMs;
+      log.warn("Stripe circuit opened for {} ms after {} consecutive failures (last: {})", breakerOpenMs, failures, operation);
+    }
+  }
+
+  private void record(String operation, String outcome, long durationNanos) {
+    Timer.builder("stripe.calls")
+        .tag("operation", operation)
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
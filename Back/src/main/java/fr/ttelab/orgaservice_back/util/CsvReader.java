@@ -0,0 +1,171 @@
+package fr.ttelab.orgaservice_back.util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lecteur CSV en flux (RFC 4180 : champs entre guillemets, guillemets doublés, retours à la ligne dans un champ).
+ * Ne garde en mémoire que l'enregistrement courant. Le séparateur (',' ou ';', celui d'Excel en français)
+ * est déduit de la première ligne, un BOM UTF-8 initial est ignoré.
+ * <p>
+ * La longueur d'un enregistrement est bornée (séparateurs et retours à la ligne compris) : un guillemet
+ * jamais fermé ne fait pas lire tout le reste du fichier en mémoire.
+ */
+public class CsvReader implements Closeable {
+
+  /**
+   * Longueur maximale par défaut d'un enregistrement, en caractères.
+   */
+  public static final int DEFAULT_MAX_RECORD_LENGTH = 8192;
+
+  /**
+   * Enregistrement illisible, à partir de la ligne {@link #line()}.
+   */
+  public static class MalformedCsvException extends IOException {
+    private final long line;
+
+    public MalformedCsvException(long line, String message) {
+      super("Ligne " + line + " : " + message);
+      this.line = line;
+    }
+
+    public long line() {
+      return line;
+    }
+  }
+
+  private final BufferedReader reader;
+  private final char delimiter;
+  private final int maxRecordLength;
+  private long line = 1;
+  private long recordLine;
+
+  public CsvReader(Reader source) throws IOException {
+    this(source, DEFAULT_MAX_RECORD_LENGTH);
+  }
+
+  public CsvReader(Reader source, int maxRecordLength) throws IOException {
+    this.reader = source instanceof BufferedReader br ? br : new BufferedReader(source);
+    this.maxRecordLength = maxRecordLength;
+    skipBom();
+    this.delimiter = detectDelimiter();
+  }
+
+  public char delimiter() {
+    return delimiter;
+  }
+
+  /**
+   * Numéro de ligne (à partir de 1) où commence le dernier enregistrement lu.
+   */
+  public long recordLine() {
+    return recordLine;
+  }
+
+  /**
+   * Enregistrement suivant, ou null en fin de fichier. Les lignes vides sont ignorées.
+   *
+   * @throws MalformedCsvException si l'enregistrement dépasse la longueur maximale
+   */
+  public List<String> next() throws IOException {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    boolean any = false;
+    int length = 0;
+    recordLine = line;
+    int c;
+    while ((c = reader.read()) != -1) {
+      char ch = (char) c;
+      if (++length > maxRecordLength) {
+        throw new MalformedCsvException(recordLine, "enregistrement de plus de " + maxRecordLength
+            + " caractères" + (quoted ? " (guillemet non fermé ?)" : ""));
+      }
+      if (quoted) {
+        if (ch == '"') {
+          reader.mark(1);
+          int peek = reader.read();
+          if (peek == '"') {
+            field.append('"');
+          } else {
+            quoted = false;
+            if (peek != -1) {
+              reader.reset();
+            }
+          }
+        } else {
+          if (ch == '\n') {
+            line++;
+          }
+          field.append(ch);
+        }
+        continue;
+      }
+      if (ch == '"' && field.isEmpty()) {
+        quoted = true;
+        any = true;
+      } else if (ch == delimiter) {
+        fields.add(field.toString());
+        field.setLength(0);
+        any = true;
+      } else if (ch == '\r') {
+        // ignoré : \r\n est traité sur le \n
+      } else if (ch == '\n') {
+        line++;
+        if (!any && field.isEmpty()) {
+          recordLine = line;
+          length = 0;
+          continue;
+        }
+        fields.add(field.toString());
+        return fields;
+      } else {
+        field.append(ch);
+        any = true;
+      }
+    }
+    if (!any && field.isEmpty()) {
+      return null;
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+  private void skipBom() throws IOException {
+    reader.mark(1);
+    if (reader.read() != '\uFEFF') {
+      reader.reset();
+    }
+  }
+
+  private char detectDelimiter() throws IOException {
+    reader.mark(8192);
+    int commas = 0;
+    int semicolons = 0;
+    boolean quoted = false;
+    for (int i = 0; i < 8192; i++) {
+      int c = reader.read();
+      if (c == -1 || (!quoted && (c == '\n' || c == '\r'))) {
+        break;
+      }
+      if (c == '"') {
+        quoted = !quoted;
+      } else if (!quoted && c == ',') {
+        commas++;
+      } else if (!quoted && c == ';') {
+        semicolons++;
+      }
+    }
+    reader.reset();
+    return semicolons > commas ? ';' : ',';
+  }
+}
@@ -0,0 +1,127 @@
+package fr.ttelab.orgaservice_back.util;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Orientation EXIF des photos JPEG. Les téléphones enregistrent l'image telle que captée par le capteur et
+ * indiquent la rotation à appliquer dans l'EXIF, qu'ImageIO ignore : sans correction, une photo prise en
+ * portrait donnerait une miniature couchée.
+ */
+public final class ExifOrientation {
+
+  private static final int TAG_ORIENTATION = 0x0112;
+
+  private ExifOrientation() {
+  }
+
+  /**
+   * Valeur EXIF de l'orientation (1 à 8), 1 si le fichier n'est pas un JPEG ou n'en indique pas.
+   */
+  public static int read(Path file) throws IOException {
+    try (DataInputStream in = new DataInputStream(Files.newInputStream(file))) {
+      if (in.readUnsignedShort() != 0xFFD8) {
+        return 1;
+      }
+      while (true) {
+        int marker = in.readUnsignedShort();
+        // Début des données compressées (SOS) : plus de métadonnées à lire
+        if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA) {
+          return 1;
+        }
+        int length = in.readUnsignedShort() - 2;
+        if (length < 0) {
+          return 1;
+        }
+        if (marker == 0xFFE1) {
+          byte[] segment = new byte[length];
+          in.readFully(segment);
+          int orientation = fromApp1(segment);
+          if (orientation > 0) {
+            return orientation;
+          }
+        } else {
+          skip(in, length);
+        }
+      }
+    } catch (EOFException e) {
+      return 1;
+    }
+  }
+
+  /**
+   * Applique l'orientation à l'image : rotation et/ou symétrie, largeur et hauteur échangées pour 5 à 8.
+   */
+  public static BufferedImage apply(BufferedImage image, int orientation) {
+    if (orientation < 2 || orientation > 8) {
+      return image;
+    }
+    int w = image.getWidth();
+    int h = image.getHeight();
+    AffineTransform transform = switch (orientation) {
+      case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+      case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+      case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+      case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+      case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+      case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+      default -> new AffineTransform(0, -1, 1, 0, 0, w);
+    };
+    boolean swap = orientation >= 5;
+    BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h,
+        image.getType() == BufferedImage.TYPE_CUSTOM ? BufferedImage.TYPE_INT_RGB : image.getType());
+    Graphics2D g = oriented.createGraphics();
+    g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+    g.drawImage(image, transform, null);
+    g.dispose();
+    return oriented;
+  }
+
+  private static int fromApp1(byte[] segment) {
+    // "Exif\0\0" puis en-tête TIFF (ordre des octets, 42, position de l'IFD0)
+    if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i' || segment[3] != 'f') {
+      return 0;
+    }
+    ByteBuffer tiff = ByteBuffer.wrap(segment, 6, segment.length - 6).slice();
+    tiff.order(tiff.get(0) == 'I' ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+    if (tiff.getShort(2) != 42) {
+      return 0;
+    }
+    int ifd = tiff.getInt(4);
+    if (ifd < 8 || ifd + 2 > tiff.limit()) {
+      return 0;
+    }
+    int entries = tiff.getShort(ifd) & 0xFFFF;
+    for (int i = 0; i < entries; i++) {
+      int entry = ifd + 2 + i * 12;
+      if (entry + 12 > tiff.limit()) {
+        return 0;
+      }
+      if ((tiff.getShort(entry) & 0xFFFF) == TAG_ORIENTATION) {
+        int value = tiff.getShort(entry + 8) & 0xFFFF;
+        return value >= 1 && value <= 8 ? value : 0;
+      }
+    }
+    return 0;
+  }
+
+  private static void skip(InputStream in, long length) throws IOException {
+    while (length > 0) {
+      long skipped = in.skip(length);
+      if (skipped <= 0) {
+        throw new EOFException();
+      }
+      length -= skipped;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package fr.ttelab.orgaservice_back.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Petit cache LRU borné dont chaque entrée expire à une date donnée.
+ * Synchronisé : les sections critiques se limitent à une lecture ou écriture de map.
+ */
+public class ExpiringLruCache<K, V> {
+
+  private record Entry<V>(V value, long expiresAtMillis) {
+  }
+
+  private final Map<K, Entry<V>> entries;
+
+  public ExpiringLruCache(int maxSize) {
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  public synchronized V get(K key) {
+    Entry<V> entry = entries.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+      entries.remove(key);
+      return null;
+    }
+    return entry.value();
+  }
+
+  public synchronized void put(K key, V value, long expiresAtMillis) {
+    entries.put(key, new Entry<>(value, expiresAtMillis));
+  }
+
+  /**
+   * Valeur en cache ou calculée par {@code loader} (hors verrou) puis mise en cache jusqu'à {@code expiresAtMillis}.
+   */
+  public V get(K key, Function<K, V> loader, long expiresAtMillis) {
+    V value = get(key);
+    if (value == null) {
+      value = loader.apply(key);
+      if (value != null) {
+        put(key, value, expiresAtMillis);
+      }
+    }
+    return value;
+  }
+
+  public synchronized void invalidate(K key) {
+    entries.remove(key);
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+}
@@ -0,0 +1,124 @@
+package fr.ttelab.orgaservice_back.util;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Geohash (base 32) et distances. Deux points proches partagent le plus souvent un préfixe de geohash :
+ * une colonne geohash indexée sert donc d'index spatial par recherches de préfixes (cellule + 8 voisines).
+ */
+public final class GeoHash {
+
+  private static final String BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz";
+  private static final double EARTH_RADIUS_KM = 6371.0088;
+  private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+  private GeoHash() {
+  }
+
+  public static String encode(double latitude, double longitude, int precision) {
+    double[] lat = {-90, 90};
+    double[] lon = {-180, 180};
+    StringBuilder hash = new StringBuilder(precision);
+    boolean even = true;
+    int bit = 0;
+    int ch = 0;
+    while (hash.length() < precision) {
+      double[] range = even ? lon : lat;
+      double value = even ? longitude : latitude;
+      double mid = (range[0] + range[1]) / 2;
+      ch <<= 1;
+      if (value >= mid) {
+        ch |= 1;
+        range[0] = mid;
+      } else {
+        range[1] = mid;
+      }
+      even = !even;
+      if (++bit == 5) {
+        hash.append(BASE32.charAt(ch));
+        bit = 0;
+        ch = 0;
+      }
+    }
+    return hash.toString();
+  }
+
+  /**
+   * Hauteur d'une cellule en degrés de latitude.
+   */
+  public static double cellHeightDegrees(int precision) {
+    int latBits = (precision * 5) / 2;
+    return 180 / Math.pow(2, latBits);
+  }
+
+  /**
+   * Largeur d'une cellule en degrés de longitude.
+   */
+  public static double cellWidthDegrees(int precision) {
+    int lonBits = (precision * 5 + 1) / 2;
+    return 360 / Math.pow(2, lonBits);
+  }
+
+  /**
+   * Précision la plus fine dont les cellules mesurent au moins {@code radiusKm} dans les deux directions
+   * à cette latitude : le cercle de recherche tient alors dans la cellule du centre et ses 8 voisines.
+   * 0 si le rayon dépasse la plus grosse cellule ou si le cercle atteint un pôle, au-delà duquel il déborde
+   * sur toutes les longitudes (pas de filtre par préfixe).
+   */
+  public static int precisionForRadius(double radiusKm, double latitude) {
+    // Latitude la plus éloignée de l'équateur dans le cercle : c'est là qu'un degré de longitude est le plus court
+    double farthestLatitude = Math.abs(latitude) + radiusKm / KM_PER_DEGREE;
+    if (farthestLatitude >= 90) {
+      return 0;
+    }
+    double cosLat = Math.cos(Math.toRadians(farthestLatitude));
+    int precision = 0;
+    for (int p = 1; p <= 12; p++) {
+      double heightKm = cellHeightDegrees(p) * KM_PER_DEGREE;
+      double widthKm = cellWidthDegrees(p) * KM_PER_DEGREE * cosLat;
+      if (heightKm < radiusKm || widthKm < radiusKm) {
+        break;
+      }
+      precision = p;
+    }
+    return precision;
+  }
+
+  /**
+   * La cellule contenant le point et ses 8 voisines, à la précision donnée.
+   */
+  public static Set<String> cellAndNeighbours(double latitude, double longitude, int precision) {
+    double height = cellHeightDegrees(precision);
+    double width = cellWidthDegrees(precision);
+    Set<String> cells = new LinkedHashSet<>();
+    for (int dy = -1; dy <= 1; dy++) {
+      double lat = latitude + dy * height;
+      if (lat < -90 || lat > 90) {
+        continue;
+      }
+      for (int dx = -1; dx <= 1; dx++) {
+        double lon = longitude + dx * width;
+        // Passage de l'antiméridien
+        if (lon < -180) {
+          lon += 360;
+        } else if (lon >= 180) {
+          lon -= 360;
+        }
+        cells.add(encode(lat, lon, precision));
+      }
+    }
+    return cells;
+  }
+
+  /**
+   * Distance orthodromique (haversine) en kilomètres.
+   */
+  public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+    double dLat = Math.toRadians(lat2 - lat1);
+    double dLon = Math.toRadians(lon2 - lon1);
+    double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+    return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+  }
+}
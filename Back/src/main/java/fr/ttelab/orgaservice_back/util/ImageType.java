@@ -0,0 +1,75 @@
+package fr.ttelab.orgaservice_back.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Type d'une image d'après ses premiers octets (signature du format), sans se fier au nom ni au
+ * Content-Type annoncés par le client.
+ */
+public final class ImageType {
+
+  /**
+   * Octets à lire pour reconnaître tous les formats acceptés.
+   */
+  public static final int HEADER_LENGTH = 16;
+
+  private ImageType() {
+  }
+
+  /**
+   * Type MIME de l'image, ou null si le contenu n'est pas une image reconnue.
+   */
+  public static String detect(byte[] header, int length) {
+    if (startsWith(header, length, 0, 0xFF, 0xD8, 0xFF)) {
+      return "image/jpeg";
+    }
+    if (startsWith(header, length, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+      return "image/png";
+    }
+    if (startsWith(header, length, 0, 'G', 'I', 'F', '8')) {
+      return "image/gif";
+    }
+    if (startsWith(header, length, 0, 'R', 'I', 'F', 'F') && startsWith(header, length, 8, 'W', 'E', 'B', 'P')) {
+      return "image/webp";
+    }
+    if (startsWith(header, length, 0, 'B', 'M')) {
+      return "image/bmp";
+    }
+    // Conteneur ISO (ftyp) : photos HEIC/HEIF des iPhone, AVIF
+    if (startsWith(header, length, 4, 'f', 't', 'y', 'p')) {
+      if (startsWith(header, length, 8, 'a', 'v', 'i', 'f')) {
+        return "image/avif";
+      }
+      if (startsWith(header, length, 8, 'h', 'e', 'i', 'c') || startsWith(header, length, 8, 'h', 'e', 'i', 'x')
+          || startsWith(header, length, 8, 'm', 'i', 'f', '1') || startsWith(header, length, 8, 'm', 's', 'f', '1')) {
+        return "image/heic";
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Type MIME du fichier, ou null s'il n'est pas une image reconnue.
+   */
+  public static String detect(Path file) throws IOException {
+    try (InputStream in = Files.newInputStream(file)) {
+      byte[] header = in.readNBytes(HEADER_LENGTH);
+      return detect(header, header.length);
+    }
+  }
+
+  private static boolean startsWith(byte[] header, int length, int offset, int... signature) {
+    if (length < offset + signature.length) {
+      return false;
+    }
+    for (int i = 0; i < signature.length; i++) {
+      if ((header[offset + i] & 0xFF) != signature[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
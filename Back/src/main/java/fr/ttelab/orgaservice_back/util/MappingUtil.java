@@ -2,6 +2,8 @@ package fr.ttelab.orgaservice_back.util;
 
 import fr.ttelab.orgaservice_back.dto.*;
 import fr.ttelab.orgaservice_back.entity.*;
+import fr.ttelab.orgaservice_back.service.ClientGeoSearch;
+import fr.ttelab.orgaservice_back.service.ClientSearchIndex;
 
 import java.util.stream.Collectors;
 
@@ -27,6 +29,17 @@ public class MappingUtil {
     return dto;
   }
 
+  public static ClientSuggestionDTO toClientSuggestionDTO(ClientSearchIndex.Suggestion s) {
+    ClientSuggestionDTO dto = new ClientSuggestionDTO();
+    dto.setId(s.clientId().toString());
+    dto.setName(s.name());
+    dto.setStreet(s.street());
+    dto.setPostalCode(s.postalCode());
+    dto.setCity(s.city());
+    dto.setMatchedOn(s.matchedOn());
+    return dto;
+  }
+
   public static AddressDTO toAddressDTO(Adress a) {
     AddressDTO dto = new AddressDTO();
     dto.setId(a.getId().toString());
@@ -36,6 +49,18 @@ public class MappingUtil {
     dto.setAcces(a.getAcces());
     dto.setOrder(a.getOrder());
     dto.setHasKey(a.isHasKey());
+    dto.setLatitude(a.getLatitude());
+    dto.setLongitude(a.getLongitude());
+    dto.setGeoPrecision(a.getGeoPrecision());
+    return dto;
+  }
+
+  public static NearbyClientDTO toNearbyClientDTO(Client c, ClientGeoSearch.Nearby nearby) {
+    NearbyClientDTO dto = new NearbyClientDTO();
+    dto.setClient(toClientDTO(c));
+    dto.setAddressId(nearby.addressId().toString());
+    dto.setDistanceKm(Math.round(nearby.distanceKm() * 100) / 100.0);
+    dto.setGeoPrecision(nearby.precision());
     return dto;
   }
 
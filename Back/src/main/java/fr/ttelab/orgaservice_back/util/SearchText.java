@@ -0,0 +1,92 @@
+package fr.ttelab.orgaservice_back.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Normalisation commune aux index de recherche : minuscules, sans accents, mots séparés par un seul espace.
+ * "Hélène  LEFÈVRE" et "helene lefevre" donnent la même clé.
+ */
+public final class SearchText {
+
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern PHONE_LIKE = Pattern.compile("[0-9+().\\-\\s]+");
+
+  private SearchText() {
+  }
+
+  public static String normalize(String text) {
+    if (text == null || text.isEmpty()) {
+      return "";
+    }
+    String stripped = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+    StringBuilder sb = new StringBuilder(stripped.length());
+    boolean pendingSpace = false;
+    for (int i = 0; i < stripped.length(); i++) {
+      char ch = stripped.charAt(i);
+      if (Character.isLetterOrDigit(ch)) {
+        if (pendingSpace && !sb.isEmpty()) {
+          sb.append(' ');
+        }
+        pendingSpace = false;
+        // œ, æ et ß n'ont pas de décomposition NFD
+        switch (ch) {
+          case 'œ', 'Œ' -> sb.append("oe");
+          case 'æ', 'Æ' -> sb.append("ae");
+          case 'ß' -> sb.append("ss");
+          default -> sb.append(Character.toLowerCase(ch));
+        }
+      } else {
+        pendingSpace = true;
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Chiffres seuls, pour qu'un numéro saisi "06 12 34" ou "06.12.34" retrouve "0612345678".
+   */
+  public static String digits(String text) {
+    if (text == null || text.isEmpty()) {
+      return "";
+    }
+    StringBuilder sb = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char ch = text.charAt(i);
+      if (ch >= '0' && ch <= '9') {
+        sb.append(ch);
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Découpe une saisie utilisateur en termes normalisés. Une saisie qui ressemble à un numéro
+   * de téléphone donne un seul terme de chiffres.
+   */
+  public static List<String> terms(String query) {
+    List<String> terms = new ArrayList<>();
+    if (query == null || query.isBlank()) {
+      return terms;
+    }
+    String trimmed = query.trim();
+    if (PHONE_LIKE.matcher(trimmed).matches() && trimmed.chars().anyMatch(c -> c == ' ' || c == '.' || c == '-')) {
+      String digits = digits(trimmed);
+      if (digits.length() >= 4) {
+        terms.add(digits);
+        return terms;
+      }
+    }
+    String normalized = normalize(trimmed);
+    if (!normalized.isEmpty()) {
+      for (String term : normalized.split(" ")) {
+        if (!terms.contains(term)) {
+          terms.add(term);
+        }
+      }
+    }
+    return terms;
+  }
+}
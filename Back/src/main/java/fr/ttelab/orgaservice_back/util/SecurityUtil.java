@@ -2,6 +2,7 @@ package fr.ttelab.orgaservice_back.util;
 
 import fr.ttelab.orgaservice_back.entity.User;
 import fr.ttelab.orgaservice_back.repository.UserRepository;
+import fr.ttelab.orgaservice_back.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,9 +13,17 @@ import org.springframework.stereotype.Component;
 public class SecurityUtil {
   private final UserRepository userRepository;
 
+  /**
+   * Utilisateur de la requête, tel que chargé à l'authentification (pas de nouvelle requête en base).
+   * Instance partagée via le cache des principaux : à utiliser en lecture (owner, id, horaires...),
+   * relire l'utilisateur depuis le repository pour le modifier.
+   */
   public User getCurrentUser() {
     Authentication auth = SecurityContextHolder.getContext().getAuthentication();
     if(auth == null) return null;
+    if (auth.getPrincipal() instanceof CustomUserDetails details) {
+      return details.getUser();
+    }
     String email = auth.getName();
     return userRepository.findByEmail(email).orElse(null);
   }
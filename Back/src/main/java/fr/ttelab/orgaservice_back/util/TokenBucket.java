@@ -0,0 +1,53 @@
+package fr.ttelab.orgaservice_back.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seau à jetons sans verrou, implémenté en GCRA : l'état tient dans un seul {@code long}
+ * (instant théorique où le seau sera de nouveau plein) mis à jour par CAS.
+ */
+public class TokenBucket {
+
+  private final long nanosPerToken;
+  private final long burstNanos;
+  private final AtomicLong fullAt = new AtomicLong(Long.MIN_VALUE);
+
+  /**
+   * @param capacity      nombre de jetons disponibles d'un coup (rafale)
+   * @param tokensPerMinute débit de recharge
+   */
+  public TokenBucket(int capacity, double tokensPerMinute) {
+    this.nanosPerToken = (long) (TimeUnit.MINUTES.toNanos(1) / tokensPerMinute);
+    this.burstNanos = nanosPerToken * capacity;
+  }
+
+  /**
+   * Consomme un jeton si possible.
+   *
+   * @return 0 si le jeton est accordé, sinon le délai en nanosecondes avant qu'un jeton soit disponible
+   */
+  public long tryConsume() {
+    while (true) {
+      long now = System.nanoTime();
+      long current = fullAt.get();
+      long base = current == Long.MIN_VALUE || current < now ? now : current;
+      long next = base + nanosPerToken;
+      long wait = next - now - burstNanos;
+      if (wait > 0) {
+        return wait;
+      }
+      if (fullAt.compareAndSet(current, next)) {
+        return 0;
+      }
+    }
+  }
+
+  /**
+   * Vrai si le seau est plein : l'entrée peut être oubliée sans changer le comportement.
+   */
+  public boolean isIdle() {
+    long current = fullAt.get();
+    return current == Long.MIN_VALUE || current <= System.nanoTime();
+  }
+}
@@ -1,321 +0,0 @@
-function X0(t,r){for(var s=0;s<r.length;s++){const i=r[s];if(typeof i!="string"&&!Array.isArray(i)){for(const l in i)if(l!=="default"&&!(l in t)){const u=Object.getOwnPropertyDescriptor(i,l);u&&Object.defineProperty(t,l,u.get?u:{enumerable:!0,get:()=>i[l]})}}}return Object.freeze(Object.defineProperty(t,Symbol.toStringTag,{value:"Module"}))}(function(){const r=document.createElement("link").relList;if(r&&r.supports&&r.supports("modulepreload"))return;for(const l of document.querySelectorAll('link[rel="modulepreload"]'))i(l);new MutationObserver(l=>{for(const u of l)if(u.type==="childList")for(const f of u.addedNodes)f.tagName==="LINK"&&f.rel==="modulepreload"&&i(f)}).observe(document,{childList:!0,subtree:!0});function s(l){const u={};return l.integrity&&(u.integrity=l.integrity),l.referrerPolicy&&(u.referrerPolicy=l.referrerPolicy),l.crossOrigin==="use-credentials"?u.credentials="include":l.crossOrigin==="anonymous"?u.credentials="omit":u.credentials="same-origin",u}function i(l){if(l.ep)return;l.ep=!0;const u=s(l);fetch(l.href,u)}})();function Yu(t){return t&&t.__esModule&&Object.prototype.hasOwnProperty.call(t,"default")?t.default:t}var Yc={exports:{}},Bo={},qc={exports:{}},Me={};/**
- * @license React
- * react.production.min.js
- *
- * Copyright (c) Facebook, Inc. and its affiliates.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE file in the root directory of this source tree.
- */var wh;function Q0(){if(wh)return Me;wh=1;var t=Symbol.for("react.element"),r=Symbol.for("react.portal"),s=Symbol.for("react.fragment"),i=Symbol.for("react.strict_mode"),l=Symbol.for("react.profiler"),u=Symbol.for("react.provider"),f=Symbol.for("react.context"),p=Symbol.for("react.forward_ref"),g=Symbol.for("react.suspense"),y=Symbol.for("react.memo"),x=Symbol.for("react.lazy"),v=Symbol.iterator;function N(D){return D===null||typeof D!="object"?null:(D=v&&D[v]||D["@@iterator"],typeof D=="function"?D:null)}var C={isMounted:function(){return!1},enqueueForceUpdate:function(){},enqueueReplaceState:function(){},enqueueSetState:function(){}},E=Object.assign,S={};function b(D,A,V){this.props=D,this.context=A,this.refs=S,this.updater=V||C}b.prototype.isReactComponent={},b.prototype.setState=function(D,A){if(typeof D!="object"&&typeof D!="function"&&D!=null)throw Error("setState(...): takes an object of state variables to update or a function which returns an object of state variables.");this.updater.enqueueSetState(this,D,A,"setState")},b.prototype.forceUpdate=function(D){this.updater.enqueueForceUpdate(this,D,"forceUpdate")};function j(){}j.prototype=b.prototype;function k(D,A,V){this.props=D,this.context=A,this.refs=S,this.updater=V||C}var P=k.prototype=new j;P.constructor=k,E(P,b.prototype),P.isPureReactComponent=!0;var L=Array.isArray,B=Object.prototype.hasOwnProperty,W={current:null},G={key:!0,ref:!0,__self:!0,__source:!0};function H(D,A,V){var X,ne={},fe=null,q=null;if(A!=null)for(X in A.ref!==void 0&&(q=A.ref),A.key!==void 0&&(fe=""+A.key),A)B.call(A,X)&&!G.hasOwnProperty(X)&&(ne[X]=A[X]);var ee=arguments.length-2;if(ee===1)ne.children=V;else if(1<ee){for(var pe=Array(ee),Ce=0;Ce<ee;Ce++)pe[Ce]=arguments[Ce+2];ne.children=pe}if(D&&D.defaultProps)for(X in ee=D.defaultProps,ee)ne[X]===void 0&&(ne[X]=ee[X]);return{$$typeof:t,type:D,key:fe,ref:q,props:ne,_owner:W.current}}function se(D,A){return{$$typeof:t,type:D.type,key:A,ref:D.ref,props:D.props,_owner:D._owner}}function ae(D){return typeof D=="object"&&D!==null&&D.$$typeof===t}function we(D){var A={"=":"=0",":":"=2"};return"$"+D.replace(/[=:]/g,function(V){return A[V]})}var de=/\/+/g;function le(D,A){return typeof D=="object"&&D!==null&&D.key!=null?we(""+D.key):A.toString(36)}function ce(D,A,V,X,ne){var fe=typeof D;(fe==="undefined"||fe==="boolean")&&(D=null);var q=!1;if(D===null)q=!0;else switch(fe){case"string":case"number":q=!0;break;case"object":switch(D.$$typeof){case t:case r:q=!0}}if(q)return q=D,ne=ne(q),D=X===""?"."+le(q,0):X,L(ne)?(V="",D!=null&&(V=D.replace(de,"$&/")+"/"),ce(ne,A,V,"",function(Ce){return Ce})):ne!=null&&(ae(ne)&&(ne=se(ne,V+(!ne.key||q&&q.key===ne.key?"":(""+ne.key).replace(de,"$&/")+"/")+D)),A.push(ne)),1;if(q=0,X=X===""?".":X+":",L(D))for(var ee=0;ee<D.length;ee++){fe=D[ee];var pe=X+le(fe,ee);q+=ce(fe,A,V,pe,ne)}else if(pe=N(D),typeof pe=="function")for(D=pe.call(D),ee=0;!(fe=D.next()).done;)fe=fe.value,pe=X+le(fe,ee++),q+=ce(fe,A,V,pe,ne);else if(fe==="object")throw A=String(D),Error("Objects are not valid as a React child (found: "+(A==="[object Object]"?"object with keys {"+Object.keys(D).join(", ")+"}":A)+"). If you meant to render a collection of children, use an array instead.");return q}function be(D,A,V){if(D==null)return D;var X=[],ne=0;return ce(D,X,"","",function(fe){return A.call(V,fe,ne++)}),X}function M(D){if(D._status===-1){var A=D._result;A=A(),A.then(function(V){(D._status===0||D._status===-1)&&(D._status=1,D._result=V)},function(V){(D._status===0||D._status===-1)&&(D._status=2,D._result=V)}),D._status===-1&&(D._status=0,D._result=A)}if(D._status===1)return D._result.default;throw D._result}var O={current:null},R={transition:null},K={ReactCurrentDispatcher:O,ReactCurrentBatchConfig:R,ReactCurrentOwner:W};function U(){throw Error("act(...) is not supported in production builds of React.")}return Me.Children={map:be,forEach:function(D,A,V){be(D,function(){A.apply(this,arguments)},V)},count:function(D){var A=0;return be(D,function(){A++}),A},toArray:function(D){return be(D,function(A){return A})||[]},only:function(D){if(!ae(D))throw Error("React.Children.only expected to receive a single React element child.");return D}},Me.Component=b,Me.Fragment=s,Me.Profiler=l,Me.PureComponent=k,Me.StrictMode=i,Me.Suspense=g,Me.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED=K,Me.act=U,Me.cloneElement=function(D,A,V){if(D==null)throw Error("React.cloneElement(...): The argument must be a React element, but you passed "+D+".");var X=E({},D.props),ne=D.key,fe=D.ref,q=D._owner;if(A!=null){if(A.ref!==void 0&&(fe=A.ref,q=W.current),A.key!==void 0&&(ne=""+A.key),D.type&&D.type.defaultProps)var ee=D.type.defaultProps;for(pe in A)B.call(A,pe)&&!G.hasOwnProperty(pe)&&(X[pe]=A[pe]===void 0&&ee!==void 0?ee[pe]:A[pe])}var pe=arguments.length-2;if(pe===1)X.children=V;else if(1<pe){ee=Array(pe);for(var Ce=0;Ce<pe;Ce++)ee[Ce]=arguments[Ce+2];X.children=ee}return{$$typeof:t,type:D.type,key:ne,ref:fe,props:X,_owner:q}},Me.createContext=function(D){return D={$$typeof:f,_currentValue:D,_currentValue2:D,_threadCount:0,Provider:null,Consumer:null,_defaultValue:null,_globalName:null},D.Provider={$$typeof:u,_context:D},D.Consumer=D},Me.createElement=H,Me.createFactory=function(D){var A=H.bind(null,D);return A.type=D,A},Me.createRef=function(){return{current:null}},Me.forwardRef=function(D){return{$$typeof:p,render:D}},Me.isValidElement=ae,Me.lazy=function(D){return{$$typeof:x,_payload:{_status:-1,_result:D},_init:M}},Me.memo=function(D,A){return{$$typeof:y,type:D,compare:A===void 0?null:A}},Me.startTransition=function(D){var A=R.transition;R.transition={};try{D()}finally{R.transition=A}},Me.unstable_act=U,Me.useCallback=function(D,A){return O.current.useCallback(D,A)},Me.useContext=function(D){return O.current.useContext(D)},Me.useDebugValue=function(){},Me.useDeferredValue=function(D){return O.current.useDeferredValue(D)},Me.useEffect=function(D,A){return O.current.useEffect(D,A)},Me.useId=function(){return O.current.useId()},Me.useImperativeHandle=function(D,A,V){return O.current.useImperativeHandle(D,A,V)},Me.useInsertionEffect=function(D,A){return O.current.useInsertionEffect(D,A)},Me.useLayoutEffect=function(D,A){return O.current.useLayoutEffect(D,A)},Me.useMemo=function(D,A){return O.current.useMemo(D,A)},Me.useReducer=function(D,A,V){return O.current.useReducer(D,A,V)},Me.useRef=function(D){return O.current.useRef(D)},Me.useState=function(D){return O.current.useState(D)},Me.useSyncExternalStore=function(D,A,V){return O.current.useSyncExternalStore(D,A,V)},Me.useTransition=function(){return O.current.useTransition()},Me.version="18.3.1",Me}var bh;function qu(){return bh||(bh=1,qc.exports=Q0()),qc.exports}/**
- * @license React
- * react-jsx-runtime.production.min.js
- *
- * Copyright (c) Facebook, Inc. and its affiliates.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE file in the root directory of this source tree.
- */var Sh;function J0(){if(Sh)return Bo;Sh=1;var t=qu(),r=Symbol.for("react.element"),s=Symbol.for("react.fragment"),i=Object.prototype.hasOwnProperty,l=t.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED.ReactCurrentOwner,u={key:!0,ref:!0,__self:!0,__source:!0};function f(p,g,y){var x,v={},N=null,C=null;y!==void 0&&(N=""+y),g.key!==void 0&&(N=""+g.key),g.ref!==void 0&&(C=g.ref);for(x in g)i.call(g,x)&&!u.hasOwnProperty(x)&&(v[x]=g[x]);if(p&&p.defaultProps)for(x in g=p.defaultProps,g)v[x]===void 0&&(v[x]=g[x]);return{$$typeof:r,type:p,key:N,ref:C,props:v,_owner:l.current}}return Bo.Fragment=s,Bo.jsx=f,Bo.jsxs=f,Bo}var Ch;function Z0(){return Ch||(Ch=1,Yc.exports=J0()),Yc.exports}var a=Z0(),va={},Xc={exports:{}},zt={},Qc={exports:{}},Jc={};/**
- * @license React
- * scheduler.production.min.js
- *
- * Copyright (c) Facebook, Inc. and its affiliates.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE file in the root directory of this source tree.
- */var Nh;function ew(){return Nh||(Nh=1,(function(t){function r(R,K){var U=R.length;R.push(K);e:for(;0<U;){var D=U-1>>>1,A=R[D];if(0<l(A,K))R[D]=K,R[U]=A,U=D;else break e}}function s(R){return R.length===0?null:R[0]}function i(R){if(R.length===0)return null;var K=R[0],U=R.pop();if(U!==K){R[0]=U;e:for(var D=0,A=R.length,V=A>>>1;D<V;){var X=2*(D+1)-1,ne=R[X],fe=X+1,q=R[fe];if(0>l(ne,U))fe<A&&0>l(q,ne)?(R[D]=q,R[fe]=U,D=fe):(R[D]=ne,R[X]=U,D=X);else if(fe<A&&0>l(q,U))R[D]=q,R[fe]=U,D=fe;else break e}}return K}function l(R,K){var U=R.sortIndex-K.sortIndex;return U!==0?U:R.id-K.id}if(typeof performance=="object"&&typeof performance.now=="function"){var u=performance;t.unstable_now=function(){return u.now()}}else{var f=Date,p=f.now();t.unstable_now=function(){return f.now()-p}}var g=[],y=[],x=1,v=null,N=3,C=!1,E=!1,S=!1,b=typeof setTimeout=="function"?setTimeout:null,j=typeof clearTimeout=="function"?clearTimeout:null,k=typeof setImmediate<"u"?setImmediate:null;typeof navigator<"u"&&navigator.scheduling!==void 0&&navigator.scheduling.isInputPending!==void 0&&navigator.scheduling.isInputPending.bind(navigator.scheduling);function P(R){for(var K=s(y);K!==null;){if(K.callback===null)i(y);else if(K.startTime<=R)i(y),K.sortIndex=K.expirationTime,r(g,K);else break;K=s(y)}}function L(R){if(S=!1,P(R),!E)if(s(g)!==null)E=!0,M(B);else{var K=s(y);K!==null&&O(L,K.startTime-R)}}function B(R,K){E=!1,S&&(S=!1,j(H),H=-1),C=!0;var U=N;try{for(P(K),v=s(g);v!==null&&(!(v.expirationTime>K)||R&&!we());){var D=v.callback;if(typeof D=="function"){v.callback=null,N=v.priorityLevel;var A=D(v.expirationTime<=K);K=t.unstable_now(),typeof A=="function"?v.callback=A:v===s(g)&&i(g),P(K)}else i(g);v=s(g)}if(v!==null)var V=!0;else{var X=s(y);X!==null&&O(L,X.startTime-K),V=!1}return V}finally{v=null,N=U,C=!1}}var W=!1,G=null,H=-1,se=5,ae=-1;function we(){return!(t.unstable_now()-ae<se)}function de(){if(G!==null){var R=t.unstable_now();ae=R;var K=!0;try{K=G(!0,R)}finally{K?le():(W=!1,G=null)}}else W=!1}var le;if(typeof k=="function")le=function(){k(de)};else if(typeof MessageChannel<"u"){var ce=new MessageChannel,be=ce.port2;ce.port1.onmessage=de,le=function(){be.postMessage(null)}}else le=function(){b(de,0)};function M(R){G=R,W||(W=!0,le())}function O(R,K){H=b(function(){R(t.unstable_now())},K)}t.unstable_IdlePriority=5,t.unstable_ImmediatePriority=1,t.unstable_LowPriority=4,t.unstable_NormalPriority=3,t.unstable_Profiling=null,t.unstable_UserBlockingPriority=2,t.unstable_cancelCallback=function(R){R.callback=null},t.unstable_continueExecution=function(){E||C||(E=!0,M(B))},t.unstable_forceFrameRate=function(R){0>R||125<R?console.error("forceFrameRate takes a positive int between 0 and 125, forcing frame rates higher than 125 fps is not supported"):se=0<R?Math.floor(1e3/R):5},t.unstable_getCurrentPriorityLevel=function(){return N},t.unstable_getFirstCallbackNode=function(){return s(g)},t.unstable_next=function(R){switch(N){case 1:case 2:case 3:var K=3;break;default:K=N}var U=N;N=K;try{return R()}finally{N=U}},t.unstable_pauseExecution=function(){},t.unstable_requestPaint=function(){},t.unstable_runWithPriority=function(R,K){switch(R){case 1:case 2:case 3:case 4:case 5:break;default:R=3}var U=N;N=R;try{return K()}finally{N=U}},t.unstable_scheduleCallback=function(R,K,U){var D=t.unstable_now();switch(typeof U=="object"&&U!==null?(U=U.delay,U=typeof U=="number"&&0<U?D+U:D):U=D,R){case 1:var A=-1;break;case 2:A=250;break;case 5:A=1073741823;break;case 4:A=1e4;break;default:A=5e3}return A=U+A,R={id:x++,callback:K,priorityLevel:R,startTime:U,expirationTime:A,sortIndex:-1},U>D?(R.sortIndex=U,r(y,R),s(g)===null&&R===s(y)&&(S?(j(H),H=-1):S=!0,O(L,U-D))):(R.sortIndex=A,r(g,R),E||C||(E=!0,M(B))),R},t.unstable_shouldYield=we,t.unstable_wrapCallback=function(R){var K=N;return function(){var U=N;N=K;try{return R.apply(this,arguments)}finally{N=U}}}})(Jc)),Jc}var jh;function tw(){return jh||(jh=1,Qc.exports=ew()),Qc.exports}/**
- * @license React
- * react-dom.production.min.js
- *
- * Copyright (c) Facebook, Inc. and its affiliates.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE file in the root directory of this source tree.
- */var Eh;function nw(){if(Eh)return zt;Eh=1;var t=qu(),r=tw();function s(e){for(var n="https://reactjs.org/docs/error-decoder.html?invariant="+e,o=1;o<arguments.length;o++)n+="&args[]="+encodeURIComponent(arguments[o]);return"Minified React error #"+e+"; visit "+n+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}var i=new Set,l={};function u(e,n){f(e,n),f(e+"Capture",n)}function f(e,n){for(l[e]=n,e=0;e<n.length;e++)i.add(n[e])}var p=!(typeof window>"u"||typeof window.document>"u"||typeof window.document.createElement>"u"),g=Object.prototype.hasOwnProperty,y=/^[:A-Z_a-z\u00C0-\u00D6\u00D8-\u00F6\u00F8-\u02FF\u0370-\u037D\u037F-\u1FFF\u200C-\u200D\u2070-\u218F\u2C00-\u2FEF\u3001-\uD7FF\uF900-\uFDCF\uFDF0-\uFFFD][:A-Z_a-z\u00C0-\u00D6\u00D8-\u00F6\u00F8-\u02FF\u0370-\u037D\u037F-\u1FFF\u200C-\u200D\u2070-\u218F\u2C00-\u2FEF\u3001-\uD7FF\uF900-\uFDCF\uFDF0-\uFFFD\-.0-9\u00B7\u0300-\u036F\u203F-\u2040]*$/,x={},v={};function N(e){return g.call(v,e)?!0:g.call(x,e)?!1:y.test(e)?v[e]=!0:(x[e]=!0,!1)}function C(e,n,o,c){if(o!==null&&o.type===0)return!1;switch(typeof n){case"function":case"symbol":return!0;case"boolean":return c?!1:o!==null?!o.acceptsBooleans:(e=e.toLowerCase().slice(0,5),e!=="data-"&&e!=="aria-");default:return!1}}function E(e,n,o,c){if(n===null||typeof n>"u"||C(e,n,o,c))return!0;if(c)return!1;if(o!==null)switch(o.type){case 3:return!n;case 4:return n===!1;case 5:return isNaN(n);case 6:return isNaN(n)||1>n}return!1}function S(e,n,o,c,d,h,w){this.acceptsBooleans=n===2||n===3||n===4,this.attributeName=c,this.attributeNamespace=d,this.mustUseProperty=o,this.propertyName=e,this.type=n,this.sanitizeURL=h,this.removeEmptyString=w}var b={};"children dangerouslySetInnerHTML defaultValue defaultChecked innerHTML suppressContentEditableWarning suppressHydrationWarning style".split(" ").forEach(function(e){b[e]=new S(e,0,!1,e,null,!1,!1)}),[["acceptCharset","accept-charset"],["className","class"],["htmlFor","for"],["httpEquiv","http-equiv"]].forEach(function(e){var n=e[0];b[n]=new S(n,1,!1,e[1],null,!1,!1)}),["contentEditable","draggable","spellCheck","value"].forEach(function(e){b[e]=new S(e,2,!1,e.toLowerCase(),null,!1,!1)}),["autoReverse","externalResourcesRequired","focusable","preserveAlpha"].forEach(function(e){b[e]=new S(e,2,!1,e,null,!1,!1)}),"allowFullScreen async autoFocus autoPlay controls default defer disabled disablePictureInPicture disableRemotePlayback formNoValidate hidden loop noModule noValidate open playsInline readOnly required reversed scoped seamless itemScope".split(" ").forEach(function(e){b[e]=new S(e,3,!1,e.toLowerCase(),null,!1,!1)}),["checked","multiple","muted","selected"].forEach(function(e){b[e]=new S(e,3,!0,e,null,!1,!1)}),["capture","download"].forEach(function(e){b[e]=new S(e,4,!1,e,null,!1,!1)}),["cols","rows","size","span"].forEach(function(e){b[e]=new S(e,6,!1,e,null,!1,!1)}),["rowSpan","start"].forEach(function(e){b[e]=new S(e,5,!1,e.toLowerCase(),null,!1,!1)});var j=/[\-:]([a-z])/g;function k(e){return e[1].toUpperCase()}"accent-height alignment-baseline arabic-form baseline-shift cap-height clip-path clip-rule color-interpolation color-interpolation-filters color-profile color-rendering dominant-baseline enable-background fill-opacity fill-rule flood-color flood-opacity font-family font-size font-size-adjust font-stretch font-style font-variant font-weight glyph-name glyph-orientation-horizontal glyph-orientation-vertical horiz-adv-x horiz-origin-x image-rendering letter-spacing lighting-color marker-end marker-mid marker-start overline-position overline-thickness paint-order panose-1 pointer-events rendering-intent shape-rendering stop-color stop-opacity strikethrough-position strikethrough-thickness stroke-dasharray stroke-dashoffset stroke-linecap stroke-linejoin stroke-miterlimit stroke-opacity stroke-width text-anchor text-decoration text-rendering underline-position underline-thickness unicode-bidi unicode-range units-per-em v-alphabetic v-hanging v-ideographic v-mathematical vector-effect vert-adv-y vert-origin-x vert-origin-y word-spacing writing-mode xmlns:xlink x-height".split(" ").forEach(function(e){var n=e.replace(j,k);b[n]=new S(n,1,!1,e,null,!1,!1)}),"xlink:actuate xlink:arcrole xlink:role xlink:show xlink:title xlink:type".split(" ").forEach(function(e){var n=e.replace(j,k);b[n]=new S(n,1,!1,e,"http://www.w3.org/1999/xlink",!1,!1)}),["xml:base","xml:lang","xml:space"].forEach(function(e){var n=e.replace(j,k);b[n]=new S(n,1,!1,e,"http://www.w3.org/XML/1998/namespace",!1,!1)}),["tabIndex","crossOrigin"].forEach(function(e){b[e]=new S(e,1,!1,e.toLowerCase(),null,!1,!1)}),b.xlinkHref=new S("xlinkHref",1,!1,"xlink:href","http://www.w3.org/1999/xlink",!0,!1),["src","href","action","formAction"].forEach(function(e){b[e]=new S(e,1,!1,e.toLowerCase(),null,!0,!0)});function P(e,n,o,c){var d=b.hasOwnProperty(n)?b[n]:null;(d!==null?d.type!==0:c||!(2<n.length)||n[0]!=="o"&&n[0]!=="O"||n[1]!=="n"&&n[1]!=="N")&&(E(n,o,d,c)&&(o=null),c||d===null?N(n)&&(o===null?e.removeAttribute(n):e.setAttribute(n,""+o)):d.mustUseProperty?e[d.propertyName]=o===null?d.type===3?!1:"":o:(n=d.attributeName,c=d.attributeNamespace,o===null?e.removeAttribute(n):(d=d.type,o=d===3||d===4&&o===!0?"":""+o,c?e.setAttributeNS(c,n,o):e.setAttribute(n,o))))}var L=t.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED,B=Symbol.for("react.element"),W=Symbol.for("react.portal"),G=Symbol.for("react.fragment"),H=Symbol.for("react.strict_mode"),se=Symbol.for("react.profiler"),ae=Symbol.for("react.provider"),we=Symbol.for("react.context"),de=Symbol.for("react.forward_ref"),le=Symbol.for("react.suspense"),ce=Symbol.for("react.suspense_list"),be=Symbol.for("react.memo"),M=Symbol.for("react.lazy"),O=Symbol.for("react.offscreen"),R=Symbol.iterator;function K(e){return e===null||typeof e!="object"?null:(e=R&&e[R]||e["@@iterator"],typeof e=="function"?e:null)}var U=Object.assign,D;function A(e){if(D===void 0)try{throw Error()}catch(o){var n=o.stack.trim().match(/\n( *(at )?)/);D=n&&n[1]||""}return`
-`+D+e}var V=!1;function X(e,n){if(!e||V)return"";V=!0;var o=Error.prepareStackTrace;Error.prepareStackTrace=void 0;try{if(n)if(n=function(){throw Error()},Object.defineProperty(n.prototype,"props",{set:function(){throw Error()}}),typeof Reflect=="object"&&Reflect.construct){try{Reflect.construct(n,[])}catch($){var c=$}Reflect.construct(e,[],n)}else{try{n.call()}catch($){c=$}e.call(n.prototype)}else{try{throw Error()}catch($){c=$}e()}}catch($){if($&&c&&typeof $.stack=="string"){for(var d=$.stack.split(`
-`),h=c.stack.split(`
-`),w=d.length-1,T=h.length-1;1<=w&&0<=T&&d[w]!==h[T];)T--;for(;1<=w&&0<=T;w--,T--)if(d[w]!==h[T]){if(w!==1||T!==1)do if(w--,T--,0>T||d[w]!==h[T]){var I=`
-`+d[w].replace(" at new "," at ");return e.displayName&&I.includes("<anonymous>")&&(I=I.replace("<anonymous>",e.displayName)),I}while(1<=w&&0<=T);break}}}finally{V=!1,Error.prepareStackTrace=o}return(e=e?e.displayName||e.name:"")?A(e):""}function ne(e){switch(e.tag){case 5:return A(e.type);case 16:return A("Lazy");case 13:return A("Suspense");case 19:return A("SuspenseList");case 0:case 2:case 15:return e=X(e.type,!1),e;case 11:return e=X(e.type.render,!1),e;case 1:return e=X(e.type,!0),e;default:return""}}function fe(e){if(e==null)return null;if(typeof e=="function")return e.displayName||e.name||null;if(typeof e=="string")return e;switch(e){case G:return"Fragment";case W:return"Portal";case se:return"Profiler";case H:return"StrictMode";case le:return"Suspense";case ce:return"SuspenseList"}if(typeof e=="object")switch(e.$$typeof){case we:return(e.displayName||"Context")+".Consumer";case ae:return(e._context.displayName||"Context")+".Provider";case de:var n=e.render;return e=e.displayName,e||(e=n.displayName||n.name||"",e=e!==""?"ForwardRef("+e+")":"ForwardRef"),e;case be:return n=e.displayName||null,n!==null?n:fe(e.type)||"Memo";case M:n=e._payload,e=e._init;try{return fe(e(n))}catch{}}return null}function q(e){var n=e.type;switch(e.tag){case 24:return"Cache";case 9:return(n.displayName||"Context")+".Consumer";case 10:return(n._context.displayName||"Context")+".Provider";case 18:return"DehydratedFragment";case 11:return e=n.render,e=e.displayName||e.name||"",n.displayName||(e!==""?"ForwardRef("+e+")":"ForwardRef");case 7:return"Fragment";case 5:return n;case 4:return"Portal";case 3:return"Root";case 6:return"Text";case 16:return fe(n);case 8:return n===H?"StrictMode":"Mode";case 22:return"Offscreen";case 12:return"Profiler";case 21:return"Scope";case 13:return"Suspense";case 19:return"SuspenseList";case 25:return"TracingMarker";case 1:case 0:case 17:case 2:case 14:case 15:if(typeof n=="function")return n.displayName||n.name||null;if(typeof n=="string")return n}return null}function ee(e){switch(typeof e){case"boolean":case"number":case"string":case"undefined":return e;case"object":return e;default:return""}}function pe(e){var n=e.type;return(e=e.nodeName)&&e.toLowerCase()==="input"&&(n==="checkbox"||n==="radio")}function Ce(e){var n=pe(e)?"checked":"value",o=Object.getOwnPropertyDescriptor(e.constructor.prototype,n),c=""+e[n];if(!e.hasOwnProperty(n)&&typeof o<"u"&&typeof o.get=="function"&&typeof o.set=="function"){var d=o.get,h=o.set;return Object.defineProperty(e,n,{configurable:!0,get:function(){return d.call(this)},set:function(w){c=""+w,h.call(this,w)}}),Object.defineProperty(e,n,{enumerable:o.enumerable}),{getValue:function(){return c},setValue:function(w){c=""+w},stopTracking:function(){e._valueTracker=null,delete e[n]}}}}function oe(e){e._valueTracker||(e._valueTracker=Ce(e))}function ye(e){if(!e)return!1;var n=e._valueTracker;if(!n)return!0;var o=n.getValue(),c="";return e&&(c=pe(e)?e.checked?"true":"false":e.value),e=c,e!==o?(n.setValue(e),!0):!1}function ze(e){if(e=e||(typeof document<"u"?document:void 0),typeof e>"u")return null;try{return e.activeElement||e.body}catch{return e.body}}function ie(e,n){var o=n.checked;return U({},n,{defaultChecked:void 0,defaultValue:void 0,value:void 0,checked:o??e._wrapperState.initialChecked})}function rt(e,n){var o=n.defaultValue==null?"":n.defaultValue,c=n.checked!=null?n.checked:n.defaultChecked;o=ee(n.value!=null?n.value:o),e._wrapperState={initialChecked:c,initialValue:o,controlled:n.type==="checkbox"||n.type==="radio"?n.checked!=null:n.value!=null}}function It(e,n){n=n.checked,n!=null&&P(e,"checked",n,!1)}function ct(e,n){It(e,n);var o=ee(n.value),c=n.type;if(o!=null)c==="number"?(o===0&&e.value===""||e.value!=o)&&(e.value=""+o):e.value!==""+o&&(e.value=""+o);else if(c==="submit"||c==="reset"){e.removeAttribute("value");return}n.hasOwnProperty("value")?ht(e,n.type,o):n.hasOwnProperty("defaultValue")&&ht(e,n.type,ee(n.defaultValue)),n.checked==null&&n.defaultChecked!=null&&(e.defaultChecked=!!n.defaultChecked)}function Nn(e,n,o){if(n.hasOwnProperty("value")||n.hasOwnProperty("defaultValue")){var c=n.type;if(!(c!=="submit"&&c!=="reset"||n.value!==void 0&&n.value!==null))return;n=""+e._wrapperState.initialValue,o||n===e.value||(e.value=n),e.defaultValue=n}o=e.name,o!==""&&(e.name=""),e.defaultChecked=!!e._wrapperState.initialChecked,o!==""&&(e.name=o)}function ht(e,n,o){(n!=="number"||ze(e.ownerDocument)!==e)&&(o==null?e.defaultValue=""+e._wrapperState.initialValue:e.defaultValue!==""+o&&(e.defaultValue=""+o))}var Hn=Array.isArray;function Y(e,n,o,c){if(e=e.options,n){n={};for(var d=0;d<o.length;d++)n["$"+o[d]]=!0;for(o=0;o<e.length;o++)d=n.hasOwnProperty("$"+e[o].value),e[o].selected!==d&&(e[o].selected=d),d&&c&&(e[o].defaultSelected=!0)}else{for(o=""+ee(o),n=null,d=0;d<e.length;d++){if(e[d].value===o){e[d].selected=!0,c&&(e[d].defaultSelected=!0);return}n!==null||e[d].disabled||(n=e[d])}n!==null&&(n.selected=!0)}}function Ee(e,n){if(n.dangerouslySetInnerHTML!=null)throw Error(s(91));return U({},n,{value:void 0,defaultValue:void 0,children:""+e._wrapperState.initialValue})}function Oe(e,n){var o=n.value;if(o==null){if(o=n.children,n=n.defaultValue,o!=null){if(n!=null)throw Error(s(92));if(Hn(o)){if(1<o.length)throw Error(s(93));o=o[0]}n=o}n==null&&(n=""),o=n}e._wrapperState={initialValue:ee(o)}}function Ct(e,n){var o=ee(n.value),c=ee(n.defaultValue);o!=null&&(o=""+o,o!==e.value&&(e.value=o),n.defaultValue==null&&e.defaultValue!==o&&(e.defaultValue=o)),c!=null&&(e.defaultValue=""+c)}function Bn(e){var n=e.textContent;n===e._wrapperState.initialValue&&n!==""&&n!==null&&(e.value=n)}function Nt(e){switch(e){case"svg":return"http://www.w3.org/2000/svg";case"math":return"http://www.w3.org/1998/Math/MathML";default:return"http://www.w3.org/1999/xhtml"}}function us(e,n){return e==null||e==="http://www.w3.org/1999/xhtml"?Nt(n):e==="http://www.w3.org/2000/svg"&&n==="foreignObject"?"http://www.w3.org/1999/xhtml":e}var Br,ds=(function(e){return typeof MSApp<"u"&&MSApp.execUnsafeLocalFunction?function(n,o,c,d){MSApp.execUnsafeLocalFunction(function(){return e(n,o,c,d)})}:e})(function(e,n){if(e.namespaceURI!=="http://www.w3.org/2000/svg"||"innerHTML"in e)e.innerHTML=n;else{for(Br=Br||document.createElement("div"),Br.innerHTML="<svg>"+n.valueOf().toString()+"</svg>",n=Br.firstChild;e.firstChild;)e.removeChild(e.firstChild);for(;n.firstChild;)e.appendChild(n.firstChild)}});function Yt(e,n){if(n){var o=e.firstChild;if(o&&o===e.lastChild&&o.nodeType===3){o.nodeValue=n;return}}e.textContent=n}var ar={animationIterationCount:!0,aspectRatio:!0,borderImageOutset:!0,borderImageSlice:!0,borderImageWidth:!0,boxFlex:!0,boxFlexGroup:!0,boxOrdinalGroup:!0,columnCount:!0,columns:!0,flex:!0,flexGrow:!0,flexPositive:!0,flexShrink:!0,flexNegative:!0,flexOrder:!0,gridArea:!0,gridRow:!0,gridRowEnd:!0,gridRowSpan:!0,gridRowStart:!0,gridColumn:!0,gridColumnEnd:!0,gridColumnSpan:!0,gridColumnStart:!0,fontWeight:!0,lineClamp:!0,lineHeight:!0,opacity:!0,order:!0,orphans:!0,tabSize:!0,widows:!0,zIndex:!0,zoom:!0,fillOpacity:!0,floodOpacity:!0,stopOpacity:!0,strokeDasharray:!0,strokeDashoffset:!0,strokeMiterlimit:!0,strokeOpacity:!0,strokeWidth:!0},lr=["Webkit","ms","Moz","O"];Object.keys(ar).forEach(function(e){lr.forEach(function(n){n=n+e.charAt(0).toUpperCase()+e.substring(1),ar[n]=ar[e]})});function ci(e,n,o){return n==null||typeof n=="boolean"||n===""?"":o||typeof n!="number"||n===0||ar.hasOwnProperty(e)&&ar[e]?(""+n).trim():n+"px"}function ui(e,n){e=e.style;for(var o in n)if(n.hasOwnProperty(o)){var c=o.indexOf("--")===0,d=ci(o,n[o],c);o==="float"&&(o="cssFloat"),c?e.setProperty(o,d):e[o]=d}}var di=U({menuitem:!0},{area:!0,base:!0,br:!0,col:!0,embed:!0,hr:!0,img:!0,input:!0,keygen:!0,link:!0,meta:!0,param:!0,source:!0,track:!0,wbr:!0});function fs(e,n){if(n){if(di[e]&&(n.children!=null||n.dangerouslySetInnerHTML!=null))throw Error(s(137,e));if(n.dangerouslySetInnerHTML!=null){if(n.children!=null)throw Error(s(60));if(typeof n.dangerouslySetInnerHTML!="object"||!("__html"in n.dangerouslySetInnerHTML))throw Error(s(61))}if(n.style!=null&&typeof n.style!="object")throw Error(s(62))}}function so(e,n){if(e.indexOf("-")===-1)return typeof n.is=="string";switch(e){case"annotation-xml":case"color-profile":case"font-face":case"font-face-src":case"font-face-uri":case"font-face-format":case"font-face-name":case"missing-glyph":return!1;default:return!0}}var Ur=null;function qt(e){return e=e.target||e.srcElement||window,e.correspondingUseElement&&(e=e.correspondingUseElement),e.nodeType===3?e.parentNode:e}var oo=null,cr=null,Un=null;function io(e){if(e=ko(e)){if(typeof oo!="function")throw Error(s(280));var n=e.stateNode;n&&(n=Ii(n),oo(e.stateNode,e.type,n))}}function Pe(e){cr?Un?Un.push(e):Un=[e]:cr=e}function st(){if(cr){var e=cr,n=Un;if(Un=cr=null,io(e),n)for(e=0;e<n.length;e++)io(n[e])}}function ut(e,n){return e(n)}function jt(){}var ur=!1;function at(e,n,o){if(ur)return e(n,o);ur=!0;try{return ut(e,n,o)}finally{ur=!1,(cr!==null||Un!==null)&&(jt(),st())}}function mt(e,n){var o=e.stateNode;if(o===null)return null;var c=Ii(o);if(c===null)return null;o=c[n];e:switch(n){case"onClick":case"onClickCapture":case"onDoubleClick":case"onDoubleClickCapture":case"onMouseDown":case"onMouseDownCapture":case"onMouseMove":case"onMouseMoveCapture":case"onMouseUp":case"onMouseUpCapture":case"onMouseEnter":(c=!c.disabled)||(e=e.type,c=!(e==="button"||e==="input"||e==="select"||e==="textarea")),e=!c;break e;default:e=!1}if(e)return null;if(o&&typeof o!="function")throw Error(s(231,n,typeof o));return o}var dr=!1;if(p)try{var xt={};Object.defineProperty(xt,"passive",{get:function(){dr=!0}}),window.addEventListener("test",xt,xt),window.removeEventListener("test",xt,xt)}catch{dr=!1}function Ht(e,n,o,c,d,h,w,T,I){var $=Array.prototype.slice.call(arguments,3);try{n.apply(o,$)}catch(J){this.onError(J)}}var fr=!1,Xt=null,ao=!1,pl=null,rx={onError:function(e){fr=!0,Xt=e}};function sx(e,n,o,c,d,h,w,T,I){fr=!1,Xt=null,Ht.apply(rx,arguments)}function ox(e,n,o,c,d,h,w,T,I){if(sx.apply(this,arguments),fr){if(fr){var $=Xt;fr=!1,Xt=null}else throw Error(s(198));ao||(ao=!0,pl=$)}}function Vr(e){var n=e,o=e;if(e.alternate)for(;n.return;)n=n.return;else{e=n;do n=e,(n.flags&4098)!==0&&(o=n.return),e=n.return;while(e)}return n.tag===3?o:null}function Bd(e){if(e.tag===13){var n=e.memoizedState;if(n===null&&(e=e.alternate,e!==null&&(n=e.memoizedState)),n!==null)return n.dehydrated}return null}function Ud(e){if(Vr(e)!==e)throw Error(s(188))}function ix(e){var n=e.alternate;if(!n){if(n=Vr(e),n===null)throw Error(s(188));return n!==e?null:e}for(var o=e,c=n;;){var d=o.return;if(d===null)break;var h=d.alternate;if(h===null){if(c=d.return,c!==null){o=c;continue}break}if(d.child===h.child){for(h=d.child;h;){if(h===o)return Ud(d),e;if(h===c)return Ud(d),n;h=h.sibling}throw Error(s(188))}if(o.return!==c.return)o=d,c=h;else{for(var w=!1,T=d.child;T;){if(T===o){w=!0,o=d,c=h;break}if(T===c){w=!0,c=d,o=h;break}T=T.sibling}if(!w){for(T=h.child;T;){if(T===o){w=!0,o=h,c=d;break}if(T===c){w=!0,c=h,o=d;break}T=T.sibling}if(!w)throw Error(s(189))}}if(o.alternate!==c)throw Error(s(190))}if(o.tag!==3)throw Error(s(188));return o.stateNode.current===o?e:n}function Vd(e){return e=ix(e),e!==null?Wd(e):null}function Wd(e){if(e.tag===5||e.tag===6)return e;for(e=e.child;e!==null;){var n=Wd(e);if(n!==null)return n;e=e.sibling}return null}var Gd=r.unstable_scheduleCallback,Kd=r.unstable_cancelCallback,ax=r.unstable_shouldYield,lx=r.unstable_requestPaint,ot=r.unstable_now,cx=r.unstable_getCurrentPriorityLevel,hl=r.unstable_ImmediatePriority,Yd=r.unstable_UserBlockingPriority,fi=r.unstable_NormalPriority,ux=r.unstable_LowPriority,qd=r.unstable_IdlePriority,pi=null,jn=null;function dx(e){if(jn&&typeof jn.onCommitFiberRoot=="function")try{jn.onCommitFiberRoot(pi,e,void 0,(e.current.flags&128)===128)}catch{}}var an=Math.clz32?Math.clz32:hx,fx=Math.log,px=Math.LN2;function hx(e){return e>>>=0,e===0?32:31-(fx(e)/px|0)|0}var hi=64,mi=4194304;function lo(e){switch(e&-e){case 1:return 1;case 2:return 2;case 4:return 4;case 8:return 8;case 16:return 16;case 32:return 32;case 64:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return e&4194240;case 4194304:case 8388608:case 16777216:case 33554432:case 67108864:return e&130023424;case 134217728:return 134217728;case 268435456:return 268435456;case 536870912:return 536870912;case 1073741824:return 1073741824;default:return e}}function gi(e,n){var o=e.pendingLanes;if(o===0)return 0;var c=0,d=e.suspendedLanes,h=e.pingedLanes,w=o&268435455;if(w!==0){var T=w&~d;T!==0?c=lo(T):(h&=w,h!==0&&(c=lo(h)))}else w=o&~d,w!==0?c=lo(w):h!==0&&(c=lo(h));if(c===0)return 0;if(n!==0&&n!==c&&(n&d)===0&&(d=c&-c,h=n&-n,d>=h||d===16&&(h&4194240)!==0))return n;if((c&4)!==0&&(c|=o&16),n=e.entangledLanes,n!==0)for(e=e.entanglements,n&=c;0<n;)o=31-an(n),d=1<<o,c|=e[o],n&=~d;return c}function mx(e,n){switch(e){case 1:case 2:case 4:return n+250;case 8:case 16:case 32:case 64:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return n+5e3;case 4194304:case 8388608:case 16777216:case 33554432:case 67108864:return-1;case 134217728:case 268435456:case 536870912:case 1073741824:return-1;default:return-1}}function gx(e,n){for(var o=e.suspendedLanes,c=e.pingedLanes,d=e.expirationTimes,h=e.pendingLanes;0<h;){var w=31-an(h),T=1<<w,I=d[w];I===-1?((T&o)===0||(T&c)!==0)&&(d[w]=mx(T,n)):I<=n&&(e.expiredLanes|=T),h&=~T}}function ml(e){return e=e.pendingLanes&-1073741825,e!==0?e:e&1073741824?1073741824:0}function Xd(){var e=hi;return hi<<=1,(hi&4194240)===0&&(hi=64),e}function gl(e){for(var n=[],o=0;31>o;o++)n.push(e);return n}function co(e,n,o){e.pendingLanes|=n,n!==536870912&&(e.suspendedLanes=0,e.pingedLanes=0),e=e.eventTimes,n=31-an(n),e[n]=o}function vx(e,n){var o=e.pendingLanes&~n;e.pendingLanes=n,e.suspendedLanes=0,e.pingedLanes=0,e.expiredLanes&=n,e.mutableReadLanes&=n,e.entangledLanes&=n,n=e.entanglements;var c=e.eventTimes;for(e=e.expirationTimes;0<o;){var d=31-an(o),h=1<<d;n[d]=0,c[d]=-1,e[d]=-1,o&=~h}}function vl(e,n){var o=e.entangledLanes|=n;for(e=e.entanglements;o;){var c=31-an(o),d=1<<c;d&n|e[c]&n&&(e[c]|=n),o&=~d}}var We=0;function Qd(e){return e&=-e,1<e?4<e?(e&268435455)!==0?16:536870912:4:1}var Jd,yl,Zd,ef,tf,xl=!1,vi=[],pr=null,hr=null,mr=null,uo=new Map,fo=new Map,gr=[],yx="mousedown mouseup touchcancel touchend touchstart auxclick dblclick pointercancel pointerdown pointerup dragend dragstart drop compositionend compositionstart keydown keypress keyup input textInput copy cut paste click change contextmenu reset submit".split(" ");function nf(e,n){switch(e){case"focusin":case"focusout":pr=null;break;case"dragenter":case"dragleave":hr=null;break;case"mouseover":case"mouseout":mr=null;break;case"pointerover":case"pointerout":uo.delete(n.pointerId);break;case"gotpointercapture":case"lostpointercapture":fo.delete(n.pointerId)}}function po(e,n,o,c,d,h){return e===null||e.nativeEvent!==h?(e={blockedOn:n,domEventName:o,eventSystemFlags:c,nativeEvent:h,targetContainers:[d]},n!==null&&(n=ko(n),n!==null&&yl(n)),e):(e.eventSystemFlags|=c,n=e.targetContainers,d!==null&&n.indexOf(d)===-1&&n.push(d),e)}function xx(e,n,o,c,d){switch(n){case"focusin":return pr=po(pr,e,n,o,c,d),!0;case"dragenter":return hr=po(hr,e,n,o,c,d),!0;case"mouseover":return mr=po(mr,e,n,o,c,d),!0;case"pointerover":var h=d.pointerId;return uo.set(h,po(uo.get(h)||null,e,n,o,c,d)),!0;case"gotpointercapture":return h=d.pointerId,fo.set(h,po(fo.get(h)||null,e,n,o,c,d)),!0}return!1}function rf(e){var n=Wr(e.target);if(n!==null){var o=Vr(n);if(o!==null){if(n=o.tag,n===13){if(n=Bd(o),n!==null){e.blockedOn=n,tf(e.priority,function(){Zd(o)});return}}else if(n===3&&o.stateNode.current.memoizedState.isDehydrated){e.blockedOn=o.tag===3?o.stateNode.containerInfo:null;return}}}e.blockedOn=null}function yi(e){if(e.blockedOn!==null)return!1;for(var n=e.targetContainers;0<n.length;){var o=bl(e.domEventName,e.eventSystemFlags,n[0],e.nativeEvent);if(o===null){o=e.nativeEvent;var c=new o.constructor(o.type,o);Ur=c,o.target.dispatchEvent(c),Ur=null}else return n=ko(o),n!==null&&yl(n),e.blockedOn=o,!1;n.shift()}return!0}function sf(e,n,o){yi(e)&&o.delete(n)}function wx(){xl=!1,pr!==null&&yi(pr)&&(pr=null),hr!==null&&yi(hr)&&(hr=null),mr!==null&&yi(mr)&&(mr=null),uo.forEach(sf),fo.forEach(sf)}function ho(e,n){e.blockedOn===n&&(e.blockedOn=null,xl||(xl=!0,r.unstable_scheduleCallback(r.unstable_NormalPriority,wx)))}function mo(e){function n(d){return ho(d,e)}if(0<vi.length){ho(vi[0],e);for(var o=1;o<vi.length;o++){var c=vi[o];c.blockedOn===e&&(c.blockedOn=null)}}for(pr!==null&&ho(pr,e),hr!==null&&ho(hr,e),mr!==null&&ho(mr,e),uo.forEach(n),fo.forEach(n),o=0;o<gr.length;o++)c=gr[o],c.blockedOn===e&&(c.blockedOn=null);for(;0<gr.length&&(o=gr[0],o.blockedOn===null);)rf(o),o.blockedOn===null&&gr.shift()}var ps=L.ReactCurrentBatchConfig,xi=!0;function bx(e,n,o,c){var d=We,h=ps.transition;ps.transition=null;try{We=1,wl(e,n,o,c)}finally{We=d,ps.transition=h}}function Sx(e,n,o,c){var d=We,h=ps.transition;ps.transition=null;try{We=4,wl(e,n,o,c)}finally{We=d,ps.transition=h}}function wl(e,n,o,c){if(xi){var d=bl(e,n,o,c);if(d===null)zl(e,n,c,wi,o),nf(e,c);else if(xx(d,e,n,o,c))c.stopPropagation();else if(nf(e,c),n&4&&-1<yx.indexOf(e)){for(;d!==null;){var h=ko(d);if(h!==null&&Jd(h),h=bl(e,n,o,c),h===null&&zl(e,n,c,wi,o),h===d)break;d=h}d!==null&&c.stopPropagation()}else zl(e,n,c,null,o)}}var wi=null;function bl(e,n,o,c){if(wi=null,e=qt(c),e=Wr(e),e!==null)if(n=Vr(e),n===null)e=null;else if(o=n.tag,o===13){if(e=Bd(n),e!==null)return e;e=null}else if(o===3){if(n.stateNode.current.memoizedState.isDehydrated)return n.tag===3?n.stateNode.containerInfo:null;e=null}else n!==e&&(e=null);return wi=e,null}function of(e){switch(e){case"cancel":case"click":case"close":case"contextmenu":case"copy":case"cut":case"auxclick":case"dblclick":case"dragend":case"dragstart":case"drop":case"focusin":case"focusout":case"input":case"invalid":case"keydown":case"keypress":case"keyup":case"mousedown":case"mouseup":case"paste":case"pause":case"play":case"pointercancel":case"pointerdown":case"pointerup":case"ratechange":case"reset":case"resize":case"seeked":case"submit":case"touchcancel":case"touchend":case"touchstart":case"volumechange":case"change":case"selectionchange":case"textInput":case"compositionstart":case"compositionend":case"compositionupdate":case"beforeblur":case"afterblur":case"beforeinput":case"blur":case"fullscreenchange":case"focus":case"hashchange":case"popstate":case"select":case"selectstart":return 1;case"drag":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"mousemove":case"mouseout":case"mouseover":case"pointermove":case"pointerout":case"pointerover":case"scroll":case"toggle":case"touchmove":case"wheel":case"mouseenter":case"mouseleave":case"pointerenter":case"pointerleave":return 4;case"message":switch(cx()){case hl:return 1;case Yd:return 4;case fi:case ux:return 16;case qd:return 536870912;default:return 16}default:return 16}}var vr=null,Sl=null,bi=null;function af(){if(bi)return bi;var e,n=Sl,o=n.length,c,d="value"in vr?vr.value:vr.textContent,h=d.length;for(e=0;e<o&&n[e]===d[e];e++);var w=o-e;for(c=1;c<=w&&n[o-c]===d[h-c];c++);return bi=d.slice(e,1<c?1-c:void 0)}function Si(e){var n=e.keyCode;return"charCode"in e?(e=e.charCode,e===0&&n===13&&(e=13)):e=n,e===10&&(e=13),32<=e||e===13?e:0}function Ci(){return!0}function lf(){return!1}function Bt(e){function n(o,c,d,h,w){this._reactName=o,this._targetInst=d,this.type=c,this.nativeEvent=h,this.target=w,this.currentTarget=null;for(var T in e)e.hasOwnProperty(T)&&(o=e[T],this[T]=o?o(h):h[T]);return this.isDefaultPrevented=(h.defaultPrevented!=null?h.defaultPrevented:h.returnValue===!1)?Ci:lf,this.isPropagationStopped=lf,this}return U(n.prototype,{preventDefault:function(){this.defaultPrevented=!0;var o=this.nativeEvent;o&&(o.preventDefault?o.preventDefault():typeof o.returnValue!="unknown"&&(o.returnValue=!1),this.isDefaultPrevented=Ci)},stopPropagation:function(){var o=this.nativeEvent;o&&(o.stopPropagation?o.stopPropagation():typeof o.cancelBubble!="unknown"&&(o.cancelBubble=!0),this.isPropagationStopped=Ci)},persist:function(){},isPersistent:Ci}),n}var hs={eventPhase:0,bubbles:0,cancelable:0,timeStamp:function(e){return e.timeStamp||Date.now()},defaultPrevented:0,isTrusted:0},Cl=Bt(hs),go=U({},hs,{view:0,detail:0}),Cx=Bt(go),Nl,jl,vo,Ni=U({},go,{screenX:0,screenY:0,clientX:0,clientY:0,pageX:0,pageY:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,getModifierState:kl,button:0,buttons:0,relatedTarget:function(e){return e.relatedTarget===void 0?e.fromElement===e.srcElement?e.toElement:e.fromElement:e.relatedTarget},movementX:function(e){return"movementX"in e?e.movementX:(e!==vo&&(vo&&e.type==="mousemove"?(Nl=e.screenX-vo.screenX,jl=e.screenY-vo.screenY):jl=Nl=0,vo=e),Nl)},movementY:function(e){return"movementY"in e?e.movementY:jl}}),cf=Bt(Ni),Nx=U({},Ni,{dataTransfer:0}),jx=Bt(Nx),Ex=U({},go,{relatedTarget:0}),El=Bt(Ex),kx=U({},hs,{animationName:0,elapsedTime:0,pseudoElement:0}),Tx=Bt(kx),Px=U({},hs,{clipboardData:function(e){return"clipboardData"in e?e.clipboardData:window.clipboardData}}),Rx=Bt(Px),Dx=U({},hs,{data:0}),uf=Bt(Dx),Ix={Esc:"Escape",Spacebar:" ",Left:"ArrowLeft",Up:"ArrowUp",Right:"ArrowRight",Down:"ArrowDown",Del:"Delete",Win:"OS",Menu:"ContextMenu",Apps:"ContextMenu",Scroll:"ScrollLock",MozPrintableKey:"Unidentified"},Ox={8:"Backspace",9:"Tab",12:"Clear",13:"Enter",16:"Shift",17:"Control",18:"Alt",19:"Pause",20:"CapsLock",27:"Escape",32:" ",33:"PageUp",34:"PageDown",35:"End",36:"Home",37:"ArrowLeft",38:"ArrowUp",39:"ArrowRight",40:"ArrowDown",45:"Insert",46:"Delete",112:"F1",113:"F2",114:"F3",115:"F4",116:"F5",117:"F6",118:"F7",119:"F8",120:"F9",121:"F10",122:"F11",123:"F12",144:"NumLock",145:"ScrollLock",224:"Meta"},_x={Alt:"altKey",Control:"ctrlKey",Meta:"metaKey",Shift:"shiftKey"};function Mx(e){var n=this.nativeEvent;return n.getModifierState?n.getModifierState(e):(e=_x[e])?!!n[e]:!1}function kl(){return Mx}var Ax=U({},go,{key:function(e){if(e.key){var n=Ix[e.key]||e.key;if(n!=="Unidentified")return n}return e.type==="keypress"?(e=Si(e),e===13?"Enter":String.fromCharCode(e)):e.type==="keydown"||e.type==="keyup"?Ox[e.keyCode]||"Unidentified":""},code:0,location:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,repeat:0,locale:0,getModifierState:kl,charCode:function(e){return e.type==="keypress"?Si(e):0},keyCode:function(e){return e.type==="keydown"||e.type==="keyup"?e.keyCode:0},which:function(e){return e.type==="keypress"?Si(e):e.type==="keydown"||e.type==="keyup"?e.keyCode:0}}),Lx=Bt(Ax),zx=U({},Ni,{pointerId:0,width:0,height:0,pressure:0,tangentialPressure:0,tiltX:0,tiltY:0,twist:0,pointerType:0,isPrimary:0}),df=Bt(zx),Fx=U({},go,{touches:0,targetTouches:0,changedTouches:0,altKey:0,metaKey:0,ctrlKey:0,shiftKey:0,getModifierState:kl}),$x=Bt(Fx),Hx=U({},hs,{propertyName:0,elapsedTime:0,pseudoElement:0}),Bx=Bt(Hx),Ux=U({},Ni,{deltaX:function(e){return"deltaX"in e?e.deltaX:"wheelDeltaX"in e?-e.wheelDeltaX:0},deltaY:function(e){return"deltaY"in e?e.deltaY:"wheelDeltaY"in e?-e.wheelDeltaY:"wheelDelta"in e?-e.wheelDelta:0},deltaZ:0,deltaMode:0}),Vx=Bt(Ux),Wx=[9,13,27,32],Tl=p&&"CompositionEvent"in window,yo=null;p&&"documentMode"in document&&(yo=document.documentMode);var Gx=p&&"TextEvent"in window&&!yo,ff=p&&(!Tl||yo&&8<yo&&11>=yo),pf=" ",hf=!1;function mf(e,n){switch(e){case"keyup":return Wx.indexOf(n.keyCode)!==-1;case"keydown":return n.keyCode!==229;case"keypress":case"mousedown":case"focusout":return!0;default:return!1}}function gf(e){return e=e.detail,typeof e=="object"&&"data"in e?e.data:null}var ms=!1;function Kx(e,n){switch(e){case"compositionend":return gf(n);case"keypress":return n.which!==32?null:(hf=!0,pf);case"textInput":return e=n.data,e===pf&&hf?null:e;default:return null}}function Yx(e,n){if(ms)return e==="compositionend"||!Tl&&mf(e,n)?(e=af(),bi=Sl=vr=null,ms=!1,e):null;switch(e){case"paste":return null;case"keypress":if(!(n.ctrlKey||n.altKey||n.metaKey)||n.ctrlKey&&n.altKey){if(n.char&&1<n.char.length)return n.char;if(n.which)return String.fromCharCode(n.which)}return null;case"compositionend":return ff&&n.locale!=="ko"?null:n.data;default:return null}}var qx={color:!0,date:!0,datetime:!0,"datetime-local":!0,email:!0,month:!0,number:!0,password:!0,range:!0,search:!0,tel:!0,text:!0,time:!0,url:!0,week:!0};function vf(e){var n=e&&e.nodeName&&e.nodeName.toLowerCase();return n==="input"?!!qx[e.type]:n==="textarea"}function yf(e,n,o,c){Pe(c),n=Pi(n,"onChange"),0<n.length&&(o=new Cl("onChange","change",null,o,c),e.push({event:o,listeners:n}))}var xo=null,wo=null;function Xx(e){Af(e,0)}function ji(e){var n=ws(e);if(ye(n))return e}function Qx(e,n){if(e==="change")return n}var xf=!1;if(p){var Pl;if(p){var Rl="oninput"in document;if(!Rl){var wf=document.createElement("div");wf.setAttribute("oninput","return;"),Rl=typeof wf.oninput=="function"}Pl=Rl}else Pl=!1;xf=Pl&&(!document.documentMode||9<document.documentMode)}function bf(){xo&&(xo.detachEvent("onpropertychange",Sf),wo=xo=null)}function Sf(e){if(e.propertyName==="value"&&ji(wo)){var n=[];yf(n,wo,e,qt(e)),at(Xx,n)}}function Jx(e,n,o){e==="focusin"?(bf(),xo=n,wo=o,xo.attachEvent("onpropertychange",Sf)):e==="focusout"&&bf()}function Zx(e){if(e==="selectionchange"||e==="keyup"||e==="keydown")return ji(wo)}function e0(e,n){if(e==="click")return ji(n)}function t0(e,n){if(e==="input"||e==="change")return ji(n)}function n0(e,n){return e===n&&(e!==0||1/e===1/n)||e!==e&&n!==n}var ln=typeof Object.is=="function"?Object.is:n0;function bo(e,n){if(ln(e,n))return!0;if(typeof e!="object"||e===null||typeof n!="object"||n===null)return!1;var o=Object.keys(e),c=Object.keys(n);if(o.length!==c.length)return!1;for(c=0;c<o.length;c++){var d=o[c];if(!g.call(n,d)||!ln(e[d],n[d]))return!1}return!0}function Cf(e){for(;e&&e.firstChild;)e=e.firstChild;return e}function Nf(e,n){var o=Cf(e);e=0;for(var c;o;){if(o.nodeType===3){if(c=e+o.textContent.length,e<=n&&c>=n)return{node:o,offset:n-e};e=c}e:{for(;o;){if(o.nextSibling){o=o.nextSibling;break e}o=o.parentNode}o=void 0}o=Cf(o)}}function jf(e,n){return e&&n?e===n?!0:e&&e.nodeType===3?!1:n&&n.nodeType===3?jf(e,n.parentNode):"contains"in e?e.contains(n):e.compareDocumentPosition?!!(e.compareDocumentPosition(n)&16):!1:!1}function Ef(){for(var e=window,n=ze();n instanceof e.HTMLIFrameElement;){try{var o=typeof n.contentWindow.location.href=="string"}catch{o=!1}if(o)e=n.contentWindow;else break;n=ze(e.document)}return n}function Dl(e){var n=e&&e.nodeName&&e.nodeName.toLowerCase();return n&&(n==="input"&&(e.type==="text"||e.type==="search"||e.type==="tel"||e.type==="url"||e.type==="password")||n==="textarea"||e.contentEditable==="true")}function r0(e){var n=Ef(),o=e.focusedElem,c=e.selectionRange;if(n!==o&&o&&o.ownerDocument&&jf(o.ownerDocument.documentElement,o)){if(c!==null&&Dl(o)){if(n=c.start,e=c.end,e===void 0&&(e=n),"selectionStart"in o)o.selectionStart=n,o.selectionEnd=Math.min(e,o.value.length);else if(e=(n=o.ownerDocument||document)&&n.defaultView||window,e.getSelection){e=e.getSelection();var d=o.textContent.length,h=Math.min(c.start,d);c=c.end===void 0?h:Math.min(c.end,d),!e.extend&&h>c&&(d=c,c=h,h=d),d=Nf(o,h);var w=Nf(o,c);d&&w&&(e.rangeCount!==1||e.anchorNode!==d.node||e.anchorOffset!==d.offset||e.focusNode!==w.node||e.focusOffset!==w.offset)&&(n=n.createRange(),n.setStart(d.node,d.offset),e.removeAllRanges(),h>c?(e.addRange(n),e.extend(w.node,w.offset)):(n.setEnd(w.node,w.offset),e.addRange(n)))}}for(n=[],e=o;e=e.parentNode;)e.nodeType===1&&n.push({element:e,left:e.scrollLeft,top:e.scrollTop});for(typeof o.focus=="function"&&o.focus(),o=0;o<n.length;o++)e=n[o],e.element.scrollLeft=e.left,e.element.scrollTop=e.top}}var s0=p&&"documentMode"in document&&11>=document.documentMode,gs=null,Il=null,So=null,Ol=!1;function kf(e,n,o){var c=o.window===o?o.document:o.nodeType===9?o:o.ownerDocument;Ol||gs==null||gs!==ze(c)||(c=gs,"selectionStart"in c&&Dl(c)?c={start:c.selectionStart,end:c.selectionEnd}:(c=(c.ownerDocument&&c.ownerDocument.defaultView||window).getSelection(),c={anchorNode:c.anchorNode,anchorOffset:c.anchorOffset,focusNode:c.focusNode,focusOffset:c.focusOffset}),So&&bo(So,c)||(So=c,c=Pi(Il,"onSelect"),0<c.length&&(n=new Cl("onSelect","select",null,n,o),e.push({event:n,listeners:c}),n.target=gs)))}function Ei(e,n){var o={};return o[e.toLowerCase()]=n.toLowerCase(),o["Webkit"+e]="webkit"+n,o["Moz"+e]="moz"+n,o}var vs={animationend:Ei("Animation","AnimationEnd"),animationiteration:Ei("Animation","AnimationIteration"),animationstart:Ei("Animation","AnimationStart"),transitionend:Ei("Transition","TransitionEnd")},_l={},Tf={};p&&(Tf=document.createElement("div").style,"AnimationEvent"in window||(delete vs.animationend.animation,delete vs.animationiteration.animation,delete vs.animationstart.animation),"TransitionEvent"in window||delete vs.transitionend.transition);function ki(e){if(_l[e])return _l[e];if(!vs[e])return e;var n=vs[e],o;for(o in n)if(n.hasOwnProperty(o)&&o in Tf)return _l[e]=n[o];return e}var Pf=ki("animationend"),Rf=ki("animationiteration"),Df=ki("animationstart"),If=ki("transitionend"),Of=new Map,_f="abort auxClick cancel canPlay canPlayThrough click close contextMenu copy cut drag dragEnd dragEnter dragExit dragLeave dragOver dragStart drop durationChange emptied encrypted ended error gotPointerCapture input invalid keyDown keyPress keyUp load loadedData loadedMetadata loadStart lostPointerCapture mouseDown mouseMove mouseOut mouseOver mouseUp paste pause play playing pointerCancel pointerDown pointerMove pointerOut pointerOver pointerUp progress rateChange reset resize seeked seeking stalled submit suspend timeUpdate touchCancel touchEnd touchStart volumeChange scroll toggle touchMove waiting wheel".split(" ");function yr(e,n){Of.set(e,n),u(n,[e])}for(var Ml=0;Ml<_f.length;Ml++){var Al=_f[Ml],o0=Al.toLowerCase(),i0=Al[0].toUpperCase()+Al.slice(1);yr(o0,"on"+i0)}yr(Pf,"onAnimationEnd"),yr(Rf,"onAnimationIteration"),yr(Df,"onAnimationStart"),yr("dblclick","onDoubleClick"),yr("focusin","onFocus"),yr("focusout","onBlur"),yr(If,"onTransitionEnd"),f("onMouseEnter",["mouseout","mouseover"]),f("onMouseLeave",["mouseout","mouseover"]),f("onPointerEnter",["pointerout","pointerover"]),f("onPointerLeave",["pointerout","pointerover"]),u("onChange","change click focusin focusout input keydown keyup selectionchange".split(" ")),u("onSelect","focusout contextmenu dragend focusin keydown keyup mousedown mouseup selectionchange".split(" ")),u("onBeforeInput",["compositionend","keypress","textInput","paste"]),u("onCompositionEnd","compositionend focusout keydown keypress keyup mousedown".split(" ")),u("onCompositionStart","compositionstart focusout keydown keypress keyup mousedown".split(" ")),u("onCompositionUpdate","compositionupdate focusout keydown keypress keyup mousedown".split(" "));var Co="abort canplay canplaythrough durationchange emptied encrypted ended error loadeddata loadedmetadata loadstart pause play playing progress ratechange resize seeked seeking stalled suspend timeupdate volumechange waiting".split(" "),a0=new Set("cancel close invalid load scroll toggle".split(" ").concat(Co));function Mf(e,n,o){var c=e.type||"unknown-event";e.currentTarget=o,ox(c,n,void 0,e),e.currentTarget=null}function Af(e,n){n=(n&4)!==0;for(var o=0;o<e.length;o++){var c=e[o],d=c.event;c=c.listeners;e:{var h=void 0;if(n)for(var w=c.length-1;0<=w;w--){var T=c[w],I=T.instance,$=T.currentTarget;if(T=T.listener,I!==h&&d.isPropagationStopped())break e;Mf(d,T,$),h=I}else for(w=0;w<c.length;w++){if(T=c[w],I=T.instance,$=T.currentTarget,T=T.listener,I!==h&&d.isPropagationStopped())break e;Mf(d,T,$),h=I}}}if(ao)throw e=pl,ao=!1,pl=null,e}function Ye(e,n){var o=n[Vl];o===void 0&&(o=n[Vl]=new Set);var c=e+"__bubble";o.has(c)||(Lf(n,e,2,!1),o.add(c))}function Ll(e,n,o){var c=0;n&&(c|=4),Lf(o,e,c,n)}var Ti="_reactListening"+Math.random().toString(36).slice(2);function No(e){if(!e[Ti]){e[Ti]=!0,i.forEach(function(o){o!=="selectionchange"&&(a0.has(o)||Ll(o,!1,e),Ll(o,!0,e))});var n=e.nodeType===9?e:e.ownerDocument;n===null||n[Ti]||(n[Ti]=!0,Ll("selectionchange",!1,n))}}function Lf(e,n,o,c){switch(of(n)){case 1:var d=bx;break;case 4:d=Sx;break;default:d=wl}o=d.bind(null,n,o,e),d=void 0,!dr||n!=="touchstart"&&n!=="touchmove"&&n!=="wheel"||(d=!0),c?d!==void 0?e.addEventListener(n,o,{capture:!0,passive:d}):e.addEventListener(n,o,!0):d!==void 0?e.addEventListener(n,o,{passive:d}):e.addEventListener(n,o,!1)}function zl(e,n,o,c,d){var h=c;if((n&1)===0&&(n&2)===0&&c!==null)e:for(;;){if(c===null)return;var w=c.tag;if(w===3||w===4){var T=c.stateNode.containerInfo;if(T===d||T.nodeType===8&&T.parentNode===d)break;if(w===4)for(w=c.return;w!==null;){var I=w.tag;if((I===3||I===4)&&(I=w.stateNode.containerInfo,I===d||I.nodeType===8&&I.parentNode===d))return;w=w.return}for(;T!==null;){if(w=Wr(T),w===null)return;if(I=w.tag,I===5||I===6){c=h=w;continue e}T=T.parentNode}}c=c.return}at(function(){var $=h,J=qt(o),Z=[];e:{var Q=Of.get(e);if(Q!==void 0){var ue=Cl,me=e;switch(e){case"keypress":if(Si(o)===0)break e;case"keydown":case"keyup":ue=Lx;break;case"focusin":me="focus",ue=El;break;case"focusout":me="blur",ue=El;break;case"beforeblur":case"afterblur":ue=El;break;case"click":if(o.button===2)break e;case"auxclick":case"dblclick":case"mousedown":case"mousemove":case"mouseup":case"mouseout":case"mouseover":case"contextmenu":ue=cf;break;case"drag":case"dragend":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"dragstart":case"drop":ue=jx;break;case"touchcancel":case"touchend":case"touchmove":case"touchstart":ue=$x;break;case Pf:case Rf:case Df:ue=Tx;break;case If:ue=Bx;break;case"scroll":ue=Cx;break;case"wheel":ue=Vx;break;case"copy":case"cut":case"paste":ue=Rx;break;case"gotpointercapture":case"lostpointercapture":case"pointercancel":case"pointerdown":case"pointermove":case"pointerout":case"pointerover":case"pointerup":ue=df}var xe=(n&4)!==0,it=!xe&&e==="scroll",z=xe?Q!==null?Q+"Capture":null:Q;xe=[];for(var _=$,F;_!==null;){F=_;var re=F.stateNode;if(F.tag===5&&re!==null&&(F=re,z!==null&&(re=mt(_,z),re!=null&&xe.push(jo(_,re,F)))),it)break;_=_.return}0<xe.length&&(Q=new ue(Q,me,null,o,J),Z.push({event:Q,listeners:xe}))}}if((n&7)===0){e:{if(Q=e==="mouseover"||e==="pointerover",ue=e==="mouseout"||e==="pointerout",Q&&o!==Ur&&(me=o.relatedTarget||o.fromElement)&&(Wr(me)||me[Vn]))break e;if((ue||Q)&&(Q=J.window===J?J:(Q=J.ownerDocument)?Q.defaultView||Q.parentWindow:window,ue?(me=o.relatedTarget||o.toElement,ue=$,me=me?Wr(me):null,me!==null&&(it=Vr(me),me!==it||me.tag!==5&&me.tag!==6)&&(me=null)):(ue=null,me=$),ue!==me)){if(xe=cf,re="onMouseLeave",z="onMouseEnter",_="mouse",(e==="pointerout"||e==="pointerover")&&(xe=df,re="onPointerLeave",z="onPointerEnter",_="pointer"),it=ue==null?Q:ws(ue),F=me==null?Q:ws(me),Q=new xe(re,_+"leave",ue,o,J),Q.target=it,Q.relatedTarget=F,re=null,Wr(J)===$&&(xe=new xe(z,_+"enter",me,o,J),xe.target=F,xe.relatedTarget=it,re=xe),it=re,ue&&me)t:{for(xe=ue,z=me,_=0,F=xe;F;F=ys(F))_++;for(F=0,re=z;re;re=ys(re))F++;for(;0<_-F;)xe=ys(xe),_--;for(;0<F-_;)z=ys(z),F--;for(;_--;){if(xe===z||z!==null&&xe===z.alternate)break t;xe=ys(xe),z=ys(z)}xe=null}else xe=null;ue!==null&&zf(Z,Q,ue,xe,!1),me!==null&&it!==null&&zf(Z,it,me,xe,!0)}}e:{if(Q=$?ws($):window,ue=Q.nodeName&&Q.nodeName.toLowerCase(),ue==="select"||ue==="input"&&Q.type==="file")var Se=Qx;else if(vf(Q))if(xf)Se=t0;else{Se=Zx;var Ne=Jx}else(ue=Q.nodeName)&&ue.toLowerCase()==="input"&&(Q.type==="checkbox"||Q.type==="radio")&&(Se=e0);if(Se&&(Se=Se(e,$))){yf(Z,Se,o,J);break e}Ne&&Ne(e,Q,$),e==="focusout"&&(Ne=Q._wrapperState)&&Ne.controlled&&Q.type==="number"&&ht(Q,"number",Q.value)}switch(Ne=$?ws($):window,e){case"focusin":(vf(Ne)||Ne.contentEditable==="true")&&(gs=Ne,Il=$,So=null);break;case"focusout":So=Il=gs=null;break;case"mousedown":Ol=!0;break;case"contextmenu":case"mouseup":case"dragend":Ol=!1,kf(Z,o,J);break;case"selectionchange":if(s0)break;case"keydown":case"keyup":kf(Z,o,J)}var je;if(Tl)e:{switch(e){case"compositionstart":var ke="onCompositionStart";break e;case"compositionend":ke="onCompositionEnd";break e;case"compositionupdate":ke="onCompositionUpdate";break e}ke=void 0}else ms?mf(e,o)&&(ke="onCompositionEnd"):e==="keydown"&&o.keyCode===229&&(ke="onCompositionStart");ke&&(ff&&o.locale!=="ko"&&(ms||ke!=="onCompositionStart"?ke==="onCompositionEnd"&&ms&&(je=af()):(vr=J,Sl="value"in vr?vr.value:vr.textContent,ms=!0)),Ne=Pi($,ke),0<Ne.length&&(ke=new uf(ke,e,null,o,J),Z.push({event:ke,listeners:Ne}),je?ke.data=je:(je=gf(o),je!==null&&(ke.data=je)))),(je=Gx?Kx(e,o):Yx(e,o))&&($=Pi($,"onBeforeInput"),0<$.length&&(J=new uf("onBeforeInput","beforeinput",null,o,J),Z.push({event:J,listeners:$}),J.data=je))}Af(Z,n)})}function jo(e,n,o){return{instance:e,listener:n,currentTarget:o}}function Pi(e,n){for(var o=n+"Capture",c=[];e!==null;){var d=e,h=d.stateNode;d.tag===5&&h!==null&&(d=h,h=mt(e,o),h!=null&&c.unshift(jo(e,h,d)),h=mt(e,n),h!=null&&c.push(jo(e,h,d))),e=e.return}return c}function ys(e){if(e===null)return null;do e=e.return;while(e&&e.tag!==5);return e||null}function zf(e,n,o,c,d){for(var h=n._reactName,w=[];o!==null&&o!==c;){var T=o,I=T.alternate,$=T.stateNode;if(I!==null&&I===c)break;T.tag===5&&$!==null&&(T=$,d?(I=mt(o,h),I!=null&&w.unshift(jo(o,I,T))):d||(I=mt(o,h),I!=null&&w.push(jo(o,I,T)))),o=o.return}w.length!==0&&e.push({event:n,listeners:w})}var l0=/\r\n?/g,c0=/\u0000|\uFFFD/g;function Ff(e){return(typeof e=="string"?e:""+e).replace(l0,`
-`).replace(c0,"")}function Ri(e,n,o){if(n=Ff(n),Ff(e)!==n&&o)throw Error(s(425))}function Di(){}var Fl=null,$l=null;function Hl(e,n){return e==="textarea"||e==="noscript"||typeof n.children=="string"||typeof n.children=="number"||typeof n.dangerouslySetInnerHTML=="object"&&n.dangerouslySetInnerHTML!==null&&n.dangerouslySetInnerHTML.__html!=null}var Bl=typeof setTimeout=="function"?setTimeout:void 0,u0=typeof clearTimeout=="function"?clearTimeout:void 0,$f=typeof Promise=="function"?Promise:void 0,d0=typeof queueMicrotask=="function"?queueMicrotask:typeof $f<"u"?function(e){return $f.resolve(null).then(e).catch(f0)}:Bl;function f0(e){setTimeout(function(){throw e})}function Ul(e,n){var o=n,c=0;do{var d=o.nextSibling;if(e.removeChild(o),d&&d.nodeType===8)if(o=d.data,o==="/$"){if(c===0){e.removeChild(d),mo(n);return}c--}else o!=="$"&&o!=="$?"&&o!=="$!"||c++;o=d}while(o);mo(n)}function xr(e){for(;e!=null;e=e.nextSibling){var n=e.nodeType;if(n===1||n===3)break;if(n===8){if(n=e.data,n==="$"||n==="$!"||n==="$?")break;if(n==="/$")return null}}return e}function Hf(e){e=e.previousSibling;for(var n=0;e;){if(e.nodeType===8){var o=e.data;if(o==="$"||o==="$!"||o==="$?"){if(n===0)return e;n--}else o==="/$"&&n++}e=e.previousSibling}return null}var xs=Math.random().toString(36).slice(2),En="__reactFiber$"+xs,Eo="__reactProps$"+xs,Vn="__reactContainer$"+xs,Vl="__reactEvents$"+xs,p0="__reactListeners$"+xs,h0="__reactHandles$"+xs;function Wr(e){var n=e[En];if(n)return n;for(var o=e.parentNode;o;){if(n=o[Vn]||o[En]){if(o=n.alternate,n.child!==null||o!==null&&o.child!==null)for(e=Hf(e);e!==null;){if(o=e[En])return o;e=Hf(e)}return n}e=o,o=e.parentNode}return null}function ko(e){return e=e[En]||e[Vn],!e||e.tag!==5&&e.tag!==6&&e.tag!==13&&e.tag!==3?null:e}function ws(e){if(e.tag===5||e.tag===6)return e.stateNode;throw Error(s(33))}function Ii(e){return e[Eo]||null}var Wl=[],bs=-1;function wr(e){return{current:e}}function qe(e){0>bs||(e.current=Wl[bs],Wl[bs]=null,bs--)}function Ke(e,n){bs++,Wl[bs]=e.current,e.current=n}var br={},Et=wr(br),Ot=wr(!1),Gr=br;function Ss(e,n){var o=e.type.contextTypes;if(!o)return br;var c=e.stateNode;if(c&&c.__reactInternalMemoizedUnmaskedChildContext===n)return c.__reactInternalMemoizedMaskedChildContext;var d={},h;for(h in o)d[h]=n[h];return c&&(e=e.stateNode,e.__reactInternalMemoizedUnmaskedChildContext=n,e.__reactInternalMemoizedMaskedChildContext=d),d}function _t(e){return e=e.childContextTypes,e!=null}function Oi(){qe(Ot),qe(Et)}function Bf(e,n,o){if(Et.current!==br)throw Error(s(168));Ke(Et,n),Ke(Ot,o)}function Uf(e,n,o){var c=e.stateNode;if(n=n.childContextTypes,typeof c.getChildContext!="function")return o;c=c.getChildContext();for(var d in c)if(!(d in n))throw Error(s(108,q(e)||"Unknown",d));return U({},o,c)}function _i(e){return e=(e=e.stateNode)&&e.__reactInternalMemoizedMergedChildContext||br,Gr=Et.current,Ke(Et,e),Ke(Ot,Ot.current),!0}function Vf(e,n,o){var c=e.stateNode;if(!c)throw Error(s(169));o?(e=Uf(e,n,Gr),c.__reactInternalMemoizedMergedChildContext=e,qe(Ot),qe(Et),Ke(Et,e)):qe(Ot),Ke(Ot,o)}var Wn=null,Mi=!1,Gl=!1;function Wf(e){Wn===null?Wn=[e]:Wn.push(e)}function m0(e){Mi=!0,Wf(e)}function Sr(){if(!Gl&&Wn!==null){Gl=!0;var e=0,n=We;try{var o=Wn;for(We=1;e<o.length;e++){var c=o[e];do c=c(!0);while(c!==null)}Wn=null,Mi=!1}catch(d){throw Wn!==null&&(Wn=Wn.slice(e+1)),Gd(hl,Sr),d}finally{We=n,Gl=!1}}return null}var Cs=[],Ns=0,Ai=null,Li=0,Qt=[],Jt=0,Kr=null,Gn=1,Kn="";function Yr(e,n){Cs[Ns++]=Li,Cs[Ns++]=Ai,Ai=e,Li=n}function Gf(e,n,o){Qt[Jt++]=Gn,Qt[Jt++]=Kn,Qt[Jt++]=Kr,Kr=e;var c=Gn;e=Kn;var d=32-an(c)-1;c&=~(1<<d),o+=1;var h=32-an(n)+d;if(30<h){var w=d-d%5;h=(c&(1<<w)-1).toString(32),c>>=w,d-=w,Gn=1<<32-an(n)+d|o<<d|c,Kn=h+e}else Gn=1<<h|o<<d|c,Kn=e}function Kl(e){e.return!==null&&(Yr(e,1),Gf(e,1,0))}function Yl(e){for(;e===Ai;)Ai=Cs[--Ns],Cs[Ns]=null,Li=Cs[--Ns],Cs[Ns]=null;for(;e===Kr;)Kr=Qt[--Jt],Qt[Jt]=null,Kn=Qt[--Jt],Qt[Jt]=null,Gn=Qt[--Jt],Qt[Jt]=null}var Ut=null,Vt=null,Qe=!1,cn=null;function Kf(e,n){var o=nn(5,null,null,0);o.elementType="DELETED",o.stateNode=n,o.return=e,n=e.deletions,n===null?(e.deletions=[o],e.flags|=16):n.push(o)}function Yf(e,n){switch(e.tag){case 5:var o=e.type;return n=n.nodeType!==1||o.toLowerCase()!==n.nodeName.toLowerCase()?null:n,n!==null?(e.stateNode=n,Ut=e,Vt=xr(n.firstChild),!0):!1;case 6:return n=e.pendingProps===""||n.nodeType!==3?null:n,n!==null?(e.stateNode=n,Ut=e,Vt=null,!0):!1;case 13:return n=n.nodeType!==8?null:n,n!==null?(o=Kr!==null?{id:Gn,overflow:Kn}:null,e.memoizedState={dehydrated:n,treeContext:o,retryLane:1073741824},o=nn(18,null,null,0),o.stateNode=n,o.return=e,e.child=o,Ut=e,Vt=null,!0):!1;default:return!1}}function ql(e){return(e.mode&1)!==0&&(e.flags&128)===0}function Xl(e){if(Qe){var n=Vt;if(n){var o=n;if(!Yf(e,n)){if(ql(e))throw Error(s(418));n=xr(o.nextSibling);var c=Ut;n&&Yf(e,n)?Kf(c,o):(e.flags=e.flags&-4097|2,Qe=!1,Ut=e)}}else{if(ql(e))throw Error(s(418));e.flags=e.flags&-4097|2,Qe=!1,Ut=e}}}function qf(e){for(e=e.return;e!==null&&e.tag!==5&&e.tag!==3&&e.tag!==13;)e=e.return;Ut=e}function zi(e){if(e!==Ut)return!1;if(!Qe)return qf(e),Qe=!0,!1;var n;if((n=e.tag!==3)&&!(n=e.tag!==5)&&(n=e.type,n=n!=="head"&&n!=="body"&&!Hl(e.type,e.memoizedProps)),n&&(n=Vt)){if(ql(e))throw Xf(),Error(s(418));for(;n;)Kf(e,n),n=xr(n.nextSibling)}if(qf(e),e.tag===13){if(e=e.memoizedState,e=e!==null?e.dehydrated:null,!e)throw Error(s(317));e:{for(e=e.nextSibling,n=0;e;){if(e.nodeType===8){var o=e.data;if(o==="/$"){if(n===0){Vt=xr(e.nextSibling);break e}n--}else o!=="$"&&o!=="$!"&&o!=="$?"||n++}e=e.nextSibling}Vt=null}}else Vt=Ut?xr(e.stateNode.nextSibling):null;return!0}function Xf(){for(var e=Vt;e;)e=xr(e.nextSibling)}function js(){Vt=Ut=null,Qe=!1}function Ql(e){cn===null?cn=[e]:cn.push(e)}var g0=L.ReactCurrentBatchConfig;function To(e,n,o){if(e=o.ref,e!==null&&typeof e!="function"&&typeof e!="object"){if(o._owner){if(o=o._owner,o){if(o.tag!==1)throw Error(s(309));var c=o.stateNode}if(!c)throw Error(s(147,e));var d=c,h=""+e;return n!==null&&n.ref!==null&&typeof n.ref=="function"&&n.ref._stringRef===h?n.ref:(n=function(w){var T=d.refs;w===null?delete T[h]:T[h]=w},n._stringRef=h,n)}if(typeof e!="string")throw Error(s(284));if(!o._owner)throw Error(s(290,e))}return e}function Fi(e,n){throw e=Object.prototype.toString.call(n),Error(s(31,e==="[object Object]"?"object with keys {"+Object.keys(n).join(", ")+"}":e))}function Qf(e){var n=e._init;return n(e._payload)}function Jf(e){function n(z,_){if(e){var F=z.deletions;F===null?(z.deletions=[_],z.flags|=16):F.push(_)}}function o(z,_){if(!e)return null;for(;_!==null;)n(z,_),_=_.sibling;return null}function c(z,_){for(z=new Map;_!==null;)_.key!==null?z.set(_.key,_):z.set(_.index,_),_=_.sibling;return z}function d(z,_){return z=Rr(z,_),z.index=0,z.sibling=null,z}function h(z,_,F){return z.index=F,e?(F=z.alternate,F!==null?(F=F.index,F<_?(z.flags|=2,_):F):(z.flags|=2,_)):(z.flags|=1048576,_)}function w(z){return e&&z.alternate===null&&(z.flags|=2),z}function T(z,_,F,re){return _===null||_.tag!==6?(_=Bc(F,z.mode,re),_.return=z,_):(_=d(_,F),_.return=z,_)}function I(z,_,F,re){var Se=F.type;return Se===G?J(z,_,F.props.children,re,F.key):_!==null&&(_.elementType===Se||typeof Se=="object"&&Se!==null&&Se.$$typeof===M&&Qf(Se)===_.type)?(re=d(_,F.props),re.ref=To(z,_,F),re.return=z,re):(re=ca(F.type,F.key,F.props,null,z.mode,re),re.ref=To(z,_,F),re.return=z,re)}function $(z,_,F,re){return _===null||_.tag!==4||_.stateNode.containerInfo!==F.containerInfo||_.stateNode.implementation!==F.implementation?(_=Uc(F,z.mode,re),_.return=z,_):(_=d(_,F.children||[]),_.return=z,_)}function J(z,_,F,re,Se){return _===null||_.tag!==7?(_=ns(F,z.mode,re,Se),_.return=z,_):(_=d(_,F),_.return=z,_)}function Z(z,_,F){if(typeof _=="string"&&_!==""||typeof _=="number")return _=Bc(""+_,z.mode,F),_.return=z,_;if(typeof _=="object"&&_!==null){switch(_.$$typeof){case B:return F=ca(_.type,_.key,_.props,null,z.mode,F),F.ref=To(z,null,_),F.return=z,F;case W:return _=Uc(_,z.mode,F),_.return=z,_;case M:var re=_._init;return Z(z,re(_._payload),F)}if(Hn(_)||K(_))return _=ns(_,z.mode,F,null),_.return=z,_;Fi(z,_)}return null}function Q(z,_,F,re){var Se=_!==null?_.key:null;if(typeof F=="string"&&F!==""||typeof F=="number")return Se!==null?null:T(z,_,""+F,re);if(typeof F=="object"&&F!==null){switch(F.$$typeof){case B:return F.key===Se?I(z,_,F,re):null;case W:return F.key===Se?$(z,_,F,re):null;case M:return Se=F._init,Q(z,_,Se(F._payload),re)}if(Hn(F)||K(F))return Se!==null?null:J(z,_,F,re,null);Fi(z,F)}return null}function ue(z,_,F,re,Se){if(typeof re=="string"&&re!==""||typeof re=="number")return z=z.get(F)||null,T(_,z,""+re,Se);if(typeof re=="object"&&re!==null){switch(re.$$typeof){case B:return z=z.get(re.key===null?F:re.key)||null,I(_,z,re,Se);case W:return z=z.get(re.key===null?F:re.key)||null,$(_,z,re,Se);case M:var Ne=re._init;return ue(z,_,F,Ne(re._payload),Se)}if(Hn(re)||K(re))return z=z.get(F)||null,J(_,z,re,Se,null);Fi(_,re)}return null}function me(z,_,F,re){for(var Se=null,Ne=null,je=_,ke=_=0,yt=null;je!==null&&ke<F.length;ke++){je.index>ke?(yt=je,je=null):yt=je.sibling;var He=Q(z,je,F[ke],re);if(He===null){je===null&&(je=yt);break}e&&je&&He.alternate===null&&n(z,je),_=h(He,_,ke),Ne===null?Se=He:Ne.sibling=He,Ne=He,je=yt}if(ke===F.length)return o(z,je),Qe&&Yr(z,ke),Se;if(je===null){for(;ke<F.length;ke++)je=Z(z,F[ke],re),je!==null&&(_=h(je,_,ke),Ne===null?Se=je:Ne.sibling=je,Ne=je);return Qe&&Yr(z,ke),Se}for(je=c(z,je);ke<F.length;ke++)yt=ue(je,z,ke,F[ke],re),yt!==null&&(e&&yt.alternate!==null&&je.delete(yt.key===null?ke:yt.key),_=h(yt,_,ke),Ne===null?Se=yt:Ne.sibling=yt,Ne=yt);return e&&je.forEach(function(Dr){return n(z,Dr)}),Qe&&Yr(z,ke),Se}function xe(z,_,F,re){var Se=K(F);if(typeof Se!="function")throw Error(s(150));if(F=Se.call(F),F==null)throw Error(s(151));for(var Ne=Se=null,je=_,ke=_=0,yt=null,He=F.next();je!==null&&!He.done;ke++,He=F.next()){je.index>ke?(yt=je,je=null):yt=je.sibling;var Dr=Q(z,je,He.value,re);if(Dr===null){je===null&&(je=yt);break}e&&je&&Dr.alternate===null&&n(z,je),_=h(Dr,_,ke),Ne===null?Se=Dr:Ne.sibling=Dr,Ne=Dr,je=yt}if(He.done)return o(z,je),Qe&&Yr(z,ke),Se;if(je===null){for(;!He.done;ke++,He=F.next())He=Z(z,He.value,re),He!==null&&(_=h(He,_,ke),Ne===null?Se=He:Ne.sibling=He,Ne=He);return Qe&&Yr(z,ke),Se}for(je=c(z,je);!He.done;ke++,He=F.next())He=ue(je,z,ke,He.value,re),He!==null&&(e&&He.alternate!==null&&je.delete(He.key===null?ke:He.key),_=h(He,_,ke),Ne===null?Se=He:Ne.sibling=He,Ne=He);return e&&je.forEach(function(q0){return n(z,q0)}),Qe&&Yr(z,ke),Se}function it(z,_,F,re){if(typeof F=="object"&&F!==null&&F.type===G&&F.key===null&&(F=F.props.children),typeof F=="object"&&F!==null){switch(F.$$typeof){case B:e:{for(var Se=F.key,Ne=_;Ne!==null;){if(Ne.key===Se){if(Se=F.type,Se===G){if(Ne.tag===7){o(z,Ne.sibling),_=d(Ne,F.props.children),_.return=z,z=_;break e}}else if(Ne.elementType===Se||typeof Se=="object"&&Se!==null&&Se.$$typeof===M&&Qf(Se)===Ne.type){o(z,Ne.sibling),_=d(Ne,F.props),_.ref=To(z,Ne,F),_.return=z,z=_;break e}o(z,Ne);break}else n(z,Ne);Ne=Ne.sibling}F.type===G?(_=ns(F.props.children,z.mode,re,F.key),_.return=z,z=_):(re=ca(F.type,F.key,F.props,null,z.mode,re),re.ref=To(z,_,F),re.return=z,z=re)}return w(z);case W:e:{for(Ne=F.key;_!==null;){if(_.key===Ne)if(_.tag===4&&_.stateNode.containerInfo===F.containerInfo&&_.stateNode.implementation===F.implementation){o(z,_.sibling),_=d(_,F.children||[]),_.return=z,z=_;break e}else{o(z,_);break}else n(z,_);_=_.sibling}_=Uc(F,z.mode,re),_.return=z,z=_}return w(z);case M:return Ne=F._init,it(z,_,Ne(F._payload),re)}if(Hn(F))return me(z,_,F,re);if(K(F))return xe(z,_,F,re);Fi(z,F)}return typeof F=="string"&&F!==""||typeof F=="number"?(F=""+F,_!==null&&_.tag===6?(o(z,_.sibling),_=d(_,F),_.return=z,z=_):(o(z,_),_=Bc(F,z.mode,re),_.return=z,z=_),w(z)):o(z,_)}return it}var Es=Jf(!0),Zf=Jf(!1),$i=wr(null),Hi=null,ks=null,Jl=null;function Zl(){Jl=ks=Hi=null}function ec(e){var n=$i.current;qe($i),e._currentValue=n}function tc(e,n,o){for(;e!==null;){var c=e.alternate;if((e.childLanes&n)!==n?(e.childLanes|=n,c!==null&&(c.childLanes|=n)):c!==null&&(c.childLanes&n)!==n&&(c.childLanes|=n),e===o)break;e=e.return}}function Ts(e,n){Hi=e,Jl=ks=null,e=e.dependencies,e!==null&&e.firstContext!==null&&((e.lanes&n)!==0&&(Mt=!0),e.firstContext=null)}function Zt(e){var n=e._currentValue;if(Jl!==e)if(e={context:e,memoizedValue:n,next:null},ks===null){if(Hi===null)throw Error(s(308));ks=e,Hi.dependencies={lanes:0,firstContext:e}}else ks=ks.next=e;return n}var qr=null;function nc(e){qr===null?qr=[e]:qr.push(e)}function ep(e,n,o,c){var d=n.interleaved;return d===null?(o.next=o,nc(n)):(o.next=d.next,d.next=o),n.interleaved=o,Yn(e,c)}function Yn(e,n){e.lanes|=n;var o=e.alternate;for(o!==null&&(o.lanes|=n),o=e,e=e.return;e!==null;)e.childLanes|=n,o=e.alternate,o!==null&&(o.childLanes|=n),o=e,e=e.return;return o.tag===3?o.stateNode:null}var Cr=!1;function rc(e){e.updateQueue={baseState:e.memoizedState,firstBaseUpdate:null,lastBaseUpdate:null,shared:{pending:null,interleaved:null,lanes:0},effects:null}}function tp(e,n){e=e.updateQueue,n.updateQueue===e&&(n.updateQueue={baseState:e.baseState,firstBaseUpdate:e.firstBaseUpdate,lastBaseUpdate:e.lastBaseUpdate,shared:e.shared,effects:e.effects})}function qn(e,n){return{eventTime:e,lane:n,tag:0,payload:null,callback:null,next:null}}function Nr(e,n,o){var c=e.updateQueue;if(c===null)return null;if(c=c.shared,(Fe&2)!==0){var d=c.pending;return d===null?n.next=n:(n.next=d.next,d.next=n),c.pending=n,Yn(e,o)}return d=c.interleaved,d===null?(n.next=n,nc(c)):(n.next=d.next,d.next=n),c.interleaved=n,Yn(e,o)}function Bi(e,n,o){if(n=n.updateQueue,n!==null&&(n=n.shared,(o&4194240)!==0)){var c=n.lanes;c&=e.pendingLanes,o|=c,n.lanes=o,vl(e,o)}}function np(e,n){var o=e.updateQueue,c=e.alternate;if(c!==null&&(c=c.updateQueue,o===c)){var d=null,h=null;if(o=o.firstBaseUpdate,o!==null){do{var w={eventTime:o.eventTime,lane:o.lane,tag:o.tag,payload:o.payload,callback:o.callback,next:null};h===null?d=h=w:h=h.next=w,o=o.next}while(o!==null);h===null?d=h=n:h=h.next=n}else d=h=n;o={baseState:c.baseState,firstBaseUpdate:d,lastBaseUpdate:h,shared:c.shared,effects:c.effects},e.updateQueue=o;return}e=o.lastBaseUpdate,e===null?o.firstBaseUpdate=n:e.next=n,o.lastBaseUpdate=n}function Ui(e,n,o,c){var d=e.updateQueue;Cr=!1;var h=d.firstBaseUpdate,w=d.lastBaseUpdate,T=d.shared.pending;if(T!==null){d.shared.pending=null;var I=T,$=I.next;I.next=null,w===null?h=$:w.next=$,w=I;var J=e.alternate;J!==null&&(J=J.updateQueue,T=J.lastBaseUpdate,T!==w&&(T===null?J.firstBaseUpdate=$:T.next=$,J.lastBaseUpdate=I))}if(h!==null){var Z=d.baseState;w=0,J=$=I=null,T=h;do{var Q=T.lane,ue=T.eventTime;if((c&Q)===Q){J!==null&&(J=J.next={eventTime:ue,lane:0,tag:T.tag,payload:T.payload,callback:T.callback,next:null});e:{var me=e,xe=T;switch(Q=n,ue=o,xe.tag){case 1:if(me=xe.payload,typeof me=="function"){Z=me.call(ue,Z,Q);break e}Z=me;break e;case 3:me.flags=me.flags&-65537|128;case 0:if(me=xe.payload,Q=typeof me=="function"?me.call(ue,Z,Q):me,Q==null)break e;Z=U({},Z,Q);break e;case 2:Cr=!0}}T.callback!==null&&T.lane!==0&&(e.flags|=64,Q=d.effects,Q===null?d.effects=[T]:Q.push(T))}else ue={eventTime:ue,lane:Q,tag:T.tag,payload:T.payload,callback:T.callback,next:null},J===null?($=J=ue,I=Z):J=J.next=ue,w|=Q;if(T=T.next,T===null){if(T=d.shared.pending,T===null)break;Q=T,T=Q.next,Q.next=null,d.lastBaseUpdate=Q,d.shared.pending=null}}while(!0);if(J===null&&(I=Z),d.baseState=I,d.firstBaseUpdate=$,d.lastBaseUpdate=J,n=d.shared.interleaved,n!==null){d=n;do w|=d.lane,d=d.next;while(d!==n)}else h===null&&(d.shared.lanes=0);Jr|=w,e.lanes=w,e.memoizedState=Z}}function rp(e,n,o){if(e=n.effects,n.effects=null,e!==null)for(n=0;n<e.length;n++){var c=e[n],d=c.callback;if(d!==null){if(c.callback=null,c=o,typeof d!="function")throw Error(s(191,d));d.call(c)}}}var Po={},kn=wr(Po),Ro=wr(Po),Do=wr(Po);function Xr(e){if(e===Po)throw Error(s(174));return e}function sc(e,n){switch(Ke(Do,n),Ke(Ro,e),Ke(kn,Po),e=n.nodeType,e){case 9:case 11:n=(n=n.documentElement)?n.namespaceURI:us(null,"");break;default:e=e===8?n.parentNode:n,n=e.namespaceURI||null,e=e.tagName,n=us(n,e)}qe(kn),Ke(kn,n)}function Ps(){qe(kn),qe(Ro),qe(Do)}function sp(e){Xr(Do.current);var n=Xr(kn.current),o=us(n,e.type);n!==o&&(Ke(Ro,e),Ke(kn,o))}function oc(e){Ro.current===e&&(qe(kn),qe(Ro))}var Ze=wr(0);function Vi(e){for(var n=e;n!==null;){if(n.tag===13){var o=n.memoizedState;if(o!==null&&(o=o.dehydrated,o===null||o.data==="$?"||o.data==="$!"))return n}else if(n.tag===19&&n.memoizedProps.revealOrder!==void 0){if((n.flags&128)!==0)return n}else if(n.child!==null){n.child.return=n,n=n.child;continue}if(n===e)break;for(;n.sibling===null;){if(n.return===null||n.return===e)return null;n=n.return}n.sibling.return=n.return,n=n.sibling}return null}var ic=[];function ac(){for(var e=0;e<ic.length;e++)ic[e]._workInProgressVersionPrimary=null;ic.length=0}var Wi=L.ReactCurrentDispatcher,lc=L.ReactCurrentBatchConfig,Qr=0,et=null,dt=null,gt=null,Gi=!1,Io=!1,Oo=0,v0=0;function kt(){throw Error(s(321))}function cc(e,n){if(n===null)return!1;for(var o=0;o<n.length&&o<e.length;o++)if(!ln(e[o],n[o]))return!1;return!0}function uc(e,n,o,c,d,h){if(Qr=h,et=n,n.memoizedState=null,n.updateQueue=null,n.lanes=0,Wi.current=e===null||e.memoizedState===null?b0:S0,e=o(c,d),Io){h=0;do{if(Io=!1,Oo=0,25<=h)throw Error(s(301));h+=1,gt=dt=null,n.updateQueue=null,Wi.current=C0,e=o(c,d)}while(Io)}if(Wi.current=qi,n=dt!==null&&dt.next!==null,Qr=0,gt=dt=et=null,Gi=!1,n)throw Error(s(300));return e}function dc(){var e=Oo!==0;return Oo=0,e}function Tn(){var e={memoizedState:null,baseState:null,baseQueue:null,queue:null,next:null};return gt===null?et.memoizedState=gt=e:gt=gt.next=e,gt}function en(){if(dt===null){var e=et.alternate;e=e!==null?e.memoizedState:null}else e=dt.next;var n=gt===null?et.memoizedState:gt.next;if(n!==null)gt=n,dt=e;else{if(e===null)throw Error(s(310));dt=e,e={memoizedState:dt.memoizedState,baseState:dt.baseState,baseQueue:dt.baseQueue,queue:dt.queue,next:null},gt===null?et.memoizedState=gt=e:gt=gt.next=e}return gt}function _o(e,n){return typeof n=="function"?n(e):n}function fc(e){var n=en(),o=n.queue;if(o===null)throw Error(s(311));o.lastRenderedReducer=e;var c=dt,d=c.baseQueue,h=o.pending;if(h!==null){if(d!==null){var w=d.next;d.next=h.next,h.next=w}c.baseQueue=d=h,o.pending=null}if(d!==null){h=d.next,c=c.baseState;var T=w=null,I=null,$=h;do{var J=$.lane;if((Qr&J)===J)I!==null&&(I=I.next={lane:0,action:$.action,hasEagerState:$.hasEagerState,eagerState:$.eagerState,next:null}),c=$.hasEagerState?$.eagerState:e(c,$.action);else{var Z={lane:J,action:$.action,hasEagerState:$.hasEagerState,eagerState:$.eagerState,next:null};I===null?(T=I=Z,w=c):I=I.next=Z,et.lanes|=J,Jr|=J}$=$.next}while($!==null&&$!==h);I===null?w=c:I.next=T,ln(c,n.memoizedState)||(Mt=!0),n.memoizedState=c,n.baseState=w,n.baseQueue=I,o.lastRenderedState=c}if(e=o.interleaved,e!==null){d=e;do h=d.lane,et.lanes|=h,Jr|=h,d=d.next;while(d!==e)}else d===null&&(o.lanes=0);return[n.memoizedState,o.dispatch]}function pc(e){var n=en(),o=n.queue;if(o===null)throw Error(s(311));o.lastRenderedReducer=e;var c=o.dispatch,d=o.pending,h=n.memoizedState;if(d!==null){o.pending=null;var w=d=d.next;do h=e(h,w.action),w=w.next;while(w!==d);ln(h,n.memoizedState)||(Mt=!0),n.memoizedState=h,n.baseQueue===null&&(n.baseState=h),o.lastRenderedState=h}return[h,c]}function op(){}function ip(e,n){var o=et,c=en(),d=n(),h=!ln(c.memoizedState,d);if(h&&(c.memoizedState=d,Mt=!0),c=c.queue,hc(cp.bind(null,o,c,e),[e]),c.getSnapshot!==n||h||gt!==null&&gt.memoizedState.tag&1){if(o.flags|=2048,Mo(9,lp.bind(null,o,c,d,n),void 0,null),vt===null)throw Error(s(349));(Qr&30)!==0||ap(o,n,d)}return d}function ap(e,n,o){e.flags|=16384,e={getSnapshot:n,value:o},n=et.updateQueue,n===null?(n={lastEffect:null,stores:null},et.updateQueue=n,n.stores=[e]):(o=n.stores,o===null?n.stores=[e]:o.push(e))}function lp(e,n,o,c){n.value=o,n.getSnapshot=c,up(n)&&dp(e)}function cp(e,n,o){return o(function(){up(n)&&dp(e)})}function up(e){var n=e.getSnapshot;e=e.value;try{var o=n();return!ln(e,o)}catch{return!0}}function dp(e){var n=Yn(e,1);n!==null&&pn(n,e,1,-1)}function fp(e){var n=Tn();return typeof e=="function"&&(e=e()),n.memoizedState=n.baseState=e,e={pending:null,interleaved:null,lanes:0,dispatch:null,lastRenderedReducer:_o,lastRenderedState:e},n.queue=e,e=e.dispatch=w0.bind(null,et,e),[n.memoizedState,e]}function Mo(e,n,o,c){return e={tag:e,create:n,destroy:o,deps:c,next:null},n=et.updateQueue,n===null?(n={lastEffect:null,stores:null},et.updateQueue=n,n.lastEffect=e.next=e):(o=n.lastEffect,o===null?n.lastEffect=e.next=e:(c=o.next,o.next=e,e.next=c,n.lastEffect=e)),e}function pp(){return en().memoizedState}function Ki(e,n,o,c){var d=Tn();et.flags|=e,d.memoizedState=Mo(1|n,o,void 0,c===void 0?null:c)}function Yi(e,n,o,c){var d=en();c=c===void 0?null:c;var h=void 0;if(dt!==null){var w=dt.memoizedState;if(h=w.destroy,c!==null&&cc(c,w.deps)){d.memoizedState=Mo(n,o,h,c);return}}et.flags|=e,d.memoizedState=Mo(1|n,o,h,c)}function hp(e,n){return Ki(8390656,8,e,n)}function hc(e,n){return Yi(2048,8,e,n)}function mp(e,n){return Yi(4,2,e,n)}function gp(e,n){return Yi(4,4,e,n)}function vp(e,n){if(typeof n=="function")return e=e(),n(e),function(){n(null)};if(n!=null)return e=e(),n.current=e,function(){n.current=null}}function yp(e,n,o){return o=o!=null?o.concat([e]):null,Yi(4,4,vp.bind(null,n,e),o)}function mc(){}function xp(e,n){var o=en();n=n===void 0?null:n;var c=o.memoizedState;return c!==null&&n!==null&&cc(n,c[1])?c[0]:(o.memoizedState=[e,n],e)}function wp(e,n){var o=en();n=n===void 0?null:n;var c=o.memoizedState;return c!==null&&n!==null&&cc(n,c[1])?c[0]:(e=e(),o.memoizedState=[e,n],e)}function bp(e,n,o){return(Qr&21)===0?(e.baseState&&(e.baseState=!1,Mt=!0),e.memoizedState=o):(ln(o,n)||(o=Xd(),et.lanes|=o,Jr|=o,e.baseState=!0),n)}function y0(e,n){var o=We;We=o!==0&&4>o?o:4,e(!0);var c=lc.transition;lc.transition={};try{e(!1),n()}finally{We=o,lc.transition=c}}function Sp(){return en().memoizedState}function x0(e,n,o){var c=Tr(e);if(o={lane:c,action:o,hasEagerState:!1,eagerState:null,next:null},Cp(e))Np(n,o);else if(o=ep(e,n,o,c),o!==null){var d=Dt();pn(o,e,c,d),jp(o,n,c)}}function w0(e,n,o){var c=Tr(e),d={lane:c,action:o,hasEagerState:!1,eagerState:null,next:null};if(Cp(e))Np(n,d);else{var h=e.alternate;if(e.lanes===0&&(h===null||h.lanes===0)&&(h=n.lastRenderedReducer,h!==null))try{var w=n.lastRenderedState,T=h(w,o);if(d.hasEagerState=!0,d.eagerState=T,ln(T,w)){var I=n.interleaved;I===null?(d.next=d,nc(n)):(d.next=I.next,I.next=d),n.interleaved=d;return}}catch{}finally{}o=ep(e,n,d,c),o!==null&&(d=Dt(),pn(o,e,c,d),jp(o,n,c))}}function Cp(e){var n=e.alternate;return e===et||n!==null&&n===et}function Np(e,n){Io=Gi=!0;var o=e.pending;o===null?n.next=n:(n.next=o.next,o.next=n),e.pending=n}function jp(e,n,o){if((o&4194240)!==0){var c=n.lanes;c&=e.pendingLanes,o|=c,n.lanes=o,vl(e,o)}}var qi={readContext:Zt,useCallback:kt,useContext:kt,useEffect:kt,useImperativeHandle:kt,useInsertionEffect:kt,useLayoutEffect:kt,useMemo:kt,useReducer:kt,useRef:kt,useState:kt,useDebugValue:kt,useDeferredValue:kt,useTransition:kt,useMutableSource:kt,useSyncExternalStore:kt,useId:kt,unstable_isNewReconciler:!1},b0={readContext:Zt,useCallback:function(e,n){return Tn().memoizedState=[e,n===void 0?null:n],e},useContext:Zt,useEffect:hp,useImperativeHandle:function(e,n,o){return o=o!=null?o.concat([e]):null,Ki(4194308,4,vp.bind(null,n,e),o)},useLayoutEffect:function(e,n){return Ki(4194308,4,e,n)},useInsertionEffect:function(e,n){return Ki(4,2,e,n)},useMemo:function(e,n){var o=Tn();return n=n===void 0?null:n,e=e(),o.memoizedState=[e,n],e},useReducer:function(e,n,o){var c=Tn();return n=o!==void 0?o(n):n,c.memoizedState=c.baseState=n,e={pending:null,interleaved:null,lanes:0,dispatch:null,lastRenderedReducer:e,lastRenderedState:n},c.queue=e,e=e.dispatch=x0.bind(null,et,e),[c.memoizedState,e]},useRef:function(e){var n=Tn();return e={current:e},n.memoizedState=e},useState:fp,useDebugValue:mc,useDeferredValue:function(e){return Tn().memoizedState=e},useTransition:function(){var e=fp(!1),n=e[0];return e=y0.bind(null,e[1]),Tn().memoizedState=e,[n,e]},useMutableSource:function(){},useSyncExternalStore:function(e,n,o){var c=et,d=Tn();if(Qe){if(o===void 0)throw Error(s(407));o=o()}else{if(o=n(),vt===null)throw Error(s(349));(Qr&30)!==0||ap(c,n,o)}d.memoizedState=o;var h={value:o,getSnapshot:n};return d.queue=h,hp(cp.bind(null,c,h,e),[e]),c.flags|=2048,Mo(9,lp.bind(null,c,h,o,n),void 0,null),o},useId:function(){var e=Tn(),n=vt.identifierPrefix;if(Qe){var o=Kn,c=Gn;o=(c&~(1<<32-an(c)-1)).toString(32)+o,n=":"+n+"R"+o,o=Oo++,0<o&&(n+="H"+o.toString(32)),n+=":"}else o=v0++,n=":"+n+"r"+o.toString(32)+":";return e.memoizedState=n},unstable_isNewReconciler:!1},S0={readContext:Zt,useCallback:xp,useContext:Zt,useEffect:hc,useImperativeHandle:yp,useInsertionEffect:mp,useLayoutEffect:gp,useMemo:wp,useReducer:fc,useRef:pp,useState:function(){return fc(_o)},useDebugValue:mc,useDeferredValue:function(e){var n=en();return bp(n,dt.memoizedState,e)},useTransition:function(){var e=fc(_o)[0],n=en().memoizedState;return[e,n]},useMutableSource:op,useSyncExternalStore:ip,useId:Sp,unstable_isNewReconciler:!1},C0={readContext:Zt,useCallback:xp,useContext:Zt,useEffect:hc,useImperativeHandle:yp,useInsertionEffect:mp,useLayoutEffect:gp,useMemo:wp,useReducer:pc,useRef:pp,useState:function(){return pc(_o)},useDebugValue:mc,useDeferredValue:function(e){var n=en();return dt===null?n.memoizedState=e:bp(n,dt.memoizedState,e)},useTransition:function(){var e=pc(_o)[0],n=en().memoizedState;return[e,n]},useMutableSource:op,useSyncExternalStore:ip,useId:Sp,unstable_isNewReconciler:!1};function un(e,n){if(e&&e.defaultProps){n=U({},n),e=e.defaultProps;for(var o in e)n[o]===void 0&&(n[o]=e[o]);return n}return n}function gc(e,n,o,c){n=e.memoizedState,o=o(c,n),o=o==null?n:U({},n,o),e.memoizedState=o,e.lanes===0&&(e.updateQueue.baseState=o)}var Xi={isMounted:function(e){return(e=e._reactInternals)?Vr(e)===e:!1},enqueueSetState:function(e,n,o){e=e._reactInternals;var c=Dt(),d=Tr(e),h=qn(c,d);h.payload=n,o!=null&&(h.callback=o),n=Nr(e,h,d),n!==null&&(pn(n,e,d,c),Bi(n,e,d))},enqueueReplaceState:function(e,n,o){e=e._reactInternals;var c=Dt(),d=Tr(e),h=qn(c,d);h.tag=1,h.payload=n,o!=null&&(h.callback=o),n=Nr(e,h,d),n!==null&&(pn(n,e,d,c),Bi(n,e,d))},enqueueForceUpdate:function(e,n){e=e._reactInternals;var o=Dt(),c=Tr(e),d=qn(o,c);d.tag=2,n!=null&&(d.callback=n),n=Nr(e,d,c),n!==null&&(pn(n,e,c,o),Bi(n,e,c))}};function Ep(e,n,o,c,d,h,w){return e=e.stateNode,typeof e.shouldComponentUpdate=="function"?e.shouldComponentUpdate(c,h,w):n.prototype&&n.prototype.isPureReactComponent?!bo(o,c)||!bo(d,h):!0}function kp(e,n,o){var c=!1,d=br,h=n.contextType;return typeof h=="object"&&h!==null?h=Zt(h):(d=_t(n)?Gr:Et.current,c=n.contextTypes,h=(c=c!=null)?Ss(e,d):br),n=new n(o,h),e.memoizedState=n.state!==null&&n.state!==void 0?n.state:null,n.updater=Xi,e.stateNode=n,n._reactInternals=e,c&&(e=e.stateNode,e.__reactInternalMemoizedUnmaskedChildContext=d,e.__reactInternalMemoizedMaskedChildContext=h),n}function Tp(e,n,o,c){e=n.state,typeof n.componentWillReceiveProps=="function"&&n.componentWillReceiveProps(o,c),typeof n.UNSAFE_componentWillReceiveProps=="function"&&n.UNSAFE_componentWillReceiveProps(o,c),n.state!==e&&Xi.enqueueReplaceState(n,n.state,null)}function vc(e,n,o,c){var d=e.stateNode;d.props=o,d.state=e.memoizedState,d.refs={},rc(e);var h=n.contextType;typeof h=="object"&&h!==null?d.context=Zt(h):(h=_t(n)?Gr:Et.current,d.context=Ss(e,h)),d.state=e.memoizedState,h=n.getDerivedStateFromProps,typeof h=="function"&&(gc(e,n,h,o),d.state=e.memoizedState),typeof n.getDerivedStateFromProps=="function"||typeof d.getSnapshotBeforeUpdate=="function"||typeof d.UNSAFE_componentWillMount!="function"&&typeof d.componentWillMount!="function"||(n=d.state,typeof d.componentWillMount=="function"&&d.componentWillMount(),typeof d.UNSAFE_componentWillMount=="function"&&d.UNSAFE_componentWillMount(),n!==d.state&&Xi.enqueueReplaceState(d,d.state,null),Ui(e,o,d,c),d.state=e.memoizedState),typeof d.componentDidMount=="function"&&(e.flags|=4194308)}function Rs(e,n){try{var o="",c=n;do o+=ne(c),c=c.return;while(c);var d=o}catch(h){d=`
-Error generating stack: `+h.message+`
-`+h.stack}return{value:e,source:n,stack:d,digest:null}}function yc(e,n,o){return{value:e,source:null,stack:o??null,digest:n??null}}function xc(e,n){try{console.error(n.value)}catch(o){setTimeout(function(){throw o})}}var N0=typeof WeakMap=="function"?WeakMap:Map;function Pp(e,n,o){o=qn(-1,o),o.tag=3,o.payload={element:null};var c=n.value;return o.callback=function(){ra||(ra=!0,_c=c),xc(e,n)},o}function Rp(e,n,o){o=qn(-1,o),o.tag=3;var c=e.type.getDerivedStateFromError;if(typeof c=="function"){var d=n.value;o.payload=function(){return c(d)},o.callback=function(){xc(e,n)}}var h=e.stateNode;return h!==null&&typeof h.componentDidCatch=="function"&&(o.callback=function(){xc(e,n),typeof c!="function"&&(Er===null?Er=new Set([this]):Er.add(this));var w=n.stack;this.componentDidCatch(n.value,{componentStack:w!==null?w:""})}),o}function Dp(e,n,o){var c=e.pingCache;if(c===null){c=e.pingCache=new N0;var d=new Set;c.set(n,d)}else d=c.get(n),d===void 0&&(d=new Set,c.set(n,d));d.has(o)||(d.add(o),e=z0.bind(null,e,n,o),n.then(e,e))}function Ip(e){do{var n;if((n=e.tag===13)&&(n=e.memoizedState,n=n!==null?n.dehydrated!==null:!0),n)return e;e=e.return}while(e!==null);return null}function Op(e,n,o,c,d){return(e.mode&1)===0?(e===n?e.flags|=65536:(e.flags|=128,o.flags|=131072,o.flags&=-52805,o.tag===1&&(o.alternate===null?o.tag=17:(n=qn(-1,1),n.tag=2,Nr(o,n,1))),o.lanes|=1),e):(e.flags|=65536,e.lanes=d,e)}var j0=L.ReactCurrentOwner,Mt=!1;function Rt(e,n,o,c){n.child=e===null?Zf(n,null,o,c):Es(n,e.child,o,c)}function _p(e,n,o,c,d){o=o.render;var h=n.ref;return Ts(n,d),c=uc(e,n,o,c,h,d),o=dc(),e!==null&&!Mt?(n.updateQueue=e.updateQueue,n.flags&=-2053,e.lanes&=~d,Xn(e,n,d)):(Qe&&o&&Kl(n),n.flags|=1,Rt(e,n,c,d),n.child)}function Mp(e,n,o,c,d){if(e===null){var h=o.type;return typeof h=="function"&&!Hc(h)&&h.defaultProps===void 0&&o.compare===null&&o.defaultProps===void 0?(n.tag=15,n.type=h,Ap(e,n,h,c,d)):(e=ca(o.type,null,c,n,n.mode,d),e.ref=n.ref,e.return=n,n.child=e)}if(h=e.child,(e.lanes&d)===0){var w=h.memoizedProps;if(o=o.compare,o=o!==null?o:bo,o(w,c)&&e.ref===n.ref)return Xn(e,n,d)}return n.flags|=1,e=Rr(h,c),e.ref=n.ref,e.return=n,n.child=e}function Ap(e,n,o,c,d){if(e!==null){var h=e.memoizedProps;if(bo(h,c)&&e.ref===n.ref)if(Mt=!1,n.pendingProps=c=h,(e.lanes&d)!==0)(e.flags&131072)!==0&&(Mt=!0);else return n.lanes=e.lanes,Xn(e,n,d)}return wc(e,n,o,c,d)}function Lp(e,n,o){var c=n.pendingProps,d=c.children,h=e!==null?e.memoizedState:null;if(c.mode==="hidden")if((n.mode&1)===0)n.memoizedState={baseLanes:0,cachePool:null,transitions:null},Ke(Is,Wt),Wt|=o;else{if((o&1073741824)===0)return e=h!==null?h.baseLanes|o:o,n.lanes=n.childLanes=1073741824,n.memoizedState={baseLanes:e,cachePool:null,transitions:null},n.updateQueue=null,Ke(Is,Wt),Wt|=e,null;n.memoizedState={baseLanes:0,cachePool:null,transitions:null},c=h!==null?h.baseLanes:o,Ke(Is,Wt),Wt|=c}else h!==null?(c=h.baseLanes|o,n.memoizedState=null):c=o,Ke(Is,Wt),Wt|=c;return Rt(e,n,d,o),n.child}function zp(e,n){var o=n.ref;(e===null&&o!==null||e!==null&&e.ref!==o)&&(n.flags|=512,n.flags|=2097152)}function wc(e,n,o,c,d){var h=_t(o)?Gr:Et.current;return h=Ss(n,h),Ts(n,d),o=uc(e,n,o,c,h,d),c=dc(),e!==null&&!Mt?(n.updateQueue=e.updateQueue,n.flags&=-2053,e.lanes&=~d,Xn(e,n,d)):(Qe&&c&&Kl(n),n.flags|=1,Rt(e,n,o,d),n.child)}function Fp(e,n,o,c,d){if(_t(o)){var h=!0;_i(n)}else h=!1;if(Ts(n,d),n.stateNode===null)Ji(e,n),kp(n,o,c),vc(n,o,c,d),c=!0;else if(e===null){var w=n.stateNode,T=n.memoizedProps;w.props=T;var I=w.context,$=o.contextType;typeof $=="object"&&$!==null?$=Zt($):($=_t(o)?Gr:Et.current,$=Ss(n,$));var J=o.getDerivedStateFromProps,Z=typeof J=="function"||typeof w.getSnapshotBeforeUpdate=="function";Z||typeof w.UNSAFE_componentWillReceiveProps!="function"&&typeof w.componentWillReceiveProps!="function"||(T!==c||I!==$)&&Tp(n,w,c,$),Cr=!1;var Q=n.memoizedState;w.state=Q,Ui(n,c,w,d),I=n.memoizedState,T!==c||Q!==I||Ot.current||Cr?(typeof J=="function"&&(gc(n,o,J,c),I=n.memoizedState),(T=Cr||Ep(n,o,T,c,Q,I,$))?(Z||typeof w.UNSAFE_componentWillMount!="function"&&typeof w.componentWillMount!="function"||(typeof w.componentWillMount=="function"&&w.componentWillMount(),typeof w.UNSAFE_componentWillMount=="function"&&w.UNSAFE_componentWillMount()),typeof w.componentDidMount=="function"&&(n.flags|=4194308)):(typeof w.componentDidMount=="function"&&(n.flags|=4194308),n.memoizedProps=c,n.memoizedState=I),w.props=c,w.state=I,w.context=$,c=T):(typeof w.componentDidMount=="function"&&(n.flags|=4194308),c=!1)}else{w=n.stateNode,tp(e,n),T=n.memoizedProps,$=n.type===n.elementType?T:un(n.type,T),w.props=$,Z=n.pendingProps,Q=w.context,I=o.contextType,typeof I=="object"&&I!==null?I=Zt(I):(I=_t(o)?Gr:Et.current,I=Ss(n,I));var ue=o.getDerivedStateFromProps;(J=typeof ue=="function"||typeof w.getSnapshotBeforeUpdate=="function")||typeof w.UNSAFE_componentWillReceiveProps!="function"&&typeof w.componentWillReceiveProps!="function"||(T!==Z||Q!==I)&&Tp(n,w,c,I),Cr=!1,Q=n.memoizedState,w.state=Q,Ui(n,c,w,d);var me=n.memoizedState;T!==Z||Q!==me||Ot.current||Cr?(typeof ue=="function"&&(gc(n,o,ue,c),me=n.memoizedState),($=Cr||Ep(n,o,$,c,Q,me,I)||!1)?(J||typeof w.UNSAFE_componentWillUpdate!="function"&&typeof w.componentWillUpdate!="function"||(typeof w.componentWillUpdate=="function"&&w.componentWillUpdate(c,me,I),typeof w.UNSAFE_componentWillUpdate=="function"&&w.UNSAFE_componentWillUpdate(c,me,I)),typeof w.componentDidUpdate=="function"&&(n.flags|=4),typeof w.getSnapshotBeforeUpdate=="function"&&(n.flags|=1024)):(typeof w.componentDidUpdate!="function"||T===e.memoizedProps&&Q===e.memoizedState||(n.flags|=4),typeof w.getSnapshotBeforeUpdate!="function"||T===e.memoizedProps&&Q===e.memoizedState||(n.flags|=1024),n.memoizedProps=c,n.memoizedState=me),w.props=c,w.state=me,w.context=I,c=$):(typeof w.componentDidUpdate!="function"||T===e.memoizedProps&&Q===e.memoizedState||(n.flags|=4),typeof w.getSnapshotBeforeUpdate!="function"||T===e.memoizedProps&&Q===e.memoizedState||(n.flags|=1024),c=!1)}return bc(e,n,o,c,h,d)}function bc(e,n,o,c,d,h){zp(e,n);var w=(n.flags&128)!==0;if(!c&&!w)return d&&Vf(n,o,!1),Xn(e,n,h);c=n.stateNode,j0.current=n;var T=w&&typeof o.getDerivedStateFromError!="function"?null:c.render();return n.flags|=1,e!==null&&w?(n.child=Es(n,e.child,null,h),n.child=Es(n,null,T,h)):Rt(e,n,T,h),n.memoizedState=c.state,d&&Vf(n,o,!0),n.child}function $p(e){var n=e.stateNode;n.pendingContext?Bf(e,n.pendingContext,n.pendingContext!==n.context):n.context&&Bf(e,n.context,!1),sc(e,n.containerInfo)}function Hp(e,n,o,c,d){return js(),Ql(d),n.flags|=256,Rt(e,n,o,c),n.child}var Sc={dehydrated:null,treeContext:null,retryLane:0};function Cc(e){return{baseLanes:e,cachePool:null,transitions:null}}function Bp(e,n,o){var c=n.pendingProps,d=Ze.current,h=!1,w=(n.flags&128)!==0,T;if((T=w)||(T=e!==null&&e.memoizedState===null?!1:(d&2)!==0),T?(h=!0,n.flags&=-129):(e===null||e.memoizedState!==null)&&(d|=1),Ke(Ze,d&1),e===null)return Xl(n),e=n.memoizedState,e!==null&&(e=e.dehydrated,e!==null)?((n.mode&1)===0?n.lanes=1:e.data==="$!"?n.lanes=8:n.lanes=1073741824,null):(w=c.children,e=c.fallback,h?(c=n.mode,h=n.child,w={mode:"hidden",children:w},(c&1)===0&&h!==null?(h.childLanes=0,h.pendingProps=w):h=ua(w,c,0,null),e=ns(e,c,o,null),h.return=n,e.return=n,h.sibling=e,n.child=h,n.child.memoizedState=Cc(o),n.memoizedState=Sc,e):Nc(n,w));if(d=e.memoizedState,d!==null&&(T=d.dehydrated,T!==null))return E0(e,n,w,c,T,d,o);if(h){h=c.fallback,w=n.mode,d=e.child,T=d.sibling;var I={mode:"hidden",children:c.children};return(w&1)===0&&n.child!==d?(c=n.child,c.childLanes=0,c.pendingProps=I,n.deletions=null):(c=Rr(d,I),c.subtreeFlags=d.subtreeFlags&14680064),T!==null?h=Rr(T,h):(h=ns(h,w,o,null),h.flags|=2),h.return=n,c.return=n,c.sibling=h,n.child=c,c=h,h=n.child,w=e.child.memoizedState,w=w===null?Cc(o):{baseLanes:w.baseLanes|o,cachePool:null,transitions:w.transitions},h.memoizedState=w,h.childLanes=e.childLanes&~o,n.memoizedState=Sc,c}return h=e.child,e=h.sibling,c=Rr(h,{mode:"visible",children:c.children}),(n.mode&1)===0&&(c.lanes=o),c.return=n,c.sibling=null,e!==null&&(o=n.deletions,o===null?(n.deletions=[e],n.flags|=16):o.push(e)),n.child=c,n.memoizedState=null,c}function Nc(e,n){return n=ua({mode:"visible",children:n},e.mode,0,null),n.return=e,e.child=n}function Qi(e,n,o,c){return c!==null&&Ql(c),Es(n,e.child,null,o),e=Nc(n,n.pendingProps.children),e.flags|=2,n.memoizedState=null,e}function E0(e,n,o,c,d,h,w){if(o)return n.flags&256?(n.flags&=-257,c=yc(Error(s(422))),Qi(e,n,w,c)):n.memoizedState!==null?(n.child=e.child,n.flags|=128,null):(h=c.fallback,d=n.mode,c=ua({mode:"visible",children:c.children},d,0,null),h=ns(h,d,w,null),h.flags|=2,c.return=n,h.return=n,c.sibling=h,n.child=c,(n.mode&1)!==0&&Es(n,e.child,null,w),n.child.memoizedState=Cc(w),n.memoizedState=Sc,h);if((n.mode&1)===0)return Qi(e,n,w,null);if(d.data==="$!"){if(c=d.nextSibling&&d.nextSibling.dataset,c)var T=c.dgst;return c=T,h=Error(s(419)),c=yc(h,c,void 0),Qi(e,n,w,c)}if(T=(w&e.childLanes)!==0,Mt||T){if(c=vt,c!==null){switch(w&-w){case 4:d=2;break;case 16:d=8;break;case 64:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:case 4194304:case 8388608:case 16777216:case 33554432:case 67108864:d=32;break;case 536870912:d=268435456;break;default:d=0}d=(d&(c.suspendedLanes|w))!==0?0:d,d!==0&&d!==h.retryLane&&(h.retryLane=d,Yn(e,d),pn(c,e,d,-1))}return $c(),c=yc(Error(s(421))),Qi(e,n,w,c)}return d.data==="$?"?(n.flags|=128,n.child=e.child,n=F0.bind(null,e),d._reactRetry=n,null):(e=h.treeContext,Vt=xr(d.nextSibling),Ut=n,Qe=!0,cn=null,e!==null&&(Qt[Jt++]=Gn,Qt[Jt++]=Kn,Qt[Jt++]=Kr,Gn=e.id,Kn=e.overflow,Kr=n),n=Nc(n,c.children),n.flags|=4096,n)}function Up(e,n,o){e.lanes|=n;var c=e.alternate;c!==null&&(c.lanes|=n),tc(e.return,n,o)}function jc(e,n,o,c,d){var h=e.memoizedState;h===null?e.memoizedState={isBackwards:n,rendering:null,renderingStartTime:0,last:c,tail:o,tailMode:d}:(h.isBackwards=n,h.rendering=null,h.renderingStartTime=0,h.last=c,h.tail=o,h.tailMode=d)}function Vp(e,n,o){var c=n.pendingProps,d=c.revealOrder,h=c.tail;if(Rt(e,n,c.children,o),c=Ze.current,(c&2)!==0)c=c&1|2,n.flags|=128;else{if(e!==null&&(e.flags&128)!==0)e:for(e=n.child;e!==null;){if(e.tag===13)e.memoizedState!==null&&Up(e,o,n);else if(e.tag===19)Up(e,o,n);else if(e.child!==null){e.child.return=e,e=e.child;continue}if(e===n)break e;for(;e.sibling===null;){if(e.return===null||e.return===n)break e;e=e.return}e.sibling.return=e.return,e=e.sibling}c&=1}if(Ke(Ze,c),(n.mode&1)===0)n.memoizedState=null;else switch(d){case"forwards":for(o=n.child,d=null;o!==null;)e=o.alternate,e!==null&&Vi(e)===null&&(d=o),o=o.sibling;o=d,o===null?(d=n.child,n.child=null):(d=o.sibling,o.sibling=null),jc(n,!1,d,o,h);break;case"backwards":for(o=null,d=n.child,n.child=null;d!==null;){if(e=d.alternate,e!==null&&Vi(e)===null){n.child=d;break}e=d.sibling,d.sibling=o,o=d,d=e}jc(n,!0,o,null,h);break;case"together":jc(n,!1,null,null,void 0);break;default:n.memoizedState=null}return n.child}function Ji(e,n){(n.mode&1)===0&&e!==null&&(e.alternate=null,n.alternate=null,n.flags|=2)}function Xn(e,n,o){if(e!==null&&(n.dependencies=e.dependencies),Jr|=n.lanes,(o&n.childLanes)===0)return null;if(e!==null&&n.child!==e.child)throw Error(s(153));if(n.child!==null){for(e=n.child,o=Rr(e,e.pendingProps),n.child=o,o.return=n;e.sibling!==null;)e=e.sibling,o=o.sibling=Rr(e,e.pendingProps),o.return=n;o.sibling=null}return n.child}function k0(e,n,o){switch(n.tag){case 3:$p(n),js();break;case 5:sp(n);break;case 1:_t(n.type)&&_i(n);break;case 4:sc(n,n.stateNode.containerInfo);break;case 10:var c=n.type._context,d=n.memoizedProps.value;Ke($i,c._currentValue),c._currentValue=d;break;case 13:if(c=n.memoizedState,c!==null)return c.dehydrated!==null?(Ke(Ze,Ze.current&1),n.flags|=128,null):(o&n.child.childLanes)!==0?Bp(e,n,o):(Ke(Ze,Ze.current&1),e=Xn(e,n,o),e!==null?e.sibling:null);Ke(Ze,Ze.current&1);break;case 19:if(c=(o&n.childLanes)!==0,(e.flags&128)!==0){if(c)return Vp(e,n,o);n.flags|=128}if(d=n.memoizedState,d!==null&&(d.rendering=null,d.tail=null,d.lastEffect=null),Ke(Ze,Ze.current),c)break;return null;case 22:case 23:return n.lanes=0,Lp(e,n,o)}return Xn(e,n,o)}var Wp,Ec,Gp,Kp;Wp=function(e,n){for(var o=n.child;o!==null;){if(o.tag===5||o.tag===6)e.appendChild(o.stateNode);else if(o.tag!==4&&o.child!==null){o.child.return=o,o=o.child;continue}if(o===n)break;for(;o.sibling===null;){if(o.return===null||o.return===n)return;o=o.return}o.sibling.return=o.return,o=o.sibling}},Ec=function(){},Gp=function(e,n,o,c){var d=e.memoizedProps;if(d!==c){e=n.stateNode,Xr(kn.current);var h=null;switch(o){case"input":d=ie(e,d),c=ie(e,c),h=[];break;case"select":d=U({},d,{value:void 0}),c=U({},c,{value:void 0}),h=[];break;case"textarea":d=Ee(e,d),c=Ee(e,c),h=[];break;default:typeof d.onClick!="function"&&typeof c.onClick=="function"&&(e.onclick=Di)}fs(o,c);var w;o=null;for($ in d)if(!c.hasOwnProperty($)&&d.hasOwnProperty($)&&d[$]!=null)if($==="style"){var T=d[$];for(w in T)T.hasOwnProperty(w)&&(o||(o={}),o[w]="")}else $!=="dangerouslySetInnerHTML"&&$!=="children"&&$!=="suppressContentEditableWarning"&&$!=="suppressHydrationWarning"&&$!=="autoFocus"&&(l.hasOwnProperty($)?h||(h=[]):(h=h||[]).push($,null));for($ in c){var I=c[$];if(T=d?.[$],c.hasOwnProperty($)&&I!==T&&(I!=null||T!=null))if($==="style")if(T){for(w in T)!T.hasOwnProperty(w)||I&&I.hasOwnProperty(w)||(o||(o={}),o[w]="");for(w in I)I.hasOwnProperty(w)&&T[w]!==I[w]&&(o||(o={}),o[w]=I[w])}else o||(h||(h=[]),h.push($,o)),o=I;else $==="dangerouslySetInnerHTML"?(I=I?I.__html:void 0,T=T?T.__html:void 0,I!=null&&T!==I&&(h=h||[]).push($,I)):$==="children"?typeof I!="string"&&typeof I!="number"||(h=h||[]).push($,""+I):$!=="suppressContentEditableWarning"&&$!=="suppressHydrationWarning"&&(l.hasOwnProperty($)?(I!=null&&$==="onScroll"&&Ye("scroll",e),h||T===I||(h=[])):(h=h||[]).push($,I))}o&&(h=h||[]).push("style",o);var $=h;(n.updateQueue=$)&&(n.flags|=4)}},Kp=function(e,n,o,c){o!==c&&(n.flags|=4)};function Ao(e,n){if(!Qe)switch(e.tailMode){case"hidden":n=e.tail;for(var o=null;n!==null;)n.alternate!==null&&(o=n),n=n.sibling;o===null?e.tail=null:o.sibling=null;break;case"collapsed":o=e.tail;for(var c=null;o!==null;)o.alternate!==null&&(c=o),o=o.sibling;c===null?n||e.tail===null?e.tail=null:e.tail.sibling=null:c.sibling=null}}function Tt(e){var n=e.alternate!==null&&e.alternate.child===e.child,o=0,c=0;if(n)for(var d=e.child;d!==null;)o|=d.lanes|d.childLanes,c|=d.subtreeFlags&14680064,c|=d.flags&14680064,d.return=e,d=d.sibling;else for(d=e.child;d!==null;)o|=d.lanes|d.childLanes,c|=d.subtreeFlags,c|=d.flags,d.return=e,d=d.sibling;return e.subtreeFlags|=c,e.childLanes=o,n}function T0(e,n,o){var c=n.pendingProps;switch(Yl(n),n.tag){case 2:case 16:case 15:case 0:case 11:case 7:case 8:case 12:case 9:case 14:return Tt(n),null;case 1:return _t(n.type)&&Oi(),Tt(n),null;case 3:return c=n.stateNode,Ps(),qe(Ot),qe(Et),ac(),c.pendingContext&&(c.context=c.pendingContext,c.pendingContext=null),(e===null||e.child===null)&&(zi(n)?n.flags|=4:e===null||e.memoizedState.isDehydrated&&(n.flags&256)===0||(n.flags|=1024,cn!==null&&(Lc(cn),cn=null))),Ec(e,n),Tt(n),null;case 5:oc(n);var d=Xr(Do.current);if(o=n.type,e!==null&&n.stateNode!=null)Gp(e,n,o,c,d),e.ref!==n.ref&&(n.flags|=512,n.flags|=2097152);else{if(!c){if(n.stateNode===null)throw Error(s(166));return Tt(n),null}if(e=Xr(kn.current),zi(n)){c=n.stateNode,o=n.type;var h=n.memoizedProps;switch(c[En]=n,c[Eo]=h,e=(n.mode&1)!==0,o){case"dialog":Ye("cancel",c),Ye("close",c);break;case"iframe":case"object":case"embed":Ye("load",c);break;case"video":case"audio":for(d=0;d<Co.length;d++)Ye(Co[d],c);break;case"source":Ye("error",c);break;case"img":case"image":case"link":Ye("error",c),Ye("load",c);break;case"details":Ye("toggle",c);break;case"input":rt(c,h),Ye("invalid",c);break;case"select":c._wrapperState={wasMultiple:!!h.multiple},Ye("invalid",c);break;case"textarea":Oe(c,h),Ye("invalid",c)}fs(o,h),d=null;for(var w in h)if(h.hasOwnProperty(w)){var T=h[w];w==="children"?typeof T=="string"?c.textContent!==T&&(h.suppressHydrationWarning!==!0&&Ri(c.textContent,T,e),d=["children",T]):typeof T=="number"&&c.textContent!==""+T&&(h.suppressHydrationWarning!==!0&&Ri(c.textContent,T,e),d=["children",""+T]):l.hasOwnProperty(w)&&T!=null&&w==="onScroll"&&Ye("scroll",c)}switch(o){case"input":oe(c),Nn(c,h,!0);break;case"textarea":oe(c),Bn(c);break;case"select":case"option":break;default:typeof h.onClick=="function"&&(c.onclick=Di)}c=d,n.updateQueue=c,c!==null&&(n.flags|=4)}else{w=d.nodeType===9?d:d.ownerDocument,e==="http://www.w3.org/1999/xhtml"&&(e=Nt(o)),e==="http://www.w3.org/1999/xhtml"?o==="script"?(e=w.createElement("div"),e.innerHTML="<script><\/script>",e=e.removeChild(e.firstChild)):typeof c.is=="string"?e=w.createElement(o,{is:c.is}):(e=w.createElement(o),o==="select"&&(w=e,c.multiple?w.multiple=!0:c.size&&(w.size=c.size))):e=w.createElementNS(e,o),e[En]=n,e[Eo]=c,Wp(e,n,!1,!1),n.stateNode=e;e:{switch(w=so(o,c),o){case"dialog":Ye("cancel",e),Ye("close",e),d=c;break;case"iframe":case"object":case"embed":Ye("load",e),d=c;break;case"video":case"audio":for(d=0;d<Co.length;d++)Ye(Co[d],e);d=c;break;case"source":Ye("error",e),d=c;break;case"img":case"image":case"link":Ye("error",e),Ye("load",e),d=c;break;case"details":Ye("toggle",e),d=c;break;case"input":rt(e,c),d=ie(e,c),Ye("invalid",e);break;case"option":d=c;break;case"select":e._wrapperState={wasMultiple:!!c.multiple},d=U({},c,{value:void 0}),Ye("invalid",e);break;case"textarea":Oe(e,c),d=Ee(e,c),Ye("invalid",e);break;default:d=c}fs(o,d),T=d;for(h in T)if(T.hasOwnProperty(h)){var I=T[h];h==="style"?ui(e,I):h==="dangerouslySetInnerHTML"?(I=I?I.__html:void 0,I!=null&&ds(e,I)):h==="children"?typeof I=="string"?(o!=="textarea"||I!=="")&&Yt(e,I):typeof I=="number"&&Yt(e,""+I):h!=="suppressContentEditableWarning"&&h!=="suppressHydrationWarning"&&h!=="autoFocus"&&(l.hasOwnProperty(h)?I!=null&&h==="onScroll"&&Ye("scroll",e):I!=null&&P(e,h,I,w))}switch(o){case"input":oe(e),Nn(e,c,!1);break;case"textarea":oe(e),Bn(e);break;case"option":c.value!=null&&e.setAttribute("value",""+ee(c.value));break;case"select":e.multiple=!!c.multiple,h=c.value,h!=null?Y(e,!!c.multiple,h,!1):c.defaultValue!=null&&Y(e,!!c.multiple,c.defaultValue,!0);break;default:typeof d.onClick=="function"&&(e.onclick=Di)}switch(o){case"button":case"input":case"select":case"textarea":c=!!c.autoFocus;break e;case"img":c=!0;break e;default:c=!1}}c&&(n.flags|=4)}n.ref!==null&&(n.flags|=512,n.flags|=2097152)}return Tt(n),null;case 6:if(e&&n.stateNode!=null)Kp(e,n,e.memoizedProps,c);else{if(typeof c!="string"&&n.stateNode===null)throw Error(s(166));if(o=Xr(Do.current),Xr(kn.current),zi(n)){if(c=n.stateNode,o=n.memoizedProps,c[En]=n,(h=c.nodeValue!==o)&&(e=Ut,e!==null))switch(e.tag){case 3:Ri(c.nodeValue,o,(e.mode&1)!==0);break;case 5:e.memoizedProps.suppressHydrationWarning!==!0&&Ri(c.nodeValue,o,(e.mode&1)!==0)}h&&(n.flags|=4)}else c=(o.nodeType===9?o:o.ownerDocument).createTextNode(c),c[En]=n,n.stateNode=c}return Tt(n),null;case 13:if(qe(Ze),c=n.memoizedState,e===null||e.memoizedState!==null&&e.memoizedState.dehydrated!==null){if(Qe&&Vt!==null&&(n.mode&1)!==0&&(n.flags&128)===0)Xf(),js(),n.flags|=98560,h=!1;else if(h=zi(n),c!==null&&c.dehydrated!==null){if(e===null){if(!h)throw Error(s(318));if(h=n.memoizedState,h=h!==null?h.dehydrated:null,!h)throw Error(s(317));h[En]=n}else js(),(n.flags&128)===0&&(n.memoizedState=null),n.flags|=4;Tt(n),h=!1}else cn!==null&&(Lc(cn),cn=null),h=!0;if(!h)return n.flags&65536?n:null}return(n.flags&128)!==0?(n.lanes=o,n):(c=c!==null,c!==(e!==null&&e.memoizedState!==null)&&c&&(n.child.flags|=8192,(n.mode&1)!==0&&(e===null||(Ze.current&1)!==0?ft===0&&(ft=3):$c())),n.updateQueue!==null&&(n.flags|=4),Tt(n),null);case 4:return Ps(),Ec(e,n),e===null&&No(n.stateNode.containerInfo),Tt(n),null;case 10:return ec(n.type._context),Tt(n),null;case 17:return _t(n.type)&&Oi(),Tt(n),null;case 19:if(qe(Ze),h=n.memoizedState,h===null)return Tt(n),null;if(c=(n.flags&128)!==0,w=h.rendering,w===null)if(c)Ao(h,!1);else{if(ft!==0||e!==null&&(e.flags&128)!==0)for(e=n.child;e!==null;){if(w=Vi(e),w!==null){for(n.flags|=128,Ao(h,!1),c=w.updateQueue,c!==null&&(n.updateQueue=c,n.flags|=4),n.subtreeFlags=0,c=o,o=n.child;o!==null;)h=o,e=c,h.flags&=14680066,w=h.alternate,w===null?(h.childLanes=0,h.lanes=e,h.child=null,h.subtreeFlags=0,h.memoizedProps=null,h.memoizedState=null,h.updateQueue=null,h.dependencies=null,h.stateNode=null):(h.childLanes=w.childLanes,h.lanes=w.lanes,h.child=w.child,h.subtreeFlags=0,h.deletions=null,h.memoizedProps=w.memoizedProps,h.memoizedState=w.memoizedState,h.updateQueue=w.updateQueue,h.type=w.type,e=w.dependencies,h.dependencies=e===null?null:{lanes:e.lanes,firstContext:e.firstContext}),o=o.sibling;return Ke(Ze,Ze.current&1|2),n.child}e=e.sibling}h.tail!==null&&ot()>Os&&(n.flags|=128,c=!0,Ao(h,!1),n.lanes=4194304)}else{if(!c)if(e=Vi(w),e!==null){if(n.flags|=128,c=!0,o=e.updateQueue,o!==null&&(n.updateQueue=o,n.flags|=4),Ao(h,!0),h.tail===null&&h.tailMode==="hidden"&&!w.alternate&&!Qe)return Tt(n),null}else 2*ot()-h.renderingStartTime>Os&&o!==1073741824&&(n.flags|=128,c=!0,Ao(h,!1),n.lanes=4194304);h.isBackwards?(w.sibling=n.child,n.child=w):(o=h.last,o!==null?o.sibling=w:n.child=w,h.last=w)}return h.tail!==null?(n=h.tail,h.rendering=n,h.tail=n.sibling,h.renderingStartTime=ot(),n.sibling=null,o=Ze.current,Ke(Ze,c?o&1|2:o&1),n):(Tt(n),null);case 22:case 23:return Fc(),c=n.memoizedState!==null,e!==null&&e.memoizedState!==null!==c&&(n.flags|=8192),c&&(n.mode&1)!==0?(Wt&1073741824)!==0&&(Tt(n),n.subtreeFlags&6&&(n.flags|=8192)):Tt(n),null;case 24:return null;case 25:return null}throw Error(s(156,n.tag))}function P0(e,n){switch(Yl(n),n.tag){case 1:return _t(n.type)&&Oi(),e=n.flags,e&65536?(n.flags=e&-65537|128,n):null;case 3:return Ps(),qe(Ot),qe(Et),ac(),e=n.flags,(e&65536)!==0&&(e&128)===0?(n.flags=e&-65537|128,n):null;case 5:return oc(n),null;case 13:if(qe(Ze),e=n.memoizedState,e!==null&&e.dehydrated!==null){if(n.alternate===null)throw Error(s(340));js()}return e=n.flags,e&65536?(n.flags=e&-65537|128,n):null;case 19:return qe(Ze),null;case 4:return Ps(),null;case 10:return ec(n.type._context),null;case 22:case 23:return Fc(),null;case 24:return null;default:return null}}var Zi=!1,Pt=!1,R0=typeof WeakSet=="function"?WeakSet:Set,he=null;function Ds(e,n){var o=e.ref;if(o!==null)if(typeof o=="function")try{o(null)}catch(c){nt(e,n,c)}else o.current=null}function kc(e,n,o){try{o()}catch(c){nt(e,n,c)}}var Yp=!1;function D0(e,n){if(Fl=xi,e=Ef(),Dl(e)){if("selectionStart"in e)var o={start:e.selectionStart,end:e.selectionEnd};else e:{o=(o=e.ownerDocument)&&o.defaultView||window;var c=o.getSelection&&o.getSelection();if(c&&c.rangeCount!==0){o=c.anchorNode;var d=c.anchorOffset,h=c.focusNode;c=c.focusOffset;try{o.nodeType,h.nodeType}catch{o=null;break e}var w=0,T=-1,I=-1,$=0,J=0,Z=e,Q=null;t:for(;;){for(var ue;Z!==o||d!==0&&Z.nodeType!==3||(T=w+d),Z!==h||c!==0&&Z.nodeType!==3||(I=w+c),Z.nodeType===3&&(w+=Z.nodeValue.length),(ue=Z.firstChild)!==null;)Q=Z,Z=ue;for(;;){if(Z===e)break t;if(Q===o&&++$===d&&(T=w),Q===h&&++J===c&&(I=w),(ue=Z.nextSibling)!==null)break;Z=Q,Q=Z.parentNode}Z=ue}o=T===-1||I===-1?null:{start:T,end:I}}else o=null}o=o||{start:0,end:0}}else o=null;for($l={focusedElem:e,selectionRange:o},xi=!1,he=n;he!==null;)if(n=he,e=n.child,(n.subtreeFlags&1028)!==0&&e!==null)e.return=n,he=e;else for(;he!==null;){n=he;try{var me=n.alternate;if((n.flags&1024)!==0)switch(n.tag){case 0:case 11:case 15:break;case 1:if(me!==null){var xe=me.memoizedProps,it=me.memoizedState,z=n.stateNode,_=z.getSnapshotBeforeUpdate(n.elementType===n.type?xe:un(n.type,xe),it);z.__reactInternalSnapshotBeforeUpdate=_}break;case 3:var F=n.stateNode.containerInfo;F.nodeType===1?F.textContent="":F.nodeType===9&&F.documentElement&&F.removeChild(F.documentElement);break;case 5:case 6:case 4:case 17:break;default:throw Error(s(163))}}catch(re){nt(n,n.return,re)}if(e=n.sibling,e!==null){e.return=n.return,he=e;break}he=n.return}return me=Yp,Yp=!1,me}function Lo(e,n,o){var c=n.updateQueue;if(c=c!==null?c.lastEffect:null,c!==null){var d=c=c.next;do{if((d.tag&e)===e){var h=d.destroy;d.destroy=void 0,h!==void 0&&kc(n,o,h)}d=d.next}while(d!==c)}}function ea(e,n){if(n=n.updateQueue,n=n!==null?n.lastEffect:null,n!==null){var o=n=n.next;do{if((o.tag&e)===e){var c=o.create;o.destroy=c()}o=o.next}while(o!==n)}}function Tc(e){var n=e.ref;if(n!==null){var o=e.stateNode;switch(e.tag){case 5:e=o;break;default:e=o}typeof n=="function"?n(e):n.current=e}}function qp(e){var n=e.alternate;n!==null&&(e.alternate=null,qp(n)),e.child=null,e.deletions=null,e.sibling=null,e.tag===5&&(n=e.stateNode,n!==null&&(delete n[En],delete n[Eo],delete n[Vl],delete n[p0],delete n[h0])),e.stateNode=null,e.return=null,e.dependencies=null,e.memoizedProps=null,e.memoizedState=null,e.pendingProps=null,e.stateNode=null,e.updateQueue=null}function Xp(e){return e.tag===5||e.tag===3||e.tag===4}function Qp(e){e:for(;;){for(;e.sibling===null;){if(e.return===null||Xp(e.return))return null;e=e.return}for(e.sibling.return=e.return,e=e.sibling;e.tag!==5&&e.tag!==6&&e.tag!==18;){if(e.flags&2||e.child===null||e.tag===4)continue e;e.child.return=e,e=e.child}if(!(e.flags&2))return e.stateNode}}function Pc(e,n,o){var c=e.tag;if(c===5||c===6)e=e.stateNode,n?o.nodeType===8?o.parentNode.insertBefore(e,n):o.insertBefore(e,n):(o.nodeType===8?(n=o.parentNode,n.insertBefore(e,o)):(n=o,n.appendChild(e)),o=o._reactRootContainer,o!=null||n.onclick!==null||(n.onclick=Di));else if(c!==4&&(e=e.child,e!==null))for(Pc(e,n,o),e=e.sibling;e!==null;)Pc(e,n,o),e=e.sibling}function Rc(e,n,o){var c=e.tag;if(c===5||c===6)e=e.stateNode,n?o.insertBefore(e,n):o.appendChild(e);else if(c!==4&&(e=e.child,e!==null))for(Rc(e,n,o),e=e.sibling;e!==null;)Rc(e,n,o),e=e.sibling}var wt=null,dn=!1;function jr(e,n,o){for(o=o.child;o!==null;)Jp(e,n,o),o=o.sibling}function Jp(e,n,o){if(jn&&typeof jn.onCommitFiberUnmount=="function")try{jn.onCommitFiberUnmount(pi,o)}catch{}switch(o.tag){case 5:Pt||Ds(o,n);case 6:var c=wt,d=dn;wt=null,jr(e,n,o),wt=c,dn=d,wt!==null&&(dn?(e=wt,o=o.stateNode,e.nodeType===8?e.parentNode.removeChild(o):e.removeChild(o)):wt.removeChild(o.stateNode));break;case 18:wt!==null&&(dn?(e=wt,o=o.stateNode,e.nodeType===8?Ul(e.parentNode,o):e.nodeType===1&&Ul(e,o),mo(e)):Ul(wt,o.stateNode));break;case 4:c=wt,d=dn,wt=o.stateNode.containerInfo,dn=!0,jr(e,n,o),wt=c,dn=d;break;case 0:case 11:case 14:case 15:if(!Pt&&(c=o.updateQueue,c!==null&&(c=c.lastEffect,c!==null))){d=c=c.next;do{var h=d,w=h.destroy;h=h.tag,w!==void 0&&((h&2)!==0||(h&4)!==0)&&kc(o,n,w),d=d.next}while(d!==c)}jr(e,n,o);break;case 1:if(!Pt&&(Ds(o,n),c=o.stateNode,typeof c.componentWillUnmount=="function"))try{c.props=o.memoizedProps,c.state=o.memoizedState,c.componentWillUnmount()}catch(T){nt(o,n,T)}jr(e,n,o);break;case 21:jr(e,n,o);break;case 22:o.mode&1?(Pt=(c=Pt)||o.memoizedState!==null,jr(e,n,o),Pt=c):jr(e,n,o);break;default:jr(e,n,o)}}function Zp(e){var n=e.updateQueue;if(n!==null){e.updateQueue=null;var o=e.stateNode;o===null&&(o=e.stateNode=new R0),n.forEach(function(c){var d=$0.bind(null,e,c);o.has(c)||(o.add(c),c.then(d,d))})}}function fn(e,n){var o=n.deletions;if(o!==null)for(var c=0;c<o.length;c++){var d=o[c];try{var h=e,w=n,T=w;e:for(;T!==null;){switch(T.tag){case 5:wt=T.stateNode,dn=!1;break e;case 3:wt=T.stateNode.containerInfo,dn=!0;break e;case 4:wt=T.stateNode.containerInfo,dn=!0;break e}T=T.return}if(wt===null)throw Error(s(160));Jp(h,w,d),wt=null,dn=!1;var I=d.alternate;I!==null&&(I.return=null),d.return=null}catch($){nt(d,n,$)}}if(n.subtreeFlags&12854)for(n=n.child;n!==null;)eh(n,e),n=n.sibling}function eh(e,n){var o=e.alternate,c=e.flags;switch(e.tag){case 0:case 11:case 14:case 15:if(fn(n,e),Pn(e),c&4){try{Lo(3,e,e.return),ea(3,e)}catch(xe){nt(e,e.return,xe)}try{Lo(5,e,e.return)}catch(xe){nt(e,e.return,xe)}}break;case 1:fn(n,e),Pn(e),c&512&&o!==null&&Ds(o,o.return);break;case 5:if(fn(n,e),Pn(e),c&512&&o!==null&&Ds(o,o.return),e.flags&32){var d=e.stateNode;try{Yt(d,"")}catch(xe){nt(e,e.return,xe)}}if(c&4&&(d=e.stateNode,d!=null)){var h=e.memoizedProps,w=o!==null?o.memoizedProps:h,T=e.type,I=e.updateQueue;if(e.updateQueue=null,I!==null)try{T==="input"&&h.type==="radio"&&h.name!=null&&It(d,h),so(T,w);var $=so(T,h);for(w=0;w<I.length;w+=2){var J=I[w],Z=I[w+1];J==="style"?ui(d,Z):J==="dangerouslySetInnerHTML"?ds(d,Z):J==="children"?Yt(d,Z):P(d,J,Z,$)}switch(T){case"input":ct(d,h);break;case"textarea":Ct(d,h);break;case"select":var Q=d._wrapperState.wasMultiple;d._wrapperState.wasMultiple=!!h.multiple;var ue=h.value;ue!=null?Y(d,!!h.multiple,ue,!1):Q!==!!h.multiple&&(h.defaultValue!=null?Y(d,!!h.multiple,h.defaultValue,!0):Y(d,!!h.multiple,h.multiple?[]:"",!1))}d[Eo]=h}catch(xe){nt(e,e.return,xe)}}break;case 6:if(fn(n,e),Pn(e),c&4){if(e.stateNode===null)throw Error(s(162));d=e.stateNode,h=e.memoizedProps;try{d.nodeValue=h}catch(xe){nt(e,e.return,xe)}}break;case 3:if(fn(n,e),Pn(e),c&4&&o!==null&&o.memoizedState.isDehydrated)try{mo(n.containerInfo)}catch(xe){nt(e,e.return,xe)}break;case 4:fn(n,e),Pn(e);break;case 13:fn(n,e),Pn(e),d=e.child,d.flags&8192&&(h=d.memoizedState!==null,d.stateNode.isHidden=h,!h||d.alternate!==null&&d.alternate.memoizedState!==null||(Oc=ot())),c&4&&Zp(e);break;case 22:if(J=o!==null&&o.memoizedState!==null,e.mode&1?(Pt=($=Pt)||J,fn(n,e),Pt=$):fn(n,e),Pn(e),c&8192){if($=e.memoizedState!==null,(e.stateNode.isHidden=$)&&!J&&(e.mode&1)!==0)for(he=e,J=e.child;J!==null;){for(Z=he=J;he!==null;){switch(Q=he,ue=Q.child,Q.tag){case 0:case 11:case 14:case 15:Lo(4,Q,Q.return);break;case 1:Ds(Q,Q.return);var me=Q.stateNode;if(typeof me.componentWillUnmount=="function"){c=Q,o=Q.return;try{n=c,me.props=n.memoizedProps,me.state=n.memoizedState,me.componentWillUnmount()}catch(xe){nt(c,o,xe)}}break;case 5:Ds(Q,Q.return);break;case 22:if(Q.memoizedState!==null){rh(Z);continue}}ue!==null?(ue.return=Q,he=ue):rh(Z)}J=J.sibling}e:for(J=null,Z=e;;){if(Z.tag===5){if(J===null){J=Z;try{d=Z.stateNode,$?(h=d.style,typeof h.setProperty=="function"?h.setProperty("display","none","important"):h.display="none"):(T=Z.stateNode,I=Z.memoizedProps.style,w=I!=null&&I.hasOwnProperty("display")?I.display:null,T.style.display=ci("display",w))}catch(xe){nt(e,e.return,xe)}}}else if(Z.tag===6){if(J===null)try{Z.stateNode.nodeValue=$?"":Z.memoizedProps}catch(xe){nt(e,e.return,xe)}}else if((Z.tag!==22&&Z.tag!==23||Z.memoizedState===null||Z===e)&&Z.child!==null){Z.child.return=Z,Z=Z.child;continue}if(Z===e)break e;for(;Z.sibling===null;){if(Z.return===null||Z.return===e)break e;J===Z&&(J=null),Z=Z.return}J===Z&&(J=null),Z.sibling.return=Z.return,Z=Z.sibling}}break;case 19:fn(n,e),Pn(e),c&4&&Zp(e);break;case 21:break;default:fn(n,e),Pn(e)}}function Pn(e){var n=e.flags;if(n&2){try{e:{for(var o=e.return;o!==null;){if(Xp(o)){var c=o;break e}o=o.return}throw Error(s(160))}switch(c.tag){case 5:var d=c.stateNode;c.flags&32&&(Yt(d,""),c.flags&=-33);var h=Qp(e);Rc(e,h,d);break;case 3:case 4:var w=c.stateNode.containerInfo,T=Qp(e);Pc(e,T,w);break;default:throw Error(s(161))}}catch(I){nt(e,e.return,I)}e.flags&=-3}n&4096&&(e.flags&=-4097)}function I0(e,n,o){he=e,th(e)}function th(e,n,o){for(var c=(e.mode&1)!==0;he!==null;){var d=he,h=d.child;if(d.tag===22&&c){var w=d.memoizedState!==null||Zi;if(!w){var T=d.alternate,I=T!==null&&T.memoizedState!==null||Pt;T=Zi;var $=Pt;if(Zi=w,(Pt=I)&&!$)for(he=d;he!==null;)w=he,I=w.child,w.tag===22&&w.memoizedState!==null?sh(d):I!==null?(I.return=w,he=I):sh(d);for(;h!==null;)he=h,th(h),h=h.sibling;he=d,Zi=T,Pt=$}nh(e)}else(d.subtreeFlags&8772)!==0&&h!==null?(h.return=d,he=h):nh(e)}}function nh(e){for(;he!==null;){var n=he;if((n.flags&8772)!==0){var o=n.alternate;try{if((n.flags&8772)!==0)switch(n.tag){case 0:case 11:case 15:Pt||ea(5,n);break;case 1:var c=n.stateNode;if(n.flags&4&&!Pt)if(o===null)c.componentDidMount();else{var d=n.elementType===n.type?o.memoizedProps:un(n.type,o.memoizedProps);c.componentDidUpdate(d,o.memoizedState,c.__reactInternalSnapshotBeforeUpdate)}var h=n.updateQueue;h!==null&&rp(n,h,c);break;case 3:var w=n.updateQueue;if(w!==null){if(o=null,n.child!==null)switch(n.child.tag){case 5:o=n.child.stateNode;break;case 1:o=n.child.stateNode}rp(n,w,o)}break;case 5:var T=n.stateNode;if(o===null&&n.flags&4){o=T;var I=n.memoizedProps;switch(n.type){case"button":case"input":case"select":case"textarea":I.autoFocus&&o.focus();break;case"img":I.src&&(o.src=I.src)}}break;case 6:break;case 4:break;case 12:break;case 13:if(n.memoizedState===null){var $=n.alternate;if($!==null){var J=$.memoizedState;if(J!==null){var Z=J.dehydrated;Z!==null&&mo(Z)}}}break;case 19:case 17:case 21:case 22:case 23:case 25:break;default:throw Error(s(163))}Pt||n.flags&512&&Tc(n)}catch(Q){nt(n,n.return,Q)}}if(n===e){he=null;break}if(o=n.sibling,o!==null){o.return=n.return,he=o;break}he=n.return}}function rh(e){for(;he!==null;){var n=he;if(n===e){he=null;break}var o=n.sibling;if(o!==null){o.return=n.return,he=o;break}he=n.return}}function sh(e){for(;he!==null;){var n=he;try{switch(n.tag){case 0:case 11:case 15:var o=n.return;try{ea(4,n)}catch(I){nt(n,o,I)}break;case 1:var c=n.stateNode;if(typeof c.componentDidMount=="function"){var d=n.return;try{c.componentDidMount()}catch(I){nt(n,d,I)}}var h=n.return;try{Tc(n)}catch(I){nt(n,h,I)}break;case 5:var w=n.return;try{Tc(n)}catch(I){nt(n,w,I)}}}catch(I){nt(n,n.return,I)}if(n===e){he=null;break}var T=n.sibling;if(T!==null){T.return=n.return,he=T;break}he=n.return}}var O0=Math.ceil,ta=L.ReactCurrentDispatcher,Dc=L.ReactCurrentOwner,tn=L.ReactCurrentBatchConfig,Fe=0,vt=null,lt=null,bt=0,Wt=0,Is=wr(0),ft=0,zo=null,Jr=0,na=0,Ic=0,Fo=null,At=null,Oc=0,Os=1/0,Qn=null,ra=!1,_c=null,Er=null,sa=!1,kr=null,oa=0,$o=0,Mc=null,ia=-1,aa=0;function Dt(){return(Fe&6)!==0?ot():ia!==-1?ia:ia=ot()}function Tr(e){return(e.mode&1)===0?1:(Fe&2)!==0&&bt!==0?bt&-bt:g0.transition!==null?(aa===0&&(aa=Xd()),aa):(e=We,e!==0||(e=window.event,e=e===void 0?16:of(e.type)),e)}function pn(e,n,o,c){if(50<$o)throw $o=0,Mc=null,Error(s(185));co(e,o,c),((Fe&2)===0||e!==vt)&&(e===vt&&((Fe&2)===0&&(na|=o),ft===4&&Pr(e,bt)),Lt(e,c),o===1&&Fe===0&&(n.mode&1)===0&&(Os=ot()+500,Mi&&Sr()))}function Lt(e,n){var o=e.callbackNode;gx(e,n);var c=gi(e,e===vt?bt:0);if(c===0)o!==null&&Kd(o),e.callbackNode=null,e.callbackPriority=0;else if(n=c&-c,e.callbackPriority!==n){if(o!=null&&Kd(o),n===1)e.tag===0?m0(ih.bind(null,e)):Wf(ih.bind(null,e)),d0(function(){(Fe&6)===0&&Sr()}),o=null;else{switch(Qd(c)){case 1:o=hl;break;case 4:o=Yd;break;case 16:o=fi;break;case 536870912:o=qd;break;default:o=fi}o=hh(o,oh.bind(null,e))}e.callbackPriority=n,e.callbackNode=o}}function oh(e,n){if(ia=-1,aa=0,(Fe&6)!==0)throw Error(s(327));var o=e.callbackNode;if(_s()&&e.callbackNode!==o)return null;var c=gi(e,e===vt?bt:0);if(c===0)return null;if((c&30)!==0||(c&e.expiredLanes)!==0||n)n=la(e,c);else{n=c;var d=Fe;Fe|=2;var h=lh();(vt!==e||bt!==n)&&(Qn=null,Os=ot()+500,es(e,n));do try{A0();break}catch(T){ah(e,T)}while(!0);Zl(),ta.current=h,Fe=d,lt!==null?n=0:(vt=null,bt=0,n=ft)}if(n!==0){if(n===2&&(d=ml(e),d!==0&&(c=d,n=Ac(e,d))),n===1)throw o=zo,es(e,0),Pr(e,c),Lt(e,ot()),o;if(n===6)Pr(e,c);else{if(d=e.current.alternate,(c&30)===0&&!_0(d)&&(n=la(e,c),n===2&&(h=ml(e),h!==0&&(c=h,n=Ac(e,h))),n===1))throw o=zo,es(e,0),Pr(e,c),Lt(e,ot()),o;switch(e.finishedWork=d,e.finishedLanes=c,n){case 0:case 1:throw Error(s(345));case 2:ts(e,At,Qn);break;case 3:if(Pr(e,c),(c&130023424)===c&&(n=Oc+500-ot(),10<n)){if(gi(e,0)!==0)break;if(d=e.suspendedLanes,(d&c)!==c){Dt(),e.pingedLanes|=e.suspendedLanes&d;break}e.timeoutHandle=Bl(ts.bind(null,e,At,Qn),n);break}ts(e,At,Qn);break;case 4:if(Pr(e,c),(c&4194240)===c)break;for(n=e.eventTimes,d=-1;0<c;){var w=31-an(c);h=1<<w,w=n[w],w>d&&(d=w),c&=~h}if(c=d,c=ot()-c,c=(120>c?120:480>c?480:1080>c?1080:1920>c?1920:3e3>c?3e3:4320>c?4320:1960*O0(c/1960))-c,10<c){e.timeoutHandle=Bl(ts.bind(null,e,At,Qn),c);break}ts(e,At,Qn);break;case 5:ts(e,At,Qn);break;default:throw Error(s(329))}}}return Lt(e,ot()),e.callbackNode===o?oh.bind(null,e):null}function Ac(e,n){var o=Fo;return e.current.memoizedState.isDehydrated&&(es(e,n).flags|=256),e=la(e,n),e!==2&&(n=At,At=o,n!==null&&Lc(n)),e}function Lc(e){At===null?At=e:At.push.apply(At,e)}function _0(e){for(var n=e;;){if(n.flags&16384){var o=n.updateQueue;if(o!==null&&(o=o.stores,o!==null))for(var c=0;c<o.length;c++){var d=o[c],h=d.getSnapshot;d=d.value;try{if(!ln(h(),d))return!1}catch{return!1}}}if(o=n.child,n.subtreeFlags&16384&&o!==null)o.return=n,n=o;else{if(n===e)break;for(;n.sibling===null;){if(n.return===null||n.return===e)return!0;n=n.return}n.sibling.return=n.return,n=n.sibling}}return!0}function Pr(e,n){for(n&=~Ic,n&=~na,e.suspendedLanes|=n,e.pingedLanes&=~n,e=e.expirationTimes;0<n;){var o=31-an(n),c=1<<o;e[o]=-1,n&=~c}}function ih(e){if((Fe&6)!==0)throw Error(s(327));_s();var n=gi(e,0);if((n&1)===0)return Lt(e,ot()),null;var o=la(e,n);if(e.tag!==0&&o===2){var c=ml(e);c!==0&&(n=c,o=Ac(e,c))}if(o===1)throw o=zo,es(e,0),Pr(e,n),Lt(e,ot()),o;if(o===6)throw Error(s(345));return e.finishedWork=e.current.alternate,e.finishedLanes=n,ts(e,At,Qn),Lt(e,ot()),null}function zc(e,n){var o=Fe;Fe|=1;try{return e(n)}finally{Fe=o,Fe===0&&(Os=ot()+500,Mi&&Sr())}}function Zr(e){kr!==null&&kr.tag===0&&(Fe&6)===0&&_s();var n=Fe;Fe|=1;var o=tn.transition,c=We;try{if(tn.transition=null,We=1,e)return e()}finally{We=c,tn.transition=o,Fe=n,(Fe&6)===0&&Sr()}}function Fc(){Wt=Is.current,qe(Is)}function es(e,n){e.finishedWork=null,e.finishedLanes=0;var o=e.timeoutHandle;if(o!==-1&&(e.timeoutHandle=-1,u0(o)),lt!==null)for(o=lt.return;o!==null;){var c=o;switch(Yl(c),c.tag){case 1:c=c.type.childContextTypes,c!=null&&Oi();break;case 3:Ps(),qe(Ot),qe(Et),ac();break;case 5:oc(c);break;case 4:Ps();break;case 13:qe(Ze);break;case 19:qe(Ze);break;case 10:ec(c.type._context);break;case 22:case 23:Fc()}o=o.return}if(vt=e,lt=e=Rr(e.current,null),bt=Wt=n,ft=0,zo=null,Ic=na=Jr=0,At=Fo=null,qr!==null){for(n=0;n<qr.length;n++)if(o=qr[n],c=o.interleaved,c!==null){o.interleaved=null;var d=c.next,h=o.pending;if(h!==null){var w=h.next;h.next=d,c.next=w}o.pending=c}qr=null}return e}function ah(e,n){do{var o=lt;try{if(Zl(),Wi.current=qi,Gi){for(var c=et.memoizedState;c!==null;){var d=c.queue;d!==null&&(d.pending=null),c=c.next}Gi=!1}if(Qr=0,gt=dt=et=null,Io=!1,Oo=0,Dc.current=null,o===null||o.return===null){ft=1,zo=n,lt=null;break}e:{var h=e,w=o.return,T=o,I=n;if(n=bt,T.flags|=32768,I!==null&&typeof I=="object"&&typeof I.then=="function"){var $=I,J=T,Z=J.tag;if((J.mode&1)===0&&(Z===0||Z===11||Z===15)){var Q=J.alternate;Q?(J.updateQueue=Q.updateQueue,J.memoizedState=Q.memoizedState,J.lanes=Q.lanes):(J.updateQueue=null,J.memoizedState=null)}var ue=Ip(w);if(ue!==null){ue.flags&=-257,Op(ue,w,T,h,n),ue.mode&1&&Dp(h,$,n),n=ue,I=$;var me=n.updateQueue;if(me===null){var xe=new Set;xe.add(I),n.updateQueue=xe}else me.add(I);break e}else{if((n&1)===0){Dp(h,$,n),$c();break e}I=Error(s(426))}}else if(Qe&&T.mode&1){var it=Ip(w);if(it!==null){(it.flags&65536)===0&&(it.flags|=256),Op(it,w,T,h,n),Ql(Rs(I,T));break e}}h=I=Rs(I,T),ft!==4&&(ft=2),Fo===null?Fo=[h]:Fo.push(h),h=w;do{switch(h.tag){case 3:h.flags|=65536,n&=-n,h.lanes|=n;var z=Pp(h,I,n);np(h,z);break e;case 1:T=I;var _=h.type,F=h.stateNode;if((h.flags&128)===0&&(typeof _.getDerivedStateFromError=="function"||F!==null&&typeof F.componentDidCatch=="function"&&(Er===null||!Er.has(F)))){h.flags|=65536,n&=-n,h.lanes|=n;var re=Rp(h,T,n);np(h,re);break e}}h=h.return}while(h!==null)}uh(o)}catch(Se){n=Se,lt===o&&o!==null&&(lt=o=o.return);continue}break}while(!0)}function lh(){var e=ta.current;return ta.current=qi,e===null?qi:e}function $c(){(ft===0||ft===3||ft===2)&&(ft=4),vt===null||(Jr&268435455)===0&&(na&268435455)===0||Pr(vt,bt)}function la(e,n){var o=Fe;Fe|=2;var c=lh();(vt!==e||bt!==n)&&(Qn=null,es(e,n));do try{M0();break}catch(d){ah(e,d)}while(!0);if(Zl(),Fe=o,ta.current=c,lt!==null)throw Error(s(261));return vt=null,bt=0,ft}function M0(){for(;lt!==null;)ch(lt)}function A0(){for(;lt!==null&&!ax();)ch(lt)}function ch(e){var n=ph(e.alternate,e,Wt);e.memoizedProps=e.pendingProps,n===null?uh(e):lt=n,Dc.current=null}function uh(e){var n=e;do{var o=n.alternate;if(e=n.return,(n.flags&32768)===0){if(o=T0(o,n,Wt),o!==null){lt=o;return}}else{if(o=P0(o,n),o!==null){o.flags&=32767,lt=o;return}if(e!==null)e.flags|=32768,e.subtreeFlags=0,e.deletions=null;else{ft=6,lt=null;return}}if(n=n.sibling,n!==null){lt=n;return}lt=n=e}while(n!==null);ft===0&&(ft=5)}function ts(e,n,o){var c=We,d=tn.transition;try{tn.transition=null,We=1,L0(e,n,o,c)}finally{tn.transition=d,We=c}return null}function L0(e,n,o,c){do _s();while(kr!==null);if((Fe&6)!==0)throw Error(s(327));o=e.finishedWork;var d=e.finishedLanes;if(o===null)return null;if(e.finishedWork=null,e.finishedLanes=0,o===e.current)throw Error(s(177));e.callbackNode=null,e.callbackPriority=0;var h=o.lanes|o.childLanes;if(vx(e,h),e===vt&&(lt=vt=null,bt=0),(o.subtreeFlags&2064)===0&&(o.flags&2064)===0||sa||(sa=!0,hh(fi,function(){return _s(),null})),h=(o.flags&15990)!==0,(o.subtreeFlags&15990)!==0||h){h=tn.transition,tn.transition=null;var w=We;We=1;var T=Fe;Fe|=4,Dc.current=null,D0(e,o),eh(o,e),r0($l),xi=!!Fl,$l=Fl=null,e.current=o,I0(o),lx(),Fe=T,We=w,tn.transition=h}else e.current=o;if(sa&&(sa=!1,kr=e,oa=d),h=e.pendingLanes,h===0&&(Er=null),dx(o.stateNode),Lt(e,ot()),n!==null)for(c=e.onRecoverableError,o=0;o<n.length;o++)d=n[o],c(d.value,{componentStack:d.stack,digest:d.digest});if(ra)throw ra=!1,e=_c,_c=null,e;return(oa&1)!==0&&e.tag!==0&&_s(),h=e.pendingLanes,(h&1)!==0?e===Mc?$o++:($o=0,Mc=e):$o=0,Sr(),null}function _s(){if(kr!==null){var e=Qd(oa),n=tn.transition,o=We;try{if(tn.transition=null,We=16>e?16:e,kr===null)var c=!1;else{if(e=kr,kr=null,oa=0,(Fe&6)!==0)throw Error(s(331));var d=Fe;for(Fe|=4,he=e.current;he!==null;){var h=he,w=h.child;if((he.flags&16)!==0){var T=h.deletions;if(T!==null){for(var I=0;I<T.length;I++){var $=T[I];for(he=$;he!==null;){var J=he;switch(J.tag){case 0:case 11:case 15:Lo(8,J,h)}var Z=J.child;if(Z!==null)Z.return=J,he=Z;else for(;he!==null;){J=he;var Q=J.sibling,ue=J.return;if(qp(J),J===$){he=null;break}if(Q!==null){Q.return=ue,he=Q;break}he=ue}}}var me=h.alternate;if(me!==null){var xe=me.child;if(xe!==null){me.child=null;do{var it=xe.sibling;xe.sibling=null,xe=it}while(xe!==null)}}he=h}}if((h.subtreeFlags&2064)!==0&&w!==null)w.return=h,he=w;else e:for(;he!==null;){if(h=he,(h.flags&2048)!==0)switch(h.tag){case 0:case 11:case 15:Lo(9,h,h.return)}var z=h.sibling;if(z!==null){z.return=h.return,he=z;break e}he=h.return}}var _=e.current;for(he=_;he!==null;){w=he;var F=w.child;if((w.subtreeFlags&2064)!==0&&F!==null)F.return=w,he=F;else e:for(w=_;he!==null;){if(T=he,(T.flags&2048)!==0)try{switch(T.tag){case 0:case 11:case 15:ea(9,T)}}catch(Se){nt(T,T.return,Se)}if(T===w){he=null;break e}var re=T.sibling;if(re!==null){re.return=T.return,he=re;break e}he=T.return}}if(Fe=d,Sr(),jn&&typeof jn.onPostCommitFiberRoot=="function")try{jn.onPostCommitFiberRoot(pi,e)}catch{}c=!0}return c}finally{We=o,tn.transition=n}}return!1}function dh(e,n,o){n=Rs(o,n),n=Pp(e,n,1),e=Nr(e,n,1),n=Dt(),e!==null&&(co(e,1,n),Lt(e,n))}function nt(e,n,o){if(e.tag===3)dh(e,e,o);else for(;n!==null;){if(n.tag===3){dh(n,e,o);break}else if(n.tag===1){var c=n.stateNode;if(typeof n.type.getDerivedStateFromError=="function"||typeof c.componentDidCatch=="function"&&(Er===null||!Er.has(c))){e=Rs(o,e),e=Rp(n,e,1),n=Nr(n,e,1),e=Dt(),n!==null&&(co(n,1,e),Lt(n,e));break}}n=n.return}}function z0(e,n,o){var c=e.pingCache;c!==null&&c.delete(n),n=Dt(),e.pingedLanes|=e.suspendedLanes&o,vt===e&&(bt&o)===o&&(ft===4||ft===3&&(bt&130023424)===bt&&500>ot()-Oc?es(e,0):Ic|=o),Lt(e,n)}function fh(e,n){n===0&&((e.mode&1)===0?n=1:(n=mi,mi<<=1,(mi&130023424)===0&&(mi=4194304)));var o=Dt();e=Yn(e,n),e!==null&&(co(e,n,o),Lt(e,o))}function F0(e){var n=e.memoizedState,o=0;n!==null&&(o=n.retryLane),fh(e,o)}function $0(e,n){var o=0;switch(e.tag){case 13:var c=e.stateNode,d=e.memoizedState;d!==null&&(o=d.retryLane);break;case 19:c=e.stateNode;break;default:throw Error(s(314))}c!==null&&c.delete(n),fh(e,o)}var ph;ph=function(e,n,o){if(e!==null)if(e.memoizedProps!==n.pendingProps||Ot.current)Mt=!0;else{if((e.lanes&o)===0&&(n.flags&128)===0)return Mt=!1,k0(e,n,o);Mt=(e.flags&131072)!==0}else Mt=!1,Qe&&(n.flags&1048576)!==0&&Gf(n,Li,n.index);switch(n.lanes=0,n.tag){case 2:var c=n.type;Ji(e,n),e=n.pendingProps;var d=Ss(n,Et.current);Ts(n,o),d=uc(null,n,c,e,d,o);var h=dc();return n.flags|=1,typeof d=="object"&&d!==null&&typeof d.render=="function"&&d.$$typeof===void 0?(n.tag=1,n.memoizedState=null,n.updateQueue=null,_t(c)?(h=!0,_i(n)):h=!1,n.memoizedState=d.state!==null&&d.state!==void 0?d.state:null,rc(n),d.updater=Xi,n.stateNode=d,d._reactInternals=n,vc(n,c,e,o),n=bc(null,n,c,!0,h,o)):(n.tag=0,Qe&&h&&Kl(n),Rt(null,n,d,o),n=n.child),n;case 16:c=n.elementType;e:{switch(Ji(e,n),e=n.pendingProps,d=c._init,c=d(c._payload),n.type=c,d=n.tag=B0(c),e=un(c,e),d){case 0:n=wc(null,n,c,e,o);break e;case 1:n=Fp(null,n,c,e,o);break e;case 11:n=_p(null,n,c,e,o);break e;case 14:n=Mp(null,n,c,un(c.type,e),o);break e}throw Error(s(306,c,""))}return n;case 0:return c=n.type,d=n.pendingProps,d=n.elementType===c?d:un(c,d),wc(e,n,c,d,o);case 1:return c=n.type,d=n.pendingProps,d=n.elementType===c?d:un(c,d),Fp(e,n,c,d,o);case 3:e:{if($p(n),e===null)throw Error(s(387));c=n.pendingProps,h=n.memoizedState,d=h.element,tp(e,n),Ui(n,c,null,o);var w=n.memoizedState;if(c=w.element,h.isDehydrated)if(h={element:c,isDehydrated:!1,cache:w.cache,pendingSuspenseBoundaries:w.pendingSuspenseBoundaries,transitions:w.transitions},n.updateQueue.baseState=h,n.memoizedState=h,n.flags&256){d=Rs(Error(s(423)),n),n=Hp(e,n,c,o,d);break e}else if(c!==d){d=Rs(Error(s(424)),n),n=Hp(e,n,c,o,d);break e}else for(Vt=xr(n.stateNode.containerInfo.firstChild),Ut=n,Qe=!0,cn=null,o=Zf(n,null,c,o),n.child=o;o;)o.flags=o.flags&-3|4096,o=o.sibling;else{if(js(),c===d){n=Xn(e,n,o);break e}Rt(e,n,c,o)}n=n.child}return n;case 5:return sp(n),e===null&&Xl(n),c=n.type,d=n.pendingProps,h=e!==null?e.memoizedProps:null,w=d.children,Hl(c,d)?w=null:h!==null&&Hl(c,h)&&(n.flags|=32),zp(e,n),Rt(e,n,w,o),n.child;case 6:return e===null&&Xl(n),null;case 13:return Bp(e,n,o);case 4:return sc(n,n.stateNode.containerInfo),c=n.pendingProps,e===null?n.child=Es(n,null,c,o):Rt(e,n,c,o),n.child;case 11:return c=n.type,d=n.pendingProps,d=n.elementType===c?d:un(c,d),_p(e,n,c,d,o);case 7:return Rt(e,n,n.pendingProps,o),n.child;case 8:return Rt(e,n,n.pendingProps.children,o),n.child;case 12:return Rt(e,n,n.pendingProps.children,o),n.child;case 10:e:{if(c=n.type._context,d=n.pendingProps,h=n.memoizedProps,w=d.value,Ke($i,c._currentValue),c._currentValue=w,h!==null)if(ln(h.value,w)){if(h.children===d.children&&!Ot.current){n=Xn(e,n,o);break e}}else for(h=n.child,h!==null&&(h.return=n);h!==null;){var T=h.dependencies;if(T!==null){w=h.child;for(var I=T.firstContext;I!==null;){if(I.context===c){if(h.tag===1){I=qn(-1,o&-o),I.tag=2;var $=h.updateQueue;if($!==null){$=$.shared;var J=$.pending;J===null?I.next=I:(I.next=J.next,J.next=I),$.pending=I}}h.lanes|=o,I=h.alternate,I!==null&&(I.lanes|=o),tc(h.return,o,n),T.lanes|=o;break}I=I.next}}else if(h.tag===10)w=h.type===n.type?null:h.child;else if(h.tag===18){if(w=h.return,w===null)throw Error(s(341));w.lanes|=o,T=w.alternate,T!==null&&(T.lanes|=o),tc(w,o,n),w=h.sibling}else w=h.child;if(w!==null)w.return=h;else for(w=h;w!==null;){if(w===n){w=null;break}if(h=w.sibling,h!==null){h.return=w.return,w=h;break}w=w.return}h=w}Rt(e,n,d.children,o),n=n.child}return n;case 9:return d=n.type,c=n.pendingProps.children,Ts(n,o),d=Zt(d),c=c(d),n.flags|=1,Rt(e,n,c,o),n.child;case 14:return c=n.type,d=un(c,n.pendingProps),d=un(c.type,d),Mp(e,n,c,d,o);case 15:return Ap(e,n,n.type,n.pendingProps,o);case 17:return c=n.type,d=n.pendingProps,d=n.elementType===c?d:un(c,d),Ji(e,n),n.tag=1,_t(c)?(e=!0,_i(n)):e=!1,Ts(n,o),kp(n,c,d),vc(n,c,d,o),bc(null,n,c,!0,e,o);case 19:return Vp(e,n,o);case 22:return Lp(e,n,o)}throw Error(s(156,n.tag))};function hh(e,n){return Gd(e,n)}function H0(e,n,o,c){this.tag=e,this.key=o,this.sibling=this.child=this.return=this.stateNode=this.type=this.elementType=null,this.index=0,this.ref=null,this.pendingProps=n,this.dependencies=this.memoizedState=this.updateQueue=this.memoizedProps=null,this.mode=c,this.subtreeFlags=this.flags=0,this.deletions=null,this.childLanes=this.lanes=0,this.alternate=null}function nn(e,n,o,c){return new H0(e,n,o,c)}function Hc(e){return e=e.prototype,!(!e||!e.isReactComponent)}function B0(e){if(typeof e=="function")return Hc(e)?1:0;if(e!=null){if(e=e.$$typeof,e===de)return 11;if(e===be)return 14}return 2}function Rr(e,n){var o=e.alternate;return o===null?(o=nn(e.tag,n,e.key,e.mode),o.elementType=e.elementType,o.type=e.type,o.stateNode=e.stateNode,o.alternate=e,e.alternate=o):(o.pendingProps=n,o.type=e.type,o.flags=0,o.subtreeFlags=0,o.deletions=null),o.flags=e.flags&14680064,o.childLanes=e.childLanes,o.lanes=e.lanes,o.child=e.child,o.memoizedProps=e.memoizedProps,o.memoizedState=e.memoizedState,o.updateQueue=e.updateQueue,n=e.dependencies,o.dependencies=n===null?null:{lanes:n.lanes,firstContext:n.firstContext},o.sibling=e.sibling,o.index=e.index,o.ref=e.ref,o}function ca(e,n,o,c,d,h){var w=2;if(c=e,typeof e=="function")Hc(e)&&(w=1);else if(typeof e=="string")w=5;else e:switch(e){case G:return ns(o.children,d,h,n);case H:w=8,d|=8;break;case se:return e=nn(12,o,n,d|2),e.elementType=se,e.lanes=h,e;case le:return e=nn(13,o,n,d),e.elementType=le,e.lanes=h,e;case ce:return e=nn(19,o,n,d),e.elementType=ce,e.lanes=h,e;case O:return ua(o,d,h,n);default:if(typeof e=="object"&&e!==null)switch(e.$$typeof){case ae:w=10;break e;case we:w=9;break e;case de:w=11;break e;case be:w=14;break e;case M:w=16,c=null;break e}throw Error(s(130,e==null?e:typeof e,""))}return n=nn(w,o,n,d),n.elementType=e,n.type=c,n.lanes=h,n}function ns(e,n,o,c){return e=nn(7,e,c,n),e.lanes=o,e}function ua(e,n,o,c){return e=nn(22,e,c,n),e.elementType=O,e.lanes=o,e.stateNode={isHidden:!1},e}function Bc(e,n,o){return e=nn(6,e,null,n),e.lanes=o,e}function Uc(e,n,o){return n=nn(4,e.children!==null?e.children:[],e.key,n),n.lanes=o,n.stateNode={containerInfo:e.containerInfo,pendingChildren:null,implementation:e.implementation},n}function U0(e,n,o,c,d){this.tag=n,this.containerInfo=e,this.finishedWork=this.pingCache=this.current=this.pendingChildren=null,this.timeoutHandle=-1,this.callbackNode=this.pendingContext=this.context=null,this.callbackPriority=0,this.eventTimes=gl(0),this.expirationTimes=gl(-1),this.entangledLanes=this.finishedLanes=this.mutableReadLanes=this.expiredLanes=this.pingedLanes=this.suspendedLanes=this.pendingLanes=0,this.entanglements=gl(0),this.identifierPrefix=c,this.onRecoverableError=d,this.mutableSourceEagerHydrationData=null}function Vc(e,n,o,c,d,h,w,T,I){return e=new U0(e,n,o,T,I),n===1?(n=1,h===!0&&(n|=8)):n=0,h=nn(3,null,null,n),e.current=h,h.stateNode=e,h.memoizedState={element:c,isDehydrated:o,cache:null,transitions:null,pendingSuspenseBoundaries:null},rc(h),e}function V0(e,n,o){var c=3<arguments.length&&arguments[3]!==void 0?arguments[3]:null;return{$$typeof:W,key:c==null?null:""+c,children:e,containerInfo:n,implementation:o}}function mh(e){if(!e)return br;e=e._reactInternals;e:{if(Vr(e)!==e||e.tag!==1)throw Error(s(170));var n=e;do{switch(n.tag){case 3:n=n.stateNode.context;break e;case 1:if(_t(n.type)){n=n.stateNode.__reactInternalMemoizedMergedChildContext;break e}}n=n.return}while(n!==null);throw Error(s(171))}if(e.tag===1){var o=e.type;if(_t(o))return Uf(e,o,n)}return n}function gh(e,n,o,c,d,h,w,T,I){return e=Vc(o,c,!0,e,d,h,w,T,I),e.context=mh(null),o=e.current,c=Dt(),d=Tr(o),h=qn(c,d),h.callback=n??null,Nr(o,h,d),e.current.lanes=d,co(e,d,c),Lt(e,c),e}function da(e,n,o,c){var d=n.current,h=Dt(),w=Tr(d);return o=mh(o),n.context===null?n.context=o:n.pendingContext=o,n=qn(h,w),n.payload={element:e},c=c===void 0?null:c,c!==null&&(n.callback=c),e=Nr(d,n,w),e!==null&&(pn(e,d,w,h),Bi(e,d,w)),w}function fa(e){if(e=e.current,!e.child)return null;switch(e.child.tag){case 5:return e.child.stateNode;default:return e.child.stateNode}}function vh(e,n){if(e=e.memoizedState,e!==null&&e.dehydrated!==null){var o=e.retryLane;e.retryLane=o!==0&&o<n?o:n}}function Wc(e,n){vh(e,n),(e=e.alternate)&&vh(e,n)}function W0(){return null}var yh=typeof reportError=="function"?reportError:function(e){console.error(e)};function Gc(e){this._internalRoot=e}pa.prototype.render=Gc.prototype.render=function(e){var n=this._internalRoot;if(n===null)throw Error(s(409));da(e,n,null,null)},pa.prototype.unmount=Gc.prototype.unmount=function(){var e=this._internalRoot;if(e!==null){this._internalRoot=null;var n=e.containerInfo;Zr(function(){da(null,e,null,null)}),n[Vn]=null}};function pa(e){this._internalRoot=e}pa.prototype.unstable_scheduleHydration=function(e){if(e){var n=ef();e={blockedOn:null,target:e,priority:n};for(var o=0;o<gr.length&&n!==0&&n<gr[o].priority;o++);gr.splice(o,0,e),o===0&&rf(e)}};function Kc(e){return!(!e||e.nodeType!==1&&e.nodeType!==9&&e.nodeType!==11)}function ha(e){return!(!e||e.nodeType!==1&&e.nodeType!==9&&e.nodeType!==11&&(e.nodeType!==8||e.nodeValue!==" react-mount-point-unstable "))}function xh(){}function G0(e,n,o,c,d){if(d){if(typeof c=="function"){var h=c;c=function(){var $=fa(w);h.call($)}}var w=gh(n,c,e,0,null,!1,!1,"",xh);return e._reactRootContainer=w,e[Vn]=w.current,No(e.nodeType===8?e.parentNode:e),Zr(),w}for(;d=e.lastChild;)e.removeChild(d);if(typeof c=="function"){var T=c;c=function(){var $=fa(I);T.call($)}}var I=Vc(e,0,!1,null,null,!1,!1,"",xh);return e._reactRootContainer=I,e[Vn]=I.current,No(e.nodeType===8?e.parentNode:e),Zr(function(){da(n,I,o,c)}),I}function ma(e,n,o,c,d){var h=o._reactRootContainer;if(h){var w=h;if(typeof d=="function"){var T=d;d=function(){var I=fa(w);T.call(I)}}da(n,w,e,d)}else w=G0(o,n,e,d,c);return fa(w)}Jd=function(e){switch(e.tag){case 3:var n=e.stateNode;if(n.current.memoizedState.isDehydrated){var o=lo(n.pendingLanes);o!==0&&(vl(n,o|1),Lt(n,ot()),(Fe&6)===0&&(Os=ot()+500,Sr()))}break;case 13:Zr(function(){var c=Yn(e,1);if(c!==null){var d=Dt();pn(c,e,1,d)}}),Wc(e,1)}},yl=function(e){if(e.tag===13){var n=Yn(e,134217728);if(n!==null){var o=Dt();pn(n,e,134217728,o)}Wc(e,134217728)}},Zd=function(e){if(e.tag===13){var n=Tr(e),o=Yn(e,n);if(o!==null){var c=Dt();pn(o,e,n,c)}Wc(e,n)}},ef=function(){return We},tf=function(e,n){var o=We;try{return We=e,n()}finally{We=o}},oo=function(e,n,o){switch(n){case"input":if(ct(e,o),n=o.name,o.type==="radio"&&n!=null){for(o=e;o.parentNode;)o=o.parentNode;for(o=o.querySelectorAll("input[name="+JSON.stringify(""+n)+'][type="radio"]'),n=0;n<o.length;n++){var c=o[n];if(c!==e&&c.form===e.form){var d=Ii(c);if(!d)throw Error(s(90));ye(c),ct(c,d)}}}break;case"textarea":Ct(e,o);break;case"select":n=o.value,n!=null&&Y(e,!!o.multiple,n,!1)}},ut=zc,jt=Zr;var K0={usingClientEntryPoint:!1,Events:[ko,ws,Ii,Pe,st,zc]},Ho={findFiberByHostInstance:Wr,bundleType:0,version:"18.3.1",rendererPackageName:"react-dom"},Y0={bundleType:Ho.bundleType,version:Ho.version,rendererPackageName:Ho.rendererPackageName,rendererConfig:Ho.rendererConfig,overrideHookState:null,overrideHookStateDeletePath:null,overrideHookStateRenamePath:null,overrideProps:null,overridePropsDeletePath:null,overridePropsRenamePath:null,setErrorHandler:null,setSuspenseHandler:null,scheduleUpdate:null,currentDispatcherRef:L.ReactCurrentDispatcher,findHostInstanceByFiber:function(e){return e=Vd(e),e===null?null:e.stateNode},findFiberByHostInstance:Ho.findFiberByHostInstance||W0,findHostInstancesForRefresh:null,scheduleRefresh:null,scheduleRoot:null,setRefreshHandler:null,getCurrentFiber:null,reconcilerVersion:"18.3.1-next-f1338f8080-20240426"};if(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__<"u"){var ga=__REACT_DEVTOOLS_GLOBAL_HOOK__;if(!ga.isDisabled&&ga.supportsFiber)try{pi=ga.inject(Y0),jn=ga}catch{}}return zt.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED=K0,zt.createPortal=function(e,n){var o=2<arguments.length&&arguments[2]!==void 0?arguments[2]:null;if(!Kc(n))throw Error(s(200));return V0(e,n,null,o)},zt.createRoot=function(e,n){if(!Kc(e))throw Error(s(299));var o=!1,c="",d=yh;return n!=null&&(n.unstable_strictMode===!0&&(o=!0),n.identifierPrefix!==void 0&&(c=n.identifierPrefix),n.onRecoverableError!==void 0&&(d=n.onRecoverableError)),n=Vc(e,1,!1,null,null,o,!1,c,d),e[Vn]=n.current,No(e.nodeType===8?e.parentNode:e),new Gc(n)},zt.findDOMNode=function(e){if(e==null)return null;if(e.nodeType===1)return e;var n=e._reactInternals;if(n===void 0)throw typeof e.render=="function"?Error(s(188)):(e=Object.keys(e).join(","),Error(s(268,e)));return e=Vd(n),e=e===null?null:e.stateNode,e},zt.flushSync=function(e){return Zr(e)},zt.hydrate=function(e,n,o){if(!ha(n))throw Error(s(200));return ma(null,e,n,!0,o)},zt.hydrateRoot=function(e,n,o){if(!Kc(e))throw Error(s(405));var c=o!=null&&o.hydratedSources||null,d=!1,h="",w=yh;if(o!=null&&(o.unstable_strictMode===!0&&(d=!0),o.identifierPrefix!==void 0&&(h=o.identifierPrefix),o.onRecoverableError!==void 0&&(w=o.onRecoverableError)),n=gh(n,null,e,1,o??null,d,!1,h,w),e[Vn]=n.current,No(e),c)for(e=0;e<c.length;e++)o=c[e],d=o._getVersion,d=d(o._source),n.mutableSourceEagerHydrationData==null?n.mutableSourceEagerHydrationData=[o,d]:n.mutableSourceEagerHydrationData.push(o,d);return new pa(n)},zt.render=function(e,n,o){if(!ha(n))throw Error(s(200));return ma(null,e,n,!1,o)},zt.unmountComponentAtNode=function(e){if(!ha(e))throw Error(s(40));return e._reactRootContainer?(Zr(function(){ma(null,null,e,!1,function(){e._reactRootContainer=null,e[Vn]=null})}),!0):!1},zt.unstable_batchedUpdates=zc,zt.unstable_renderSubtreeIntoContainer=function(e,n,o,c){if(!ha(o))throw Error(s(200));if(e==null||e._reactInternals===void 0)throw Error(s(38));return ma(e,n,o,!1,c)},zt.version="18.3.1-next-f1338f8080-20240426",zt}var kh;function Am(){if(kh)return Xc.exports;kh=1;function t(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(t)}catch(r){console.error(r)}}return t(),Xc.exports=nw(),Xc.exports}var Th;function rw(){if(Th)return va;Th=1;var t=Am();return va.createRoot=t.createRoot,va.hydrateRoot=t.hydrateRoot,va}var sw=rw(),m=qu();const te=Yu(m),Lm=X0({__proto__:null,default:te},[m]);/**
- * react-router v7.9.5
- *
- * Copyright (c) Remix Software Inc.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE.md file in the root directory of this source tree.
- *
- * @license MIT
- */var Ph="popstate";function ow(t={}){function r(i,l){let{pathname:u,search:f,hash:p}=i.location;return Cu("",{pathname:u,search:f,hash:p},l.state&&l.state.usr||null,l.state&&l.state.key||"default")}function s(i,l){return typeof l=="string"?l:Zo(l)}return aw(r,s,null,t)}function Je(t,r){if(t===!1||t===null||typeof t>"u")throw new Error(r)}function on(t,r){if(!t){typeof console<"u"&&console.warn(r);try{throw new Error(r)}catch{}}}function iw(){return Math.random().toString(36).substring(2,10)}function Rh(t,r){return{usr:t.state,key:t.key,idx:r}}function Cu(t,r,s=null,i){return{pathname:typeof t=="string"?t:t.pathname,search:"",hash:"",...typeof r=="string"?qs(r):r,state:s,key:r&&r.key||i||iw()}}function Zo({pathname:t="/",search:r="",hash:s=""}){return r&&r!=="?"&&(t+=r.charAt(0)==="?"?r:"?"+r),s&&s!=="#"&&(t+=s.charAt(0)==="#"?s:"#"+s),t}function qs(t){let r={};if(t){let s=t.indexOf("#");s>=0&&(r.hash=t.substring(s),t=t.substring(0,s));let i=t.indexOf("?");i>=0&&(r.search=t.substring(i),t=t.substring(0,i)),t&&(r.pathname=t)}return r}function aw(t,r,s,i={}){let{window:l=document.defaultView,v5Compat:u=!1}=i,f=l.history,p="POP",g=null,y=x();y==null&&(y=0,f.replaceState({...f.state,idx:y},""));function x(){return(f.state||{idx:null}).idx}function v(){p="POP";let b=x(),j=b==null?null:b-y;y=b,g&&g({action:p,location:S.location,delta:j})}function N(b,j){p="PUSH";let k=Cu(S.location,b,j);y=x()+1;let P=Rh(k,y),L=S.createHref(k);try{f.pushState(P,"",L)}catch(B){if(B instanceof DOMException&&B.name==="DataCloneError")throw B;l.location.assign(L)}u&&g&&g({action:p,location:S.location,delta:1})}function C(b,j){p="REPLACE";let k=Cu(S.location,b,j);y=x();let P=Rh(k,y),L=S.createHref(k);f.replaceState(P,"",L),u&&g&&g({action:p,location:S.location,delta:0})}function E(b){return lw(b)}let S={get action(){return p},get location(){return t(l,f)},listen(b){if(g)throw new Error("A history only accepts one active listener");return l.addEventListener(Ph,v),g=b,()=>{l.removeEventListener(Ph,v),g=null}},createHref(b){return r(l,b)},createURL:E,encodeLocation(b){let j=E(b);return{pathname:j.pathname,search:j.search,hash:j.hash}},push:N,replace:C,go(b){return f.go(b)}};return S}function lw(t,r=!1){let s="http://localhost";typeof window<"u"&&(s=window.location.origin!=="null"?window.location.origin:window.location.href),Je(s,"No window.location.(origin|href) available to create URL");let i=typeof t=="string"?t:Zo(t);return i=i.replace(/ $/,"%20"),!r&&i.startsWith("//")&&(i=s+i),new URL(i,s)}function zm(t,r,s="/"){return cw(t,r,s,!1)}function cw(t,r,s,i){let l=typeof r=="string"?qs(r):r,u=nr(l.pathname||"/",s);if(u==null)return null;let f=Fm(t);uw(f);let p=null;for(let g=0;p==null&&g<f.length;++g){let y=bw(u);p=xw(f[g],y,i)}return p}function Fm(t,r=[],s=[],i="",l=!1){let u=(f,p,g=l,y)=>{let x={relativePath:y===void 0?f.path||"":y,caseSensitive:f.caseSensitive===!0,childrenIndex:p,route:f};if(x.relativePath.startsWith("/")){if(!x.relativePath.startsWith(i)&&g)return;Je(x.relativePath.startsWith(i),`Absolute route path "${x.relativePath}" nested under path "${i}" is not valid. An absolute child route path must start with the combined path of all its parent routes.`),x.relativePath=x.relativePath.slice(i.length)}let v=er([i,x.relativePath]),N=s.concat(x);f.children&&f.children.length>0&&(Je(f.index!==!0,`Index routes must not have child routes. Please remove all child routes from route path "${v}".`),Fm(f.children,r,N,v,g)),!(f.path==null&&!f.index)&&r.push({path:v,score:vw(v,f.index),routesMeta:N})};return t.forEach((f,p)=>{if(f.path===""||!f.path?.includes("?"))u(f,p);else for(let g of $m(f.path))u(f,p,!0,g)}),r}function $m(t){let r=t.split("/");if(r.length===0)return[];let[s,...i]=r,l=s.endsWith("?"),u=s.replace(/\?$/,"");if(i.length===0)return l?[u,""]:[u];let f=$m(i.join("/")),p=[];return p.push(...f.map(g=>g===""?u:[u,g].join("/"))),l&&p.push(...f),p.map(g=>t.startsWith("/")&&g===""?"/":g)}function uw(t){t.sort((r,s)=>r.score!==s.score?s.score-r.score:yw(r.routesMeta.map(i=>i.childrenIndex),s.routesMeta.map(i=>i.childrenIndex)))}var dw=/^:[\w-]+$/,fw=3,pw=2,hw=1,mw=10,gw=-2,Dh=t=>t==="*";function vw(t,r){let s=t.split("/"),i=s.length;return s.some(Dh)&&(i+=gw),r&&(i+=pw),s.filter(l=>!Dh(l)).reduce((l,u)=>l+(dw.test(u)?fw:u===""?hw:mw),i)}function yw(t,r){return t.length===r.length&&t.slice(0,-1).every((i,l)=>i===r[l])?t[t.length-1]-r[r.length-1]:0}function xw(t,r,s=!1){let{routesMeta:i}=t,l={},u="/",f=[];for(let p=0;p<i.length;++p){let g=i[p],y=p===i.length-1,x=u==="/"?r:r.slice(u.length)||"/",v=Aa({path:g.relativePath,caseSensitive:g.caseSensitive,end:y},x),N=g.route;if(!v&&y&&s&&!i[i.length-1].route.index&&(v=Aa({path:g.relativePath,caseSensitive:g.caseSensitive,end:!1},x)),!v)return null;Object.assign(l,v.params),f.push({params:l,pathname:er([u,v.pathname]),pathnameBase:jw(er([u,v.pathnameBase])),route:N}),v.pathnameBase!=="/"&&(u=er([u,v.pathnameBase]))}return f}function Aa(t,r){typeof t=="string"&&(t={path:t,caseSensitive:!1,end:!0});let[s,i]=ww(t.path,t.caseSensitive,t.end),l=r.match(s);if(!l)return null;let u=l[0],f=u.replace(/(.)\/+$/,"$1"),p=l.slice(1);return{params:i.reduce((y,{paramName:x,isOptional:v},N)=>{if(x==="*"){let E=p[N]||"";f=u.slice(0,u.length-E.length).replace(/(.)\/+$/,"$1")}const C=p[N];return v&&!C?y[x]=void 0:y[x]=(C||"").replace(/%2F/g,"/"),y},{}),pathname:u,pathnameBase:f,pattern:t}}function ww(t,r=!1,s=!0){on(t==="*"||!t.endsWith("*")||t.endsWith("/*"),`Route path "${t}" will be treated as if it were "${t.replace(/\*$/,"/*")}" because the \`*\` character must always follow a \`/\` in the pattern. To get rid of this warning, please change the route path to "${t.replace(/\*$/,"/*")}".`);let i=[],l="^"+t.replace(/\/*\*?$/,"").replace(/^\/*/,"/").replace(/[\\.*+^${}|()[\]]/g,"\\$&").replace(/\/:([\w-]+)(\?)?/g,(f,p,g)=>(i.push({paramName:p,isOptional:g!=null}),g?"/?([^\\/]+)?":"/([^\\/]+)")).replace(/\/([\w-]+)\?(\/|$)/g,"(/$1)?$2");return t.endsWith("*")?(i.push({paramName:"*"}),l+=t==="*"||t==="/*"?"(.*)$":"(?:\\/(.+)|\\/*)$"):s?l+="\\/*$":t!==""&&t!=="/"&&(l+="(?:(?=\\/|$))"),[new RegExp(l,r?void 0:"i"),i]}function bw(t){try{return t.split("/").map(r=>decodeURIComponent(r).replace(/\//g,"%2F")).join("/")}catch(r){return on(!1,`The URL path "${t}" could not be decoded because it is a malformed URL segment. This is probably due to a bad percent encoding (${r}).`),t}}function nr(t,r){if(r==="/")return t;if(!t.toLowerCase().startsWith(r.toLowerCase()))return null;let s=r.endsWith("/")?r.length-1:r.length,i=t.charAt(s);return i&&i!=="/"?null:t.slice(s)||"/"}function Sw(t,r="/"){let{pathname:s,search:i="",hash:l=""}=typeof t=="string"?qs(t):t;return{pathname:s?s.startsWith("/")?s:Cw(s,r):r,search:Ew(i),hash:kw(l)}}function Cw(t,r){let s=r.replace(/\/+$/,"").split("/");return t.split("/").forEach(l=>{l===".."?s.length>1&&s.pop():l!=="."&&s.push(l)}),s.length>1?s.join("/"):"/"}function Zc(t,r,s,i){return`Cannot include a '${t}' character in a manually specified \`to.${r}\` field [${JSON.stringify(i)}].  Please separate it out to the \`to.${s}\` field. Alternatively you may provide the full path as a string in <Link to="..."> and the router will parse it for you.`}function Nw(t){return t.filter((r,s)=>s===0||r.route.path&&r.route.path.length>0)}function Xu(t){let r=Nw(t);return r.map((s,i)=>i===r.length-1?s.pathname:s.pathnameBase)}function Qu(t,r,s,i=!1){let l;typeof t=="string"?l=qs(t):(l={...t},Je(!l.pathname||!l.pathname.includes("?"),Zc("?","pathname","search",l)),Je(!l.pathname||!l.pathname.includes("#"),Zc("#","pathname","hash",l)),Je(!l.search||!l.search.includes("#"),Zc("#","search","hash",l)));let u=t===""||l.pathname==="",f=u?"/":l.pathname,p;if(f==null)p=s;else{let v=r.length-1;if(!i&&f.startsWith("..")){let N=f.split("/");for(;N[0]==="..";)N.shift(),v-=1;l.pathname=N.join("/")}p=v>=0?r[v]:"/"}let g=Sw(l,p),y=f&&f!=="/"&&f.endsWith("/"),x=(u||f===".")&&s.endsWith("/");return!g.pathname.endsWith("/")&&(y||x)&&(g.pathname+="/"),g}var er=t=>t.join("/").replace(/\/\/+/g,"/"),jw=t=>t.replace(/\/+$/,"").replace(/^\/*/,"/"),Ew=t=>!t||t==="?"?"":t.startsWith("?")?t:"?"+t,kw=t=>!t||t==="#"?"":t.startsWith("#")?t:"#"+t;function Tw(t){return t!=null&&typeof t.status=="number"&&typeof t.statusText=="string"&&typeof t.internal=="boolean"&&"data"in t}Object.getOwnPropertyNames(Object.prototype).sort().join("\0");var Hm=["POST","PUT","PATCH","DELETE"];new Set(Hm);var Pw=["GET",...Hm];new Set(Pw);var Xs=m.createContext(null);Xs.displayName="DataRouter";var Va=m.createContext(null);Va.displayName="DataRouterState";m.createContext(!1);var Bm=m.createContext({isTransitioning:!1});Bm.displayName="ViewTransition";var Rw=m.createContext(new Map);Rw.displayName="Fetchers";var Dw=m.createContext(null);Dw.displayName="Await";var bn=m.createContext(null);bn.displayName="Navigation";var ri=m.createContext(null);ri.displayName="Location";var Sn=m.createContext({outlet:null,matches:[],isDataRoute:!1});Sn.displayName="Route";var Ju=m.createContext(null);Ju.displayName="RouteError";function Iw(t,{relative:r}={}){Je(Qs(),"useHref() may be used only in the context of a <Router> component.");let{basename:s,navigator:i}=m.useContext(bn),{hash:l,pathname:u,search:f}=si(t,{relative:r}),p=u;return s!=="/"&&(p=u==="/"?s:er([s,u])),i.createHref({pathname:p,search:f,hash:l})}function Qs(){return m.useContext(ri)!=null}function Fn(){return Je(Qs(),"useLocation() may be used only in the context of a <Router> component."),m.useContext(ri).location}var Um="You should call navigate() in a React.useEffect(), not when your component is first rendered.";function Vm(t){m.useContext(bn).static||m.useLayoutEffect(t)}function or(){let{isDataRoute:t}=m.useContext(Sn);return t?Gw():Ow()}function Ow(){Je(Qs(),"useNavigate() may be used only in the context of a <Router> component.");let t=m.useContext(Xs),{basename:r,navigator:s}=m.useContext(bn),{matches:i}=m.useContext(Sn),{pathname:l}=Fn(),u=JSON.stringify(Xu(i)),f=m.useRef(!1);return Vm(()=>{f.current=!0}),m.useCallback((g,y={})=>{if(on(f.current,Um),!f.current)return;if(typeof g=="number"){s.go(g);return}let x=Qu(g,JSON.parse(u),l,y.relative==="path");t==null&&r!=="/"&&(x.pathname=x.pathname==="/"?r:er([r,x.pathname])),(y.replace?s.replace:s.push)(x,y.state,y)},[r,s,u,l,t])}m.createContext(null);function _w(){let{matches:t}=m.useContext(Sn),r=t[t.length-1];return r?r.params:{}}function si(t,{relative:r}={}){let{matches:s}=m.useContext(Sn),{pathname:i}=Fn(),l=JSON.stringify(Xu(s));return m.useMemo(()=>Qu(t,JSON.parse(l),i,r==="path"),[t,l,i,r])}function Mw(t,r){return Wm(t,r)}function Wm(t,r,s,i,l){Je(Qs(),"useRoutes() may be used only in the context of a <Router> component.");let{navigator:u}=m.useContext(bn),{matches:f}=m.useContext(Sn),p=f[f.length-1],g=p?p.params:{},y=p?p.pathname:"/",x=p?p.pathnameBase:"/",v=p&&p.route;{let k=v&&v.path||"";Gm(y,!v||k.endsWith("*")||k.endsWith("*?"),`You rendered descendant <Routes> (or called \`useRoutes()\`) at "${y}" (under <Route path="${k}">) but the parent route path has no trailing "*". This means if you navigate deeper, the parent won't match anymore and therefore the child routes will never render.
-
-Please change the parent <Route path="${k}"> to <Route path="${k==="/"?"*":`${k}/*`}">.`)}let N=Fn(),C;if(r){let k=typeof r=="string"?qs(r):r;Je(x==="/"||k.pathname?.startsWith(x),`When overriding the location using \`<Routes location>\` or \`useRoutes(routes, location)\`, the location pathname must begin with the portion of the URL pathname that was matched by all parent routes. The current pathname base is "${x}" but pathname "${k.pathname}" was given in the \`location\` prop.`),C=k}else C=N;let E=C.pathname||"/",S=E;if(x!=="/"){let k=x.replace(/^\//,"").split("/");S="/"+E.replace(/^\//,"").split("/").slice(k.length).join("/")}let b=zm(t,{pathname:S});on(v||b!=null,`No routes matched location "${C.pathname}${C.search}${C.hash}" `),on(b==null||b[b.length-1].route.element!==void 0||b[b.length-1].route.Component!==void 0||b[b.length-1].route.lazy!==void 0,`Matched leaf route at location "${C.pathname}${C.search}${C.hash}" does not have an element or Component. This means it will render an <Outlet /> with a null value by default resulting in an "empty" page.`);let j=$w(b&&b.map(k=>Object.assign({},k,{params:Object.assign({},g,k.params),pathname:er([x,u.encodeLocation?u.encodeLocation(k.pathname.replace(/\?/g,"%3F").replace(/#/g,"%23")).pathname:k.pathname]),pathnameBase:k.pathnameBase==="/"?x:er([x,u.encodeLocation?u.encodeLocation(k.pathnameBase.replace(/\?/g,"%3F").replace(/#/g,"%23")).pathname:k.pathnameBase])})),f,s,i,l);return r&&j?m.createElement(ri.Provider,{value:{location:{pathname:"/",search:"",hash:"",state:null,key:"default",...C},navigationType:"POP"}},j):j}function Aw(){let t=Ww(),r=Tw(t)?`${t.status} ${t.statusText}`:t instanceof Error?t.message:JSON.stringify(t),s=t instanceof Error?t.stack:null,i="rgba(200,200,200, 0.5)",l={padding:"0.5rem",backgroundColor:i},u={padding:"2px 4px",backgroundColor:i},f=null;return console.error("Error handled by React Router default ErrorBoundary:",t),f=m.createElement(m.Fragment,null,m.createElement("p",null,"💿 Hey developer 👋"),m.createElement("p",null,"You can provide a way better UX than this when your app throws errors by providing your own ",m.createElement("code",{style:u},"ErrorBoundary")," or"," ",m.createElement("code",{style:u},"errorElement")," prop on your route.")),m.createElement(m.Fragment,null,m.createElement("h2",null,"Unexpected Application Error!"),m.createElement("h3",{style:{fontStyle:"italic"}},r),s?m.createElement("pre",{style:l},s):null,f)}var Lw=m.createElement(Aw,null),zw=class extends m.Component{constructor(t){super(t),this.state={location:t.location,revalidation:t.revalidation,error:t.error}}static getDerivedStateFromError(t){return{error:t}}static getDerivedStateFromProps(t,r){return r.location!==t.location||r.revalidation!=="idle"&&t.revalidation==="idle"?{error:t.error,location:t.location,revalidation:t.revalidation}:{error:t.error!==void 0?t.error:r.error,location:r.location,revalidation:t.revalidation||r.revalidation}}componentDidCatch(t,r){this.props.unstable_onError?this.props.unstable_onError(t,r):console.error("React Router caught the following error during render",t)}render(){return this.state.error!==void 0?m.createElement(Sn.Provider,{value:this.props.routeContext},m.createElement(Ju.Provider,{value:this.state.error,children:this.props.component})):this.props.children}};function Fw({routeContext:t,match:r,children:s}){let i=m.useContext(Xs);return i&&i.static&&i.staticContext&&(r.route.errorElement||r.route.ErrorBoundary)&&(i.staticContext._deepestRenderedBoundaryId=r.route.id),m.createElement(Sn.Provider,{value:t},s)}function $w(t,r=[],s=null,i=null,l=null){if(t==null){if(!s)return null;if(s.errors)t=s.matches;else if(r.length===0&&!s.initialized&&s.matches.length>0)t=s.matches;else return null}let u=t,f=s?.errors;if(f!=null){let y=u.findIndex(x=>x.route.id&&f?.[x.route.id]!==void 0);Je(y>=0,`Could not find a matching route for errors on route IDs: ${Object.keys(f).join(",")}`),u=u.slice(0,Math.min(u.length,y+1))}let p=!1,g=-1;if(s)for(let y=0;y<u.length;y++){let x=u[y];if((x.route.HydrateFallback||x.route.hydrateFallbackElement)&&(g=y),x.route.id){let{loaderData:v,errors:N}=s,C=x.route.loader&&!v.hasOwnProperty(x.route.id)&&(!N||N[x.route.id]===void 0);if(x.route.lazy||C){p=!0,g>=0?u=u.slice(0,g+1):u=[u[0]];break}}}return u.reduceRight((y,x,v)=>{let N,C=!1,E=null,S=null;s&&(N=f&&x.route.id?f[x.route.id]:void 0,E=x.route.errorElement||Lw,p&&(g<0&&v===0?(Gm("route-fallback",!1,"No `HydrateFallback` element provided to render during initial hydration"),C=!0,S=null):g===v&&(C=!0,S=x.route.hydrateFallbackElement||null)));let b=r.concat(u.slice(0,v+1)),j=()=>{let k;return N?k=E:C?k=S:x.route.Component?k=m.createElement(x.route.Component,null):x.route.element?k=x.route.element:k=y,m.createElement(Fw,{match:x,routeContext:{outlet:y,matches:b,isDataRoute:s!=null},children:k})};return s&&(x.route.ErrorBoundary||x.route.errorElement||v===0)?m.createElement(zw,{location:s.location,revalidation:s.revalidation,component:E,error:N,children:j(),routeContext:{outlet:null,matches:b,isDataRoute:!0},unstable_onError:i}):j()},null)}function Zu(t){return`${t} must be used within a data router.  See https://reactrouter.com/en/main/routers/picking-a-router.`}function Hw(t){let r=m.useContext(Xs);return Je(r,Zu(t)),r}function Bw(t){let r=m.useContext(Va);return Je(r,Zu(t)),r}function Uw(t){let r=m.useContext(Sn);return Je(r,Zu(t)),r}function ed(t){let r=Uw(t),s=r.matches[r.matches.length-1];return Je(s.route.id,`${t} can only be used on routes that contain a unique "id"`),s.route.id}function Vw(){return ed("useRouteId")}function Ww(){let t=m.useContext(Ju),r=Bw("useRouteError"),s=ed("useRouteError");return t!==void 0?t:r.errors?.[s]}function Gw(){let{router:t}=Hw("useNavigate"),r=ed("useNavigate"),s=m.useRef(!1);return Vm(()=>{s.current=!0}),m.useCallback(async(l,u={})=>{on(s.current,Um),s.current&&(typeof l=="number"?t.navigate(l):await t.navigate(l,{fromRouteId:r,...u}))},[t,r])}var Ih={};function Gm(t,r,s){!r&&!Ih[t]&&(Ih[t]=!0,on(!1,s))}m.memo(Kw);function Kw({routes:t,future:r,state:s,unstable_onError:i}){return Wm(t,void 0,s,i,r)}function Wa({to:t,replace:r,state:s,relative:i}){Je(Qs(),"<Navigate> may be used only in the context of a <Router> component.");let{static:l}=m.useContext(bn);on(!l,"<Navigate> must not be used on the initial render in a <StaticRouter>. This is a no-op, but you should modify your code so the <Navigate> is only ever rendered in response to some user interaction or state change.");let{matches:u}=m.useContext(Sn),{pathname:f}=Fn(),p=or(),g=Qu(t,Xu(u),f,i==="path"),y=JSON.stringify(g);return m.useEffect(()=>{p(JSON.parse(y),{replace:r,state:s,relative:i})},[p,y,i,r,s]),null}function Dn(t){Je(!1,"A <Route> is only ever to be used as the child of <Routes> element, never rendered directly. Please wrap your <Route> in a <Routes>.")}function Yw({basename:t="/",children:r=null,location:s,navigationType:i="POP",navigator:l,static:u=!1}){Je(!Qs(),"You cannot render a <Router> inside another <Router>. You should never have more than one in your app.");let f=t.replace(/^\/*/,"/"),p=m.useMemo(()=>({basename:f,navigator:l,static:u,future:{}}),[f,l,u]);typeof s=="string"&&(s=qs(s));let{pathname:g="/",search:y="",hash:x="",state:v=null,key:N="default"}=s,C=m.useMemo(()=>{let E=nr(g,f);return E==null?null:{location:{pathname:E,search:y,hash:x,state:v,key:N},navigationType:i}},[f,g,y,x,v,N,i]);return on(C!=null,`<Router basename="${f}"> is not able to match the URL "${g}${y}${x}" because it does not start with the basename, so the <Router> won't render anything.`),C==null?null:m.createElement(bn.Provider,{value:p},m.createElement(ri.Provider,{children:r,value:C}))}function Km({children:t,location:r}){return Mw(Nu(t),r)}function Nu(t,r=[]){let s=[];return m.Children.forEach(t,(i,l)=>{if(!m.isValidElement(i))return;let u=[...r,l];if(i.type===m.Fragment){s.push.apply(s,Nu(i.props.children,u));return}Je(i.type===Dn,`[${typeof i.type=="string"?i.type:i.type.name}] is not a <Route> component. All component children of <Routes> must be a <Route> or <React.Fragment>`),Je(!i.props.index||!i.props.children,"An index route cannot have child routes.");let f={id:i.props.id||u.join("-"),caseSensitive:i.props.caseSensitive,element:i.props.element,Component:i.props.Component,index:i.props.index,path:i.props.path,middleware:i.props.middleware,loader:i.props.loader,action:i.props.action,hydrateFallbackElement:i.props.hydrateFallbackElement,HydrateFallback:i.props.HydrateFallback,errorElement:i.props.errorElement,ErrorBoundary:i.props.ErrorBoundary,hasErrorBoundary:i.props.hasErrorBoundary===!0||i.props.ErrorBoundary!=null||i.props.errorElement!=null,shouldRevalidate:i.props.shouldRevalidate,handle:i.props.handle,lazy:i.props.lazy};i.props.children&&(f.children=Nu(i.props.children,u)),s.push(f)}),s}var Pa="get",Ra="application/x-www-form-urlencoded";function Ga(t){return t!=null&&typeof t.tagName=="string"}function qw(t){return Ga(t)&&t.tagName.toLowerCase()==="button"}function Xw(t){return Ga(t)&&t.tagName.toLowerCase()==="form"}function Qw(t){return Ga(t)&&t.tagName.toLowerCase()==="input"}function Jw(t){return!!(t.metaKey||t.altKey||t.ctrlKey||t.shiftKey)}function Zw(t,r){return t.button===0&&(!r||r==="_self")&&!Jw(t)}function ju(t=""){return new URLSearchParams(typeof t=="string"||Array.isArray(t)||t instanceof URLSearchParams?t:Object.keys(t).reduce((r,s)=>{let i=t[s];return r.concat(Array.isArray(i)?i.map(l=>[s,l]):[[s,i]])},[]))}function e1(t,r){let s=ju(t);return r&&r.forEach((i,l)=>{s.has(l)||r.getAll(l).forEach(u=>{s.append(l,u)})}),s}var ya=null;function t1(){if(ya===null)try{new FormData(document.createElement("form"),0),ya=!1}catch{ya=!0}return ya}var n1=new Set(["application/x-www-form-urlencoded","multipart/form-data","text/plain"]);function eu(t){return t!=null&&!n1.has(t)?(on(!1,`"${t}" is not a valid \`encType\` for \`<Form>\`/\`<fetcher.Form>\` and will default to "${Ra}"`),null):t}function r1(t,r){let s,i,l,u,f;if(Xw(t)){let p=t.getAttribute("action");i=p?nr(p,r):null,s=t.getAttribute("method")||Pa,l=eu(t.getAttribute("enctype"))||Ra,u=new FormData(t)}else if(qw(t)||Qw(t)&&(t.type==="submit"||t.type==="image")){let p=t.form;if(p==null)throw new Error('Cannot submit a <button> or <input type="submit"> without a <form>');let g=t.getAttribute("formaction")||p.getAttribute("action");if(i=g?nr(g,r):null,s=t.getAttribute("formmethod")||p.getAttribute("method")||Pa,l=eu(t.getAttribute("formenctype"))||eu(p.getAttribute("enctype"))||Ra,u=new FormData(p,t),!t1()){let{name:y,type:x,value:v}=t;if(x==="image"){let N=y?`${y}.`:"";u.append(`${N}x`,"0"),u.append(`${N}y`,"0")}else y&&u.append(y,v)}}else{if(Ga(t))throw new Error('Cannot submit element that is not <form>, <button>, or <input type="submit|image">');s=Pa,i=null,l=Ra,f=t}return u&&l==="text/plain"&&(f=u,u=void 0),{action:i,method:s.toLowerCase(),encType:l,formData:u,body:f}}Object.getOwnPropertyNames(Object.prototype).sort().join("\0");function td(t,r){if(t===!1||t===null||typeof t>"u")throw new Error(r)}function s1(t,r,s){let i=typeof t=="string"?new URL(t,typeof window>"u"?"server://singlefetch/":window.location.origin):t;return i.pathname==="/"?i.pathname=`_root.${s}`:r&&nr(i.pathname,r)==="/"?i.pathname=`${r.replace(/\/$/,"")}/_root.${s}`:i.pathname=`${i.pathname.replace(/\/$/,"")}.${s}`,i}async function o1(t,r){if(t.id in r)return r[t.id];try{let s=await import(t.module);return r[t.id]=s,s}catch(s){return console.error(`Error loading route module \`${t.module}\`, reloading page...`),console.error(s),window.__reactRouterContext&&window.__reactRouterContext.isSpaMode,window.location.reload(),new Promise(()=>{})}}function i1(t){return t==null?!1:t.href==null?t.rel==="preload"&&typeof t.imageSrcSet=="string"&&typeof t.imageSizes=="string":typeof t.rel=="string"&&typeof t.href=="string"}async function a1(t,r,s){let i=await Promise.all(t.map(async l=>{let u=r.routes[l.route.id];if(u){let f=await o1(u,s);return f.links?f.links():[]}return[]}));return d1(i.flat(1).filter(i1).filter(l=>l.rel==="stylesheet"||l.rel==="preload").map(l=>l.rel==="stylesheet"?{...l,rel:"prefetch",as:"style"}:{...l,rel:"prefetch"}))}function Oh(t,r,s,i,l,u){let f=(g,y)=>s[y]?g.route.id!==s[y].route.id:!0,p=(g,y)=>s[y].pathname!==g.pathname||s[y].route.path?.endsWith("*")&&s[y].params["*"]!==g.params["*"];return u==="assets"?r.filter((g,y)=>f(g,y)||p(g,y)):u==="data"?r.filter((g,y)=>{let x=i.routes[g.route.id];if(!x||!x.hasLoader)return!1;if(f(g,y)||p(g,y))return!0;if(g.route.shouldRevalidate){let v=g.route.shouldRevalidate({currentUrl:new URL(l.pathname+l.search+l.hash,window.origin),currentParams:s[0]?.params||{},nextUrl:new URL(t,window.origin),nextParams:g.params,defaultShouldRevalidate:!0});if(typeof v=="boolean")return v}return!0}):[]}function l1(t,r,{includeHydrateFallback:s}={}){return c1(t.map(i=>{let l=r.routes[i.route.id];if(!l)return[];let u=[l.module];return l.clientActionModule&&(u=u.concat(l.clientActionModule)),l.clientLoaderModule&&(u=u.concat(l.clientLoaderModule)),s&&l.hydrateFallbackModule&&(u=u.concat(l.hydrateFallbackModule)),l.imports&&(u=u.concat(l.imports)),u}).flat(1))}function c1(t){return[...new Set(t)]}function u1(t){let r={},s=Object.keys(t).sort();for(let i of s)r[i]=t[i];return r}function d1(t,r){let s=new Set;return new Set(r),t.reduce((i,l)=>{let u=JSON.stringify(u1(l));return s.has(u)||(s.add(u),i.push({key:u,link:l})),i},[])}function Ym(){let t=m.useContext(Xs);return td(t,"You must render this element inside a <DataRouterContext.Provider> element"),t}function f1(){let t=m.useContext(Va);return td(t,"You must render this element inside a <DataRouterStateContext.Provider> element"),t}var nd=m.createContext(void 0);nd.displayName="FrameworkContext";function qm(){let t=m.useContext(nd);return td(t,"You must render this element inside a <HydratedRouter> element"),t}function p1(t,r){let s=m.useContext(nd),[i,l]=m.useState(!1),[u,f]=m.useState(!1),{onFocus:p,onBlur:g,onMouseEnter:y,onMouseLeave:x,onTouchStart:v}=r,N=m.useRef(null);m.useEffect(()=>{if(t==="render"&&f(!0),t==="viewport"){let S=j=>{j.forEach(k=>{f(k.isIntersecting)})},b=new IntersectionObserver(S,{threshold:.5});return N.current&&b.observe(N.current),()=>{b.disconnect()}}},[t]),m.useEffect(()=>{if(i){let S=setTimeout(()=>{f(!0)},100);return()=>{clearTimeout(S)}}},[i]);let C=()=>{l(!0)},E=()=>{l(!1),f(!1)};return s?t!=="intent"?[u,N,{}]:[u,N,{onFocus:Uo(p,C),onBlur:Uo(g,E),onMouseEnter:Uo(y,C),onMouseLeave:Uo(x,E),onTouchStart:Uo(v,C)}]:[!1,N,{}]}function Uo(t,r){return s=>{t&&t(s),s.defaultPrevented||r(s)}}function h1({page:t,...r}){let{router:s}=Ym(),i=m.useMemo(()=>zm(s.routes,t,s.basename),[s.routes,t,s.basename]);return i?m.createElement(g1,{page:t,matches:i,...r}):null}function m1(t){let{manifest:r,routeModules:s}=qm(),[i,l]=m.useState([]);return m.useEffect(()=>{let u=!1;return a1(t,r,s).then(f=>{u||l(f)}),()=>{u=!0}},[t,r,s]),i}function g1({page:t,matches:r,...s}){let i=Fn(),{manifest:l,routeModules:u}=qm(),{basename:f}=Ym(),{loaderData:p,matches:g}=f1(),y=m.useMemo(()=>Oh(t,r,g,l,i,"data"),[t,r,g,l,i]),x=m.useMemo(()=>Oh(t,r,g,l,i,"assets"),[t,r,g,l,i]),v=m.useMemo(()=>{if(t===i.pathname+i.search+i.hash)return[];let E=new Set,S=!1;if(r.forEach(j=>{let k=l.routes[j.route.id];!k||!k.hasLoader||(!y.some(P=>P.route.id===j.route.id)&&j.route.id in p&&u[j.route.id]?.shouldRevalidate||k.hasClientLoader?S=!0:E.add(j.route.id))}),E.size===0)return[];let b=s1(t,f,"data");return S&&E.size>0&&b.searchParams.set("_routes",r.filter(j=>E.has(j.route.id)).map(j=>j.route.id).join(",")),[b.pathname+b.search]},[f,p,i,l,y,r,t,u]),N=m.useMemo(()=>l1(x,l),[x,l]),C=m1(x);return m.createElement(m.Fragment,null,v.map(E=>m.createElement("link",{key:E,rel:"prefetch",as:"fetch",href:E,...s})),N.map(E=>m.createElement("link",{key:E,rel:"modulepreload",href:E,...s})),C.map(({key:E,link:S})=>m.createElement("link",{key:E,nonce:s.nonce,...S})))}function v1(...t){return r=>{t.forEach(s=>{typeof s=="function"?s(r):s!=null&&(s.current=r)})}}var Xm=typeof window<"u"&&typeof window.document<"u"&&typeof window.document.createElement<"u";try{Xm&&(window.__reactRouterVersion="7.9.5")}catch{}function y1({basename:t,children:r,window:s}){let i=m.useRef();i.current==null&&(i.current=ow({window:s,v5Compat:!0}));let l=i.current,[u,f]=m.useState({action:l.action,location:l.location}),p=m.useCallback(g=>{m.startTransition(()=>f(g))},[f]);return m.useLayoutEffect(()=>l.listen(p),[l,p]),m.createElement(Yw,{basename:t,children:r,location:u.location,navigationType:u.action,navigator:l})}var Qm=/^(?:[a-z][a-z0-9+.-]*:|\/\/)/i,Jm=m.forwardRef(function({onClick:r,discover:s="render",prefetch:i="none",relative:l,reloadDocument:u,replace:f,state:p,target:g,to:y,preventScrollReset:x,viewTransition:v,...N},C){let{basename:E}=m.useContext(bn),S=typeof y=="string"&&Qm.test(y),b,j=!1;if(typeof y=="string"&&S&&(b=y,Xm))try{let se=new URL(window.location.href),ae=y.startsWith("//")?new URL(se.protocol+y):new URL(y),we=nr(ae.pathname,E);ae.origin===se.origin&&we!=null?y=we+ae.search+ae.hash:j=!0}catch{on(!1,`<Link to="${y}"> contains an invalid URL which will probably break when clicked - please update to a valid URL path.`)}let k=Iw(y,{relative:l}),[P,L,B]=p1(i,N),W=b1(y,{replace:f,state:p,target:g,preventScrollReset:x,relative:l,viewTransition:v});function G(se){r&&r(se),se.defaultPrevented||W(se)}let H=m.createElement("a",{...N,...B,href:b||k,onClick:j||u?r:G,ref:v1(C,L),target:g,"data-discover":!S&&s==="render"?"true":void 0});return P&&!S?m.createElement(m.Fragment,null,H,m.createElement(h1,{page:k})):H});Jm.displayName="Link";var Eu=m.forwardRef(function({"aria-current":r="page",caseSensitive:s=!1,className:i="",end:l=!1,style:u,to:f,viewTransition:p,children:g,...y},x){let v=si(f,{relative:y.relative}),N=Fn(),C=m.useContext(Va),{navigator:E,basename:S}=m.useContext(bn),b=C!=null&&k1(v)&&p===!0,j=E.encodeLocation?E.encodeLocation(v).pathname:v.pathname,k=N.pathname,P=C&&C.navigation&&C.navigation.location?C.navigation.location.pathname:null;s||(k=k.toLowerCase(),P=P?P.toLowerCase():null,j=j.toLowerCase()),P&&S&&(P=nr(P,S)||P);const L=j!=="/"&&j.endsWith("/")?j.length-1:j.length;let B=k===j||!l&&k.startsWith(j)&&k.charAt(L)==="/",W=P!=null&&(P===j||!l&&P.startsWith(j)&&P.charAt(j.length)==="/"),G={isActive:B,isPending:W,isTransitioning:b},H=B?r:void 0,se;typeof i=="function"?se=i(G):se=[i,B?"active":null,W?"pending":null,b?"transitioning":null].filter(Boolean).join(" ");let ae=typeof u=="function"?u(G):u;return m.createElement(Jm,{...y,"aria-current":H,className:se,ref:x,style:ae,to:f,viewTransition:p},typeof g=="function"?g(G):g)});Eu.displayName="NavLink";var x1=m.forwardRef(({discover:t="render",fetcherKey:r,navigate:s,reloadDocument:i,replace:l,state:u,method:f=Pa,action:p,onSubmit:g,relative:y,preventScrollReset:x,viewTransition:v,...N},C)=>{let E=j1(),S=E1(p,{relative:y}),b=f.toLowerCase()==="get"?"get":"post",j=typeof p=="string"&&Qm.test(p),k=P=>{if(g&&g(P),P.defaultPrevented)return;P.preventDefault();let L=P.nativeEvent.submitter,B=L?.getAttribute("formmethod")||f;E(L||P.currentTarget,{fetcherKey:r,method:B,navigate:s,replace:l,state:u,relative:y,preventScrollReset:x,viewTransition:v})};return m.createElement("form",{ref:C,method:b,action:S,onSubmit:i?g:k,...N,"data-discover":!j&&t==="render"?"true":void 0})});x1.displayName="Form";function w1(t){return`${t} must be used within a data router.  See https://reactrouter.com/en/main/routers/picking-a-router.`}function Zm(t){let r=m.useContext(Xs);return Je(r,w1(t)),r}function b1(t,{target:r,replace:s,state:i,preventScrollReset:l,relative:u,viewTransition:f}={}){let p=or(),g=Fn(),y=si(t,{relative:u});return m.useCallback(x=>{if(Zw(x,r)){x.preventDefault();let v=s!==void 0?s:Zo(g)===Zo(y);p(t,{replace:v,state:i,preventScrollReset:l,relative:u,viewTransition:f})}},[g,p,y,s,i,r,t,l,u,f])}function S1(t){on(typeof URLSearchParams<"u","You cannot use the `useSearchParams` hook in a browser that does not support the URLSearchParams API. If you need to support Internet Explorer 11, we recommend you load a polyfill such as https://github.com/ungap/url-search-params.");let r=m.useRef(ju(t)),s=m.useRef(!1),i=Fn(),l=m.useMemo(()=>e1(i.search,s.current?null:r.current),[i.search]),u=or(),f=m.useCallback((p,g)=>{const y=ju(typeof p=="function"?p(new URLSearchParams(l)):p);s.current=!0,u("?"+y,g)},[u,l]);return[l,f]}var C1=0,N1=()=>`__${String(++C1)}__`;function j1(){let{router:t}=Zm("useSubmit"),{basename:r}=m.useContext(bn),s=Vw();return m.useCallback(async(i,l={})=>{let{action:u,method:f,encType:p,formData:g,body:y}=r1(i,r);if(l.navigate===!1){let x=l.fetcherKey||N1();await t.fetch(x,s,l.action||u,{preventScrollReset:l.preventScrollReset,formData:g,body:y,formMethod:l.method||f,formEncType:l.encType||p,flushSync:l.flushSync})}else await t.navigate(l.action||u,{preventScrollReset:l.preventScrollReset,formData:g,body:y,formMethod:l.method||f,formEncType:l.encType||p,replace:l.replace,state:l.state,fromRouteId:s,flushSync:l.flushSync,viewTransition:l.viewTransition})},[t,r,s])}function E1(t,{relative:r}={}){let{basename:s}=m.useContext(bn),i=m.useContext(Sn);Je(i,"useFormAction must be used inside a RouteContext");let[l]=i.matches.slice(-1),u={...si(t||".",{relative:r})},f=Fn();if(t==null){u.search=f.search;let p=new URLSearchParams(u.search),g=p.getAll("index");if(g.some(x=>x==="")){p.delete("index"),g.filter(v=>v).forEach(v=>p.append("index",v));let x=p.toString();u.search=x?`?${x}`:""}}return(!t||t===".")&&l.route.index&&(u.search=u.search?u.search.replace(/^\?/,"?index&"):"?index"),s!=="/"&&(u.pathname=u.pathname==="/"?s:er([s,u.pathname])),Zo(u)}function k1(t,{relative:r}={}){let s=m.useContext(Bm);Je(s!=null,"`useViewTransitionState` must be used within `react-router-dom`'s `RouterProvider`.  Did you accidentally import `RouterProvider` from `react-router`?");let{basename:i}=Zm("useViewTransitionState"),l=si(t,{relative:r});if(!s.isTransitioning)return!1;let u=nr(s.currentLocation.pathname,i)||s.currentLocation.pathname,f=nr(s.nextLocation.pathname,i)||s.nextLocation.pathname;return Aa(l.pathname,f)!=null||Aa(l.pathname,u)!=null}var oi=Am();const eg=Yu(oi);function tg(t){var r,s,i="";if(typeof t=="string"||typeof t=="number")i+=t;else if(typeof t=="object")if(Array.isArray(t)){var l=t.length;for(r=0;r<l;r++)t[r]&&(s=tg(t[r]))&&(i&&(i+=" "),i+=s)}else for(s in t)t[s]&&(i&&(i+=" "),i+=s);return i}function ng(){for(var t,r,s=0,i="",l=arguments.length;s<l;s++)(t=arguments[s])&&(r=tg(t))&&(i&&(i+=" "),i+=r);return i}const rd="-",T1=t=>{const r=R1(t),{conflictingClassGroups:s,conflictingClassGroupModifiers:i}=t;return{getClassGroupId:f=>{const p=f.split(rd);return p[0]===""&&p.length!==1&&p.shift(),rg(p,r)||P1(f)},getConflictingClassGroupIds:(f,p)=>{const g=s[f]||[];return p&&i[f]?[...g,...i[f]]:g}}},rg=(t,r)=>{if(t.length===0)return r.classGroupId;const s=t[0],i=r.nextPart.get(s),l=i?rg(t.slice(1),i):void 0;if(l)return l;if(r.validators.length===0)return;const u=t.join(rd);return r.validators.find(({validator:f})=>f(u))?.classGroupId},_h=/^\[(.+)\]$/,P1=t=>{if(_h.test(t)){const r=_h.exec(t)[1],s=r?.substring(0,r.indexOf(":"));if(s)return"arbitrary.."+s}},R1=t=>{const{theme:r,classGroups:s}=t,i={nextPart:new Map,validators:[]};for(const l in s)ku(s[l],i,l,r);return i},ku=(t,r,s,i)=>{t.forEach(l=>{if(typeof l=="string"){const u=l===""?r:Mh(r,l);u.classGroupId=s;return}if(typeof l=="function"){if(D1(l)){ku(l(i),r,s,i);return}r.validators.push({validator:l,classGroupId:s});return}Object.entries(l).forEach(([u,f])=>{ku(f,Mh(r,u),s,i)})})},Mh=(t,r)=>{let s=t;return r.split(rd).forEach(i=>{s.nextPart.has(i)||s.nextPart.set(i,{nextPart:new Map,validators:[]}),s=s.nextPart.get(i)}),s},D1=t=>t.isThemeGetter,I1=t=>{if(t<1)return{get:()=>{},set:()=>{}};let r=0,s=new Map,i=new Map;const l=(u,f)=>{s.set(u,f),r++,r>t&&(r=0,i=s,s=new Map)};return{get(u){let f=s.get(u);if(f!==void 0)return f;if((f=i.get(u))!==void 0)return l(u,f),f},set(u,f){s.has(u)?s.set(u,f):l(u,f)}}},Tu="!",Pu=":",O1=Pu.length,_1=t=>{const{prefix:r,experimentalParseClassName:s}=t;let i=l=>{const u=[];let f=0,p=0,g=0,y;for(let E=0;E<l.length;E++){let S=l[E];if(f===0&&p===0){if(S===Pu){u.push(l.slice(g,E)),g=E+O1;continue}if(S==="/"){y=E;continue}}S==="["?f++:S==="]"?f--:S==="("?p++:S===")"&&p--}const x=u.length===0?l:l.substring(g),v=M1(x),N=v!==x,C=y&&y>g?y-g:void 0;return{modifiers:u,hasImportantModifier:N,baseClassName:v,maybePostfixModifierPosition:C}};if(r){const l=r+Pu,u=i;i=f=>f.startsWith(l)?u(f.substring(l.length)):{isExternal:!0,modifiers:[],hasImportantModifier:!1,baseClassName:f,maybePostfixModifierPosition:void 0}}if(s){const l=i;i=u=>s({className:u,parseClassName:l})}return i},M1=t=>t.endsWith(Tu)?t.substring(0,t.length-1):t.startsWith(Tu)?t.substring(1):t,A1=t=>{const r=Object.fromEntries(t.orderSensitiveModifiers.map(i=>[i,!0]));return i=>{if(i.length<=1)return i;const l=[];let u=[];return i.forEach(f=>{f[0]==="["||r[f]?(l.push(...u.sort(),f),u=[]):u.push(f)}),l.push(...u.sort()),l}},L1=t=>({cache:I1(t.cacheSize),parseClassName:_1(t),sortModifiers:A1(t),...T1(t)}),z1=/\s+/,F1=(t,r)=>{const{parseClassName:s,getClassGroupId:i,getConflictingClassGroupIds:l,sortModifiers:u}=r,f=[],p=t.trim().split(z1);let g="";for(let y=p.length-1;y>=0;y-=1){const x=p[y],{isExternal:v,modifiers:N,hasImportantModifier:C,baseClassName:E,maybePostfixModifierPosition:S}=s(x);if(v){g=x+(g.length>0?" "+g:g);continue}let b=!!S,j=i(b?E.substring(0,S):E);if(!j){if(!b){g=x+(g.length>0?" "+g:g);continue}if(j=i(E),!j){g=x+(g.length>0?" "+g:g);continue}b=!1}const k=u(N).join(":"),P=C?k+Tu:k,L=P+j;if(f.includes(L))continue;f.push(L);const B=l(j,b);for(let W=0;W<B.length;++W){const G=B[W];f.push(P+G)}g=x+(g.length>0?" "+g:g)}return g};function $1(){let t=0,r,s,i="";for(;t<arguments.length;)(r=arguments[t++])&&(s=sg(r))&&(i&&(i+=" "),i+=s);return i}const sg=t=>{if(typeof t=="string")return t;let r,s="";for(let i=0;i<t.length;i++)t[i]&&(r=sg(t[i]))&&(s&&(s+=" "),s+=r);return s};function H1(t,...r){let s,i,l,u=f;function f(g){const y=r.reduce((x,v)=>v(x),t());return s=L1(y),i=s.cache.get,l=s.cache.set,u=p,p(g)}function p(g){const y=i(g);if(y)return y;const x=F1(g,s);return l(g,x),x}return function(){return u($1.apply(null,arguments))}}const pt=t=>{const r=s=>s[t]||[];return r.isThemeGetter=!0,r},og=/^\[(?:(\w[\w-]*):)?(.+)\]$/i,ig=/^\((?:(\w[\w-]*):)?(.+)\)$/i,B1=/^\d+\/\d+$/,U1=/^(\d+(\.\d+)?)?(xs|sm|md|lg|xl)$/,V1=/\d+(%|px|r?em|[sdl]?v([hwib]|min|max)|pt|pc|in|cm|mm|cap|ch|ex|r?lh|cq(w|h|i|b|min|max))|\b(calc|min|max|clamp)\(.+\)|^0$/,W1=/^(rgba?|hsla?|hwb|(ok)?(lab|lch)|color-mix)\(.+\)$/,G1=/^(inset_)?-?((\d+)?\.?(\d+)[a-z]+|0)_-?((\d+)?\.?(\d+)[a-z]+|0)/,K1=/^(url|image|image-set|cross-fade|element|(repeating-)?(linear|radial|conic)-gradient)\(.+\)$/,Ms=t=>B1.test(t),_e=t=>!!t&&!Number.isNaN(Number(t)),Ir=t=>!!t&&Number.isInteger(Number(t)),tu=t=>t.endsWith("%")&&_e(t.slice(0,-1)),Jn=t=>U1.test(t),Y1=()=>!0,q1=t=>V1.test(t)&&!W1.test(t),ag=()=>!1,X1=t=>G1.test(t),Q1=t=>K1.test(t),J1=t=>!ge(t)&&!ve(t),Z1=t=>Js(t,ug,ag),ge=t=>og.test(t),rs=t=>Js(t,dg,q1),nu=t=>Js(t,sb,_e),Ah=t=>Js(t,lg,ag),eb=t=>Js(t,cg,Q1),xa=t=>Js(t,fg,X1),ve=t=>ig.test(t),Vo=t=>Zs(t,dg),tb=t=>Zs(t,ob),Lh=t=>Zs(t,lg),nb=t=>Zs(t,ug),rb=t=>Zs(t,cg),wa=t=>Zs(t,fg,!0),Js=(t,r,s)=>{const i=og.exec(t);return i?i[1]?r(i[1]):s(i[2]):!1},Zs=(t,r,s=!1)=>{const i=ig.exec(t);return i?i[1]?r(i[1]):s:!1},lg=t=>t==="position"||t==="percentage",cg=t=>t==="image"||t==="url",ug=t=>t==="length"||t==="size"||t==="bg-size",dg=t=>t==="length",sb=t=>t==="number",ob=t=>t==="family-name",fg=t=>t==="shadow",ib=()=>{const t=pt("color"),r=pt("font"),s=pt("text"),i=pt("font-weight"),l=pt("tracking"),u=pt("leading"),f=pt("breakpoint"),p=pt("container"),g=pt("spacing"),y=pt("radius"),x=pt("shadow"),v=pt("inset-shadow"),N=pt("text-shadow"),C=pt("drop-shadow"),E=pt("blur"),S=pt("perspective"),b=pt("aspect"),j=pt("ease"),k=pt("animate"),P=()=>["auto","avoid","all","avoid-page","page","left","right","column"],L=()=>["center","top","bottom","left","right","top-left","left-top","top-right","right-top","bottom-right","right-bottom","bottom-left","left-bottom"],B=()=>[...L(),ve,ge],W=()=>["auto","hidden","clip","visible","scroll"],G=()=>["auto","contain","none"],H=()=>[ve,ge,g],se=()=>[Ms,"full","auto",...H()],ae=()=>[Ir,"none","subgrid",ve,ge],we=()=>["auto",{span:["full",Ir,ve,ge]},Ir,ve,ge],de=()=>[Ir,"auto",ve,ge],le=()=>["auto","min","max","fr",ve,ge],ce=()=>["start","end","center","between","around","evenly","stretch","baseline","center-safe","end-safe"],be=()=>["start","end","center","stretch","center-safe","end-safe"],M=()=>["auto",...H()],O=()=>[Ms,"auto","full","dvw","dvh","lvw","lvh","svw","svh","min","max","fit",...H()],R=()=>[t,ve,ge],K=()=>[...L(),Lh,Ah,{position:[ve,ge]}],U=()=>["no-repeat",{repeat:["","x","y","space","round"]}],D=()=>["auto","cover","contain",nb,Z1,{size:[ve,ge]}],A=()=>[tu,Vo,rs],V=()=>["","none","full",y,ve,ge],X=()=>["",_e,Vo,rs],ne=()=>["solid","dashed","dotted","double"],fe=()=>["normal","multiply","screen","overlay","darken","lighten","color-dodge","color-burn","hard-light","soft-light","difference","exclusion","hue","saturation","color","luminosity"],q=()=>[_e,tu,Lh,Ah],ee=()=>["","none",E,ve,ge],pe=()=>["none",_e,ve,ge],Ce=()=>["none",_e,ve,ge],oe=()=>[_e,ve,ge],ye=()=>[Ms,"full",...H()];return{cacheSize:500,theme:{animate:["spin","ping","pulse","bounce"],aspect:["video"],blur:[Jn],breakpoint:[Jn],color:[Y1],container:[Jn],"drop-shadow":[Jn],ease:["in","out","in-out"],font:[J1],"font-weight":["thin","extralight","light","normal","medium","semibold","bold","extrabold","black"],"inset-shadow":[Jn],leading:["none","tight","snug","normal","relaxed","loose"],perspective:["dramatic","near","normal","midrange","distant","none"],radius:[Jn],shadow:[Jn],spacing:["px",_e],text:[Jn],"text-shadow":[Jn],tracking:["tighter","tight","normal","wide","wider","widest"]},classGroups:{aspect:[{aspect:["auto","square",Ms,ge,ve,b]}],container:["container"],columns:[{columns:[_e,ge,ve,p]}],"break-after":[{"break-after":P()}],"break-before":[{"break-before":P()}],"break-inside":[{"break-inside":["auto","avoid","avoid-page","avoid-column"]}],"box-decoration":[{"box-decoration":["slice","clone"]}],box:[{box:["border","content"]}],display:["block","inline-block","inline","flex","inline-flex","table","inline-table","table-caption","table-cell","table-column","table-column-group","table-footer-group","table-header-group","table-row-group","table-row","flow-root","grid","inline-grid","contents","list-item","hidden"],sr:["sr-only","not-sr-only"],float:[{float:["right","left","none","start","end"]}],clear:[{clear:["left","right","both","none","start","end"]}],isolation:["isolate","isolation-auto"],"object-fit":[{object:["contain","cover","fill","none","scale-down"]}],"object-position":[{object:B()}],overflow:[{overflow:W()}],"overflow-x":[{"overflow-x":W()}],"overflow-y":[{"overflow-y":W()}],overscroll:[{overscroll:G()}],"overscroll-x":[{"overscroll-x":G()}],"overscroll-y":[{"overscroll-y":G()}],position:["static","fixed","absolute","relative","sticky"],inset:[{inset:se()}],"inset-x":[{"inset-x":se()}],"inset-y":[{"inset-y":se()}],start:[{start:se()}],end:[{end:se()}],top:[{top:se()}],right:[{right:se()}],bottom:[{bottom:se()}],left:[{left:se()}],visibility:["visible","invisible","collapse"],z:[{z:[Ir,"auto",ve,ge]}],basis:[{basis:[Ms,"full","auto",p,...H()]}],"flex-direction":[{flex:["row","row-reverse","col","col-reverse"]}],"flex-wrap":[{flex:["nowrap","wrap","wrap-reverse"]}],flex:[{flex:[_e,Ms,"auto","initial","none",ge]}],grow:[{grow:["",_e,ve,ge]}],shrink:[{shrink:["",_e,ve,ge]}],order:[{order:[Ir,"first","last","none",ve,ge]}],"grid-cols":[{"grid-cols":ae()}],"col-start-end":[{col:we()}],"col-start":[{"col-start":de()}],"col-end":[{"col-end":de()}],"grid-rows":[{"grid-rows":ae()}],"row-start-end":[{row:we()}],"row-start":[{"row-start":de()}],"row-end":[{"row-end":de()}],"grid-flow":[{"grid-flow":["row","col","dense","row-dense","col-dense"]}],"auto-cols":[{"auto-cols":le()}],"auto-rows":[{"auto-rows":le()}],gap:[{gap:H()}],"gap-x":[{"gap-x":H()}],"gap-y":[{"gap-y":H()}],"justify-content":[{justify:[...ce(),"normal"]}],"justify-items":[{"justify-items":[...be(),"normal"]}],"justify-self":[{"justify-self":["auto",...be()]}],"align-content":[{content:["normal",...ce()]}],"align-items":[{items:[...be(),{baseline:["","last"]}]}],"align-self":[{self:["auto",...be(),{baseline:["","last"]}]}],"place-content":[{"place-content":ce()}],"place-items":[{"place-items":[...be(),"baseline"]}],"place-self":[{"place-self":["auto",...be()]}],p:[{p:H()}],px:[{px:H()}],py:[{py:H()}],ps:[{ps:H()}],pe:[{pe:H()}],pt:[{pt:H()}],pr:[{pr:H()}],pb:[{pb:H()}],pl:[{pl:H()}],m:[{m:M()}],mx:[{mx:M()}],my:[{my:M()}],ms:[{ms:M()}],me:[{me:M()}],mt:[{mt:M()}],mr:[{mr:M()}],mb:[{mb:M()}],ml:[{ml:M()}],"space-x":[{"space-x":H()}],"space-x-reverse":["space-x-reverse"],"space-y":[{"space-y":H()}],"space-y-reverse":["space-y-reverse"],size:[{size:O()}],w:[{w:[p,"screen",...O()]}],"min-w":[{"min-w":[p,"screen","none",...O()]}],"max-w":[{"max-w":[p,"screen","none","prose",{screen:[f]},...O()]}],h:[{h:["screen","lh",...O()]}],"min-h":[{"min-h":["screen","lh","none",...O()]}],"max-h":[{"max-h":["screen","lh",...O()]}],"font-size":[{text:["base",s,Vo,rs]}],"font-smoothing":["antialiased","subpixel-antialiased"],"font-style":["italic","not-italic"],"font-weight":[{font:[i,ve,nu]}],"font-stretch":[{"font-stretch":["ultra-condensed","extra-condensed","condensed","semi-condensed","normal","semi-expanded","expanded","extra-expanded","ultra-expanded",tu,ge]}],"font-family":[{font:[tb,ge,r]}],"fvn-normal":["normal-nums"],"fvn-ordinal":["ordinal"],"fvn-slashed-zero":["slashed-zero"],"fvn-figure":["lining-nums","oldstyle-nums"],"fvn-spacing":["proportional-nums","tabular-nums"],"fvn-fraction":["diagonal-fractions","stacked-fractions"],tracking:[{tracking:[l,ve,ge]}],"line-clamp":[{"line-clamp":[_e,"none",ve,nu]}],leading:[{leading:[u,...H()]}],"list-image":[{"list-image":["none",ve,ge]}],"list-style-position":[{list:["inside","outside"]}],"list-style-type":[{list:["disc","decimal","none",ve,ge]}],"text-alignment":[{text:["left","center","right","justify","start","end"]}],"placeholder-color":[{placeholder:R()}],"text-color":[{text:R()}],"text-decoration":["underline","overline","line-through","no-underline"],"text-decoration-style":[{decoration:[...ne(),"wavy"]}],"text-decoration-thickness":[{decoration:[_e,"from-font","auto",ve,rs]}],"text-decoration-color":[{decoration:R()}],"underline-offset":[{"underline-offset":[_e,"auto",ve,ge]}],"text-transform":["uppercase","lowercase","capitalize","normal-case"],"text-overflow":["truncate","text-ellipsis","text-clip"],"text-wrap":[{text:["wrap","nowrap","balance","pretty"]}],indent:[{indent:H()}],"vertical-align":[{align:["baseline","top","middle","bottom","text-top","text-bottom","sub","super",ve,ge]}],whitespace:[{whitespace:["normal","nowrap","pre","pre-line","pre-wrap","break-spaces"]}],break:[{break:["normal","words","all","keep"]}],wrap:[{wrap:["break-word","anywhere","normal"]}],hyphens:[{hyphens:["none","manual","auto"]}],content:[{content:["none",ve,ge]}],"bg-attachment":[{bg:["fixed","local","scroll"]}],"bg-clip":[{"bg-clip":["border","padding","content","text"]}],"bg-origin":[{"bg-origin":["border","padding","content"]}],"bg-position":[{bg:K()}],"bg-repeat":[{bg:U()}],"bg-size":[{bg:D()}],"bg-image":[{bg:["none",{linear:[{to:["t","tr","r","br","b","bl","l","tl"]},Ir,ve,ge],radial:["",ve,ge],conic:[Ir,ve,ge]},rb,eb]}],"bg-color":[{bg:R()}],"gradient-from-pos":[{from:A()}],"gradient-via-pos":[{via:A()}],"gradient-to-pos":[{to:A()}],"gradient-from":[{from:R()}],"gradient-via":[{via:R()}],"gradient-to":[{to:R()}],rounded:[{rounded:V()}],"rounded-s":[{"rounded-s":V()}],"rounded-e":[{"rounded-e":V()}],"rounded-t":[{"rounded-t":V()}],"rounded-r":[{"rounded-r":V()}],"rounded-b":[{"rounded-b":V()}],"rounded-l":[{"rounded-l":V()}],"rounded-ss":[{"rounded-ss":V()}],"rounded-se":[{"rounded-se":V()}],"rounded-ee":[{"rounded-ee":V()}],"rounded-es":[{"rounded-es":V()}],"rounded-tl":[{"rounded-tl":V()}],"rounded-tr":[{"rounded-tr":V()}],"rounded-br":[{"rounded-br":V()}],"rounded-bl":[{"rounded-bl":V()}],"border-w":[{border:X()}],"border-w-x":[{"border-x":X()}],"border-w-y":[{"border-y":X()}],"border-w-s":[{"border-s":X()}],"border-w-e":[{"border-e":X()}],"border-w-t":[{"border-t":X()}],"border-w-r":[{"border-r":X()}],"border-w-b":[{"border-b":X()}],"border-w-l":[{"border-l":X()}],"divide-x":[{"divide-x":X()}],"divide-x-reverse":["divide-x-reverse"],"divide-y":[{"divide-y":X()}],"divide-y-reverse":["divide-y-reverse"],"border-style":[{border:[...ne(),"hidden","none"]}],"divide-style":[{divide:[...ne(),"hidden","none"]}],"border-color":[{border:R()}],"border-color-x":[{"border-x":R()}],"border-color-y":[{"border-y":R()}],"border-color-s":[{"border-s":R()}],"border-color-e":[{"border-e":R()}],"border-color-t":[{"border-t":R()}],"border-color-r":[{"border-r":R()}],"border-color-b":[{"border-b":R()}],"border-color-l":[{"border-l":R()}],"divide-color":[{divide:R()}],"outline-style":[{outline:[...ne(),"none","hidden"]}],"outline-offset":[{"outline-offset":[_e,ve,ge]}],"outline-w":[{outline:["",_e,Vo,rs]}],"outline-color":[{outline:R()}],shadow:[{shadow:["","none",x,wa,xa]}],"shadow-color":[{shadow:R()}],"inset-shadow":[{"inset-shadow":["none",v,wa,xa]}],"inset-shadow-color":[{"inset-shadow":R()}],"ring-w":[{ring:X()}],"ring-w-inset":["ring-inset"],"ring-color":[{ring:R()}],"ring-offset-w":[{"ring-offset":[_e,rs]}],"ring-offset-color":[{"ring-offset":R()}],"inset-ring-w":[{"inset-ring":X()}],"inset-ring-color":[{"inset-ring":R()}],"text-shadow":[{"text-shadow":["none",N,wa,xa]}],"text-shadow-color":[{"text-shadow":R()}],opacity:[{opacity:[_e,ve,ge]}],"mix-blend":[{"mix-blend":[...fe(),"plus-darker","plus-lighter"]}],"bg-blend":[{"bg-blend":fe()}],"mask-clip":[{"mask-clip":["border","padding","content","fill","stroke","view"]},"mask-no-clip"],"mask-composite":[{mask:["add","subtract","intersect","exclude"]}],"mask-image-linear-pos":[{"mask-linear":[_e]}],"mask-image-linear-from-pos":[{"mask-linear-from":q()}],"mask-image-linear-to-pos":[{"mask-linear-to":q()}],"mask-image-linear-from-color":[{"mask-linear-from":R()}],"mask-image-linear-to-color":[{"mask-linear-to":R()}],"mask-image-t-from-pos":[{"mask-t-from":q()}],"mask-image-t-to-pos":[{"mask-t-to":q()}],"mask-image-t-from-color":[{"mask-t-from":R()}],"mask-image-t-to-color":[{"mask-t-to":R()}],"mask-image-r-from-pos":[{"mask-r-from":q()}],"mask-image-r-to-pos":[{"mask-r-to":q()}],"mask-image-r-from-color":[{"mask-r-from":R()}],"mask-image-r-to-color":[{"mask-r-to":R()}],"mask-image-b-from-pos":[{"mask-b-from":q()}],"mask-image-b-to-pos":[{"mask-b-to":q()}],"mask-image-b-from-color":[{"mask-b-from":R()}],"mask-image-b-to-color":[{"mask-b-to":R()}],"mask-image-l-from-pos":[{"mask-l-from":q()}],"mask-image-l-to-pos":[{"mask-l-to":q()}],"mask-image-l-from-color":[{"mask-l-from":R()}],"mask-image-l-to-color":[{"mask-l-to":R()}],"mask-image-x-from-pos":[{"mask-x-from":q()}],"mask-image-x-to-pos":[{"mask-x-to":q()}],"mask-image-x-from-color":[{"mask-x-from":R()}],"mask-image-x-to-color":[{"mask-x-to":R()}],"mask-image-y-from-pos":[{"mask-y-from":q()}],"mask-image-y-to-pos":[{"mask-y-to":q()}],"mask-image-y-from-color":[{"mask-y-from":R()}],"mask-image-y-to-color":[{"mask-y-to":R()}],"mask-image-radial":[{"mask-radial":[ve,ge]}],"mask-image-radial-from-pos":[{"mask-radial-from":q()}],"mask-image-radial-to-pos":[{"mask-radial-to":q()}],"mask-image-radial-from-color":[{"mask-radial-from":R()}],"mask-image-radial-to-color":[{"mask-radial-to":R()}],"mask-image-radial-shape":[{"mask-radial":["circle","ellipse"]}],"mask-image-radial-size":[{"mask-radial":[{closest:["side","corner"],farthest:["side","corner"]}]}],"mask-image-radial-pos":[{"mask-radial-at":L()}],"mask-image-conic-pos":[{"mask-conic":[_e]}],"mask-image-conic-from-pos":[{"mask-conic-from":q()}],"mask-image-conic-to-pos":[{"mask-conic-to":q()}],"mask-image-conic-from-color":[{"mask-conic-from":R()}],"mask-image-conic-to-color":[{"mask-conic-to":R()}],"mask-mode":[{mask:["alpha","luminance","match"]}],"mask-origin":[{"mask-origin":["border","padding","content","fill","stroke","view"]}],"mask-position":[{mask:K()}],"mask-repeat":[{mask:U()}],"mask-size":[{mask:D()}],"mask-type":[{"mask-type":["alpha","luminance"]}],"mask-image":[{mask:["none",ve,ge]}],filter:[{filter:["","none",ve,ge]}],blur:[{blur:ee()}],brightness:[{brightness:[_e,ve,ge]}],contrast:[{contrast:[_e,ve,ge]}],"drop-shadow":[{"drop-shadow":["","none",C,wa,xa]}],"drop-shadow-color":[{"drop-shadow":R()}],grayscale:[{grayscale:["",_e,ve,ge]}],"hue-rotate":[{"hue-rotate":[_e,ve,ge]}],invert:[{invert:["",_e,ve,ge]}],saturate:[{saturate:[_e,ve,ge]}],sepia:[{sepia:["",_e,ve,ge]}],"backdrop-filter":[{"backdrop-filter":["","none",ve,ge]}],"backdrop-blur":[{"backdrop-blur":ee()}],"backdrop-brightness":[{"backdrop-brightness":[_e,ve,ge]}],"backdrop-contrast":[{"backdrop-contrast":[_e,ve,ge]}],"backdrop-grayscale":[{"backdrop-grayscale":["",_e,ve,ge]}],"backdrop-hue-rotate":[{"backdrop-hue-rotate":[_e,ve,ge]}],"backdrop-invert":[{"backdrop-invert":["",_e,ve,ge]}],"backdrop-opacity":[{"backdrop-opacity":[_e,ve,ge]}],"backdrop-saturate":[{"backdrop-saturate":[_e,ve,ge]}],"backdrop-sepia":[{"backdrop-sepia":["",_e,ve,ge]}],"border-collapse":[{border:["collapse","separate"]}],"border-spacing":[{"border-spacing":H()}],"border-spacing-x":[{"border-spacing-x":H()}],"border-spacing-y":[{"border-spacing-y":H()}],"table-layout":[{table:["auto","fixed"]}],caption:[{caption:["top","bottom"]}],transition:[{transition:["","all","colors","opacity","shadow","transform","none",ve,ge]}],"transition-behavior":[{transition:["normal","discrete"]}],duration:[{duration:[_e,"initial",ve,ge]}],ease:[{ease:["linear","initial",j,ve,ge]}],delay:[{delay:[_e,ve,ge]}],animate:[{animate:["none",k,ve,ge]}],backface:[{backface:["hidden","visible"]}],perspective:[{perspective:[S,ve,ge]}],"perspective-origin":[{"perspective-origin":B()}],rotate:[{rotate:pe()}],"rotate-x":[{"rotate-x":pe()}],"rotate-y":[{"rotate-y":pe()}],"rotate-z":[{"rotate-z":pe()}],scale:[{scale:Ce()}],"scale-x":[{"scale-x":Ce()}],"scale-y":[{"scale-y":Ce()}],"scale-z":[{"scale-z":Ce()}],"scale-3d":["scale-3d"],skew:[{skew:oe()}],"skew-x":[{"skew-x":oe()}],"skew-y":[{"skew-y":oe()}],transform:[{transform:[ve,ge,"","none","gpu","cpu"]}],"transform-origin":[{origin:B()}],"transform-style":[{transform:["3d","flat"]}],translate:[{translate:ye()}],"translate-x":[{"translate-x":ye()}],"translate-y":[{"translate-y":ye()}],"translate-z":[{"translate-z":ye()}],"translate-none":["translate-none"],accent:[{accent:R()}],appearance:[{appearance:["none","auto"]}],"caret-color":[{caret:R()}],"color-scheme":[{scheme:["normal","dark","light","light-dark","only-dark","only-light"]}],cursor:[{cursor:["auto","default","pointer","wait","text","move","help","not-allowed","none","context-menu","progress","cell","crosshair","vertical-text","alias","copy","no-drop","grab","grabbing","all-scroll","col-resize","row-resize","n-resize","e-resize","s-resize","w-resize","ne-resize","nw-resize","se-resize","sw-resize","ew-resize","ns-resize","nesw-resize","nwse-resize","zoom-in","zoom-out",ve,ge]}],"field-sizing":[{"field-sizing":["fixed","content"]}],"pointer-events":[{"pointer-events":["auto","none"]}],resize:[{resize:["none","","y","x"]}],"scroll-behavior":[{scroll:["auto","smooth"]}],"scroll-m":[{"scroll-m":H()}],"scroll-mx":[{"scroll-mx":H()}],"scroll-my":[{"scroll-my":H()}],"scroll-ms":[{"scroll-ms":H()}],"scroll-me":[{"scroll-me":H()}],"scroll-mt":[{"scroll-mt":H()}],"scroll-mr":[{"scroll-mr":H()}],"scroll-mb":[{"scroll-mb":H()}],"scroll-ml":[{"scroll-ml":H()}],"scroll-p":[{"scroll-p":H()}],"scroll-px":[{"scroll-px":H()}],"scroll-py":[{"scroll-py":H()}],"scroll-ps":[{"scroll-ps":H()}],"scroll-pe":[{"scroll-pe":H()}],"scroll-pt":[{"scroll-pt":H()}],"scroll-pr":[{"scroll-pr":H()}],"scroll-pb":[{"scroll-pb":H()}],"scroll-pl":[{"scroll-pl":H()}],"snap-align":[{snap:["start","end","center","align-none"]}],"snap-stop":[{snap:["normal","always"]}],"snap-type":[{snap:["none","x","y","both"]}],"snap-strictness":[{snap:["mandatory","proximity"]}],touch:[{touch:["auto","none","manipulation"]}],"touch-x":[{"touch-pan":["x","left","right"]}],"touch-y":[{"touch-pan":["y","up","down"]}],"touch-pz":["touch-pinch-zoom"],select:[{select:["none","text","all","auto"]}],"will-change":[{"will-change":["auto","scroll","contents","transform",ve,ge]}],fill:[{fill:["none",...R()]}],"stroke-w":[{stroke:[_e,Vo,rs,nu]}],stroke:[{stroke:["none",...R()]}],"forced-color-adjust":[{"forced-color-adjust":["auto","none"]}]},conflictingClassGroups:{overflow:["overflow-x","overflow-y"],overscroll:["overscroll-x","overscroll-y"],inset:["inset-x","inset-y","start","end","top","right","bottom","left"],"inset-x":["right","left"],"inset-y":["top","bottom"],flex:["basis","grow","shrink"],gap:["gap-x","gap-y"],p:["px","py","ps","pe","pt","pr","pb","pl"],px:["pr","pl"],py:["pt","pb"],m:["mx","my","ms","me","mt","mr","mb","ml"],mx:["mr","ml"],my:["mt","mb"],size:["w","h"],"font-size":["leading"],"fvn-normal":["fvn-ordinal","fvn-slashed-zero","fvn-figure","fvn-spacing","fvn-fraction"],"fvn-ordinal":["fvn-normal"],"fvn-slashed-zero":["fvn-normal"],"fvn-figure":["fvn-normal"],"fvn-spacing":["fvn-normal"],"fvn-fraction":["fvn-normal"],"line-clamp":["display","overflow"],rounded:["rounded-s","rounded-e","rounded-t","rounded-r","rounded-b","rounded-l","rounded-ss","rounded-se","rounded-ee","rounded-es","rounded-tl","rounded-tr","rounded-br","rounded-bl"],"rounded-s":["rounded-ss","rounded-es"],"rounded-e":["rounded-se","rounded-ee"],"rounded-t":["rounded-tl","rounded-tr"],"rounded-r":["rounded-tr","rounded-br"],"rounded-b":["rounded-br","rounded-bl"],"rounded-l":["rounded-tl","rounded-bl"],"border-spacing":["border-spacing-x","border-spacing-y"],"border-w":["border-w-x","border-w-y","border-w-s","border-w-e","border-w-t","border-w-r","border-w-b","border-w-l"],"border-w-x":["border-w-r","border-w-l"],"border-w-y":["border-w-t","border-w-b"],"border-color":["border-color-x","border-color-y","border-color-s","border-color-e","border-color-t","border-color-r","border-color-b","border-color-l"],"border-color-x":["border-color-r","border-color-l"],"border-color-y":["border-color-t","border-color-b"],translate:["translate-x","translate-y","translate-none"],"translate-none":["translate","translate-x","translate-y","translate-z"],"scroll-m":["scroll-mx","scroll-my","scroll-ms","scroll-me","scroll-mt","scroll-mr","scroll-mb","scroll-ml"],"scroll-mx":["scroll-mr","scroll-ml"],"scroll-my":["scroll-mt","scroll-mb"],"scroll-p":["scroll-px","scroll-py","scroll-ps","scroll-pe","scroll-pt","scroll-pr","scroll-pb","scroll-pl"],"scroll-px":["scroll-pr","scroll-pl"],"scroll-py":["scroll-pt","scroll-pb"],touch:["touch-x","touch-y","touch-pz"],"touch-x":["touch"],"touch-y":["touch"],"touch-pz":["touch"]},conflictingClassGroupModifiers:{"font-size":["leading"]},orderSensitiveModifiers:["*","**","after","backdrop","before","details-content","file","first-letter","first-line","marker","placeholder","selection"]}},ab=H1(ib);function Ve(...t){return ab(ng(t))}function tt({className:t,...r}){return a.jsx("div",{"data-slot":"card",className:Ve("bg-card text-card-foreground flex flex-col gap-6 rounded-xl border",t),...r})}function zh({className:t,...r}){return a.jsx("div",{"data-slot":"card-header",className:Ve("@container/card-header grid auto-rows-min grid-rows-[auto_auto] items-start gap-1.5 px-6 pt-6 has-data-[slot=card-action]:grid-cols-[1fr_auto] [.border-b]:pb-6",t),...r})}function Fh({className:t,...r}){return a.jsx("h4",{"data-slot":"card-title",className:Ve("leading-none",t),...r})}function $h({className:t,...r}){return a.jsx("p",{"data-slot":"card-description",className:Ve("text-muted-foreground",t),...r})}function ru({className:t,...r}){return a.jsx("div",{"data-slot":"card-content",className:Ve("px-6 [&:last-child]:pb-6",t),...r})}function Hh(t,r){if(typeof t=="function")return t(r);t!=null&&(t.current=r)}function pg(...t){return r=>{let s=!1;const i=t.map(l=>{const u=Hh(l,r);return!s&&typeof u=="function"&&(s=!0),u});if(s)return()=>{for(let l=0;l<i.length;l++){const u=i[l];typeof u=="function"?u():Hh(t[l],null)}}}}function Ge(...t){return m.useCallback(pg(...t),t)}function Us(t){const r=lb(t),s=m.forwardRef((i,l)=>{const{children:u,...f}=i,p=m.Children.toArray(u),g=p.find(ub);if(g){const y=g.props.children,x=p.map(v=>v===g?m.Children.count(y)>1?m.Children.only(null):m.isValidElement(y)?y.props.children:null:v);return a.jsx(r,{...f,ref:l,children:m.isValidElement(y)?m.cloneElement(y,void 0,x):null})}return a.jsx(r,{...f,ref:l,children:u})});return s.displayName=`${t}.Slot`,s}var hg=Us("Slot");function lb(t){const r=m.forwardRef((s,i)=>{const{children:l,...u}=s;if(m.isValidElement(l)){const f=fb(l),p=db(u,l.props);return l.type!==m.Fragment&&(p.ref=i?pg(i,f):f),m.cloneElement(l,p)}return m.Children.count(l)>1?m.Children.only(null):null});return r.displayName=`${t}.SlotClone`,r}var cb=Symbol("radix.slottable");function ub(t){return m.isValidElement(t)&&typeof t.type=="function"&&"__radixId"in t.type&&t.type.__radixId===cb}function db(t,r){const s={...r};for(const i in r){const l=t[i],u=r[i];/^on[A-Z]/.test(i)?l&&u?s[i]=(...p)=>{const g=u(...p);return l(...p),g}:l&&(s[i]=l):i==="style"?s[i]={...l,...u}:i==="className"&&(s[i]=[l,u].filter(Boolean).join(" "))}return{...t,...s}}function fb(t){let r=Object.getOwnPropertyDescriptor(t.props,"ref")?.get,s=r&&"isReactWarning"in r&&r.isReactWarning;return s?t.ref:(r=Object.getOwnPropertyDescriptor(t,"ref")?.get,s=r&&"isReactWarning"in r&&r.isReactWarning,s?t.props.ref:t.props.ref||t.ref)}const Bh=t=>typeof t=="boolean"?`${t}`:t===0?"0":t,Uh=ng,mg=(t,r)=>s=>{var i;if(r?.variants==null)return Uh(t,s?.class,s?.className);const{variants:l,defaultVariants:u}=r,f=Object.keys(l).map(y=>{const x=s?.[y],v=u?.[y];if(x===null)return null;const N=Bh(x)||Bh(v);return l[y][N]}),p=s&&Object.entries(s).reduce((y,x)=>{let[v,N]=x;return N===void 0||(y[v]=N),y},{}),g=r==null||(i=r.compoundVariants)===null||i===void 0?void 0:i.reduce((y,x)=>{let{class:v,className:N,...C}=x;return Object.entries(C).every(E=>{let[S,b]=E;return Array.isArray(b)?b.includes({...u,...p}[S]):{...u,...p}[S]===b})?[...y,v,N]:y},[]);return Uh(t,f,g,s?.class,s?.className)},pb=mg("inline-flex items-center justify-center gap-2 whitespace-nowrap rounded-md text-sm font-medium transition-all disabled:pointer-events-none disabled:opacity-50 [&_svg]:pointer-events-none [&_svg:not([class*='size-'])]:size-4 shrink-0 [&_svg]:shrink-0 outline-none focus-visible:border-ring focus-visible:ring-ring/50 focus-visible:ring-[3px] aria-invalid:ring-destructive/20 dark:aria-invalid:ring-destructive/40 aria-invalid:border-destructive",{variants:{variant:{default:"bg-primary text-primary-foreground hover:bg-primary/90",destructive:"bg-destructive text-white hover:bg-destructive/90 focus-visible:ring-destructive/20 dark:focus-visible:ring-destructive/40 dark:bg-destructive/60",outline:"border bg-background text-foreground hover:bg-accent hover:text-accent-foreground dark:bg-input/30 dark:border-input dark:hover:bg-input/50",secondary:"bg-secondary text-secondary-foreground hover:bg-secondary/80",ghost:"hover:bg-accent hover:text-accent-foreground dark:hover:bg-accent/50",link:"text-primary underline-offset-4 hover:underline"},size:{default:"h-9 px-4 py-2 has-[>svg]:px-3",sm:"h-8 rounded-md gap-1.5 px-3 has-[>svg]:px-2.5",lg:"h-10 rounded-md px-6 has-[>svg]:px-4",icon:"size-9 rounded-md"}},defaultVariants:{variant:"default",size:"default"}}),Te=m.forwardRef(({className:t,variant:r,size:s,asChild:i=!1,...l},u)=>{const f=i?hg:"button";return a.jsx(f,{ref:u,"data-slot":"button",className:Ve(pb({variant:r,size:s,className:t})),...l})});Te.displayName="Button";function Xe({className:t,type:r,...s}){return a.jsx("input",{type:r,"data-slot":"input",className:Ve("file:text-foreground placeholder:text-muted-foreground selection:bg-primary selection:text-primary-foreground dark:bg-input/30 border-input flex h-9 w-full min-w-0 rounded-md border px-3 py-1 text-base bg-input-background transition-[color,box-shadow] outline-none file:inline-flex file:h-7 file:border-0 file:bg-transparent file:text-sm file:font-medium disabled:pointer-events-none disabled:cursor-not-allowed disabled:opacity-50 md:text-sm","focus-visible:border-ring focus-visible:ring-ring/50 focus-visible:ring-[3px]","aria-invalid:ring-destructive/20 dark:aria-invalid:ring-destructive/40 aria-invalid:border-destructive",t),...s})}function Vs({className:t,...r}){return a.jsx("textarea",{"data-slot":"textarea",className:Ve("resize-none border-input placeholder:text-muted-foreground focus-visible:border-ring focus-visible:ring-ring/50 aria-invalid:ring-destructive/20 dark:aria-invalid:ring-destructive/40 aria-invalid:border-destructive dark:bg-input/30 flex field-sizing-content min-h-16 w-full rounded-md border bg-input-background px-3 py-2 text-base transition-[color,box-shadow] outline-none focus-visible:ring-[3px] disabled:cursor-not-allowed disabled:opacity-50 md:text-sm",t),...r})}/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const hb=t=>t.replace(/([a-z0-9])([A-Z])/g,"$1-$2").toLowerCase(),mb=t=>t.replace(/^([A-Z])|[\s-_]+(\w)/g,(r,s,i)=>i?i.toUpperCase():s.toLowerCase()),Vh=t=>{const r=mb(t);return r.charAt(0).toUpperCase()+r.slice(1)},gg=(...t)=>t.filter((r,s,i)=>!!r&&r.trim()!==""&&i.indexOf(r)===s).join(" ").trim();/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */var gb={xmlns:"http://www.w3.org/2000/svg",width:24,height:24,viewBox:"0 0 24 24",fill:"none",stroke:"currentColor",strokeWidth:2,strokeLinecap:"round",strokeLinejoin:"round"};/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const vb=m.forwardRef(({color:t="currentColor",size:r=24,strokeWidth:s=2,absoluteStrokeWidth:i,className:l="",children:u,iconNode:f,...p},g)=>m.createElement("svg",{ref:g,...gb,width:r,height:r,stroke:t,strokeWidth:i?Number(s)*24/Number(r):s,className:gg("lucide",l),...p},[...f.map(([y,x])=>m.createElement(y,x)),...Array.isArray(u)?u:[u]]));/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const De=(t,r)=>{const s=m.forwardRef(({className:i,...l},u)=>m.createElement(vb,{ref:u,iconNode:r,className:gg(`lucide-${hb(Vh(t))}`,`lucide-${t}`,i),...l}));return s.displayName=Vh(t),s};/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const yb=[["path",{d:"m12 19-7-7 7-7",key:"1l729n"}],["path",{d:"M19 12H5",key:"x3x0zl"}]],vg=De("arrow-left",yb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const xb=[["path",{d:"M16 20V4a2 2 0 0 0-2-2h-4a2 2 0 0 0-2 2v16",key:"jecpp"}],["rect",{width:"20",height:"14",x:"2",y:"6",rx:"2",key:"i6l2r4"}]],yg=De("briefcase",xb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const wb=[["path",{d:"M6 22V4a2 2 0 0 1 2-2h8a2 2 0 0 1 2 2v18Z",key:"1b4qmf"}],["path",{d:"M6 12H4a2 2 0 0 0-2 2v6a2 2 0 0 0 2 2h2",key:"i71pzd"}],["path",{d:"M18 9h2a2 2 0 0 1 2 2v9a2 2 0 0 1-2 2h-2",key:"10jefs"}],["path",{d:"M10 6h4",key:"1itunk"}],["path",{d:"M10 10h4",key:"tcdvrf"}],["path",{d:"M10 14h4",key:"kelpxr"}],["path",{d:"M10 18h4",key:"1ulq68"}]],bb=De("building-2",wb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Sb=[["path",{d:"M8 2v4",key:"1cmpym"}],["path",{d:"M16 2v4",key:"4m81vk"}],["path",{d:"M21 13V6a2 2 0 0 0-2-2H5a2 2 0 0 0-2 2v14a2 2 0 0 0 2 2h8",key:"3spt84"}],["path",{d:"M3 10h18",key:"8toen8"}],["path",{d:"M16 19h6",key:"xwg31i"}],["path",{d:"M19 16v6",key:"tddt3s"}]],Wh=De("calendar-plus",Sb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Cb=[["path",{d:"M8 2v4",key:"1cmpym"}],["path",{d:"M16 2v4",key:"4m81vk"}],["rect",{width:"18",height:"18",x:"3",y:"4",rx:"2",key:"1hopcy"}],["path",{d:"M3 10h18",key:"8toen8"}],["path",{d:"m14 14-4 4",key:"rymu2i"}],["path",{d:"m10 14 4 4",key:"3sz06r"}]],Ru=De("calendar-x",Cb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Nb=[["path",{d:"M8 2v4",key:"1cmpym"}],["path",{d:"M16 2v4",key:"4m81vk"}],["rect",{width:"18",height:"18",x:"3",y:"4",rx:"2",key:"1hopcy"}],["path",{d:"M3 10h18",key:"8toen8"}]],On=De("calendar",Nb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const jb=[["path",{d:"M20 6 9 17l-5-5",key:"1gmf2c"}]],Ws=De("check",jb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Eb=[["path",{d:"m6 9 6 6 6-6",key:"qrunsl"}]],sd=De("chevron-down",Eb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const kb=[["path",{d:"m15 18-6-6 6-6",key:"1wnfg3"}]],su=De("chevron-left",kb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Tb=[["path",{d:"m9 18 6-6-6-6",key:"mthhwq"}]],ou=De("chevron-right",Tb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Pb=[["path",{d:"m18 15-6-6-6 6",key:"153udz"}]],xg=De("chevron-up",Pb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Rb=[["path",{d:"m7 15 5 5 5-5",key:"1hf1tw"}],["path",{d:"m7 9 5-5 5 5",key:"sgt6xg"}]],Db=De("chevrons-up-down",Rb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Ib=[["circle",{cx:"12",cy:"12",r:"10",key:"1mglay"}],["line",{x1:"12",x2:"12",y1:"8",y2:"12",key:"1pkeuh"}],["line",{x1:"12",x2:"12.01",y1:"16",y2:"16",key:"4dfq90"}]],La=De("circle-alert",Ib);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Ob=[["circle",{cx:"12",cy:"12",r:"10",key:"1mglay"}],["path",{d:"m9 12 2 2 4-4",key:"dzmm74"}]],_b=De("circle-check",Ob);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Mb=[["circle",{cx:"12",cy:"12",r:"10",key:"1mglay"}],["path",{d:"m15 9-6 6",key:"1uzhvr"}],["path",{d:"m9 9 6 6",key:"z0biqf"}]],Ab=De("circle-x",Mb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Lb=[["circle",{cx:"12",cy:"12",r:"10",key:"1mglay"}],["polyline",{points:"12 6 12 12 16 14",key:"68esgv"}]],yn=De("clock",Lb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const zb=[["circle",{cx:"12",cy:"12",r:"1",key:"41hilf"}],["circle",{cx:"12",cy:"5",r:"1",key:"gxeob9"}],["circle",{cx:"12",cy:"19",r:"1",key:"lyex9k"}]],Fb=De("ellipsis-vertical",zb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const $b=[["path",{d:"M2.062 12.348a1 1 0 0 1 0-.696 10.75 10.75 0 0 1 19.876 0 1 1 0 0 1 0 .696 10.75 10.75 0 0 1-19.876 0",key:"1nclc0"}],["circle",{cx:"12",cy:"12",r:"3",key:"1v7zrd"}]],Hb=De("eye",$b);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Bb=[["rect",{width:"18",height:"18",x:"3",y:"3",rx:"2",ry:"2",key:"1m3agn"}],["circle",{cx:"9",cy:"9",r:"2",key:"af1f0g"}],["path",{d:"m21 15-3.086-3.086a2 2 0 0 0-2.828 0L6 21",key:"1xmnt7"}]],Ub=De("image",Bb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Vb=[["path",{d:"m15.5 7.5 2.3 2.3a1 1 0 0 0 1.4 0l2.1-2.1a1 1 0 0 0 0-1.4L19 4",key:"g0fldk"}],["path",{d:"m21 2-9.6 9.6",key:"1j0ho8"}],["circle",{cx:"7.5",cy:"15.5",r:"5.5",key:"yqb3hr"}]],ei=De("key",Vb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Wb=[["rect",{width:"7",height:"9",x:"3",y:"3",rx:"1",key:"10lvy0"}],["rect",{width:"7",height:"5",x:"14",y:"3",rx:"1",key:"16une8"}],["rect",{width:"7",height:"9",x:"14",y:"12",rx:"1",key:"1hutg5"}],["rect",{width:"7",height:"5",x:"3",y:"16",rx:"1",key:"ldoo1y"}]],Gb=De("layout-dashboard",Wb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Kb=[["rect",{width:"18",height:"11",x:"3",y:"11",rx:"2",ry:"2",key:"1w4ew1"}],["path",{d:"M7 11V7a5 5 0 0 1 10 0v4",key:"fwvmzm"}]],Yb=De("lock",Kb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const qb=[["path",{d:"M9 21H5a2 2 0 0 1-2-2V5a2 2 0 0 1 2-2h4",key:"1uf3rs"}],["polyline",{points:"16 17 21 12 16 7",key:"1gabdz"}],["line",{x1:"21",x2:"9",y1:"12",y2:"12",key:"1uyos4"}]],Xb=De("log-out",qb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Qb=[["rect",{width:"20",height:"16",x:"2",y:"4",rx:"2",key:"18n3k1"}],["path",{d:"m22 7-8.97 5.7a1.94 1.94 0 0 1-2.06 0L2 7",key:"1ocrg3"}]],Ka=De("mail",Qb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Jb=[["path",{d:"M20 10c0 4.993-5.539 10.193-7.399 11.799a1 1 0 0 1-1.202 0C9.539 20.193 4 14.993 4 10a8 8 0 0 1 16 0",key:"1r0f0z"}],["circle",{cx:"12",cy:"10",r:"3",key:"ilqhr7"}]],Gs=De("map-pin",Jb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const Zb=[["line",{x1:"4",x2:"20",y1:"12",y2:"12",key:"1e0a9i"}],["line",{x1:"4",x2:"20",y1:"6",y2:"6",key:"1owob3"}],["line",{x1:"4",x2:"20",y1:"18",y2:"18",key:"yk5zj1"}]],eS=De("menu",Zb);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const tS=[["path",{d:"M21 15a2 2 0 0 1-2 2H7l-4 4V5a2 2 0 0 1 2-2h14a2 2 0 0 1 2 2z",key:"1lielz"}]],nS=De("message-square",tS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const rS=[["polygon",{points:"3 11 22 2 13 21 11 13 3 11",key:"1ltx0t"}]],Gh=De("navigation",rS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const sS=[["path",{d:"M21.174 6.812a1 1 0 0 0-3.986-3.987L3.842 16.174a2 2 0 0 0-.5.83l-1.321 4.352a.5.5 0 0 0 .623.622l4.353-1.32a2 2 0 0 0 .83-.497z",key:"1a8usu"}]],od=De("pen",sS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const oS=[["path",{d:"M22 16.92v3a2 2 0 0 1-2.18 2 19.79 19.79 0 0 1-8.63-3.07 19.5 19.5 0 0 1-6-6 19.79 19.79 0 0 1-3.07-8.67A2 2 0 0 1 4.11 2h3a2 2 0 0 1 2 1.72 12.84 12.84 0 0 0 .7 2.81 2 2 0 0 1-.45 2.11L8.09 9.91a16 16 0 0 0 6 6l1.27-1.27a2 2 0 0 1 2.11-.45 12.84 12.84 0 0 0 2.81.7A2 2 0 0 1 22 16.92z",key:"foiqr5"}]],id=De("phone",oS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const iS=[["path",{d:"M5 12h14",key:"1ays0h"}],["path",{d:"M12 5v14",key:"s699le"}]],Ya=De("plus",iS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const aS=[["path",{d:"m17 2 4 4-4 4",key:"nntrym"}],["path",{d:"M3 11v-1a4 4 0 0 1 4-4h14",key:"84bu3i"}],["path",{d:"m7 22-4-4 4-4",key:"1wqhfi"}],["path",{d:"M21 13v1a4 4 0 0 1-4 4H3",key:"1rx37r"}]],wg=De("repeat",aS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const lS=[["path",{d:"M15.2 3a2 2 0 0 1 1.4.6l3.8 3.8a2 2 0 0 1 .6 1.4V19a2 2 0 0 1-2 2H5a2 2 0 0 1-2-2V5a2 2 0 0 1 2-2z",key:"1c8476"}],["path",{d:"M17 21v-7a1 1 0 0 0-1-1H8a1 1 0 0 0-1 1v7",key:"1ydtos"}],["path",{d:"M7 3v4a1 1 0 0 0 1 1h7",key:"t51u73"}]],cS=De("save",lS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const uS=[["circle",{cx:"11",cy:"11",r:"8",key:"4ej97u"}],["path",{d:"m21 21-4.3-4.3",key:"1qie3q"}]],dS=De("search",uS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const fS=[["path",{d:"M14.536 21.686a.5.5 0 0 0 .937-.024l6.5-19a.496.496 0 0 0-.635-.635l-19 6.5a.5.5 0 0 0-.024.937l7.93 3.18a2 2 0 0 1 1.112 1.11z",key:"1ffxy3"}],["path",{d:"m21.854 2.147-10.94 10.939",key:"12cjpa"}]],pS=De("send",fS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const hS=[["path",{d:"M7 20h10",key:"e6iznv"}],["path",{d:"M10 20c5.5-2.5.8-6.4 3-10",key:"161w41"}],["path",{d:"M9.5 9.4c1.1.8 1.8 2.2 2.3 3.7-2 .4-3.5.4-4.8-.3-1.2-.6-2.3-1.9-3-4.2 2.8-.5 4.4 0 5.5.8z",key:"9gtqwd"}],["path",{d:"M14.1 6a7 7 0 0 0-1.1 4c1.9-.1 3.3-.6 4.3-1.4 1-1 1.6-2.3 1.7-4.6-2.7.1-4 1-4.9 2z",key:"bkxnd2"}]],ad=De("sprout",hS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const mS=[["path",{d:"M3 6h18",key:"d0wm0j"}],["path",{d:"M19 6v14c0 1-1 2-2 2H7c-1 0-2-1-2-2V6",key:"4alrt4"}],["path",{d:"M8 6V4c0-1 1-2 2-2h4c1 0 2 1 2 2v2",key:"v07s0e"}],["line",{x1:"10",x2:"10",y1:"11",y2:"17",key:"1uufr5"}],["line",{x1:"14",x2:"14",y1:"11",y2:"17",key:"xtxkd"}]],ld=De("trash-2",mS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const gS=[["path",{d:"M16 21v-2a4 4 0 0 0-4-4H6a4 4 0 0 0-4 4v2",key:"1yyitq"}],["circle",{cx:"9",cy:"7",r:"4",key:"nufk8"}],["line",{x1:"19",x2:"19",y1:"8",y2:"14",key:"1bvyxn"}],["line",{x1:"22",x2:"16",y1:"11",y2:"11",key:"1shjgl"}]],vS=De("user-plus",gS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const yS=[["path",{d:"M19 21v-2a4 4 0 0 0-4-4H9a4 4 0 0 0-4 4v2",key:"975kel"}],["circle",{cx:"12",cy:"7",r:"4",key:"17ys0d"}]],$s=De("user",yS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const xS=[["path",{d:"M16 21v-2a4 4 0 0 0-4-4H6a4 4 0 0 0-4 4v2",key:"1yyitq"}],["circle",{cx:"9",cy:"7",r:"4",key:"nufk8"}],["path",{d:"M22 21v-2a4 4 0 0 0-3-3.87",key:"kshegd"}],["path",{d:"M16 3.13a4 4 0 0 1 0 7.75",key:"1da9ce"}]],wS=De("users",xS);/**
- * @license lucide-react v0.487.0 - ISC
- *
- * This source code is licensed under the ISC license.
- * See the LICENSE file in the root directory of this source tree.
- */const bS=[["path",{d:"M18 6 6 18",key:"1bl5f8"}],["path",{d:"m6 6 12 12",key:"d8bk6v"}]],ii=De("x",bS);function Le(t,r,{checkForDefaultPrevented:s=!0}={}){return function(l){if(t?.(l),s===!1||!l.defaultPrevented)return r?.(l)}}function SS(t,r){const s=m.createContext(r),i=u=>{const{children:f,...p}=u,g=m.useMemo(()=>p,Object.values(p));return a.jsx(s.Provider,{value:g,children:f})};i.displayName=t+"Provider";function l(u){const f=m.useContext(s);if(f)return f;if(r!==void 0)return r;throw new Error(`\`${u}\` must be used within \`${t}\``)}return[i,l]}function ir(t,r=[]){let s=[];function i(u,f){const p=m.createContext(f),g=s.length;s=[...s,f];const y=v=>{const{scope:N,children:C,...E}=v,S=N?.[t]?.[g]||p,b=m.useMemo(()=>E,Object.values(E));return a.jsx(S.Provider,{value:b,children:C})};y.displayName=u+"Provider";function x(v,N){const C=N?.[t]?.[g]||p,E=m.useContext(C);if(E)return E;if(f!==void 0)return f;throw new Error(`\`${v}\` must be used within \`${u}\``)}return[y,x]}const l=()=>{const u=s.map(f=>m.createContext(f));return function(p){const g=p?.[t]||u;return m.useMemo(()=>({[`__scope${t}`]:{...p,[t]:g}}),[p,g])}};return l.scopeName=t,[i,CS(l,...r)]}function CS(...t){const r=t[0];if(t.length===1)return r;const s=()=>{const i=t.map(l=>({useScope:l(),scopeName:l.scopeName}));return function(u){const f=i.reduce((p,{useScope:g,scopeName:y})=>{const v=g(u)[`__scope${y}`];return{...p,...v}},{});return m.useMemo(()=>({[`__scope${r.scopeName}`]:f}),[f])}};return s.scopeName=r.scopeName,s}var St=globalThis?.document?m.useLayoutEffect:()=>{},NS=Lm[" useId ".trim().toString()]||(()=>{}),jS=0;function tr(t){const[r,s]=m.useState(NS());return St(()=>{s(i=>i??String(jS++))},[t]),t||(r?`radix-${r}`:"")}var ES=Lm[" useInsertionEffect ".trim().toString()]||St;function Ar({prop:t,defaultProp:r,onChange:s=()=>{},caller:i}){const[l,u,f]=kS({defaultProp:r,onChange:s}),p=t!==void 0,g=p?t:l;{const x=m.useRef(t!==void 0);m.useEffect(()=>{const v=x.current;v!==p&&console.warn(`${i} is changing from ${v?"controlled":"uncontrolled"} to ${p?"controlled":"uncontrolled"}. Components should not switch from controlled to uncontrolled (or vice versa). Decide between using a controlled or uncontrolled value for the lifetime of the component.`),x.current=p},[p,i])}const y=m.useCallback(x=>{if(p){const v=TS(x)?x(t):x;v!==t&&f.current?.(v)}else u(x)},[p,t,u,f]);return[g,y]}function kS({defaultProp:t,onChange:r}){const[s,i]=m.useState(t),l=m.useRef(s),u=m.useRef(r);return ES(()=>{u.current=r},[r]),m.useEffect(()=>{l.current!==s&&(u.current?.(s),l.current=s)},[s,l]),[s,i,u]}function TS(t){return typeof t=="function"}var PS=["a","button","div","form","h2","h3","img","input","label","li","nav","ol","p","select","span","svg","ul"],Ie=PS.reduce((t,r)=>{const s=Us(`Primitive.${r}`),i=m.forwardRef((l,u)=>{const{asChild:f,...p}=l,g=f?s:r;return typeof window<"u"&&(window[Symbol.for("radix-ui")]=!0),a.jsx(g,{...p,ref:u})});return i.displayName=`Primitive.${r}`,{...t,[r]:i}},{});function RS(t,r){t&&oi.flushSync(()=>t.dispatchEvent(r))}function Lr(t){const r=m.useRef(t);return m.useEffect(()=>{r.current=t}),m.useMemo(()=>(...s)=>r.current?.(...s),[])}function DS(t,r=globalThis?.document){const s=Lr(t);m.useEffect(()=>{const i=l=>{l.key==="Escape"&&s(l)};return r.addEventListener("keydown",i,{capture:!0}),()=>r.removeEventListener("keydown",i,{capture:!0})},[s,r])}var IS="DismissableLayer",Du="dismissableLayer.update",OS="dismissableLayer.pointerDownOutside",_S="dismissableLayer.focusOutside",Kh,bg=m.createContext({layers:new Set,layersWithOutsidePointerEventsDisabled:new Set,branches:new Set}),cd=m.forwardRef((t,r)=>{const{disableOutsidePointerEvents:s=!1,onEscapeKeyDown:i,onPointerDownOutside:l,onFocusOutside:u,onInteractOutside:f,onDismiss:p,...g}=t,y=m.useContext(bg),[x,v]=m.useState(null),N=x?.ownerDocument??globalThis?.document,[,C]=m.useState({}),E=Ge(r,G=>v(G)),S=Array.from(y.layers),[b]=[...y.layersWithOutsidePointerEventsDisabled].slice(-1),j=S.indexOf(b),k=x?S.indexOf(x):-1,P=y.layersWithOutsidePointerEventsDisabled.size>0,L=k>=j,B=LS(G=>{const H=G.target,se=[...y.branches].some(ae=>ae.contains(H));!L||se||(l?.(G),f?.(G),G.defaultPrevented||p?.())},N),W=zS(G=>{const H=G.target;[...y.branches].some(ae=>ae.contains(H))||(u?.(G),f?.(G),G.defaultPrevented||p?.())},N);return DS(G=>{k===y.layers.size-1&&(i?.(G),!G.defaultPrevented&&p&&(G.preventDefault(),p()))},N),m.useEffect(()=>{if(x)return s&&(y.layersWithOutsidePointerEventsDisabled.size===0&&(Kh=N.body.style.pointerEvents,N.body.style.pointerEvents="none"),y.layersWithOutsidePointerEventsDisabled.add(x)),y.layers.add(x),Yh(),()=>{s&&y.layersWithOutsidePointerEventsDisabled.size===1&&(N.body.style.pointerEvents=Kh)}},[x,N,s,y]),m.useEffect(()=>()=>{x&&(y.layers.delete(x),y.layersWithOutsidePointerEventsDisabled.delete(x),Yh())},[x,y]),m.useEffect(()=>{const G=()=>C({});return document.addEventListener(Du,G),()=>document.removeEventListener(Du,G)},[]),a.jsx(Ie.div,{...g,ref:E,style:{pointerEvents:P?L?"auto":"none":void 0,...t.style},onFocusCapture:Le(t.onFocusCapture,W.onFocusCapture),onBlurCapture:Le(t.onBlurCapture,W.onBlurCapture),onPointerDownCapture:Le(t.onPointerDownCapture,B.onPointerDownCapture)})});cd.displayName=IS;var MS="DismissableLayerBranch",AS=m.forwardRef((t,r)=>{const s=m.useContext(bg),i=m.useRef(null),l=Ge(r,i);return m.useEffect(()=>{const u=i.current;if(u)return s.branches.add(u),()=>{s.branches.delete(u)}},[s.branches]),a.jsx(Ie.div,{...t,ref:l})});AS.displayName=MS;function LS(t,r=globalThis?.document){const s=Lr(t),i=m.useRef(!1),l=m.useRef(()=>{});return m.useEffect(()=>{const u=p=>{if(p.target&&!i.current){let g=function(){Sg(OS,s,y,{discrete:!0})};const y={originalEvent:p};p.pointerType==="touch"?(r.removeEventListener("click",l.current),l.current=g,r.addEventListener("click",l.current,{once:!0})):g()}else r.removeEventListener("click",l.current);i.current=!1},f=window.setTimeout(()=>{r.addEventListener("pointerdown",u)},0);return()=>{window.clearTimeout(f),r.removeEventListener("pointerdown",u),r.removeEventListener("click",l.current)}},[r,s]),{onPointerDownCapture:()=>i.current=!0}}function zS(t,r=globalThis?.document){const s=Lr(t),i=m.useRef(!1);return m.useEffect(()=>{const l=u=>{u.target&&!i.current&&Sg(_S,s,{originalEvent:u},{discrete:!1})};return r.addEventListener("focusin",l),()=>r.removeEventListener("focusin",l)},[r,s]),{onFocusCapture:()=>i.current=!0,onBlurCapture:()=>i.current=!1}}function Yh(){const t=new CustomEvent(Du);document.dispatchEvent(t)}function Sg(t,r,s,{discrete:i}){const l=s.originalEvent.target,u=new CustomEvent(t,{bubbles:!1,cancelable:!0,detail:s});r&&l.addEventListener(t,r,{once:!0}),i?RS(l,u):l.dispatchEvent(u)}var iu="focusScope.autoFocusOnMount",au="focusScope.autoFocusOnUnmount",qh={bubbles:!1,cancelable:!0},FS="FocusScope",ud=m.forwardRef((t,r)=>{const{loop:s=!1,trapped:i=!1,onMountAutoFocus:l,onUnmountAutoFocus:u,...f}=t,[p,g]=m.useState(null),y=Lr(l),x=Lr(u),v=m.useRef(null),N=Ge(r,S=>g(S)),C=m.useRef({paused:!1,pause(){this.paused=!0},resume(){this.paused=!1}}).current;m.useEffect(()=>{if(i){let S=function(P){if(C.paused||!p)return;const L=P.target;p.contains(L)?v.current=L:Or(v.current,{select:!0})},b=function(P){if(C.paused||!p)return;const L=P.relatedTarget;L!==null&&(p.contains(L)||Or(v.current,{select:!0}))},j=function(P){if(document.activeElement===document.body)for(const B of P)B.removedNodes.length>0&&Or(p)};document.addEventListener("focusin",S),document.addEventListener("focusout",b);const k=new MutationObserver(j);return p&&k.observe(p,{childList:!0,subtree:!0}),()=>{document.removeEventListener("focusin",S),document.removeEventListener("focusout",b),k.disconnect()}}},[i,p,C.paused]),m.useEffect(()=>{if(p){Qh.add(C);const S=document.activeElement;if(!p.contains(S)){const j=new CustomEvent(iu,qh);p.addEventListener(iu,y),p.dispatchEvent(j),j.defaultPrevented||($S(WS(Cg(p)),{select:!0}),document.activeElement===S&&Or(p))}return()=>{p.removeEventListener(iu,y),setTimeout(()=>{const j=new CustomEvent(au,qh);p.addEventListener(au,x),p.dispatchEvent(j),j.defaultPrevented||Or(S??document.body,{select:!0}),p.removeEventListener(au,x),Qh.remove(C)},0)}}},[p,y,x,C]);const E=m.useCallback(S=>{if(!s&&!i||C.paused)return;const b=S.key==="Tab"&&!S.altKey&&!S.ctrlKey&&!S.metaKey,j=document.activeElement;if(b&&j){const k=S.currentTarget,[P,L]=HS(k);P&&L?!S.shiftKey&&j===L?(S.preventDefault(),s&&Or(P,{select:!0})):S.shiftKey&&j===P&&(S.preventDefault(),s&&Or(L,{select:!0})):j===k&&S.preventDefault()}},[s,i,C.paused]);return a.jsx(Ie.div,{tabIndex:-1,...f,ref:N,onKeyDown:E})});ud.displayName=FS;function $S(t,{select:r=!1}={}){const s=document.activeElement;for(const i of t)if(Or(i,{select:r}),document.activeElement!==s)return}function HS(t){const r=Cg(t),s=Xh(r,t),i=Xh(r.reverse(),t);return[s,i]}function Cg(t){const r=[],s=document.createTreeWalker(t,NodeFilter.SHOW_ELEMENT,{acceptNode:i=>{const l=i.tagName==="INPUT"&&i.type==="hidden";return i.disabled||i.hidden||l?NodeFilter.FILTER_SKIP:i.tabIndex>=0?NodeFilter.FILTER_ACCEPT:NodeFilter.FILTER_SKIP}});for(;s.nextNode();)r.push(s.currentNode);return r}function Xh(t,r){for(const s of t)if(!BS(s,{upTo:r}))return s}function BS(t,{upTo:r}){if(getComputedStyle(t).visibility==="hidden")return!0;for(;t;){if(r!==void 0&&t===r)return!1;if(getComputedStyle(t).display==="none")return!0;t=t.parentElement}return!1}function US(t){return t instanceof HTMLInputElement&&"select"in t}function Or(t,{select:r=!1}={}){if(t&&t.focus){const s=document.activeElement;t.focus({preventScroll:!0}),t!==s&&US(t)&&r&&t.select()}}var Qh=VS();function VS(){let t=[];return{add(r){const s=t[0];r!==s&&s?.pause(),t=Jh(t,r),t.unshift(r)},remove(r){t=Jh(t,r),t[0]?.resume()}}}function Jh(t,r){const s=[...t],i=s.indexOf(r);return i!==-1&&s.splice(i,1),s}function WS(t){return t.filter(r=>r.tagName!=="A")}var GS="Portal",dd=m.forwardRef((t,r)=>{const{container:s,...i}=t,[l,u]=m.useState(!1);St(()=>u(!0),[]);const f=s||l&&globalThis?.document?.body;return f?eg.createPortal(a.jsx(Ie.div,{...i,ref:r}),f):null});dd.displayName=GS;function KS(t,r){return m.useReducer((s,i)=>r[s][i]??s,t)}var cs=t=>{const{present:r,children:s}=t,i=YS(r),l=typeof s=="function"?s({present:i.isPresent}):m.Children.only(s),u=Ge(i.ref,qS(l));return typeof s=="function"||i.isPresent?m.cloneElement(l,{ref:u}):null};cs.displayName="Presence";function YS(t){const[r,s]=m.useState(),i=m.useRef(null),l=m.useRef(t),u=m.useRef("none"),f=t?"mounted":"unmounted",[p,g]=KS(f,{mounted:{UNMOUNT:"unmounted",ANIMATION_OUT:"unmountSuspended"},unmountSuspended:{MOUNT:"mounted",ANIMATION_END:"unmounted"},unmounted:{MOUNT:"mounted"}});return m.useEffect(()=>{const y=ba(i.current);u.current=p==="mounted"?y:"none"},[p]),St(()=>{const y=i.current,x=l.current;if(x!==t){const N=u.current,C=ba(y);t?g("MOUNT"):C==="none"||y?.display==="none"?g("UNMOUNT"):g(x&&N!==C?"ANIMATION_OUT":"UNMOUNT"),l.current=t}},[t,g]),St(()=>{if(r){let y;const x=r.ownerDocument.defaultView??window,v=C=>{const S=ba(i.current).includes(CSS.escape(C.animationName));if(C.target===r&&S&&(g("ANIMATION_END"),!l.current)){const b=r.style.animationFillMode;r.style.animationFillMode="forwards",y=x.setTimeout(()=>{r.style.animationFillMode==="forwards"&&(r.style.animationFillMode=b)})}},N=C=>{C.target===r&&(u.current=ba(i.current))};return r.addEventListener("animationstart",N),r.addEventListener("animationcancel",v),r.addEventListener("animationend",v),()=>{x.clearTimeout(y),r.removeEventListener("animationstart",N),r.removeEventListener("animationcancel",v),r.removeEventListener("animationend",v)}}else g("ANIMATION_END")},[r,g]),{isPresent:["mounted","unmountSuspended"].includes(p),ref:m.useCallback(y=>{i.current=y?getComputedStyle(y):null,s(y)},[])}}function ba(t){return t?.animationName||"none"}function qS(t){let r=Object.getOwnPropertyDescriptor(t.props,"ref")?.get,s=r&&"isReactWarning"in r&&r.isReactWarning;return s?t.ref:(r=Object.getOwnPropertyDescriptor(t,"ref")?.get,s=r&&"isReactWarning"in r&&r.isReactWarning,s?t.props.ref:t.props.ref||t.ref)}var lu=0;function Ng(){m.useEffect(()=>{const t=document.querySelectorAll("[data-radix-focus-guard]");return document.body.insertAdjacentElement("afterbegin",t[0]??Zh()),document.body.insertAdjacentElement("beforeend",t[1]??Zh()),lu++,()=>{lu===1&&document.querySelectorAll("[data-radix-focus-guard]").forEach(r=>r.remove()),lu--}},[])}function Zh(){const t=document.createElement("span");return t.setAttribute("data-radix-focus-guard",""),t.tabIndex=0,t.style.outline="none",t.style.opacity="0",t.style.position="fixed",t.style.pointerEvents="none",t}var In=function(){return In=Object.assign||function(r){for(var s,i=1,l=arguments.length;i<l;i++){s=arguments[i];for(var u in s)Object.prototype.hasOwnProperty.call(s,u)&&(r[u]=s[u])}return r},In.apply(this,arguments)};function jg(t,r){var s={};for(var i in t)Object.prototype.hasOwnProperty.call(t,i)&&r.indexOf(i)<0&&(s[i]=t[i]);if(t!=null&&typeof Object.getOwnPropertySymbols=="function")for(var l=0,i=Object.getOwnPropertySymbols(t);l<i.length;l++)r.indexOf(i[l])<0&&Object.prototype.propertyIsEnumerable.call(t,i[l])&&(s[i[l]]=t[i[l]]);return s}function XS(t,r,s){if(s||arguments.length===2)for(var i=0,l=r.length,u;i<l;i++)(u||!(i in r))&&(u||(u=Array.prototype.slice.call(r,0,i)),u[i]=r[i]);return t.concat(u||Array.prototype.slice.call(r))}var Da="right-scroll-bar-position",Ia="width-before-scroll-bar",QS="with-scroll-bars-hidden",JS="--removed-body-scroll-bar-size";function cu(t,r){return typeof t=="function"?t(r):t&&(t.current=r),t}function ZS(t,r){var s=m.useState(function(){return{value:t,callback:r,facade:{get current(){return s.value},set current(i){var l=s.value;l!==i&&(s.value=i,s.callback(i,l))}}}})[0];return s.callback=r,s.facade}var eC=typeof window<"u"?m.useLayoutEffect:m.useEffect,em=new WeakMap;function tC(t,r){var s=ZS(null,function(i){return t.forEach(function(l){return cu(l,i)})});return eC(function(){var i=em.get(s);if(i){var l=new Set(i),u=new Set(t),f=s.current;l.forEach(function(p){u.has(p)||cu(p,null)}),u.forEach(function(p){l.has(p)||cu(p,f)})}em.set(s,t)},[t]),s}function nC(t){return t}function rC(t,r){r===void 0&&(r=nC);var s=[],i=!1,l={read:function(){if(i)throw new Error("Sidecar: could not `read` from an `assigned` medium. `read` could be used only with `useMedium`.");return s.length?s[s.length-1]:t},useMedium:function(u){var f=r(u,i);return s.push(f),function(){s=s.filter(function(p){return p!==f})}},assignSyncMedium:function(u){for(i=!0;s.length;){var f=s;s=[],f.forEach(u)}s={push:function(p){return u(p)},filter:function(){return s}}},assignMedium:function(u){i=!0;var f=[];if(s.length){var p=s;s=[],p.forEach(u),f=s}var g=function(){var x=f;f=[],x.forEach(u)},y=function(){return Promise.resolve().then(g)};y(),s={push:function(x){f.push(x),y()},filter:function(x){return f=f.filter(x),s}}}};return l}function sC(t){t===void 0&&(t={});var r=rC(null);return r.options=In({async:!0,ssr:!1},t),r}var Eg=function(t){var r=t.sideCar,s=jg(t,["sideCar"]);if(!r)throw new Error("Sidecar: please provide `sideCar` property to import the right car");var i=r.read();if(!i)throw new Error("Sidecar medium not found");return m.createElement(i,In({},s))};Eg.isSideCarExport=!0;function oC(t,r){return t.useMedium(r),Eg}var kg=sC(),uu=function(){},qa=m.forwardRef(function(t,r){var s=m.useRef(null),i=m.useState({onScrollCapture:uu,onWheelCapture:uu,onTouchMoveCapture:uu}),l=i[0],u=i[1],f=t.forwardProps,p=t.children,g=t.className,y=t.removeScrollBar,x=t.enabled,v=t.shards,N=t.sideCar,C=t.noRelative,E=t.noIsolation,S=t.inert,b=t.allowPinchZoom,j=t.as,k=j===void 0?"div":j,P=t.gapMode,L=jg(t,["forwardProps","children","className","removeScrollBar","enabled","shards","sideCar","noRelative","noIsolation","inert","allowPinchZoom","as","gapMode"]),B=N,W=tC([s,r]),G=In(In({},L),l);return m.createElement(m.Fragment,null,x&&m.createElement(B,{sideCar:kg,removeScrollBar:y,shards:v,noRelative:C,noIsolation:E,inert:S,setCallbacks:u,allowPinchZoom:!!b,lockRef:s,gapMode:P}),f?m.cloneElement(m.Children.only(p),In(In({},G),{ref:W})):m.createElement(k,In({},G,{className:g,ref:W}),p))});qa.defaultProps={enabled:!0,removeScrollBar:!0,inert:!1};qa.classNames={fullWidth:Ia,zeroRight:Da};var iC=function(){if(typeof __webpack_nonce__<"u")return __webpack_nonce__};function aC(){if(!document)return null;var t=document.createElement("style");t.type="text/css";var r=iC();return r&&t.setAttribute("nonce",r),t}function lC(t,r){t.styleSheet?t.styleSheet.cssText=r:t.appendChild(document.createTextNode(r))}function cC(t){var r=document.head||document.getElementsByTagName("head")[0];r.appendChild(t)}var uC=function(){var t=0,r=null;return{add:function(s){t==0&&(r=aC())&&(lC(r,s),cC(r)),t++},remove:function(){t--,!t&&r&&(r.parentNode&&r.parentNode.removeChild(r),r=null)}}},dC=function(){var t=uC();return function(r,s){m.useEffect(function(){return t.add(r),function(){t.remove()}},[r&&s])}},Tg=function(){var t=dC(),r=function(s){var i=s.styles,l=s.dynamic;return t(i,l),null};return r},fC={left:0,top:0,right:0,gap:0},du=function(t){return parseInt(t||"",10)||0},pC=function(t){var r=window.getComputedStyle(document.body),s=r[t==="padding"?"paddingLeft":"marginLeft"],i=r[t==="padding"?"paddingTop":"marginTop"],l=r[t==="padding"?"paddingRight":"marginRight"];return[du(s),du(i),du(l)]},hC=function(t){if(t===void 0&&(t="margin"),typeof window>"u")return fC;var r=pC(t),s=document.documentElement.clientWidth,i=window.innerWidth;return{left:r[0],top:r[1],right:r[2],gap:Math.max(0,i-s+r[2]-r[0])}},mC=Tg(),Hs="data-scroll-locked",gC=function(t,r,s,i){var l=t.left,u=t.top,f=t.right,p=t.gap;return s===void 0&&(s="margin"),`
-  .`.concat(QS,` {
-   overflow: hidden `).concat(i,`;
-   padding-right: `).concat(p,"px ").concat(i,`;
-  }
-  body[`).concat(Hs,`] {
-    overflow: hidden `).concat(i,`;
-    overscroll-behavior: contain;
-    `).concat([r&&"position: relative ".concat(i,";"),s==="margin"&&`
-    padding-left: `.concat(l,`px;
-    padding-top: `).concat(u,`px;
-    padding-right: `).concat(f,`px;
-    margin-left:0;
-    margin-top:0;
-    margin-right: `).concat(p,"px ").concat(i,`;
-    `),s==="padding"&&"padding-right: ".concat(p,"px ").concat(i,";")].filter(Boolean).join(""),`
-  }
-  
-  .`).concat(Da,` {
-    right: `).concat(p,"px ").concat(i,`;
-  }
-  
-  .`).concat(Ia,` {
-    margin-right: `).concat(p,"px ").concat(i,`;
-  }
-  
-  .`).concat(Da," .").concat(Da,` {
-    right: 0 `).concat(i,`;
-  }
-  
-  .`).concat(Ia," .").concat(Ia,` {
-    margin-right: 0 `).concat(i,`;
-  }
-  
-  body[`).concat(Hs,`] {
-    `).concat(JS,": ").concat(p,`px;
-  }
-`)},tm=function(){var t=parseInt(document.body.getAttribute(Hs)||"0",10);return isFinite(t)?t:0},vC=function(){m.useEffect(function(){return document.body.setAttribute(Hs,(tm()+1).toString()),function(){var t=tm()-1;t<=0?document.body.removeAttribute(Hs):document.body.setAttribute(Hs,t.toString())}},[])},yC=function(t){var r=t.noRelative,s=t.noImportant,i=t.gapMode,l=i===void 0?"margin":i;vC();var u=m.useMemo(function(){return hC(l)},[l]);return m.createElement(mC,{styles:gC(u,!r,l,s?"":"!important")})},Iu=!1;if(typeof window<"u")try{var Sa=Object.defineProperty({},"passive",{get:function(){return Iu=!0,!0}});window.addEventListener("test",Sa,Sa),window.removeEventListener("test",Sa,Sa)}catch{Iu=!1}var As=Iu?{passive:!1}:!1,xC=function(t){return t.tagName==="TEXTAREA"},Pg=function(t,r){if(!(t instanceof Element))return!1;var s=window.getComputedStyle(t);return s[r]!=="hidden"&&!(s.overflowY===s.overflowX&&!xC(t)&&s[r]==="visible")},wC=function(t){return Pg(t,"overflowY")},bC=function(t){return Pg(t,"overflowX")},nm=function(t,r){var s=r.ownerDocument,i=r;do{typeof ShadowRoot<"u"&&i instanceof ShadowRoot&&(i=i.host);var l=Rg(t,i);if(l){var u=Dg(t,i),f=u[1],p=u[2];if(f>p)return!0}i=i.parentNode}while(i&&i!==s.body);return!1},SC=function(t){var r=t.scrollTop,s=t.scrollHeight,i=t.clientHeight;return[r,s,i]},CC=function(t){var r=t.scrollLeft,s=t.scrollWidth,i=t.clientWidth;return[r,s,i]},Rg=function(t,r){return t==="v"?wC(r):bC(r)},Dg=function(t,r){return t==="v"?SC(r):CC(r)},NC=function(t,r){return t==="h"&&r==="rtl"?-1:1},jC=function(t,r,s,i,l){var u=NC(t,window.getComputedStyle(r).direction),f=u*i,p=s.target,g=r.contains(p),y=!1,x=f>0,v=0,N=0;do{if(!p)break;var C=Dg(t,p),E=C[0],S=C[1],b=C[2],j=S-b-u*E;(E||j)&&Rg(t,p)&&(v+=j,N+=E);var k=p.parentNode;p=k&&k.nodeType===Node.DOCUMENT_FRAGMENT_NODE?k.host:k}while(!g&&p!==document.body||g&&(r.contains(p)||r===p));return(x&&Math.abs(v)<1||!x&&Math.abs(N)<1)&&(y=!0),y},Ca=function(t){return"changedTouches"in t?[t.changedTouches[0].clientX,t.changedTouches[0].clientY]:[0,0]},rm=function(t){return[t.deltaX,t.deltaY]},sm=function(t){return t&&"current"in t?t.current:t},EC=function(t,r){return t[0]===r[0]&&t[1]===r[1]},kC=function(t){return`
-  .block-interactivity-`.concat(t,` {pointer-events: none;}
-  .allow-interactivity-`).concat(t,` {pointer-events: all;}
-`)},TC=0,Ls=[];function PC(t){var r=m.useRef([]),s=m.useRef([0,0]),i=m.useRef(),l=m.useState(TC++)[0],u=m.useState(Tg)[0],f=m.useRef(t);m.useEffect(function(){f.current=t},[t]),m.useEffect(function(){if(t.inert){document.body.classList.add("block-interactivity-".concat(l));var S=XS([t.lockRef.current],(t.shards||[]).map(sm),!0).filter(Boolean);return S.forEach(function(b){return b.classList.add("allow-interactivity-".concat(l))}),function(){document.body.classList.remove("block-interactivity-".concat(l)),S.forEach(function(b){return b.classList.remove("allow-interactivity-".concat(l))})}}},[t.inert,t.lockRef.current,t.shards]);var p=m.useCallback(function(S,b){if("touches"in S&&S.touches.length===2||S.type==="wheel"&&S.ctrlKey)return!f.current.allowPinchZoom;var j=Ca(S),k=s.current,P="deltaX"in S?S.deltaX:k[0]-j[0],L="deltaY"in S?S.deltaY:k[1]-j[1],B,W=S.target,G=Math.abs(P)>Math.abs(L)?"h":"v";if("touches"in S&&G==="h"&&W.type==="range")return!1;var H=nm(G,W);if(!H)return!0;if(H?B=G:(B=G==="v"?"h":"v",H=nm(G,W)),!H)return!1;if(!i.current&&"changedTouches"in S&&(P||L)&&(i.current=B),!B)return!0;var se=i.current||B;return jC(se,b,S,se==="h"?P:L)},[]),g=m.useCallback(function(S){var b=S;if(!(!Ls.length||Ls[Ls.length-1]!==u)){var j="deltaY"in b?rm(b):Ca(b),k=r.current.filter(function(B){return B.name===b.type&&(B.target===b.target||b.target===B.shadowParent)&&EC(B.delta,j)})[0];if(k&&k.should){b.cancelable&&b.preventDefault();return}if(!k){var P=(f.current.shards||[]).map(sm).filter(Boolean).filter(function(B){return B.contains(b.target)}),L=P.length>0?p(b,P[0]):!f.current.noIsolation;L&&b.cancelable&&b.preventDefault()}}},[]),y=m.useCallback(function(S,b,j,k){var P={name:S,delta:b,target:j,should:k,shadowParent:RC(j)};r.current.push(P),setTimeout(function(){r.current=r.current.filter(function(L){return L!==P})},1)},[]),x=m.useCallback(function(S){s.current=Ca(S),i.current=void 0},[]),v=m.useCallback(function(S){y(S.type,rm(S),S.target,p(S,t.lockRef.current))},[]),N=m.useCallback(function(S){y(S.type,Ca(S),S.target,p(S,t.lockRef.current))},[]);m.useEffect(function(){return Ls.push(u),t.setCallbacks({onScrollCapture:v,onWheelCapture:v,onTouchMoveCapture:N}),document.addEventListener("wheel",g,As),document.addEventListener("touchmove",g,As),document.addEventListener("touchstart",x,As),function(){Ls=Ls.filter(function(S){return S!==u}),document.removeEventListener("wheel",g,As),document.removeEventListener("touchmove",g,As),document.removeEventListener("touchstart",x,As)}},[]);var C=t.removeScrollBar,E=t.inert;return m.createElement(m.Fragment,null,E?m.createElement(u,{styles:kC(l)}):null,C?m.createElement(yC,{noRelative:t.noRelative,gapMode:t.gapMode}):null)}function RC(t){for(var r=null;t!==null;)t instanceof ShadowRoot&&(r=t.host,t=t.host),t=t.parentNode;return r}const DC=oC(kg,PC);var fd=m.forwardRef(function(t,r){return m.createElement(qa,In({},t,{ref:r,sideCar:DC}))});fd.classNames=qa.classNames;var IC=function(t){if(typeof document>"u")return null;var r=Array.isArray(t)?t[0]:t;return r.ownerDocument.body},zs=new WeakMap,Na=new WeakMap,ja={},fu=0,Ig=function(t){return t&&(t.host||Ig(t.parentNode))},OC=function(t,r){return r.map(function(s){if(t.contains(s))return s;var i=Ig(s);return i&&t.contains(i)?i:(console.error("aria-hidden",s,"in not contained inside",t,". Doing nothing"),null)}).filter(function(s){return!!s})},_C=function(t,r,s,i){var l=OC(r,Array.isArray(t)?t:[t]);ja[s]||(ja[s]=new WeakMap);var u=ja[s],f=[],p=new Set,g=new Set(l),y=function(v){!v||p.has(v)||(p.add(v),y(v.parentNode))};l.forEach(y);var x=function(v){!v||g.has(v)||Array.prototype.forEach.call(v.children,function(N){if(p.has(N))x(N);else try{var C=N.getAttribute(i),E=C!==null&&C!=="false",S=(zs.get(N)||0)+1,b=(u.get(N)||0)+1;zs.set(N,S),u.set(N,b),f.push(N),S===1&&E&&Na.set(N,!0),b===1&&N.setAttribute(s,"true"),E||N.setAttribute(i,"true")}catch(j){console.error("aria-hidden: cannot operate on ",N,j)}})};return x(r),p.clear(),fu++,function(){f.forEach(function(v){var N=zs.get(v)-1,C=u.get(v)-1;zs.set(v,N),u.set(v,C),N||(Na.has(v)||v.removeAttribute(i),Na.delete(v)),C||v.removeAttribute(s)}),fu--,fu||(zs=new WeakMap,zs=new WeakMap,Na=new WeakMap,ja={})}},Og=function(t,r,s){s===void 0&&(s="data-aria-hidden");var i=Array.from(Array.isArray(t)?t:[t]),l=IC(t);return l?(i.push.apply(i,Array.from(l.querySelectorAll("[aria-live], script"))),_C(i,l,s,"aria-hidden")):function(){return null}},Xa="Dialog",[_g]=ir(Xa),[MC,Cn]=_g(Xa),Mg=t=>{const{__scopeDialog:r,children:s,open:i,defaultOpen:l,onOpenChange:u,modal:f=!0}=t,p=m.useRef(null),g=m.useRef(null),[y,x]=Ar({prop:i,defaultProp:l??!1,onChange:u,caller:Xa});return a.jsx(MC,{scope:r,triggerRef:p,contentRef:g,contentId:tr(),titleId:tr(),descriptionId:tr(),open:y,onOpenChange:x,onOpenToggle:m.useCallback(()=>x(v=>!v),[x]),modal:f,children:s})};Mg.displayName=Xa;var Ag="DialogTrigger",Lg=m.forwardRef((t,r)=>{const{__scopeDialog:s,...i}=t,l=Cn(Ag,s),u=Ge(r,l.triggerRef);return a.jsx(Ie.button,{type:"button","aria-haspopup":"dialog","aria-expanded":l.open,"aria-controls":l.contentId,"data-state":md(l.open),...i,ref:u,onClick:Le(t.onClick,l.onOpenToggle)})});Lg.displayName=Ag;var pd="DialogPortal",[AC,zg]=_g(pd,{forceMount:void 0}),Fg=t=>{const{__scopeDialog:r,forceMount:s,children:i,container:l}=t,u=Cn(pd,r);return a.jsx(AC,{scope:r,forceMount:s,children:m.Children.map(i,f=>a.jsx(cs,{present:s||u.open,children:a.jsx(dd,{asChild:!0,container:l,children:f})}))})};Fg.displayName=pd;var za="DialogOverlay",$g=m.forwardRef((t,r)=>{const s=zg(za,t.__scopeDialog),{forceMount:i=s.forceMount,...l}=t,u=Cn(za,t.__scopeDialog);return u.modal?a.jsx(cs,{present:i||u.open,children:a.jsx(zC,{...l,ref:r})}):null});$g.displayName=za;var LC=Us("DialogOverlay.RemoveScroll"),zC=m.forwardRef((t,r)=>{const{__scopeDialog:s,...i}=t,l=Cn(za,s);return a.jsx(fd,{as:LC,allowPinchZoom:!0,shards:[l.contentRef],children:a.jsx(Ie.div,{"data-state":md(l.open),...i,ref:r,style:{pointerEvents:"auto",...i.style}})})}),ss="DialogContent",Hg=m.forwardRef((t,r)=>{const s=zg(ss,t.__scopeDialog),{forceMount:i=s.forceMount,...l}=t,u=Cn(ss,t.__scopeDialog);return a.jsx(cs,{present:i||u.open,children:u.modal?a.jsx(FC,{...l,ref:r}):a.jsx($C,{...l,ref:r})})});Hg.displayName=ss;var FC=m.forwardRef((t,r)=>{const s=Cn(ss,t.__scopeDialog),i=m.useRef(null),l=Ge(r,s.contentRef,i);return m.useEffect(()=>{const u=i.current;if(u)return Og(u)},[]),a.jsx(Bg,{...t,ref:l,trapFocus:s.open,disableOutsidePointerEvents:!0,onCloseAutoFocus:Le(t.onCloseAutoFocus,u=>{u.preventDefault(),s.triggerRef.current?.focus()}),onPointerDownOutside:Le(t.onPointerDownOutside,u=>{const f=u.detail.originalEvent,p=f.button===0&&f.ctrlKey===!0;(f.button===2||p)&&u.preventDefault()}),onFocusOutside:Le(t.onFocusOutside,u=>u.preventDefault())})}),$C=m.forwardRef((t,r)=>{const s=Cn(ss,t.__scopeDialog),i=m.useRef(!1),l=m.useRef(!1);return a.jsx(Bg,{...t,ref:r,trapFocus:!1,disableOutsidePointerEvents:!1,onCloseAutoFocus:u=>{t.onCloseAutoFocus?.(u),u.defaultPrevented||(i.current||s.triggerRef.current?.focus(),u.preventDefault()),i.current=!1,l.current=!1},onInteractOutside:u=>{t.onInteractOutside?.(u),u.defaultPrevented||(i.current=!0,u.detail.originalEvent.type==="pointerdown"&&(l.current=!0));const f=u.target;s.triggerRef.current?.contains(f)&&u.preventDefault(),u.detail.originalEvent.type==="focusin"&&l.current&&u.preventDefault()}})}),Bg=m.forwardRef((t,r)=>{const{__scopeDialog:s,trapFocus:i,onOpenAutoFocus:l,onCloseAutoFocus:u,...f}=t,p=Cn(ss,s),g=m.useRef(null),y=Ge(r,g);return Ng(),a.jsxs(a.Fragment,{children:[a.jsx(ud,{asChild:!0,loop:!0,trapped:i,onMountAutoFocus:l,onUnmountAutoFocus:u,children:a.jsx(cd,{role:"dialog",id:p.contentId,"aria-describedby":p.descriptionId,"aria-labelledby":p.titleId,"data-state":md(p.open),...f,ref:y,onDismiss:()=>p.onOpenChange(!1)})}),a.jsxs(a.Fragment,{children:[a.jsx(HC,{titleId:p.titleId}),a.jsx(UC,{contentRef:g,descriptionId:p.descriptionId})]})]})}),hd="DialogTitle",Ug=m.forwardRef((t,r)=>{const{__scopeDialog:s,...i}=t,l=Cn(hd,s);return a.jsx(Ie.h2,{id:l.titleId,...i,ref:r})});Ug.displayName=hd;var Vg="DialogDescription",Wg=m.forwardRef((t,r)=>{const{__scopeDialog:s,...i}=t,l=Cn(Vg,s);return a.jsx(Ie.p,{id:l.descriptionId,...i,ref:r})});Wg.displayName=Vg;var Gg="DialogClose",Kg=m.forwardRef((t,r)=>{const{__scopeDialog:s,...i}=t,l=Cn(Gg,s);return a.jsx(Ie.button,{type:"button",...i,ref:r,onClick:Le(t.onClick,()=>l.onOpenChange(!1))})});Kg.displayName=Gg;function md(t){return t?"open":"closed"}var Yg="DialogTitleWarning",[eP,qg]=SS(Yg,{contentName:ss,titleName:hd,docsSlug:"dialog"}),HC=({titleId:t})=>{const r=qg(Yg),s=`\`${r.contentName}\` requires a \`${r.titleName}\` for the component to be accessible for screen reader users.
-
-If you want to hide the \`${r.titleName}\`, you can wrap it with our VisuallyHidden component.
-
-For more information, see https://radix-ui.com/primitives/docs/components/${r.docsSlug}`;return m.useEffect(()=>{t&&(document.getElementById(t)||console.error(s))},[s,t]),null},BC="DialogDescriptionWarning",UC=({contentRef:t,descriptionId:r})=>{const i=`Warning: Missing \`Description\` or \`aria-describedby={undefined}\` for {${qg(BC).contentName}}.`;return m.useEffect(()=>{const l=t.current?.getAttribute("aria-describedby");r&&l&&(document.getElementById(r)||console.warn(i))},[i,t,r]),null},Xg=Mg,VC=Lg,Qg=Fg,gd=$g,Jg=Hg,Zg=Ug,WC=Wg,ev=Kg;function gn({...t}){return a.jsx(Xg,{"data-slot":"dialog",...t})}function _r({...t}){return a.jsx(VC,{"data-slot":"dialog-trigger",...t})}function GC({...t}){return a.jsx(Qg,{"data-slot":"dialog-portal",...t})}function KC({className:t,...r}){return a.jsx(gd,{"data-slot":"dialog-overlay",className:Ve("data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 fixed inset-0 z-50 bg-black/50",t),...r})}function vn({className:t,children:r,...s}){return a.jsxs(GC,{"data-slot":"dialog-portal",children:[a.jsx(KC,{}),a.jsxs(Jg,{"data-slot":"dialog-content",className:Ve("bg-background data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 data-[state=closed]:zoom-out-95 data-[state=open]:zoom-in-95 fixed top-[50%] left-[50%] z-50 grid w-full max-w-[calc(100%-2rem)] max-h-[calc(100vh-2rem)] translate-x-[-50%] translate-y-[-50%] gap-4 rounded-lg border p-6 shadow-lg duration-200 sm:max-w-lg overflow-y-auto",t),...s,children:[r,a.jsxs(ev,{className:"ring-offset-background focus:ring-ring data-[state=open]:bg-accent data-[state=open]:text-muted-foreground absolute top-4 right-4 rounded-xs opacity-70 transition-opacity hover:opacity-100 focus:ring-2 focus:ring-offset-2 focus:outline-hidden disabled:pointer-events-none [&_svg]:pointer-events-none [&_svg]:shrink-0 [&_svg:not([class*='size-'])]:size-4",children:[a.jsx(ii,{}),a.jsx("span",{className:"sr-only",children:"Close"})]})]})]})}function _n({className:t,...r}){return a.jsx("div",{"data-slot":"dialog-header",className:Ve("flex flex-col gap-2 text-center sm:text-left",t),...r})}function Mn({className:t,...r}){return a.jsx(Zg,{"data-slot":"dialog-title",className:Ve("text-lg leading-none font-semibold",t),...r})}function Zn({className:t,...r}){return a.jsx(WC,{"data-slot":"dialog-description",className:Ve("text-muted-foreground text-sm",t),...r})}var YC="Label",tv=m.forwardRef((t,r)=>a.jsx(Ie.label,{...t,ref:r,onMouseDown:s=>{s.target.closest("button, input, select, textarea")||(t.onMouseDown?.(s),!s.defaultPrevented&&s.detail>1&&s.preventDefault())}}));tv.displayName=YC;var qC=tv;function Ae({className:t,...r}){return a.jsx(qC,{"data-slot":"label",className:Ve("flex items-center gap-2 text-sm leading-none font-medium select-none group-data-[disabled=true]:pointer-events-none group-data-[disabled=true]:opacity-50 peer-disabled:cursor-not-allowed peer-disabled:opacity-50",t),...r})}function vd(t){const r=m.useRef({value:t,previous:t});return m.useMemo(()=>(r.current.value!==t&&(r.current.previous=r.current.value,r.current.value=t),r.current.previous),[t])}function yd(t){const[r,s]=m.useState(void 0);return St(()=>{if(t){s({width:t.offsetWidth,height:t.offsetHeight});const i=new ResizeObserver(l=>{if(!Array.isArray(l)||!l.length)return;const u=l[0];let f,p;if("borderBoxSize"in u){const g=u.borderBoxSize,y=Array.isArray(g)?g[0]:g;f=y.inlineSize,p=y.blockSize}else f=t.offsetWidth,p=t.offsetHeight;s({width:f,height:p})});return i.observe(t,{box:"border-box"}),()=>i.unobserve(t)}else s(void 0)},[t]),r}var Qa="Checkbox",[XC]=ir(Qa),[QC,xd]=XC(Qa);function JC(t){const{__scopeCheckbox:r,checked:s,children:i,defaultChecked:l,disabled:u,form:f,name:p,onCheckedChange:g,required:y,value:x="on",internal_do_not_use_render:v}=t,[N,C]=Ar({prop:s,defaultProp:l??!1,onChange:g,caller:Qa}),[E,S]=m.useState(null),[b,j]=m.useState(null),k=m.useRef(!1),P=E?!!f||!!E.closest("form"):!0,L={checked:N,disabled:u,setChecked:C,control:E,setControl:S,name:p,form:f,value:x,hasConsumerStoppedPropagationRef:k,required:y,defaultChecked:Mr(l)?!1:l,isFormControl:P,bubbleInput:b,setBubbleInput:j};return a.jsx(QC,{scope:r,...L,children:ZC(v)?v(L):i})}var nv="CheckboxTrigger",rv=m.forwardRef(({__scopeCheckbox:t,onKeyDown:r,onClick:s,...i},l)=>{const{control:u,value:f,disabled:p,checked:g,required:y,setControl:x,setChecked:v,hasConsumerStoppedPropagationRef:N,isFormControl:C,bubbleInput:E}=xd(nv,t),S=Ge(l,x),b=m.useRef(g);return m.useEffect(()=>{const j=u?.form;if(j){const k=()=>v(b.current);return j.addEventListener("reset",k),()=>j.removeEventListener("reset",k)}},[u,v]),a.jsx(Ie.button,{type:"button",role:"checkbox","aria-checked":Mr(g)?"mixed":g,"aria-required":y,"data-state":cv(g),"data-disabled":p?"":void 0,disabled:p,value:f,...i,ref:S,onKeyDown:Le(r,j=>{j.key==="Enter"&&j.preventDefault()}),onClick:Le(s,j=>{v(k=>Mr(k)?!0:!k),E&&C&&(N.current=j.isPropagationStopped(),N.current||j.stopPropagation())})})});rv.displayName=nv;var sv=m.forwardRef((t,r)=>{const{__scopeCheckbox:s,name:i,checked:l,defaultChecked:u,required:f,disabled:p,value:g,onCheckedChange:y,form:x,...v}=t;return a.jsx(JC,{__scopeCheckbox:s,checked:l,defaultChecked:u,disabled:p,required:f,onCheckedChange:y,name:i,form:x,value:g,internal_do_not_use_render:({isFormControl:N})=>a.jsxs(a.Fragment,{children:[a.jsx(rv,{...v,ref:r,__scopeCheckbox:s}),N&&a.jsx(lv,{__scopeCheckbox:s})]})})});sv.displayName=Qa;var ov="CheckboxIndicator",iv=m.forwardRef((t,r)=>{const{__scopeCheckbox:s,forceMount:i,...l}=t,u=xd(ov,s);return a.jsx(cs,{present:i||Mr(u.checked)||u.checked===!0,children:a.jsx(Ie.span,{"data-state":cv(u.checked),"data-disabled":u.disabled?"":void 0,...l,ref:r,style:{pointerEvents:"none",...t.style}})})});iv.displayName=ov;var av="CheckboxBubbleInput",lv=m.forwardRef(({__scopeCheckbox:t,...r},s)=>{const{control:i,hasConsumerStoppedPropagationRef:l,checked:u,defaultChecked:f,required:p,disabled:g,name:y,value:x,form:v,bubbleInput:N,setBubbleInput:C}=xd(av,t),E=Ge(s,C),S=vd(u),b=yd(i);m.useEffect(()=>{const k=N;if(!k)return;const P=window.HTMLInputElement.prototype,B=Object.getOwnPropertyDescriptor(P,"checked").set,W=!l.current;if(S!==u&&B){const G=new Event("click",{bubbles:W});k.indeterminate=Mr(u),B.call(k,Mr(u)?!1:u),k.dispatchEvent(G)}},[N,S,u,l]);const j=m.useRef(Mr(u)?!1:u);return a.jsx(Ie.input,{type:"checkbox","aria-hidden":!0,defaultChecked:f??j.current,required:p,disabled:g,name:y,value:x,form:v,...r,tabIndex:-1,ref:E,style:{...r.style,...b,position:"absolute",pointerEvents:"none",opacity:0,margin:0,transform:"translateX(-100%)"}})});lv.displayName=av;function ZC(t){return typeof t=="function"}function Mr(t){return t==="indeterminate"}function cv(t){return Mr(t)?"indeterminate":t?"checked":"unchecked"}function uv({className:t,...r}){return a.jsx(sv,{"data-slot":"checkbox",className:Ve("peer border bg-input-background dark:bg-input/30 data-[state=checked]:bg-primary data-[state=checked]:text-primary-foreground dark:data-[state=checked]:bg-primary data-[state=checked]:border-primary focus-visible:border-ring focus-visible:ring-ring/50 aria-invalid:ring-destructive/20 dark:aria-invalid:ring-destructive/40 aria-invalid:border-destructive size-4 shrink-0 rounded-[4px] border shadow-xs transition-shadow outline-none focus-visible:ring-[3px] disabled:cursor-not-allowed disabled:opacity-50",t),...r,children:a.jsx(iv,{"data-slot":"checkbox-indicator",className:"flex items-center justify-center text-current transition-none",children:a.jsx(Ws,{className:"size-3.5"})})})}function om(t,[r,s]){return Math.min(s,Math.max(r,t))}function dv(t){const r=t+"CollectionProvider",[s,i]=ir(r),[l,u]=s(r,{collectionRef:{current:null},itemMap:new Map}),f=S=>{const{scope:b,children:j}=S,k=te.useRef(null),P=te.useRef(new Map).current;return a.jsx(l,{scope:b,itemMap:P,collectionRef:k,children:j})};f.displayName=r;const p=t+"CollectionSlot",g=Us(p),y=te.forwardRef((S,b)=>{const{scope:j,children:k}=S,P=u(p,j),L=Ge(b,P.collectionRef);return a.jsx(g,{ref:L,children:k})});y.displayName=p;const x=t+"CollectionItemSlot",v="data-radix-collection-item",N=Us(x),C=te.forwardRef((S,b)=>{const{scope:j,children:k,...P}=S,L=te.useRef(null),B=Ge(b,L),W=u(x,j);return te.useEffect(()=>(W.itemMap.set(L,{ref:L,...P}),()=>void W.itemMap.delete(L))),a.jsx(N,{[v]:"",ref:B,children:k})});C.displayName=x;function E(S){const b=u(t+"CollectionConsumer",S);return te.useCallback(()=>{const k=b.collectionRef.current;if(!k)return[];const P=Array.from(k.querySelectorAll(`[${v}]`));return Array.from(b.itemMap.values()).sort((W,G)=>P.indexOf(W.ref.current)-P.indexOf(G.ref.current))},[b.collectionRef,b.itemMap])}return[{Provider:f,Slot:y,ItemSlot:C},E,i]}var eN=m.createContext(void 0);function wd(t){const r=m.useContext(eN);return t||r||"ltr"}const tN=["top","right","bottom","left"],zr=Math.min,Gt=Math.max,Fa=Math.round,Ea=Math.floor,Ln=t=>({x:t,y:t}),nN={left:"right",right:"left",bottom:"top",top:"bottom"},rN={start:"end",end:"start"};function Ou(t,r,s){return Gt(t,zr(r,s))}function rr(t,r){return typeof t=="function"?t(r):t}function sr(t){return t.split("-")[0]}function eo(t){return t.split("-")[1]}function bd(t){return t==="x"?"y":"x"}function Sd(t){return t==="y"?"height":"width"}const sN=new Set(["top","bottom"]);function An(t){return sN.has(sr(t))?"y":"x"}function Cd(t){return bd(An(t))}function oN(t,r,s){s===void 0&&(s=!1);const i=eo(t),l=Cd(t),u=Sd(l);let f=l==="x"?i===(s?"end":"start")?"right":"left":i==="start"?"bottom":"top";return r.reference[u]>r.floating[u]&&(f=$a(f)),[f,$a(f)]}function iN(t){const r=$a(t);return[_u(t),r,_u(r)]}function _u(t){return t.replace(/start|end/g,r=>rN[r])}const im=["left","right"],am=["right","left"],aN=["top","bottom"],lN=["bottom","top"];function cN(t,r,s){switch(t){case"top":case"bottom":return s?r?am:im:r?im:am;case"left":case"right":return r?aN:lN;default:return[]}}function uN(t,r,s,i){const l=eo(t);let u=cN(sr(t),s==="start",i);return l&&(u=u.map(f=>f+"-"+l),r&&(u=u.concat(u.map(_u)))),u}function $a(t){return t.replace(/left|right|bottom|top/g,r=>nN[r])}function dN(t){return{top:0,right:0,bottom:0,left:0,...t}}function fv(t){return typeof t!="number"?dN(t):{top:t,right:t,bottom:t,left:t}}function Ha(t){const{x:r,y:s,width:i,height:l}=t;return{width:i,height:l,top:s,left:r,right:r+i,bottom:s+l,x:r,y:s}}function lm(t,r,s){let{reference:i,floating:l}=t;const u=An(r),f=Cd(r),p=Sd(f),g=sr(r),y=u==="y",x=i.x+i.width/2-l.width/2,v=i.y+i.height/2-l.height/2,N=i[p]/2-l[p]/2;let C;switch(g){case"top":C={x,y:i.y-l.height};break;case"bottom":C={x,y:i.y+i.height};break;case"right":C={x:i.x+i.width,y:v};break;case"left":C={x:i.x-l.width,y:v};break;default:C={x:i.x,y:i.y}}switch(eo(r)){case"start":C[f]-=N*(s&&y?-1:1);break;case"end":C[f]+=N*(s&&y?-1:1);break}return C}const fN=async(t,r,s)=>{const{placement:i="bottom",strategy:l="absolute",middleware:u=[],platform:f}=s,p=u.filter(Boolean),g=await(f.isRTL==null?void 0:f.isRTL(r));let y=await f.getElementRects({reference:t,floating:r,strategy:l}),{x,y:v}=lm(y,i,g),N=i,C={},E=0;for(let S=0;S<p.length;S++){const{name:b,fn:j}=p[S],{x:k,y:P,data:L,reset:B}=await j({x,y:v,initialPlacement:i,placement:N,strategy:l,middlewareData:C,rects:y,platform:f,elements:{reference:t,floating:r}});x=k??x,v=P??v,C={...C,[b]:{...C[b],...L}},B&&E<=50&&(E++,typeof B=="object"&&(B.placement&&(N=B.placement),B.rects&&(y=B.rects===!0?await f.getElementRects({reference:t,floating:r,strategy:l}):B.rects),{x,y:v}=lm(y,N,g)),S=-1)}return{x,y:v,placement:N,strategy:l,middlewareData:C}};async function ti(t,r){var s;r===void 0&&(r={});const{x:i,y:l,platform:u,rects:f,elements:p,strategy:g}=t,{boundary:y="clippingAncestors",rootBoundary:x="viewport",elementContext:v="floating",altBoundary:N=!1,padding:C=0}=rr(r,t),E=fv(C),b=p[N?v==="floating"?"reference":"floating":v],j=Ha(await u.getClippingRect({element:(s=await(u.isElement==null?void 0:u.isElement(b)))==null||s?b:b.contextElement||await(u.getDocumentElement==null?void 0:u.getDocumentElement(p.floating)),boundary:y,rootBoundary:x,strategy:g})),k=v==="floating"?{x:i,y:l,width:f.floating.width,height:f.floating.height}:f.reference,P=await(u.getOffsetParent==null?void 0:u.getOffsetParent(p.floating)),L=await(u.isElement==null?void 0:u.isElement(P))?await(u.getScale==null?void 0:u.getScale(P))||{x:1,y:1}:{x:1,y:1},B=Ha(u.convertOffsetParentRelativeRectToViewportRelativeRect?await u.convertOffsetParentRelativeRectToViewportRelativeRect({elements:p,rect:k,offsetParent:P,strategy:g}):k);return{top:(j.top-B.top+E.top)/L.y,bottom:(B.bottom-j.bottom+E.bottom)/L.y,left:(j.left-B.left+E.left)/L.x,right:(B.right-j.right+E.right)/L.x}}const pN=t=>({name:"arrow",options:t,async fn(r){const{x:s,y:i,placement:l,rects:u,platform:f,elements:p,middlewareData:g}=r,{element:y,padding:x=0}=rr(t,r)||{};if(y==null)return{};const v=fv(x),N={x:s,y:i},C=Cd(l),E=Sd(C),S=await f.getDimensions(y),b=C==="y",j=b?"top":"left",k=b?"bottom":"right",P=b?"clientHeight":"clientWidth",L=u.reference[E]+u.reference[C]-N[C]-u.floating[E],B=N[C]-u.reference[C],W=await(f.getOffsetParent==null?void 0:f.getOffsetParent(y));let G=W?W[P]:0;(!G||!await(f.isElement==null?void 0:f.isElement(W)))&&(G=p.floating[P]||u.floating[E]);const H=L/2-B/2,se=G/2-S[E]/2-1,ae=zr(v[j],se),we=zr(v[k],se),de=ae,le=G-S[E]-we,ce=G/2-S[E]/2+H,be=Ou(de,ce,le),M=!g.arrow&&eo(l)!=null&&ce!==be&&u.reference[E]/2-(ce<de?ae:we)-S[E]/2<0,O=M?ce<de?ce-de:ce-le:0;return{[C]:N[C]+O,data:{[C]:be,centerOffset:ce-be-O,...M&&{alignmentOffset:O}},reset:M}}}),hN=function(t){return t===void 0&&(t={}),{name:"flip",options:t,async fn(r){var s,i;const{placement:l,middlewareData:u,rects:f,initialPlacement:p,platform:g,elements:y}=r,{mainAxis:x=!0,crossAxis:v=!0,fallbackPlacements:N,fallbackStrategy:C="bestFit",fallbackAxisSideDirection:E="none",flipAlignment:S=!0,...b}=rr(t,r);if((s=u.arrow)!=null&&s.alignmentOffset)return{};const j=sr(l),k=An(p),P=sr(p)===p,L=await(g.isRTL==null?void 0:g.isRTL(y.floating)),B=N||(P||!S?[$a(p)]:iN(p)),W=E!=="none";!N&&W&&B.push(...uN(p,S,E,L));const G=[p,...B],H=await ti(r,b),se=[];let ae=((i=u.flip)==null?void 0:i.overflows)||[];if(x&&se.push(H[j]),v){const ce=oN(l,f,L);se.push(H[ce[0]],H[ce[1]])}if(ae=[...ae,{placement:l,overflows:se}],!se.every(ce=>ce<=0)){var we,de;const ce=(((we=u.flip)==null?void 0:we.index)||0)+1,be=G[ce];if(be&&(!(v==="alignment"?k!==An(be):!1)||ae.every(R=>An(R.placement)===k?R.overflows[0]>0:!0)))return{data:{index:ce,overflows:ae},reset:{placement:be}};let M=(de=ae.filter(O=>O.overflows[0]<=0).sort((O,R)=>O.overflows[1]-R.overflows[1])[0])==null?void 0:de.placement;if(!M)switch(C){case"bestFit":{var le;const O=(le=ae.filter(R=>{if(W){const K=An(R.placement);return K===k||K==="y"}return!0}).map(R=>[R.placement,R.overflows.filter(K=>K>0).reduce((K,U)=>K+U,0)]).sort((R,K)=>R[1]-K[1])[0])==null?void 0:le[0];O&&(M=O);break}case"initialPlacement":M=p;break}if(l!==M)return{reset:{placement:M}}}return{}}}};function cm(t,r){return{top:t.top-r.height,right:t.right-r.width,bottom:t.bottom-r.height,left:t.left-r.width}}function um(t){return tN.some(r=>t[r]>=0)}const mN=function(t){return t===void 0&&(t={}),{name:"hide",options:t,async fn(r){const{rects:s}=r,{strategy:i="referenceHidden",...l}=rr(t,r);switch(i){case"referenceHidden":{const u=await ti(r,{...l,elementContext:"reference"}),f=cm(u,s.reference);return{data:{referenceHiddenOffsets:f,referenceHidden:um(f)}}}case"escaped":{const u=await ti(r,{...l,altBoundary:!0}),f=cm(u,s.floating);return{data:{escapedOffsets:f,escaped:um(f)}}}default:return{}}}}},pv=new Set(["left","top"]);async function gN(t,r){const{placement:s,platform:i,elements:l}=t,u=await(i.isRTL==null?void 0:i.isRTL(l.floating)),f=sr(s),p=eo(s),g=An(s)==="y",y=pv.has(f)?-1:1,x=u&&g?-1:1,v=rr(r,t);let{mainAxis:N,crossAxis:C,alignmentAxis:E}=typeof v=="number"?{mainAxis:v,crossAxis:0,alignmentAxis:null}:{mainAxis:v.mainAxis||0,crossAxis:v.crossAxis||0,alignmentAxis:v.alignmentAxis};return p&&typeof E=="number"&&(C=p==="end"?E*-1:E),g?{x:C*x,y:N*y}:{x:N*y,y:C*x}}const vN=function(t){return t===void 0&&(t=0),{name:"offset",options:t,async fn(r){var s,i;const{x:l,y:u,placement:f,middlewareData:p}=r,g=await gN(r,t);return f===((s=p.offset)==null?void 0:s.placement)&&(i=p.arrow)!=null&&i.alignmentOffset?{}:{x:l+g.x,y:u+g.y,data:{...g,placement:f}}}}},yN=function(t){return t===void 0&&(t={}),{name:"shift",options:t,async fn(r){const{x:s,y:i,placement:l}=r,{mainAxis:u=!0,crossAxis:f=!1,limiter:p={fn:b=>{let{x:j,y:k}=b;return{x:j,y:k}}},...g}=rr(t,r),y={x:s,y:i},x=await ti(r,g),v=An(sr(l)),N=bd(v);let C=y[N],E=y[v];if(u){const b=N==="y"?"top":"left",j=N==="y"?"bottom":"right",k=C+x[b],P=C-x[j];C=Ou(k,C,P)}if(f){const b=v==="y"?"top":"left",j=v==="y"?"bottom":"right",k=E+x[b],P=E-x[j];E=Ou(k,E,P)}const S=p.fn({...r,[N]:C,[v]:E});return{...S,data:{x:S.x-s,y:S.y-i,enabled:{[N]:u,[v]:f}}}}}},xN=function(t){return t===void 0&&(t={}),{options:t,fn(r){const{x:s,y:i,placement:l,rects:u,middlewareData:f}=r,{offset:p=0,mainAxis:g=!0,crossAxis:y=!0}=rr(t,r),x={x:s,y:i},v=An(l),N=bd(v);let C=x[N],E=x[v];const S=rr(p,r),b=typeof S=="number"?{mainAxis:S,crossAxis:0}:{mainAxis:0,crossAxis:0,...S};if(g){const P=N==="y"?"height":"width",L=u.reference[N]-u.floating[P]+b.mainAxis,B=u.reference[N]+u.reference[P]-b.mainAxis;C<L?C=L:C>B&&(C=B)}if(y){var j,k;const P=N==="y"?"width":"height",L=pv.has(sr(l)),B=u.reference[v]-u.floating[P]+(L&&((j=f.offset)==null?void 0:j[v])||0)+(L?0:b.crossAxis),W=u.reference[v]+u.reference[P]+(L?0:((k=f.offset)==null?void 0:k[v])||0)-(L?b.crossAxis:0);E<B?E=B:E>W&&(E=W)}return{[N]:C,[v]:E}}}},wN=function(t){return t===void 0&&(t={}),{name:"size",options:t,async fn(r){var s,i;const{placement:l,rects:u,platform:f,elements:p}=r,{apply:g=()=>{},...y}=rr(t,r),x=await ti(r,y),v=sr(l),N=eo(l),C=An(l)==="y",{width:E,height:S}=u.floating;let b,j;v==="top"||v==="bottom"?(b=v,j=N===(await(f.isRTL==null?void 0:f.isRTL(p.floating))?"start":"end")?"left":"right"):(j=v,b=N==="end"?"top":"bottom");const k=S-x.top-x.bottom,P=E-x.left-x.right,L=zr(S-x[b],k),B=zr(E-x[j],P),W=!r.middlewareData.shift;let G=L,H=B;if((s=r.middlewareData.shift)!=null&&s.enabled.x&&(H=P),(i=r.middlewareData.shift)!=null&&i.enabled.y&&(G=k),W&&!N){const ae=Gt(x.left,0),we=Gt(x.right,0),de=Gt(x.top,0),le=Gt(x.bottom,0);C?H=E-2*(ae!==0||we!==0?ae+we:Gt(x.left,x.right)):G=S-2*(de!==0||le!==0?de+le:Gt(x.top,x.bottom))}await g({...r,availableWidth:H,availableHeight:G});const se=await f.getDimensions(p.floating);return E!==se.width||S!==se.height?{reset:{rects:!0}}:{}}}};function Ja(){return typeof window<"u"}function to(t){return hv(t)?(t.nodeName||"").toLowerCase():"#document"}function Kt(t){var r;return(t==null||(r=t.ownerDocument)==null?void 0:r.defaultView)||window}function $n(t){var r;return(r=(hv(t)?t.ownerDocument:t.document)||window.document)==null?void 0:r.documentElement}function hv(t){return Ja()?t instanceof Node||t instanceof Kt(t).Node:!1}function xn(t){return Ja()?t instanceof Element||t instanceof Kt(t).Element:!1}function zn(t){return Ja()?t instanceof HTMLElement||t instanceof Kt(t).HTMLElement:!1}function dm(t){return!Ja()||typeof ShadowRoot>"u"?!1:t instanceof ShadowRoot||t instanceof Kt(t).ShadowRoot}const bN=new Set(["inline","contents"]);function ai(t){const{overflow:r,overflowX:s,overflowY:i,display:l}=wn(t);return/auto|scroll|overlay|hidden|clip/.test(r+i+s)&&!bN.has(l)}const SN=new Set(["table","td","th"]);function CN(t){return SN.has(to(t))}const NN=[":popover-open",":modal"];function Za(t){return NN.some(r=>{try{return t.matches(r)}catch{return!1}})}const jN=["transform","translate","scale","rotate","perspective"],EN=["transform","translate","scale","rotate","perspective","filter"],kN=["paint","layout","strict","content"];function Nd(t){const r=jd(),s=xn(t)?wn(t):t;return jN.some(i=>s[i]?s[i]!=="none":!1)||(s.containerType?s.containerType!=="normal":!1)||!r&&(s.backdropFilter?s.backdropFilter!=="none":!1)||!r&&(s.filter?s.filter!=="none":!1)||EN.some(i=>(s.willChange||"").includes(i))||kN.some(i=>(s.contain||"").includes(i))}function TN(t){let r=Fr(t);for(;zn(r)&&!Ks(r);){if(Nd(r))return r;if(Za(r))return null;r=Fr(r)}return null}function jd(){return typeof CSS>"u"||!CSS.supports?!1:CSS.supports("-webkit-backdrop-filter","none")}const PN=new Set(["html","body","#document"]);function Ks(t){return PN.has(to(t))}function wn(t){return Kt(t).getComputedStyle(t)}function el(t){return xn(t)?{scrollLeft:t.scrollLeft,scrollTop:t.scrollTop}:{scrollLeft:t.scrollX,scrollTop:t.scrollY}}function Fr(t){if(to(t)==="html")return t;const r=t.assignedSlot||t.parentNode||dm(t)&&t.host||$n(t);return dm(r)?r.host:r}function mv(t){const r=Fr(t);return Ks(r)?t.ownerDocument?t.ownerDocument.body:t.body:zn(r)&&ai(r)?r:mv(r)}function ni(t,r,s){var i;r===void 0&&(r=[]),s===void 0&&(s=!0);const l=mv(t),u=l===((i=t.ownerDocument)==null?void 0:i.body),f=Kt(l);if(u){const p=Mu(f);return r.concat(f,f.visualViewport||[],ai(l)?l:[],p&&s?ni(p):[])}return r.concat(l,ni(l,[],s))}function Mu(t){return t.parent&&Object.getPrototypeOf(t.parent)?t.frameElement:null}function gv(t){const r=wn(t);let s=parseFloat(r.width)||0,i=parseFloat(r.height)||0;const l=zn(t),u=l?t.offsetWidth:s,f=l?t.offsetHeight:i,p=Fa(s)!==u||Fa(i)!==f;return p&&(s=u,i=f),{width:s,height:i,$:p}}function Ed(t){return xn(t)?t:t.contextElement}function Bs(t){const r=Ed(t);if(!zn(r))return Ln(1);const s=r.getBoundingClientRect(),{width:i,height:l,$:u}=gv(r);let f=(u?Fa(s.width):s.width)/i,p=(u?Fa(s.height):s.height)/l;return(!f||!Number.isFinite(f))&&(f=1),(!p||!Number.isFinite(p))&&(p=1),{x:f,y:p}}const RN=Ln(0);function vv(t){const r=Kt(t);return!jd()||!r.visualViewport?RN:{x:r.visualViewport.offsetLeft,y:r.visualViewport.offsetTop}}function DN(t,r,s){return r===void 0&&(r=!1),!s||r&&s!==Kt(t)?!1:r}function os(t,r,s,i){r===void 0&&(r=!1),s===void 0&&(s=!1);const l=t.getBoundingClientRect(),u=Ed(t);let f=Ln(1);r&&(i?xn(i)&&(f=Bs(i)):f=Bs(t));const p=DN(u,s,i)?vv(u):Ln(0);let g=(l.left+p.x)/f.x,y=(l.top+p.y)/f.y,x=l.width/f.x,v=l.height/f.y;if(u){const N=Kt(u),C=i&&xn(i)?Kt(i):i;let E=N,S=Mu(E);for(;S&&i&&C!==E;){const b=Bs(S),j=S.getBoundingClientRect(),k=wn(S),P=j.left+(S.clientLeft+parseFloat(k.paddingLeft))*b.x,L=j.top+(S.clientTop+parseFloat(k.paddingTop))*b.y;g*=b.x,y*=b.y,x*=b.x,v*=b.y,g+=P,y+=L,E=Kt(S),S=Mu(E)}}return Ha({width:x,height:v,x:g,y})}function tl(t,r){const s=el(t).scrollLeft;return r?r.left+s:os($n(t)).left+s}function yv(t,r){const s=t.getBoundingClientRect(),i=s.left+r.scrollLeft-tl(t,s),l=s.top+r.scrollTop;return{x:i,y:l}}function IN(t){let{elements:r,rect:s,offsetParent:i,strategy:l}=t;const u=l==="fixed",f=$n(i),p=r?Za(r.floating):!1;if(i===f||p&&u)return s;let g={scrollLeft:0,scrollTop:0},y=Ln(1);const x=Ln(0),v=zn(i);if((v||!v&&!u)&&((to(i)!=="body"||ai(f))&&(g=el(i)),zn(i))){const C=os(i);y=Bs(i),x.x=C.x+i.clientLeft,x.y=C.y+i.clientTop}const N=f&&!v&&!u?yv(f,g):Ln(0);return{width:s.width*y.x,height:s.height*y.y,x:s.x*y.x-g.scrollLeft*y.x+x.x+N.x,y:s.y*y.y-g.scrollTop*y.y+x.y+N.y}}function ON(t){return Array.from(t.getClientRects())}function _N(t){const r=$n(t),s=el(t),i=t.ownerDocument.body,l=Gt(r.scrollWidth,r.clientWidth,i.scrollWidth,i.clientWidth),u=Gt(r.scrollHeight,r.clientHeight,i.scrollHeight,i.clientHeight);let f=-s.scrollLeft+tl(t);const p=-s.scrollTop;return wn(i).direction==="rtl"&&(f+=Gt(r.clientWidth,i.clientWidth)-l),{width:l,height:u,x:f,y:p}}const fm=25;function MN(t,r){const s=Kt(t),i=$n(t),l=s.visualViewport;let u=i.clientWidth,f=i.clientHeight,p=0,g=0;if(l){u=l.width,f=l.height;const x=jd();(!x||x&&r==="fixed")&&(p=l.offsetLeft,g=l.offsetTop)}const y=tl(i);if(y<=0){const x=i.ownerDocument,v=x.body,N=getComputedStyle(v),C=x.compatMode==="CSS1Compat"&&parseFloat(N.marginLeft)+parseFloat(N.marginRight)||0,E=Math.abs(i.clientWidth-v.clientWidth-C);E<=fm&&(u-=E)}else y<=fm&&(u+=y);return{width:u,height:f,x:p,y:g}}const AN=new Set(["absolute","fixed"]);function LN(t,r){const s=os(t,!0,r==="fixed"),i=s.top+t.clientTop,l=s.left+t.clientLeft,u=zn(t)?Bs(t):Ln(1),f=t.clientWidth*u.x,p=t.clientHeight*u.y,g=l*u.x,y=i*u.y;return{width:f,height:p,x:g,y}}function pm(t,r,s){let i;if(r==="viewport")i=MN(t,s);else if(r==="document")i=_N($n(t));else if(xn(r))i=LN(r,s);else{const l=vv(t);i={x:r.x-l.x,y:r.y-l.y,width:r.width,height:r.height}}return Ha(i)}function xv(t,r){const s=Fr(t);return s===r||!xn(s)||Ks(s)?!1:wn(s).position==="fixed"||xv(s,r)}function zN(t,r){const s=r.get(t);if(s)return s;let i=ni(t,[],!1).filter(p=>xn(p)&&to(p)!=="body"),l=null;const u=wn(t).position==="fixed";let f=u?Fr(t):t;for(;xn(f)&&!Ks(f);){const p=wn(f),g=Nd(f);!g&&p.position==="fixed"&&(l=null),(u?!g&&!l:!g&&p.position==="static"&&!!l&&AN.has(l.position)||ai(f)&&!g&&xv(t,f))?i=i.filter(x=>x!==f):l=p,f=Fr(f)}return r.set(t,i),i}function FN(t){let{element:r,boundary:s,rootBoundary:i,strategy:l}=t;const f=[...s==="clippingAncestors"?Za(r)?[]:zN(r,this._c):[].concat(s),i],p=f[0],g=f.reduce((y,x)=>{const v=pm(r,x,l);return y.top=Gt(v.top,y.top),y.right=zr(v.right,y.right),y.bottom=zr(v.bottom,y.bottom),y.left=Gt(v.left,y.left),y},pm(r,p,l));return{width:g.right-g.left,height:g.bottom-g.top,x:g.left,y:g.top}}function $N(t){const{width:r,height:s}=gv(t);return{width:r,height:s}}function HN(t,r,s){const i=zn(r),l=$n(r),u=s==="fixed",f=os(t,!0,u,r);let p={scrollLeft:0,scrollTop:0};const g=Ln(0);function y(){g.x=tl(l)}if(i||!i&&!u)if((to(r)!=="body"||ai(l))&&(p=el(r)),i){const C=os(r,!0,u,r);g.x=C.x+r.clientLeft,g.y=C.y+r.clientTop}else l&&y();u&&!i&&l&&y();const x=l&&!i&&!u?yv(l,p):Ln(0),v=f.left+p.scrollLeft-g.x-x.x,N=f.top+p.scrollTop-g.y-x.y;return{x:v,y:N,width:f.width,height:f.height}}function pu(t){return wn(t).position==="static"}function hm(t,r){if(!zn(t)||wn(t).position==="fixed")return null;if(r)return r(t);let s=t.offsetParent;return $n(t)===s&&(s=s.ownerDocument.body),s}function wv(t,r){const s=Kt(t);if(Za(t))return s;if(!zn(t)){let l=Fr(t);for(;l&&!Ks(l);){if(xn(l)&&!pu(l))return l;l=Fr(l)}return s}let i=hm(t,r);for(;i&&CN(i)&&pu(i);)i=hm(i,r);return i&&Ks(i)&&pu(i)&&!Nd(i)?s:i||TN(t)||s}const BN=async function(t){const r=this.getOffsetParent||wv,s=this.getDimensions,i=await s(t.floating);return{reference:HN(t.reference,await r(t.floating),t.strategy),floating:{x:0,y:0,width:i.width,height:i.height}}};function UN(t){return wn(t).direction==="rtl"}const VN={convertOffsetParentRelativeRectToViewportRelativeRect:IN,getDocumentElement:$n,getClippingRect:FN,getOffsetParent:wv,getElementRects:BN,getClientRects:ON,getDimensions:$N,getScale:Bs,isElement:xn,isRTL:UN};function bv(t,r){return t.x===r.x&&t.y===r.y&&t.width===r.width&&t.height===r.height}function WN(t,r){let s=null,i;const l=$n(t);function u(){var p;clearTimeout(i),(p=s)==null||p.disconnect(),s=null}function f(p,g){p===void 0&&(p=!1),g===void 0&&(g=1),u();const y=t.getBoundingClientRect(),{left:x,top:v,width:N,height:C}=y;if(p||r(),!N||!C)return;const E=Ea(v),S=Ea(l.clientWidth-(x+N)),b=Ea(l.clientHeight-(v+C)),j=Ea(x),P={rootMargin:-E+"px "+-S+"px "+-b+"px "+-j+"px",threshold:Gt(0,zr(1,g))||1};let L=!0;function B(W){const G=W[0].intersectionRatio;if(G!==g){if(!L)return f();G?f(!1,G):i=setTimeout(()=>{f(!1,1e-7)},1e3)}G===1&&!bv(y,t.getBoundingClientRect())&&f(),L=!1}try{s=new IntersectionObserver(B,{...P,root:l.ownerDocument})}catch{s=new IntersectionObserver(B,P)}s.observe(t)}return f(!0),u}function GN(t,r,s,i){i===void 0&&(i={});const{ancestorScroll:l=!0,ancestorResize:u=!0,elementResize:f=typeof ResizeObserver=="function",layoutShift:p=typeof IntersectionObserver=="function",animationFrame:g=!1}=i,y=Ed(t),x=l||u?[...y?ni(y):[],...ni(r)]:[];x.forEach(j=>{l&&j.addEventListener("scroll",s,{passive:!0}),u&&j.addEventListener("resize",s)});const v=y&&p?WN(y,s):null;let N=-1,C=null;f&&(C=new ResizeObserver(j=>{let[k]=j;k&&k.target===y&&C&&(C.unobserve(r),cancelAnimationFrame(N),N=requestAnimationFrame(()=>{var P;(P=C)==null||P.observe(r)})),s()}),y&&!g&&C.observe(y),C.observe(r));let E,S=g?os(t):null;g&&b();function b(){const j=os(t);S&&!bv(S,j)&&s(),S=j,E=requestAnimationFrame(b)}return s(),()=>{var j;x.forEach(k=>{l&&k.removeEventListener("scroll",s),u&&k.removeEventListener("resize",s)}),v?.(),(j=C)==null||j.disconnect(),C=null,g&&cancelAnimationFrame(E)}}const KN=vN,YN=yN,qN=hN,XN=wN,QN=mN,mm=pN,JN=xN,ZN=(t,r,s)=>{const i=new Map,l={platform:VN,...s},u={...l.platform,_c:i};return fN(t,r,{...l,platform:u})};var ej=typeof document<"u",tj=function(){},Oa=ej?m.useLayoutEffect:tj;function Ba(t,r){if(t===r)return!0;if(typeof t!=typeof r)return!1;if(typeof t=="function"&&t.toString()===r.toString())return!0;let s,i,l;if(t&&r&&typeof t=="object"){if(Array.isArray(t)){if(s=t.length,s!==r.length)return!1;for(i=s;i--!==0;)if(!Ba(t[i],r[i]))return!1;return!0}if(l=Object.keys(t),s=l.length,s!==Object.keys(r).length)return!1;for(i=s;i--!==0;)if(!{}.hasOwnProperty.call(r,l[i]))return!1;for(i=s;i--!==0;){const u=l[i];if(!(u==="_owner"&&t.$$typeof)&&!Ba(t[u],r[u]))return!1}return!0}return t!==t&&r!==r}function Sv(t){return typeof window>"u"?1:(t.ownerDocument.defaultView||window).devicePixelRatio||1}function gm(t,r){const s=Sv(t);return Math.round(r*s)/s}function hu(t){const r=m.useRef(t);return Oa(()=>{r.current=t}),r}function nj(t){t===void 0&&(t={});const{placement:r="bottom",strategy:s="absolute",middleware:i=[],platform:l,elements:{reference:u,floating:f}={},transform:p=!0,whileElementsMounted:g,open:y}=t,[x,v]=m.useState({x:0,y:0,strategy:s,placement:r,middlewareData:{},isPositioned:!1}),[N,C]=m.useState(i);Ba(N,i)||C(i);const[E,S]=m.useState(null),[b,j]=m.useState(null),k=m.useCallback(R=>{R!==W.current&&(W.current=R,S(R))},[]),P=m.useCallback(R=>{R!==G.current&&(G.current=R,j(R))},[]),L=u||E,B=f||b,W=m.useRef(null),G=m.useRef(null),H=m.useRef(x),se=g!=null,ae=hu(g),we=hu(l),de=hu(y),le=m.useCallback(()=>{if(!W.current||!G.current)return;const R={placement:r,strategy:s,middleware:N};we.current&&(R.platform=we.current),ZN(W.current,G.current,R).then(K=>{const U={...K,isPositioned:de.current!==!1};ce.current&&!Ba(H.current,U)&&(H.current=U,oi.flushSync(()=>{v(U)}))})},[N,r,s,we,de]);Oa(()=>{y===!1&&H.current.isPositioned&&(H.current.isPositioned=!1,v(R=>({...R,isPositioned:!1})))},[y]);const ce=m.useRef(!1);Oa(()=>(ce.current=!0,()=>{ce.current=!1}),[]),Oa(()=>{if(L&&(W.current=L),B&&(G.current=B),L&&B){if(ae.current)return ae.current(L,B,le);le()}},[L,B,le,ae,se]);const be=m.useMemo(()=>({reference:W,floating:G,setReference:k,setFloating:P}),[k,P]),M=m.useMemo(()=>({reference:L,floating:B}),[L,B]),O=m.useMemo(()=>{const R={position:s,left:0,top:0};if(!M.floating)return R;const K=gm(M.floating,x.x),U=gm(M.floating,x.y);return p?{...R,transform:"translate("+K+"px, "+U+"px)",...Sv(M.floating)>=1.5&&{willChange:"transform"}}:{position:s,left:K,top:U}},[s,p,M.floating,x.x,x.y]);return m.useMemo(()=>({...x,update:le,refs:be,elements:M,floatingStyles:O}),[x,le,be,M,O])}const rj=t=>{function r(s){return{}.hasOwnProperty.call(s,"current")}return{name:"arrow",options:t,fn(s){const{element:i,padding:l}=typeof t=="function"?t(s):t;return i&&r(i)?i.current!=null?mm({element:i.current,padding:l}).fn(s):{}:i?mm({element:i,padding:l}).fn(s):{}}}},sj=(t,r)=>({...KN(t),options:[t,r]}),oj=(t,r)=>({...YN(t),options:[t,r]}),ij=(t,r)=>({...JN(t),options:[t,r]}),aj=(t,r)=>({...qN(t),options:[t,r]}),lj=(t,r)=>({...XN(t),options:[t,r]}),cj=(t,r)=>({...QN(t),options:[t,r]}),uj=(t,r)=>({...rj(t),options:[t,r]});var dj="Arrow",Cv=m.forwardRef((t,r)=>{const{children:s,width:i=10,height:l=5,...u}=t;return a.jsx(Ie.svg,{...u,ref:r,width:i,height:l,viewBox:"0 0 30 10",preserveAspectRatio:"none",children:t.asChild?s:a.jsx("polygon",{points:"0,0 30,0 15,10"})})});Cv.displayName=dj;var fj=Cv,kd="Popper",[Nv,jv]=ir(kd),[pj,Ev]=Nv(kd),kv=t=>{const{__scopePopper:r,children:s}=t,[i,l]=m.useState(null);return a.jsx(pj,{scope:r,anchor:i,onAnchorChange:l,children:s})};kv.displayName=kd;var Tv="PopperAnchor",Pv=m.forwardRef((t,r)=>{const{__scopePopper:s,virtualRef:i,...l}=t,u=Ev(Tv,s),f=m.useRef(null),p=Ge(r,f),g=m.useRef(null);return m.useEffect(()=>{const y=g.current;g.current=i?.current||f.current,y!==g.current&&u.onAnchorChange(g.current)}),i?null:a.jsx(Ie.div,{...l,ref:p})});Pv.displayName=Tv;var Td="PopperContent",[hj,mj]=Nv(Td),Rv=m.forwardRef((t,r)=>{const{__scopePopper:s,side:i="bottom",sideOffset:l=0,align:u="center",alignOffset:f=0,arrowPadding:p=0,avoidCollisions:g=!0,collisionBoundary:y=[],collisionPadding:x=0,sticky:v="partial",hideWhenDetached:N=!1,updatePositionStrategy:C="optimized",onPlaced:E,...S}=t,b=Ev(Td,s),[j,k]=m.useState(null),P=Ge(r,q=>k(q)),[L,B]=m.useState(null),W=yd(L),G=W?.width??0,H=W?.height??0,se=i+(u!=="center"?"-"+u:""),ae=typeof x=="number"?x:{top:0,right:0,bottom:0,left:0,...x},we=Array.isArray(y)?y:[y],de=we.length>0,le={padding:ae,boundary:we.filter(vj),altBoundary:de},{refs:ce,floatingStyles:be,placement:M,isPositioned:O,middlewareData:R}=nj({strategy:"fixed",placement:se,whileElementsMounted:(...q)=>GN(...q,{animationFrame:C==="always"}),elements:{reference:b.anchor},middleware:[sj({mainAxis:l+H,alignmentAxis:f}),g&&oj({mainAxis:!0,crossAxis:!1,limiter:v==="partial"?ij():void 0,...le}),g&&aj({...le}),lj({...le,apply:({elements:q,rects:ee,availableWidth:pe,availableHeight:Ce})=>{const{width:oe,height:ye}=ee.reference,ze=q.floating.style;ze.setProperty("--radix-popper-available-width",`${pe}px`),ze.setProperty("--radix-popper-available-height",`${Ce}px`),ze.setProperty("--radix-popper-anchor-width",`${oe}px`),ze.setProperty("--radix-popper-anchor-height",`${ye}px`)}}),L&&uj({element:L,padding:p}),yj({arrowWidth:G,arrowHeight:H}),N&&cj({strategy:"referenceHidden",...le})]}),[K,U]=Ov(M),D=Lr(E);St(()=>{O&&D?.()},[O,D]);const A=R.arrow?.x,V=R.arrow?.y,X=R.arrow?.centerOffset!==0,[ne,fe]=m.useState();return St(()=>{j&&fe(window.getComputedStyle(j).zIndex)},[j]),a.jsx("div",{ref:ce.setFloating,"data-radix-popper-content-wrapper":"",style:{...be,transform:O?be.transform:"translate(0, -200%)",minWidth:"max-content",zIndex:ne,"--radix-popper-transform-origin":[R.transformOrigin?.x,R.transformOrigin?.y].join(" "),...R.hide?.referenceHidden&&{visibility:"hidden",pointerEvents:"none"}},dir:t.dir,children:a.jsx(hj,{scope:s,placedSide:K,onArrowChange:B,arrowX:A,arrowY:V,shouldHideArrow:X,children:a.jsx(Ie.div,{"data-side":K,"data-align":U,...S,ref:P,style:{...S.style,animation:O?void 0:"none"}})})})});Rv.displayName=Td;var Dv="PopperArrow",gj={top:"bottom",right:"left",bottom:"top",left:"right"},Iv=m.forwardRef(function(r,s){const{__scopePopper:i,...l}=r,u=mj(Dv,i),f=gj[u.placedSide];return a.jsx("span",{ref:u.onArrowChange,style:{position:"absolute",left:u.arrowX,top:u.arrowY,[f]:0,transformOrigin:{top:"",right:"0 0",bottom:"center 0",left:"100% 0"}[u.placedSide],transform:{top:"translateY(100%)",right:"translateY(50%) rotate(90deg) translateX(-50%)",bottom:"rotate(180deg)",left:"translateY(50%) rotate(-90deg) translateX(50%)"}[u.placedSide],visibility:u.shouldHideArrow?"hidden":void 0},children:a.jsx(fj,{...l,ref:s,style:{...l.style,display:"block"}})})});Iv.displayName=Dv;function vj(t){return t!==null}var yj=t=>({name:"transformOrigin",options:t,fn(r){const{placement:s,rects:i,middlewareData:l}=r,f=l.arrow?.centerOffset!==0,p=f?0:t.arrowWidth,g=f?0:t.arrowHeight,[y,x]=Ov(s),v={start:"0%",center:"50%",end:"100%"}[x],N=(l.arrow?.x??0)+p/2,C=(l.arrow?.y??0)+g/2;let E="",S="";return y==="bottom"?(E=f?v:`${N}px`,S=`${-g}px`):y==="top"?(E=f?v:`${N}px`,S=`${i.floating.height+g}px`):y==="right"?(E=`${-g}px`,S=f?v:`${C}px`):y==="left"&&(E=`${i.floating.width+g}px`,S=f?v:`${C}px`),{data:{x:E,y:S}}}});function Ov(t){const[r,s="center"]=t.split("-");return[r,s]}var xj=kv,wj=Pv,bj=Rv,Sj=Iv,_v=Object.freeze({position:"absolute",border:0,width:1,height:1,padding:0,margin:-1,overflow:"hidden",clip:"rect(0, 0, 0, 0)",whiteSpace:"nowrap",wordWrap:"normal"}),Cj="VisuallyHidden",Nj=m.forwardRef((t,r)=>a.jsx(Ie.span,{...t,ref:r,style:{..._v,...t.style}}));Nj.displayName=Cj;var jj=[" ","Enter","ArrowUp","ArrowDown"],Ej=[" ","Enter"],is="Select",[nl,rl,kj]=dv(is),[no]=ir(is,[kj,jv]),sl=jv(),[Tj,$r]=no(is),[Pj,Rj]=no(is),Mv=t=>{const{__scopeSelect:r,children:s,open:i,defaultOpen:l,onOpenChange:u,value:f,defaultValue:p,onValueChange:g,dir:y,name:x,autoComplete:v,disabled:N,required:C,form:E}=t,S=sl(r),[b,j]=m.useState(null),[k,P]=m.useState(null),[L,B]=m.useState(!1),W=wd(y),[G,H]=Ar({prop:i,defaultProp:l??!1,onChange:u,caller:is}),[se,ae]=Ar({prop:f,defaultProp:p,onChange:g,caller:is}),we=m.useRef(null),de=b?E||!!b.closest("form"):!0,[le,ce]=m.useState(new Set),be=Array.from(le).map(M=>M.props.value).join(";");return a.jsx(xj,{...S,children:a.jsxs(Tj,{required:C,scope:r,trigger:b,onTriggerChange:j,valueNode:k,onValueNodeChange:P,valueNodeHasChildren:L,onValueNodeHasChildrenChange:B,contentId:tr(),value:se,onValueChange:ae,open:G,onOpenChange:H,dir:W,triggerPointerDownPosRef:we,disabled:N,children:[a.jsx(nl.Provider,{scope:r,children:a.jsx(Pj,{scope:t.__scopeSelect,onNativeOptionAdd:m.useCallback(M=>{ce(O=>new Set(O).add(M))},[]),onNativeOptionRemove:m.useCallback(M=>{ce(O=>{const R=new Set(O);return R.delete(M),R})},[]),children:s})}),de?a.jsxs(ry,{"aria-hidden":!0,required:C,tabIndex:-1,name:x,autoComplete:v,value:se,onChange:M=>ae(M.target.value),disabled:N,form:E,children:[se===void 0?a.jsx("option",{value:""}):null,Array.from(le)]},be):null]})})};Mv.displayName=is;var Av="SelectTrigger",Lv=m.forwardRef((t,r)=>{const{__scopeSelect:s,disabled:i=!1,...l}=t,u=sl(s),f=$r(Av,s),p=f.disabled||i,g=Ge(r,f.onTriggerChange),y=rl(s),x=m.useRef("touch"),[v,N,C]=oy(S=>{const b=y().filter(P=>!P.disabled),j=b.find(P=>P.value===f.value),k=iy(b,S,j);k!==void 0&&f.onValueChange(k.value)}),E=S=>{p||(f.onOpenChange(!0),C()),S&&(f.triggerPointerDownPosRef.current={x:Math.round(S.pageX),y:Math.round(S.pageY)})};return a.jsx(wj,{asChild:!0,...u,children:a.jsx(Ie.button,{type:"button",role:"combobox","aria-controls":f.contentId,"aria-expanded":f.open,"aria-required":f.required,"aria-autocomplete":"none",dir:f.dir,"data-state":f.open?"open":"closed",disabled:p,"data-disabled":p?"":void 0,"data-placeholder":sy(f.value)?"":void 0,...l,ref:g,onClick:Le(l.onClick,S=>{S.currentTarget.focus(),x.current!=="mouse"&&E(S)}),onPointerDown:Le(l.onPointerDown,S=>{x.current=S.pointerType;const b=S.target;b.hasPointerCapture(S.pointerId)&&b.releasePointerCapture(S.pointerId),S.button===0&&S.ctrlKey===!1&&S.pointerType==="mouse"&&(E(S),S.preventDefault())}),onKeyDown:Le(l.onKeyDown,S=>{const b=v.current!=="";!(S.ctrlKey||S.altKey||S.metaKey)&&S.key.length===1&&N(S.key),!(b&&S.key===" ")&&jj.includes(S.key)&&(E(),S.preventDefault())})})})});Lv.displayName=Av;var zv="SelectValue",Fv=m.forwardRef((t,r)=>{const{__scopeSelect:s,className:i,style:l,children:u,placeholder:f="",...p}=t,g=$r(zv,s),{onValueNodeHasChildrenChange:y}=g,x=u!==void 0,v=Ge(r,g.onValueNodeChange);return St(()=>{y(x)},[y,x]),a.jsx(Ie.span,{...p,ref:v,style:{pointerEvents:"none"},children:sy(g.value)?a.jsx(a.Fragment,{children:f}):u})});Fv.displayName=zv;var Dj="SelectIcon",$v=m.forwardRef((t,r)=>{const{__scopeSelect:s,children:i,...l}=t;return a.jsx(Ie.span,{"aria-hidden":!0,...l,ref:r,children:i||"▼"})});$v.displayName=Dj;var Ij="SelectPortal",Hv=t=>a.jsx(dd,{asChild:!0,...t});Hv.displayName=Ij;var as="SelectContent",Bv=m.forwardRef((t,r)=>{const s=$r(as,t.__scopeSelect),[i,l]=m.useState();if(St(()=>{l(new DocumentFragment)},[]),!s.open){const u=i;return u?oi.createPortal(a.jsx(Uv,{scope:t.__scopeSelect,children:a.jsx(nl.Slot,{scope:t.__scopeSelect,children:a.jsx("div",{children:t.children})})}),u):null}return a.jsx(Vv,{...t,ref:r})});Bv.displayName=as;var hn=10,[Uv,Hr]=no(as),Oj="SelectContentImpl",_j=Us("SelectContent.RemoveScroll"),Vv=m.forwardRef((t,r)=>{const{__scopeSelect:s,position:i="item-aligned",onCloseAutoFocus:l,onEscapeKeyDown:u,onPointerDownOutside:f,side:p,sideOffset:g,align:y,alignOffset:x,arrowPadding:v,collisionBoundary:N,collisionPadding:C,sticky:E,hideWhenDetached:S,avoidCollisions:b,...j}=t,k=$r(as,s),[P,L]=m.useState(null),[B,W]=m.useState(null),G=Ge(r,q=>L(q)),[H,se]=m.useState(null),[ae,we]=m.useState(null),de=rl(s),[le,ce]=m.useState(!1),be=m.useRef(!1);m.useEffect(()=>{if(P)return Og(P)},[P]),Ng();const M=m.useCallback(q=>{const[ee,...pe]=de().map(ye=>ye.ref.current),[Ce]=pe.slice(-1),oe=document.activeElement;for(const ye of q)if(ye===oe||(ye?.scrollIntoView({block:"nearest"}),ye===ee&&B&&(B.scrollTop=0),ye===Ce&&B&&(B.scrollTop=B.scrollHeight),ye?.focus(),document.activeElement!==oe))return},[de,B]),O=m.useCallback(()=>M([H,P]),[M,H,P]);m.useEffect(()=>{le&&O()},[le,O]);const{onOpenChange:R,triggerPointerDownPosRef:K}=k;m.useEffect(()=>{if(P){let q={x:0,y:0};const ee=Ce=>{q={x:Math.abs(Math.round(Ce.pageX)-(K.current?.x??0)),y:Math.abs(Math.round(Ce.pageY)-(K.current?.y??0))}},pe=Ce=>{q.x<=10&&q.y<=10?Ce.preventDefault():P.contains(Ce.target)||R(!1),document.removeEventListener("pointermove",ee),K.current=null};return K.current!==null&&(document.addEventListener("pointermove",ee),document.addEventListener("pointerup",pe,{capture:!0,once:!0})),()=>{document.removeEventListener("pointermove",ee),document.removeEventListener("pointerup",pe,{capture:!0})}}},[P,R,K]),m.useEffect(()=>{const q=()=>R(!1);return window.addEventListener("blur",q),window.addEventListener("resize",q),()=>{window.removeEventListener("blur",q),window.removeEventListener("resize",q)}},[R]);const[U,D]=oy(q=>{const ee=de().filter(oe=>!oe.disabled),pe=ee.find(oe=>oe.ref.current===document.activeElement),Ce=iy(ee,q,pe);Ce&&setTimeout(()=>Ce.ref.current.focus())}),A=m.useCallback((q,ee,pe)=>{const Ce=!be.current&&!pe;(k.value!==void 0&&k.value===ee||Ce)&&(se(q),Ce&&(be.current=!0))},[k.value]),V=m.useCallback(()=>P?.focus(),[P]),X=m.useCallback((q,ee,pe)=>{const Ce=!be.current&&!pe;(k.value!==void 0&&k.value===ee||Ce)&&we(q)},[k.value]),ne=i==="popper"?Au:Wv,fe=ne===Au?{side:p,sideOffset:g,align:y,alignOffset:x,arrowPadding:v,collisionBoundary:N,collisionPadding:C,sticky:E,hideWhenDetached:S,avoidCollisions:b}:{};return a.jsx(Uv,{scope:s,content:P,viewport:B,onViewportChange:W,itemRefCallback:A,selectedItem:H,onItemLeave:V,itemTextRefCallback:X,focusSelectedItem:O,selectedItemText:ae,position:i,isPositioned:le,searchRef:U,children:a.jsx(fd,{as:_j,allowPinchZoom:!0,children:a.jsx(ud,{asChild:!0,trapped:k.open,onMountAutoFocus:q=>{q.preventDefault()},onUnmountAutoFocus:Le(l,q=>{k.trigger?.focus({preventScroll:!0}),q.preventDefault()}),children:a.jsx(cd,{asChild:!0,disableOutsidePointerEvents:!0,onEscapeKeyDown:u,onPointerDownOutside:f,onFocusOutside:q=>q.preventDefault(),onDismiss:()=>k.onOpenChange(!1),children:a.jsx(ne,{role:"listbox",id:k.contentId,"data-state":k.open?"open":"closed",dir:k.dir,onContextMenu:q=>q.preventDefault(),...j,...fe,onPlaced:()=>ce(!0),ref:G,style:{display:"flex",flexDirection:"column",outline:"none",...j.style},onKeyDown:Le(j.onKeyDown,q=>{const ee=q.ctrlKey||q.altKey||q.metaKey;if(q.key==="Tab"&&q.preventDefault(),!ee&&q.key.length===1&&D(q.key),["ArrowUp","ArrowDown","Home","End"].includes(q.key)){let Ce=de().filter(oe=>!oe.disabled).map(oe=>oe.ref.current);if(["ArrowUp","End"].includes(q.key)&&(Ce=Ce.slice().reverse()),["ArrowUp","ArrowDown"].includes(q.key)){const oe=q.target,ye=Ce.indexOf(oe);Ce=Ce.slice(ye+1)}setTimeout(()=>M(Ce)),q.preventDefault()}})})})})})})});Vv.displayName=Oj;var Mj="SelectItemAlignedPosition",Wv=m.forwardRef((t,r)=>{const{__scopeSelect:s,onPlaced:i,...l}=t,u=$r(as,s),f=Hr(as,s),[p,g]=m.useState(null),[y,x]=m.useState(null),v=Ge(r,G=>x(G)),N=rl(s),C=m.useRef(!1),E=m.useRef(!0),{viewport:S,selectedItem:b,selectedItemText:j,focusSelectedItem:k}=f,P=m.useCallback(()=>{if(u.trigger&&u.valueNode&&p&&y&&S&&b&&j){const G=u.trigger.getBoundingClientRect(),H=y.getBoundingClientRect(),se=u.valueNode.getBoundingClientRect(),ae=j.getBoundingClientRect();if(u.dir!=="rtl"){const oe=ae.left-H.left,ye=se.left-oe,ze=G.left-ye,ie=G.width+ze,rt=Math.max(ie,H.width),It=window.innerWidth-hn,ct=om(ye,[hn,Math.max(hn,It-rt)]);p.style.minWidth=ie+"px",p.style.left=ct+"px"}else{const oe=H.right-ae.right,ye=window.innerWidth-se.right-oe,ze=window.innerWidth-G.right-ye,ie=G.width+ze,rt=Math.max(ie,H.width),It=window.innerWidth-hn,ct=om(ye,[hn,Math.max(hn,It-rt)]);p.style.minWidth=ie+"px",p.style.right=ct+"px"}const we=N(),de=window.innerHeight-hn*2,le=S.scrollHeight,ce=window.getComputedStyle(y),be=parseInt(ce.borderTopWidth,10),M=parseInt(ce.paddingTop,10),O=parseInt(ce.borderBottomWidth,10),R=parseInt(ce.paddingBottom,10),K=be+M+le+R+O,U=Math.min(b.offsetHeight*5,K),D=window.getComputedStyle(S),A=parseInt(D.paddingTop,10),V=parseInt(D.paddingBottom,10),X=G.top+G.height/2-hn,ne=de-X,fe=b.offsetHeight/2,q=b.offsetTop+fe,ee=be+M+q,pe=K-ee;if(ee<=X){const oe=we.length>0&&b===we[we.length-1].ref.current;p.style.bottom="0px";const ye=y.clientHeight-S.offsetTop-S.offsetHeight,ze=Math.max(ne,fe+(oe?V:0)+ye+O),ie=ee+ze;p.style.height=ie+"px"}else{const oe=we.length>0&&b===we[0].ref.current;p.style.top="0px";const ze=Math.max(X,be+S.offsetTop+(oe?A:0)+fe)+pe;p.style.height=ze+"px",S.scrollTop=ee-X+S.offsetTop}p.style.margin=`${hn}px 0`,p.style.minHeight=U+"px",p.style.maxHeight=de+"px",i?.(),requestAnimationFrame(()=>C.current=!0)}},[N,u.trigger,u.valueNode,p,y,S,b,j,u.dir,i]);St(()=>P(),[P]);const[L,B]=m.useState();St(()=>{y&&B(window.getComputedStyle(y).zIndex)},[y]);const W=m.useCallback(G=>{G&&E.current===!0&&(P(),k?.(),E.current=!1)},[P,k]);return a.jsx(Lj,{scope:s,contentWrapper:p,shouldExpandOnScrollRef:C,onScrollButtonChange:W,children:a.jsx("div",{ref:g,style:{display:"flex",flexDirection:"column",position:"fixed",zIndex:L},children:a.jsx(Ie.div,{...l,ref:v,style:{boxSizing:"border-box",maxHeight:"100%",...l.style}})})})});Wv.displayName=Mj;var Aj="SelectPopperPosition",Au=m.forwardRef((t,r)=>{const{__scopeSelect:s,align:i="start",collisionPadding:l=hn,...u}=t,f=sl(s);return a.jsx(bj,{...f,...u,ref:r,align:i,collisionPadding:l,style:{boxSizing:"border-box",...u.style,"--radix-select-content-transform-origin":"var(--radix-popper-transform-origin)","--radix-select-content-available-width":"var(--radix-popper-available-width)","--radix-select-content-available-height":"var(--radix-popper-available-height)","--radix-select-trigger-width":"var(--radix-popper-anchor-width)","--radix-select-trigger-height":"var(--radix-popper-anchor-height)"}})});Au.displayName=Aj;var[Lj,Pd]=no(as,{}),Lu="SelectViewport",Gv=m.forwardRef((t,r)=>{const{__scopeSelect:s,nonce:i,...l}=t,u=Hr(Lu,s),f=Pd(Lu,s),p=Ge(r,u.onViewportChange),g=m.useRef(0);return a.jsxs(a.Fragment,{children:[a.jsx("style",{dangerouslySetInnerHTML:{__html:"[data-radix-select-viewport]{scrollbar-width:none;-ms-overflow-style:none;-webkit-overflow-scrolling:touch;}[data-radix-select-viewport]::-webkit-scrollbar{display:none}"},nonce:i}),a.jsx(nl.Slot,{scope:s,children:a.jsx(Ie.div,{"data-radix-select-viewport":"",role:"presentation",...l,ref:p,style:{position:"relative",flex:1,overflow:"hidden auto",...l.style},onScroll:Le(l.onScroll,y=>{const x=y.currentTarget,{contentWrapper:v,shouldExpandOnScrollRef:N}=f;if(N?.current&&v){const C=Math.abs(g.current-x.scrollTop);if(C>0){const E=window.innerHeight-hn*2,S=parseFloat(v.style.minHeight),b=parseFloat(v.style.height),j=Math.max(S,b);if(j<E){const k=j+C,P=Math.min(E,k),L=k-P;v.style.height=P+"px",v.style.bottom==="0px"&&(x.scrollTop=L>0?L:0,v.style.justifyContent="flex-end")}}}g.current=x.scrollTop})})})]})});Gv.displayName=Lu;var Kv="SelectGroup",[zj,Fj]=no(Kv),$j=m.forwardRef((t,r)=>{const{__scopeSelect:s,...i}=t,l=tr();return a.jsx(zj,{scope:s,id:l,children:a.jsx(Ie.div,{role:"group","aria-labelledby":l,...i,ref:r})})});$j.displayName=Kv;var Yv="SelectLabel",Hj=m.forwardRef((t,r)=>{const{__scopeSelect:s,...i}=t,l=Fj(Yv,s);return a.jsx(Ie.div,{id:l.id,...i,ref:r})});Hj.displayName=Yv;var Ua="SelectItem",[Bj,qv]=no(Ua),Xv=m.forwardRef((t,r)=>{const{__scopeSelect:s,value:i,disabled:l=!1,textValue:u,...f}=t,p=$r(Ua,s),g=Hr(Ua,s),y=p.value===i,[x,v]=m.useState(u??""),[N,C]=m.useState(!1),E=Ge(r,k=>g.itemRefCallback?.(k,i,l)),S=tr(),b=m.useRef("touch"),j=()=>{l||(p.onValueChange(i),p.onOpenChange(!1))};if(i==="")throw new Error("A <Select.Item /> must have a value prop that is not an empty string. This is because the Select value can be set to an empty string to clear the selection and show the placeholder.");return a.jsx(Bj,{scope:s,value:i,disabled:l,textId:S,isSelected:y,onItemTextChange:m.useCallback(k=>{v(P=>P||(k?.textContent??"").trim())},[]),children:a.jsx(nl.ItemSlot,{scope:s,value:i,disabled:l,textValue:x,children:a.jsx(Ie.div,{role:"option","aria-labelledby":S,"data-highlighted":N?"":void 0,"aria-selected":y&&N,"data-state":y?"checked":"unchecked","aria-disabled":l||void 0,"data-disabled":l?"":void 0,tabIndex:l?void 0:-1,...f,ref:E,onFocus:Le(f.onFocus,()=>C(!0)),onBlur:Le(f.onBlur,()=>C(!1)),onClick:Le(f.onClick,()=>{b.current!=="mouse"&&j()}),onPointerUp:Le(f.onPointerUp,()=>{b.current==="mouse"&&j()}),onPointerDown:Le(f.onPointerDown,k=>{b.current=k.pointerType}),onPointerMove:Le(f.onPointerMove,k=>{b.current=k.pointerType,l?g.onItemLeave?.():b.current==="mouse"&&k.currentTarget.focus({preventScroll:!0})}),onPointerLeave:Le(f.onPointerLeave,k=>{k.currentTarget===document.activeElement&&g.onItemLeave?.()}),onKeyDown:Le(f.onKeyDown,k=>{g.searchRef?.current!==""&&k.key===" "||(Ej.includes(k.key)&&j(),k.key===" "&&k.preventDefault())})})})})});Xv.displayName=Ua;var Ko="SelectItemText",Qv=m.forwardRef((t,r)=>{const{__scopeSelect:s,className:i,style:l,...u}=t,f=$r(Ko,s),p=Hr(Ko,s),g=qv(Ko,s),y=Rj(Ko,s),[x,v]=m.useState(null),N=Ge(r,j=>v(j),g.onItemTextChange,j=>p.itemTextRefCallback?.(j,g.value,g.disabled)),C=x?.textContent,E=m.useMemo(()=>a.jsx("option",{value:g.value,disabled:g.disabled,children:C},g.value),[g.disabled,g.value,C]),{onNativeOptionAdd:S,onNativeOptionRemove:b}=y;return St(()=>(S(E),()=>b(E)),[S,b,E]),a.jsxs(a.Fragment,{children:[a.jsx(Ie.span,{id:g.textId,...u,ref:N}),g.isSelected&&f.valueNode&&!f.valueNodeHasChildren?oi.createPortal(u.children,f.valueNode):null]})});Qv.displayName=Ko;var Jv="SelectItemIndicator",Zv=m.forwardRef((t,r)=>{const{__scopeSelect:s,...i}=t;return qv(Jv,s).isSelected?a.jsx(Ie.span,{"aria-hidden":!0,...i,ref:r}):null});Zv.displayName=Jv;var zu="SelectScrollUpButton",ey=m.forwardRef((t,r)=>{const s=Hr(zu,t.__scopeSelect),i=Pd(zu,t.__scopeSelect),[l,u]=m.useState(!1),f=Ge(r,i.onScrollButtonChange);return St(()=>{if(s.viewport&&s.isPositioned){let p=function(){const y=g.scrollTop>0;u(y)};const g=s.viewport;return p(),g.addEventListener("scroll",p),()=>g.removeEventListener("scroll",p)}},[s.viewport,s.isPositioned]),l?a.jsx(ny,{...t,ref:f,onAutoScroll:()=>{const{viewport:p,selectedItem:g}=s;p&&g&&(p.scrollTop=p.scrollTop-g.offsetHeight)}}):null});ey.displayName=zu;var Fu="SelectScrollDownButton",ty=m.forwardRef((t,r)=>{const s=Hr(Fu,t.__scopeSelect),i=Pd(Fu,t.__scopeSelect),[l,u]=m.useState(!1),f=Ge(r,i.onScrollButtonChange);return St(()=>{if(s.viewport&&s.isPositioned){let p=function(){const y=g.scrollHeight-g.clientHeight,x=Math.ceil(g.scrollTop)<y;u(x)};const g=s.viewport;return p(),g.addEventListener("scroll",p),()=>g.removeEventListener("scroll",p)}},[s.viewport,s.isPositioned]),l?a.jsx(ny,{...t,ref:f,onAutoScroll:()=>{const{viewport:p,selectedItem:g}=s;p&&g&&(p.scrollTop=p.scrollTop+g.offsetHeight)}}):null});ty.displayName=Fu;var ny=m.forwardRef((t,r)=>{const{__scopeSelect:s,onAutoScroll:i,...l}=t,u=Hr("SelectScrollButton",s),f=m.useRef(null),p=rl(s),g=m.useCallback(()=>{f.current!==null&&(window.clearInterval(f.current),f.current=null)},[]);return m.useEffect(()=>()=>g(),[g]),St(()=>{p().find(x=>x.ref.current===document.activeElement)?.ref.current?.scrollIntoView({block:"nearest"})},[p]),a.jsx(Ie.div,{"aria-hidden":!0,...l,ref:r,style:{flexShrink:0,...l.style},onPointerDown:Le(l.onPointerDown,()=>{f.current===null&&(f.current=window.setInterval(i,50))}),onPointerMove:Le(l.onPointerMove,()=>{u.onItemLeave?.(),f.current===null&&(f.current=window.setInterval(i,50))}),onPointerLeave:Le(l.onPointerLeave,()=>{g()})})}),Uj="SelectSeparator",Vj=m.forwardRef((t,r)=>{const{__scopeSelect:s,...i}=t;return a.jsx(Ie.div,{"aria-hidden":!0,...i,ref:r})});Vj.displayName=Uj;var $u="SelectArrow",Wj=m.forwardRef((t,r)=>{const{__scopeSelect:s,...i}=t,l=sl(s),u=$r($u,s),f=Hr($u,s);return u.open&&f.position==="popper"?a.jsx(Sj,{...l,...i,ref:r}):null});Wj.displayName=$u;var Gj="SelectBubbleInput",ry=m.forwardRef(({__scopeSelect:t,value:r,...s},i)=>{const l=m.useRef(null),u=Ge(i,l),f=vd(r);return m.useEffect(()=>{const p=l.current;if(!p)return;const g=window.HTMLSelectElement.prototype,x=Object.getOwnPropertyDescriptor(g,"value").set;if(f!==r&&x){const v=new Event("change",{bubbles:!0});x.call(p,r),p.dispatchEvent(v)}},[f,r]),a.jsx(Ie.select,{...s,style:{..._v,...s.style},ref:u,defaultValue:r})});ry.displayName=Gj;function sy(t){return t===""||t===void 0}function oy(t){const r=Lr(t),s=m.useRef(""),i=m.useRef(0),l=m.useCallback(f=>{const p=s.current+f;r(p),(function g(y){s.current=y,window.clearTimeout(i.current),y!==""&&(i.current=window.setTimeout(()=>g(""),1e3))})(p)},[r]),u=m.useCallback(()=>{s.current="",window.clearTimeout(i.current)},[]);return m.useEffect(()=>()=>window.clearTimeout(i.current),[]),[s,l,u]}function iy(t,r,s){const l=r.length>1&&Array.from(r).every(y=>y===r[0])?r[0]:r,u=s?t.indexOf(s):-1;let f=Kj(t,Math.max(u,0));l.length===1&&(f=f.filter(y=>y!==s));const g=f.find(y=>y.textValue.toLowerCase().startsWith(l.toLowerCase()));return g!==s?g:void 0}function Kj(t,r){return t.map((s,i)=>t[(r+i)%t.length])}var Yj=Mv,qj=Lv,Xj=Fv,Qj=$v,Jj=Hv,Zj=Bv,eE=Gv,tE=Xv,nE=Qv,rE=Zv,sE=ey,oE=ty;function Yo({...t}){return a.jsx(Yj,{"data-slot":"select",...t})}function qo({...t}){return a.jsx(Xj,{"data-slot":"select-value",...t})}function Xo({className:t,size:r="default",children:s,...i}){return a.jsxs(qj,{"data-slot":"select-trigger","data-size":r,className:Ve("border-input data-[placeholder]:text-muted-foreground [&_svg:not([class*='text-'])]:text-muted-foreground focus-visible:border-ring focus-visible:ring-ring/50 aria-invalid:ring-destructive/20 dark:aria-invalid:ring-destructive/40 aria-invalid:border-destructive dark:bg-input/30 dark:hover:bg-input/50 flex w-full items-center justify-between gap-2 rounded-md border bg-input-background px-3 py-2 text-sm whitespace-nowrap transition-[color,box-shadow] outline-none focus-visible:ring-[3px] disabled:cursor-not-allowed disabled:opacity-50 data-[size=default]:h-9 data-[size=sm]:h-8 *:data-[slot=select-value]:line-clamp-1 *:data-[slot=select-value]:flex *:data-[slot=select-value]:items-center *:data-[slot=select-value]:gap-2 [&_svg]:pointer-events-none [&_svg]:shrink-0 [&_svg:not([class*='size-'])]:size-4",t),...i,children:[s,a.jsx(Qj,{asChild:!0,children:a.jsx(sd,{className:"size-4 opacity-50"})})]})}function Qo({className:t,children:r,position:s="popper",...i}){return a.jsx(Jj,{children:a.jsxs(Zj,{"data-slot":"select-content",className:Ve("bg-popover text-popover-foreground data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 data-[state=closed]:zoom-out-95 data-[state=open]:zoom-in-95 data-[side=bottom]:slide-in-from-top-2 data-[side=left]:slide-in-from-right-2 data-[side=right]:slide-in-from-left-2 data-[side=top]:slide-in-from-bottom-2 relative z-50 max-h-(--radix-select-content-available-height) min-w-[8rem] origin-(--radix-select-content-transform-origin) overflow-x-hidden overflow-y-auto rounded-md border shadow-md",s==="popper"&&"data-[side=bottom]:translate-y-1 data-[side=left]:-translate-x-1 data-[side=right]:translate-x-1 data-[side=top]:-translate-y-1",t),position:s,...i,children:[a.jsx(iE,{}),a.jsx(eE,{className:Ve("p-1",s==="popper"&&"h-[var(--radix-select-trigger-height)] w-full min-w-[var(--radix-select-trigger-width)] scroll-my-1"),children:r}),a.jsx(aE,{})]})})}function Ft({className:t,children:r,...s}){return a.jsxs(tE,{"data-slot":"select-item",className:Ve("focus:bg-accent focus:text-accent-foreground [&_svg:not([class*='text-'])]:text-muted-foreground relative flex w-full cursor-default items-center gap-2 rounded-sm py-1.5 pr-8 pl-2 text-sm outline-hidden select-none data-[disabled]:pointer-events-none data-[disabled]:opacity-50 [&_svg]:pointer-events-none [&_svg]:shrink-0 [&_svg:not([class*='size-'])]:size-4 *:[span]:last:flex *:[span]:last:items-center *:[span]:last:gap-2",t),...s,children:[a.jsx("span",{className:"absolute right-2 flex size-3.5 items-center justify-center",children:a.jsx(rE,{children:a.jsx(Ws,{className:"size-4"})})}),a.jsx(nE,{children:r})]})}function iE({className:t,...r}){return a.jsx(sE,{"data-slot":"select-scroll-up-button",className:Ve("flex cursor-default items-center justify-center py-1",t),...r,children:a.jsx(xg,{className:"size-4"})})}function aE({className:t,...r}){return a.jsx(oE,{"data-slot":"select-scroll-down-button",className:Ve("flex cursor-default items-center justify-center py-1",t),...r,children:a.jsx(sd,{className:"size-4"})})}var ol="Switch",[lE]=ir(ol),[cE,uE]=lE(ol),ay=m.forwardRef((t,r)=>{const{__scopeSwitch:s,name:i,checked:l,defaultChecked:u,required:f,disabled:p,value:g="on",onCheckedChange:y,form:x,...v}=t,[N,C]=m.useState(null),E=Ge(r,P=>C(P)),S=m.useRef(!1),b=N?x||!!N.closest("form"):!0,[j,k]=Ar({prop:l,defaultProp:u??!1,onChange:y,caller:ol});return a.jsxs(cE,{scope:s,checked:j,disabled:p,children:[a.jsx(Ie.button,{type:"button",role:"switch","aria-checked":j,"aria-required":f,"data-state":dy(j),"data-disabled":p?"":void 0,disabled:p,value:g,...v,ref:E,onClick:Le(t.onClick,P=>{k(L=>!L),b&&(S.current=P.isPropagationStopped(),S.current||P.stopPropagation())})}),b&&a.jsx(uy,{control:N,bubbles:!S.current,name:i,value:g,checked:j,required:f,disabled:p,form:x,style:{transform:"translateX(-100%)"}})]})});ay.displayName=ol;var ly="SwitchThumb",cy=m.forwardRef((t,r)=>{const{__scopeSwitch:s,...i}=t,l=uE(ly,s);return a.jsx(Ie.span,{"data-state":dy(l.checked),"data-disabled":l.disabled?"":void 0,...i,ref:r})});cy.displayName=ly;var dE="SwitchBubbleInput",uy=m.forwardRef(({__scopeSwitch:t,control:r,checked:s,bubbles:i=!0,...l},u)=>{const f=m.useRef(null),p=Ge(f,u),g=vd(s),y=yd(r);return m.useEffect(()=>{const x=f.current;if(!x)return;const v=window.HTMLInputElement.prototype,C=Object.getOwnPropertyDescriptor(v,"checked").set;if(g!==s&&C){const E=new Event("click",{bubbles:i});C.call(x,s),x.dispatchEvent(E)}},[g,s,i]),a.jsx("input",{type:"checkbox","aria-hidden":!0,defaultChecked:s,...l,tabIndex:-1,ref:p,style:{...l.style,...y,position:"absolute",pointerEvents:"none",opacity:0,margin:0}})});uy.displayName=dE;function dy(t){return t?"checked":"unchecked"}var fE=ay,pE=cy;function hE({className:t,...r}){return a.jsx(fE,{"data-slot":"switch",className:Ve("peer data-[state=checked]:bg-primary data-[state=unchecked]:bg-switch-background focus-visible:border-ring focus-visible:ring-ring/50 dark:data-[state=unchecked]:bg-input/80 inline-flex h-[1.15rem] w-8 shrink-0 items-center rounded-full border border-transparent transition-all outline-none focus-visible:ring-[3px] disabled:cursor-not-allowed disabled:opacity-50",t),...r,children:a.jsx(pE,{"data-slot":"switch-thumb",className:Ve("bg-card dark:data-[state=unchecked]:bg-card-foreground dark:data-[state=checked]:bg-primary-foreground pointer-events-none block size-4 rounded-full ring-0 transition-transform data-[state=checked]:translate-x-[calc(100%-2px)] data-[state=unchecked]:translate-x-0")})})}const $e="https://jardin.vps.ttelab.fr/api";function mE(){return localStorage.getItem("authToken")}function Be(){const t={"Content-Type":"application/json"},r=mE();return r&&(t.Authorization=`Bearer ${r}`),t}async function Ue(t){if(!t.ok){const r=await t.json().catch(()=>({error:"Une erreur est survenue"}));throw new Error(r.error||r.details||`HTTP ${t.status}`)}return t.status===204?null:t.json()}const fy={login:async(t,r)=>{const s=await fetch(`${$e}/auth/login`,{method:"POST",headers:{"Content-Type":"application/json"},body:JSON.stringify({email:t,password:r})}),i=await Ue(s);return localStorage.setItem("authToken",i.token),i},logout:async()=>{await fetch(`${$e}/auth/logout`,{method:"POST",headers:Be()}),localStorage.removeItem("authToken")},getCurrentUser:async()=>{const t=await fetch(`${$e}/auth/me`,{headers:Be()});return Ue(t)},loginWithGoogle:()=>{const t=$e.replace(/\/api$/,"");window.location.href=`${t}/oauth2/authorization/google`}},Ys={getAll:async t=>{const r=new URL(`${$e}/clients`);t&&r.searchParams.append("search",t);const s=await fetch(r.toString(),{headers:Be()});return Ue(s)},getById:async t=>{const r=await fetch(`${$e}/clients/${t}`,{headers:Be()});return Ue(r)},create:async t=>{const r=await fetch(`${$e}/clients`,{method:"POST",headers:Be(),body:JSON.stringify(t)});return Ue(r)},update:async(t,r)=>{const s=await fetch(`${$e}/clients/${t}`,{method:"PUT",headers:Be(),body:JSON.stringify(r)});return Ue(s)},delete:async t=>{const r=await fetch(`${$e}/clients/${t}`,{method:"DELETE",headers:Be()});return Ue(r)}},Rd={getAll:async t=>{const r=new URL(`${$e}/projects`);t?.clientId&&r.searchParams.append("clientId",t.clientId),t?.status&&r.searchParams.append("status",t.status);const s=await fetch(r.toString(),{headers:Be()});return Ue(s)},getById:async t=>{const r=await fetch(`${$e}/projects/${t}`,{headers:Be()});return Ue(r)},create:async t=>{const r=await fetch(`${$e}/projects`,{method:"POST",headers:Be(),body:JSON.stringify(t)});return Ue(r)},update:async(t,r)=>{const s=await fetch(`${$e}/projects/${t}`,{method:"PUT",headers:Be(),body:JSON.stringify(r)});return Ue(s)},delete:async t=>{const r=await fetch(`${$e}/projects/${t}`,{method:"DELETE",headers:Be()});return Ue(r)}},gE={getAll:async t=>{const r=new URL(`${$e}/chantiers`);t?.projectId&&r.searchParams.append("projectId",t.projectId),t?.clientId&&r.searchParams.append("clientId",t.clientId),t?.status&&r.searchParams.append("status",t.status);const s=await fetch(r.toString(),{headers:Be()});return Ue(s)},getById:async t=>{const r=await fetch(`${$e}/chantiers/${t}`,{headers:Be()});return Ue(r)},create:async t=>{const r=await fetch(`${$e}/chantiers`,{method:"POST",headers:Be(),body:JSON.stringify(t)});return Ue(r)},update:async(t,r)=>{const s=await fetch(`${$e}/chantiers/${t}`,{method:"PUT",headers:Be(),body:JSON.stringify(r)});return Ue(s)},delete:async t=>{const r=await fetch(`${$e}/chantiers/${t}`,{method:"DELETE",headers:Be()});return Ue(r)},updateStatus:async(t,r)=>{const s=await fetch(`${$e}/chantiers/${t}/status`,{method:"PATCH",headers:Be(),body:JSON.stringify({status:r})});return Ue(s)}},Wo={getAll:async t=>{const r=new URL(`${$e}/calendar/events`);t?.weekOffset!==void 0&&r.searchParams.append("weekOffset",t.weekOffset.toString()),t?.startDate&&r.searchParams.append("startDate",t.startDate),t?.endDate&&r.searchParams.append("endDate",t.endDate),t?.eventType&&r.searchParams.append("eventType",t.eventType),t?.includeUnscheduled!==void 0&&r.searchParams.append("includeUnscheduled",t.includeUnscheduled.toString());const s=await fetch(r.toString(),{headers:Be()});return Ue(s)},getById:async t=>{const r=await fetch(`${$e}/calendar/events/${t}`,{headers:Be()});return Ue(r)},getUnscheduledEvents:async()=>{const t=await fetch(`${$e}/calendar/events/listUnscheduledEvents`,{headers:Be()});return Ue(t)},create:async t=>{const r=await fetch(`${$e}/calendar/events`,{method:"POST",headers:Be(),body:JSON.stringify(t)});return Ue(r)},update:async t=>{const r=await fetch(`${$e}/calendar/events/updateEvent`,{method:"PUT",headers:Be(),body:JSON.stringify(t)});return Ue(r)},updateStatus:async(t,r)=>{const s=await fetch(`${$e}/calendar/events/${t}/status`,{method:"PATCH",headers:Be(),body:JSON.stringify({status:r})});return Ue(s)},confirm:async t=>{const r=await fetch(`${$e}/calendar/events/${t}/confirm`,{method:"PATCH",headers:Be()});return Ue(r)},delete:async t=>{const r=await fetch(`${$e}/calendar/events/${t}`,{method:"DELETE",headers:Be()});return Ue(r)}},_a={getByClientId:async t=>{const r=await fetch(`${$e}/clients/${t}/remarks`,{headers:Be()});return Ue(r)},create:async(t,r,s)=>{const i=await fetch(`${$e}/clients/${t}/remarks`,{method:"POST",headers:Be(),body:JSON.stringify({content:r,images:s})});return Ue(i)},update:async(t,r)=>{const s=await fetch(`${$e}/remarks/${t}`,{method:"PUT",headers:Be(),body:JSON.stringify({content:r})});return Ue(s)},delete:async t=>{const r=await fetch(`${$e}/remarks/${t}`,{method:"DELETE",headers:Be()});return Ue(r)}},vE={getStats:async()=>{const t=await fetch(`${$e}/dashboard/stats`,{headers:Be()});return Ue(t)}};function Dd({clientId:t,onCreated:r}){const[s,i]=m.useState(""),[l,u]=m.useState(""),[f,p]=m.useState(t||""),[g,y]=m.useState(""),[x,v]=m.useState(60),[N,C]=m.useState([]),[E,S]=m.useState(""),[b,j]=m.useState(!1),[k,P]=m.useState(3),[L,B]=m.useState(""),[W,G]=m.useState([]),[H,se]=m.useState("en_cours"),[ae,we]=m.useState(!1),[de,le]=m.useState(null);m.useEffect(()=>{if(b){const O=L?new Date(L+"-01"):new Date,R=[];for(let K=0;K<k;K++){const U=new Date(O);U.setMonth(O.getMonth()+K),U.setHours(12,0,0,0);const D=U.toISOString().slice(0,7),A=W.find(V=>V.month===D);R.push({month:D,occurence:A?.occurence||1})}G(R)}else G([])},[b,k,L]),m.useEffect(()=>{ce()},[]);const ce=m.useCallback(async()=>{try{const O=await Ys.getAll();C(O)}catch(O){console.error("Erreur chargement clients",O)}},[]),be=(O,R)=>{G(K=>K.map(U=>U.month===O?{...U,occurence:R}:U))},M=async()=>{if(!f||!s.trim()){le("Client et titre requis");return}we(!0),le(null);try{const O=await Rd.create({clientId:f,title:s.trim(),description:l.trim(),type:b?"recurrent":"ponctuel",status:H,planTravaux:b?W.map(R=>({mois:R.month,occurence:R.occurence})):[],startDate:E||void 0,location:g||void 0,dureeEnMinutes:x,premierMois:b?L:void 0,dureeMois:b?k:void 0});r?.(O.id),i(""),u(""),y(""),S(""),B(""),G([])}catch(O){le(O.message||"Erreur création projet")}finally{we(!1)}};return a.jsxs("div",{className:"space-y-4",children:[a.jsxs("div",{children:[a.jsx(Ae,{children:"Titre"}),a.jsx(Xe,{value:s,onChange:O=>i(O.target.value),placeholder:"Entretien pelouse"})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"client-select",children:"Client"}),a.jsxs(Yo,{defaultValue:t||"",value:f,onValueChange:p,children:[a.jsx(Xo,{id:"client-select",children:a.jsx(qo,{placeholder:"Sélectionner un client"})}),a.jsx(Qo,{children:N.map(O=>a.jsx(Ft,{value:String(O.id),children:O.name},O.id))})]})]}),a.jsxs("div",{children:[a.jsx(Ae,{children:"Description"}),a.jsx(Vs,{value:l,onChange:O=>u(O.target.value),rows:3})]}),a.jsx("div",{className:"grid grid-cols-2 gap-4",children:a.jsxs("div",{children:[a.jsx(Ae,{children:"Durée unitaire (minutes)"}),a.jsx(Xe,{type:"number",min:15,step:15,value:x,onChange:O=>v(parseInt(O.target.value)||15)})]})}),a.jsxs("div",{children:[a.jsx(Ae,{children:"Statut initial"}),a.jsxs(Yo,{value:H,onValueChange:O=>se(O),children:[a.jsx(Xo,{children:a.jsx(qo,{placeholder:"Statut"})}),a.jsxs(Qo,{children:[a.jsx(Ft,{value:"en_attente",children:"En attente"}),a.jsx(Ft,{value:"en_cours",children:"En cours"}),a.jsx(Ft,{value:"termine",children:"Terminé"})]})]})]}),a.jsxs("div",{className:"flex items-center justify-between p-4 bg-gray-50 rounded-lg",children:[a.jsxs("div",{className:"flex items-center gap-3",children:[a.jsx(wg,{className:"w-5 h-5 text-gray-600"}),a.jsxs("div",{children:[a.jsx("div",{className:"text-gray-900",children:"Projet récurrent"}),a.jsx("div",{className:"text-sm text-gray-500",children:"Créer plusieurs chantiers sur plusieurs mois"})]})]}),a.jsx(hE,{checked:b,onCheckedChange:j})]}),b?a.jsxs(a.Fragment,{children:[a.jsxs("div",{className:"grid grid-cols-2 gap-4",children:[a.jsxs("div",{children:[a.jsx(Ae,{children:"Mois de départ"}),a.jsx(Xe,{type:"month",value:L,onChange:O=>B(O.target.value)})]}),a.jsxs("div",{children:[a.jsx(Ae,{children:"Durée (mois)"}),a.jsx(Xe,{type:"number",min:1,max:24,value:k,onChange:O=>P(parseInt(O.target.value)||1)})]})]}),a.jsxs("div",{className:"border rounded-lg p-4 space-y-3",children:[a.jsx(Ae,{children:"Nombre de chantiers par mois"}),a.jsx("div",{className:"space-y-2 max-h-64 overflow-y-auto",children:W.map(O=>a.jsxs("div",{className:"flex items-center justify-between gap-4",children:[a.jsxs("div",{className:"flex items-center gap-2 flex-1",children:[a.jsx(On,{className:"w-4 h-4 text-gray-400"}),a.jsx("span",{className:"text-sm text-gray-700",children:new Date(O.month).toLocaleDateString("fr-FR",{month:"long",year:"numeric"})})]}),a.jsx(Xe,{type:"number",min:0,max:31,value:O.occurence,onChange:R=>be(O.month,parseInt(R.target.value)||0),className:"w-20"})]},O.month))})]})]}):null,de&&a.jsx("div",{className:"text-red-600 text-sm",children:de}),a.jsx(Te,{disabled:ae,className:"w-full bg-green-600 hover:bg-green-700",onClick:M,children:ae?"Création...":"Créer le projet"})]})}function yE({onNavigate:t}){const[r,s]=m.useState(""),[i,l]=m.useState("60"),u=m.useRef(null),[f,p]=m.useState(null),[g,y]=m.useState(!1),[x,v]=m.useState(null),[N,C]=m.useState([]),[E,S]=m.useState(!1),[b,j]=m.useState(null),[k,P]=m.useState(""),[L,B]=m.useState(""),[W,G]=m.useState(""),[H,se]=m.useState(""),[ae,we]=m.useState([]),[de,le]=m.useState(""),[ce,be]=m.useState(""),[M,O]=m.useState(!1),[R,K]=m.useState("particulier"),[U,D]=m.useState(!1),[A,V]=m.useState(null),[X,ne]=m.useState(!1),[fe,q]=m.useState(!1),[ee,pe]=m.useState(!1),Ce=m.useCallback(async()=>{y(!0),v(null);try{const ie=await vE.getStats();p(ie)}catch(ie){v(ie.message||"Erreur lors du chargement des statistiques")}finally{y(!1)}},[]),oe=m.useCallback(async()=>{S(!0),j(null);try{const ie=await Ys.getAll();C(ie)}catch(ie){j(ie.message||"Erreur lors du chargement des clients")}finally{S(!1)}},[]),ye=ie=>{const rt=ie.target.files;if(rt){const It=[];Array.from(rt).forEach(ct=>{if(ct.type.startsWith("image/")){const Nn=new FileReader;Nn.onload=ht=>{ht.target?.result&&(It.push(ht.target.result),we([...ae,...It]))},Nn.readAsDataURL(ct)}})}u.current&&(u.current.value="")},ze=async()=>{if(!r)return alert("Sélectionnez un client"),!1;if(!(H.trim()||ae.length>0))return alert("Ajoutez du texte ou une image"),!1;try{const ie=await _a.create(r,H.trim(),ae);return s(""),se(""),we([]),!0}catch(ie){return alert(ie.message||"Erreur lors de l'ajout de la remarque"),!1}};return m.useEffect(()=>{Ce(),oe()},[Ce,oe]),a.jsxs("div",{className:"space-y-8",children:[a.jsxs("div",{children:[a.jsx("h1",{className:"text-gray-900 mb-2",children:"Tableau de bord"}),a.jsx("p",{className:"text-gray-600",children:"Vue d'ensemble de votre activité"})]}),a.jsxs("div",{className:"grid grid-cols-1 md:grid-cols-2 lg:grid-cols-4 gap-4",children:[a.jsxs(gn,{children:[a.jsx(_r,{asChild:!0,children:a.jsxs(Te,{className:"h-auto py-6 flex flex-col gap-2 bg-blue-600 hover:bg-blue-700",children:[a.jsx(vS,{className:"w-6 h-6"}),a.jsx("span",{children:"Ajouter un client"})]})}),a.jsxs(vn,{children:[a.jsxs(_n,{children:[a.jsx(Mn,{children:"Ajouter un nouveau client"}),a.jsx(Zn,{children:"Remplissez les informations du client"})]}),a.jsxs("div",{className:"space-y-4",children:[a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"client-name",children:"Nom complet"}),a.jsx(Xe,{id:"client-name",placeholder:"Ex: Marie Dubois",value:k,onChange:ie=>P(ie.target.value)})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"client-email",children:"Email"}),a.jsx(Xe,{id:"client-email",type:"email",placeholder:"email@exemple.fr",value:L,onChange:ie=>B(ie.target.value)})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"client-phone",children:"Téléphone"}),a.jsx(Xe,{id:"client-phone",placeholder:"06 12 34 56 78",value:W,onChange:ie=>G(ie.target.value)})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"client-address",children:"Adresse"}),a.jsx(Xe,{id:"client-address",placeholder:"12 rue des Fleurs, 75001 Paris",value:de,onChange:ie=>le(ie.target.value)})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"client-access",children:"Informations d'accès"}),a.jsx(Vs,{id:"client-access",placeholder:"Code portail, digicode, instructions d'accès...",rows:3,value:ce,onChange:ie=>be(ie.target.value)}),a.jsx("p",{className:"text-sm text-gray-500 mt-1",children:"Optionnel : codes, instructions pour accéder au terrain"})]}),a.jsxs("div",{className:"flex items-center space-x-2",children:[a.jsx(uv,{id:"client-hasKey",checked:M,onCheckedChange:ie=>O(ie===!0)}),a.jsxs("label",{htmlFor:"client-hasKey",className:"text-sm font-medium leading-none peer-disabled:cursor-not-allowed peer-disabled:opacity-70 flex items-center gap-2",children:[a.jsx(ei,{className:"w-4 h-4 text-amber-600"}),"Je possède une clé pour ce client"]})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"client-type",children:"Type"}),a.jsxs("select",{id:"client-type",className:"mt-1 w-full border border-gray-300 rounded px-3 py-2 text-sm focus:outline-none focus:ring-2 focus:ring-blue-500",value:R,onChange:ie=>K(ie.target.value),children:[a.jsx("option",{value:"particulier",children:"Particulier"}),a.jsx("option",{value:"professionnel",children:"Professionnel"})]})]}),A&&a.jsx("div",{className:"text-sm text-red-600",children:A}),X&&a.jsx("div",{className:"text-sm text-green-600",children:"Client ajouté avec succès."}),a.jsx(Te,{className:"w-full bg-blue-600 hover:bg-blue-700",disabled:U,onClick:async()=>{if(V(null),ne(!1),!k||!L||!W||!de){V("Veuillez remplir les champs requis (nom, email, téléphone, adresse).");return}D(!0);try{await Ys.create({name:k.trim(),email:L.trim(),phone:W.trim(),address:de.trim(),access:ce.trim()||null,hasKey:M,type:R}),await oe(),P(""),B(""),G(""),le(""),be(""),O(!1),K("particulier"),ne(!0)}catch(ie){V(ie.message||"Erreur lors de la création du client")}finally{D(!1)}},children:U?"Enregistrement...":"Ajouter le client"})]})]})]}),a.jsxs(gn,{open:ee,onOpenChange:pe,children:[a.jsx(_r,{asChild:!0,children:a.jsxs(Te,{className:"h-auto py-6 flex flex-col gap-2 bg-green-600 hover:bg-green-700",children:[a.jsx(yg,{className:"w-6 h-6"}),a.jsx("span",{children:"Ajouter un Projet"})]})}),a.jsxs(vn,{className:"max-w-2xl",children:[a.jsxs(_n,{children:[a.jsx(Mn,{children:"Créer un nouveau projet"}),a.jsx(Zn,{children:"Ajouter un projet ponctuel ou récurrent"})]}),a.jsx(Dd,{onCreated:()=>pe(!1)})]})]}),a.jsxs(gn,{children:[a.jsx(_r,{asChild:!0,children:a.jsxs(Te,{className:"h-auto py-6 flex flex-col gap-2 bg-purple-600 hover:bg-purple-700",children:[a.jsx(Wh,{className:"w-6 h-6"}),a.jsx("span",{children:"Ajouter un RDV"})]})}),a.jsxs(vn,{children:[a.jsxs(_n,{children:[a.jsx(Mn,{children:"Ajouter un rendez-vous"}),a.jsx(Zn,{children:"Planifier un nouveau rendez-vous"})]}),a.jsxs("div",{className:"space-y-4",children:[a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"rdv-client",children:"Client"}),a.jsxs(Yo,{value:r,onValueChange:s,children:[a.jsx(Xo,{children:a.jsx(qo,{placeholder:"Sélectionner un client"})}),a.jsxs(Qo,{children:[E&&a.jsx("div",{className:"px-2 py-1 text-sm text-gray-500",children:"Chargement..."}),b&&a.jsx("div",{className:"px-2 py-1 text-sm text-red-600",children:b}),!E&&!b&&N.map(ie=>a.jsx(Ft,{value:String(ie.id),children:ie.name},ie.id))]})]})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"rdv-location",children:"Lieu"}),a.jsx(Xe,{id:"rdv-location",placeholder:"Adresse du rendez-vous"})]}),a.jsxs("div",{className:"grid grid-cols-2 gap-4",children:[a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"rdv-date",children:"Date"}),a.jsx(Xe,{id:"rdv-date",type:"date"})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"rdv-time",children:"Heure"}),a.jsx(Xe,{id:"rdv-time",type:"time"})]})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"rdv-duration",children:"Durée (minutes)"}),a.jsxs(Yo,{value:i,onValueChange:l,children:[a.jsx(Xo,{children:a.jsx(qo,{})}),a.jsxs(Qo,{children:[a.jsx(Ft,{value:"15",children:"15 minutes"}),a.jsx(Ft,{value:"30",children:"30 minutes"}),a.jsx(Ft,{value:"45",children:"45 minutes"}),a.jsx(Ft,{value:"60",children:"1 heure"}),a.jsx(Ft,{value:"90",children:"1h30"}),a.jsx(Ft,{value:"120",children:"2 heures"}),a.jsx(Ft,{value:"180",children:"3 heures"}),a.jsx(Ft,{value:"240",children:"4 heures"})]})]})]}),a.jsx(Te,{className:"w-full bg-purple-600 hover:bg-purple-700",children:"Ajouter le rendez-vous"})]})]})]}),a.jsxs(gn,{open:fe,onOpenChange:q,children:[a.jsx(_r,{asChild:!0,children:a.jsxs(Te,{className:"h-auto py-6 flex flex-col gap-2 bg-orange-600 hover:bg-orange-700",children:[a.jsx(nS,{className:"w-6 h-6"}),a.jsx("span",{children:"Ajouter une remarque"})]})}),a.jsxs(vn,{children:[a.jsxs(_n,{children:[a.jsx(Mn,{children:"Ajouter une remarque"}),a.jsx(Zn,{children:"Ajouter une remarque pour un client"})]}),a.jsxs("div",{className:"space-y-4",children:[a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"remark-client",children:"Client"}),a.jsxs(Yo,{value:r,onValueChange:s,children:[a.jsx(Xo,{children:a.jsx(qo,{placeholder:"Sélectionner un client"})}),a.jsxs(Qo,{children:[E&&a.jsx("div",{className:"px-2 py-1 text-sm text-gray-500",children:"Chargement..."}),b&&a.jsx("div",{className:"px-2 py-1 text-sm text-red-600",children:b}),!E&&!b&&N.map(ie=>a.jsx(Ft,{value:String(ie.id),children:ie.name},ie.id))]})]})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"remark-text",children:"Remarque"}),a.jsx(Vs,{id:"remark-text",placeholder:"Notez vos observations, demandes du client, etc...",rows:5,value:H,onChange:ie=>se(ie.target.value),onKeyDown:ie=>{ie.key==="Enter"&&(ie.metaKey||ie.ctrlKey)&&ze()}})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"remark-images",children:"Images (optionnel)"}),a.jsx(Xe,{ref:u,onChange:ye,id:"remark-images",type:"file",accept:"image/*",multiple:!0}),a.jsx("p",{className:"text-sm text-gray-500 mt-1",children:"Vous pouvez ajouter plusieurs images"})]}),a.jsx(Te,{className:"w-full bg-orange-600 hover:bg-orange-700",onClick:async()=>{await ze()&&q(!1)},children:"Enregistrer la remarque"})]})]})]})]}),a.jsxs(tt,{className:"p-6",children:[a.jsxs("div",{className:"flex items-center justify-between mb-6",children:[a.jsx("h2",{className:"text-gray-900",children:"Rendez-vous d'aujourd'hui"}),a.jsx("button",{onClick:()=>t?.("calendar"),className:"text-gray-400 hover:text-green-600 transition-colors cursor-pointer",title:"Voir le planning",children:a.jsx(Wh,{className:"w-5 h-5"})})]}),a.jsxs("div",{className:"space-y-4",children:[g&&a.jsx("div",{className:"text-sm text-gray-500",children:"Chargement des rendez-vous..."}),x&&!g&&a.jsx("div",{className:"text-sm text-red-600",children:x}),!g&&!x&&f?.upcomingAppointments?.length===0&&a.jsx("div",{className:"text-sm text-gray-500",children:"Aucun rendez-vous pour aujourd'hui."}),!g&&!x&&f?.upcomingAppointments?.map(ie=>a.jsx("div",{className:"p-4 border border-gray-200 rounded-lg hover:border-green-300 transition-colors",children:a.jsxs("div",{className:"flex items-start gap-4",children:[a.jsx("div",{className:"flex items-center justify-center w-16 h-16 bg-green-50 rounded-lg flex-shrink-0",children:a.jsx(yn,{className:"w-6 h-6 text-green-600"})}),a.jsxs("div",{className:"flex-1 min-w-0",children:[a.jsxs("div",{className:"flex items-center gap-2 mb-1",children:[a.jsx("span",{className:"text-green-600",children:ie.time}),ie.clientHasKey&&a.jsxs("div",{className:"flex items-center gap-1 px-2 py-0.5 bg-amber-100 text-amber-700 rounded text-xs",children:[a.jsx(ei,{className:"w-3 h-3"})," Clé"]})]}),a.jsx("p",{className:"text-gray-900 mb-1",children:ie.clientName}),a.jsx("p",{className:"text-sm text-gray-600 mb-2",children:ie.type}),a.jsxs("div",{className:"flex items-start gap-2 text-sm text-gray-600 mb-1",children:[a.jsx(Gs,{className:"w-4 h-4 text-gray-400 flex-shrink-0 mt-0.5"}),a.jsx("span",{className:"flex-1",children:ie.clientAddress})]}),ie.clientAccess&&a.jsxs("div",{className:"flex items-start gap-2 text-sm text-gray-600 bg-blue-50 rounded p-2 mt-2",children:[a.jsx("span",{className:"text-blue-600",children:"🔑"}),a.jsx("span",{className:"flex-1 text-blue-900",children:ie.clientAccess})]})]}),a.jsxs("div",{className:"flex flex-col gap-2 flex-shrink-0",children:[a.jsx("a",{href:`https://www.google.com/maps/dir/?api=1&destination=${encodeURIComponent(ie.clientAddress)}`,target:"_blank",rel:"noopener noreferrer",onClick:rt=>rt.stopPropagation(),className:"flex items-center justify-center w-10 h-10 bg-blue-600 hover:bg-blue-700 text-white rounded-lg transition-colors",title:"Ouvrir dans Google Maps",children:a.jsx(Gs,{className:"w-5 h-5"})}),a.jsx("a",{href:`tel:${ie.clientPhone.replace(/\s/g,"")}`,onClick:rt=>rt.stopPropagation(),className:"flex items-center justify-center w-10 h-10 bg-green-600 hover:bg-green-700 text-white rounded-lg transition-colors",title:`Appeler ${ie.clientName}`,children:a.jsx(id,{className:"w-5 h-5"})})]})]})},ie.id))]})]})]})}function xE({onSelectClient:t}){const[r,s]=m.useState(""),[i,l]=m.useState([]),[u,f]=m.useState(!1),[p,g]=m.useState(null),[y,x]=m.useState(""),[v,N]=m.useState(""),[C,E]=m.useState(""),[S,b]=m.useState(""),[j,k]=m.useState(""),[P,L]=m.useState(!1),[B,W]=m.useState("particulier"),[G,H]=m.useState(!1),[se,ae]=m.useState(null),[we,de]=m.useState(!1),le=(O,R)=>{let K;return(...U)=>{clearTimeout(K),K=setTimeout(()=>O(...U),R)}},ce=m.useCallback(async O=>{f(!0),g(null);try{const R=await Ys.getAll(O?.trim()?O.trim():void 0);l(R)}catch(R){g(R.message||"Erreur lors du chargement des clients")}finally{f(!1)}},[]),be=m.useCallback(le(ce,400),[ce]);m.useEffect(()=>{be(r)},[r,be]);const M=i;return a.jsxs("div",{className:"space-y-6",children:[a.jsxs("div",{className:"flex items-center justify-between",children:[a.jsxs("div",{children:[a.jsx("h1",{className:"text-gray-900 mb-2",children:"Clients"}),a.jsx("p",{className:"text-gray-600",children:"Gérez vos clients et leurs informations"})]}),a.jsxs(gn,{children:[a.jsx(_r,{asChild:!0,children:a.jsxs(Te,{className:"bg-green-600 hover:bg-green-700",children:[a.jsx(Ya,{className:"w-4 h-4 mr-2"}),"Nouveau client"]})}),a.jsxs(vn,{children:[a.jsxs(_n,{children:[a.jsx(Mn,{children:"Ajouter un nouveau client"}),a.jsx(Zn,{children:"Remplissez les informations du client"})]}),a.jsxs("div",{className:"space-y-4",children:[a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"name",children:"Nom complet"}),a.jsx(Xe,{id:"name",placeholder:"Ex: Marie Dubois",value:y,onChange:O=>x(O.target.value)})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"email",children:"Email"}),a.jsx(Xe,{id:"email",type:"email",placeholder:"email@exemple.fr",value:v,onChange:O=>N(O.target.value)})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"phone",children:"Téléphone"}),a.jsx(Xe,{id:"phone",placeholder:"06 12 34 56 78",value:C,onChange:O=>E(O.target.value)})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"address",children:"Adresse"}),a.jsx(Xe,{id:"address",placeholder:"12 rue des Fleurs, 75001 Paris",value:S,onChange:O=>b(O.target.value)})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"access",children:"Informations d'accès"}),a.jsx(Vs,{id:"access",placeholder:"Code portail, digicode, instructions d'accès...",rows:3,value:j,onChange:O=>k(O.target.value)}),a.jsx("p",{className:"text-sm text-gray-500 mt-1",children:"Optionnel : codes, instructions pour accéder au terrain"})]}),a.jsxs("div",{className:"flex items-center space-x-2",children:[a.jsx(uv,{id:"hasKey",checked:P,onCheckedChange:O=>L(O===!0)}),a.jsxs("label",{htmlFor:"hasKey",className:"text-sm font-medium leading-none peer-disabled:cursor-not-allowed peer-disabled:opacity-70 flex items-center gap-2",children:[a.jsx(ei,{className:"w-4 h-4 text-amber-600"}),"Je possède une clé pour ce client"]})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"type",children:"Type"}),a.jsxs("select",{id:"type",className:"mt-1 w-full border border-gray-300 rounded px-3 py-2 text-sm focus:outline-none focus:ring-2 focus:ring-green-500",value:B,onChange:O=>W(O.target.value),children:[a.jsx("option",{value:"particulier",children:"Particulier"}),a.jsx("option",{value:"professionnel",children:"Professionnel"})]})]}),se&&a.jsx("div",{className:"text-sm text-red-600",children:se}),we&&a.jsx("div",{className:"text-sm text-green-600",children:"Client ajouté avec succès."}),a.jsx(Te,{className:"w-full bg-green-600 hover:bg-green-700",disabled:G,onClick:async()=>{if(ae(null),de(!1),!y||!v||!C||!S){ae("Veuillez remplir les champs requis (nom, email, téléphone, adresse).");return}H(!0);try{await Ys.create({name:y.trim(),email:v.trim(),phone:C.trim(),address:S.trim(),access:j.trim()||null,hasKey:P,type:B}),await ce(r),x(""),N(""),E(""),b(""),k(""),L(!1),W("particulier"),de(!0)}catch(O){ae(O.message||"Erreur lors de la création du client")}finally{H(!1)}},children:G?"Enregistrement...":"Ajouter le client"})]})]})]})]}),a.jsxs(tt,{className:"p-6",children:[a.jsx("div",{className:"mb-6",children:a.jsxs("div",{className:"relative",children:[a.jsx(dS,{className:"absolute left-3 top-1/2 transform -translate-y-1/2 w-5 h-5 text-gray-400"}),a.jsx(Xe,{placeholder:"Rechercher un client...",value:r,onChange:O=>s(O.target.value),className:"pl-10"})]})}),a.jsxs("div",{className:"space-y-4",children:[u&&a.jsx("div",{className:"text-sm text-gray-500",children:"Chargement des clients..."}),p&&!u&&a.jsx("div",{className:"text-sm text-red-600",children:p}),!u&&!p&&M.length===0&&a.jsx("div",{className:"text-sm text-gray-500",children:"Aucun client trouvé."}),!u&&!p&&M.map(O=>{const R=O.status==="actif"?"Actif":"Inactif",K=O.status==="actif"?"bg-green-100 text-green-700":"bg-gray-100 text-gray-600";return a.jsxs("div",{onClick:()=>t(O.id),className:"flex items-start justify-between p-4 border border-gray-200 rounded-lg hover:border-green-300 hover:shadow-sm transition-all cursor-pointer",children:[a.jsxs("div",{className:"flex-1",children:[a.jsxs("div",{className:"flex items-center gap-3 mb-3",children:[a.jsx("div",{className:"w-12 h-12 bg-green-100 rounded-full flex items-center justify-center",children:a.jsx("span",{className:"text-green-700",children:O.name.charAt(0)})}),a.jsxs("div",{children:[a.jsx("h3",{className:"text-gray-900 mb-1",children:O.name}),a.jsx("span",{className:`px-2 py-1 rounded-full text-sm ${K}`,children:R})]})]}),a.jsxs("div",{className:"grid grid-cols-1 md:grid-cols-3 gap-3 text-sm",children:[a.jsxs("div",{className:"flex items-center gap-2 text-gray-600",children:[a.jsx(Ka,{className:"w-4 h-4"}),O.email]}),a.jsxs("div",{className:"flex items-center gap-2 text-gray-600",children:[a.jsx(id,{className:"w-4 h-4"}),O.phone]}),a.jsxs("div",{className:"flex items-center gap-2 text-gray-600",children:[a.jsx(Gs,{className:"w-4 h-4"}),O.address]})]}),a.jsxs("div",{className:"mt-3 flex flex-wrap gap-4 text-xs text-gray-500",children:[O.access&&a.jsxs("span",{className:"flex items-center gap-1",children:[a.jsx(ei,{className:"w-3 h-3 text-amber-600"})," Accès: ",O.access]}),a.jsxs("span",{children:["Clé: ",O.hasKey?"Oui":"Non"]}),a.jsxs("span",{children:["Type: ",O.type==="particulier"?"Particulier":"Professionnel"]})]})]}),a.jsx("button",{className:"p-2 hover:bg-gray-100 rounded-lg",onClick:U=>{U.stopPropagation()},children:a.jsx(Fb,{className:"w-5 h-5 text-gray-400"})})]},O.id)})]})]})]})}const wE=mg("inline-flex items-center justify-center rounded-md border px-2 py-0.5 text-xs font-medium w-fit whitespace-nowrap shrink-0 [&>svg]:size-3 gap-1 [&>svg]:pointer-events-none focus-visible:border-ring focus-visible:ring-ring/50 focus-visible:ring-[3px] aria-invalid:ring-destructive/20 dark:aria-invalid:ring-destructive/40 aria-invalid:border-destructive transition-[color,box-shadow] overflow-hidden",{variants:{variant:{default:"border-transparent bg-primary text-primary-foreground [a&]:hover:bg-primary/90",secondary:"border-transparent bg-secondary text-secondary-foreground [a&]:hover:bg-secondary/90",destructive:"border-transparent bg-destructive text-white [a&]:hover:bg-destructive/90 focus-visible:ring-destructive/20 dark:focus-visible:ring-destructive/40 dark:bg-destructive/60",outline:"text-foreground [a&]:hover:bg-accent [a&]:hover:text-accent-foreground"}},defaultVariants:{variant:"default"}});function py({className:t,variant:r,asChild:s=!1,...i}){const l=s?hg:"span";return a.jsx(l,{"data-slot":"badge",className:Ve(wE({variant:r}),t),...i})}var mu="rovingFocusGroup.onEntryFocus",bE={bubbles:!1,cancelable:!0},li="RovingFocusGroup",[Hu,hy,SE]=dv(li),[CE,my]=ir(li,[SE]),[NE,jE]=CE(li),gy=m.forwardRef((t,r)=>a.jsx(Hu.Provider,{scope:t.__scopeRovingFocusGroup,children:a.jsx(Hu.Slot,{scope:t.__scopeRovingFocusGroup,children:a.jsx(EE,{...t,ref:r})})}));gy.displayName=li;var EE=m.forwardRef((t,r)=>{const{__scopeRovingFocusGroup:s,orientation:i,loop:l=!1,dir:u,currentTabStopId:f,defaultCurrentTabStopId:p,onCurrentTabStopIdChange:g,onEntryFocus:y,preventScrollOnEntryFocus:x=!1,...v}=t,N=m.useRef(null),C=Ge(r,N),E=wd(u),[S,b]=Ar({prop:f,defaultProp:p??null,onChange:g,caller:li}),[j,k]=m.useState(!1),P=Lr(y),L=hy(s),B=m.useRef(!1),[W,G]=m.useState(0);return m.useEffect(()=>{const H=N.current;if(H)return H.addEventListener(mu,P),()=>H.removeEventListener(mu,P)},[P]),a.jsx(NE,{scope:s,orientation:i,dir:E,loop:l,currentTabStopId:S,onItemFocus:m.useCallback(H=>b(H),[b]),onItemShiftTab:m.useCallback(()=>k(!0),[]),onFocusableItemAdd:m.useCallback(()=>G(H=>H+1),[]),onFocusableItemRemove:m.useCallback(()=>G(H=>H-1),[]),children:a.jsx(Ie.div,{tabIndex:j||W===0?-1:0,"data-orientation":i,...v,ref:C,style:{outline:"none",...t.style},onMouseDown:Le(t.onMouseDown,()=>{B.current=!0}),onFocus:Le(t.onFocus,H=>{const se=!B.current;if(H.target===H.currentTarget&&se&&!j){const ae=new CustomEvent(mu,bE);if(H.currentTarget.dispatchEvent(ae),!ae.defaultPrevented){const we=L().filter(M=>M.focusable),de=we.find(M=>M.active),le=we.find(M=>M.id===S),be=[de,le,...we].filter(Boolean).map(M=>M.ref.current);xy(be,x)}}B.current=!1}),onBlur:Le(t.onBlur,()=>k(!1))})})}),vy="RovingFocusGroupItem",yy=m.forwardRef((t,r)=>{const{__scopeRovingFocusGroup:s,focusable:i=!0,active:l=!1,tabStopId:u,children:f,...p}=t,g=tr(),y=u||g,x=jE(vy,s),v=x.currentTabStopId===y,N=hy(s),{onFocusableItemAdd:C,onFocusableItemRemove:E,currentTabStopId:S}=x;return m.useEffect(()=>{if(i)return C(),()=>E()},[i,C,E]),a.jsx(Hu.ItemSlot,{scope:s,id:y,focusable:i,active:l,children:a.jsx(Ie.span,{tabIndex:v?0:-1,"data-orientation":x.orientation,...p,ref:r,onMouseDown:Le(t.onMouseDown,b=>{i?x.onItemFocus(y):b.preventDefault()}),onFocus:Le(t.onFocus,()=>x.onItemFocus(y)),onKeyDown:Le(t.onKeyDown,b=>{if(b.key==="Tab"&&b.shiftKey){x.onItemShiftTab();return}if(b.target!==b.currentTarget)return;const j=PE(b,x.orientation,x.dir);if(j!==void 0){if(b.metaKey||b.ctrlKey||b.altKey||b.shiftKey)return;b.preventDefault();let P=N().filter(L=>L.focusable).map(L=>L.ref.current);if(j==="last")P.reverse();else if(j==="prev"||j==="next"){j==="prev"&&P.reverse();const L=P.indexOf(b.currentTarget);P=x.loop?RE(P,L+1):P.slice(L+1)}setTimeout(()=>xy(P))}}),children:typeof f=="function"?f({isCurrentTabStop:v,hasTabStop:S!=null}):f})})});yy.displayName=vy;var kE={ArrowLeft:"prev",ArrowUp:"prev",ArrowRight:"next",ArrowDown:"next",PageUp:"first",Home:"first",PageDown:"last",End:"last"};function TE(t,r){return r!=="rtl"?t:t==="ArrowLeft"?"ArrowRight":t==="ArrowRight"?"ArrowLeft":t}function PE(t,r,s){const i=TE(t.key,s);if(!(r==="vertical"&&["ArrowLeft","ArrowRight"].includes(i))&&!(r==="horizontal"&&["ArrowUp","ArrowDown"].includes(i)))return kE[i]}function xy(t,r=!1){const s=document.activeElement;for(const i of t)if(i===s||(i.focus({preventScroll:r}),document.activeElement!==s))return}function RE(t,r){return t.map((s,i)=>t[(r+i)%t.length])}var DE=gy,IE=yy,il="Tabs",[OE]=ir(il,[my]),wy=my(),[_E,Id]=OE(il),by=m.forwardRef((t,r)=>{const{__scopeTabs:s,value:i,onValueChange:l,defaultValue:u,orientation:f="horizontal",dir:p,activationMode:g="automatic",...y}=t,x=wd(p),[v,N]=Ar({prop:i,onChange:l,defaultProp:u??"",caller:il});return a.jsx(_E,{scope:s,baseId:tr(),value:v,onValueChange:N,orientation:f,dir:x,activationMode:g,children:a.jsx(Ie.div,{dir:x,"data-orientation":f,...y,ref:r})})});by.displayName=il;var Sy="TabsList",Cy=m.forwardRef((t,r)=>{const{__scopeTabs:s,loop:i=!0,...l}=t,u=Id(Sy,s),f=wy(s);return a.jsx(DE,{asChild:!0,...f,orientation:u.orientation,dir:u.dir,loop:i,children:a.jsx(Ie.div,{role:"tablist","aria-orientation":u.orientation,...l,ref:r})})});Cy.displayName=Sy;var Ny="TabsTrigger",jy=m.forwardRef((t,r)=>{const{__scopeTabs:s,value:i,disabled:l=!1,...u}=t,f=Id(Ny,s),p=wy(s),g=Ty(f.baseId,i),y=Py(f.baseId,i),x=i===f.value;return a.jsx(IE,{asChild:!0,...p,focusable:!l,active:x,children:a.jsx(Ie.button,{type:"button",role:"tab","aria-selected":x,"aria-controls":y,"data-state":x?"active":"inactive","data-disabled":l?"":void 0,disabled:l,id:g,...u,ref:r,onMouseDown:Le(t.onMouseDown,v=>{!l&&v.button===0&&v.ctrlKey===!1?f.onValueChange(i):v.preventDefault()}),onKeyDown:Le(t.onKeyDown,v=>{[" ","Enter"].includes(v.key)&&f.onValueChange(i)}),onFocus:Le(t.onFocus,()=>{const v=f.activationMode!=="manual";!x&&!l&&v&&f.onValueChange(i)})})})});jy.displayName=Ny;var Ey="TabsContent",ky=m.forwardRef((t,r)=>{const{__scopeTabs:s,value:i,forceMount:l,children:u,...f}=t,p=Id(Ey,s),g=Ty(p.baseId,i),y=Py(p.baseId,i),x=i===p.value,v=m.useRef(x);return m.useEffect(()=>{const N=requestAnimationFrame(()=>v.current=!1);return()=>cancelAnimationFrame(N)},[]),a.jsx(cs,{present:l||x,children:({present:N})=>a.jsx(Ie.div,{"data-state":x?"active":"inactive","data-orientation":p.orientation,role:"tabpanel","aria-labelledby":g,hidden:!N,id:y,tabIndex:0,...f,ref:r,style:{...t.style,animationDuration:v.current?"0s":void 0},children:N&&u})})});ky.displayName=Ey;function Ty(t,r){return`${t}-trigger-${r}`}function Py(t,r){return`${t}-content-${r}`}var ME=by,AE=Cy,LE=jy,zE=ky;function FE({className:t,...r}){return a.jsx(ME,{"data-slot":"tabs",className:Ve("flex flex-col gap-2",t),...r})}function $E({className:t,...r}){return a.jsx(AE,{"data-slot":"tabs-list",className:Ve("bg-muted text-muted-foreground inline-flex h-9 w-fit items-center justify-center rounded-xl p-[3px] flex",t),...r})}function gu({className:t,...r}){return a.jsx(LE,{"data-slot":"tabs-trigger",className:Ve("data-[state=active]:bg-card dark:data-[state=active]:text-foreground focus-visible:border-ring focus-visible:ring-ring/50 focus-visible:outline-ring dark:data-[state=active]:border-input dark:data-[state=active]:bg-input/30 text-foreground dark:text-muted-foreground inline-flex h-[calc(100%-1px)] flex-1 items-center justify-center gap-1.5 rounded-xl border border-transparent px-2 py-1 text-sm font-medium whitespace-nowrap transition-[color,box-shadow] focus-visible:ring-[3px] focus-visible:outline-1 disabled:pointer-events-none disabled:opacity-50 [&_svg]:pointer-events-none [&_svg]:shrink-0 [&_svg:not([class*='size-'])]:size-4",t),...r})}function HE({className:t,...r}){return a.jsx(zE,{"data-slot":"tabs-content",className:Ve("flex-1 outline-none",t),...r})}function BE({project:t,chantiers:r,onBack:s,onEditChantier:i,onDeleteChantier:l}){const[u,f]=m.useState("all"),p=b=>{switch(b){case"completed":return"bg-green-100 text-green-700";case"confirmed":return"bg-blue-100 text-blue-700";case"in-progress":return"bg-yellow-100 text-yellow-700";case"proposed":return"bg-purple-100 text-purple-700";case"cancelled":return"bg-red-100 text-red-700";default:return"bg-gray-100 text-gray-600"}},g=b=>{switch(b){case"completed":return a.jsx(_b,{className:"w-4 h-4"});case"cancelled":return a.jsx(Ab,{className:"w-4 h-4"});case"in-progress":return a.jsx(La,{className:"w-4 h-4"});default:return null}},y=b=>({proposed:"Proposé",confirmed:"Confirmé","in-progress":"En cours",completed:"Terminé",cancelled:"Annulé"})[b]||b,x=new Date;x.setHours(0,0,0,0);const v=r.filter(b=>b.dateHeure?new Date(b.dateHeure)>=x:!0),N=r.filter(b=>b.dateHeure?new Date(b.dateHeure)<x:!1),C=u==="upcoming"?v:u==="past"?N:r,E=b=>b?new Date(b).toLocaleDateString("fr-FR",{weekday:"long",year:"numeric",month:"long",day:"numeric"}):"Non planifié",S=b=>{const j=Math.floor(b/60),k=b%60;return j>0&&k>0?`${j}h${k}`:j>0?`${j}h`:`${k}min`};return a.jsxs("div",{className:"space-y-6",children:[a.jsxs("div",{className:"flex items-center gap-4",children:[a.jsx(Te,{variant:"outline",size:"icon",onClick:s,children:a.jsx(vg,{className:"w-4 h-4"})}),a.jsxs("div",{className:"flex-1",children:[a.jsx("h1",{className:"text-gray-900 mb-1",children:t.title}),a.jsx("p",{className:"text-gray-600",children:"Intervention récurrente"})]})]}),a.jsx(tt,{className:"p-6",children:a.jsxs("div",{className:"grid grid-cols-1 md:grid-cols-2 gap-6",children:[a.jsxs("div",{className:"space-y-4",children:[a.jsxs("div",{children:[a.jsx("div",{className:"text-sm text-gray-500 mb-1",children:"Client"}),a.jsxs("div",{className:"flex items-center gap-2",children:[a.jsx($s,{className:"w-4 h-4 text-gray-400"}),a.jsx("span",{className:"text-gray-900",children:t.clientName})]})]}),a.jsxs("div",{children:[a.jsx("div",{className:"text-sm text-gray-500 mb-1",children:"Description"}),a.jsx("p",{className:"text-gray-700",children:t.description})]})]}),a.jsxs("div",{className:"space-y-4",children:[a.jsxs("div",{children:[a.jsx("div",{className:"text-sm text-gray-500 mb-1",children:"Période"}),a.jsxs("div",{className:"text-gray-900",children:[t.type==="recurrent"?t.dureeMois+" mois":"Ponctuel",t.premierMois&&a.jsxs("span",{className:"text-gray-600 ml-2",children:["(depuis ",t.premierMois?t.premierMois:"Inconnu",")"]})]})]}),a.jsxs("div",{children:[a.jsx("div",{className:"text-sm text-gray-500 mb-1",children:"Durée unitaire"}),a.jsxs("div",{className:"flex items-center gap-2",children:[a.jsx(yn,{className:"w-4 h-4 text-gray-400"}),a.jsx("span",{className:"text-gray-900",children:S(t.dureeEnMinutes||0)})]})]}),a.jsxs("div",{className:"grid grid-cols-3 gap-4 pt-4 border-t",children:[a.jsxs("div",{children:[a.jsx("div",{className:"text-2xl text-green-600",children:t.chantiers?.filter(b=>b.status==="completed").length||0}),a.jsx("div",{className:"text-sm text-gray-500",children:"Terminés"})]}),a.jsxs("div",{children:[a.jsx("div",{className:"text-2xl text-blue-600",children:t.chantiers?.filter(b=>b.status!="completed").length||0}),a.jsx("div",{className:"text-sm text-gray-500",children:"À venir"})]}),a.jsxs("div",{children:[a.jsx("div",{className:"text-2xl text-gray-600",children:t.chantiers?.length||0}),a.jsx("div",{className:"text-sm text-gray-500",children:"Total"})]})]})]})]})}),a.jsx("div",{children:a.jsxs(FE,{defaultValue:"all",onValueChange:b=>f(b),children:[a.jsxs($E,{className:"mb-4",children:[a.jsxs(gu,{value:"all",children:["Tous (",r.length,")"]}),a.jsxs(gu,{value:"upcoming",children:["À venir (",v.length,")"]}),a.jsxs(gu,{value:"past",children:["Passés (",N.length,")"]})]}),a.jsx(HE,{value:u,className:"space-y-4",children:C.length===0?a.jsxs(tt,{className:"p-8 text-center",children:[a.jsx(On,{className:"w-12 h-12 text-gray-300 mx-auto mb-3"}),a.jsx("p",{className:"text-gray-500",children:"Aucun chantier trouvé"})]}):C.map(b=>a.jsx(tt,{className:"p-6 hover:shadow-lg transition-shadow",children:a.jsxs("div",{className:"flex items-start justify-between gap-4",children:[a.jsxs("div",{className:"flex-1 space-y-3",children:[a.jsxs("div",{className:"flex items-center gap-3 flex-wrap",children:[a.jsx(py,{className:p(b.status),children:a.jsxs("div",{className:"flex items-center gap-1",children:[g(b.status),a.jsx("span",{children:y(b.status)})]})}),b.dateHeure&&a.jsxs("div",{className:"flex items-center gap-2 text-sm text-gray-600",children:[a.jsx(On,{className:"w-4 h-4"}),E(b.dateHeure)]})]}),a.jsx("div",{className:"grid grid-cols-1 sm:grid-cols-2 gap-3 text-sm",children:b.dateHeure&&a.jsxs("div",{className:"flex items-center gap-2 text-gray-600",children:[a.jsx(yn,{className:"w-4 h-4"}),b.dateHeure," - ",S(b.dureeEnMinutes||0)]})}),b.projectName&&a.jsx("p",{className:"text-sm text-gray-700",children:b.projectName})]}),a.jsxs("div",{className:"flex gap-2",children:[i&&a.jsx(Te,{variant:"outline",size:"sm",onClick:()=>i(b),children:a.jsx(od,{className:"w-4 h-4"})}),l&&a.jsx(Te,{variant:"outline",size:"sm",onClick:()=>{confirm("Supprimer ce chantier ?")&&l(b.id)},children:a.jsx(ld,{className:"w-4 h-4 text-red-600"})})]})]})},b.id))})]})})]})}function UE(){const[t,r]=m.useState("all"),[s,i]=m.useState(null),[l,u]=m.useState([]),[f,p]=m.useState(!1),[g,y]=m.useState(null),[x,v]=m.useState({}),[N,C]=m.useState(!1),E=m.useCallback(async()=>{p(!0),y(null);try{const P=await Rd.getAll();u(P)}catch(P){y(P.message||"Erreur lors du chargement des projets")}finally{p(!1)}},[]),S=m.useCallback(async P=>{try{const L=await gE.getAll({projectId:P});return v(B=>({...B,[P]:L})),L}catch{return[]}},[]);m.useEffect(()=>{E()},[E,N]);const b=t==="all"?l:t==="recurring"?l.filter(P=>P.type==="recurrent"):l.filter(P=>P.type==="ponctuel"),j=P=>{i(P)},k=P=>{confirm("Supprimer ce projet ?")&&u(l.filter(L=>L.id!==P))};if(s){const P=x[s.id]||[];return P.length||S(s.id),a.jsx(BE,{project:s,chantiers:P,onBack:()=>i(null)})}return a.jsxs("div",{className:"space-y-6",children:[a.jsxs("div",{className:"flex flex-col sm:flex-row sm:items-center justify-between gap-4",children:[a.jsxs("div",{children:[a.jsx("h1",{className:"text-gray-900 mb-2",children:"Projets"}),a.jsx("p",{className:"text-gray-600",children:"Gérez vos projets récurrents et chantiers"})]}),a.jsxs(gn,{open:N,onOpenChange:P=>{C(P)},children:[a.jsx(_r,{asChild:!0,children:a.jsxs(Te,{className:"bg-green-600 hover:bg-green-700 w-full sm:w-auto",children:[a.jsx(Ya,{className:"w-4 h-4 mr-2"}),"Nouveau projet"]})}),a.jsxs(vn,{className:"max-w-2xl max-h-[90vh] overflow-y-auto",children:[a.jsxs(_n,{children:[a.jsx(Mn,{children:"Créer un nouveau projet"}),a.jsx(Zn,{children:"Formulaire provisoire (ProjectForm)"})]}),a.jsx(Dd,{onCreated:()=>C(!1)})]})]})]}),a.jsxs("div",{className:"flex flex-wrap gap-2",children:[a.jsx(Te,{variant:t==="all"?"default":"outline",onClick:()=>r("all"),className:`flex-1 sm:flex-none ${t==="all"?"bg-green-600 hover:bg-green-700":""}`,children:"Toutes"}),a.jsx(Te,{variant:t==="one-shot"?"default":"outline",onClick:()=>r("one-shot"),className:`flex-1 sm:flex-none ${t==="one-shot"?"bg-green-600 hover:bg-green-700":""}`,children:"Chantiers"}),a.jsx(Te,{variant:t==="recurring"?"default":"outline",onClick:()=>r("recurring"),className:`flex-1 sm:flex-none ${t==="recurring"?"bg-green-600 hover:bg-green-700":""}`,children:"Récurrentes"})]}),a.jsxs("div",{className:"grid grid-cols-1 lg:grid-cols-2 gap-6",children:[f&&a.jsx(tt,{className:"p-6",children:"Chargement des interventions..."}),g&&!f&&a.jsx(tt,{className:"p-6 text-red-600",children:g}),!f&&!g&&b.map(P=>a.jsx(tt,{className:"p-6 hover:shadow-lg transition-shadow",children:a.jsxs("div",{className:"space-y-4",children:[a.jsx("div",{className:"flex items-start justify-between",children:a.jsxs("div",{className:"flex-1",children:[a.jsxs("div",{className:"flex items-center gap-2 mb-2",children:[a.jsx("h3",{className:"text-gray-900",children:P.title}),P.type==="recurrent"&&a.jsx(wg,{className:"w-4 h-4 text-blue-600"})]}),a.jsx("div",{className:"flex items-center gap-2 mb-3",children:a.jsx(py,{variant:"outline",className:"capitalize",children:P.type==="recurrent"?"Récurrent":"Ponctuel"})})]})}),a.jsxs("div",{className:"space-y-2 text-sm",children:[a.jsxs("div",{className:"flex items-center gap-2 text-gray-600",children:[a.jsx($s,{className:"w-4 h-4"}),P.clientName]}),P.type==="recurrent"&&a.jsxs(a.Fragment,{children:[a.jsxs("div",{className:"flex items-center gap-2 text-gray-600",children:[a.jsx(On,{className:"w-4 h-4"}),P.dureeMois," mois - depuis ",P.premierMois?P.premierMois:"Inconnu"]}),a.jsxs("div",{className:"flex items-center gap-2 text-gray-600",children:[a.jsx(yn,{className:"w-4 h-4"}),"Durée unitaire: ",P.dureeEnMinutes," min"]})]})]}),a.jsx("p",{className:"text-sm text-gray-600 line-clamp-2",children:P.description}),P.type==="recurrent"&&a.jsxs("div",{className:"grid grid-cols-3 gap-3 pt-3 border-t",children:[a.jsxs("div",{className:"text-center",children:[a.jsx("div",{className:"text-green-600",children:P.chantiers?.filter(L=>L.status==="completed").length||0}),a.jsx("div",{className:"text-xs text-gray-500",children:"Terminés"})]}),a.jsxs("div",{className:"text-center",children:[a.jsx("div",{className:"text-blue-600",children:P.chantiers?.filter(L=>L.status!="completed").length||0}),a.jsx("div",{className:"text-xs text-gray-500",children:"À venir"})]}),a.jsxs("div",{className:"text-center",children:[a.jsx("div",{className:"text-gray-600",children:P.chantiers?.length||0}),a.jsx("div",{className:"text-xs text-gray-500",children:"Total"})]})]}),a.jsxs("div",{className:"flex gap-2 pt-2",children:[a.jsxs(Te,{variant:"outline",size:"sm",className:"flex-1",onClick:()=>j(P),children:[a.jsx(Hb,{className:"w-4 h-4 mr-2"}),"Voir détails"]}),a.jsx(Te,{variant:"outline",size:"sm",onClick:()=>{confirm("Supprimer ce projet ?")&&k(P.id)},children:a.jsx(ld,{className:"w-4 h-4 text-red-600"})})]})]})},P.id))]}),!f&&!g&&b.length===0&&a.jsxs(tt,{className:"p-12 text-center",children:[a.jsx(On,{className:"w-16 h-16 text-gray-300 mx-auto mb-4"}),a.jsx("h3",{className:"text-gray-900 mb-2",children:"Aucun projet"}),a.jsx("p",{className:"text-gray-600",children:"Créez votre premier projet pour commencer"})]})]})}const Ry=m.createContext({dragDropManager:void 0});function rn(t){return"Minified Redux error #"+t+"; visit https://redux.js.org/Errors?code="+t+" for the full message or use the non-minified dev environment for full errors. "}var vm=(function(){return typeof Symbol=="function"&&Symbol.observable||"@@observable"})(),ym=function(){return Math.random().toString(36).substring(7).split("").join(".")},xm={INIT:"@@redux/INIT"+ym(),REPLACE:"@@redux/REPLACE"+ym()};function VE(t){if(typeof t!="object"||t===null)return!1;for(var r=t;Object.getPrototypeOf(r)!==null;)r=Object.getPrototypeOf(r);return Object.getPrototypeOf(t)===r}function Dy(t,r,s){var i;if(typeof r=="function"&&typeof s=="function"||typeof s=="function"&&typeof arguments[3]=="function")throw new Error(rn(0));if(typeof r=="function"&&typeof s>"u"&&(s=r,r=void 0),typeof s<"u"){if(typeof s!="function")throw new Error(rn(1));return s(Dy)(t,r)}if(typeof t!="function")throw new Error(rn(2));var l=t,u=r,f=[],p=f,g=!1;function y(){p===f&&(p=f.slice())}function x(){if(g)throw new Error(rn(3));return u}function v(S){if(typeof S!="function")throw new Error(rn(4));if(g)throw new Error(rn(5));var b=!0;return y(),p.push(S),function(){if(b){if(g)throw new Error(rn(6));b=!1,y();var k=p.indexOf(S);p.splice(k,1),f=null}}}function N(S){if(!VE(S))throw new Error(rn(7));if(typeof S.type>"u")throw new Error(rn(8));if(g)throw new Error(rn(9));try{g=!0,u=l(u,S)}finally{g=!1}for(var b=f=p,j=0;j<b.length;j++){var k=b[j];k()}return S}function C(S){if(typeof S!="function")throw new Error(rn(10));l=S,N({type:xm.REPLACE})}function E(){var S,b=v;return S={subscribe:function(k){if(typeof k!="object"||k===null)throw new Error(rn(11));function P(){k.next&&k.next(x())}P();var L=b(P);return{unsubscribe:L}}},S[vm]=function(){return this},S}return N({type:xm.INIT}),i={dispatch:N,subscribe:v,getState:x,replaceReducer:C},i[vm]=E,i}function Re(t,r,...s){if(WE()&&r===void 0)throw new Error("invariant requires an error message argument");if(!t){let i;if(r===void 0)i=new Error("Minified exception occurred; use the non-minified dev environment for the full error message and additional helpful warnings.");else{let l=0;i=new Error(r.replace(/%s/g,function(){return s[l++]})),i.name="Invariant Violation"}throw i.framesToPop=1,i}}function WE(){return typeof process<"u"&&!0}function GE(t,r,s){return r.split(".").reduce((i,l)=>i&&i[l]?i[l]:s||null,t)}function KE(t,r){return t.filter(s=>s!==r)}function Iy(t){return typeof t=="object"}function YE(t,r){const s=new Map,i=u=>{s.set(u,s.has(u)?s.get(u)+1:1)};t.forEach(i),r.forEach(i);const l=[];return s.forEach((u,f)=>{u===1&&l.push(f)}),l}function qE(t,r){return t.filter(s=>r.indexOf(s)>-1)}const Od="dnd-core/INIT_COORDS",al="dnd-core/BEGIN_DRAG",_d="dnd-core/PUBLISH_DRAG_SOURCE",ll="dnd-core/HOVER",cl="dnd-core/DROP",ul="dnd-core/END_DRAG";function wm(t,r){return{type:Od,payload:{sourceClientOffset:r||null,clientOffset:t||null}}}const XE={type:Od,payload:{clientOffset:null,sourceClientOffset:null}};function QE(t){return function(s=[],i={publishSource:!0}){const{publishSource:l=!0,clientOffset:u,getSourceClientOffset:f}=i,p=t.getMonitor(),g=t.getRegistry();t.dispatch(wm(u)),JE(s,p,g);const y=tk(s,p);if(y==null){t.dispatch(XE);return}let x=null;if(u){if(!f)throw new Error("getSourceClientOffset must be defined");ZE(f),x=f(y)}t.dispatch(wm(u,x));const N=g.getSource(y).beginDrag(p,y);if(N==null)return;ek(N),g.pinSource(y);const C=g.getSourceType(y);return{type:al,payload:{itemType:C,item:N,sourceId:y,clientOffset:u||null,sourceClientOffset:x||null,isSourcePublic:!!l}}}}function JE(t,r,s){Re(!r.isDragging(),"Cannot call beginDrag while dragging."),t.forEach(function(i){Re(s.getSource(i),"Expected sourceIds to be registered.")})}function ZE(t){Re(typeof t=="function","When clientOffset is provided, getSourceClientOffset must be a function.")}function ek(t){Re(Iy(t),"Item must be an object.")}function tk(t,r){let s=null;for(let i=t.length-1;i>=0;i--)if(r.canDragSource(t[i])){s=t[i];break}return s}function nk(t,r,s){return r in t?Object.defineProperty(t,r,{value:s,enumerable:!0,configurable:!0,writable:!0}):t[r]=s,t}function rk(t){for(var r=1;r<arguments.length;r++){var s=arguments[r]!=null?arguments[r]:{},i=Object.keys(s);typeof Object.getOwnPropertySymbols=="function"&&(i=i.concat(Object.getOwnPropertySymbols(s).filter(function(l){return Object.getOwnPropertyDescriptor(s,l).enumerable}))),i.forEach(function(l){nk(t,l,s[l])})}return t}function sk(t){return function(s={}){const i=t.getMonitor(),l=t.getRegistry();ok(i),lk(i).forEach((f,p)=>{const g=ik(f,p,l,i),y={type:cl,payload:{dropResult:rk({},s,g)}};t.dispatch(y)})}}function ok(t){Re(t.isDragging(),"Cannot call drop while not dragging."),Re(!t.didDrop(),"Cannot call drop twice during one drag operation.")}function ik(t,r,s,i){const l=s.getTarget(t);let u=l?l.drop(i,t):void 0;return ak(u),typeof u>"u"&&(u=r===0?{}:i.getDropResult()),u}function ak(t){Re(typeof t>"u"||Iy(t),"Drop result must either be an object or undefined.")}function lk(t){const r=t.getTargetIds().filter(t.canDropOnTarget,t);return r.reverse(),r}function ck(t){return function(){const s=t.getMonitor(),i=t.getRegistry();uk(s);const l=s.getSourceId();return l!=null&&(i.getSource(l,!0).endDrag(s,l),i.unpinSource()),{type:ul}}}function uk(t){Re(t.isDragging(),"Cannot call endDrag while not dragging.")}function Bu(t,r){return r===null?t===null:Array.isArray(t)?t.some(s=>s===r):t===r}function dk(t){return function(s,{clientOffset:i}={}){fk(s);const l=s.slice(0),u=t.getMonitor(),f=t.getRegistry(),p=u.getItemType();return hk(l,f,p),pk(l,u,f),mk(l,u,f),{type:ll,payload:{targetIds:l,clientOffset:i||null}}}}function fk(t){Re(Array.isArray(t),"Expected targetIds to be an array.")}function pk(t,r,s){Re(r.isDragging(),"Cannot call hover while not dragging."),Re(!r.didDrop(),"Cannot call hover after drop.");for(let i=0;i<t.length;i++){const l=t[i];Re(t.lastIndexOf(l)===i,"Expected targetIds to be unique in the passed array.");const u=s.getTarget(l);Re(u,"Expected targetIds to be registered.")}}function hk(t,r,s){for(let i=t.length-1;i>=0;i--){const l=t[i],u=r.getTargetType(l);Bu(u,s)||t.splice(i,1)}}function mk(t,r,s){t.forEach(function(i){s.getTarget(i).hover(r,i)})}function gk(t){return function(){if(t.getMonitor().isDragging())return{type:_d}}}function vk(t){return{beginDrag:QE(t),publishDragSource:gk(t),hover:dk(t),drop:sk(t),endDrag:ck(t)}}class yk{receiveBackend(r){this.backend=r}getMonitor(){return this.monitor}getBackend(){return this.backend}getRegistry(){return this.monitor.registry}getActions(){const r=this,{dispatch:s}=this.store;function i(u){return(...f)=>{const p=u.apply(r,f);typeof p<"u"&&s(p)}}const l=vk(this);return Object.keys(l).reduce((u,f)=>{const p=l[f];return u[f]=i(p),u},{})}dispatch(r){this.store.dispatch(r)}constructor(r,s){this.isSetUp=!1,this.handleRefCountChange=()=>{const i=this.store.getState().refCount>0;this.backend&&(i&&!this.isSetUp?(this.backend.setup(),this.isSetUp=!0):!i&&this.isSetUp&&(this.backend.teardown(),this.isSetUp=!1))},this.store=r,this.monitor=s,r.subscribe(this.handleRefCountChange)}}function xk(t,r){return{x:t.x+r.x,y:t.y+r.y}}function Oy(t,r){return{x:t.x-r.x,y:t.y-r.y}}function wk(t){const{clientOffset:r,initialClientOffset:s,initialSourceClientOffset:i}=t;return!r||!s||!i?null:Oy(xk(r,i),s)}function bk(t){const{clientOffset:r,initialClientOffset:s}=t;return!r||!s?null:Oy(r,s)}const Jo=[],Md=[];Jo.__IS_NONE__=!0;Md.__IS_ALL__=!0;function Sk(t,r){return t===Jo?!1:t===Md||typeof r>"u"?!0:qE(r,t).length>0}class Ck{subscribeToStateChange(r,s={}){const{handlerIds:i}=s;Re(typeof r=="function","listener must be a function."),Re(typeof i>"u"||Array.isArray(i),"handlerIds, when specified, must be an array of strings.");let l=this.store.getState().stateId;const u=()=>{const f=this.store.getState(),p=f.stateId;try{p===l||p===l+1&&!Sk(f.dirtyHandlerIds,i)||r()}finally{l=p}};return this.store.subscribe(u)}subscribeToOffsetChange(r){Re(typeof r=="function","listener must be a function.");let s=this.store.getState().dragOffset;const i=()=>{const l=this.store.getState().dragOffset;l!==s&&(s=l,r())};return this.store.subscribe(i)}canDragSource(r){if(!r)return!1;const s=this.registry.getSource(r);return Re(s,`Expected to find a valid source. sourceId=${r}`),this.isDragging()?!1:s.canDrag(this,r)}canDropOnTarget(r){if(!r)return!1;const s=this.registry.getTarget(r);if(Re(s,`Expected to find a valid target. targetId=${r}`),!this.isDragging()||this.didDrop())return!1;const i=this.registry.getTargetType(r),l=this.getItemType();return Bu(i,l)&&s.canDrop(this,r)}isDragging(){return!!this.getItemType()}isDraggingSource(r){if(!r)return!1;const s=this.registry.getSource(r,!0);if(Re(s,`Expected to find a valid source. sourceId=${r}`),!this.isDragging()||!this.isSourcePublic())return!1;const i=this.registry.getSourceType(r),l=this.getItemType();return i!==l?!1:s.isDragging(this,r)}isOverTarget(r,s={shallow:!1}){if(!r)return!1;const{shallow:i}=s;if(!this.isDragging())return!1;const l=this.registry.getTargetType(r),u=this.getItemType();if(u&&!Bu(l,u))return!1;const f=this.getTargetIds();if(!f.length)return!1;const p=f.indexOf(r);return i?p===f.length-1:p>-1}getItemType(){return this.store.getState().dragOperation.itemType}getItem(){return this.store.getState().dragOperation.item}getSourceId(){return this.store.getState().dragOperation.sourceId}getTargetIds(){return this.store.getState().dragOperation.targetIds}getDropResult(){return this.store.getState().dragOperation.dropResult}didDrop(){return this.store.getState().dragOperation.didDrop}isSourcePublic(){return!!this.store.getState().dragOperation.isSourcePublic}getInitialClientOffset(){return this.store.getState().dragOffset.initialClientOffset}getInitialSourceClientOffset(){return this.store.getState().dragOffset.initialSourceClientOffset}getClientOffset(){return this.store.getState().dragOffset.clientOffset}getSourceClientOffset(){return wk(this.store.getState().dragOffset)}getDifferenceFromInitialOffset(){return bk(this.store.getState().dragOffset)}constructor(r,s){this.store=r,this.registry=s}}const bm=typeof global<"u"?global:self,_y=bm.MutationObserver||bm.WebKitMutationObserver;function My(t){return function(){const s=setTimeout(l,0),i=setInterval(l,50);function l(){clearTimeout(s),clearInterval(i),t()}}}function Nk(t){let r=1;const s=new _y(t),i=document.createTextNode("");return s.observe(i,{characterData:!0}),function(){r=-r,i.data=r}}const jk=typeof _y=="function"?Nk:My;class Ek{enqueueTask(r){const{queue:s,requestFlush:i}=this;s.length||(i(),this.flushing=!0),s[s.length]=r}constructor(){this.queue=[],this.pendingErrors=[],this.flushing=!1,this.index=0,this.capacity=1024,this.flush=()=>{const{queue:r}=this;for(;this.index<r.length;){const s=this.index;if(this.index++,r[s].call(),this.index>this.capacity){for(let i=0,l=r.length-this.index;i<l;i++)r[i]=r[i+this.index];r.length-=this.index,this.index=0}}r.length=0,this.index=0,this.flushing=!1},this.registerPendingError=r=>{this.pendingErrors.push(r),this.requestErrorThrow()},this.requestFlush=jk(this.flush),this.requestErrorThrow=My(()=>{if(this.pendingErrors.length)throw this.pendingErrors.shift()})}}class kk{call(){try{this.task&&this.task()}catch(r){this.onError(r)}finally{this.task=null,this.release(this)}}constructor(r,s){this.onError=r,this.release=s,this.task=null}}class Tk{create(r){const s=this.freeTasks,i=s.length?s.pop():new kk(this.onError,l=>s[s.length]=l);return i.task=r,i}constructor(r){this.onError=r,this.freeTasks=[]}}const Ay=new Ek,Pk=new Tk(Ay.registerPendingError);function Rk(t){Ay.enqueueTask(Pk.create(t))}const Ad="dnd-core/ADD_SOURCE",Ld="dnd-core/ADD_TARGET",zd="dnd-core/REMOVE_SOURCE",dl="dnd-core/REMOVE_TARGET";function Dk(t){return{type:Ad,payload:{sourceId:t}}}function Ik(t){return{type:Ld,payload:{targetId:t}}}function Ok(t){return{type:zd,payload:{sourceId:t}}}function _k(t){return{type:dl,payload:{targetId:t}}}function Mk(t){Re(typeof t.canDrag=="function","Expected canDrag to be a function."),Re(typeof t.beginDrag=="function","Expected beginDrag to be a function."),Re(typeof t.endDrag=="function","Expected endDrag to be a function.")}function Ak(t){Re(typeof t.canDrop=="function","Expected canDrop to be a function."),Re(typeof t.hover=="function","Expected hover to be a function."),Re(typeof t.drop=="function","Expected beginDrag to be a function.")}function Uu(t,r){if(r&&Array.isArray(t)){t.forEach(s=>Uu(s,!1));return}Re(typeof t=="string"||typeof t=="symbol",r?"Type can only be a string, a symbol, or an array of either.":"Type can only be a string or a symbol.")}var sn;(function(t){t.SOURCE="SOURCE",t.TARGET="TARGET"})(sn||(sn={}));let Lk=0;function zk(){return Lk++}function Fk(t){const r=zk().toString();switch(t){case sn.SOURCE:return`S${r}`;case sn.TARGET:return`T${r}`;default:throw new Error(`Unknown Handler Role: ${t}`)}}function Sm(t){switch(t[0]){case"S":return sn.SOURCE;case"T":return sn.TARGET;default:throw new Error(`Cannot parse handler ID: ${t}`)}}function Cm(t,r){const s=t.entries();let i=!1;do{const{done:l,value:[,u]}=s.next();if(u===r)return!0;i=!!l}while(!i);return!1}class $k{addSource(r,s){Uu(r),Mk(s);const i=this.addHandler(sn.SOURCE,r,s);return this.store.dispatch(Dk(i)),i}addTarget(r,s){Uu(r,!0),Ak(s);const i=this.addHandler(sn.TARGET,r,s);return this.store.dispatch(Ik(i)),i}containsHandler(r){return Cm(this.dragSources,r)||Cm(this.dropTargets,r)}getSource(r,s=!1){return Re(this.isSourceId(r),"Expected a valid source ID."),s&&r===this.pinnedSourceId?this.pinnedSource:this.dragSources.get(r)}getTarget(r){return Re(this.isTargetId(r),"Expected a valid target ID."),this.dropTargets.get(r)}getSourceType(r){return Re(this.isSourceId(r),"Expected a valid source ID."),this.types.get(r)}getTargetType(r){return Re(this.isTargetId(r),"Expected a valid target ID."),this.types.get(r)}isSourceId(r){return Sm(r)===sn.SOURCE}isTargetId(r){return Sm(r)===sn.TARGET}removeSource(r){Re(this.getSource(r),"Expected an existing source."),this.store.dispatch(Ok(r)),Rk(()=>{this.dragSources.delete(r),this.types.delete(r)})}removeTarget(r){Re(this.getTarget(r),"Expected an existing target."),this.store.dispatch(_k(r)),this.dropTargets.delete(r),this.types.delete(r)}pinSource(r){const s=this.getSource(r);Re(s,"Expected an existing source."),this.pinnedSourceId=r,this.pinnedSource=s}unpinSource(){Re(this.pinnedSource,"No source is pinned at the time."),this.pinnedSourceId=null,this.pinnedSource=null}addHandler(r,s,i){const l=Fk(r);return this.types.set(l,s),r===sn.SOURCE?this.dragSources.set(l,i):r===sn.TARGET&&this.dropTargets.set(l,i),l}constructor(r){this.types=new Map,this.dragSources=new Map,this.dropTargets=new Map,this.pinnedSourceId=null,this.pinnedSource=null,this.store=r}}const Hk=(t,r)=>t===r;function Bk(t,r){return!t&&!r?!0:!t||!r?!1:t.x===r.x&&t.y===r.y}function Uk(t,r,s=Hk){if(t.length!==r.length)return!1;for(let i=0;i<t.length;++i)if(!s(t[i],r[i]))return!1;return!0}function Vk(t=Jo,r){switch(r.type){case ll:break;case Ad:case Ld:case dl:case zd:return Jo;case al:case _d:case ul:case cl:default:return Md}const{targetIds:s=[],prevTargetIds:i=[]}=r.payload,l=YE(s,i);if(!(l.length>0||!Uk(s,i)))return Jo;const f=i[i.length-1],p=s[s.length-1];return f!==p&&(f&&l.push(f),p&&l.push(p)),l}function Wk(t,r,s){return r in t?Object.defineProperty(t,r,{value:s,enumerable:!0,configurable:!0,writable:!0}):t[r]=s,t}function Gk(t){for(var r=1;r<arguments.length;r++){var s=arguments[r]!=null?arguments[r]:{},i=Object.keys(s);typeof Object.getOwnPropertySymbols=="function"&&(i=i.concat(Object.getOwnPropertySymbols(s).filter(function(l){return Object.getOwnPropertyDescriptor(s,l).enumerable}))),i.forEach(function(l){Wk(t,l,s[l])})}return t}const Nm={initialSourceClientOffset:null,initialClientOffset:null,clientOffset:null};function Kk(t=Nm,r){const{payload:s}=r;switch(r.type){case Od:case al:return{initialSourceClientOffset:s.sourceClientOffset,initialClientOffset:s.clientOffset,clientOffset:s.clientOffset};case ll:return Bk(t.clientOffset,s.clientOffset)?t:Gk({},t,{clientOffset:s.clientOffset});case ul:case cl:return Nm;default:return t}}function Yk(t,r,s){return r in t?Object.defineProperty(t,r,{value:s,enumerable:!0,configurable:!0,writable:!0}):t[r]=s,t}function Fs(t){for(var r=1;r<arguments.length;r++){var s=arguments[r]!=null?arguments[r]:{},i=Object.keys(s);typeof Object.getOwnPropertySymbols=="function"&&(i=i.concat(Object.getOwnPropertySymbols(s).filter(function(l){return Object.getOwnPropertyDescriptor(s,l).enumerable}))),i.forEach(function(l){Yk(t,l,s[l])})}return t}const qk={itemType:null,item:null,sourceId:null,targetIds:[],dropResult:null,didDrop:!1,isSourcePublic:null};function Xk(t=qk,r){const{payload:s}=r;switch(r.type){case al:return Fs({},t,{itemType:s.itemType,item:s.item,sourceId:s.sourceId,isSourcePublic:s.isSourcePublic,dropResult:null,didDrop:!1});case _d:return Fs({},t,{isSourcePublic:!0});case ll:return Fs({},t,{targetIds:s.targetIds});case dl:return t.targetIds.indexOf(s.targetId)===-1?t:Fs({},t,{targetIds:KE(t.targetIds,s.targetId)});case cl:return Fs({},t,{dropResult:s.dropResult,didDrop:!0,targetIds:[]});case ul:return Fs({},t,{itemType:null,item:null,sourceId:null,dropResult:null,didDrop:!1,isSourcePublic:null,targetIds:[]});default:return t}}function Qk(t=0,r){switch(r.type){case Ad:case Ld:return t+1;case zd:case dl:return t-1;default:return t}}function Jk(t=0){return t+1}function Zk(t,r,s){return r in t?Object.defineProperty(t,r,{value:s,enumerable:!0,configurable:!0,writable:!0}):t[r]=s,t}function e2(t){for(var r=1;r<arguments.length;r++){var s=arguments[r]!=null?arguments[r]:{},i=Object.keys(s);typeof Object.getOwnPropertySymbols=="function"&&(i=i.concat(Object.getOwnPropertySymbols(s).filter(function(l){return Object.getOwnPropertyDescriptor(s,l).enumerable}))),i.forEach(function(l){Zk(t,l,s[l])})}return t}function t2(t={},r){return{dirtyHandlerIds:Vk(t.dirtyHandlerIds,{type:r.type,payload:e2({},r.payload,{prevTargetIds:GE(t,"dragOperation.targetIds",[])})}),dragOffset:Kk(t.dragOffset,r),refCount:Qk(t.refCount,r),dragOperation:Xk(t.dragOperation,r),stateId:Jk(t.stateId)}}function n2(t,r=void 0,s={},i=!1){const l=r2(i),u=new Ck(l,new $k(l)),f=new yk(l,u),p=t(f,r,s);return f.receiveBackend(p),f}function r2(t){const r=typeof window<"u"&&window.__REDUX_DEVTOOLS_EXTENSION__;return Dy(t2,t&&r&&r({name:"dnd-core",instanceId:"dnd-core"}))}function s2(t,r){if(t==null)return{};var s=o2(t,r),i,l;if(Object.getOwnPropertySymbols){var u=Object.getOwnPropertySymbols(t);for(l=0;l<u.length;l++)i=u[l],!(r.indexOf(i)>=0)&&Object.prototype.propertyIsEnumerable.call(t,i)&&(s[i]=t[i])}return s}function o2(t,r){if(t==null)return{};var s={},i=Object.keys(t),l,u;for(u=0;u<i.length;u++)l=i[u],!(r.indexOf(l)>=0)&&(s[l]=t[l]);return s}let jm=0;const Ma=Symbol.for("__REACT_DND_CONTEXT_INSTANCE__");var i2=m.memo(function(r){var{children:s}=r,i=s2(r,["children"]);const[l,u]=a2(i);return m.useEffect(()=>{if(u){const f=Ly();return++jm,()=>{--jm===0&&(f[Ma]=null)}}},[]),a.jsx(Ry.Provider,{value:l,children:s})});function a2(t){if("manager"in t)return[{dragDropManager:t.manager},!1];const r=l2(t.backend,t.context,t.options,t.debugMode),s=!t.context;return[r,s]}function l2(t,r=Ly(),s,i){const l=r;return l[Ma]||(l[Ma]={dragDropManager:n2(t,r,s,i)}),l[Ma]}function Ly(){return typeof global<"u"?global:window}var vu,Em;function c2(){return Em||(Em=1,vu=function t(r,s){if(r===s)return!0;if(r&&s&&typeof r=="object"&&typeof s=="object"){if(r.constructor!==s.constructor)return!1;var i,l,u;if(Array.isArray(r)){if(i=r.length,i!=s.length)return!1;for(l=i;l--!==0;)if(!t(r[l],s[l]))return!1;return!0}if(r.constructor===RegExp)return r.source===s.source&&r.flags===s.flags;if(r.valueOf!==Object.prototype.valueOf)return r.valueOf()===s.valueOf();if(r.toString!==Object.prototype.toString)return r.toString()===s.toString();if(u=Object.keys(r),i=u.length,i!==Object.keys(s).length)return!1;for(l=i;l--!==0;)if(!Object.prototype.hasOwnProperty.call(s,u[l]))return!1;for(l=i;l--!==0;){var f=u[l];if(!t(r[f],s[f]))return!1}return!0}return r!==r&&s!==s}),vu}var u2=c2();const d2=Yu(u2),ls=typeof window<"u"?m.useLayoutEffect:m.useEffect;function f2(t,r,s){const[i,l]=m.useState(()=>r(t)),u=m.useCallback(()=>{const f=r(t);d2(i,f)||(l(f),s&&s())},[i,t,s]);return ls(u),[i,u]}function p2(t,r,s){const[i,l]=f2(t,r,s);return ls(function(){const f=t.getHandlerId();if(f!=null)return t.subscribeToStateChange(l,{handlerIds:[f]})},[t,l]),i}function zy(t,r,s){return p2(r,t||(()=>({})),()=>s.reconnect())}function Fy(t,r){const s=[];return typeof t!="function"&&s.push(t),m.useMemo(()=>typeof t=="function"?t():t,s)}function h2(t){return m.useMemo(()=>t.hooks.dragSource(),[t])}function m2(t){return m.useMemo(()=>t.hooks.dragPreview(),[t])}let yu=!1,xu=!1;class g2{receiveHandlerId(r){this.sourceId=r}getHandlerId(){return this.sourceId}canDrag(){Re(!yu,"You may not call monitor.canDrag() inside your canDrag() implementation. Read more: http://react-dnd.github.io/react-dnd/docs/api/drag-source-monitor");try{return yu=!0,this.internalMonitor.canDragSource(this.sourceId)}finally{yu=!1}}isDragging(){if(!this.sourceId)return!1;Re(!xu,"You may not call monitor.isDragging() inside your isDragging() implementation. Read more: http://react-dnd.github.io/react-dnd/docs/api/drag-source-monitor");try{return xu=!0,this.internalMonitor.isDraggingSource(this.sourceId)}finally{xu=!1}}subscribeToStateChange(r,s){return this.internalMonitor.subscribeToStateChange(r,s)}isDraggingSource(r){return this.internalMonitor.isDraggingSource(r)}isOverTarget(r,s){return this.internalMonitor.isOverTarget(r,s)}getTargetIds(){return this.internalMonitor.getTargetIds()}isSourcePublic(){return this.internalMonitor.isSourcePublic()}getSourceId(){return this.internalMonitor.getSourceId()}subscribeToOffsetChange(r){return this.internalMonitor.subscribeToOffsetChange(r)}canDragSource(r){return this.internalMonitor.canDragSource(r)}canDropOnTarget(r){return this.internalMonitor.canDropOnTarget(r)}getItemType(){return this.internalMonitor.getItemType()}getItem(){return this.internalMonitor.getItem()}getDropResult(){return this.internalMonitor.getDropResult()}didDrop(){return this.internalMonitor.didDrop()}getInitialClientOffset(){return this.internalMonitor.getInitialClientOffset()}getInitialSourceClientOffset(){return this.internalMonitor.getInitialSourceClientOffset()}getSourceClientOffset(){return this.internalMonitor.getSourceClientOffset()}getClientOffset(){return this.internalMonitor.getClientOffset()}getDifferenceFromInitialOffset(){return this.internalMonitor.getDifferenceFromInitialOffset()}constructor(r){this.sourceId=null,this.internalMonitor=r.getMonitor()}}let wu=!1;class v2{receiveHandlerId(r){this.targetId=r}getHandlerId(){return this.targetId}subscribeToStateChange(r,s){return this.internalMonitor.subscribeToStateChange(r,s)}canDrop(){if(!this.targetId)return!1;Re(!wu,"You may not call monitor.canDrop() inside your canDrop() implementation. Read more: http://react-dnd.github.io/react-dnd/docs/api/drop-target-monitor");try{return wu=!0,this.internalMonitor.canDropOnTarget(this.targetId)}finally{wu=!1}}isOver(r){return this.targetId?this.internalMonitor.isOverTarget(this.targetId,r):!1}getItemType(){return this.internalMonitor.getItemType()}getItem(){return this.internalMonitor.getItem()}getDropResult(){return this.internalMonitor.getDropResult()}didDrop(){return this.internalMonitor.didDrop()}getInitialClientOffset(){return this.internalMonitor.getInitialClientOffset()}getInitialSourceClientOffset(){return this.internalMonitor.getInitialSourceClientOffset()}getSourceClientOffset(){return this.internalMonitor.getSourceClientOffset()}getClientOffset(){return this.internalMonitor.getClientOffset()}getDifferenceFromInitialOffset(){return this.internalMonitor.getDifferenceFromInitialOffset()}constructor(r){this.targetId=null,this.internalMonitor=r.getMonitor()}}function y2(t,r,s){const i=s.getRegistry(),l=i.addTarget(t,r);return[l,()=>i.removeTarget(l)]}function x2(t,r,s){const i=s.getRegistry(),l=i.addSource(t,r);return[l,()=>i.removeSource(l)]}function Vu(t,r,s,i){let l;if(l!==void 0)return!!l;if(t===r)return!0;if(typeof t!="object"||!t||typeof r!="object"||!r)return!1;const u=Object.keys(t),f=Object.keys(r);if(u.length!==f.length)return!1;const p=Object.prototype.hasOwnProperty.bind(r);for(let g=0;g<u.length;g++){const y=u[g];if(!p(y))return!1;const x=t[y],v=r[y];if(l=void 0,l===!1||l===void 0&&x!==v)return!1}return!0}function Wu(t){return t!==null&&typeof t=="object"&&Object.prototype.hasOwnProperty.call(t,"current")}function w2(t){if(typeof t.type=="string")return;const r=t.type.displayName||t.type.name||"the component";throw new Error(`Only native element nodes can now be passed to React DnD connectors.You can either wrap ${r} into a <div>, or turn it into a drag source or a drop target itself.`)}function b2(t){return(r=null,s=null)=>{if(!m.isValidElement(r)){const u=r;return t(u,s),u}const i=r;return w2(i),S2(i,s?u=>t(u,s):t)}}function $y(t){const r={};return Object.keys(t).forEach(s=>{const i=t[s];if(s.endsWith("Ref"))r[s]=t[s];else{const l=b2(i);r[s]=()=>l}}),r}function km(t,r){typeof t=="function"?t(r):t.current=r}function S2(t,r){const s=t.ref;return Re(typeof s!="string","Cannot connect React DnD to an element with an existing string ref. Please convert it to use a callback ref instead, or wrap it into a <span> or <div>. Read more: https://reactjs.org/docs/refs-and-the-dom.html#callback-refs"),s?m.cloneElement(t,{ref:i=>{km(s,i),km(r,i)}}):m.cloneElement(t,{ref:r})}class C2{receiveHandlerId(r){this.handlerId!==r&&(this.handlerId=r,this.reconnect())}get connectTarget(){return this.dragSource}get dragSourceOptions(){return this.dragSourceOptionsInternal}set dragSourceOptions(r){this.dragSourceOptionsInternal=r}get dragPreviewOptions(){return this.dragPreviewOptionsInternal}set dragPreviewOptions(r){this.dragPreviewOptionsInternal=r}reconnect(){const r=this.reconnectDragSource();this.reconnectDragPreview(r)}reconnectDragSource(){const r=this.dragSource,s=this.didHandlerIdChange()||this.didConnectedDragSourceChange()||this.didDragSourceOptionsChange();return s&&this.disconnectDragSource(),this.handlerId?r?(s&&(this.lastConnectedHandlerId=this.handlerId,this.lastConnectedDragSource=r,this.lastConnectedDragSourceOptions=this.dragSourceOptions,this.dragSourceUnsubscribe=this.backend.connectDragSource(this.handlerId,r,this.dragSourceOptions)),s):(this.lastConnectedDragSource=r,s):s}reconnectDragPreview(r=!1){const s=this.dragPreview,i=r||this.didHandlerIdChange()||this.didConnectedDragPreviewChange()||this.didDragPreviewOptionsChange();if(i&&this.disconnectDragPreview(),!!this.handlerId){if(!s){this.lastConnectedDragPreview=s;return}i&&(this.lastConnectedHandlerId=this.handlerId,this.lastConnectedDragPreview=s,this.lastConnectedDragPreviewOptions=this.dragPreviewOptions,this.dragPreviewUnsubscribe=this.backend.connectDragPreview(this.handlerId,s,this.dragPreviewOptions))}}didHandlerIdChange(){return this.lastConnectedHandlerId!==this.handlerId}didConnectedDragSourceChange(){return this.lastConnectedDragSource!==this.dragSource}didConnectedDragPreviewChange(){return this.lastConnectedDragPreview!==this.dragPreview}didDragSourceOptionsChange(){return!Vu(this.lastConnectedDragSourceOptions,this.dragSourceOptions)}didDragPreviewOptionsChange(){return!Vu(this.lastConnectedDragPreviewOptions,this.dragPreviewOptions)}disconnectDragSource(){this.dragSourceUnsubscribe&&(this.dragSourceUnsubscribe(),this.dragSourceUnsubscribe=void 0)}disconnectDragPreview(){this.dragPreviewUnsubscribe&&(this.dragPreviewUnsubscribe(),this.dragPreviewUnsubscribe=void 0,this.dragPreviewNode=null,this.dragPreviewRef=null)}get dragSource(){return this.dragSourceNode||this.dragSourceRef&&this.dragSourceRef.current}get dragPreview(){return this.dragPreviewNode||this.dragPreviewRef&&this.dragPreviewRef.current}clearDragSource(){this.dragSourceNode=null,this.dragSourceRef=null}clearDragPreview(){this.dragPreviewNode=null,this.dragPreviewRef=null}constructor(r){this.hooks=$y({dragSource:(s,i)=>{this.clearDragSource(),this.dragSourceOptions=i||null,Wu(s)?this.dragSourceRef=s:this.dragSourceNode=s,this.reconnectDragSource()},dragPreview:(s,i)=>{this.clearDragPreview(),this.dragPreviewOptions=i||null,Wu(s)?this.dragPreviewRef=s:this.dragPreviewNode=s,this.reconnectDragPreview()}}),this.handlerId=null,this.dragSourceRef=null,this.dragSourceOptionsInternal=null,this.dragPreviewRef=null,this.dragPreviewOptionsInternal=null,this.lastConnectedHandlerId=null,this.lastConnectedDragSource=null,this.lastConnectedDragSourceOptions=null,this.lastConnectedDragPreview=null,this.lastConnectedDragPreviewOptions=null,this.backend=r}}class N2{get connectTarget(){return this.dropTarget}reconnect(){const r=this.didHandlerIdChange()||this.didDropTargetChange()||this.didOptionsChange();r&&this.disconnectDropTarget();const s=this.dropTarget;if(this.handlerId){if(!s){this.lastConnectedDropTarget=s;return}r&&(this.lastConnectedHandlerId=this.handlerId,this.lastConnectedDropTarget=s,this.lastConnectedDropTargetOptions=this.dropTargetOptions,this.unsubscribeDropTarget=this.backend.connectDropTarget(this.handlerId,s,this.dropTargetOptions))}}receiveHandlerId(r){r!==this.handlerId&&(this.handlerId=r,this.reconnect())}get dropTargetOptions(){return this.dropTargetOptionsInternal}set dropTargetOptions(r){this.dropTargetOptionsInternal=r}didHandlerIdChange(){return this.lastConnectedHandlerId!==this.handlerId}didDropTargetChange(){return this.lastConnectedDropTarget!==this.dropTarget}didOptionsChange(){return!Vu(this.lastConnectedDropTargetOptions,this.dropTargetOptions)}disconnectDropTarget(){this.unsubscribeDropTarget&&(this.unsubscribeDropTarget(),this.unsubscribeDropTarget=void 0)}get dropTarget(){return this.dropTargetNode||this.dropTargetRef&&this.dropTargetRef.current}clearDropTarget(){this.dropTargetRef=null,this.dropTargetNode=null}constructor(r){this.hooks=$y({dropTarget:(s,i)=>{this.clearDropTarget(),this.dropTargetOptions=i,Wu(s)?this.dropTargetRef=s:this.dropTargetNode=s,this.reconnect()}}),this.handlerId=null,this.dropTargetRef=null,this.dropTargetOptionsInternal=null,this.lastConnectedHandlerId=null,this.lastConnectedDropTarget=null,this.lastConnectedDropTargetOptions=null,this.backend=r}}function ro(){const{dragDropManager:t}=m.useContext(Ry);return Re(t!=null,"Expected drag drop context"),t}function j2(t,r){const s=ro(),i=m.useMemo(()=>new C2(s.getBackend()),[s]);return ls(()=>(i.dragSourceOptions=t||null,i.reconnect(),()=>i.disconnectDragSource()),[i,t]),ls(()=>(i.dragPreviewOptions=r||null,i.reconnect(),()=>i.disconnectDragPreview()),[i,r]),i}function E2(){const t=ro();return m.useMemo(()=>new g2(t),[t])}class k2{beginDrag(){const r=this.spec,s=this.monitor;let i=null;return typeof r.item=="object"?i=r.item:typeof r.item=="function"?i=r.item(s):i={},i??null}canDrag(){const r=this.spec,s=this.monitor;return typeof r.canDrag=="boolean"?r.canDrag:typeof r.canDrag=="function"?r.canDrag(s):!0}isDragging(r,s){const i=this.spec,l=this.monitor,{isDragging:u}=i;return u?u(l):s===r.getSourceId()}endDrag(){const r=this.spec,s=this.monitor,i=this.connector,{end:l}=r;l&&l(s.getItem(),s),i.reconnect()}constructor(r,s,i){this.spec=r,this.monitor=s,this.connector=i}}function T2(t,r,s){const i=m.useMemo(()=>new k2(t,r,s),[r,s]);return m.useEffect(()=>{i.spec=t},[t]),i}function P2(t){return m.useMemo(()=>{const r=t.type;return Re(r!=null,"spec.type must be defined"),r},[t])}function R2(t,r,s){const i=ro(),l=T2(t,r,s),u=P2(t);ls(function(){if(u!=null){const[p,g]=x2(u,l,i);return r.receiveHandlerId(p),s.receiveHandlerId(p),g}},[i,r,s,l,u])}function Hy(t,r){const s=Fy(t);Re(!s.begin,"useDrag::spec.begin was deprecated in v14. Replace spec.begin() with spec.item(). (see more here - https://react-dnd.github.io/react-dnd/docs/api/use-drag)");const i=E2(),l=j2(s.options,s.previewOptions);return R2(s,i,l),[zy(s.collect,i,l),h2(l),m2(l)]}function D2(t){return m.useMemo(()=>t.hooks.dropTarget(),[t])}function I2(t){const r=ro(),s=m.useMemo(()=>new N2(r.getBackend()),[r]);return ls(()=>(s.dropTargetOptions=t||null,s.reconnect(),()=>s.disconnectDropTarget()),[t]),s}function O2(){const t=ro();return m.useMemo(()=>new v2(t),[t])}function _2(t){const{accept:r}=t;return m.useMemo(()=>(Re(t.accept!=null,"accept must be defined"),Array.isArray(r)?r:[r]),[r])}class M2{canDrop(){const r=this.spec,s=this.monitor;return r.canDrop?r.canDrop(s.getItem(),s):!0}hover(){const r=this.spec,s=this.monitor;r.hover&&r.hover(s.getItem(),s)}drop(){const r=this.spec,s=this.monitor;if(r.drop)return r.drop(s.getItem(),s)}constructor(r,s){this.spec=r,this.monitor=s}}function A2(t,r){const s=m.useMemo(()=>new M2(t,r),[r]);return m.useEffect(()=>{s.spec=t},[t]),s}function L2(t,r,s){const i=ro(),l=A2(t,r),u=_2(t);ls(function(){const[p,g]=y2(u,l,i);return r.receiveHandlerId(p),s.receiveHandlerId(p),g},[i,r,l,s,u.map(f=>f.toString()).join("|")])}function z2(t,r){const s=Fy(t),i=O2(),l=I2(s.options);return L2(s,i,l),[zy(s.collect,i,l),D2(l)]}function By(t){let r=null;return()=>(r==null&&(r=t()),r)}function F2(t,r){return t.filter(s=>s!==r)}function $2(t,r){const s=new Set,i=u=>s.add(u);t.forEach(i),r.forEach(i);const l=[];return s.forEach(u=>l.push(u)),l}class H2{enter(r){const s=this.entered.length,i=l=>this.isNodeInDocument(l)&&(!l.contains||l.contains(r));return this.entered=$2(this.entered.filter(i),[r]),s===0&&this.entered.length>0}leave(r){const s=this.entered.length;return this.entered=F2(this.entered.filter(this.isNodeInDocument),r),s>0&&this.entered.length===0}reset(){this.entered=[]}constructor(r){this.entered=[],this.isNodeInDocument=r}}class B2{initializeExposedProperties(){Object.keys(this.config.exposeProperties).forEach(r=>{Object.defineProperty(this.item,r,{configurable:!0,enumerable:!0,get(){return console.warn(`Browser doesn't allow reading "${r}" until the drop event.`),null}})})}loadDataTransfer(r){if(r){const s={};Object.keys(this.config.exposeProperties).forEach(i=>{const l=this.config.exposeProperties[i];l!=null&&(s[i]={value:l(r,this.config.matchesTypes),configurable:!0,enumerable:!0})}),Object.defineProperties(this.item,s)}}canDrag(){return!0}beginDrag(){return this.item}isDragging(r,s){return s===r.getSourceId()}endDrag(){}constructor(r){this.config=r,this.item={},this.initializeExposedProperties()}}const Uy="__NATIVE_FILE__",Vy="__NATIVE_URL__",Wy="__NATIVE_TEXT__",Gy="__NATIVE_HTML__",Tm=Object.freeze(Object.defineProperty({__proto__:null,FILE:Uy,HTML:Gy,TEXT:Wy,URL:Vy},Symbol.toStringTag,{value:"Module"}));function bu(t,r,s){const i=r.reduce((l,u)=>l||t.getData(u),"");return i??s}const Gu={[Uy]:{exposeProperties:{files:t=>Array.prototype.slice.call(t.files),items:t=>t.items,dataTransfer:t=>t},matchesTypes:["Files"]},[Gy]:{exposeProperties:{html:(t,r)=>bu(t,r,""),dataTransfer:t=>t},matchesTypes:["Html","text/html"]},[Vy]:{exposeProperties:{urls:(t,r)=>bu(t,r,"").split(`
-`),dataTransfer:t=>t},matchesTypes:["Url","text/uri-list"]},[Wy]:{exposeProperties:{text:(t,r)=>bu(t,r,""),dataTransfer:t=>t},matchesTypes:["Text","text/plain"]}};function U2(t,r){const s=Gu[t];if(!s)throw new Error(`native type ${t} has no configuration`);const i=new B2(s);return i.loadDataTransfer(r),i}function Su(t){if(!t)return null;const r=Array.prototype.slice.call(t.types||[]);return Object.keys(Gu).filter(s=>{const i=Gu[s];return i?.matchesTypes?i.matchesTypes.some(l=>r.indexOf(l)>-1):!1})[0]||null}const V2=By(()=>/firefox/i.test(navigator.userAgent)),Ky=By(()=>!!window.safari);class Pm{interpolate(r){const{xs:s,ys:i,c1s:l,c2s:u,c3s:f}=this;let p=s.length-1;if(r===s[p])return i[p];let g=0,y=f.length-1,x;for(;g<=y;){x=Math.floor(.5*(g+y));const C=s[x];if(C<r)g=x+1;else if(C>r)y=x-1;else return i[x]}p=Math.max(0,y);const v=r-s[p],N=v*v;return i[p]+l[p]*v+u[p]*N+f[p]*v*N}constructor(r,s){const{length:i}=r,l=[];for(let C=0;C<i;C++)l.push(C);l.sort((C,E)=>r[C]<r[E]?-1:1);const u=[],f=[];let p,g;for(let C=0;C<i-1;C++)p=r[C+1]-r[C],g=s[C+1]-s[C],u.push(p),f.push(g/p);const y=[f[0]];for(let C=0;C<u.length-1;C++){const E=f[C],S=f[C+1];if(E*S<=0)y.push(0);else{p=u[C];const b=u[C+1],j=p+b;y.push(3*j/((j+b)/E+(j+p)/S))}}y.push(f[f.length-1]);const x=[],v=[];let N;for(let C=0;C<y.length-1;C++){N=f[C];const E=y[C],S=1/u[C],b=E+y[C+1]-N-N;x.push((N-E-b)*S),v.push(b*S*S)}this.xs=r,this.ys=s,this.c1s=y,this.c2s=x,this.c3s=v}}const W2=1;function Yy(t){const r=t.nodeType===W2?t:t.parentElement;if(!r)return null;const{top:s,left:i}=r.getBoundingClientRect();return{x:i,y:s}}function ka(t){return{x:t.clientX,y:t.clientY}}function G2(t){var r;return t.nodeName==="IMG"&&(V2()||!(!((r=document.documentElement)===null||r===void 0)&&r.contains(t)))}function K2(t,r,s,i){let l=t?r.width:s,u=t?r.height:i;return Ky()&&t&&(u/=window.devicePixelRatio,l/=window.devicePixelRatio),{dragPreviewWidth:l,dragPreviewHeight:u}}function Y2(t,r,s,i,l){const u=G2(r),p=Yy(u?t:r),g={x:s.x-p.x,y:s.y-p.y},{offsetWidth:y,offsetHeight:x}=t,{anchorX:v,anchorY:N}=i,{dragPreviewWidth:C,dragPreviewHeight:E}=K2(u,r,y,x),S=()=>{let W=new Pm([0,.5,1],[g.y,g.y/x*E,g.y+E-x]).interpolate(N);return Ky()&&u&&(W+=(window.devicePixelRatio-1)*E),W},b=()=>new Pm([0,.5,1],[g.x,g.x/y*C,g.x+C-y]).interpolate(v),{offsetX:j,offsetY:k}=l,P=j===0||j,L=k===0||k;return{x:P?j:b(),y:L?k:S()}}class q2{get window(){if(this.globalContext)return this.globalContext;if(typeof window<"u")return window}get document(){var r;return!((r=this.globalContext)===null||r===void 0)&&r.document?this.globalContext.document:this.window?this.window.document:void 0}get rootElement(){var r;return((r=this.optionsArgs)===null||r===void 0?void 0:r.rootElement)||this.window}constructor(r,s){this.ownerDocument=null,this.globalContext=r,this.optionsArgs=s}}function X2(t,r,s){return r in t?Object.defineProperty(t,r,{value:s,enumerable:!0,configurable:!0,writable:!0}):t[r]=s,t}function Rm(t){for(var r=1;r<arguments.length;r++){var s=arguments[r]!=null?arguments[r]:{},i=Object.keys(s);typeof Object.getOwnPropertySymbols=="function"&&(i=i.concat(Object.getOwnPropertySymbols(s).filter(function(l){return Object.getOwnPropertyDescriptor(s,l).enumerable}))),i.forEach(function(l){X2(t,l,s[l])})}return t}class Q2{profile(){var r,s;return{sourcePreviewNodes:this.sourcePreviewNodes.size,sourcePreviewNodeOptions:this.sourcePreviewNodeOptions.size,sourceNodeOptions:this.sourceNodeOptions.size,sourceNodes:this.sourceNodes.size,dragStartSourceIds:((r=this.dragStartSourceIds)===null||r===void 0?void 0:r.length)||0,dropTargetIds:this.dropTargetIds.length,dragEnterTargetIds:this.dragEnterTargetIds.length,dragOverTargetIds:((s=this.dragOverTargetIds)===null||s===void 0?void 0:s.length)||0}}get window(){return this.options.window}get document(){return this.options.document}get rootElement(){return this.options.rootElement}setup(){const r=this.rootElement;if(r!==void 0){if(r.__isReactDndBackendSetUp)throw new Error("Cannot have two HTML5 backends at the same time.");r.__isReactDndBackendSetUp=!0,this.addEventListeners(r)}}teardown(){const r=this.rootElement;if(r!==void 0&&(r.__isReactDndBackendSetUp=!1,this.removeEventListeners(this.rootElement),this.clearCurrentDragSourceNode(),this.asyncEndDragFrameId)){var s;(s=this.window)===null||s===void 0||s.cancelAnimationFrame(this.asyncEndDragFrameId)}}connectDragPreview(r,s,i){return this.sourcePreviewNodeOptions.set(r,i),this.sourcePreviewNodes.set(r,s),()=>{this.sourcePreviewNodes.delete(r),this.sourcePreviewNodeOptions.delete(r)}}connectDragSource(r,s,i){this.sourceNodes.set(r,s),this.sourceNodeOptions.set(r,i);const l=f=>this.handleDragStart(f,r),u=f=>this.handleSelectStart(f);return s.setAttribute("draggable","true"),s.addEventListener("dragstart",l),s.addEventListener("selectstart",u),()=>{this.sourceNodes.delete(r),this.sourceNodeOptions.delete(r),s.removeEventListener("dragstart",l),s.removeEventListener("selectstart",u),s.setAttribute("draggable","false")}}connectDropTarget(r,s){const i=f=>this.handleDragEnter(f,r),l=f=>this.handleDragOver(f,r),u=f=>this.handleDrop(f,r);return s.addEventListener("dragenter",i),s.addEventListener("dragover",l),s.addEventListener("drop",u),()=>{s.removeEventListener("dragenter",i),s.removeEventListener("dragover",l),s.removeEventListener("drop",u)}}addEventListeners(r){r.addEventListener&&(r.addEventListener("dragstart",this.handleTopDragStart),r.addEventListener("dragstart",this.handleTopDragStartCapture,!0),r.addEventListener("dragend",this.handleTopDragEndCapture,!0),r.addEventListener("dragenter",this.handleTopDragEnter),r.addEventListener("dragenter",this.handleTopDragEnterCapture,!0),r.addEventListener("dragleave",this.handleTopDragLeaveCapture,!0),r.addEventListener("dragover",this.handleTopDragOver),r.addEventListener("dragover",this.handleTopDragOverCapture,!0),r.addEventListener("drop",this.handleTopDrop),r.addEventListener("drop",this.handleTopDropCapture,!0))}removeEventListeners(r){r.removeEventListener&&(r.removeEventListener("dragstart",this.handleTopDragStart),r.removeEventListener("dragstart",this.handleTopDragStartCapture,!0),r.removeEventListener("dragend",this.handleTopDragEndCapture,!0),r.removeEventListener("dragenter",this.handleTopDragEnter),r.removeEventListener("dragenter",this.handleTopDragEnterCapture,!0),r.removeEventListener("dragleave",this.handleTopDragLeaveCapture,!0),r.removeEventListener("dragover",this.handleTopDragOver),r.removeEventListener("dragover",this.handleTopDragOverCapture,!0),r.removeEventListener("drop",this.handleTopDrop),r.removeEventListener("drop",this.handleTopDropCapture,!0))}getCurrentSourceNodeOptions(){const r=this.monitor.getSourceId(),s=this.sourceNodeOptions.get(r);return Rm({dropEffect:this.altKeyPressed?"copy":"move"},s||{})}getCurrentDropEffect(){return this.isDraggingNativeItem()?"copy":this.getCurrentSourceNodeOptions().dropEffect}getCurrentSourcePreviewNodeOptions(){const r=this.monitor.getSourceId(),s=this.sourcePreviewNodeOptions.get(r);return Rm({anchorX:.5,anchorY:.5,captureDraggingState:!1},s||{})}isDraggingNativeItem(){const r=this.monitor.getItemType();return Object.keys(Tm).some(s=>Tm[s]===r)}beginDragNativeItem(r,s){this.clearCurrentDragSourceNode(),this.currentNativeSource=U2(r,s),this.currentNativeHandle=this.registry.addSource(r,this.currentNativeSource),this.actions.beginDrag([this.currentNativeHandle])}setCurrentDragSourceNode(r){this.clearCurrentDragSourceNode(),this.currentDragSourceNode=r;const s=1e3;this.mouseMoveTimeoutTimer=setTimeout(()=>{var i;return(i=this.rootElement)===null||i===void 0?void 0:i.addEventListener("mousemove",this.endDragIfSourceWasRemovedFromDOM,!0)},s)}clearCurrentDragSourceNode(){if(this.currentDragSourceNode){if(this.currentDragSourceNode=null,this.rootElement){var r;(r=this.window)===null||r===void 0||r.clearTimeout(this.mouseMoveTimeoutTimer||void 0),this.rootElement.removeEventListener("mousemove",this.endDragIfSourceWasRemovedFromDOM,!0)}return this.mouseMoveTimeoutTimer=null,!0}return!1}handleDragStart(r,s){r.defaultPrevented||(this.dragStartSourceIds||(this.dragStartSourceIds=[]),this.dragStartSourceIds.unshift(s))}handleDragEnter(r,s){this.dragEnterTargetIds.unshift(s)}handleDragOver(r,s){this.dragOverTargetIds===null&&(this.dragOverTargetIds=[]),this.dragOverTargetIds.unshift(s)}handleDrop(r,s){this.dropTargetIds.unshift(s)}constructor(r,s,i){this.sourcePreviewNodes=new Map,this.sourcePreviewNodeOptions=new Map,this.sourceNodes=new Map,this.sourceNodeOptions=new Map,this.dragStartSourceIds=null,this.dropTargetIds=[],this.dragEnterTargetIds=[],this.currentNativeSource=null,this.currentNativeHandle=null,this.currentDragSourceNode=null,this.altKeyPressed=!1,this.mouseMoveTimeoutTimer=null,this.asyncEndDragFrameId=null,this.dragOverTargetIds=null,this.lastClientOffset=null,this.hoverRafId=null,this.getSourceClientOffset=l=>{const u=this.sourceNodes.get(l);return u&&Yy(u)||null},this.endDragNativeItem=()=>{this.isDraggingNativeItem()&&(this.actions.endDrag(),this.currentNativeHandle&&this.registry.removeSource(this.currentNativeHandle),this.currentNativeHandle=null,this.currentNativeSource=null)},this.isNodeInDocument=l=>!!(l&&this.document&&this.document.body&&this.document.body.contains(l)),this.endDragIfSourceWasRemovedFromDOM=()=>{const l=this.currentDragSourceNode;l==null||this.isNodeInDocument(l)||(this.clearCurrentDragSourceNode()&&this.monitor.isDragging()&&this.actions.endDrag(),this.cancelHover())},this.scheduleHover=l=>{this.hoverRafId===null&&typeof requestAnimationFrame<"u"&&(this.hoverRafId=requestAnimationFrame(()=>{this.monitor.isDragging()&&this.actions.hover(l||[],{clientOffset:this.lastClientOffset}),this.hoverRafId=null}))},this.cancelHover=()=>{this.hoverRafId!==null&&typeof cancelAnimationFrame<"u"&&(cancelAnimationFrame(this.hoverRafId),this.hoverRafId=null)},this.handleTopDragStartCapture=()=>{this.clearCurrentDragSourceNode(),this.dragStartSourceIds=[]},this.handleTopDragStart=l=>{if(l.defaultPrevented)return;const{dragStartSourceIds:u}=this;this.dragStartSourceIds=null;const f=ka(l);this.monitor.isDragging()&&(this.actions.endDrag(),this.cancelHover()),this.actions.beginDrag(u||[],{publishSource:!1,getSourceClientOffset:this.getSourceClientOffset,clientOffset:f});const{dataTransfer:p}=l,g=Su(p);if(this.monitor.isDragging()){if(p&&typeof p.setDragImage=="function"){const x=this.monitor.getSourceId(),v=this.sourceNodes.get(x),N=this.sourcePreviewNodes.get(x)||v;if(N){const{anchorX:C,anchorY:E,offsetX:S,offsetY:b}=this.getCurrentSourcePreviewNodeOptions(),P=Y2(v,N,f,{anchorX:C,anchorY:E},{offsetX:S,offsetY:b});p.setDragImage(N,P.x,P.y)}}try{p?.setData("application/json",{})}catch{}this.setCurrentDragSourceNode(l.target);const{captureDraggingState:y}=this.getCurrentSourcePreviewNodeOptions();y?this.actions.publishDragSource():setTimeout(()=>this.actions.publishDragSource(),0)}else if(g)this.beginDragNativeItem(g);else{if(p&&!p.types&&(l.target&&!l.target.hasAttribute||!l.target.hasAttribute("draggable")))return;l.preventDefault()}},this.handleTopDragEndCapture=()=>{this.clearCurrentDragSourceNode()&&this.monitor.isDragging()&&this.actions.endDrag(),this.cancelHover()},this.handleTopDragEnterCapture=l=>{if(this.dragEnterTargetIds=[],this.isDraggingNativeItem()){var u;(u=this.currentNativeSource)===null||u===void 0||u.loadDataTransfer(l.dataTransfer)}if(!this.enterLeaveCounter.enter(l.target)||this.monitor.isDragging())return;const{dataTransfer:p}=l,g=Su(p);g&&this.beginDragNativeItem(g,p)},this.handleTopDragEnter=l=>{const{dragEnterTargetIds:u}=this;if(this.dragEnterTargetIds=[],!this.monitor.isDragging())return;this.altKeyPressed=l.altKey,u.length>0&&this.actions.hover(u,{clientOffset:ka(l)}),u.some(p=>this.monitor.canDropOnTarget(p))&&(l.preventDefault(),l.dataTransfer&&(l.dataTransfer.dropEffect=this.getCurrentDropEffect()))},this.handleTopDragOverCapture=l=>{if(this.dragOverTargetIds=[],this.isDraggingNativeItem()){var u;(u=this.currentNativeSource)===null||u===void 0||u.loadDataTransfer(l.dataTransfer)}},this.handleTopDragOver=l=>{const{dragOverTargetIds:u}=this;if(this.dragOverTargetIds=[],!this.monitor.isDragging()){l.preventDefault(),l.dataTransfer&&(l.dataTransfer.dropEffect="none");return}this.altKeyPressed=l.altKey,this.lastClientOffset=ka(l),this.scheduleHover(u),(u||[]).some(p=>this.monitor.canDropOnTarget(p))?(l.preventDefault(),l.dataTransfer&&(l.dataTransfer.dropEffect=this.getCurrentDropEffect())):this.isDraggingNativeItem()?l.preventDefault():(l.preventDefault(),l.dataTransfer&&(l.dataTransfer.dropEffect="none"))},this.handleTopDragLeaveCapture=l=>{this.isDraggingNativeItem()&&l.preventDefault(),this.enterLeaveCounter.leave(l.target)&&(this.isDraggingNativeItem()&&setTimeout(()=>this.endDragNativeItem(),0),this.cancelHover())},this.handleTopDropCapture=l=>{if(this.dropTargetIds=[],this.isDraggingNativeItem()){var u;l.preventDefault(),(u=this.currentNativeSource)===null||u===void 0||u.loadDataTransfer(l.dataTransfer)}else Su(l.dataTransfer)&&l.preventDefault();this.enterLeaveCounter.reset()},this.handleTopDrop=l=>{const{dropTargetIds:u}=this;this.dropTargetIds=[],this.actions.hover(u,{clientOffset:ka(l)}),this.actions.drop({dropEffect:this.getCurrentDropEffect()}),this.isDraggingNativeItem()?this.endDragNativeItem():this.monitor.isDragging()&&this.actions.endDrag(),this.cancelHover()},this.handleSelectStart=l=>{const u=l.target;typeof u.dragDrop=="function"&&(u.tagName==="INPUT"||u.tagName==="SELECT"||u.tagName==="TEXTAREA"||u.isContentEditable||(l.preventDefault(),u.dragDrop()))},this.options=new q2(s,i),this.actions=r.getActions(),this.monitor=r.getMonitor(),this.registry=r.getRegistry(),this.enterLeaveCounter=new H2(this.isNodeInDocument)}}const J2=function(r,s,i){return new Q2(r,s,i)};var fl="Collapsible",[Z2]=ir(fl),[eT,Fd]=Z2(fl),qy=m.forwardRef((t,r)=>{const{__scopeCollapsible:s,open:i,defaultOpen:l,disabled:u,onOpenChange:f,...p}=t,[g,y]=Ar({prop:i,defaultProp:l??!1,onChange:f,caller:fl});return a.jsx(eT,{scope:s,disabled:u,contentId:tr(),open:g,onOpenToggle:m.useCallback(()=>y(x=>!x),[y]),children:a.jsx(Ie.div,{"data-state":Hd(g),"data-disabled":u?"":void 0,...p,ref:r})})});qy.displayName=fl;var Xy="CollapsibleTrigger",Qy=m.forwardRef((t,r)=>{const{__scopeCollapsible:s,...i}=t,l=Fd(Xy,s);return a.jsx(Ie.button,{type:"button","aria-controls":l.contentId,"aria-expanded":l.open||!1,"data-state":Hd(l.open),"data-disabled":l.disabled?"":void 0,disabled:l.disabled,...i,ref:r,onClick:Le(t.onClick,l.onOpenToggle)})});Qy.displayName=Xy;var $d="CollapsibleContent",Jy=m.forwardRef((t,r)=>{const{forceMount:s,...i}=t,l=Fd($d,t.__scopeCollapsible);return a.jsx(cs,{present:s||l.open,children:({present:u})=>a.jsx(tT,{...i,ref:r,present:u})})});Jy.displayName=$d;var tT=m.forwardRef((t,r)=>{const{__scopeCollapsible:s,present:i,children:l,...u}=t,f=Fd($d,s),[p,g]=m.useState(i),y=m.useRef(null),x=Ge(r,y),v=m.useRef(0),N=v.current,C=m.useRef(0),E=C.current,S=f.open||p,b=m.useRef(S),j=m.useRef(void 0);return m.useEffect(()=>{const k=requestAnimationFrame(()=>b.current=!1);return()=>cancelAnimationFrame(k)},[]),St(()=>{const k=y.current;if(k){j.current=j.current||{transitionDuration:k.style.transitionDuration,animationName:k.style.animationName},k.style.transitionDuration="0s",k.style.animationName="none";const P=k.getBoundingClientRect();v.current=P.height,C.current=P.width,b.current||(k.style.transitionDuration=j.current.transitionDuration,k.style.animationName=j.current.animationName),g(i)}},[f.open,i]),a.jsx(Ie.div,{"data-state":Hd(f.open),"data-disabled":f.disabled?"":void 0,id:f.contentId,hidden:!S,...u,ref:x,style:{"--radix-collapsible-content-height":N?`${N}px`:void 0,"--radix-collapsible-content-width":E?`${E}px`:void 0,...t.style},children:S&&l})});function Hd(t){return t?"open":"closed"}var nT=qy;function Zy({...t}){return a.jsx(nT,{"data-slot":"collapsible",...t})}function ex({...t}){return a.jsx(Qy,{"data-slot":"collapsible-trigger",...t})}function tx({...t}){return a.jsx(Jy,{"data-slot":"collapsible-content",...t})}function rT(t){if(typeof document>"u")return;let r=document.head||document.getElementsByTagName("head")[0],s=document.createElement("style");s.type="text/css",r.appendChild(s),s.styleSheet?s.styleSheet.cssText=t:s.appendChild(document.createTextNode(t))}const sT=t=>{switch(t){case"success":return aT;case"info":return cT;case"warning":return lT;case"error":return uT;default:return null}},oT=Array(12).fill(0),iT=({visible:t,className:r})=>te.createElement("div",{className:["sonner-loading-wrapper",r].filter(Boolean).join(" "),"data-visible":t},te.createElement("div",{className:"sonner-spinner"},oT.map((s,i)=>te.createElement("div",{className:"sonner-loading-bar",key:`spinner-bar-${i}`})))),aT=te.createElement("svg",{xmlns:"http://www.w3.org/2000/svg",viewBox:"0 0 20 20",fill:"currentColor",height:"20",width:"20"},te.createElement("path",{fillRule:"evenodd",d:"M10 18a8 8 0 100-16 8 8 0 000 16zm3.857-9.809a.75.75 0 00-1.214-.882l-3.483 4.79-1.88-1.88a.75.75 0 10-1.06 1.061l2.5 2.5a.75.75 0 001.137-.089l4-5.5z",clipRule:"evenodd"})),lT=te.createElement("svg",{xmlns:"http://www.w3.org/2000/svg",viewBox:"0 0 24 24",fill:"currentColor",height:"20",width:"20"},te.createElement("path",{fillRule:"evenodd",d:"M9.401 3.003c1.155-2 4.043-2 5.197 0l7.355 12.748c1.154 2-.29 4.5-2.599 4.5H4.645c-2.309 0-3.752-2.5-2.598-4.5L9.4 3.003zM12 8.25a.75.75 0 01.75.75v3.75a.75.75 0 01-1.5 0V9a.75.75 0 01.75-.75zm0 8.25a.75.75 0 100-1.5.75.75 0 000 1.5z",clipRule:"evenodd"})),cT=te.createElement("svg",{xmlns:"http://www.w3.org/2000/svg",viewBox:"0 0 20 20",fill:"currentColor",height:"20",width:"20"},te.createElement("path",{fillRule:"evenodd",d:"M18 10a8 8 0 11-16 0 8 8 0 0116 0zm-7-4a1 1 0 11-2 0 1 1 0 012 0zM9 9a.75.75 0 000 1.5h.253a.25.25 0 01.244.304l-.459 2.066A1.75 1.75 0 0010.747 15H11a.75.75 0 000-1.5h-.253a.25.25 0 01-.244-.304l.459-2.066A1.75 1.75 0 009.253 9H9z",clipRule:"evenodd"})),uT=te.createElement("svg",{xmlns:"http://www.w3.org/2000/svg",viewBox:"0 0 20 20",fill:"currentColor",height:"20",width:"20"},te.createElement("path",{fillRule:"evenodd",d:"M18 10a8 8 0 11-16 0 8 8 0 0116 0zm-8-5a.75.75 0 01.75.75v4.5a.75.75 0 01-1.5 0v-4.5A.75.75 0 0110 5zm0 10a1 1 0 100-2 1 1 0 000 2z",clipRule:"evenodd"})),dT=te.createElement("svg",{xmlns:"http://www.w3.org/2000/svg",width:"12",height:"12",viewBox:"0 0 24 24",fill:"none",stroke:"currentColor",strokeWidth:"1.5",strokeLinecap:"round",strokeLinejoin:"round"},te.createElement("line",{x1:"18",y1:"6",x2:"6",y2:"18"}),te.createElement("line",{x1:"6",y1:"6",x2:"18",y2:"18"})),fT=()=>{const[t,r]=te.useState(document.hidden);return te.useEffect(()=>{const s=()=>{r(document.hidden)};return document.addEventListener("visibilitychange",s),()=>window.removeEventListener("visibilitychange",s)},[]),t};let Ku=1;class pT{constructor(){this.subscribe=r=>(this.subscribers.push(r),()=>{const s=this.subscribers.indexOf(r);this.subscribers.splice(s,1)}),this.publish=r=>{this.subscribers.forEach(s=>s(r))},this.addToast=r=>{this.publish(r),this.toasts=[...this.toasts,r]},this.create=r=>{var s;const{message:i,...l}=r,u=typeof r?.id=="number"||((s=r.id)==null?void 0:s.length)>0?r.id:Ku++,f=this.toasts.find(g=>g.id===u),p=r.dismissible===void 0?!0:r.dismissible;return this.dismissedToasts.has(u)&&this.dismissedToasts.delete(u),f?this.toasts=this.toasts.map(g=>g.id===u?(this.publish({...g,...r,id:u,title:i}),{...g,...r,id:u,dismissible:p,title:i}):g):this.addToast({title:i,...l,dismissible:p,id:u}),u},this.dismiss=r=>(r?(this.dismissedToasts.add(r),requestAnimationFrame(()=>this.subscribers.forEach(s=>s({id:r,dismiss:!0})))):this.toasts.forEach(s=>{this.subscribers.forEach(i=>i({id:s.id,dismiss:!0}))}),r),this.message=(r,s)=>this.create({...s,message:r}),this.error=(r,s)=>this.create({...s,message:r,type:"error"}),this.success=(r,s)=>this.create({...s,type:"success",message:r}),this.info=(r,s)=>this.create({...s,type:"info",message:r}),this.warning=(r,s)=>this.create({...s,type:"warning",message:r}),this.loading=(r,s)=>this.create({...s,type:"loading",message:r}),this.promise=(r,s)=>{if(!s)return;let i;s.loading!==void 0&&(i=this.create({...s,promise:r,type:"loading",message:s.loading,description:typeof s.description!="function"?s.description:void 0}));const l=Promise.resolve(r instanceof Function?r():r);let u=i!==void 0,f;const p=l.then(async y=>{if(f=["resolve",y],te.isValidElement(y))u=!1,this.create({id:i,type:"default",message:y});else if(mT(y)&&!y.ok){u=!1;const v=typeof s.error=="function"?await s.error(`HTTP error! status: ${y.status}`):s.error,N=typeof s.description=="function"?await s.description(`HTTP error! status: ${y.status}`):s.description,E=typeof v=="object"&&!te.isValidElement(v)?v:{message:v};this.create({id:i,type:"error",description:N,...E})}else if(y instanceof Error){u=!1;const v=typeof s.error=="function"?await s.error(y):s.error,N=typeof s.description=="function"?await s.description(y):s.description,E=typeof v=="object"&&!te.isValidElement(v)?v:{message:v};this.create({id:i,type:"error",description:N,...E})}else if(s.success!==void 0){u=!1;const v=typeof s.success=="function"?await s.success(y):s.success,N=typeof s.description=="function"?await s.description(y):s.description,E=typeof v=="object"&&!te.isValidElement(v)?v:{message:v};this.create({id:i,type:"success",description:N,...E})}}).catch(async y=>{if(f=["reject",y],s.error!==void 0){u=!1;const x=typeof s.error=="function"?await s.error(y):s.error,v=typeof s.description=="function"?await s.description(y):s.description,C=typeof x=="object"&&!te.isValidElement(x)?x:{message:x};this.create({id:i,type:"error",description:v,...C})}}).finally(()=>{u&&(this.dismiss(i),i=void 0),s.finally==null||s.finally.call(s)}),g=()=>new Promise((y,x)=>p.then(()=>f[0]==="reject"?x(f[1]):y(f[1])).catch(x));return typeof i!="string"&&typeof i!="number"?{unwrap:g}:Object.assign(i,{unwrap:g})},this.custom=(r,s)=>{const i=s?.id||Ku++;return this.create({jsx:r(i),id:i,...s}),i},this.getActiveToasts=()=>this.toasts.filter(r=>!this.dismissedToasts.has(r.id)),this.subscribers=[],this.toasts=[],this.dismissedToasts=new Set}}const $t=new pT,hT=(t,r)=>{const s=r?.id||Ku++;return $t.addToast({title:t,...r,id:s}),s},mT=t=>t&&typeof t=="object"&&"ok"in t&&typeof t.ok=="boolean"&&"status"in t&&typeof t.status=="number",gT=hT,vT=()=>$t.toasts,yT=()=>$t.getActiveToasts(),mn=Object.assign(gT,{success:$t.success,info:$t.info,warning:$t.warning,error:$t.error,custom:$t.custom,message:$t.message,promise:$t.promise,dismiss:$t.dismiss,loading:$t.loading},{getHistory:vT,getToasts:yT});rT("[data-sonner-toaster][dir=ltr],html[dir=ltr]{--toast-icon-margin-start:-3px;--toast-icon-margin-end:4px;--toast-svg-margin-start:-1px;--toast-svg-margin-end:0px;--toast-button-margin-start:auto;--toast-button-margin-end:0;--toast-close-button-start:0;--toast-close-button-end:unset;--toast-close-button-transform:translate(-35%, -35%)}[data-sonner-toaster][dir=rtl],html[dir=rtl]{--toast-icon-margin-start:4px;--toast-icon-margin-end:-3px;--toast-svg-margin-start:0px;--toast-svg-margin-end:-1px;--toast-button-margin-start:0;--toast-button-margin-end:auto;--toast-close-button-start:unset;--toast-close-button-end:0;--toast-close-button-transform:translate(35%, -35%)}[data-sonner-toaster]{position:fixed;width:var(--width);font-family:ui-sans-serif,system-ui,-apple-system,BlinkMacSystemFont,Segoe UI,Roboto,Helvetica Neue,Arial,Noto Sans,sans-serif,Apple Color Emoji,Segoe UI Emoji,Segoe UI Symbol,Noto Color Emoji;--gray1:hsl(0, 0%, 99%);--gray2:hsl(0, 0%, 97.3%);--gray3:hsl(0, 0%, 95.1%);--gray4:hsl(0, 0%, 93%);--gray5:hsl(0, 0%, 90.9%);--gray6:hsl(0, 0%, 88.7%);--gray7:hsl(0, 0%, 85.8%);--gray8:hsl(0, 0%, 78%);--gray9:hsl(0, 0%, 56.1%);--gray10:hsl(0, 0%, 52.3%);--gray11:hsl(0, 0%, 43.5%);--gray12:hsl(0, 0%, 9%);--border-radius:8px;box-sizing:border-box;padding:0;margin:0;list-style:none;outline:0;z-index:999999999;transition:transform .4s ease}@media (hover:none) and (pointer:coarse){[data-sonner-toaster][data-lifted=true]{transform:none}}[data-sonner-toaster][data-x-position=right]{right:var(--offset-right)}[data-sonner-toaster][data-x-position=left]{left:var(--offset-left)}[data-sonner-toaster][data-x-position=center]{left:50%;transform:translateX(-50%)}[data-sonner-toaster][data-y-position=top]{top:var(--offset-top)}[data-sonner-toaster][data-y-position=bottom]{bottom:var(--offset-bottom)}[data-sonner-toast]{--y:translateY(100%);--lift-amount:calc(var(--lift) * var(--gap));z-index:var(--z-index);position:absolute;opacity:0;transform:var(--y);touch-action:none;transition:transform .4s,opacity .4s,height .4s,box-shadow .2s;box-sizing:border-box;outline:0;overflow-wrap:anywhere}[data-sonner-toast][data-styled=true]{padding:16px;background:var(--normal-bg);border:1px solid var(--normal-border);color:var(--normal-text);border-radius:var(--border-radius);box-shadow:0 4px 12px rgba(0,0,0,.1);width:var(--width);font-size:13px;display:flex;align-items:center;gap:6px}[data-sonner-toast]:focus-visible{box-shadow:0 4px 12px rgba(0,0,0,.1),0 0 0 2px rgba(0,0,0,.2)}[data-sonner-toast][data-y-position=top]{top:0;--y:translateY(-100%);--lift:1;--lift-amount:calc(1 * var(--gap))}[data-sonner-toast][data-y-position=bottom]{bottom:0;--y:translateY(100%);--lift:-1;--lift-amount:calc(var(--lift) * var(--gap))}[data-sonner-toast][data-styled=true] [data-description]{font-weight:400;line-height:1.4;color:#3f3f3f}[data-rich-colors=true][data-sonner-toast][data-styled=true] [data-description]{color:inherit}[data-sonner-toaster][data-sonner-theme=dark] [data-description]{color:#e8e8e8}[data-sonner-toast][data-styled=true] [data-title]{font-weight:500;line-height:1.5;color:inherit}[data-sonner-toast][data-styled=true] [data-icon]{display:flex;height:16px;width:16px;position:relative;justify-content:flex-start;align-items:center;flex-shrink:0;margin-left:var(--toast-icon-margin-start);margin-right:var(--toast-icon-margin-end)}[data-sonner-toast][data-promise=true] [data-icon]>svg{opacity:0;transform:scale(.8);transform-origin:center;animation:sonner-fade-in .3s ease forwards}[data-sonner-toast][data-styled=true] [data-icon]>*{flex-shrink:0}[data-sonner-toast][data-styled=true] [data-icon] svg{margin-left:var(--toast-svg-margin-start);margin-right:var(--toast-svg-margin-end)}[data-sonner-toast][data-styled=true] [data-content]{display:flex;flex-direction:column;gap:2px}[data-sonner-toast][data-styled=true] [data-button]{border-radius:4px;padding-left:8px;padding-right:8px;height:24px;font-size:12px;color:var(--normal-bg);background:var(--normal-text);margin-left:var(--toast-button-margin-start);margin-right:var(--toast-button-margin-end);border:none;font-weight:500;cursor:pointer;outline:0;display:flex;align-items:center;flex-shrink:0;transition:opacity .4s,box-shadow .2s}[data-sonner-toast][data-styled=true] [data-button]:focus-visible{box-shadow:0 0 0 2px rgba(0,0,0,.4)}[data-sonner-toast][data-styled=true] [data-button]:first-of-type{margin-left:var(--toast-button-margin-start);margin-right:var(--toast-button-margin-end)}[data-sonner-toast][data-styled=true] [data-cancel]{color:var(--normal-text);background:rgba(0,0,0,.08)}[data-sonner-toaster][data-sonner-theme=dark] [data-sonner-toast][data-styled=true] [data-cancel]{background:rgba(255,255,255,.3)}[data-sonner-toast][data-styled=true] [data-close-button]{position:absolute;left:var(--toast-close-button-start);right:var(--toast-close-button-end);top:0;height:20px;width:20px;display:flex;justify-content:center;align-items:center;padding:0;color:var(--gray12);background:var(--normal-bg);border:1px solid var(--gray4);transform:var(--toast-close-button-transform);border-radius:50%;cursor:pointer;z-index:1;transition:opacity .1s,background .2s,border-color .2s}[data-sonner-toast][data-styled=true] [data-close-button]:focus-visible{box-shadow:0 4px 12px rgba(0,0,0,.1),0 0 0 2px rgba(0,0,0,.2)}[data-sonner-toast][data-styled=true] [data-disabled=true]{cursor:not-allowed}[data-sonner-toast][data-styled=true]:hover [data-close-button]:hover{background:var(--gray2);border-color:var(--gray5)}[data-sonner-toast][data-swiping=true]::before{content:'';position:absolute;left:-100%;right:-100%;height:100%;z-index:-1}[data-sonner-toast][data-y-position=top][data-swiping=true]::before{bottom:50%;transform:scaleY(3) translateY(50%)}[data-sonner-toast][data-y-position=bottom][data-swiping=true]::before{top:50%;transform:scaleY(3) translateY(-50%)}[data-sonner-toast][data-swiping=false][data-removed=true]::before{content:'';position:absolute;inset:0;transform:scaleY(2)}[data-sonner-toast][data-expanded=true]::after{content:'';position:absolute;left:0;height:calc(var(--gap) + 1px);bottom:100%;width:100%}[data-sonner-toast][data-mounted=true]{--y:translateY(0);opacity:1}[data-sonner-toast][data-expanded=false][data-front=false]{--scale:var(--toasts-before) * 0.05 + 1;--y:translateY(calc(var(--lift-amount) * var(--toasts-before))) scale(calc(-1 * var(--scale)));height:var(--front-toast-height)}[data-sonner-toast]>*{transition:opacity .4s}[data-sonner-toast][data-x-position=right]{right:0}[data-sonner-toast][data-x-position=left]{left:0}[data-sonner-toast][data-expanded=false][data-front=false][data-styled=true]>*{opacity:0}[data-sonner-toast][data-visible=false]{opacity:0;pointer-events:none}[data-sonner-toast][data-mounted=true][data-expanded=true]{--y:translateY(calc(var(--lift) * var(--offset)));height:var(--initial-height)}[data-sonner-toast][data-removed=true][data-front=true][data-swipe-out=false]{--y:translateY(calc(var(--lift) * -100%));opacity:0}[data-sonner-toast][data-removed=true][data-front=false][data-swipe-out=false][data-expanded=true]{--y:translateY(calc(var(--lift) * var(--offset) + var(--lift) * -100%));opacity:0}[data-sonner-toast][data-removed=true][data-front=false][data-swipe-out=false][data-expanded=false]{--y:translateY(40%);opacity:0;transition:transform .5s,opacity .2s}[data-sonner-toast][data-removed=true][data-front=false]::before{height:calc(var(--initial-height) + 20%)}[data-sonner-toast][data-swiping=true]{transform:var(--y) translateY(var(--swipe-amount-y,0)) translateX(var(--swipe-amount-x,0));transition:none}[data-sonner-toast][data-swiped=true]{user-select:none}[data-sonner-toast][data-swipe-out=true][data-y-position=bottom],[data-sonner-toast][data-swipe-out=true][data-y-position=top]{animation-duration:.2s;animation-timing-function:ease-out;animation-fill-mode:forwards}[data-sonner-toast][data-swipe-out=true][data-swipe-direction=left]{animation-name:swipe-out-left}[data-sonner-toast][data-swipe-out=true][data-swipe-direction=right]{animation-name:swipe-out-right}[data-sonner-toast][data-swipe-out=true][data-swipe-direction=up]{animation-name:swipe-out-up}[data-sonner-toast][data-swipe-out=true][data-swipe-direction=down]{animation-name:swipe-out-down}@keyframes swipe-out-left{from{transform:var(--y) translateX(var(--swipe-amount-x));opacity:1}to{transform:var(--y) translateX(calc(var(--swipe-amount-x) - 100%));opacity:0}}@keyframes swipe-out-right{from{transform:var(--y) translateX(var(--swipe-amount-x));opacity:1}to{transform:var(--y) translateX(calc(var(--swipe-amount-x) + 100%));opacity:0}}@keyframes swipe-out-up{from{transform:var(--y) translateY(var(--swipe-amount-y));opacity:1}to{transform:var(--y) translateY(calc(var(--swipe-amount-y) - 100%));opacity:0}}@keyframes swipe-out-down{from{transform:var(--y) translateY(var(--swipe-amount-y));opacity:1}to{transform:var(--y) translateY(calc(var(--swipe-amount-y) + 100%));opacity:0}}@media (max-width:600px){[data-sonner-toaster]{position:fixed;right:var(--mobile-offset-right);left:var(--mobile-offset-left);width:100%}[data-sonner-toaster][dir=rtl]{left:calc(var(--mobile-offset-left) * -1)}[data-sonner-toaster] [data-sonner-toast]{left:0;right:0;width:calc(100% - var(--mobile-offset-left) * 2)}[data-sonner-toaster][data-x-position=left]{left:var(--mobile-offset-left)}[data-sonner-toaster][data-y-position=bottom]{bottom:var(--mobile-offset-bottom)}[data-sonner-toaster][data-y-position=top]{top:var(--mobile-offset-top)}[data-sonner-toaster][data-x-position=center]{left:var(--mobile-offset-left);right:var(--mobile-offset-right);transform:none}}[data-sonner-toaster][data-sonner-theme=light]{--normal-bg:#fff;--normal-border:var(--gray4);--normal-text:var(--gray12);--success-bg:hsl(143, 85%, 96%);--success-border:hsl(145, 92%, 87%);--success-text:hsl(140, 100%, 27%);--info-bg:hsl(208, 100%, 97%);--info-border:hsl(221, 91%, 93%);--info-text:hsl(210, 92%, 45%);--warning-bg:hsl(49, 100%, 97%);--warning-border:hsl(49, 91%, 84%);--warning-text:hsl(31, 92%, 45%);--error-bg:hsl(359, 100%, 97%);--error-border:hsl(359, 100%, 94%);--error-text:hsl(360, 100%, 45%)}[data-sonner-toaster][data-sonner-theme=light] [data-sonner-toast][data-invert=true]{--normal-bg:#000;--normal-border:hsl(0, 0%, 20%);--normal-text:var(--gray1)}[data-sonner-toaster][data-sonner-theme=dark] [data-sonner-toast][data-invert=true]{--normal-bg:#fff;--normal-border:var(--gray3);--normal-text:var(--gray12)}[data-sonner-toaster][data-sonner-theme=dark]{--normal-bg:#000;--normal-bg-hover:hsl(0, 0%, 12%);--normal-border:hsl(0, 0%, 20%);--normal-border-hover:hsl(0, 0%, 25%);--normal-text:var(--gray1);--success-bg:hsl(150, 100%, 6%);--success-border:hsl(147, 100%, 12%);--success-text:hsl(150, 86%, 65%);--info-bg:hsl(215, 100%, 6%);--info-border:hsl(223, 43%, 17%);--info-text:hsl(216, 87%, 65%);--warning-bg:hsl(64, 100%, 6%);--warning-border:hsl(60, 100%, 9%);--warning-text:hsl(46, 87%, 65%);--error-bg:hsl(358, 76%, 10%);--error-border:hsl(357, 89%, 16%);--error-text:hsl(358, 100%, 81%)}[data-sonner-toaster][data-sonner-theme=dark] [data-sonner-toast] [data-close-button]{background:var(--normal-bg);border-color:var(--normal-border);color:var(--normal-text)}[data-sonner-toaster][data-sonner-theme=dark] [data-sonner-toast] [data-close-button]:hover{background:var(--normal-bg-hover);border-color:var(--normal-border-hover)}[data-rich-colors=true][data-sonner-toast][data-type=success]{background:var(--success-bg);border-color:var(--success-border);color:var(--success-text)}[data-rich-colors=true][data-sonner-toast][data-type=success] [data-close-button]{background:var(--success-bg);border-color:var(--success-border);color:var(--success-text)}[data-rich-colors=true][data-sonner-toast][data-type=info]{background:var(--info-bg);border-color:var(--info-border);color:var(--info-text)}[data-rich-colors=true][data-sonner-toast][data-type=info] [data-close-button]{background:var(--info-bg);border-color:var(--info-border);color:var(--info-text)}[data-rich-colors=true][data-sonner-toast][data-type=warning]{background:var(--warning-bg);border-color:var(--warning-border);color:var(--warning-text)}[data-rich-colors=true][data-sonner-toast][data-type=warning] [data-close-button]{background:var(--warning-bg);border-color:var(--warning-border);color:var(--warning-text)}[data-rich-colors=true][data-sonner-toast][data-type=error]{background:var(--error-bg);border-color:var(--error-border);color:var(--error-text)}[data-rich-colors=true][data-sonner-toast][data-type=error] [data-close-button]{background:var(--error-bg);border-color:var(--error-border);color:var(--error-text)}.sonner-loading-wrapper{--size:16px;height:var(--size);width:var(--size);position:absolute;inset:0;z-index:10}.sonner-loading-wrapper[data-visible=false]{transform-origin:center;animation:sonner-fade-out .2s ease forwards}.sonner-spinner{position:relative;top:50%;left:50%;height:var(--size);width:var(--size)}.sonner-loading-bar{animation:sonner-spin 1.2s linear infinite;background:var(--gray11);border-radius:6px;height:8%;left:-10%;position:absolute;top:-3.9%;width:24%}.sonner-loading-bar:first-child{animation-delay:-1.2s;transform:rotate(.0001deg) translate(146%)}.sonner-loading-bar:nth-child(2){animation-delay:-1.1s;transform:rotate(30deg) translate(146%)}.sonner-loading-bar:nth-child(3){animation-delay:-1s;transform:rotate(60deg) translate(146%)}.sonner-loading-bar:nth-child(4){animation-delay:-.9s;transform:rotate(90deg) translate(146%)}.sonner-loading-bar:nth-child(5){animation-delay:-.8s;transform:rotate(120deg) translate(146%)}.sonner-loading-bar:nth-child(6){animation-delay:-.7s;transform:rotate(150deg) translate(146%)}.sonner-loading-bar:nth-child(7){animation-delay:-.6s;transform:rotate(180deg) translate(146%)}.sonner-loading-bar:nth-child(8){animation-delay:-.5s;transform:rotate(210deg) translate(146%)}.sonner-loading-bar:nth-child(9){animation-delay:-.4s;transform:rotate(240deg) translate(146%)}.sonner-loading-bar:nth-child(10){animation-delay:-.3s;transform:rotate(270deg) translate(146%)}.sonner-loading-bar:nth-child(11){animation-delay:-.2s;transform:rotate(300deg) translate(146%)}.sonner-loading-bar:nth-child(12){animation-delay:-.1s;transform:rotate(330deg) translate(146%)}@keyframes sonner-fade-in{0%{opacity:0;transform:scale(.8)}100%{opacity:1;transform:scale(1)}}@keyframes sonner-fade-out{0%{opacity:1;transform:scale(1)}100%{opacity:0;transform:scale(.8)}}@keyframes sonner-spin{0%{opacity:1}100%{opacity:.15}}@media (prefers-reduced-motion){.sonner-loading-bar,[data-sonner-toast],[data-sonner-toast]>*{transition:none!important;animation:none!important}}.sonner-loader{position:absolute;top:50%;left:50%;transform:translate(-50%,-50%);transform-origin:center;transition:opacity .2s,transform .2s}.sonner-loader[data-visible=false]{opacity:0;transform:scale(.8) translate(-50%,-50%)}");function Ta(t){return t.label!==void 0}const xT=3,wT="24px",bT="16px",Dm=4e3,ST=356,CT=14,NT=45,jT=200;function Rn(...t){return t.filter(Boolean).join(" ")}function ET(t){const[r,s]=t.split("-"),i=[];return r&&i.push(r),s&&i.push(s),i}const kT=t=>{var r,s,i,l,u,f,p,g,y;const{invert:x,toast:v,unstyled:N,interacting:C,setHeights:E,visibleToasts:S,heights:b,index:j,toasts:k,expanded:P,removeToast:L,defaultRichColors:B,closeButton:W,style:G,cancelButtonStyle:H,actionButtonStyle:se,className:ae="",descriptionClassName:we="",duration:de,position:le,gap:ce,expandByDefault:be,classNames:M,icons:O,closeButtonAriaLabel:R="Close toast"}=t,[K,U]=te.useState(null),[D,A]=te.useState(null),[V,X]=te.useState(!1),[ne,fe]=te.useState(!1),[q,ee]=te.useState(!1),[pe,Ce]=te.useState(!1),[oe,ye]=te.useState(!1),[ze,ie]=te.useState(0),[rt,It]=te.useState(0),ct=te.useRef(v.duration||de||Dm),Nn=te.useRef(null),ht=te.useRef(null),Hn=j===0,Y=j+1<=S,Ee=v.type,Oe=v.dismissible!==!1,Ct=v.className||"",Bn=v.descriptionClassName||"",Nt=te.useMemo(()=>b.findIndex(Pe=>Pe.toastId===v.id)||0,[b,v.id]),us=te.useMemo(()=>{var Pe;return(Pe=v.closeButton)!=null?Pe:W},[v.closeButton,W]),Br=te.useMemo(()=>v.duration||de||Dm,[v.duration,de]),ds=te.useRef(0),Yt=te.useRef(0),ar=te.useRef(0),lr=te.useRef(null),[ci,ui]=le.split("-"),di=te.useMemo(()=>b.reduce((Pe,st,ut)=>ut>=Nt?Pe:Pe+st.height,0),[b,Nt]),fs=fT(),so=v.invert||x,Ur=Ee==="loading";Yt.current=te.useMemo(()=>Nt*ce+di,[Nt,di]),te.useEffect(()=>{ct.current=Br},[Br]),te.useEffect(()=>{X(!0)},[]),te.useEffect(()=>{const Pe=ht.current;if(Pe){const st=Pe.getBoundingClientRect().height;return It(st),E(ut=>[{toastId:v.id,height:st,position:v.position},...ut]),()=>E(ut=>ut.filter(jt=>jt.toastId!==v.id))}},[E,v.id]),te.useLayoutEffect(()=>{if(!V)return;const Pe=ht.current,st=Pe.style.height;Pe.style.height="auto";const ut=Pe.getBoundingClientRect().height;Pe.style.height=st,It(ut),E(jt=>jt.find(at=>at.toastId===v.id)?jt.map(at=>at.toastId===v.id?{...at,height:ut}:at):[{toastId:v.id,height:ut,position:v.position},...jt])},[V,v.title,v.description,E,v.id,v.jsx,v.action,v.cancel]);const qt=te.useCallback(()=>{fe(!0),ie(Yt.current),E(Pe=>Pe.filter(st=>st.toastId!==v.id)),setTimeout(()=>{L(v)},jT)},[v,L,E,Yt]);te.useEffect(()=>{if(v.promise&&Ee==="loading"||v.duration===1/0||v.type==="loading")return;let Pe;return P||C||fs?(()=>{if(ar.current<ds.current){const jt=new Date().getTime()-ds.current;ct.current=ct.current-jt}ar.current=new Date().getTime()})():(()=>{ct.current!==1/0&&(ds.current=new Date().getTime(),Pe=setTimeout(()=>{v.onAutoClose==null||v.onAutoClose.call(v,v),qt()},ct.current))})(),()=>clearTimeout(Pe)},[P,C,v,Ee,fs,qt]),te.useEffect(()=>{v.delete&&(qt(),v.onDismiss==null||v.onDismiss.call(v,v))},[qt,v.delete]);function oo(){var Pe;if(O?.loading){var st;return te.createElement("div",{className:Rn(M?.loader,v==null||(st=v.classNames)==null?void 0:st.loader,"sonner-loader"),"data-visible":Ee==="loading"},O.loading)}return te.createElement(iT,{className:Rn(M?.loader,v==null||(Pe=v.classNames)==null?void 0:Pe.loader),visible:Ee==="loading"})}const cr=v.icon||O?.[Ee]||sT(Ee);var Un,io;return te.createElement("li",{tabIndex:0,ref:ht,className:Rn(ae,Ct,M?.toast,v==null||(r=v.classNames)==null?void 0:r.toast,M?.default,M?.[Ee],v==null||(s=v.classNames)==null?void 0:s[Ee]),"data-sonner-toast":"","data-rich-colors":(Un=v.richColors)!=null?Un:B,"data-styled":!(v.jsx||v.unstyled||N),"data-mounted":V,"data-promise":!!v.promise,"data-swiped":oe,"data-removed":ne,"data-visible":Y,"data-y-position":ci,"data-x-position":ui,"data-index":j,"data-front":Hn,"data-swiping":q,"data-dismissible":Oe,"data-type":Ee,"data-invert":so,"data-swipe-out":pe,"data-swipe-direction":D,"data-expanded":!!(P||be&&V),"data-testid":v.testId,style:{"--index":j,"--toasts-before":j,"--z-index":k.length-j,"--offset":`${ne?ze:Yt.current}px`,"--initial-height":be?"auto":`${rt}px`,...G,...v.style},onDragEnd:()=>{ee(!1),U(null),lr.current=null},onPointerDown:Pe=>{Pe.button!==2&&(Ur||!Oe||(Nn.current=new Date,ie(Yt.current),Pe.target.setPointerCapture(Pe.pointerId),Pe.target.tagName!=="BUTTON"&&(ee(!0),lr.current={x:Pe.clientX,y:Pe.clientY})))},onPointerUp:()=>{var Pe,st,ut;if(pe||!Oe)return;lr.current=null;const jt=Number(((Pe=ht.current)==null?void 0:Pe.style.getPropertyValue("--swipe-amount-x").replace("px",""))||0),ur=Number(((st=ht.current)==null?void 0:st.style.getPropertyValue("--swipe-amount-y").replace("px",""))||0),at=new Date().getTime()-((ut=Nn.current)==null?void 0:ut.getTime()),mt=K==="x"?jt:ur,dr=Math.abs(mt)/at;if(Math.abs(mt)>=NT||dr>.11){ie(Yt.current),v.onDismiss==null||v.onDismiss.call(v,v),A(K==="x"?jt>0?"right":"left":ur>0?"down":"up"),qt(),Ce(!0);return}else{var xt,Ht;(xt=ht.current)==null||xt.style.setProperty("--swipe-amount-x","0px"),(Ht=ht.current)==null||Ht.style.setProperty("--swipe-amount-y","0px")}ye(!1),ee(!1),U(null)},onPointerMove:Pe=>{var st,ut,jt;if(!lr.current||!Oe||((st=window.getSelection())==null?void 0:st.toString().length)>0)return;const at=Pe.clientY-lr.current.y,mt=Pe.clientX-lr.current.x;var dr;const xt=(dr=t.swipeDirections)!=null?dr:ET(le);!K&&(Math.abs(mt)>1||Math.abs(at)>1)&&U(Math.abs(mt)>Math.abs(at)?"x":"y");let Ht={x:0,y:0};const fr=Xt=>1/(1.5+Math.abs(Xt)/20);if(K==="y"){if(xt.includes("top")||xt.includes("bottom"))if(xt.includes("top")&&at<0||xt.includes("bottom")&&at>0)Ht.y=at;else{const Xt=at*fr(at);Ht.y=Math.abs(Xt)<Math.abs(at)?Xt:at}}else if(K==="x"&&(xt.includes("left")||xt.includes("right")))if(xt.includes("left")&&mt<0||xt.includes("right")&&mt>0)Ht.x=mt;else{const Xt=mt*fr(mt);Ht.x=Math.abs(Xt)<Math.abs(mt)?Xt:mt}(Math.abs(Ht.x)>0||Math.abs(Ht.y)>0)&&ye(!0),(ut=ht.current)==null||ut.style.setProperty("--swipe-amount-x",`${Ht.x}px`),(jt=ht.current)==null||jt.style.setProperty("--swipe-amount-y",`${Ht.y}px`)}},us&&!v.jsx&&Ee!=="loading"?te.createElement("button",{"aria-label":R,"data-disabled":Ur,"data-close-button":!0,onClick:Ur||!Oe?()=>{}:()=>{qt(),v.onDismiss==null||v.onDismiss.call(v,v)},className:Rn(M?.closeButton,v==null||(i=v.classNames)==null?void 0:i.closeButton)},(io=O?.close)!=null?io:dT):null,(Ee||v.icon||v.promise)&&v.icon!==null&&(O?.[Ee]!==null||v.icon)?te.createElement("div",{"data-icon":"",className:Rn(M?.icon,v==null||(l=v.classNames)==null?void 0:l.icon)},v.promise||v.type==="loading"&&!v.icon?v.icon||oo():null,v.type!=="loading"?cr:null):null,te.createElement("div",{"data-content":"",className:Rn(M?.content,v==null||(u=v.classNames)==null?void 0:u.content)},te.createElement("div",{"data-title":"",className:Rn(M?.title,v==null||(f=v.classNames)==null?void 0:f.title)},v.jsx?v.jsx:typeof v.title=="function"?v.title():v.title),v.description?te.createElement("div",{"data-description":"",className:Rn(we,Bn,M?.description,v==null||(p=v.classNames)==null?void 0:p.description)},typeof v.description=="function"?v.description():v.description):null),te.isValidElement(v.cancel)?v.cancel:v.cancel&&Ta(v.cancel)?te.createElement("button",{"data-button":!0,"data-cancel":!0,style:v.cancelButtonStyle||H,onClick:Pe=>{Ta(v.cancel)&&Oe&&(v.cancel.onClick==null||v.cancel.onClick.call(v.cancel,Pe),qt())},className:Rn(M?.cancelButton,v==null||(g=v.classNames)==null?void 0:g.cancelButton)},v.cancel.label):null,te.isValidElement(v.action)?v.action:v.action&&Ta(v.action)?te.createElement("button",{"data-button":!0,"data-action":!0,style:v.actionButtonStyle||se,onClick:Pe=>{Ta(v.action)&&(v.action.onClick==null||v.action.onClick.call(v.action,Pe),!Pe.defaultPrevented&&qt())},className:Rn(M?.actionButton,v==null||(y=v.classNames)==null?void 0:y.actionButton)},v.action.label):null)};function Im(){if(typeof window>"u"||typeof document>"u")return"ltr";const t=document.documentElement.getAttribute("dir");return t==="auto"||!t?window.getComputedStyle(document.documentElement).direction:t}function TT(t,r){const s={};return[t,r].forEach((i,l)=>{const u=l===1,f=u?"--mobile-offset":"--offset",p=u?bT:wT;function g(y){["top","right","bottom","left"].forEach(x=>{s[`${f}-${x}`]=typeof y=="number"?`${y}px`:y})}typeof i=="number"||typeof i=="string"?g(i):typeof i=="object"?["top","right","bottom","left"].forEach(y=>{i[y]===void 0?s[`${f}-${y}`]=p:s[`${f}-${y}`]=typeof i[y]=="number"?`${i[y]}px`:i[y]}):g(p)}),s}const PT=te.forwardRef(function(r,s){const{id:i,invert:l,position:u="bottom-right",hotkey:f=["altKey","KeyT"],expand:p,closeButton:g,className:y,offset:x,mobileOffset:v,theme:N="light",richColors:C,duration:E,style:S,visibleToasts:b=xT,toastOptions:j,dir:k=Im(),gap:P=CT,icons:L,containerAriaLabel:B="Notifications"}=r,[W,G]=te.useState([]),H=te.useMemo(()=>i?W.filter(V=>V.toasterId===i):W.filter(V=>!V.toasterId),[W,i]),se=te.useMemo(()=>Array.from(new Set([u].concat(H.filter(V=>V.position).map(V=>V.position)))),[H,u]),[ae,we]=te.useState([]),[de,le]=te.useState(!1),[ce,be]=te.useState(!1),[M,O]=te.useState(N!=="system"?N:typeof window<"u"&&window.matchMedia&&window.matchMedia("(prefers-color-scheme: dark)").matches?"dark":"light"),R=te.useRef(null),K=f.join("+").replace(/Key/g,"").replace(/Digit/g,""),U=te.useRef(null),D=te.useRef(!1),A=te.useCallback(V=>{G(X=>{var ne;return(ne=X.find(fe=>fe.id===V.id))!=null&&ne.delete||$t.dismiss(V.id),X.filter(({id:fe})=>fe!==V.id)})},[]);return te.useEffect(()=>$t.subscribe(V=>{if(V.dismiss){requestAnimationFrame(()=>{G(X=>X.map(ne=>ne.id===V.id?{...ne,delete:!0}:ne))});return}setTimeout(()=>{eg.flushSync(()=>{G(X=>{const ne=X.findIndex(fe=>fe.id===V.id);return ne!==-1?[...X.slice(0,ne),{...X[ne],...V},...X.slice(ne+1)]:[V,...X]})})})}),[W]),te.useEffect(()=>{if(N!=="system"){O(N);return}if(N==="system"&&(window.matchMedia&&window.matchMedia("(prefers-color-scheme: dark)").matches?O("dark"):O("light")),typeof window>"u")return;const V=window.matchMedia("(prefers-color-scheme: dark)");try{V.addEventListener("change",({matches:X})=>{O(X?"dark":"light")})}catch{V.addListener(({matches:ne})=>{try{O(ne?"dark":"light")}catch(fe){console.error(fe)}})}},[N]),te.useEffect(()=>{W.length<=1&&le(!1)},[W]),te.useEffect(()=>{const V=X=>{var ne;if(f.every(ee=>X[ee]||X.code===ee)){var q;le(!0),(q=R.current)==null||q.focus()}X.code==="Escape"&&(document.activeElement===R.current||(ne=R.current)!=null&&ne.contains(document.activeElement))&&le(!1)};return document.addEventListener("keydown",V),()=>document.removeEventListener("keydown",V)},[f]),te.useEffect(()=>{if(R.current)return()=>{U.current&&(U.current.focus({preventScroll:!0}),U.current=null,D.current=!1)}},[R.current]),te.createElement("section",{ref:s,"aria-label":`${B} ${K}`,tabIndex:-1,"aria-live":"polite","aria-relevant":"additions text","aria-atomic":"false",suppressHydrationWarning:!0},se.map((V,X)=>{var ne;const[fe,q]=V.split("-");return H.length?te.createElement("ol",{key:V,dir:k==="auto"?Im():k,tabIndex:-1,ref:R,className:y,"data-sonner-toaster":!0,"data-sonner-theme":M,"data-y-position":fe,"data-x-position":q,style:{"--front-toast-height":`${((ne=ae[0])==null?void 0:ne.height)||0}px`,"--width":`${ST}px`,"--gap":`${P}px`,...S,...TT(x,v)},onBlur:ee=>{D.current&&!ee.currentTarget.contains(ee.relatedTarget)&&(D.current=!1,U.current&&(U.current.focus({preventScroll:!0}),U.current=null))},onFocus:ee=>{ee.target instanceof HTMLElement&&ee.target.dataset.dismissible==="false"||D.current||(D.current=!0,U.current=ee.relatedTarget)},onMouseEnter:()=>le(!0),onMouseMove:()=>le(!0),onMouseLeave:()=>{ce||le(!1)},onDragEnd:()=>le(!1),onPointerDown:ee=>{ee.target instanceof HTMLElement&&ee.target.dataset.dismissible==="false"||be(!0)},onPointerUp:()=>be(!1)},H.filter(ee=>!ee.position&&X===0||ee.position===V).map((ee,pe)=>{var Ce,oe;return te.createElement(kT,{key:ee.id,icons:L,index:pe,toast:ee,defaultRichColors:C,duration:(Ce=j?.duration)!=null?Ce:E,className:j?.className,descriptionClassName:j?.descriptionClassName,invert:l,visibleToasts:b,closeButton:(oe=j?.closeButton)!=null?oe:g,interacting:ce,position:V,style:j?.style,unstyled:j?.unstyled,classNames:j?.classNames,cancelButtonStyle:j?.cancelButtonStyle,actionButtonStyle:j?.actionButtonStyle,closeButtonAriaLabel:j?.closeButtonAriaLabel,removeToast:A,toasts:H.filter(ye=>ye.position==ee.position),heights:ae.filter(ye=>ye.position==ee.position),setHeights:we,expandByDefault:p,gap:P,expanded:de,swipeDirections:r.swipeDirections})})):null}))});function Om({appointment:t,style:r,onEdit:s,onConfirm:i,onStatusChange:l}){const[u,f]=m.useState(!1),[{isDragging:p},g]=Hy(()=>({type:"appointment",item:{id:t.id,source:"calendar"},collect:v=>({isDragging:v.isDragging()})})),x=((v,N)=>{if(N&&N!=="chantier")switch(v){case"proposed":return"bg-purple-400 hover:bg-purple-500 text-white";case"confirmed":return"bg-purple-600 hover:bg-purple-700 text-white";case"unscheduled":return"bg-purple-500 hover:bg-purple-600 text-white";default:return"bg-purple-500 text-white"}switch(v){case"proposed":return"bg-yellow-400 hover:bg-yellow-500 text-gray-900";case"confirmed":return"bg-green-500 hover:bg-green-600 text-white";case"unscheduled":return"bg-blue-500 hover:bg-blue-600 text-white";default:return"bg-gray-500 text-white"}})(t.status,t.eventType);return a.jsxs("div",{ref:g,onClick:v=>{t.status==="proposed"?(v.stopPropagation(),i(t.id)):f(!u)},className:`absolute left-1 right-1 ${x} rounded p-2 text-xs overflow-hidden shadow-md hover:shadow-lg transition-all z-10 cursor-move group ${p?"opacity-50":""}`,style:r,children:[u&&a.jsxs("div",{className:"absolute top-1 right-1 flex gap-1 z-20",children:[a.jsx("button",{onClick:v=>{v.stopPropagation(),s(t),f(!1)},className:"w-6 h-6 bg-white rounded-full flex items-center justify-center hover:bg-gray-100 transition-colors",children:a.jsx(od,{className:"w-3 h-3 text-gray-700"})}),t.status==="confirmed"&&a.jsx("button",{onClick:v=>{v.stopPropagation(),l(t.id,"proposed"),f(!1)},className:"w-6 h-6 bg-yellow-400 rounded-full flex items-center justify-center hover:bg-yellow-500 transition-colors",title:"Repasser en proposition",children:a.jsx(yn,{className:"w-3 h-3 text-gray-900"})}),a.jsx("button",{onClick:v=>{v.stopPropagation(),f(!1)},className:"w-6 h-6 bg-white rounded-full flex items-center justify-center hover:bg-gray-100 transition-colors",children:a.jsx(ii,{className:"w-3 h-3 text-gray-700"})})]}),a.jsxs("div",{className:"flex items-start justify-between gap-1 mb-1",children:[a.jsx("span",{className:"truncate flex-1",children:t.client}),a.jsxs("div",{className:"flex items-center gap-1 flex-shrink-0",children:[t.isRecurring&&t.eventType==="chantier"&&typeof t.daysSinceLastChantier=="number"&&a.jsxs("div",{className:"px-1.5 py-0.5 bg-white bg-opacity-90 rounded text-xs font-medium text-gray-700",title:`${t.daysSinceLastChantier} jours depuis le dernier chantier`,children:["+",t.daysSinceLastChantier,"j"]}),t.status==="proposed"&&a.jsx("div",{className:"flex-shrink-0 w-5 h-5 bg-white rounded-full flex items-center justify-center opacity-70 group-hover:opacity-100 transition-opacity",children:a.jsx(Ws,{className:"w-3 h-3 text-yellow-600"})}),t.status==="confirmed"&&a.jsx("div",{className:"flex-shrink-0 w-4 h-4 bg-white bg-opacity-30 rounded-full flex items-center justify-center",children:a.jsx(Ws,{className:"w-3 h-3"})})]})]}),a.jsx("div",{className:`truncate text-xs ${t.status==="proposed"?"text-gray-700":"text-white opacity-90"}`,children:t.type}),a.jsxs("div",{className:`flex items-center gap-1 mt-1 text-xs ${t.status==="proposed"?"text-gray-600":"text-white opacity-80"}`,children:[a.jsx(Gs,{className:"w-3 h-3"}),a.jsx("span",{className:"truncate",children:t.location})]})]})}function _m({dayIndex:t,timeSlot:r,onDrop:s,children:i}){const l=m.useRef(null),[{isOver:u},f]=z2(()=>({accept:["appointment","unscheduled"],drop:(g,y)=>{console.log("Dropped item:",g,"with monitor:",y);const x=y.getClientOffset(),v=y.getInitialSourceClientOffset(),N=g.source||"calendar";if(x&&l.current){const C=l.current.getBoundingClientRect();let E=x.y-C.top;if(v){const W=y.getInitialClientOffset();if(W){const G=W.y-v.y;E=E-G}}const S=C.height,b=Math.floor(E/S*4)*15;console.log("Relative Y:",E,"Cell Height:",S,"Minutes Offset:",b);const[j]=r.split(":").map(Number),k=j*60+b,P=Math.floor(k/60),L=k%60,B=`${String(P).padStart(2,"0")}:${String(L).padStart(2,"0")}`;console.log("Dropped item at:",t,B,"from source:",N),s(g.id,t,B,N)}else s(g.id,t,r,N)},collect:g=>({isOver:g.isOver()})})),p=g=>{l.current=g,f(g)};return a.jsx("div",{ref:p,className:`bg-white min-h-[4rem] relative transition-colors ${u?"bg-green-100":"hover:bg-gray-50"} cursor-pointer`,children:i})}function Mm({appointment:t}){const[{isDragging:r},s]=Hy(()=>({type:"unscheduled",item:{id:t.id,source:"unscheduled"},collect:i=>({isDragging:i.isDragging()})}));return a.jsxs("div",{ref:s,className:`p-3 bg-white border border-gray-200 rounded-lg hover:shadow-md transition-all cursor-move ${r?"opacity-50":""}`,children:[a.jsxs("div",{className:"flex items-start justify-between gap-2 mb-1",children:[a.jsx("span",{className:"text-sm text-gray-900 truncate",children:t.client}),a.jsx(Ru,{className:"w-4 h-4 text-gray-400 flex-shrink-0"})]}),a.jsx("div",{className:"text-sm text-gray-600 truncate mb-1",children:t.type}),a.jsxs("div",{className:"flex items-center gap-1 text-xs text-gray-500",children:[a.jsx(Gs,{className:"w-3 h-3"}),a.jsx("span",{className:"truncate",children:t.location})]}),a.jsxs("div",{className:"mt-2 text-xs text-gray-500",children:["Durée: ",t.duration,"h"]})]})}function RT(){const[t,r]=m.useState(0),[s,i]=m.useState(0),[l,u]=m.useState(!1),[f,p]=m.useState(null),[g,y]=m.useState(!1),[x,v]=m.useState(!1),[N,C]=m.useState([]),[E,S]=m.useState([]);m.useEffect(()=>{const M=()=>{u(window.innerWidth<768)};return M(),window.addEventListener("resize",M),()=>window.removeEventListener("resize",M)},[]),m.useEffect(()=>{P()},[t]);const b=["07:00","08:00","09:00","10:00","11:00","12:00","13:00","14:00","15:00","16:00","17:00","18:00","19:00","20:00"],j=m.useMemo(()=>{const M=new Date,O=M.getDay(),R=O===0?-6:1-O,K=new Date(M);K.setDate(M.getDate()+R),K.setHours(0,0,0,0);const U=new Date(K);U.setDate(K.getDate()+t*7);const D=[],A=["Dim","Lun","Mar","Mer","Jeu","Ven","Sam"],V=["Jan","Fév","Mar","Avr","Mai","Juin","Juil","Aoû","Sep","Oct","Nov","Déc"];for(let X=0;X<7;X++){const ne=new Date(U);ne.setDate(U.getDate()+X);const fe=ne.getDay(),q=A[fe],ee=ne.getDate(),pe=V[ne.getMonth()];D.push({day:q,date:`${ee} ${pe}`,fullDate:ne.toISOString().split("T")[0]})}return D},[t]),k=m.useMemo(()=>{if(j.length===0)return"";const M=j[0],O=j[6];return`${M.date} - ${O.date}`},[j]),P=async()=>{if(j.length===0)return;const M=j[0].fullDate,O=j[6].fullDate;try{const K=(await Wo.getAll({startDate:M,endDate:O})).filter(A=>A.date&&A.startTime).map((A,V)=>({id:A.id,dayIndex:A.dayIndex??0,date:A.date??"",startTime:A.startTime??"09:00",duration:A.duration/60,client:A.clientName,type:A.title,location:A.location,status:A.status,isRecurring:A.isRecurring,eventType:A.eventType,interventionId:A.interventionId?parseInt(A.interventionId):void 0,daysSinceLastChantier:A.daysSinceLastChantier??void 0}));C(K);const D=(await Wo.getUnscheduledEvents()).map(A=>({id:A.id,dayIndex:A.dayIndex??0,date:A.date??"",startTime:A.startTime??"",duration:A.duration/60,client:A.clientName,type:A.title,location:A.location,status:A.status,isRecurring:A.isRecurring,eventType:A.eventType,interventionId:A.interventionId?parseInt(A.interventionId):void 0,daysSinceLastChantier:A.daysSinceLastChantier??void 0}));S(D)}catch(R){console.error("Erreur lors du chargement des événements:",R),mn.error("Erreur lors du chargement des événements")}},L=(M,O)=>{console.log("Calculating style for startTime:",M,"duration:",O);const R=parseInt(M.split(":")[0]),K=parseInt(M.split(":")[1]),U=((R-7)*60+K)/60,D=O;return console.log("Top offset (in rem):",U*4,"Height (in rem):",D*4),{top:`${U*4}rem`,height:`${D*4}rem`}},B=async M=>{await Wo.confirm(M),C(N.map(O=>O.id===M&&O.status==="proposed"?{...O,status:"confirmed"}:O))},W=async(M,O)=>{await Wo.updateStatus(M,O),C(N.map(R=>R.id===M?{...R,status:O}:R))},G=M=>{const[O,R]=M.split(":").map(Number),K=O*60+R,U=Math.round(K/15)*15,D=Math.floor(U/60),A=U%60;return`${String(D).padStart(2,"0")}:${String(A).padStart(2,"0")}`},H=M=>{const[O,R]=M.split(":").map(Number);return O*60+R},se=M=>{const O=Math.floor(M/60),R=M%60;return`${String(O).padStart(2,"0")}:${String(R).padStart(2,"0")}`},ae=(M,O,R,K)=>{const U=H(O),D=R*60,A=N.filter(oe=>oe.dayIndex===M&&oe.id!==K);if(A.length===0)return O;const V=[...A].sort((oe,ye)=>H(oe.startTime)-H(ye.startTime)),X=420,ne=1200;if((oe=>{const ye=oe+D;for(const ze of V){const ie=H(ze.startTime),rt=ie+ze.duration*60;if(oe>=ie&&oe<rt||ye>ie&&ye<=rt||oe<=ie&&ye>=rt)return!1}return!0})(U))return O;const q=[];for(let oe=0;oe<V.length-1;oe++){const ye=H(V[oe].startTime)+V[oe].duration*60,ze=H(V[oe+1].startTime);ze>ye&&ye>=U&&q.push({start:ye,end:ze,duration:ze-ye})}const ee=H(V[V.length-1].startTime)+V[V.length-1].duration*60;ee<ne&&ee>=U&&q.push({start:ee,end:ne,duration:ne-ee});for(const oe of q)if(oe.duration>=D){const ye=Math.ceil(oe.start/30)*30;if(ye+D<=oe.end)return se(ye);if(oe.start+D<=oe.end)return se(oe.start)}const pe=[],Ce=H(V[0].startTime);Ce>X&&pe.push({start:X,end:Ce,duration:Ce-X});for(let oe=0;oe<V.length-1;oe++){const ye=H(V[oe].startTime)+V[oe].duration*60,ze=H(V[oe+1].startTime);ze>ye&&ye<U&&pe.push({start:ye,end:ze,duration:ze-ye})}for(const oe of pe)if(oe.duration>=D){const ye=Math.ceil(oe.start/30)*30;if(ye+D<=oe.end)return se(ye);if(oe.start+D<=oe.end)return se(oe.start)}return se(Math.ceil(ee/30)*30)};function we(M){Wo.update({id:M.id,date:M.date,startTime:M.startTime,duration:M.duration*60,title:M.type,location:M.location,status:M.status,eventType:M.eventType}).then(()=>{console.log("Rendez-vous mis à jour avec succès")}).catch(O=>{console.error("Erreur lors de la mise à jour du rendez-vous:",O),mn.error("Erreur lors de la mise à jour du rendez-vous")})}const de=(M,O,R,K)=>{const U=j[O]?.fullDate||"",D=G(R);K==="unscheduled"?S(A=>{const V=A.find(X=>X.id===M);if(console.log("Tentative de drop - appointment trouvé:",V),V){const X=ae(O,D,V.duration),ne={...V,dayIndex:O,startTime:X,date:U,status:"proposed"};C(q=>[...q,ne]);const fe=X!==D;return mn.success("Chantier programmé",{description:fe?`${V.client} - ${X} le ${j[O].date} (créneau ajusté)`:`${V.client} - ${X} le ${j[O].date}`}),we(ne),A.filter(q=>q.id!==M)}return A}):C(A=>{const V=A.find(X=>X.id===M);if(console.log("Tentative de move - appointment trouvé:",V),console.log("Liste actuelle appointments:",A),V){const X=ae(O,D,V.duration,M);return X!==D&&mn.info("Créneau ajusté",{description:`Placé à ${X} (créneau occupé)`}),we({...V,startTime:X,date:U}),A.map(ne=>ne.id===M?{...ne,dayIndex:O,startTime:X,date:U}:ne)}return A})},le=M=>{p(M),y(!0)},ce=N.filter(M=>M.status==="proposed").length,be=N.filter(M=>M.status==="confirmed").length;return a.jsx(i2,{backend:J2,children:a.jsxs("div",{className:"space-y-6",children:[a.jsxs("div",{className:"flex flex-col sm:flex-row sm:items-center justify-between gap-4",children:[a.jsxs("div",{children:[a.jsx("h1",{className:"text-gray-900 mb-2",children:"Planning hebdomadaire"}),a.jsx("p",{className:"text-gray-600 hidden sm:block",children:"Glissez-déposez les interventions pour les déplacer ou programmer"})]}),a.jsxs(gn,{children:[a.jsx(_r,{asChild:!0,children:a.jsxs(Te,{className:"bg-green-600 hover:bg-green-700 w-full sm:w-auto",children:[a.jsx(Ya,{className:"w-4 h-4 mr-2"}),"Nouvel événement"]})}),a.jsx(vn,{children:"//TODO: Formulaire de création d'événement"})]})]}),ce>0&&a.jsx(tt,{className:"p-4 bg-yellow-50 border-yellow-200",children:a.jsxs("div",{className:"flex items-center gap-3",children:[a.jsx(yn,{className:"w-5 h-5 text-yellow-600"}),a.jsxs("div",{className:"flex-1",children:[a.jsxs("p",{className:"text-gray-900",children:["Vous avez ",ce," intervention",ce>1?"s":""," proposée",ce>1?"s":""," cette semaine"]}),a.jsx("p",{className:"text-sm text-gray-600",children:"Cliquez sur les interventions jaunes pour les valider"})]})]})}),a.jsxs(tt,{className:"p-6",children:[l?a.jsxs("div",{className:"flex items-center justify-between gap-4 mb-6",children:[a.jsx(Te,{variant:"outline",size:"icon",onClick:()=>i(s===0?6:s-1),children:a.jsx(su,{className:"w-4 h-4"})}),a.jsxs("div",{className:"text-center",children:[a.jsx("div",{className:"text-sm text-gray-500",children:j[s].day}),a.jsx("h2",{className:"text-gray-900",children:j[s].date})]}),a.jsx(Te,{variant:"outline",size:"icon",onClick:()=>i(s===6?0:s+1),children:a.jsx(ou,{className:"w-4 h-4"})})]}):a.jsxs("div",{className:"flex flex-col sm:flex-row items-center justify-between gap-4 mb-6",children:[a.jsxs(Te,{variant:"outline",onClick:()=>r(t-1),className:"w-full sm:w-auto",children:[a.jsx(su,{className:"w-4 h-4 mr-2"}),"Semaine précédente"]}),a.jsx("h2",{className:"text-gray-900 text-center",children:k}),a.jsxs(Te,{variant:"outline",onClick:()=>r(t+1),className:"w-full sm:w-auto",children:["Semaine suivante",a.jsx(ou,{className:"w-4 h-4 ml-2"})]})]}),a.jsxs("div",{className:"flex gap-4",children:[!l&&E.length>0&&a.jsx("div",{className:`transition-all duration-300 flex-shrink-0 ${x?"w-64":"w-12"}`,children:x?a.jsxs(tt,{className:"border-2 border-orange-200 bg-orange-50 h-full",children:[a.jsxs("div",{className:"flex items-center justify-between p-4 border-b border-orange-200",children:[a.jsxs("div",{className:"flex items-center gap-2",children:[a.jsx(Ru,{className:"w-5 h-5 text-orange-600"}),a.jsx("span",{className:"text-gray-900",children:"À programmer"}),a.jsx("span",{className:"text-xs bg-orange-200 text-orange-800 px-2 py-0.5 rounded-full",children:E.length})]}),a.jsx(Te,{variant:"ghost",size:"icon",onClick:()=>v(!1),className:"h-8 w-8 hover:bg-orange-100",children:a.jsx(su,{className:"w-4 h-4 text-gray-500"})})]}),a.jsx("div",{className:"p-4 space-y-3 max-h-[600px] overflow-y-auto",children:E.map(M=>a.jsx(Mm,{appointment:M},M.id))})]}):a.jsxs("button",{onClick:()=>v(!0),className:"h-full w-12 bg-orange-50 border-2 border-orange-200 rounded-lg hover:bg-orange-100 transition-colors flex flex-col items-center justify-center gap-2 py-4",children:[a.jsx(ou,{className:"w-5 h-5 text-orange-600"}),a.jsx("div",{className:"text-sm text-gray-900",style:{writingMode:"vertical-rl"},children:"À programmer"}),a.jsx("span",{className:"text-xs bg-orange-200 text-orange-800 px-2 py-1 rounded-full",children:E.length})]})}),a.jsx("div",{className:"flex-1",children:l?a.jsxs("div",{children:[a.jsxs("div",{className:"grid grid-cols-[60px_1fr] gap-px bg-gray-200 border border-gray-200 rounded-lg overflow-hidden mb-px",children:[a.jsx("div",{className:"bg-white p-2"}),a.jsxs("div",{className:"bg-green-50 p-3 text-center",children:[a.jsx("div",{className:"text-sm text-gray-500",children:j[s].day}),a.jsx("div",{className:"text-gray-900",children:j[s].date})]})]}),a.jsx("div",{className:"grid grid-cols-[60px_1fr] gap-px bg-gray-200 border-x border-b border-gray-200",children:b.map((M,O)=>a.jsxs(te.Fragment,{children:[a.jsx("div",{className:"bg-white p-2 text-xs text-gray-500 text-right pr-2",children:M}),a.jsx(_m,{dayIndex:s,timeSlot:M,onDrop:de,children:O===0&&N.filter(R=>R.dayIndex===s).map(R=>{const K=L(R.startTime,R.duration);return a.jsx(Om,{appointment:R,style:K,onEdit:le,onConfirm:B,onStatusChange:W},R.id)})},`cell-${O}-${s}`)]},`mobile-row-${O}`))})]}):a.jsx("div",{className:"overflow-x-auto",children:a.jsxs("div",{className:"min-w-[800px]",children:[a.jsxs("div",{className:"grid grid-cols-[80px_repeat(7,1fr)] gap-px bg-gray-200 border border-gray-200 rounded-lg overflow-hidden",children:[a.jsx("div",{className:"bg-white p-3"}),j.map((M,O)=>a.jsxs("div",{className:`bg-white p-3 text-center ${O===3?"bg-green-50":""}`,children:[a.jsx("div",{className:"text-sm text-gray-500",children:M.day}),a.jsx("div",{className:"text-gray-900",children:M.date})]},O))]}),a.jsx("div",{className:"grid grid-cols-[80px_repeat(7,1fr)] gap-px bg-gray-200 border-x border-b border-gray-200",children:b.map((M,O)=>a.jsxs(te.Fragment,{children:[a.jsx("div",{className:"bg-white p-2 text-sm text-gray-500 text-right pr-3",children:M}),j.map((R,K)=>a.jsx(_m,{dayIndex:K,timeSlot:M,onDrop:de,children:O===0&&N.filter(U=>U.dayIndex===K).map(U=>{const D=L(U.startTime,U.duration);return a.jsx(Om,{appointment:U,style:D,onEdit:le,onConfirm:B,onStatusChange:W},U.id)})},`cell-${O}-${K}`))]},`row-${O}`))})]})})})]}),l&&E.length>0&&a.jsx("div",{className:"mt-6",children:a.jsx(Zy,{open:x,onOpenChange:v,children:a.jsxs(tt,{className:"border-2 border-orange-200 bg-orange-50",children:[a.jsx(ex,{asChild:!0,children:a.jsxs(Te,{variant:"ghost",className:"w-full justify-between p-4 hover:bg-orange-100",children:[a.jsxs("div",{className:"flex items-center gap-2",children:[a.jsx(Ru,{className:"w-5 h-5 text-orange-600"}),a.jsx("span",{className:"text-gray-900",children:"Chantiers à programmer"}),a.jsx("span",{className:"text-xs bg-orange-200 text-orange-800 px-2 py-0.5 rounded-full",children:E.length})]}),a.jsx(Db,{className:"w-4 h-4 text-gray-500"})]})}),a.jsx(tx,{children:a.jsx("div",{className:"p-4 pt-0 space-y-3",children:E.map(M=>a.jsx(Mm,{appointment:M},M.id))})})]})})}),a.jsxs("div",{className:"mt-6 grid grid-cols-2 lg:grid-cols-5 gap-3 sm:gap-4",children:[a.jsxs("div",{className:"flex items-center justify-between p-3 bg-blue-50 rounded-lg",children:[a.jsxs("span",{className:"text-xs sm:text-sm text-gray-700",children:["Total ",l?"jour":"semaine"]}),a.jsx("span",{className:"text-blue-600",children:l?N.filter(M=>M.dayIndex===s).length:N.length})]}),a.jsxs("div",{className:"flex items-center justify-between p-3 bg-yellow-50 rounded-lg",children:[a.jsx("span",{className:"text-xs sm:text-sm text-gray-700",children:"Proposées"}),a.jsx("span",{className:"text-yellow-600",children:ce})]}),a.jsxs("div",{className:"flex items-center justify-between p-3 bg-green-50 rounded-lg",children:[a.jsx("span",{className:"text-xs sm:text-sm text-gray-700",children:"Confirmées"}),a.jsx("span",{className:"text-green-600",children:be})]}),a.jsxs("div",{className:"flex items-center justify-between p-3 bg-orange-50 rounded-lg",children:[a.jsx("span",{className:"text-xs sm:text-sm text-gray-700",children:"À programmer"}),a.jsx("span",{className:"text-orange-600",children:E.length})]}),a.jsxs("div",{className:"flex items-center justify-between p-3 bg-purple-50 rounded-lg",children:[a.jsx("span",{className:"text-xs sm:text-sm text-gray-700",children:"Heures"}),a.jsxs("span",{className:"text-purple-600",children:[l?N.filter(M=>M.dayIndex===s).reduce((M,O)=>M+O.duration,0):N.reduce((M,O)=>M+O.duration,0),"h"]})]})]}),a.jsxs("div",{className:"mt-6 flex items-center gap-4 sm:gap-6 text-xs sm:text-sm flex-wrap",children:[a.jsxs("div",{className:"flex items-center gap-2",children:[a.jsx("div",{className:"w-3 h-3 sm:w-4 sm:h-4 bg-yellow-400 rounded"}),a.jsx("span",{className:"text-gray-600",children:"Proposée"})]}),a.jsxs("div",{className:"flex items-center gap-2",children:[a.jsx("div",{className:"w-3 h-3 sm:w-4 sm:h-4 bg-green-500 rounded"}),a.jsx("span",{className:"text-gray-600",children:"Confirmée"})]}),a.jsxs("div",{className:"flex items-center gap-2",children:[a.jsx("div",{className:"w-3 h-3 sm:w-4 sm:h-4 bg-blue-500 rounded"}),a.jsx("span",{className:"text-gray-600",children:"Manuelle"})]})]})]}),a.jsx(gn,{open:g,onOpenChange:y,children:a.jsxs(vn,{children:[a.jsxs(_n,{children:[a.jsx(Mn,{children:"Modifier l'intervention"}),a.jsx(Zn,{children:"Modifier les détails de l'intervention"})]}),"// TODO: Formulaire d'édition"]})})]})})}function DT({clientId:t,onBack:r}){const[s,i]=m.useState([]),[l,u]=m.useState(!1),[f,p]=m.useState(null),[g,y]=m.useState(null),[x,v]=m.useState(!1),[N,C]=m.useState(!1),[E,S]=m.useState(""),[b,j]=m.useState([]),[k,P]=m.useState(!1),L=m.useRef(k),B=m.useRef(null),[W,G]=m.useState(null),[H,se]=m.useState(!1),[ae,we]=m.useState(null),[de,le]=m.useState([]),[ce,be]=m.useState([]),[M,O]=m.useState(!1),[R,K]=m.useState(null),[U,D]=m.useState([]),[A,V]=m.useState(!1),[X,ne]=m.useState(null),[fe,q]=m.useState(null),ee=Y=>new Date(Y).toLocaleDateString("fr-FR",{day:"numeric",month:"short",year:"numeric"}),pe=Y=>new Date(Y).toLocaleTimeString("fr-FR",{hour:"2-digit",minute:"2-digit"}),Ce=m.useCallback(async()=>{se(!0),we(null);try{const Y=await Ys.getById(t);G(Y)}catch(Y){we(Y.message||"Erreur client")}finally{se(!1)}},[t]),oe=m.useCallback(async()=>{u(!0),p(null);try{const Y=await Rd.getAll({clientId:t});i(Y);const Ee=new Date,Oe=[],Ct=[];Y.forEach(Bn=>{Bn.chantiers?.forEach(Nt=>{Nt.dateHeure?new Date(Nt.dateHeure).getTime()>=Ee.setHours(0,0,0,0)?Oe.push(Nt):Ct.push(Nt):Oe.push(Nt)})}),le(Oe),be(Ct)}catch(Y){p(Y.message||"Erreur projets")}finally{u(!1)}},[t]),ye=m.useCallback(async()=>{V(!0),ne(null);try{const Ee=(await _a.getByClientId(t)).map(Oe=>({id:Number(Oe.id),date:ee(Oe.createdAt),time:pe(Oe.createdAt),text:Oe.content,images:Oe.images||[]})).sort((Oe,Ct)=>Ct.id-Oe.id);D(Ee)}catch(Y){ne(Y.message||"Erreur remarques")}finally{V(!1)}},[t]);m.useEffect(()=>{Ce(),ye(),oe()},[Ce,ye,oe]),m.useEffect(()=>{L.current&&!k&&oe(),L.current=k},[k,oe]);const ze=Y=>{le(Ee=>Ee.map(Oe=>Oe.id===Y&&Oe.status==="en_attente"?{...Oe,status:"planifiee"}:Oe))},ie=Y=>{y(Y),v(!0)},rt=()=>{g&&(v(!1),y(null))},It=(Y,Ee)=>{le(Oe=>Oe.map(Ct=>Ct.id===Y?{...Ct,status:Ee}:Ct))},ct=async()=>{if(E.trim()||b.length>0)try{const Y=await _a.create(t,E.trim(),b),Ee={id:Number(Y.id),date:ee(Y.createdAt),time:pe(Y.createdAt),text:Y.content,images:[...b]};D(Oe=>[Ee,...Oe]),S(""),j([])}catch(Y){alert(Y.message||"Erreur lors de l'ajout de la remarque")}},Nn=async Y=>{if(confirm("Êtes-vous sûr de vouloir supprimer cette remarque ?"))try{await _a.delete(Y),D(Ee=>Ee.filter(Oe=>Oe.id!==Y))}catch(Ee){alert(Ee.message||"Suppression impossible")}},ht=Y=>{const Ee=Y.target.files;if(Ee){const Oe=[];Array.from(Ee).forEach(Ct=>{if(Ct.type.startsWith("image/")){const Bn=new FileReader;Bn.onload=Nt=>{Nt.target?.result&&(Oe.push(Nt.target.result),j([...b,...Oe]))},Bn.readAsDataURL(Ct)}})}B.current&&(B.current.value="")},Hn=Y=>{j(b.filter((Ee,Oe)=>Oe!==Y))};return a.jsxs("div",{className:"space-y-6",children:[a.jsx("div",{className:"flex items-center gap-4",children:a.jsxs(Te,{variant:"outline",onClick:r,className:"w-full sm:w-auto",children:[a.jsx(vg,{className:"w-4 h-4 mr-2"}),"Retour"]})}),a.jsxs("div",{className:"grid grid-cols-1 lg:grid-cols-3 gap-6",children:[a.jsxs(tt,{className:"p-6 lg:col-span-1",children:[a.jsx("div",{className:"flex items-center justify-center w-20 h-20 bg-green-100 rounded-full mx-auto mb-4",children:a.jsx("span",{className:"text-green-700 text-3xl",children:W?W.name.charAt(0):"…"})}),a.jsx("h2",{className:"text-center text-gray-900 mb-4",children:H?"Chargement…":ae?"Erreur":W?.name||"—"}),a.jsxs("div",{className:"space-y-3 text-sm",children:[W&&a.jsxs("div",{className:"flex items-center gap-2 text-gray-600 p-2 bg-gray-50 rounded",children:[a.jsx(Ka,{className:"w-4 h-4 flex-shrink-0"}),a.jsx("span",{className:"break-all",children:W.email})]}),a.jsxs("div",{className:"flex items-center gap-2 text-gray-600 p-2 bg-gray-50 rounded",children:[a.jsx(id,{className:"w-4 h-4 flex-shrink-0"}),W?.phone||"—"]}),a.jsxs("div",{className:"space-y-2",children:[a.jsxs("div",{className:"flex items-start gap-2 text-gray-600 p-2 bg-gray-50 rounded",children:[a.jsx(Gs,{className:"w-4 h-4 flex-shrink-0 mt-0.5"}),a.jsx("span",{children:W?.address||"—"})]}),a.jsxs("div",{className:"flex gap-2",children:[a.jsxs(Te,{variant:"outline",size:"sm",className:"flex-1 text-xs",onClick:()=>{if(!W)return;const Y=encodeURIComponent(W.address);window.open(`https://www.google.com/maps/dir/?api=1&destination=${Y}`,"_blank")},children:[a.jsx(Gh,{className:"w-3 h-3 mr-1"}),"Google Maps"]}),a.jsxs(Te,{variant:"outline",size:"sm",className:"flex-1 text-xs",onClick:()=>{if(!W)return;const Y=encodeURIComponent(W.address);window.open(`https://waze.com/ul?q=${Y}&navigate=yes`,"_blank")},children:[a.jsx(Gh,{className:"w-3 h-3 mr-1"}),"Waze"]})]})]}),W?.access&&a.jsxs("div",{className:"flex items-start gap-2 text-gray-600 p-3 bg-blue-50 border border-blue-200 rounded",children:[a.jsx("span",{className:"text-blue-600 text-lg flex-shrink-0",children:"🔑"}),a.jsxs("div",{className:"flex-1",children:[a.jsx("p",{className:"text-xs text-blue-600 mb-1",children:"Informations d'accès"}),a.jsx("p",{className:"text-sm text-blue-900",children:W.access})]})]}),W?.hasKey&&a.jsxs("div",{className:"flex items-center gap-2 text-amber-700 p-2 bg-amber-50 border border-amber-200 rounded",children:[a.jsx(ei,{className:"w-4 h-4 flex-shrink-0"}),a.jsx("span",{className:"text-sm",children:"Clé en possession"})]}),ae&&a.jsx("p",{className:"text-sm text-red-600",children:ae})]})]}),a.jsxs("div",{className:"lg:col-span-2 space-y-6",children:[a.jsxs(tt,{className:"p-6",children:[a.jsx("h2",{className:"text-gray-900 mb-4",children:"Projets"}),a.jsxs(gn,{open:k,onOpenChange:Y=>{P(Y)},children:[a.jsx(_r,{asChild:!0,children:a.jsxs(Te,{className:"bg-green-600 hover:bg-green-700 w-full sm:w-auto",children:[a.jsx(Ya,{className:"w-4 h-4 mr-2"}),"Projet"]})}),a.jsxs(vn,{children:[a.jsxs(_n,{children:[a.jsx(Mn,{children:"Ajouter un projet"}),a.jsxs(Zn,{children:["Ajouter un projet pour ",W?.name||"—"]})]}),a.jsx(Dd,{onCreated:()=>P(!1),clientId:W?.id})]})]}),a.jsxs("div",{className:"space-y-3",children:[s.map(Y=>a.jsxs("div",{className:"flex gap-4 p-4 border border-blue-200 bg-blue-50 rounded-lg hover:shadow-md transition-shadow cursor-pointer",children:[a.jsx("div",{className:"flex items-center justify-center w-12 h-12 rounded-lg bg-blue-100 flex-shrink-0",children:a.jsx(On,{className:"w-6 h-6 text-blue-600"})}),a.jsxs("div",{className:"flex-1",children:[a.jsxs("div",{className:"flex items-center gap-2 mb-1",children:[a.jsx("span",{className:"text-gray-900",children:Y.title}),a.jsxs("span",{className:"px-2 py-0.5 bg-blue-200 text-blue-800 text-xs rounded-full",children:[Y.dureeMois," mois"]})]}),a.jsx("p",{className:"text-sm text-gray-600",children:Y.description}),a.jsxs("div",{className:"flex gap-4 mt-2 text-sm text-gray-500",children:[a.jsxs("span",{children:[Y.chantiers?.filter(Ee=>Ee.status!="terminee").length," à venir"]}),a.jsx("span",{children:"•"}),a.jsxs("span",{children:[Y.chantiers?.filter(Ee=>Ee.status==="terminee").length," terminés"]}),a.jsxs(Te,{onClick:()=>ie(Y),variant:"outline",size:"sm",children:[a.jsx(od,{className:"w-4 h-4 sm:mr-2"}),a.jsx("span",{className:"hidden sm:inline",children:"Modifier"})]})]})]})]},Y.id)),a.jsx("p",{className:"text-sm text-gray-500 text-center py-2",children:"Cliquez sur une intervention pour voir les chantiers"})]})]}),de.some(Y=>Y.status==="en_attente")&&a.jsx(tt,{className:"p-4 bg-yellow-50 border-yellow-200",children:a.jsxs("div",{className:"flex items-center gap-3",children:[a.jsx(La,{className:"w-5 h-5 text-yellow-600"}),a.jsxs("div",{children:[a.jsx("p",{className:"text-gray-900",children:"Chantiers proposés à valider"}),a.jsxs("p",{className:"text-sm text-gray-600",children:[de.filter(Y=>Y.status==="en_attente").length," chantier",de.filter(Y=>Y.status==="en_attente").length>1?"s":""," en attente de validation"]})]})]})}),a.jsxs(tt,{className:"p-6",children:[a.jsx("div",{className:"flex flex-col sm:flex-row sm:items-center justify-between gap-4 mb-6",children:a.jsx("h2",{className:"text-gray-900",children:"Prochains chantiers"})}),a.jsx("div",{className:"space-y-3",children:de.map(Y=>a.jsxs("div",{className:`flex gap-4 p-4 border rounded-lg transition-all ${Y.status==="en_attente"?"border-yellow-300 bg-yellow-50":Y.status==="planifiee"?"border-green-300 bg-green-50":"border-gray-200 hover:border-green-300"}`,children:[a.jsx("div",{className:`flex items-center justify-center w-12 h-12 rounded-lg flex-shrink-0 ${Y.status==="en_attente"?"bg-yellow-100":Y.status==="planifiee"?"bg-green-100":"bg-blue-50"}`,children:a.jsx(On,{className:`w-6 h-6 ${Y.status==="en_attente"?"text-yellow-600":Y.status==="planifiee"?"text-green-600":"text-blue-600"}`})}),a.jsxs("div",{className:"flex-1",children:[a.jsxs("div",{className:"flex items-center gap-2 mb-1 flex-wrap",children:[a.jsx("span",{className:Y.status==="en_attente"?"text-yellow-700":Y.status==="planifiee"?"text-green-700":"text-gray-900",children:ee(Y.dateHeure)}),a.jsx("span",{className:"text-gray-400",children:"•"}),a.jsx("span",{className:"text-gray-600",children:pe(Y.dateHeure)}),Y.status==="en_attente"&&a.jsxs("span",{className:"px-2 py-0.5 bg-yellow-200 text-yellow-800 text-xs rounded-full flex items-center gap-1",children:[a.jsx(La,{className:"w-3 h-3"}),"À valider"]}),Y.status==="planifiee"&&a.jsxs("span",{className:"px-2 py-0.5 bg-green-200 text-green-800 text-xs rounded-full flex items-center gap-1",children:[a.jsx(Ws,{className:"w-3 h-3"}),"Confirmée"]})]}),a.jsx("p",{className:"text-gray-900 mb-1",children:Y.projectName}),a.jsx("p",{className:"text-sm text-gray-600",children:Y.projectName}),a.jsxs("div",{className:"flex flex-wrap gap-2 mt-3",children:[Y.status==="en_attente"&&a.jsxs(Te,{onClick:()=>ze(Y.id),className:"bg-yellow-500 hover:bg-yellow-600 text-white",size:"sm",children:[a.jsx(Ws,{className:"w-4 h-4 mr-2"}),"Valider"]}),Y.status==="planifiee"&&a.jsxs(Te,{onClick:()=>It(Y.id,"en_attente"),className:"bg-yellow-100 hover:bg-yellow-200 text-yellow-700",size:"sm",children:[a.jsx(yn,{className:"w-4 h-4 mr-2"}),a.jsx("span",{className:"hidden sm:inline",children:"Repasser en proposition"}),a.jsx("span",{className:"sm:hidden",children:"En proposition"})]})]})]})]},Y.id))})]}),a.jsx(Zy,{open:N,onOpenChange:C,children:a.jsxs(tt,{className:"p-6",children:[a.jsx(ex,{className:"w-full",children:a.jsxs("div",{className:"flex items-center justify-between hover:opacity-70 transition-opacity",children:[a.jsx("h2",{className:"text-gray-900",children:"Derniers chantiers"}),N?a.jsx(xg,{className:"w-5 h-5 text-gray-500"}):a.jsx(sd,{className:"w-5 h-5 text-gray-500"})]})}),a.jsxs(tx,{className:"mt-4",children:[a.jsx("div",{className:"space-y-3",children:ce.map(Y=>a.jsxs("div",{className:`flex gap-4 p-4 border rounded-lg transition-colors ${Y.status==="terminee"?"border-green-200 bg-green-50 hover:border-green-300":"border-orange-200 bg-orange-50 hover:border-orange-300"}`,children:[a.jsx("div",{className:`flex items-center justify-center w-12 h-12 rounded-lg flex-shrink-0 ${Y.status==="terminee"?"bg-green-100":"bg-orange-100"}`,children:a.jsx(On,{className:`w-6 h-6 ${Y.status==="terminee"?"text-green-600":"text-orange-600"}`})}),a.jsxs("div",{className:"flex-1 min-w-0",children:[a.jsx("div",{className:"flex items-start justify-between gap-2 mb-1",children:a.jsx("div",{className:"flex items-center gap-2 flex-wrap",children:a.jsx("span",{className:`px-2 py-0.5 rounded-full text-xs ${Y.status==="terminee"?"bg-green-100 text-green-700":"bg-orange-100 text-orange-700"}`,children:Y.status==="terminee"?"Effectuée":"Non effectuée"})})}),a.jsx("p",{className:"text-sm text-gray-600 mb-2",children:Y.projectName}),a.jsxs("div",{className:"flex items-center gap-2 text-xs text-gray-500",children:[a.jsx(On,{className:"w-3 h-3"}),a.jsx("span",{children:ee(Y.dateHeure)}),a.jsx(yn,{className:"w-3 h-3 ml-2"}),a.jsx("span",{children:pe(Y.dateHeure)})]})]})]},Y.id))}),ce.length===0&&a.jsx("p",{className:"text-center text-gray-500 py-4",children:"Aucun chantier passé"})]})]})}),a.jsxs(tt,{className:"p-6",children:[a.jsx("h2",{className:"text-gray-900 mb-6",children:"Remarques et notes"}),a.jsx("div",{className:"space-y-4 mb-6",children:U.map(Y=>a.jsx("div",{className:"p-4 bg-gray-50 rounded-lg hover:bg-gray-100 transition-colors group",children:a.jsxs("div",{className:"flex items-start justify-between gap-3",children:[a.jsxs("div",{className:"flex-1",children:[a.jsxs("div",{className:"flex items-center gap-2 text-sm text-gray-500 mb-2",children:[a.jsx(yn,{className:"w-4 h-4"}),a.jsx("span",{children:Y.date}),a.jsxs("span",{children:["à ",Y.time]})]}),Y.text&&a.jsx("p",{className:"text-gray-700 mb-3",children:Y.text}),Y.images&&Y.images.length>0&&a.jsx("div",{className:"grid grid-cols-2 sm:grid-cols-3 gap-2 mt-3",children:Y.images.map((Ee,Oe)=>a.jsx("div",{className:"relative group/image",children:a.jsx("img",{src:Ee,alt:`Remarque image ${Oe+1}`,className:"w-full h-32 object-cover rounded-lg border border-gray-200 cursor-pointer hover:opacity-90 transition-opacity",onClick:()=>q(Ee)})},Oe))})]}),a.jsx("button",{onClick:()=>Nn(Y.id),className:"opacity-0 group-hover:opacity-100 transition-opacity text-red-600 hover:text-red-700 p-1 flex-shrink-0",title:"Supprimer cette remarque",children:a.jsx(ld,{className:"w-4 h-4"})})]})},Y.id))}),a.jsxs("div",{className:"border-t pt-4",children:[a.jsx(Ae,{htmlFor:"new-remark",className:"text-sm text-gray-700 mb-2 block",children:"Nouvelle remarque"}),b.length>0&&a.jsx("div",{className:"mb-3 grid grid-cols-3 sm:grid-cols-4 gap-2",children:b.map((Y,Ee)=>a.jsxs("div",{className:"relative group",children:[a.jsx("img",{src:Y,alt:`Preview ${Ee+1}`,className:"w-full h-24 object-cover rounded-lg border border-gray-200"}),a.jsx("button",{onClick:()=>Hn(Ee),className:"absolute top-1 right-1 bg-red-500 text-white rounded-full p-1 opacity-0 group-hover:opacity-100 transition-opacity hover:bg-red-600",type:"button",children:a.jsx(ii,{className:"w-3 h-3"})})]},Ee))}),a.jsxs("div",{className:"space-y-2",children:[a.jsxs("div",{className:"flex gap-2",children:[a.jsx(Vs,{id:"new-remark",placeholder:"Notez vos observations, demandes du client, etc...",rows:3,value:E,onChange:Y=>S(Y.target.value),onKeyDown:Y=>{Y.key==="Enter"&&(Y.metaKey||Y.ctrlKey)&&ct()},className:"flex-1"}),a.jsxs("div",{className:"flex flex-col gap-2",children:[a.jsx(Te,{onClick:ct,disabled:!E.trim()&&b.length===0,className:"bg-green-600 hover:bg-green-700",size:"icon",title:"Envoyer (Ctrl+Enter)",children:a.jsx(pS,{className:"w-4 h-4"})}),a.jsx(Te,{onClick:()=>B.current?.click(),variant:"outline",size:"icon",type:"button",title:"Ajouter des images",children:a.jsx(Ub,{className:"w-4 h-4"})})]})]}),a.jsxs("div",{className:"flex items-center justify-between",children:[a.jsx("p",{className:"text-xs text-gray-500",children:"Ctrl+Enter pour envoyer"}),b.length>0&&a.jsxs("p",{className:"text-xs text-green-600",children:[b.length," image",b.length>1?"s":""," sélectionnée",b.length>1?"s":""]})]})]}),a.jsx("input",{ref:B,type:"file",accept:"image/*",multiple:!0,onChange:ht,className:"hidden"})]})]})]})]}),a.jsx(gn,{open:x,onOpenChange:v,children:a.jsxs(vn,{children:[a.jsxs(_n,{children:[a.jsx(Mn,{children:"Modifier l'intervention"}),a.jsx(Zn,{children:"Modifier les détails de l'intervention"})]}),g&&a.jsxs("div",{className:"space-y-4",children:[a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"edit-description",children:"Description"}),a.jsx(Vs,{id:"edit-description",value:g.description,onChange:Y=>y({...g,description:Y.target.value}),rows:3})]}),a.jsxs("div",{className:"flex items-center gap-2",children:[a.jsx("input",{type:"checkbox",id:"edit-recurring",className:"rounded",checked:g.type==="recurrent",onChange:Y=>y({...g,type:Y.target.checked?"recurrent":"ponctuel"})}),a.jsx(Ae,{htmlFor:"edit-recurring",className:"cursor-pointer",children:"Intervention récurrente"})]}),g.type==="recurrent"&&a.jsx("div",{className:"grid grid-cols-2 gap-4 p-4 bg-blue-50 rounded-lg border border-blue-200"}),a.jsxs("div",{className:"flex gap-3",children:[a.jsx(Te,{className:"flex-1 bg-green-600 hover:bg-green-700",onClick:rt,children:"Enregistrer"}),a.jsx(Te,{variant:"outline",className:"flex-1",onClick:()=>{v(!1),y(null)},children:"Annuler"})]})]})]})}),a.jsx(gn,{open:!!fe,onOpenChange:Y=>!Y&&q(null),children:a.jsxs(vn,{className:"max-w-4xl",children:[a.jsx(_n,{children:a.jsx(Mn,{children:"Image"})}),fe&&a.jsx("div",{className:"flex items-center justify-center",children:a.jsx("img",{src:fe,alt:"Prévisualisation",className:"max-h-[80vh] w-auto rounded-lg shadow-lg"})}),a.jsx("div",{className:"mt-4 flex justify-end",children:a.jsx(Te,{variant:"outline",onClick:()=>q(null),children:"Fermer"})})]})})]})}function IT({user:t,onUpdateUser:r}){or();const[s,i]=m.useState(!1),[l,u]=m.useState({name:t.name,email:t.email,company:t.company,workStartTime:t.workStartTime,workEndTime:t.workEndTime}),f=g=>{if(g.preventDefault(),!l.name.trim()){mn.error("Le nom est requis");return}if(!l.email.trim()){mn.error("L'email est requis");return}if(!l.company.trim()){mn.error("L'entreprise est requise");return}if(!/^[^\s@]+@[^\s@]+\.[^\s@]+$/.test(l.email)){mn.error("Veuillez entrer un email valide");return}r({id:t.id,status:t.status,endLicense:t.endLicense,...l}),i(!1),mn.success("Profil mis à jour avec succès !")},p=()=>{u({name:t.name,email:t.email,company:t.company,workStartTime:t.workStartTime,workEndTime:t.workEndTime}),i(!1)};return a.jsxs("div",{className:"max-w-4xl mx-auto",children:[a.jsxs("div",{className:"mb-6",children:[a.jsx("h1",{className:"text-3xl font-bold text-gray-900",children:"Mon Profil"}),a.jsx("p",{className:"text-gray-500 mt-1",children:"Gérez vos informations personnelles"})]}),t.status!=="ACTIVE"&&a.jsx(tt,{className:"mb-6 border-yellow-300 bg-yellow-50",children:a.jsx(ru,{className:"pt-6",children:a.jsxs("div",{className:"flex items-start gap-3",children:[a.jsx("div",{className:"w-10 h-10 bg-yellow-500 rounded-full flex items-center justify-center flex-shrink-0",children:a.jsx($s,{className:"w-5 h-5 text-white"})}),a.jsxs("div",{children:[a.jsxs("h3",{className:"font-semibold text-yellow-900 mb-1",children:["Compte ",t.status]}),a.jsx("p",{className:"text-sm text-yellow-800",children:"Votre compte n'est pas encore actif. Vous avez un accès limité à l'application. Veuillez contacter l'administrateur pour activer votre compte et accéder à toutes les fonctionnalités."})]})]})})}),a.jsxs(tt,{children:[a.jsx(zh,{children:a.jsxs("div",{className:"flex items-center justify-between",children:[a.jsxs("div",{children:[a.jsx(Fh,{children:"Informations du profil"}),a.jsx($h,{children:"Vos informations personnelles et professionnelles"})]}),!s&&a.jsx(Te,{onClick:()=>i(!0),children:"Modifier"})]})}),a.jsx(ru,{children:a.jsxs("form",{onSubmit:f,className:"space-y-6",children:[a.jsxs("div",{className:"flex items-center gap-4 pb-6 border-b",children:[a.jsx("div",{className:"w-20 h-20 bg-green-600 rounded-full flex items-center justify-center",children:a.jsx($s,{className:"w-10 h-10 text-white"})}),a.jsxs("div",{children:[a.jsx("h3",{className:"font-semibold text-lg",children:t.name}),a.jsx("p",{className:"text-sm text-gray-500",children:t.company})]})]}),a.jsxs("div",{className:"space-y-4",children:[a.jsxs("div",{className:"space-y-2",children:[a.jsxs(Ae,{htmlFor:"name",className:"flex items-center gap-2",children:[a.jsx($s,{className:"w-4 h-4"}),"Nom complet"]}),s?a.jsx(Xe,{id:"name",value:l.name,onChange:g=>u({...l,name:g.target.value}),placeholder:"Votre nom complet",className:"max-w-md"}):a.jsx("p",{className:"text-gray-900 py-2 px-3 bg-gray-50 rounded-md max-w-md",children:t.name})]}),a.jsxs("div",{className:"space-y-2",children:[a.jsxs(Ae,{htmlFor:"email",className:"flex items-center gap-2",children:[a.jsx(Ka,{className:"w-4 h-4"}),"Email"]}),s?a.jsx(Xe,{id:"email",type:"email",value:l.email,onChange:g=>u({...l,email:g.target.value}),placeholder:"votre.email@exemple.com",className:"max-w-md"}):a.jsx("p",{className:"text-gray-900 py-2 px-3 bg-gray-50 rounded-md max-w-md",children:t.email})]}),a.jsxs("div",{className:"space-y-2",children:[a.jsxs(Ae,{htmlFor:"company",className:"flex items-center gap-2",children:[a.jsx(bb,{className:"w-4 h-4"}),"Entreprise"]}),s?a.jsx(Xe,{id:"company",value:l.company,onChange:g=>u({...l,company:g.target.value}),placeholder:"Nom de votre entreprise",className:"max-w-md"}):a.jsx("p",{className:"text-gray-900 py-2 px-3 bg-gray-50 rounded-md max-w-md",children:t.company})]}),a.jsxs("div",{className:"space-y-2",children:[a.jsxs(Ae,{htmlFor:"workStartTime",className:"flex items-center gap-2",children:[a.jsx(yn,{className:"w-4 h-4"}),"Heure de début de travail"]}),s?a.jsx(Xe,{id:"workStartTime",type:"time",value:l.workStartTime||"",onChange:g=>u({...l,workStartTime:g.target.value}),className:"max-w-md"}):a.jsx("p",{className:"text-gray-900 py-2 px-3 bg-gray-50 rounded-md max-w-md",children:t.workStartTime||"Non défini"})]}),a.jsxs("div",{className:"space-y-2",children:[a.jsxs(Ae,{htmlFor:"workEndTime",className:"flex items-center gap-2",children:[a.jsx(yn,{className:"w-4 h-4"}),"Heure de fin de travail"]}),s?a.jsx(Xe,{id:"workEndTime",type:"time",value:l.workEndTime||"",onChange:g=>u({...l,workEndTime:g.target.value}),className:"max-w-md"}):a.jsx("p",{className:"text-gray-900 py-2 px-3 bg-gray-50 rounded-md max-w-md",children:t.workEndTime||"Non défini"})]})]}),s&&a.jsxs("div",{className:"flex gap-3 pt-4 border-t",children:[a.jsxs(Te,{type:"submit",className:"gap-2",children:[a.jsx(cS,{className:"w-4 h-4"}),"Enregistrer"]}),a.jsxs(Te,{type:"button",variant:"outline",onClick:p,className:"gap-2",children:[a.jsx(ii,{className:"w-4 h-4"}),"Annuler"]})]})]})})]}),a.jsxs(tt,{className:"mt-6",children:[a.jsxs(zh,{children:[a.jsx(Fh,{children:"Informations du compte"}),a.jsx($h,{children:"Informations supplémentaires sur votre compte"})]}),a.jsx(ru,{children:a.jsxs("div",{className:"space-y-3 text-sm",children:[a.jsxs("div",{className:"flex justify-between py-2 border-b",children:[a.jsx("span",{className:"text-gray-500",children:"Statut du compte"}),a.jsx("span",{className:`font-semibold ${t.status==="ACTIVE"?"text-green-600":"text-red-600"}`,children:t.status})]}),a.jsxs("div",{className:"flex justify-between py-2",children:[a.jsx("span",{className:"text-gray-500",children:"Fin de la license"}),a.jsx("span",{className:"text-gray-900",children:t.endLicenseDate})]})]})})]})]})}function OT({...t}){return a.jsx(Xg,{"data-slot":"sheet",...t})}function _T({...t}){return a.jsx(Qg,{"data-slot":"sheet-portal",...t})}const nx=m.forwardRef(({className:t,...r},s)=>a.jsx(gd,{ref:s,"data-slot":"sheet-overlay",className:Ve("data-[state=open]:animate-in data-[state=closed]:animate-out data-[state=closed]:fade-out-0 data-[state=open]:fade-in-0 fixed inset-0 z-50 bg-black/50",t),...r}));nx.displayName=gd.displayName;function MT({className:t,children:r,side:s="right",...i}){return a.jsxs(_T,{children:[a.jsx(nx,{}),a.jsxs(Jg,{"data-slot":"sheet-content",className:Ve("bg-background data-[state=open]:animate-in data-[state=closed]:animate-out fixed z-50 flex flex-col gap-4 shadow-lg transition ease-in-out data-[state=closed]:duration-300 data-[state=open]:duration-500",s==="right"&&"data-[state=closed]:slide-out-to-right data-[state=open]:slide-in-from-right inset-y-0 right-0 h-full w-3/4 border-l sm:max-w-sm",s==="left"&&"data-[state=closed]:slide-out-to-left data-[state=open]:slide-in-from-left inset-y-0 left-0 h-full w-3/4 border-r sm:max-w-sm",s==="top"&&"data-[state=closed]:slide-out-to-top data-[state=open]:slide-in-from-top inset-x-0 top-0 h-auto border-b",s==="bottom"&&"data-[state=closed]:slide-out-to-bottom data-[state=open]:slide-in-from-bottom inset-x-0 bottom-0 h-auto border-t",t),...i,children:[r,a.jsxs(ev,{className:"ring-offset-background focus:ring-ring data-[state=open]:bg-secondary absolute top-4 right-4 rounded-xs opacity-70 transition-opacity hover:opacity-100 focus:ring-2 focus:ring-offset-2 focus:outline-hidden disabled:pointer-events-none",children:[a.jsx(ii,{className:"size-4"}),a.jsx("span",{className:"sr-only",children:"Close"})]})]})]})}function AT({className:t,...r}){return a.jsx(Zg,{"data-slot":"sheet-title",className:Ve("text-foreground font-semibold",t),...r})}function LT({user:t,onLogout:r,isMobileOpen:s,onMobileClose:i}){const l=or(),u=[{id:"dashboard",label:"Tableau de bord",icon:Gb,path:"/dashboard"},{id:"clients",label:"Clients",icon:wS,path:"/clients"},{id:"projects",label:"Projets",icon:yg,path:"/projects"},{id:"calendar",label:"Planning",icon:On,path:"/calendar"}],f=()=>{r?.(),i?.(),l("/login")},p=t?.status==="ACTIVE",g=a.jsxs("div",{className:"flex flex-col h-full",children:[a.jsxs("div",{className:"flex items-center gap-3 mb-10",children:[a.jsx("div",{className:"w-10 h-10 bg-green-600 rounded-lg flex items-center justify-center",children:a.jsx(ad,{className:"w-6 h-6 text-white"})}),a.jsxs("div",{children:[a.jsx("h1",{className:"text-green-800",children:"GestiJardin Pro"}),a.jsx("p",{className:"text-sm text-gray-500",children:"Gestion d'activité"})]})]}),a.jsxs("nav",{className:"space-y-2 flex-1",children:[p&&u.map(y=>{const x=y.icon;return a.jsxs(Eu,{to:y.path,onClick:()=>i?.(),className:({isActive:v})=>`w-full flex items-center gap-3 px-4 py-3 rounded-lg transition-colors ${v?"bg-green-50 text-green-700":"text-gray-600 hover:bg-gray-50"}`,children:[a.jsx(x,{className:"w-5 h-5"}),a.jsx("span",{children:y.label})]},y.id)}),!p&&a.jsxs("div",{className:"p-4 bg-yellow-50 border border-yellow-200 rounded-lg",children:[a.jsx("p",{className:"text-sm text-yellow-800 font-medium mb-1",children:"Compte en attente"}),a.jsx("p",{className:"text-xs text-yellow-700",children:"Votre compte n'est pas encore actif. Veuillez contacter l'administrateur."})]})]}),t&&a.jsxs("div",{className:"mt-auto pt-6 border-t border-gray-200 space-y-3",children:[a.jsxs(Eu,{to:"/profile",onClick:()=>i?.(),className:"flex items-center gap-3 px-4 py-3 bg-gray-50 rounded-lg hover:bg-gray-100 transition-colors cursor-pointer",children:[a.jsx("div",{className:"w-8 h-8 bg-green-600 rounded-full flex items-center justify-center",children:a.jsx($s,{className:"w-4 h-4 text-white"})}),a.jsxs("div",{className:"flex-1 min-w-0",children:[a.jsx("p",{className:"text-sm text-gray-900 truncate",children:t.name}),a.jsx("p",{className:"text-xs text-gray-500 truncate",children:t.company})]})]}),r&&a.jsxs(Te,{onClick:f,variant:"outline",className:"w-full text-red-600 hover:text-red-700 hover:bg-red-50 hover:border-red-300",children:[a.jsx(Xb,{className:"w-4 h-4 mr-2"}),"Se déconnecter"]})]})]});return a.jsxs(a.Fragment,{children:[a.jsx("aside",{className:"hidden lg:flex w-64 bg-white border-r border-gray-200 p-6 h-screen sticky top-0",children:g}),a.jsx(OT,{open:s,onOpenChange:i,children:a.jsxs(MT,{side:"left",className:"w-64 p-6","aria-describedby":void 0,children:[a.jsx(AT,{className:"sr-only",children:"Menu de navigation"}),g]})})]})}const zT={API_BASE_URL:"https://jardin.vps.ttelab.fr/api"},FT=()=>a.jsxs("svg",{className:"w-5 h-5",viewBox:"0 0 24 24",children:[a.jsx("path",{fill:"#4285F4",d:"M22.56 12.25c0-.78-.07-1.53-.2-2.25H12v4.26h5.92c-.26 1.37-1.04 2.53-2.21 3.31v2.77h3.57c2.08-1.92 3.28-4.74 3.28-8.09z"}),a.jsx("path",{fill:"#34A853",d:"M12 23c2.97 0 5.46-.98 7.28-2.66l-3.57-2.77c-.98.66-2.23 1.06-3.71 1.06-2.86 0-5.29-1.93-6.16-4.53H2.18v2.84C3.99 20.53 7.7 23 12 23z"}),a.jsx("path",{fill:"#FBBC05",d:"M5.84 14.09c-.22-.66-.35-1.36-.35-2.09s.13-1.43.35-2.09V7.07H2.18C1.43 8.55 1 10.22 1 12s.43 3.45 1.18 4.93l2.85-2.22.81-.62z"}),a.jsx("path",{fill:"#EA4335",d:"M12 5.38c1.62 0 3.06.56 4.21 1.64l3.15-3.15C17.45 2.09 14.97 1 12 1 7.7 1 3.99 3.47 2.18 7.07l3.66 2.84c.87-2.6 3.3-4.53 6.16-4.53z"})]});function $T({onLogin:t}){const[r,s]=m.useState(""),[i,l]=m.useState(""),[u,f]=m.useState(""),[p,g]=m.useState(!1),[y,x]=m.useState(!1),v=async C=>{if(C.preventDefault(),f(""),!r||!i){f("Veuillez saisir email et mot de passe");return}g(!0);try{const{token:E,user:S}=await fy.login(r,i);localStorage.setItem("currentUser",JSON.stringify(S)),t(S)}catch(E){f(E.message||"Email ou mot de passe incorrect")}finally{g(!1)}},N=()=>{const C=zT.API_BASE_URL.replace(/\/api$/,"");window.location.href=`${C}/oauth2/authorization/google`};return a.jsx("div",{className:"min-h-screen bg-gradient-to-br from-green-50 to-emerald-100 flex items-center justify-center p-4",children:a.jsxs(tt,{className:"w-full max-w-md p-8 shadow-xl",children:[a.jsxs("div",{className:"flex flex-col items-center mb-8",children:[a.jsx("div",{className:"w-16 h-16 bg-green-600 rounded-full flex items-center justify-center mb-4",children:a.jsx(ad,{className:"w-8 h-8 text-white"})}),a.jsx("h1",{className:"text-gray-900 text-center mb-2",children:"GestiJardin Pro"}),a.jsx("p",{className:"text-gray-600 text-center",children:"Gestion d'activité pour paysagistes"})]}),a.jsxs("form",{onSubmit:v,className:"space-y-4",children:[u&&a.jsxs("div",{className:"flex items-center gap-2 p-3 bg-red-50 border border-red-200 rounded-lg text-red-700 text-sm",children:[a.jsx(La,{className:"w-4 h-4 flex-shrink-0"}),a.jsx("span",{children:u})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"email",children:"Email"}),a.jsxs("div",{className:"relative",children:[a.jsx(Ka,{className:"absolute left-3 top-1/2 transform -translate-y-1/2 w-4 h-4 text-gray-400"}),a.jsx(Xe,{id:"email",type:"email",placeholder:"votre.email@exemple.fr",value:r,onChange:C=>s(C.target.value),className:"pl-10",required:!0})]})]}),a.jsxs("div",{children:[a.jsx(Ae,{htmlFor:"password",children:"Mot de passe"}),a.jsxs("div",{className:"relative",children:[a.jsx(Yb,{className:"absolute left-3 top-1/2 transform -translate-y-1/2 w-4 h-4 text-gray-400"}),a.jsx(Xe,{id:"password",type:y?"text":"password",placeholder:"••••••••",value:i,onChange:C=>l(C.target.value),className:"pl-10 pr-16",required:!0}),a.jsx("button",{type:"button",onClick:()=>x(C=>!C),className:"absolute right-3 top-1/2 -translate-y-1/2 text-xs text-gray-500 hover:text-gray-700",children:y?"Masquer":"Voir"})]})]}),a.jsx(Te,{type:"submit",className:"w-full bg-green-600 hover:bg-green-700",disabled:p,children:p?"Connexion...":"Se connecter"})]}),a.jsxs("div",{className:"mt-6",children:[a.jsxs("div",{className:"relative",children:[a.jsx("div",{className:"absolute inset-0 flex items-center",children:a.jsx("div",{className:"w-full border-t border-gray-300"})}),a.jsx("div",{className:"relative flex justify-center text-sm",children:a.jsx("span",{className:"px-2 bg-white text-gray-500",children:"Ou continuer avec"})})]}),a.jsxs(Te,{type:"button",onClick:N,variant:"outline",className:"w-full mt-4 border-gray-300 hover:bg-gray-50",children:[a.jsx(FT,{}),a.jsx("span",{className:"ml-2",children:"Connexion avec Google"})]})]}),a.jsx("div",{className:"mt-6 pt-6 border-t border-gray-200",children:a.jsx("p",{className:"text-xs text-gray-500 text-center",children:"Connexion sécurisée - utilise l'API réelle"})})]})})}function HT({onMenuClick:t,user:r}){return a.jsx("header",{className:"lg:hidden sticky top-0 z-40 w-full bg-white border-b border-gray-200 px-4 py-3",children:a.jsxs("div",{className:"flex items-center justify-between",children:[a.jsxs("div",{className:"flex items-center gap-3",children:[a.jsx("div",{className:"w-8 h-8 bg-green-600 rounded-lg flex items-center justify-center",children:a.jsx(ad,{className:"w-5 h-5 text-white"})}),a.jsxs("div",{children:[a.jsx("h1",{className:"text-green-800 text-sm",children:"GestiJardin Pro"}),r&&a.jsx("p",{className:"text-xs text-gray-500",children:r.company})]})]}),a.jsx(Te,{variant:"ghost",size:"icon",onClick:t,className:"text-gray-600",children:a.jsx(eS,{className:"w-6 h-6"})})]})})}var BT=(t,r,s,i,l,u,f,p)=>{let g=document.documentElement,y=["light","dark"];function x(C){(Array.isArray(t)?t:[t]).forEach(E=>{let S=E==="class",b=S&&u?l.map(j=>u[j]||j):l;S?(g.classList.remove(...b),g.classList.add(u&&u[C]?u[C]:C)):g.setAttribute(E,C)}),v(C)}function v(C){p&&y.includes(C)&&(g.style.colorScheme=C)}function N(){return window.matchMedia("(prefers-color-scheme: dark)").matches?"dark":"light"}if(i)x(i);else try{let C=localStorage.getItem(r)||s,E=f&&C==="system"?N():C;x(E)}catch{}},UT=m.createContext(void 0),VT={setTheme:t=>{},themes:[]},WT=()=>{var t;return(t=m.useContext(UT))!=null?t:VT};m.memo(({forcedTheme:t,storageKey:r,attribute:s,enableSystem:i,enableColorScheme:l,defaultTheme:u,value:f,themes:p,nonce:g,scriptProps:y})=>{let x=JSON.stringify([s,r,u,t,p,f,i,l]).slice(1,-1);return m.createElement("script",{...y,suppressHydrationWarning:!0,nonce:typeof window>"u"?g:"",dangerouslySetInnerHTML:{__html:`(${BT.toString()})(${x})`}})});const GT=({...t})=>{const{theme:r="system"}=WT();return a.jsx(PT,{theme:r,className:"toaster group",style:{"--normal-bg":"var(--popover)","--normal-text":"var(--popover-foreground)","--normal-border":"var(--border)"},...t})};function KT({children:t}){return localStorage.getItem("currentUser")?a.jsx(a.Fragment,{children:t}):a.jsx(Wa,{to:"/login",replace:!0})}function Go({children:t,user:r}){return r.status!=="ACTIVE"?a.jsx(Wa,{to:"/profile",replace:!0}):a.jsx(a.Fragment,{children:t})}function YT({user:t,onLogout:r,onUpdateUser:s}){const[i,l]=m.useState(!1),f=Fn().pathname.split("/")[1]||"dashboard";return a.jsxs("div",{className:"flex min-h-screen bg-gray-50",children:[a.jsx(LT,{currentPage:f,user:t,onLogout:r,isMobileOpen:i,onMobileClose:()=>l(!1)}),a.jsxs("div",{className:"flex-1 flex flex-col min-h-screen",children:[a.jsx(HT,{onMenuClick:()=>l(!0),user:t}),a.jsx("main",{className:"flex-1 p-4 lg:p-8",children:a.jsxs(Km,{children:[a.jsx(Dn,{path:"/",element:a.jsx(Wa,{to:t.status==="ACTIVE"?"/dashboard":"/profile",replace:!0})}),a.jsx(Dn,{path:"/dashboard",element:a.jsx(Go,{user:t,children:a.jsx(qT,{})})}),a.jsx(Dn,{path:"/clients",element:a.jsx(Go,{user:t,children:a.jsx(XT,{})})}),a.jsx(Dn,{path:"/clients/:clientId",element:a.jsx(Go,{user:t,children:a.jsx(QT,{})})}),a.jsx(Dn,{path:"/projects",element:a.jsx(Go,{user:t,children:a.jsx(UE,{})})}),a.jsx(Dn,{path:"/calendar",element:a.jsx(Go,{user:t,children:a.jsx(RT,{})})}),a.jsx(Dn,{path:"/profile",element:a.jsx(IT,{user:t,onUpdateUser:s})})]})})]}),a.jsx(GT,{})]})}function qT(){const t=or(),r=(s,i)=>{t(s==="client-detail"&&i?`/clients/${i}`:`/${s}`)};return a.jsx(yE,{onNavigate:r})}function XT(){const t=or();return a.jsx(xE,{onSelectClient:r=>t(`/clients/${r}`)})}function QT(){const{clientId:t}=_w(),r=or();return a.jsx(DT,{clientId:t,onBack:()=>r("/clients")})}function JT({onLogin:t}){const[r]=S1(),s=or(),[i,l]=m.useState(!1);m.useEffect(()=>{const f=r.get("token");f&&u(f)},[r]);const u=async f=>{l(!0);try{localStorage.setItem("authToken",f);const p=await fy.getCurrentUser();t(p);const g=p.status==="ACTIVE"?"/dashboard":"/profile";s(g,{replace:!0}),mn.success(`Bienvenue ${p.name} !`)}catch(p){console.error("Erreur lors de l'authentification OAuth:",p),mn.error("Erreur lors de la connexion avec Google"),localStorage.removeItem("authToken"),s("/login",{replace:!0})}finally{l(!1)}};return i?a.jsx("div",{className:"min-h-screen flex items-center justify-center bg-gray-50",children:a.jsxs("div",{className:"text-center",children:[a.jsx("div",{className:"animate-spin rounded-full h-12 w-12 border-b-2 border-green-600 mx-auto mb-4"}),a.jsx("p",{className:"text-gray-600",children:"Connexion en cours..."})]})}):a.jsx($T,{onLogin:t})}function ZT(){const[t,r]=m.useState(null),[s,i]=m.useState(!1);m.useEffect(()=>{const p=localStorage.getItem("currentUser");if(p)try{r(JSON.parse(p))}catch{localStorage.removeItem("currentUser")}},[]);const l=p=>{r(p),localStorage.setItem("currentUser",JSON.stringify(p))},u=()=>{r(null),localStorage.removeItem("currentUser")},f=p=>{r(p),localStorage.setItem("currentUser",JSON.stringify(p))};return a.jsx(y1,{children:a.jsxs(Km,{children:[a.jsx(Dn,{path:"/login",element:t?a.jsx(Wa,{to:t.status==="ACTIVE"?"/dashboard":"/profile",replace:!0}):a.jsx(JT,{onLogin:l})}),a.jsx(Dn,{path:"/*",element:a.jsx(KT,{children:t&&a.jsx(YT,{user:t,onLogout:u,onUpdateUser:f})})})]})})}sw.createRoot(document.getElementById("root")).render(a.jsx(ZT,{}));
@@ -0,0 +1,106 @@
+package fr.ttelab.orgaservice_back.config;
+
+import fr.ttelab.orgaservice_back.entity.User;
+import fr.ttelab.orgaservice_back.entity.UserStatus;
+import fr.ttelab.orgaservice_back.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Deux bases H2 distinctes : les transactions en lecture seule doivent lire la réplica, tout le reste le primaire.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:rw_primary;DB_CLOSE_DELAY=-1",
+    "app.datasource.replica.url=jdbc:h2:mem:rw_replica;DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void readOnlyTransactionsUseTheReplica() {
+    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+
+    assertEquals("RW_REPLICA", readOnly.execute(status -> currentDatabase()));
+    assertEquals("RW_REPLICA", readOnly.execute(status ->
+        entityManager.createNativeQuery("select database()").getSingleResult()));
+  }
+
+  @Test
+  void writesAndNonTransactionalQueriesUseThePrimary() {
+    TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+    assertEquals("RW_PRIMARY", readWrite.execute(status -> currentDatabase()));
+    assertEquals("RW_PRIMARY", currentDatabase());
+  }
+
+  @Test
+  void savedEntitiesLandOnThePrimaryOnly() throws SQLException {
+    User user = new User();
+    user.setUsername("replica-test@orga.local");
+    user.setEmail("replica-test@orga.local");
+    user.setPassword("x");
+    user.setStatus(UserStatus.ACTIVE);
+    userRepository.save(user);
+
+    assertEquals(1, countUsers("rw_primary", "replica-test@orga.local"));
+    // Le schéma n'est créé que sur le primaire (une vraie réplica le reçoit par réplication)
+    assertEquals(-1, countUsers("rw_replica", "replica-test@orga.local"));
+  }
+
+  @Test
+  void readOnlyThenWriteInSameThreadAreRoutedSeparately() {
+    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+    readOnly.setReadOnly(true);
+    TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+    assertEquals("RW_REPLICA", readOnly.execute(status -> currentDatabase()));
+    assertEquals("RW_PRIMARY", readWrite.execute(status -> currentDatabase()));
+    assertEquals("RW_REPLICA", readOnly.execute(status -> currentDatabase()));
+  }
+
+  private String currentDatabase() {
+    return jdbcTemplate.queryForObject("select database()", String.class);
+  }
+
+  // Nombre d'utilisateurs lus directement dans la base, -1 si la table n'y existe pas
+  private static long countUsers(String database, String username) throws SQLException {
+    try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:" + database, "sa", "");
+         Statement statement = connection.createStatement()) {
+      ResultSet tables = connection.getMetaData().getTables(null, null, "APP_USER", null);
+      if (!tables.next()) {
+        return -1;
+      }
+      try (ResultSet rs = statement.executeQuery("select count(*) from app_user where username = '" + username + "'")) {
+        rs.next();
+        return rs.getLong(1);
+      }
+    }
+  }
+}
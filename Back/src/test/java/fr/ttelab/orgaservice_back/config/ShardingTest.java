@@ -0,0 +1,200 @@
+package fr.ttelab.orgaservice_back.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fr.ttelab.orgaservice_back.entity.User;
+import fr.ttelab.orgaservice_back.entity.UserStatus;
+import fr.ttelab.orgaservice_back.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Trois bases H2 distinctes en shards : les données d'un tenant restent sur son shard, les requêtes admin
+ * couvrent tous les shards et le shard de la requête ne fuit pas sur le thread suivant.
+ */
+@SpringBootTest(properties = {
+    "app.sharding.enabled=true",
+    "app.sharding.urls=jdbc:h2:mem:sharding_t0;DB_CLOSE_DELAY=-1,jdbc:h2:mem:sharding_t1;DB_CLOSE_DELAY=-1,"
+        + "jdbc:h2:mem:sharding_t2;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ShardingTest {
+
+  private static final int SHARDS = 3;
+  private static final String PASSWORD = "sharding";
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private ShardRouter shardRouter;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  // Un utilisateur par shard, et un administrateur
+  private final String[] tenants = new String[SHARDS];
+  private String admin;
+
+  @BeforeEach
+  void createUsers() {
+    for (int shard = 0; shard < SHARDS; shard++) {
+      tenants[shard] = usernameOnShard("tenant", shard);
+      createUser(tenants[shard], UserStatus.ACTIVE);
+    }
+    admin = usernameOnShard("admin", 1);
+    createUser(admin, UserStatus.ADMIN);
+  }
+
+  @Test
+  void tenantRowsLandOnItsShardOnly() throws Exception {
+    for (int shard = 0; shard < SHARDS; shard++) {
+      String token = login(tenants[shard]);
+      mockMvc.perform(post("/api/clients")
+              .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+              .contentType(MediaType.APPLICATION_JSON)
+              .content("{\"name\":\"Client " + shard + "\",\"type\":\"particulier\"}"))
+          .andExpect(status().is2xxSuccessful());
+
+      for (int other = 0; other < SHARDS; other++) {
+        long expected = other == shard ? 1 : 0;
+        assertEquals(expected, count(other, "select count(*) from app_user where username = ?", tenants[shard]));
+        assertEquals(expected, count(other, "select count(*) from client c join app_user u on u.id = c.owner_id "
+            + "where u.username = ?", tenants[shard]));
+      }
+
+      JsonNode clients = objectMapper.readTree(mockMvc.perform(get("/api/clients")
+              .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+          .andExpect(status().isOk())
+          .andReturn().getResponse().getContentAsString());
+      assertEquals(1, clients.size());
+      assertEquals("Client " + shard, clients.get(0).get("name").asText());
+    }
+  }
+
+  @Test
+  void adminStatsAndUserListCoverAllShards() throws Exception {
+    String token = login(admin);
+
+    long totalUsers = 0;
+    for (int shard = 0; shard < SHARDS; shard++) {
+      totalUsers += count(shard, "select count(*) from app_user");
+    }
+    JsonNode stats = objectMapper.readTree(mockMvc.perform(get("/api/admin/stats")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString());
+    assertEquals(totalUsers, stats.get("totalUsers").asLong());
+
+    JsonNode users = objectMapper.readTree(mockMvc.perform(get("/api/admin/users")
+            .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString());
+    assertEquals(totalUsers, users.size());
+    Set<String> usernames = new HashSet<>();
+    users.forEach(user -> usernames.add(user.get("username").asText()));
+    for (String tenant : tenants) {
+      assertTrue(usernames.contains(tenant), tenant);
+    }
+  }
+
+  @Test
+  void shardContextIsClearedAfterEachRequest() throws Exception {
+    String token = login(tenants[2]);
+    assertNull(ShardContext.current());
+
+    mockMvc.perform(get("/api/clients").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+        .andExpect(status().isOk());
+    assertNull(ShardContext.current());
+
+    // Shard positionné par le chargement de l'utilisateur, puis requête rejetée par la sécurité
+    mockMvc.perform(post("/api/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"email\":\"" + tenants[1] + "\",\"password\":\"wrong\"}"))
+        .andExpect(status().is4xxClientError());
+    assertNull(ShardContext.current());
+
+    mockMvc.perform(get("/api/admin/stats").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+        .andExpect(status().isForbidden());
+    assertNull(ShardContext.current());
+  }
+
+  private String usernameOnShard(String prefix, int shard) {
+    for (int i = 0; ; i++) {
+      String username = prefix + "-" + System.nanoTime() + "-" + i + "@orga.local";
+      if (shardRouter.shardFor(username) == shard) {
+        return username;
+      }
+    }
+  }
+
+  private void createUser(String username, UserStatus status) {
+    User user = new User();
+    user.setUsername(username);
+    user.setEmail(username);
+    user.setFirstName("Test");
+    user.setLastName("Sharding");
+    user.setPassword(passwordEncoder.encode(PASSWORD));
+    user.setStatus(status);
+    user.setEndLicenseDate(LocalDate.now().plusMonths(1));
+    shardRouter.bindFor(username);
+    try {
+      userRepository.save(user);
+    } finally {
+      ShardContext.clear();
+    }
+  }
+
+  private String login(String username) throws Exception {
+    String response = mockMvc.perform(post("/api/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"email\":\"" + username + "\",\"password\":\"" + PASSWORD + "\"}"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    return objectMapper.readTree(response).get("token").asText();
+  }
+
+  private static long count(int shard, String sql, Object... args) throws SQLException {
+    try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:sharding_t" + shard, "sa", "");
+         PreparedStatement statement = connection.prepareStatement(sql)) {
+      for (int i = 0; i < args.length; i++) {
+        statement.setObject(i + 1, args[i]);
+      }
+      try (ResultSet rs = statement.executeQuery()) {
+        rs.next();
+        return rs.getLong(1);
+      }
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package fr.ttelab.orgaservice_back.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TenantRateLimiterTest {
+
+  private static final int BURST = 5;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void noisyTenantDoesNotThrottleOthers() {
+    TenantRateLimiter limiter = limiter(100_000, 16);
+    UUID noisy = UUID.randomUUID();
+    exhaust(limiter, noisy);
+    assertTrue(limiter.tryAcquire(noisy, TenantRateLimiter.Budget.LIGHT) > 0);
+
+    // Avec des seaux partagés par hash, quelques-uns de ces tenants tomberaient sur le seau du bruyant
+    for (int i = 0; i < 5000; i++) {
+      assertEquals(0, limiter.tryAcquire(UUID.randomUUID(), TenantRateLimiter.Budget.LIGHT));
+    }
+  }
+
+  @Test
+  void budgetsAreSeparatePerKind() {
+    TenantRateLimiter limiter = limiter(100, 16);
+    UUID tenant = UUID.randomUUID();
+    exhaust(limiter, tenant);
+    assertEquals(0, limiter.tryAcquire(tenant, TenantRateLimiter.Budget.HEAVY));
+  }
+
+  @Test
+  void idleTenantsAreEvictedWhenFull() {
+    TenantRateLimiter limiter = limiter(10, 16);
+    for (int i = 0; i < 10; i++) {
+      limiter.tryAcquire(UUID.randomUUID(), TenantRateLimiter.Budget.LIGHT);
+    }
+    assertEquals(10, limiter.trackedTenants());
+
+    // Les seaux à un jeton consommé sur 5 ne sont pas pleins : on attend leur recharge (1 jeton / 10 ms)
+    sleep(50);
+    UUID newcomer = UUID.randomUUID();
+    assertEquals(0, limiter.tryAcquire(newcomer, TenantRateLimiter.Budget.LIGHT));
+    assertEquals(1, limiter.trackedTenants());
+    assertEquals(0, meterRegistry.get("api.ratelimit.overflow").counter().count());
+  }
+
+  @Test
+  void activeTenantsBeyondCapacityOverflowToSharedBuckets() {
+    TenantRateLimiter limiter = limiter(3, 1, 60);
+    List<UUID> active = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      UUID tenant = UUID.randomUUID();
+      exhaust(limiter, tenant);
+      active.add(tenant);
+    }
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    exhaust(limiter, first);
+    assertTrue(limiter.tryAcquire(second, TenantRateLimiter.Budget.LIGHT) > 0, "un seul seau de débordement partagé");
+    assertEquals(3, limiter.trackedTenants());
+    assertTrue(meterRegistry.get("api.ratelimit.overflow").counter().count() > 0);
+    assertTrue(limiter.tryAcquire(active.get(0), TenantRateLimiter.Budget.LIGHT) > 0);
+  }
+
+  // 6000 jetons/min : un jeton toutes les 10 ms
+  private TenantRateLimiter limiter(int maxTrackedTenants, int overflowStripes) {
+    return limiter(maxTrackedTenants, overflowStripes, 6000);
+  }
+
+  private TenantRateLimiter limiter(int maxTrackedTenants, int overflowStripes, double perMinute) {
+    return new TenantRateLimiter(meterRegistry, maxTrackedTenants, overflowStripes, BURST, perMinute, BURST,
+        perMinute, List.of("POST /api/projects"));
+  }
+
+  private static void exhaust(TenantRateLimiter limiter, UUID tenant) {
+    for (int i = 0; i < BURST; i++) {
+      limiter.tryAcquire(tenant, TenantRateLimiter.Budget.LIGHT);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package fr.ttelab.orgaservice_back.security;
+
+import fr.ttelab.orgaservice_back.entity.UserStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenVersionRegistryTest {
+
+  private static final String USERNAME = "client@orga.local";
+  private static final long TRUST_MS = 60_000;
+
+  private final TokenVersionRegistry registry = new TokenVersionRegistry(TRUST_MS, 100);
+
+  @Test
+  void recentTokenIsTrustedFromClaims() {
+    assertTrue(registry.isCurrent(token(UserStatus.ACTIVE, 0)));
+  }
+
+  @Test
+  void revokedTokenIsNotTrusted() {
+    VerifiedJwt jwt = token(UserStatus.ACTIVE, 0);
+    registry.revoke(USERNAME.toUpperCase());
+    assertFalse(registry.isCurrent(jwt));
+  }
+
+  @Test
+  void oldTokenNeedsDatabaseConfirmation() {
+    // Révocation faite sur une autre instance : la version reste courante ici, le statut en base a changé
+    VerifiedJwt jwt = token(UserStatus.ACTIVE, TRUST_MS + 1000);
+    assertFalse(registry.isCurrent(jwt));
+
+    registry.confirm(jwt, UserStatus.INACTIVE);
+    assertFalse(registry.isCurrent(jwt));
+
+    registry.confirm(jwt, UserStatus.ACTIVE);
+    assertTrue(registry.isCurrent(jwt));
+  }
+
+  @Test
+  void confirmationExpires() throws InterruptedException {
+    TokenVersionRegistry shortTrust = new TokenVersionRegistry(50, 100);
+    VerifiedJwt jwt = token(shortTrust, UserStatus.ACTIVE, 1000);
+    shortTrust.confirm(jwt, UserStatus.ACTIVE);
+    assertTrue(shortTrust.isCurrent(jwt));
+
+    Thread.sleep(100);
+    assertFalse(shortTrust.isCurrent(jwt));
+  }
+
+  @Test
+  void revokeDropsConfirmation() {
+    VerifiedJwt jwt = token(UserStatus.ACTIVE, TRUST_MS + 1000);
+    registry.confirm(jwt, UserStatus.ACTIVE);
+    registry.revoke(USERNAME);
+
+    // Nouveau token émis après la révocation, mais ancien : la confirmation précédente ne compte plus
+    VerifiedJwt reissued = token(UserStatus.ACTIVE, TRUST_MS + 1000);
+    assertFalse(registry.isCurrent(reissued));
+  }
+
+  private VerifiedJwt token(UserStatus status, long ageMs) {
+    return token(registry, status, ageMs);
+  }
+
+  private static VerifiedJwt token(TokenVersionRegistry registry, UserStatus status, long ageMs) {
+    long now = System.currentTimeMillis();
+    return new VerifiedJwt(USERNAME, UUID.randomUUID(), status, registry.currentVersion(USERNAME),
+        new Date(now - ageMs), new Date(now + 3_600_000), null);
+  }
+}
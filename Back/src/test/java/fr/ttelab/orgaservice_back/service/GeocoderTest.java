@@ -0,0 +1,61 @@
+package fr.ttelab.orgaservice_back.service;
+
+import fr.ttelab.orgaservice_back.entity.GeoPrecision;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GeocoderTest {
+
+  // En-tête et lignes au format de la base des codes postaux publiée sur data.gouv.fr
+  private static final String POSTAL_BASE = """
+      code_commune_INSEE,nom_commune_postal,code_postal,libelle_acheminement,ligne_5,latitude,longitude,code_commune,article,nom_commune,nom_commune_complet,code_departement,nom_departement,code_region,nom_region
+      64445,PAU,64000,PAU,,43.3200189773,-0.350337918181,445,,Pau,Pau,64,Pyrénées-Atlantiques,75,Nouvelle-Aquitaine
+      64348,LESCAR,64230,LESCAR,,43.3422535003,-0.434739143224,348,,Lescar,Lescar,64,Pyrénées-Atlantiques,75,Nouvelle-Aquitaine
+      64422,POEY DE LESCAR,64230,POEY DE LESCAR,,43.3525389476,-0.465640962138,422,,Poey-de-Lescar,Poey-de-Lescar,64,Pyrénées-Atlantiques,75,Nouvelle-Aquitaine
+      """;
+
+  @TempDir
+  private Path dir;
+
+  @Test
+  void readsTheOfficialPostalBaseFormat() throws IOException {
+    Geocoder geocoder = geocoder(List.of(file("codes-postaux.csv", POSTAL_BASE), "classpath:geo/communes-fr.csv"));
+
+    Geocoder.Location lescar = geocoder.geocode("64230", "Lescar");
+    assertEquals(GeoPrecision.commune, lescar.precision());
+    assertEquals(43.342, lescar.latitude(), 0.001);
+    assertEquals(GeoPrecision.commune, geocoder.geocode("64230", "Poey-de-Lescar").precision());
+    assertEquals(GeoPrecision.code_postal, geocoder.geocode("64230", "Lieu-dit inconnu").precision());
+    assertEquals(GeoPrecision.departement, geocoder.geocode("64999", "").precision());
+    assertNull(geocoder.geocode("99999", "Nulle part"));
+  }
+
+  @Test
+  void fallsBackToTheNextExistingFile() throws IOException {
+    Geocoder geocoder = geocoder(List.of("file:" + dir.resolve("absent.csv"), "classpath:geo/communes-fr.csv"));
+
+    assertEquals(GeoPrecision.commune, geocoder.geocode("64000", "Pau").precision());
+    // Commune absente de l'échantillon : seulement le département
+    assertEquals(GeoPrecision.departement, geocoder.geocode("64230", "Lescar").precision());
+  }
+
+  private String file(String name, String content) throws IOException {
+    Path path = dir.resolve(name);
+    Files.writeString(path, content, StandardCharsets.UTF_8);
+    return "file:" + path;
+  }
+
+  private static Geocoder geocoder(List<String> files) {
+    return new Geocoder(new DefaultResourceLoader(), files);
+  }
+}
@@ -0,0 +1,186 @@
+package fr.ttelab.orgaservice_back.service;
+
+import com.stripe.exception.ApiConnectionException;
+import com.stripe.exception.InvalidRequestException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StripeGatewayTest {
+
+  private static final int THRESHOLD = 3;
+  private static final long OPEN_MS = 100;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final StripeGateway gateway = new StripeGateway(meterRegistry, 4, 4, 2000, THRESHOLD, OPEN_MS);
+  private final AtomicInteger invocations = new AtomicInteger();
+
+  @AfterEach
+  void shutdown() {
+    gateway.shutdown();
+  }
+
+  @Test
+  void opensAfterConsecutiveFailuresAndShortCircuits() {
+    for (int i = 0; i < THRESHOLD; i++) {
+      assertThrows(StripeGateway.StripeUnavailableException.class, this::fail);
+    }
+    assertTrue(gateway.isOpen());
+
+    assertThrows(StripeGateway.StripeUnavailableException.class, this::succeed);
+    assertEquals(THRESHOLD, invocations.get(), "un circuit ouvert n'appelle pas Stripe");
+    assertEquals(1, count("short_circuited"));
+  }
+
+  @Test
+  void clientErrorsDoNotOpenTheCircuit() {
+    for (int i = 0; i < THRESHOLD * 2; i++) {
+      assertThrows(InvalidRequestException.class, () -> gateway.execute("test", () -> {
+        throw new InvalidRequestException("bad", "param", null, null, 400, null);
+      }));
+    }
+    assertFalse(gateway.isOpen());
+  }
+
+  @Test
+  void successfulTrialClosesTheCircuit() throws Exception {
+    open();
+    Thread.sleep(OPEN_MS + 20);
+
+    assertEquals("ok", succeed());
+    assertFalse(gateway.isOpen());
+    assertEquals("ok", succeed());
+  }
+
+  @Test
+  void failedTrialReopensTheCircuit() throws Exception {
+    open();
+    Thread.sleep(OPEN_MS + 20);
+
+    assertThrows(StripeGateway.StripeUnavailableException.class, this::fail);
+    assertTrue(gateway.isOpen(), "un seul échec en demi-ouvert rouvre le circuit");
+    int calls = invocations.get();
+    assertThrows(StripeGateway.StripeUnavailableException.class, this::succeed);
+    assertEquals(calls, invocations.get());
+
+    Thread.sleep(OPEN_MS + 20);
+    assertEquals("ok", succeed());
+  }
+
+  @Test
+  void onlyOneTrialAtATime() throws Exception {
+    open();
+    Thread.sleep(OPEN_MS + 20);
+
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread trial = Thread.ofVirtual().start(() -> {
+      try {
+        gateway.execute("trial", () -> {
+          started.countDown();
+          await(release);
+          return "ok";
+        });
+      } catch (Exception ignored) {
+      }
+    });
+    assertTrue(started.await(2, TimeUnit.SECONDS));
+
+    assertThrows(StripeGateway.StripeUnavailableException.class, this::succeed);
+    release.countDown();
+    trial.join(2000);
+    assertEquals("ok", succeed());
+  }
+
+  @Test
+  void interruptedTrialReleasesTheHalfOpenSlot() throws Exception {
+    open();
+    Thread.sleep(OPEN_MS + 20);
+
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicReference<Throwable> thrown = new AtomicReference<>();
+    Thread trial = Thread.ofVirtual().start(() -> {
+      try {
+        gateway.execute("trial", () -> {
+          started.countDown();
+          await(new CountDownLatch(1));
+          return "ok";
+        });
+      } catch (Exception e) {
+        thrown.set(e);
+      }
+    });
+    assertTrue(started.await(2, TimeUnit.SECONDS));
+    trial.interrupt();
+    trial.join(2000);
+
+    assertInstanceOf(StripeGateway.StripeUnavailableException.class, thrown.get());
+    assertEquals("ok", succeed(), "l'essai interrompu ne bloque pas les appels suivants");
+    assertFalse(gateway.isOpen());
+  }
+
+  @Test
+  void rejectedTrialReleasesTheHalfOpenSlot() throws Exception {
+    StripeGateway saturated = new StripeGateway(meterRegistry, 1, 1, 2000, 1, OPEN_MS);
+    try {
+      assertThrows(StripeGateway.StripeUnavailableException.class, () -> saturated.execute("fail", () -> {
+        throw new ApiConnectionException("down");
+      }));
+      Thread.sleep(OPEN_MS + 20);
+      saturated.shutdown();
+      // Pool arrêté : l'essai est rejeté avant d'appeler Stripe
+      assertThrows(StripeGateway.StripeUnavailableException.class, () -> saturated.execute("trial", () -> "ok"));
+      assertEquals(0, meterRegistry.find("stripe.calls").tag("operation", "trial")
+          .tag("outcome", "short_circuited").timers().size());
+      assertThrows(StripeGateway.StripeUnavailableException.class, () -> saturated.execute("trial", () -> "ok"));
+      assertEquals(2, meterRegistry.get("stripe.calls").tag("operation", "trial").tag("outcome", "rejected")
+          .timer().count(), "l'essai rejeté libère la place : le suivant est de nouveau tenté");
+    } finally {
+      saturated.shutdown();
+    }
+  }
+
+  private void open() {
+    for (int i = 0; i < THRESHOLD; i++) {
+      assertThrows(StripeGateway.StripeUnavailableException.class, this::fail);
+    }
+    assertTrue(gateway.isOpen());
+  }
+
+  private String succeed() throws Exception {
+    return gateway.execute("test", () -> {
+      invocations.incrementAndGet();
+      return "ok";
+    });
+  }
+
+  private String fail() throws Exception {
+    return gateway.execute("test", () -> {
+      invocations.incrementAndGet();
+      throw new ApiConnectionException("Stripe unreachable");
+    });
+  }
+
+  private long count(String outcome) {
+    return meterRegistry.get("stripe.calls").tag("outcome", outcome).timer().count();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package fr.ttelab.orgaservice_back.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvReaderTest {
+
+  @Test
+  void readsQuotedFieldsContainingTheDelimiter() throws IOException {
+    assertEquals(List.of(List.of("nom", "adresse"), List.of("Dupont", "12, rue des Lilas")),
+        readAll("nom,adresse\nDupont,\"12, rue des Lilas\"\n"));
+  }
+
+  @Test
+  void unescapesDoubledQuotes() throws IOException {
+    assertEquals(List.of(List.of("a", "b"), List.of("dit \"le Grand\"", "\"")),
+        readAll("a,b\n\"dit \"\"le Grand\"\"\",\"\"\"\"\n"));
+  }
+
+  @Test
+  void keepsNewlinesInsideQuotesAndTracksRecordLines() throws IOException {
+    try (CsvReader csv = new CsvReader(new StringReader("nom,notes\nA,\"ligne 1\nligne 2\"\nB,x\n"))) {
+      assertEquals(List.of("nom", "notes"), csv.next());
+      assertEquals(1, csv.recordLine());
+      assertEquals(List.of("A", "ligne 1\nligne 2"), csv.next());
+      assertEquals(2, csv.recordLine());
+      assertEquals(List.of("B", "x"), csv.next());
+      assertEquals(4, csv.recordLine());
+      assertNull(csv.next());
+    }
+  }
+
+  @Test
+  void detectsSemicolonDelimiter() throws IOException {
+    try (CsvReader csv = new CsvReader(new StringReader("nom;ville;code\n\"Martin, fils\";Lyon;69001\n"))) {
+      assertEquals(';', csv.delimiter());
+      assertEquals(List.of("nom", "ville", "code"), csv.next());
+      assertEquals(List.of("Martin, fils", "Lyon", "69001"), csv.next());
+    }
+  }
+
+  @Test
+  void ignoresDelimitersInsideQuotedHeaderWhenDetecting() throws IOException {
+    try (CsvReader csv = new CsvReader(new StringReader("\"a;b;c\",d\n1,2\n"))) {
+      assertEquals(',', csv.delimiter());
+      assertEquals(List.of("a;b;c", "d"), csv.next());
+    }
+  }
+
+  @Test
+  void skipsUtf8Bom() throws IOException {
+    try (CsvReader csv = new CsvReader(new StringReader("﻿nom;email\nA;a@x.fr\n"))) {
+      assertEquals(';', csv.delimiter());
+      assertEquals(List.of("nom", "email"), csv.next());
+    }
+  }
+
+  @Test
+  void handlesCrlfBlankLinesAndMissingFinalNewline() throws IOException {
+    assertEquals(List.of(List.of("a", "b"), List.of("1", ""), List.of("", "2")),
+        readAll("a,b\r\n\r\n1,\r\n\n,2"));
+  }
+
+  @Test
+  void returnsNullOnEmptyInput() throws IOException {
+    try (CsvReader csv = new CsvReader(new StringReader(""))) {
+      assertNull(csv.next());
+    }
+  }
+
+  @Test
+  void rejectsUnclosedQuoteAtRecordLine() throws IOException {
+    String content = "nom,notes\nA,x\nB,\"jamais fermé\n" + "suite\n".repeat(100);
+    try (CsvReader csv = new CsvReader(new StringReader(content), 64)) {
+      csv.next();
+      assertEquals(List.of("A", "x"), csv.next());
+      CsvReader.MalformedCsvException e = assertThrows(CsvReader.MalformedCsvException.class, csv::next);
+      assertEquals(3, e.line());
+      assertEquals(3, csv.recordLine());
+    }
+  }
+
+  @Test
+  void boundsRecordLengthButNotBlankLines() throws IOException {
+    assertEquals(List.of(List.of("a", "b"), List.of("1234", "5")), readAll("a,b\n\n\n\n1234,5\n", 7));
+    assertThrows(CsvReader.MalformedCsvException.class, () -> readAll("a,b\n1234,56\n", 7));
+    assertThrows(CsvReader.MalformedCsvException.class, () -> readAll("a,b\n" + ",".repeat(100) + "\n", 64));
+  }
+
+  private static List<List<String>> readAll(String content) throws IOException {
+    return readAll(content, CsvReader.DEFAULT_MAX_RECORD_LENGTH);
+  }
+
+  private static List<List<String>> readAll(String content, int maxRecordLength) throws IOException {
+    List<List<String>> records = new ArrayList<>();
+    try (CsvReader csv = new CsvReader(new StringReader(content), maxRecordLength)) {
+      List<String> record;
+      while ((record = csv.next()) != null) {
+        records.add(record);
+      }
+    }
+    return records;
+  }
+}
@@ -0,0 +1,123 @@
+package fr.ttelab.orgaservice_back.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoHashTest {
+
+  private static final double EARTH_RADIUS_KM = 6371.0088;
+
+  @Test
+  void encodesKnownGeohash() {
+    assertEquals("u09tvw0f6", GeoHash.encode(48.8566, 2.3522, 9));
+    assertEquals("ezs42", GeoHash.encode(42.605, -5.603, 5));
+  }
+
+  @Test
+  void precisionForRadiusGetsCoarserAsRadiusGrows() {
+    int previous = 12;
+    for (double radiusKm : new double[]{0.01, 0.5, 2, 10, 50, 200, 1000}) {
+      int precision = GeoHash.precisionForRadius(radiusKm, 45);
+      assertTrue(precision <= previous, "rayon " + radiusKm);
+      previous = precision;
+    }
+    assertEquals(0, GeoHash.precisionForRadius(5000, 45));
+  }
+
+  @Test
+  void precisionForRadiusCellsAreAtLeastTheRadius() {
+    for (double latitude : new double[]{0, 45, -60, 75, 85}) {
+      for (double radiusKm : new double[]{0.1, 1, 10, 50, 100}) {
+        int precision = GeoHash.precisionForRadius(radiusKm, latitude);
+        if (precision == 0) {
+          continue;
+        }
+        double farthest = Math.abs(latitude) + Math.toDegrees(radiusKm / EARTH_RADIUS_KM);
+        double kmPerDegree = Math.toRadians(EARTH_RADIUS_KM);
+        assertTrue(GeoHash.cellHeightDegrees(precision) * kmPerDegree >= radiusKm);
+        assertTrue(GeoHash.cellWidthDegrees(precision) * kmPerDegree * Math.cos(Math.toRadians(farthest)) >= radiusKm,
+            "latitude " + latitude + ", rayon " + radiusKm);
+      }
+    }
+  }
+
+  @Test
+  void precisionForRadiusDisablesPrefixFilterWhenCircleReachesPole() {
+    assertEquals(0, GeoHash.precisionForRadius(20, 89.95));
+    assertEquals(0, GeoHash.precisionForRadius(20, -89.95));
+  }
+
+  @Test
+  void coversCircleInMetropolitanFrance() {
+    assertCovers(48.8566, 2.3522, 10);
+    assertCovers(43.2965, 5.3698, 1);
+    assertCovers(45.764, 4.8357, 80);
+  }
+
+  @Test
+  void coversCircleAcrossTheAntimeridian() {
+    assertCovers(-17.7, 179.95, 10);
+    assertCovers(-17.7, -179.95, 10);
+    assertCovers(65.0, 179.99, 40);
+  }
+
+  @Test
+  void coversCircleAtHighLatitudes() {
+    assertCovers(78.22, 15.65, 10);
+    assertCovers(-77.85, 166.67, 50);
+    assertCovers(84.0, -40.0, 30);
+  }
+
+  @Test
+  void neighboursWrapAroundTheAntimeridian() {
+    Set<String> cells = GeoHash.cellAndNeighbours(0.1, 179.99, 3);
+    assertTrue(cells.contains(GeoHash.encode(0.1, -179.99, 3)));
+    assertEquals(9, cells.size());
+  }
+
+  @Test
+  void neighboursStopAtThePoles() {
+    Set<String> cells = GeoHash.cellAndNeighbours(89.99, 10, 4);
+    assertEquals(6, cells.size());
+    assertTrue(cells.contains(GeoHash.encode(89.99, 10, 4)));
+  }
+
+  @Test
+  void computesHaversineDistance() {
+    assertEquals(392, GeoHash.distanceKm(48.8566, 2.3522, 45.764, 4.8357), 1);
+    assertEquals(2.2, GeoHash.distanceKm(0, 179.99, 0, -179.99), 0.1);
+  }
+
+  /**
+   * Les points du cercle (et de l'intérieur) tombent dans la cellule du centre ou une de ses voisines.
+   */
+  private static void assertCovers(double latitude, double longitude, double radiusKm) {
+    int precision = GeoHash.precisionForRadius(radiusKm, latitude);
+    assertTrue(precision > 0, "filtre par préfixe attendu");
+    Set<String> cells = GeoHash.cellAndNeighbours(latitude, longitude, precision);
+    for (double fraction : new double[]{0.25, 0.5, 0.999}) {
+      for (int bearing = 0; bearing < 360; bearing += 5) {
+        double[] point = destination(latitude, longitude, radiusKm * fraction, bearing);
+        String hash = GeoHash.encode(point[0], point[1], precision);
+        assertTrue(cells.contains(hash), "point " + point[0] + ", " + point[1] + " hors des cellules " + cells);
+      }
+    }
+  }
+
+  private static double[] destination(double latitude, double longitude, double distanceKm, double bearingDegrees) {
+    double angular = distanceKm / EARTH_RADIUS_KM;
+    double bearing = Math.toRadians(bearingDegrees);
+    double lat1 = Math.toRadians(latitude);
+    double lon1 = Math.toRadians(longitude);
+    double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular)
+        + Math.cos(lat1) * Math.sin(angular) * Math.cos(bearing));
+    double lon2 = lon1 + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(lat1),
+        Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+    double lon = (Math.toDegrees(lon2) + 540) % 360 - 180;
+    return new double[]{Math.toDegrees(lat2), lon};
+  }
+}
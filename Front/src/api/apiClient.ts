@@ -38,6 +38,9 @@ export interface Address {
   acces: string | null;
   order: number;
   hasKey: boolean;
+  latitude?: number | null;
+  longitude?: number | null;
+  geoPrecision?: 'commune' | 'code_postal' | 'departement' | 'inconnue' | null;
 }
 
 export interface Client {
@@ -51,6 +54,32 @@ export interface Client {
   createdAt: string;
 }
 
+export interface ClientImportReport {
+  rows: number;
+  imported: number;
+  rejected: number;
+  errors: { row: number; line: number; field: string | null; message: string }[];
+  errorsTruncated: boolean;
+}
+
+export type ClientSort = 'name' | 'createdAt' | 'city';
+
+export interface ClientSuggestion {
+  id: string;
+  name: string;
+  street: string | null;
+  postalCode: string | null;
+  city: string | null;
+  matchedOn: 'name' | 'city';
+}
+
+export interface NearbyClient {
+  client: Client;
+  addressId: string;
+  distanceKm: number;
+  geoPrecision: 'commune' | 'code_postal';
+}
+
 // =====================
 // Nouveau modèle Projet / Chantier (aligné backend actuel)
 // =====================
@@ -358,6 +387,97 @@ export const clientsAPI = {
     return handleResponse<Client[]>(response);
   },
 
+  /**
+   * Page de clients triée côté serveur (total dans l'en-tête X-Total-Count)
+   */
+  getPage: async (params: {
+    search?: string;
+    sort?: ClientSort;
+    direction?: 'asc' | 'desc';
+    page: number;
+    size: number;
+  }): Promise<{ items: Client[]; total: number }> => {
+    const url = new URL(`${API_BASE_URL}/clients`);
+    if (params.search) url.searchParams.append('search', params.search);
+    if (params.sort) url.searchParams.append('sort', params.sort);
+    if (params.direction) url.searchParams.append('direction', params.direction);
+    url.searchParams.append('page', String(params.page));
+    url.searchParams.append('size', String(params.size));
+
+    const response = await fetch(url.toString(), {
+      headers: getHeaders(),
+    });
+
+    const items = await handleResponse<Client[]>(response);
+    const total = parseInt(response.headers.get('X-Total-Count') || '', 10);
+    return { items, total: isNaN(total) ? items.length : total };
+  },
+
+  /**
+   * Importer des clients depuis un fichier CSV (une ligne par client)
+   */
+  importCsv: async (file: File): Promise<ClientImportReport> => {
+    const formData = new FormData();
+    formData.append('file', file);
+    const token = getAuthToken();
+
+    // Pas de Content-Type : le navigateur ajoute la boundary multipart
+    const response = await fetch(`${API_BASE_URL}/clients/import`, {
+      method: 'POST',
+      headers: token ? { Authorization: `Bearer ${token}` } : {},
+      body: formData,
+    });
+
+    return handleResponse<ClientImportReport>(response);
+  },
+
+  /**
+   * Autocomplétion : premiers clients dont le nom ou la ville commence par le préfixe
+   */
+  suggest: async (prefix: string, limit = 10): Promise<ClientSuggestion[]> => {
+    const url = new URL(`${API_BASE_URL}/clients/suggest`);
+    url.searchParams.append('prefix', prefix);
+    url.searchParams.append('limit', String(limit));
+
+    const response = await fetch(url.toString(), {
+      headers: getHeaders(),
+    });
+
+    return handleResponse<ClientSuggestion[]>(response);
+  },
+
+  /**
+   * Clients à moins de radiusKm km d'un point, du plus proche au plus éloigné
+   */
+  near: async (lat: number, lon: number, radiusKm = 10, limit = 50): Promise<NearbyClient[]> => {
+    const url = new URL(`${API_BASE_URL}/clients/near`);
+    url.searchParams.append('lat', String(lat));
+    url.searchParams.append('lon', String(lon));
+    url.searchParams.append('radiusKm', String(radiusKm));
+    url.searchParams.append('limit', String(limit));
+
+    const response = await fetch(url.toString(), {
+      headers: getHeaders(),
+    });
+
+    return handleResponse<NearbyClient[]>(response);
+  },
+
+  /**
+   * Clients proches d'un client donné (lui exclu)
+   */
+  nearClient: async (id: string, radiusKm = 10, limit = 50): Promise<NearbyClient[]> => {
+    const url = new URL(`${API_BASE_URL}/clients/${id}/near`);
+    url.searchParams.append('radiusKm', String(radiusKm));
+    url.searchParams.append('limit', String(limit));
+
+    const response = await fetch(url.toString(), {
+      headers: getHeaders(),
+    });
+
+    return handleResponse<NearbyClient[]>(response);
+  },
+
   /**
    * Récupérer un client par ID
    */
@@ -783,6 +903,22 @@ export const appointmentsAPI = {
 // REMARKS (Remarques Client)
 // =============================================================================
 
+export type ImageSize = 'thumb' | 'medium';
+
+/**
+ * URL d'une version réduite d'une image servie par l'API (/api/images/..., URL signée et temporaire) ;
+ * les autres URL (data:, externes) sont renvoyées telles quelles
+ */
+export function imageUrl(url: string, size: ImageSize): string {
+  if (!/\/api\/images\/[0-9a-f]{64}(\?|$)/.test(url)) {
+    return url;
+  }
+  return `${url}${url.includes('?') ? '&' : '?'}size=${size}`;
+}
+
+const IMAGE_UPLOAD_CHUNK_SIZE = 1024 * 1024;
+const IMAGE_UPLOAD_MAX_RETRIES = 5;
+
 export const remarksAPI = {
   /**
    * Récupérer toutes les remarques d'un client
@@ -795,6 +931,70 @@ export const remarksAPI = {
     return handleResponse<Remark[]>(response);
   },
 
+  /**
+   * Page de remarques d'un client, des plus récentes aux plus anciennes (total dans l'en-tête X-Total-Count)
+   */
+  getPage: async (clientId: string, page: number, size: number): Promise<{ items: Remark[]; total: number }> => {
+    const url = new URL(`${API_BASE_URL}/clients/${clientId}/remarks`);
+    url.searchParams.append('page', String(page));
+    url.searchParams.append('size', String(size));
+
+    const response = await fetch(url.toString(), {
+      headers: getHeaders(),
+    });
+
+    const items = await handleResponse<Remark[]>(response);
+    const total = parseInt(response.headers.get('X-Total-Count') || '', 10);
+    return { items, total: isNaN(total) ? items.length : total };
+  },
+
+  /**
+   * Envoyer une image par morceaux ; après une coupure, l'envoi reprend à l'offset déjà reçu par le serveur.
+   * Renvoie l'URL de l'image à joindre à la remarque.
+   */
+  uploadImage: async (file: File, onProgress?: (sent: number, total: number) => void): Promise<string> => {
+    const token = getAuthToken();
+    const auth: Record<string, string> = token ? { Authorization: `Bearer ${token}` } : {};
+    const base = `${API_BASE_URL}/remarks/uploads`;
+
+    const started = await handleResponse<{ uploadId: string; offset: number }>(
+      await fetch(`${base}?length=${file.size}`, { method: 'POST', headers: auth })
+    );
+    const uploadUrl = `${base}/${started.uploadId}`;
+    let offset = 0;
+    let failures = 0;
+    while (offset < file.size) {
+      try {
+        const response = await fetch(`${uploadUrl}?offset=${offset}`, {
+          method: 'PATCH',
+          headers: { ...auth, 'Content-Type': 'application/octet-stream' },
+          body: file.slice(offset, offset + IMAGE_UPLOAD_CHUNK_SIZE),
+        });
+        if (response.status !== 409) {
+          offset = (await handleResponse<{ offset: number }>(response)).offset;
+          failures = 0;
+        } else {
+          // Offset inattendu (morceau déjà reçu ou en cours d'écriture) : on repart de celui du serveur
+          const current = (await response.json()).offset;
+          if (current === offset && ++failures > IMAGE_UPLOAD_MAX_RETRIES) throw new Error('Envoi de l\'image bloqué');
+          offset = current;
+        }
+      } catch (e) {
+        // Réseau coupé : on redemande au serveur ce qu'il a reçu avant de reprendre
+        if (++failures > IMAGE_UPLOAD_MAX_RETRIES) throw e;
+        await new Promise(resolve => setTimeout(resolve, 1000 * failures));
+        const status = await fetch(uploadUrl, { headers: auth }).catch(() => null);
+        if (status?.ok) offset = (await status.json()).offset;
+      }
+      onProgress?.(offset, file.size);
+    }
+
+    const completed = await handleResponse<{ imageUrl: string }>(
+      await fetch(`${uploadUrl}/complete`, { method: 'POST', headers: auth })
+    );
+    return completed.imageUrl;
+  },
+
   /**
    * Créer une nouvelle remarque
    */
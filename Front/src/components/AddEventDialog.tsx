@@ -1,4 +1,4 @@
-import { useState, useEffect, useCallback } from 'react';
+import { useState, useEffect } from 'react';
 import { Button } from './ui/button';
 import { Input } from './ui/input';
 import { Label } from './ui/label';
@@ -18,7 +18,8 @@ import {
   SelectTrigger,
   SelectValue,
 } from './ui/select';
-import { calendarEventsAPI, clientsAPI, type Client, type CalendarEvent, type EventType } from '../api/apiClient';
+import { ClientPicker } from './ClientPicker';
+import { calendarEventsAPI, type ClientSuggestion, type CalendarEvent, type EventType } from '../api/apiClient';
 import { Calendar, Clock, MapPin, User, FileText } from 'lucide-react';
 
 interface AddEventDialogProps {
@@ -48,27 +49,11 @@ export function AddEventDialog({
   const [notes, setNotes] = useState('');
 
   // State
-  const [clients, setClients] = useState<Client[]>([]);
-  const [clientsLoading, setClientsLoading] = useState(false);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
 
-  // Charger les clients
-  const loadClients = useCallback(async () => {
-    setClientsLoading(true);
-    try {
-      const data = await clientsAPI.getAll();
-      setClients(data);
-    } catch (e) {
-      console.error('Erreur chargement clients', e);
-    } finally {
-      setClientsLoading(false);
-    }
-  }, []);
-
   useEffect(() => {
     if (open) {
-      loadClients();
       // Réinitialiser le formulaire
       setEventType('rdv');
       setTitle('');
@@ -81,7 +66,7 @@ export function AddEventDialog({
       setNotes('');
       setError(null);
     }
-  }, [open, loadClients, defaultDate, defaultTime]);
+  }, [open, defaultDate, defaultTime]);
 
   // Mettre à jour le titre automatiquement selon le type
   useEffect(() => {
@@ -101,15 +86,12 @@ export function AddEventDialog({
   }, [eventType]);
 
   // Mettre à jour la location quand un client est sélectionné
-  useEffect(() => {
-    if (clientId) {
-      const client = clients.find(c => c.id === clientId);
-      if (client && client.addresses && client.addresses.length > 0) {
-        const addr = client.addresses[0];
-        setLocation(`${addr.street}, ${addr.postalCode} ${addr.city}`);
-      }
+  const handleClientChange = (id: string, suggestion?: ClientSuggestion) => {
+    setClientId(id);
+    if (suggestion && suggestion.city) {
+      setLocation(`${suggestion.street}, ${suggestion.postalCode} ${suggestion.city}`);
     }
-  }, [clientId, clients]);
+  };
 
   const handleSubmit = async (e: React.FormEvent) => {
     e.preventDefault();
@@ -201,25 +183,7 @@ export function AddEventDialog({
               <User className="w-4 h-4" />
               Client (optionnel)
             </Label>
-            <Select
-              value={clientId || 'none'}
-              onValueChange={(value) => setClientId(value === 'none' ? '' : value)}
-            >
-              <SelectTrigger>
-                <SelectValue placeholder="Sélectionner un client" />
-              </SelectTrigger>
-              <SelectContent>
-                <SelectItem value="none">Aucun client</SelectItem>
-                {clientsLoading && (
-                  <div className="px-2 py-1 text-sm text-gray-500">Chargement...</div>
-                )}
-                {clients.map((client) => (
-                  <SelectItem key={client.id} value={client.id}>
-                    {client.name}
-                  </SelectItem>
-                ))}
-              </SelectContent>
-            </Select>
+            <ClientPicker value={clientId} onChange={handleClientChange} />
           </div>
 
           {/* Lieu */}
@@ -25,11 +25,13 @@ import {
   CollapsibleContent,
   CollapsibleTrigger,
 } from './ui/collapsible';
-import { clientsAPI, projectsAPI, remarksAPI, calendarEventsAPI, type Client as ClientType, type ProjectDTO, type ChantierDTO, type Remark as ApiRemark, type CalendarEvent, type EventStatus } from '../api/apiClient';
+import { clientsAPI, projectsAPI, remarksAPI, calendarEventsAPI, imageUrl, type Client as ClientType, type ProjectDTO, type ChantierDTO, type Remark as ApiRemark, type CalendarEvent, type EventStatus } from '../api/apiClient';
 import { ProjectForm } from './ProjectForm';
 import { EditClientDialog } from './EditClientDialog';
 import { formatPhone } from '../utils/formatters';
 
+const REMARKS_PAGE_SIZE = 20;
+
 interface ClientDetailPageProps {
   clientId: string;
   onBack: () => void;
@@ -45,6 +47,7 @@ export function ClientDetailPage({ clientId, onBack, onNavigateToProject }: Clie
   const [isPastChantierOpen, setIsPastChantierOpen] = useState(false);
   const [newRemark, setNewRemark] = useState('');
   const [remarkImages, setRemarkImages] = useState<string[]>([]);
+  const [imagesUploading, setImagesUploading] = useState(false);
   const [isProjectDialogOpen, setIsProjectDialogOpen] = useState(false);
   // Track previous open state to trigger reload only when closing
   const prevProjectDialogOpen = useRef(isProjectDialogOpen);
@@ -74,6 +77,8 @@ export function ClientDetailPage({ clientId, onBack, onNavigateToProject }: Clie
   const [remarks, setRemarks] = useState<UIRemark[]>([]);
   const [remarksLoading, setRemarksLoading] = useState(false);
   const [remarksError, setRemarksError] = useState<string | null>(null);
+  const [remarksTotal, setRemarksTotal] = useState(0);
+  const [remarksPage, setRemarksPage] = useState(0);
   // Image preview (lightbox)
   const [previewImage, setPreviewImage] = useState<string | null>(null);
 
@@ -151,18 +156,21 @@ export function ClientDetailPage({ clientId, onBack, onNavigateToProject }: Clie
     finally { setProjectsLoading(false); }
   }, [clientId]);
 
-  const loadRemarks = useCallback(async () => {
+  // Remarques chargées par pages, les plus récentes d'abord (tri côté serveur)
+  const loadRemarks = useCallback(async (page = 0) => {
     setRemarksLoading(true); setRemarksError(null);
     try {
-      const data = await remarksAPI.getByClientId(clientId);
-      const mapped: UIRemark[] = data.map((r: ApiRemark) => ({
+      const { items, total } = await remarksAPI.getPage(clientId, page, REMARKS_PAGE_SIZE);
+      const mapped: UIRemark[] = items.map((r: ApiRemark) => ({
         id: Number(r.id),
         date: formatDate(r.createdAt),
         time: formatTime(r.createdAt),
         text: r.content,
         images: r.images || [],
-      })).sort((a,b) => b.id - a.id);
-      setRemarks(mapped);
+      }));
+      setRemarks(prev => page === 0 ? mapped : [...prev, ...mapped]);
+      setRemarksTotal(total);
+      setRemarksPage(page);
     } catch (e: any) { setRemarksError(e.message || 'Erreur remarques'); }
     finally { setRemarksLoading(false); }
   }, [clientId]);
@@ -234,9 +242,10 @@ export function ClientDetailPage({ clientId, onBack, onNavigateToProject }: Clie
           date: formatDate(created.createdAt),
           time: formatTime(created.createdAt),
           text: created.content,
-          images: [...remarkImages],
+          images: created.images || [],
         };
         setRemarks(prev => [newRemarkObj, ...prev]);
+        setRemarksTotal(prev => prev + 1);
         setNewRemark('');
         setRemarkImages([]);
       } catch (e: any) {
@@ -247,35 +256,33 @@ export function ClientDetailPage({ clientId, onBack, onNavigateToProject }: Clie
 
   const handleDeleteRemark = async (id: number) => {
     if (confirm('Êtes-vous sûr de vouloir supprimer cette remarque ?')) {
-      try { await remarksAPI.delete(id); setRemarks(prev => prev.filter(r => r.id !== id)); }
+      try { await remarksAPI.delete(id); setRemarks(prev => prev.filter(r => r.id !== id)); setRemarksTotal(prev => prev - 1); }
       catch (e: any) { alert(e.message || 'Suppression impossible'); }
     }
   };
 
-  const handleImageUpload = (e: React.ChangeEvent<HTMLInputElement>) => {
-    const files = e.target.files;
-    if (files) {
-      const newImages: string[] = [];
-      
-      Array.from(files).forEach((file) => {
-        if (file.type.startsWith('image/')) {
-          const reader = new FileReader();
-          reader.onload = (e) => {
-            if (e.target?.result) {
-              newImages.push(e.target.result as string);
-                setRemarkImages([...remarkImages, ...newImages]);
-              
-            }
-          };
-          reader.readAsDataURL(file);
-        }
-      });
-    }
-    
+  const handleImageUpload = async (e: React.ChangeEvent<HTMLInputElement>) => {
+    const files = Array.from(e.target.files || []).filter(file => file.type.startsWith('image/'));
+
     // Reset input
     if (fileInputRef.current) {
       fileInputRef.current.value = '';
     }
+
+    // Envoi en flux (reprenable) : la remarque ne transporte ensuite que les URL des images
+    setImagesUploading(true);
+    try {
+      for (const file of files) {
+        try {
+          const url = await remarksAPI.uploadImage(file);
+          setRemarkImages(prev => [...prev, url]);
+        } catch (err: any) {
+          alert(err.message || 'Erreur lors de l\'envoi de l\'image');
+        }
+      }
+    } finally {
+      setImagesUploading(false);
+    }
   };
 
   const handleRemoveImage = (index: number) => {
@@ -669,7 +676,8 @@ export function ClientDetailPage({ clientId, onBack, onNavigateToProject }: Clie
                           {remark.images.map((image, index) => (
                             <div key={index} className="relative group/image">
                               <img
-                                src={image}
+                                src={imageUrl(image, 'thumb')}
+                                loading="lazy"
                                 alt={`Remarque image ${index + 1}`}
                                 className="w-full h-32 object-cover rounded-lg border border-gray-200 cursor-pointer hover:opacity-90 transition-opacity"
                                 onClick={() => setPreviewImage(image)}
@@ -689,6 +697,13 @@ export function ClientDetailPage({ clientId, onBack, onNavigateToProject }: Clie
                   </div>
                 </div>
               ))}
+              {remarks.length < remarksTotal && (
+                <div className="flex justify-center">
+                  <Button variant="outline" disabled={remarksLoading} onClick={() => loadRemarks(remarksPage + 1)}>
+                    {remarksLoading ? 'Chargement...' : `Afficher plus (${remarksTotal - remarks.length})`}
+                  </Button>
+                </div>
+              )}
             </div>
 
             <div className="border-t pt-4">
@@ -736,7 +751,7 @@ export function ClientDetailPage({ clientId, onBack, onNavigateToProject }: Clie
                   <div className="flex flex-col gap-2">
                     <Button
                       onClick={handleAddRemark}
-                      disabled={!newRemark.trim() && remarkImages.length === 0}
+                      disabled={imagesUploading || (!newRemark.trim() && remarkImages.length === 0)}
                       className="bg-green-600 hover:bg-green-700"
                       size="icon"
                       title="Envoyer (Ctrl+Enter)"
@@ -858,7 +873,7 @@ export function ClientDetailPage({ clientId, onBack, onNavigateToProject }: Clie
           {previewImage && (
             <div className="flex items-center justify-center">
               <img
-                src={previewImage}
+                src={imageUrl(previewImage, 'medium')}
                 alt="Prévisualisation"
                 className="max-h-[80vh] w-auto rounded-lg shadow-lg"
               />
@@ -0,0 +1,121 @@
+import { useEffect, useRef, useState } from 'react';
+import { Input } from './ui/input';
+import { MapPin, X } from 'lucide-react';
+import { clientsAPI, type ClientSuggestion } from '../api/apiClient';
+
+interface ClientPickerProps {
+  id?: string;
+  value: string;
+  onChange: (clientId: string, suggestion?: ClientSuggestion) => void;
+  placeholder?: string;
+}
+
+// Sélecteur de client par autocomplétion : interroge /clients/suggest au fil de la saisie
+// au lieu de charger la liste complète des clients.
+export function ClientPicker({ id, value, onChange, placeholder = 'Rechercher un client' }: ClientPickerProps) {
+  const [query, setQuery] = useState('');
+  const [selectedName, setSelectedName] = useState('');
+  const [suggestions, setSuggestions] = useState<ClientSuggestion[]>([]);
+  const [open, setOpen] = useState(false);
+  const [loading, setLoading] = useState(false);
+  const requestSeq = useRef(0);
+
+  // Client présélectionné (ex. formulaire ouvert depuis la fiche client) : afficher son nom
+  useEffect(() => {
+    if (!value) {
+      setSelectedName('');
+      return;
+    }
+    if (selectedName) return;
+    clientsAPI.getById(value)
+      .then(c => setSelectedName(c.name))
+      .catch(e => console.error('Erreur chargement client', e));
+  }, [value]);
+
+  useEffect(() => {
+    const prefix = query.trim();
+    if (!prefix) {
+      setSuggestions([]);
+      return;
+    }
+    const seq = ++requestSeq.current;
+    const timer = setTimeout(async () => {
+      setLoading(true);
+      try {
+        const data = await clientsAPI.suggest(prefix, 10);
+        // Ignorer les réponses arrivées après une saisie plus récente
+        if (seq === requestSeq.current) setSuggestions(data);
+      } catch (e) {
+        console.error('Erreur suggestions clients', e);
+      } finally {
+        if (seq === requestSeq.current) setLoading(false);
+      }
+    }, 150);
+    return () => clearTimeout(timer);
+  }, [query]);
+
+  const select = (s: ClientSuggestion) => {
+    setSelectedName(s.name);
+    setQuery('');
+    setOpen(false);
+    onChange(s.id, s);
+  };
+
+  const clear = () => {
+    setSelectedName('');
+    setQuery('');
+    onChange('');
+  };
+
+  if (value && selectedName) {
+    return (
+      <div className="flex items-center justify-between rounded-md border px-3 py-2 text-sm">
+        <span>{selectedName}</span>
+        <button type="button" onClick={clear} className="text-gray-500 hover:text-gray-900" aria-label="Retirer le client">
+          <X className="w-4 h-4" />
+        </button>
+      </div>
+    );
+  }
+
+  return (
+    <div className="relative">
+      <Input
+        id={id}
+        value={query}
+        onChange={(e) => { setQuery(e.target.value); setOpen(true); }}
+        onFocus={() => setOpen(true)}
+        onBlur={() => setTimeout(() => setOpen(false), 150)}
+        placeholder={placeholder}
+        autoComplete="off"
+      />
+      {open && query.trim() && (
+        <div className="absolute z-50 mt-1 w-full rounded-md border bg-white shadow-md max-h-64 overflow-y-auto">
+          {loading && suggestions.length === 0 && (
+            <div className="px-3 py-2 text-sm text-gray-500">Recherche...</div>
+          )}
+          {!loading && suggestions.length === 0 && (
+            <div className="px-3 py-2 text-sm text-gray-500">Aucun client</div>
+          )}
+          {suggestions.map((s) => (
+            <button
+              key={s.id}
+              type="button"
+              onMouseDown={(e) => e.preventDefault()}
+              onClick={() => select(s)}
+              className="w-full text-left px-3 py-2 text-sm hover:bg-gray-100"
+            >
+              <div>{s.name}</div>
+              {s.city && (
+                <div className="flex items-center gap-1 text-xs text-gray-500">
+                  <MapPin className="w-3 h-3" />
+                  {s.postalCode} {s.city}
+                </div>
+              )}
+            </button>
+          ))}
+        </div>
+      )}
+    </div>
+  );
+}
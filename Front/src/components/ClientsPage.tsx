@@ -1,11 +1,12 @@
-import { useEffect, useState, useCallback } from 'react';
+import { useEffect, useState, useCallback, useRef } from 'react';
 import { Card } from './ui/card';
 import { Button } from './ui/button';
 import { Input } from './ui/input';
-import { Plus, Search, Mail, Phone, MapPin, MoreVertical, Key, Trash2, UserCheck, UserX } from 'lucide-react';
-import { clientsAPI, type Client } from '../api/apiClient';
+import { Plus, Upload, Search, Mail, Phone, MapPin, MoreVertical, Key, Trash2, UserCheck, UserX } from 'lucide-react';
+import { clientsAPI, type Client, type ClientSort } from '../api/apiClient';
 import { AddClientDialog } from './AddClientDialog';
 import { formatPhone } from '../utils/formatters';
+import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from './ui/select';
 import {
   DropdownMenu,
   DropdownMenuContent,
@@ -13,6 +14,8 @@ import {
   DropdownMenuTrigger,
 } from './ui/dropdown-menu';
 
+const PAGE_SIZE = 50;
+
 interface ClientsPageProps {
   onSelectClient: (clientId: string) => void;
 }
@@ -20,8 +23,14 @@ interface ClientsPageProps {
 export function ClientsPage({ onSelectClient }: ClientsPageProps) {
   const [searchQuery, setSearchQuery] = useState('');
   const [clients, setClients] = useState<Client[]>([]);
+  const [total, setTotal] = useState(0);
+  const [sort, setSort] = useState<ClientSort>('name');
   const [loading, setLoading] = useState(false);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [error, setError] = useState<string | null>(null);
+  const [importing, setImporting] = useState(false);
+  const [importMessage, setImportMessage] = useState<string | null>(null);
+  const fileInputRef = useRef<HTMLInputElement>(null);
 
   // Debounce logic to avoid too many requests when typing
   const debounce = (fn: (...args: any[]) => void, delay: number) => {
@@ -32,18 +41,53 @@ export function ClientsPage({ onSelectClient }: ClientsPageProps) {
     };
   };
 
+  // Première page triée et paginée côté serveur
   const fetchClients = useCallback(async (q?: string) => {
     setLoading(true);
     setError(null);
     try {
-      const data = await clientsAPI.getAll(q?.trim() ? q.trim() : undefined);
-      setClients(data);
+      const data = await clientsAPI.getPage({ search: q?.trim() || undefined, sort, page: 0, size: PAGE_SIZE });
+      setClients(data.items);
+      setTotal(data.total);
     } catch (e: any) {
       setError(e.message || 'Erreur lors du chargement des clients');
     } finally {
       setLoading(false);
     }
-  }, []);
+  }, [sort]);
+
+  const handleImport = async (file: File) => {
+    setImporting(true);
+    setImportMessage(null);
+    try {
+      const report = await clientsAPI.importCsv(file);
+      const details = report.errors.slice(0, 5)
+        .map(e => e.line > 0 ? `ligne ${e.line}${e.field ? ` (${e.field})` : ''} : ${e.message}` : e.message)
+        .join(' ; ');
+      setImportMessage(`${report.imported} client(s) importé(s), ${report.rejected} ligne(s) rejetée(s)`
+        + (details ? ` — ${details}${report.errors.length > 5 || report.errorsTruncated ? ' ...' : ''}` : ''));
+      fetchClients(searchQuery);
+    } catch (e: any) {
+      setImportMessage(e.message || "Erreur lors de l'import");
+    } finally {
+      setImporting(false);
+      if (fileInputRef.current) fileInputRef.current.value = '';
+    }
+  };
+
+  const loadMore = async () => {
+    setLoadingMore(true);
+    try {
+      const page = Math.floor(clients.length / PAGE_SIZE);
+      const data = await clientsAPI.getPage({ search: searchQuery.trim() || undefined, sort, page, size: PAGE_SIZE });
+      setClients(prev => [...prev, ...data.items]);
+      setTotal(data.total);
+    } catch (e: any) {
+      setError(e.message || 'Erreur lors du chargement des clients');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
 
   // Debounced version
   const debouncedFetch = useCallback(debounce(fetchClients, 400), [fetchClients]);
@@ -62,20 +106,37 @@ export function ClientsPage({ onSelectClient }: ClientsPageProps) {
           <h1 className="text-gray-900 mb-2">Clients</h1>
           <p className="text-gray-600">Gérez vos clients et leurs informations</p>
         </div>
-        <AddClientDialog
-          trigger={
-            <Button className="bg-green-600 hover:bg-green-700">
-              <Plus className="w-4 h-4 mr-2" />
-              Nouveau client
-            </Button>
-          }
-          onClientCreated={() => fetchClients(searchQuery)}
-        />
+        <div className="flex gap-2">
+          <input
+            ref={fileInputRef}
+            type="file"
+            accept=".csv,text/csv"
+            className="hidden"
+            onChange={(e) => { const f = e.target.files?.[0]; if (f) handleImport(f); }}
+          />
+          <Button variant="outline" onClick={() => fileInputRef.current?.click()} disabled={importing}>
+            <Upload className="w-4 h-4 mr-2" />
+            {importing ? 'Import en cours...' : 'Importer CSV'}
+          </Button>
+          <AddClientDialog
+            trigger={
+              <Button className="bg-green-600 hover:bg-green-700">
+                <Plus className="w-4 h-4 mr-2" />
+                Nouveau client
+              </Button>
+            }
+            onClientCreated={() => fetchClients(searchQuery)}
+          />
+        </div>
       </div>
 
+      {importMessage && (
+        <div className="text-sm text-gray-700 bg-gray-50 border rounded-lg p-3">{importMessage}</div>
+      )}
+
       <Card className="p-6">
-        <div className="mb-6">
-          <div className="relative">
+        <div className="mb-6 flex gap-3">
+          <div className="relative flex-1">
             <Search className="absolute left-3 top-1/2 transform -translate-y-1/2 w-5 h-5 text-gray-400" />
             <Input
               placeholder="Rechercher un client..."
@@ -84,6 +145,16 @@ export function ClientsPage({ onSelectClient }: ClientsPageProps) {
               className="pl-10"
             />
           </div>
+          <Select value={sort} onValueChange={(v) => setSort(v as ClientSort)}>
+            <SelectTrigger className="w-48">
+              <SelectValue />
+            </SelectTrigger>
+            <SelectContent>
+              <SelectItem value="name">Trier par nom</SelectItem>
+              <SelectItem value="createdAt">Trier par date de création</SelectItem>
+              <SelectItem value="city">Trier par ville</SelectItem>
+            </SelectContent>
+          </Select>
         </div>
 
         <div className="space-y-4">
@@ -198,6 +269,13 @@ export function ClientsPage({ onSelectClient }: ClientsPageProps) {
               </div>
             );
           })}
+          {!loading && !error && clients.length < total && (
+            <div className="flex justify-center">
+              <Button variant="outline" onClick={loadMore} disabled={loadingMore}>
+                {loadingMore ? 'Chargement...' : `Afficher plus (${clients.length} / ${total})`}
+              </Button>
+            </div>
+          )}
         </div>
       </Card>
     </div>
@@ -41,6 +41,7 @@ export function Dashboard({ onNavigate }: DashboardProps) {
   // Remark form state
   const [newRemark, setNewRemark] = useState('');
   const [remarkImages, setRemarkImages] = useState<string[]>([]);
+  const [imagesUploading, setImagesUploading] = useState(false);
   // Dialog open state for remark creation
   const [isRemarkDialogOpen, setIsRemarkDialogOpen] = useState(false);
   // Dialog open state for project/intervention creation
@@ -83,30 +84,28 @@ export function Dashboard({ onNavigate }: DashboardProps) {
     return d.toLocaleTimeString('fr-FR', { hour: '2-digit', minute: '2-digit' });
   };
 
-    const handleImageUpload = (e: React.ChangeEvent<HTMLInputElement>) => {
-    const files = e.target.files;
-    if (files) {
-      const newImages: string[] = [];
-      
-      Array.from(files).forEach((file) => {
-        if (file.type.startsWith('image/')) {
-          const reader = new FileReader();
-          reader.onload = (e) => {
-            if (e.target?.result) {
-              newImages.push(e.target.result as string);
-                setRemarkImages([...remarkImages, ...newImages]);
-              
-            }
-          };
-          reader.readAsDataURL(file);
-        }
-      });
-    }
-    
+  const handleImageUpload = async (e: React.ChangeEvent<HTMLInputElement>) => {
+    const files = Array.from(e.target.files || []).filter(file => file.type.startsWith('image/'));
+
     // Reset input
     if (fileInputRef.current) {
       fileInputRef.current.value = '';
     }
+
+    // Envoi en flux (reprenable) : la remarque ne transporte ensuite que les URL des images
+    setImagesUploading(true);
+    try {
+      for (const file of files) {
+        try {
+          const url = await remarksAPI.uploadImage(file);
+          setRemarkImages(prev => [...prev, url]);
+        } catch (err: any) {
+          alert(err.message || 'Erreur lors de l\'envoi de l\'image');
+        }
+      }
+    } finally {
+      setImagesUploading(false);
+    }
   };
 
     const handleAddRemark = async (): Promise<boolean> => {
@@ -244,12 +243,13 @@ export function Dashboard({ onNavigate }: DashboardProps) {
               </div>
               <Button
                 className="w-full bg-orange-600 hover:bg-orange-700"
+                disabled={imagesUploading}
                 onClick={async () => {
                   const success = await handleAddRemark();
                   if (success) setIsRemarkDialogOpen(false);
                 }}
               >
-                Enregistrer la remarque
+                {imagesUploading ? 'Envoi des images...' : 'Enregistrer la remarque'}
               </Button>
             </div>
           </DialogContent>
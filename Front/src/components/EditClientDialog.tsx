@@ -101,9 +101,11 @@ export function EditClientDialog({ client, trigger, onClientUpdated }: EditClien
 
     setLoading(true);
     try {
-      const addressesPayload: Omit<Address, 'id'>[] = addresses
+      // L'id permet au serveur de ne modifier que les adresses qui ont changé
+      const addressesPayload: Address[] = addresses
         .filter(addr => addr.street.trim())
         .map((addr, index) => ({
+          id: addr.id,
           street: addr.street.trim(),
           city: addr.city.trim(),
           postalCode: addr.postalCode.trim(),
@@ -1,4 +1,4 @@
-import { useState, useEffect, useCallback } from 'react';
+import { useState, useEffect } from 'react';
 import { Button } from './ui/button';
 import { Input } from './ui/input';
 import { Label } from './ui/label';
@@ -6,7 +6,8 @@ import { Textarea } from './ui/textarea';
 import { Select, SelectContent, SelectItem, SelectTrigger, SelectValue } from './ui/select';
 import { Switch } from './ui/switch';
 import { Repeat, Calendar } from 'lucide-react';
-import { projectsAPI, chantiersAPI, type BackendProjectStatus, clientsAPI, Client } from '../api/apiClient';
+import { ClientPicker } from './ClientPicker';
+import { projectsAPI, chantiersAPI, type BackendProjectStatus } from '../api/apiClient';
 import { MonthlyPlan } from '../types';
 
 interface MonthlyPlanItem { month: string; occurence: number; }
@@ -22,7 +23,6 @@ export function ProjectForm({ clientId, onCreated }: ProjectFormProps) {
   const [selectedClientId, setSelectedClientId] = useState<string>(clientId || '');
   const [location, setLocation] = useState('');
   const [durationHoursInput, setDurationHoursInput] = useState('1');
-  const [clients, setClients] = useState<Client[]>([]);
   const [startDate, setStartDate] = useState<string>('');
   const [isRecurring, setIsRecurring] = useState(false);
   const [durationMonthsInput, setDurationMonthsInput] = useState('3');
@@ -53,20 +53,6 @@ export function ProjectForm({ clientId, onCreated }: ProjectFormProps) {
 
   }, [isRecurring, durationMonthsInput, startMonth]);
 
-
-    useEffect(() => {
-      loadClients();
-    }, []);
-
-    const loadClients = useCallback(async () => {
-      try {
-        const data = await clientsAPI.getAll();
-        setClients(data);
-      } catch (e) {
-        console.error('Erreur chargement clients', e);
-      }
-    }, []);
-
   const updatePlan = (month: string, occurence: number) => {
     setPlans(prev => prev.map(p => p.month === month ? { ...p, occurence } : p));
   };
@@ -111,18 +97,7 @@ export function ProjectForm({ clientId, onCreated }: ProjectFormProps) {
       </div>
             <div>
         <Label htmlFor="client-select">Client</Label>
-        <Select defaultValue={clientId || ''} value={selectedClientId} onValueChange={setSelectedClientId}>
-          <SelectTrigger id="client-select">
-            <SelectValue placeholder="Sélectionner un client" />
-          </SelectTrigger>
-          <SelectContent>
-            {clients.map((client) => (
-              <SelectItem key={client.id} value={String(client.id)}>
-                {client.name}
-              </SelectItem>
-            ))}
-          </SelectContent>
-        </Select>
+        <ClientPicker id="client-select" value={selectedClientId} onChange={(id) => setSelectedClientId(id)} />
       </div>
 
       <div>
@@ -1,10 +1,34 @@
 
-  import { defineConfig } from 'vite';
+  import { defineConfig, type Plugin } from 'vite';
   import react from '@vitejs/plugin-react-swc';
+  import fs from 'fs';
   import path from 'path';
+  import { brotliCompressSync, constants, gzipSync } from 'zlib';
+
+  // Variantes .br et .gz des fichiers du bundle, servies telles quelles par le back selon Accept-Encoding
+  // (StaticResourcesConfig) : compressées une fois au build, au niveau maximal, plutôt qu'à chaque requête.
+  function precompress(): Plugin {
+    return {
+      name: 'precompress',
+      apply: 'build',
+      writeBundle(options, bundle) {
+        const dir = options.dir ?? 'build';
+        for (const fileName of Object.keys(bundle)) {
+          if (!/\.(js|css|svg|json)$/.test(fileName)) continue;
+          const file = path.join(dir, fileName);
+          const content = fs.readFileSync(file);
+          if (content.length < 1024) continue;
+          fs.writeFileSync(`${file}.br`, brotliCompressSync(content, {
+            params: { [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY },
+          }));
+          fs.writeFileSync(`${file}.gz`, gzipSync(content, { level: 9 }));
+        }
+      },
+    };
+  }
 
   export default defineConfig({
-    plugins: [react()],
+    plugins: [react(), precompress()],
     resolve: {
       extensions: ['.js', '.jsx', '.ts', '.tsx', '.json'],
       alias: {
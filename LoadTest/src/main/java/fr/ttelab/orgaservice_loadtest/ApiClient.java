@@ -0,0 +1,89 @@
+package fr.ttelab.orgaservice_loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Client HTTP partagé par tous les utilisateurs virtuels. Chaque appel est chronométré et enregistré.
+ */
+public class ApiClient {
+
+  public record Response(int status, String body) {
+    boolean ok() {
+      return status >= 200 && status < 300;
+    }
+  }
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final String baseUrl;
+  private final LatencyRecorder recorder;
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final HttpClient http;
+
+  public ApiClient(String baseUrl, LatencyRecorder recorder) {
+    this.baseUrl = baseUrl;
+    this.recorder = recorder;
+    this.http = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+  }
+
+  public String login(String email, String password) throws IOException, InterruptedException {
+    String body = mapper.createObjectNode().put("email", email).put("password", password).toString();
+    Response response = send(Operation.LOGIN, request("/api/auth/login", null)
+        .POST(HttpRequest.BodyPublishers.ofString(body)).build());
+    if (!response.ok()) {
+      throw new IOException("Login refusé pour " + email + " : HTTP " + response.status());
+    }
+    return mapper.readTree(response.body()).path("token").asText();
+  }
+
+  public Response get(Operation operation, String path, String token) throws IOException, InterruptedException {
+    return send(operation, request(path, token).GET().build());
+  }
+
+  public Response post(Operation operation, String path, String token, Object payload)
+      throws IOException, InterruptedException {
+    String body = mapper.writeValueAsString(payload);
+    return send(operation, request(path, token).POST(HttpRequest.BodyPublishers.ofString(body)).build());
+  }
+
+  public JsonNode json(Response response) throws IOException {
+    return mapper.readTree(response.body());
+  }
+
+  private HttpRequest.Builder request(String path, String token) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Content-Type", "application/json")
+        .header("Accept", "application/json");
+    if (token != null) {
+      builder.header("Authorization", "Bearer " + token);
+    }
+    return builder;
+  }
+
+  private Response send(Operation operation, HttpRequest request) throws IOException, InterruptedException {
+    long start = System.nanoTime();
+    try {
+      HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+      Response result = new Response(response.statusCode(), response.body());
+      recorder.record(operation, System.nanoTime() - start, result.ok());
+      return result;
+    } catch (IOException e) {
+      recorder.record(operation, System.nanoTime() - start, false);
+      throw e;
+    }
+  }
+}
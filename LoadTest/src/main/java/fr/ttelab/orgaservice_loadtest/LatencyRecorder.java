@@ -0,0 +1,100 @@
+package fr.ttelab.orgaservice_loadtest;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collecte les latences par opération et calcule percentiles et débit en fin de tir.
+ */
+public class LatencyRecorder {
+
+  private static class Samples {
+    private long[] values = new long[1024];
+    private int size;
+    private final AtomicLong errors = new AtomicLong();
+
+    synchronized void add(long nanos) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = nanos;
+    }
+
+    synchronized long[] snapshot() {
+      return Arrays.copyOf(values, size);
+    }
+  }
+
+  private final Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+  private volatile boolean recording;
+
+  public LatencyRecorder() {
+    for (Operation operation : Operation.values()) {
+      samples.put(operation, new Samples());
+    }
+  }
+
+  /** Les mesures ne sont conservées qu'après la période de chauffe. */
+  public void startRecording() {
+    recording = true;
+  }
+
+  public void record(Operation operation, long nanos, boolean success) {
+    if (!recording) {
+      return;
+    }
+    Samples s = samples.get(operation);
+    s.add(nanos);
+    if (!success) {
+      s.errors.incrementAndGet();
+    }
+  }
+
+  public void report(PrintStream out, double elapsedSeconds) {
+    out.printf("%n%-14s %9s %8s %9s %9s %9s %9s %9s%n",
+        "operation", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+    long totalCount = 0;
+    long totalErrors = 0;
+    long[] all = new long[0];
+    for (Map.Entry<Operation, Samples> entry : samples.entrySet()) {
+      long[] values = entry.getValue().snapshot();
+      if (values.length == 0) {
+        continue;
+      }
+      long errors = entry.getValue().errors.get();
+      printLine(out, entry.getKey().label(), values, errors, elapsedSeconds);
+      totalCount += values.length;
+      totalErrors += errors;
+      all = concat(all, values);
+    }
+    if (totalCount > 0) {
+      printLine(out, "TOTAL", all, totalErrors, elapsedSeconds);
+    }
+  }
+
+  private void printLine(PrintStream out, String label, long[] values, long errors, double elapsedSeconds) {
+    Arrays.sort(values);
+    out.printf("%-14s %9d %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+        label, values.length, errors, values.length / elapsedSeconds,
+        millis(percentile(values, 50)), millis(percentile(values, 95)),
+        millis(percentile(values, 99)), millis(values[values.length - 1]));
+  }
+
+  private static long percentile(long[] sorted, double percentile) {
+    int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+  }
+
+  private static double millis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  private static long[] concat(long[] a, long[] b) {
+    long[] result = Arrays.copyOf(a, a.length + b.length);
+    System.arraycopy(b, 0, result, a.length, b.length);
+    return result;
+  }
+}
@@ -0,0 +1,107 @@
+package fr.ttelab.orgaservice_loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tir de charge contre une instance démarrée localement avec des données de test.
+ * <p>
+ * Exemple : {@code mvn -q compile exec:java -Dexec.args="--baseUrl=http://localhost:8080 --concurrency=100 --duration=60"}
+ */
+public class LoadTest {
+
+  public static void main(String[] args) throws Exception {
+    LoadTestConfig config = LoadTestConfig.parse(args);
+    LatencyRecorder recorder = new LatencyRecorder();
+    ApiClient api = new ApiClient(config.baseUrl(), recorder);
+
+    System.out.printf("Connexion de %d utilisateurs sur %s...%n", config.users().size(), config.baseUrl());
+    List<VirtualUser> sessions = new ArrayList<>();
+    for (LoadTestConfig.Credentials credentials : config.users()) {
+      sessions.add(VirtualUser.login(api, credentials));
+    }
+
+    long peak = config.peakRequestsPerMinutePerAccount();
+    if (peak < 0 || peak > LoadTestConfig.TENANT_REQUESTS_PER_MINUTE) {
+      // Au-delà, le back répond 429 (comptés en erreurs) : on mesurerait la limitation, pas la capacité
+      System.out.printf("Attention : jusqu'à %s requêtes/min par compte, au-delà du budget par tenant du back "
+              + "(%d/min par défaut). Ajouter des comptes (--userCount), une pause (--thinkTimeMs) ou relever "
+              + "security.rateLimit.lightPerMinute et lightBurst sur le back.%n",
+          peak < 0 ? "un nombre illimité de" : String.valueOf(peak), LoadTestConfig.TENANT_REQUESTS_PER_MINUTE);
+    }
+
+    Recording recording = new Recording(config, recorder);
+    System.out.printf("%d utilisateurs virtuels, chauffe %ds, mesure %ds%n",
+        config.concurrency(), config.warmup().toSeconds(), config.duration().toSeconds());
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < config.concurrency(); i++) {
+        VirtualUser session = sessions.get(i % sessions.size());
+        executor.submit(() -> drive(session, config, recording));
+      }
+      recording.awaitEnd();
+      executor.shutdownNow();
+      executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    recorder.report(System.out, config.duration().toMillis() / 1000.0);
+  }
+
+  private static Void drive(VirtualUser session, LoadTestConfig config, Recording recording) {
+    int totalWeight = config.mix().values().stream().mapToInt(Integer::intValue).sum();
+    while (!recording.isOver()) {
+      try {
+        session.run(pick(config.mix(), totalWeight));
+        if (!config.thinkTime().isZero()) {
+          Thread.sleep(config.thinkTime());
+        }
+      } catch (InterruptedException e) {
+        return null;
+      } catch (Exception e) {
+        // Erreur réseau déjà comptabilisée par ApiClient
+      }
+    }
+    return null;
+  }
+
+  private static Operation pick(Map<Operation, Integer> mix, int totalWeight) {
+    int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+    for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+      roll -= entry.getValue();
+      if (roll < 0) {
+        return entry.getKey();
+      }
+    }
+    throw new IllegalStateException("Mix vide");
+  }
+
+  /**
+   * Chauffe puis fenêtre de mesure : les latences ne sont gardées que pendant la fenêtre.
+   */
+  private static class Recording {
+    private final LoadTestConfig config;
+    private final LatencyRecorder recorder;
+    private final long end;
+
+    Recording(LoadTestConfig config, LatencyRecorder recorder) {
+      this.config = config;
+      this.recorder = recorder;
+      this.end = System.nanoTime() + config.warmup().toNanos() + config.duration().toNanos();
+    }
+
+    boolean isOver() {
+      return System.nanoTime() >= end;
+    }
+
+    void awaitEnd() throws InterruptedException {
+      Thread.sleep(config.warmup());
+      recorder.startRecording();
+      Thread.sleep(config.duration());
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package fr.ttelab.orgaservice_loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Paramètres du tir, lus depuis la ligne de commande sous la forme {@code --cle=valeur}.
+ * <p>
+ * Les défauts restent sous le budget de requêtes par tenant du back ({@code security.rateLimit.*}) : 10 comptes du
+ * seeder, 1 s de pause entre deux requêtes, soit au plus 5 utilisateurs virtuels et 300 requêtes/min par compte.
+ */
+public record LoadTestConfig(String baseUrl,
+                             List<Credentials> users,
+                             int concurrency,
+                             Duration duration,
+                             Duration warmup,
+                             Duration thinkTime,
+                             Map<Operation, Integer> mix) {
+
+  /**
+   * Budget par défaut du back pour les requêtes légères d'un tenant (security.rateLimit.lightPerMinute).
+   */
+  public static final int TENANT_REQUESTS_PER_MINUTE = 600;
+
+  public record Credentials(String email, String password) {
+  }
+
+  public static LoadTestConfig parse(String[] args) {
+    Map<String, String> options = new LinkedHashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Argument invalide : " + arg + " (attendu --cle=valeur)");
+      }
+      int separator = arg.indexOf('=');
+      options.put(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+
+    List<Credentials> users = new ArrayList<>();
+    if (options.containsKey("users")) {
+      for (String entry : options.get("users").split(",")) {
+        int separator = entry.lastIndexOf(':');
+        users.add(new Credentials(entry.substring(0, separator), entry.substring(separator + 1)));
+      }
+    }
+    if (options.containsKey("userPattern") || !options.containsKey("users")) {
+      // Comptes créés par le seeder (app.seed.users, 10 par défaut) : un tenant et un budget de requêtes chacun
+      String pattern = options.getOrDefault("userPattern", "loadtest%d@orga.local");
+      int count = Integer.parseInt(options.getOrDefault("userCount", "10"));
+      String password = options.getOrDefault("password", "loadtest");
+      for (int i = 0; i < count; i++) {
+        users.add(new Credentials(String.format(pattern, i), password));
+      }
+    }
+
+    return new LoadTestConfig(
+        options.getOrDefault("baseUrl", "http://localhost:8080"),
+        users,
+        Integer.parseInt(options.getOrDefault("concurrency", "50")),
+        Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60"))),
+        Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+        Duration.ofMillis(Long.parseLong(options.getOrDefault("thinkTimeMs", "1000"))),
+        parseMix(options.getOrDefault("mix", Operation.DEFAULT_MIX)));
+  }
+
+  /**
+   * Débit maximal par compte en requêtes/min (temps de réponse nul), ou -1 sans pause entre les requêtes.
+   */
+  public long peakRequestsPerMinutePerAccount() {
+    if (thinkTime.isZero()) {
+      return -1;
+    }
+    long usersPerAccount = (concurrency + users.size() - 1) / users.size();
+    return usersPerAccount * 60_000 / thinkTime.toMillis();
+  }
+
+  private static Map<Operation, Integer> parseMix(String value) {
+    Map<Operation, Integer> mix = new LinkedHashMap<>();
+    for (String entry : value.split(",")) {
+      String[] parts = entry.split(":");
+      mix.put(Operation.fromName(parts[0]), Integer.parseInt(parts[1]));
+    }
+    return mix;
+  }
+}
@@ -0,0 +1,38 @@
+package fr.ttelab.orgaservice_loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Opérations jouées par les utilisateurs virtuels. Le poids de chacune est donné par {@code --mix}.
+ */
+public enum Operation {
+  WEEK_VIEW("weekView"),
+  CLIENT_SEARCH("clientSearch"),
+  CLIENT_DETAIL("clientDetail"),
+  DASHBOARD("dashboard"),
+  SUPPORT_POLL("supportPoll"),
+  PROJECT_CREATE("projectCreate"),
+  REMARK_POST("remarkPost"),
+  LOGIN("login");
+
+  /** Mélange réaliste d'une journée : surtout de la consultation, peu d'écritures. */
+  public static final String DEFAULT_MIX =
+      "weekView:35,clientSearch:20,clientDetail:10,dashboard:10,supportPoll:15,projectCreate:4,remarkPost:6";
+
+  private final String label;
+
+  Operation(String label) {
+    this.label = label;
+  }
+
+  public String label() {
+    return label;
+  }
+
+  public static Operation fromName(String name) {
+    return Arrays.stream(values())
+        .filter(o -> o.label.equals(name))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Opération inconnue : " + name));
+  }
+}
@@ -0,0 +1,83 @@
+package fr.ttelab.orgaservice_loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Session d'un utilisateur connecté : jeton JWT et clients connus, pour construire des requêtes réalistes.
+ */
+public class VirtualUser {
+
+  private final ApiClient api;
+  private final LoadTestConfig.Credentials credentials;
+  private volatile String token;
+  private final List<String> clientIds = new ArrayList<>();
+  private final List<String> clientNames = new ArrayList<>();
+
+  private VirtualUser(ApiClient api, LoadTestConfig.Credentials credentials, String token) {
+    this.api = api;
+    this.credentials = credentials;
+    this.token = token;
+  }
+
+  public static VirtualUser login(ApiClient api, LoadTestConfig.Credentials credentials)
+      throws IOException, InterruptedException {
+    VirtualUser user = new VirtualUser(api, credentials, api.login(credentials.email(), credentials.password()));
+    ApiClient.Response clients = api.get(Operation.CLIENT_SEARCH, "/api/clients", user.token);
+    if (clients.ok()) {
+      for (JsonNode client : api.json(clients)) {
+        user.clientIds.add(client.path("id").asText());
+        user.clientNames.add(client.path("name").asText());
+      }
+    }
+    return user;
+  }
+
+  public void run(Operation operation) throws IOException, InterruptedException {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    if (clientIds.isEmpty() && needsClient(operation)) {
+      operation = Operation.WEEK_VIEW;
+    }
+    switch (operation) {
+      case WEEK_VIEW -> api.get(operation, "/api/calendar/events?weekOffset=" + random.nextInt(-4, 5), token);
+      case CLIENT_SEARCH -> api.get(operation, "/api/clients?search=" + searchTerm(random), token);
+      case CLIENT_DETAIL -> api.get(operation, "/api/clients/" + randomClient(random), token);
+      case DASHBOARD -> api.get(operation, "/api/dashboard/stats", token);
+      case SUPPORT_POLL -> api.get(operation, "/api/support/unread-count", token);
+      case PROJECT_CREATE -> api.post(operation, "/api/projects", token, Map.of(
+          "clientId", randomClient(random),
+          "title", "Charge " + random.nextInt(1_000_000),
+          "type", "ponctuel",
+          "dureeEnMinutes", 60,
+          "premierMois", YearMonth.now().plusMonths(1).toString()));
+      case REMARK_POST -> api.post(operation, "/api/clients/" + randomClient(random) + "/remarks", token,
+          Map.of("content", "Passage effectué, RAS " + random.nextInt(1_000_000)));
+      case LOGIN -> token = api.login(credentials.email(), credentials.password());
+    }
+  }
+
+  private static boolean needsClient(Operation operation) {
+    return operation == Operation.CLIENT_DETAIL || operation == Operation.PROJECT_CREATE
+        || operation == Operation.REMARK_POST;
+  }
+
+  private String randomClient(ThreadLocalRandom random) {
+    return clientIds.get(random.nextInt(clientIds.size()));
+  }
+
+  /** Début d'un nom de client connu, comme une saisie au clavier dans le champ de recherche. */
+  private String searchTerm(ThreadLocalRandom random) {
+    if (clientNames.isEmpty()) {
+      return "a";
+    }
+    String name = clientNames.get(random.nextInt(clientNames.size()));
+    int length = Math.min(name.length(), random.nextInt(2, 5));
+    return java.net.URLEncoder.encode(name.substring(0, length), java.nio.charset.StandardCharsets.UTF_8);
+  }
+}